@@ -35,18 +35,34 @@ import nom.bdezonia.zorbage.algebra.Algebra;
 import nom.bdezonia.zorbage.algebra.Allocatable;
 import nom.bdezonia.zorbage.algebra.Conjugate;
 import nom.bdezonia.zorbage.algebra.G;
+import nom.bdezonia.zorbage.algebra.Invertible;
 import nom.bdezonia.zorbage.algebra.Multiplication;
+import nom.bdezonia.zorbage.algebra.RealConstants;
 import nom.bdezonia.zorbage.algebra.ScaleByHighPrec;
+import nom.bdezonia.zorbage.algebra.SetI;
+import nom.bdezonia.zorbage.algebra.SetR;
+import nom.bdezonia.zorbage.algebra.Trigonometric;
+import nom.bdezonia.zorbage.algebra.Unity;
+import nom.bdezonia.zorbage.algorithm.corrconv.FFTConv1D;
+import nom.bdezonia.zorbage.algorithm.fft.FFTPlan;
+import nom.bdezonia.zorbage.algorithm.fft.FFTPlanCache;
 import nom.bdezonia.zorbage.datasource.IndexedDataSource;
 import nom.bdezonia.zorbage.misc.ThreadingUtils;
 import nom.bdezonia.zorbage.storage.Storage;
 import nom.bdezonia.zorbage.tuple.Tuple2;
+import nom.bdezonia.zorbage.type.complex.float128.ComplexFloat128Algebra;
+import nom.bdezonia.zorbage.type.complex.float128.ComplexFloat128Member;
+import nom.bdezonia.zorbage.type.complex.float32.ComplexFloat32Algebra;
+import nom.bdezonia.zorbage.type.complex.float32.ComplexFloat32Member;
+import nom.bdezonia.zorbage.type.complex.float64.ComplexFloat64Algebra;
+import nom.bdezonia.zorbage.type.complex.float64.ComplexFloat64Member;
+import nom.bdezonia.zorbage.type.complex.highprec.ComplexHighPrecisionAlgebra;
+import nom.bdezonia.zorbage.type.complex.highprec.ComplexHighPrecisionMember;
 import nom.bdezonia.zorbage.type.real.highprec.HighPrecisionMember;
 
 // TODO:
-// 1) find something better than an N^2 algorithm.
-// 2) can the inner loop be cut in half and do less work?
-// 3) should I do the sqrt calc more often? slower but maybe more accurate.
+// 1) can the inner loop of the direct sum be cut in half and do less work?
+// 2) should I do the sqrt calc more often? slower but maybe more accurate.
 
 /**
  * 
@@ -60,6 +76,9 @@ public class Autocorrelation {
 	private Autocorrelation() { }
 
 	/**
+	 * Calculate the autocorrelation of a list. Long lists of floating point
+	 * complex numbers are correlated with FFTs in O(n log n) time when that is
+	 * expected to be faster than the O(n^2) direct sum.
 	 * 
 	 * @param <CA>
 	 * @param <C>
@@ -72,6 +91,12 @@ public class Autocorrelation {
 					C extends Allocatable<C>>
 		IndexedDataSource<C> compute(CA alg, IndexedDataSource<C> a)
 	{
+		if (FFTConv1D.fftIsFaster(a.size(), a.size())) {
+			IndexedDataSource<C> b = viaFFT(alg, a);
+			if (b != null)
+				return b;
+		}
+		
 		IndexedDataSource<C> b = Storage.allocate(alg.construct(), a.size());
 
 		Tuple2<Integer,Long> arrangement =
@@ -120,6 +145,84 @@ public class Autocorrelation {
 		return b;
 	}
 	
+	@SuppressWarnings("unchecked")
+	private static <CA extends Algebra<CA,C>, C>
+		IndexedDataSource<C> viaFFT(CA alg, IndexedDataSource<C> a)
+	{
+		if (alg instanceof ComplexFloat32Algebra)
+			return (IndexedDataSource<C>)
+					viaFFT(G.CFLT, G.FLT, (IndexedDataSource<ComplexFloat32Member>) a);
+		
+		if (alg instanceof ComplexFloat64Algebra)
+			return (IndexedDataSource<C>)
+					viaFFT(G.CDBL, G.DBL, (IndexedDataSource<ComplexFloat64Member>) a);
+		
+		if (alg instanceof ComplexFloat128Algebra)
+			return (IndexedDataSource<C>)
+					viaFFT(G.CQUAD, G.QUAD, (IndexedDataSource<ComplexFloat128Member>) a);
+		
+		if (alg instanceof ComplexHighPrecisionAlgebra)
+			return (IndexedDataSource<C>)
+					viaFFT(G.CHP, G.HP, (IndexedDataSource<ComplexHighPrecisionMember>) a);
+		
+		return null;
+	}
+	
+	// The direct sum is the circular convolution c of a and conj(a) read
+	//   backwards: b[k] = c[N-1-k] / sqrt(N). The transform of conj(a) is
+	//   the conjugate of the transform of a read backwards.
+	
+	private static
+	
+		<CA extends Algebra<CA,C> & Addition<C> & Multiplication<C> &
+						Conjugate<C> & ScaleByHighPrec<C>,
+		
+			C extends SetR<R> & SetI<R>,
+			
+			RA extends Algebra<RA,R> & Trigonometric<R> & RealConstants<R> &
+				Unity<R> & Multiplication<R> & Addition<R> & Invertible<R>,
+				
+			R>
+	
+		IndexedDataSource<C> viaFFT(CA alg, RA realAlg, IndexedDataSource<C> a)
+	{
+		long N = a.size();
+		
+		FFTPlan<C> plan = FFTPlanCache.plan(alg, realAlg, N);
+		
+		C value = alg.construct();
+		C other = alg.construct();
+		
+		IndexedDataSource<C> spectrum = Storage.allocate(value, N);
+		IndexedDataSource<C> product = Storage.allocate(value, N);
+		
+		FFT.compute(alg, plan, a, spectrum);
+		
+		for (long m = 0; m < N; m++) {
+			spectrum.get(m, value);
+			spectrum.get((N - m) % N, other);
+			alg.conjugate().call(other, other);
+			alg.multiply().call(value, other, value);
+			product.set(m, value);
+		}
+		
+		InvFFT.compute(alg, plan, product, product);
+		
+		HighPrecisionMember scale = G.HP.construct(N);
+		G.HP.sqrt().call(scale, scale);
+		G.HP.invert().call(scale, scale);
+
+		IndexedDataSource<C> b = spectrum;
+		
+		for (long k = 0; k < N; k++) {
+			product.get(N - 1 - k, value);
+			alg.scaleByHighPrec().call(scale, value, value);
+			b.set(k, value);
+		}
+		
+		return b;
+	}
+	
 	private static class Computer<CA extends Algebra<CA,C> & Addition<C> &
 									Multiplication<C> & Conjugate<C> &
 									ScaleByHighPrec<C>,
@@ -0,0 +1,190 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.algorithm;
+
+import nom.bdezonia.zorbage.datasource.IndexedDataSource;
+import nom.bdezonia.zorbage.misc.ThreadingUtils;
+import nom.bdezonia.zorbage.procedure.BatchProcedure2;
+import nom.bdezonia.zorbage.procedure.BatchProcedure3;
+import nom.bdezonia.zorbage.storage.array.ArrayStorageFloat32;
+import nom.bdezonia.zorbage.storage.array.ArrayStorageFloat64;
+import nom.bdezonia.zorbage.tuple.Tuple2;
+
+/**
+ * Runs batch capable procedures directly over the arrays backing plain
+ * double and float array storage. The work is split across threads like the
+ * generic algorithms do and each thread hands its range to the procedure in
+ * blocks of BLOCK_SIZE elements. Every method returns false when it does not
+ * apply and the caller then runs its generic code.
+ * 
+ * @author Barry DeZonia
+ *
+ */
+class BatchArrays {
+
+	// do not instantiate
+	
+	private BatchArrays() { }
+
+	/**
+	 * The number of elements passed to a batch procedure per call.
+	 */
+	static final int BLOCK_SIZE = 1024;
+	
+	/**
+	 * Returns the primitive array backing a list or null if the list is not
+	 * a double or float array storage.
+	 */
+	static Object array(IndexedDataSource<?> list) {
+		if (list instanceof ArrayStorageFloat64)
+			return ((ArrayStorageFloat64<?>) list).rawData();
+		if (list instanceof ArrayStorageFloat32)
+			return ((ArrayStorageFloat32<?>) list).rawData();
+		return null;
+	}
+
+	/**
+	 * b[i] = proc(a[i]) when proc is a BatchProcedure2 and both lists are
+	 * backed by primitive arrays of the same kind.
+	 */
+	static boolean transform(Object proc, IndexedDataSource<?> a, IndexedDataSource<?> b) {
+		if (!(proc instanceof BatchProcedure2))
+			return false;
+		final Object x = array(a);
+		final Object y = array(b);
+		if (x == null || y == null || x.getClass() != y.getClass() || a.size() != b.size())
+			return false;
+		final BatchProcedure2<?,?> p = (BatchProcedure2<?,?>) proc;
+		run(a.size(), new Block() {
+			@Override
+			public void call(int offset, int count) {
+				p.batchCall(count, x, offset, y, offset);
+			}
+		});
+		return true;
+	}
+
+	/**
+	 * c[i] = proc(a[i], b[i]) when proc is a BatchProcedure3 and all three
+	 * lists are backed by primitive arrays of the same kind.
+	 */
+	static boolean transform(Object proc, IndexedDataSource<?> a, IndexedDataSource<?> b, IndexedDataSource<?> c) {
+		if (!(proc instanceof BatchProcedure3))
+			return false;
+		final Object x = array(a);
+		final Object y = array(b);
+		final Object z = array(c);
+		if (x == null || y == null || z == null ||
+				x.getClass() != y.getClass() || x.getClass() != z.getClass() ||
+				a.size() != b.size() || a.size() != c.size())
+			return false;
+		final BatchProcedure3<?,?,?> p = (BatchProcedure3<?,?,?>) proc;
+		run(a.size(), new Block() {
+			@Override
+			public void call(int offset, int count) {
+				p.batchCall(count, x, offset, y, offset, z, offset);
+			}
+		});
+		return true;
+	}
+
+	/**
+	 * Work done on one block of elements.
+	 */
+	interface Block {
+		
+		void call(int offset, int count);
+	}
+
+	/**
+	 * Calls block for every BLOCK_SIZE sized piece of the element range
+	 * [0, size) spreading the calls across threads.
+	 */
+	static void run(long size, Block block) {
+		
+		Tuple2<Integer,Long> arrangement = ThreadingUtils.arrange(size, false);
+		int pieces = arrangement.a();
+		long elemsPerPiece = arrangement.b();
+
+		if (pieces == 1) {
+			
+			new Computer(block, 0, (int) size).run();
+		}
+		else {
+			
+			final Thread[] threads = new Thread[pieces];
+			long start = 0;
+			for (int i = 0; i < pieces; i++) {
+				long count;
+				if (i != pieces-1) {
+					count = elemsPerPiece;
+				}
+				else {
+					count = size - start;
+				}
+				threads[i] = new Thread(new Computer(block, (int) start, (int) count));
+				start += count;
+			}
+	
+			for (int i = 0; i < pieces; i++) {
+				threads[i].start();
+			}
+			
+			for (int i = 0; i < pieces; i++) {
+				try {
+					threads[i].join();
+				} catch(InterruptedException e) {
+					throw new IllegalArgumentException("Thread execution error in BatchArrays");
+				}
+			}
+		}
+	}
+	
+	private static class Computer implements Runnable {
+		
+		private final Block block;
+		private final int start;
+		private final int count;
+		
+		Computer(Block block, int start, int count) {
+			this.block = block;
+			this.start = start;
+			this.count = count;
+		}
+		
+		public void run() {
+			int end = start + count;
+			for (int i = start; i < end; i += BLOCK_SIZE) {
+				block.call(i, Math.min(BLOCK_SIZE, end - i));
+			}
+		}
+	}
+}
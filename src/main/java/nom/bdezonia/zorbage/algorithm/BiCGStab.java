@@ -0,0 +1,268 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.algorithm;
+
+import nom.bdezonia.zorbage.algebra.Algebra;
+import nom.bdezonia.zorbage.algebra.Conjugate;
+import nom.bdezonia.zorbage.algebra.Invertible;
+import nom.bdezonia.zorbage.algebra.Multiplication;
+import nom.bdezonia.zorbage.algebra.Norm;
+import nom.bdezonia.zorbage.algebra.Ordered;
+import nom.bdezonia.zorbage.algebra.RModuleMember;
+import nom.bdezonia.zorbage.algebra.RingWithUnity;
+import nom.bdezonia.zorbage.datasource.IndexedDataSource;
+import nom.bdezonia.zorbage.storage.Storage;
+import nom.bdezonia.zorbage.type.sparse.SparseMatrix;
+
+/**
+ * Solve A x = b with the biconjugate gradient stabilized method of van der
+ * Vorst. Unlike {@link ConjugateGradient} A need not be symmetric. The
+ * matrix vector products are computed in parallel by the sparse matrix.
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class BiCGStab {
+
+	// do not instantiate
+	
+	private BiCGStab() { }
+	
+	/**
+	 * Iterate until the norm of the residual b - A x is no more than
+	 * tolerance times the norm of b.
+	 * 
+	 * @param numAlgebra
+	 * @param normAlgebra
+	 * @param a The matrix
+	 * @param b The right hand side
+	 * @param x On input the initial guess (if its length matches b) and on output the solution
+	 * @param tolerance The relative residual tolerance
+	 * @param maxIterations
+	 * @return The number of iterations taken or -1 if the method did not converge or broke down
+	 */
+	public static <T extends RingWithUnity<T,U> & Invertible<U> & Conjugate<U> & Norm<U,W>,
+					U,
+					V extends Algebra<V,W> & Ordered<W> & Multiplication<W>,
+					W>
+		long compute(T numAlgebra, V normAlgebra, SparseMatrix<U> a, RModuleMember<U> b, RModuleMember<U> x, W tolerance, long maxIterations)
+	{
+		long n = a.rows();
+		if (a.cols() != n)
+			throw new IllegalArgumentException("BiCGStab requires a square matrix");
+		if (b.length() != n)
+			throw new IllegalArgumentException("right hand side length does not match matrix size");
+		if (maxIterations < 0)
+			throw new IllegalArgumentException("max iterations must be >= 0");
+
+		IndexedDataSource<U> xs = load(numAlgebra, x, n);
+		IndexedDataSource<U> r = load(numAlgebra, b, n);
+		IndexedDataSource<U> rHat = Storage.allocate(numAlgebra.construct(), n);
+		IndexedDataSource<U> p = Storage.allocate(numAlgebra.construct(), n);
+		IndexedDataSource<U> v = Storage.allocate(numAlgebra.construct(), n);
+		IndexedDataSource<U> t = Storage.allocate(numAlgebra.construct(), n);
+		
+		U rho = numAlgebra.construct();
+		U rhoNew = numAlgebra.construct();
+		U alpha = numAlgebra.construct();
+		U omega = numAlgebra.construct();
+		U beta = numAlgebra.construct();
+		U tmp = numAlgebra.construct();
+		U tmp2 = numAlgebra.construct();
+		U minusOne = numAlgebra.construct();
+		numAlgebra.unity().call(minusOne);
+		numAlgebra.negate().call(minusOne, minusOne);
+		W size = normAlgebra.construct();
+		
+		// converged when |r.r| <= tol^2 |b.b|
+		
+		W limit = normAlgebra.construct();
+		dot(numAlgebra, r, r, tmp);
+		numAlgebra.norm().call(tmp, limit);
+		normAlgebra.multiply().call(limit, tolerance, limit);
+		normAlgebra.multiply().call(limit, tolerance, limit);
+		
+		// r = b - A x
+		
+		a.multiply(xs, t);
+		addScaled(numAlgebra, minusOne, t, r);
+		
+		dot(numAlgebra, r, r, tmp);
+		numAlgebra.norm().call(tmp, size);
+		if (!normAlgebra.isGreater().call(size, limit)) {
+			store(numAlgebra, xs, x);
+			return 0;
+		}
+		
+		for (long i = 0; i < n; i++) {
+			r.get(i, tmp);
+			rHat.set(i, tmp);
+		}
+		
+		numAlgebra.unity().call(rho);
+		numAlgebra.unity().call(alpha);
+		numAlgebra.unity().call(omega);
+		
+		for (long iter = 1; iter <= maxIterations; iter++) {
+			
+			dot(numAlgebra, rHat, r, rhoNew);
+			if (numAlgebra.isZero().call(rhoNew))
+				break;
+			
+			// p = r + beta (p - omega v)
+			
+			numAlgebra.divide().call(rhoNew, rho, beta);
+			numAlgebra.divide().call(alpha, omega, tmp);
+			numAlgebra.multiply().call(beta, tmp, beta);
+			numAlgebra.negate().call(omega, tmp);
+			addScaled(numAlgebra, tmp, v, p);
+			scaleAdd(numAlgebra, r, beta, p);
+			
+			a.multiply(p, v);
+			
+			dot(numAlgebra, rHat, v, tmp);
+			numAlgebra.divide().call(rhoNew, tmp, alpha);
+			
+			// r now holds s = r - alpha v
+			
+			numAlgebra.negate().call(alpha, tmp);
+			addScaled(numAlgebra, tmp, v, r);
+			addScaled(numAlgebra, alpha, p, xs);
+
+			dot(numAlgebra, r, r, tmp);
+			numAlgebra.norm().call(tmp, size);
+			if (!normAlgebra.isGreater().call(size, limit)) {
+				store(numAlgebra, xs, x);
+				return iter;
+			}
+			
+			a.multiply(r, t);
+			
+			dot(numAlgebra, t, r, tmp);
+			dot(numAlgebra, t, t, tmp2);
+			numAlgebra.divide().call(tmp, tmp2, omega);
+			
+			addScaled(numAlgebra, omega, r, xs);
+			numAlgebra.negate().call(omega, tmp);
+			addScaled(numAlgebra, tmp, t, r);
+			
+			dot(numAlgebra, r, r, tmp);
+			numAlgebra.norm().call(tmp, size);
+			if (!normAlgebra.isGreater().call(size, limit)) {
+				store(numAlgebra, xs, x);
+				return iter;
+			}
+			
+			if (numAlgebra.isZero().call(omega))
+				break;
+			
+			numAlgebra.assign().call(rhoNew, rho);
+		}
+		
+		store(numAlgebra, xs, x);
+		return -1;
+	}
+	
+	private static <T extends RingWithUnity<T,U> & Conjugate<U>, U>
+		IndexedDataSource<U> load(T alg, RModuleMember<U> v, long n)
+	{
+		IndexedDataSource<U> result = Storage.allocate(alg.construct(), n);
+		if (v.length() == n) {
+			U value = alg.construct();
+			for (long i = 0; i < n; i++) {
+				v.getV(i, value);
+				result.set(i, value);
+			}
+		}
+		return result;
+	}
+	
+	private static <T extends RingWithUnity<T,U> & Conjugate<U>, U>
+		void store(T alg, IndexedDataSource<U> src, RModuleMember<U> v)
+	{
+		U value = alg.construct();
+		v.alloc(src.size());
+		for (long i = 0; i < src.size(); i++) {
+			src.get(i, value);
+			v.setV(i, value);
+		}
+	}
+	
+	// result = sum of conj(u[i]) * v[i]
+	
+	private static <T extends RingWithUnity<T,U> & Conjugate<U>, U>
+		void dot(T alg, IndexedDataSource<U> u, IndexedDataSource<U> v, U result)
+	{
+		U a = alg.construct();
+		U b = alg.construct();
+		U sum = alg.construct();
+		for (long i = 0; i < u.size(); i++) {
+			u.get(i, a);
+			v.get(i, b);
+			alg.conjugate().call(a, a);
+			alg.multiply().call(a, b, a);
+			alg.add().call(sum, a, sum);
+		}
+		alg.assign().call(sum, result);
+	}
+	
+	// y = y + scale * x
+	
+	private static <T extends RingWithUnity<T,U> & Conjugate<U>, U>
+		void addScaled(T alg, U scale, IndexedDataSource<U> x, IndexedDataSource<U> y)
+	{
+		U a = alg.construct();
+		U b = alg.construct();
+		for (long i = 0; i < y.size(); i++) {
+			x.get(i, a);
+			y.get(i, b);
+			alg.multiply().call(scale, a, a);
+			alg.add().call(b, a, b);
+			y.set(i, b);
+		}
+	}
+	
+	// y = x + scale * y
+	
+	private static <T extends RingWithUnity<T,U> & Conjugate<U>, U>
+		void scaleAdd(T alg, IndexedDataSource<U> x, U scale, IndexedDataSource<U> y)
+	{
+		U a = alg.construct();
+		U b = alg.construct();
+		for (long i = 0; i < y.size(); i++) {
+			x.get(i, a);
+			y.get(i, b);
+			alg.multiply().call(scale, b, b);
+			alg.add().call(a, b, b);
+			y.set(i, b);
+		}
+	}
+}
@@ -66,6 +66,9 @@ public class ClampToRange {
 		if (algebra.isLess().call(largestAllowed, smallestAllowed))
 			throw new IllegalArgumentException("Clamp boundaries are malformed");
 
+		if (PrimitiveArrays.clamp(algebra, smallestAllowed, largestAllowed, input, output))
+			return;
+
 		Procedure2<U,U> replacer = new Procedure2<U, U>() {
 			
 			@Override
@@ -32,6 +32,7 @@ package nom.bdezonia.zorbage.algorithm;
 
 import nom.bdezonia.zorbage.algorithm.corrconv.ConvolutionIndexer1D;
 import nom.bdezonia.zorbage.algorithm.corrconv.Conv1D;
+import nom.bdezonia.zorbage.algorithm.corrconv.FFTConv1D;
 import nom.bdezonia.zorbage.algebra.Addition;
 import nom.bdezonia.zorbage.algebra.Algebra;
 import nom.bdezonia.zorbage.algebra.Multiplication;
@@ -50,7 +51,9 @@ public class Convolve1D {
 	
 	/**
 	 * Convolve a 1-d {@link IndexedDataSource} by a given filter. The input
-	 * is passed as "a" and the results are stored in "b".
+	 * is passed as "a" and the results are stored in "b". Long floating point
+	 * signals with long filters are convolved with FFTs when that is expected
+	 * to be faster. Otherwise the direct sum is used.
 	 * 
 	 * @param alg
 	 * @param filter
@@ -60,6 +63,12 @@ public class Convolve1D {
 	public static <T extends Algebra<T,U> & Addition<U> & Multiplication<U>, U>
 		void compute(T alg, IndexedDataSource<U> filter, IndexedDataSource<U> a, IndexedDataSource<U> b)
 	{
+		if (FFTConv1D.fftIsFaster(a.size(), filter.size()) &&
+				FFTConv1D.compute(alg, false, filter, a, b))
+		{
+			return;
+		}
+		
 		Conv1D.compute(alg, new ConvolutionIndexer1D(), filter, a, b);
 	}
 
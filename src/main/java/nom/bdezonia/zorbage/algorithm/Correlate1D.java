@@ -32,6 +32,7 @@ package nom.bdezonia.zorbage.algorithm;
 
 import nom.bdezonia.zorbage.algorithm.corrconv.Corr1D;
 import nom.bdezonia.zorbage.algorithm.corrconv.CorrelationIndexer1D;
+import nom.bdezonia.zorbage.algorithm.corrconv.FFTConv1D;
 import nom.bdezonia.zorbage.algebra.Addition;
 import nom.bdezonia.zorbage.algebra.Algebra;
 import nom.bdezonia.zorbage.algebra.Conjugate;
@@ -51,7 +52,9 @@ public class Correlate1D {
 	
 	/**
 	 * Correlate a 1-d {@link IndexedDataSource} by a given filter. The input
-	 * is passed as "a" and the results are stored in "b".
+	 * is passed as "a" and the results are stored in "b". Long floating point
+	 * signals with long filters are correlated with FFTs when that is expected
+	 * to be faster. Otherwise the direct sum is used.
 	 * 
 	 * @param alg
 	 * @param filter
@@ -61,6 +64,12 @@ public class Correlate1D {
 	public static <T extends Algebra<T,U> & Addition<U> & Multiplication<U> & Conjugate<U>, U>
 		void compute(T alg, IndexedDataSource<U> filter, IndexedDataSource<U> a, IndexedDataSource<U> b)
 	{
+		if (FFTConv1D.fftIsFaster(a.size(), filter.size()) &&
+				FFTConv1D.compute(alg, true, filter, a, b))
+		{
+			return;
+		}
+		
 		Corr1D.compute(alg, new CorrelationIndexer1D(), filter, a, b);
 	}
 	
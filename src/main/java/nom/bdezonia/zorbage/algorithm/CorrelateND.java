@@ -32,6 +32,7 @@ package nom.bdezonia.zorbage.algorithm;
 
 import nom.bdezonia.zorbage.algorithm.corrconv.CorrelationIndexerND;
 import nom.bdezonia.zorbage.algorithm.corrconv.CorrND;
+import nom.bdezonia.zorbage.algorithm.corrconv.FastConvND;
 import nom.bdezonia.zorbage.data.DimensionedDataSource;
 import nom.bdezonia.zorbage.algebra.Addition;
 import nom.bdezonia.zorbage.algebra.Algebra;
@@ -52,7 +53,9 @@ public class CorrelateND {
 	/**
 	 * Correlate an n-d {@link DimensionedDataSource} by a filter using
 	 * a parallel algorithm which provides improved performance over a
-	 * single threaded approach.
+	 * single threaded approach. Separable filters and large filters are
+	 * applied with the faster methods of {@link FastConvND} when its cost
+	 * model favors them.
 	 * 
 	 * @param alg
 	 * @param filter
@@ -62,6 +65,9 @@ public class CorrelateND {
 	public static <T extends Algebra<T,U> & Addition<U> & Multiplication<U> & Conjugate<U>, U>
 		void compute(T alg, DimensionedDataSource<U> filter, DimensionedDataSource<U> a, DimensionedDataSource<U> b)
 	{
+		if (FastConvND.compute(alg, true, filter, a, b))
+			return;
+		
 		int numProcs = Runtime.getRuntime().availableProcessors();
 		if (filter.rawData().accessWithOneThread() || a.rawData().accessWithOneThread() || b.rawData().accessWithOneThread())
 			numProcs = 1;
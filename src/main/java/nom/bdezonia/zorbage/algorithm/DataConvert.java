@@ -72,6 +72,9 @@ public class DataConvert {
 		if (fromSize > toSize)
 			throw new IllegalArgumentException("mismatched list sizes");
 		
+		if (PrimitiveArrays.convert(fromAlgebra, toAlgebra, fromList, toList))
+			return;
+		
 		Tuple2<Integer,Long> arrangement =
 				ThreadingUtils.arrange(fromSize,
 										fromList.accessWithOneThread() ||
@@ -39,6 +39,10 @@ import nom.bdezonia.zorbage.algebra.SetI;
 import nom.bdezonia.zorbage.algebra.SetR;
 import nom.bdezonia.zorbage.algebra.Trigonometric;
 import nom.bdezonia.zorbage.algebra.Unity;
+import nom.bdezonia.zorbage.algorithm.fft.BluesteinFFT;
+import nom.bdezonia.zorbage.algorithm.fft.FFTPlan;
+import nom.bdezonia.zorbage.algorithm.fft.FFTPlanCache;
+import nom.bdezonia.zorbage.algorithm.fft.MixedRadixFFT;
 import nom.bdezonia.zorbage.datasource.IndexedDataSource;
 
 /**
@@ -55,8 +59,8 @@ public class FFT {
 	/**
 	 * Do a fast Fourier transform taking data from source a and putting results in
 	 * destination b. a and b can be the same list: in place transformation works.
-	 * a and b are lists of complex numbers. Their length must match and be a power
-	 * of 2.
+	 * a and b are lists of complex numbers. Their length must match. Lengths that
+	 * are not a power of 2 are transformed with mixed radix or Bluestein algorithms.
 	 * 
 	 * @param <CA>
 	 * @param <C>
@@ -82,35 +86,60 @@ public class FFT {
 		void compute(CA complexAlg, RA realAlg, IndexedDataSource<C> a, IndexedDataSource<C> b)
 	{
 		long aSize = a.size();
+
+		if (aSize == 0)
+			throw new IllegalArgumentException("input size must be positive");
+		
+		FFTPlan<C> plan = FFTPlanCache.plan(complexAlg, realAlg, aSize);
+		
+		compute(complexAlg, plan, a, b);
+	}
+
+	/**
+	 * Do a fast Fourier transform taking data from source a and putting results in
+	 * destination b using a precalculated plan. a and b can be the same list: in
+	 * place transformation works. a and b are lists of complex numbers. Their length
+	 * must match the size of the plan.
+	 * 
+	 * @param <CA>
+	 * @param <C>
+	 * @param complexAlg
+	 * @param plan The plan whose twiddle factors and permutation are used
+	 * @param a Source list of complex data
+	 * @param b Destination list of complex data
+	 */
+	public static <CA extends Algebra<CA,C> & Addition<C> & Multiplication<C>, C>
+	
+		void compute(CA complexAlg, FFTPlan<C> plan, IndexedDataSource<C> a, IndexedDataSource<C> b)
+	{
+		long aSize = a.size();
 		long bSize = b.size();
 
-		if (aSize != FFT.enclosingPowerOf2(aSize))
-			throw new IllegalArgumentException("input size is not a power of 2");
+		if (aSize != plan.size())
+			throw new IllegalArgumentException("input size does not match plan size");
 		
 		if (aSize != bSize)
 			throw new IllegalArgumentException("output size does not match input size");
 		
+		if (plan.kind() == FFTPlan.MIXED_RADIX) {
+			MixedRadixFFT.compute(complexAlg, plan, a, b);
+			return;
+		}
+		
+		if (plan.kind() == FFTPlan.BLUESTEIN) {
+			BluesteinFFT.compute(complexAlg, plan, a, b);
+			return;
+		}
+		
 		C tmp1 = complexAlg.construct();
 		C tmp2 = complexAlg.construct();
 
 		Copy.compute(complexAlg, a, b);
 		
-		/*  Something that made more sense to Barry but turns out is equivalent to simpler way below.
-		 
-			int bits = 0;
-			long sz = aSize;
-			while (sz > 0) {
-				bits++;
-				sz /= 2;
-			}
-			int shift = 64 - bits + 1;
-		*/
-		
 		// bit reversal permutation
 		
-		int shift = 1 + Long.numberOfLeadingZeros(aSize);
 		for (long k = 0; k < aSize; k++) {
-			long j = Long.reverse(k) >>> shift;
+			long j = plan.bitReversed(k);
 			if (j > k) {
 				b.get(j, tmp1);
 				b.get(k, tmp2);
@@ -123,40 +152,21 @@ public class FFT {
 		C tao = complexAlg.construct();
 
 		// butterfly updates
-		R pi = realAlg.construct();
-		R cos = realAlg.construct();
-		R sin = realAlg.construct();
-		R one = realAlg.construct();
-		R two = realAlg.construct();
-		R jth = realAlg.construct();
-		R j = realAlg.construct();
-		R l = realAlg.construct();
-		realAlg.PI().call(pi);
-		realAlg.unity().call(one);
-		realAlg.add().call(one, one, two);
-		// at all times long el == real l
-		realAlg.assign().call(two, l);
+		
 		for (long el = 2; el <= aSize; el = el+el) {
-			// at all times long jay == real j
-			realAlg.zero().call(j);
-			for (long jay = 0; jay < el/2; jay++) {
-	 			realAlg.multiply().call(two, pi, jth);
-	 			realAlg.divide().call(jth, l, jth);
-	 			realAlg.multiply().call(jth, j, jth);
-	 			realAlg.cos().call(jth, cos);
-	 			realAlg.sin().call(jth, sin);
-	 			realAlg.negate().call(sin, sin);
+			long halfEl = el / 2;
+			long stride = aSize / el;
+			for (long jay = 0; jay < halfEl; jay++) {
 	 			// NOTE I am wondering if this FFT code would work if passed
 	 			//   a quaternion or octonion algebra and data set. Are these
-	 			//   equations still valid for those algebras? These next 2
-	 			//   lines might be key. Maybe set set other components too.
+	 			//   equations still valid for those algebras? The twiddle
+	 			//   factors might be key. Maybe set set other components too.
 	 			//   But we need to determine if people FFT those algebras in
 	 			//   reality and basically if the above code still makes sense.
-	 			w.setR(cos);
-	 			w.setI(sin);
-				for (long kay = 0; kay < aSize/el; kay++) {
+				plan.twiddle(jay * stride, w);
+				for (long kay = 0; kay < stride; kay++) {
 					final long idx1 = kay*el + jay;
-					final long idx2 = idx1 + el/2;
+					final long idx2 = idx1 + halfEl;
 					b.get(idx2, tmp1);
 					complexAlg.multiply().call(w, tmp1, tao);
 					b.get(idx1, tmp2);
@@ -165,9 +175,7 @@ public class FFT {
 					complexAlg.add().call(tmp2, tao, tmp1);
 					b.set(idx1, tmp1);
 				}
-				realAlg.add().call(j, one, j);
 			}
-			realAlg.add().call(l, l, l);
 		}
 	}
 	    
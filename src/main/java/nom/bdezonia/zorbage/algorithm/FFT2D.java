@@ -40,10 +40,11 @@ import nom.bdezonia.zorbage.algebra.SetI;
 import nom.bdezonia.zorbage.algebra.SetR;
 import nom.bdezonia.zorbage.algebra.Trigonometric;
 import nom.bdezonia.zorbage.algebra.Unity;
+import nom.bdezonia.zorbage.algorithm.fft.AxisFFT;
+import nom.bdezonia.zorbage.algorithm.fft.FFTPlan;
+import nom.bdezonia.zorbage.algorithm.fft.FFTPlanCache;
 import nom.bdezonia.zorbage.data.DimensionedDataSource;
 import nom.bdezonia.zorbage.data.DimensionedStorage;
-import nom.bdezonia.zorbage.datasource.IndexedDataSource;
-import nom.bdezonia.zorbage.datasource.SequencedDataSource;
 import nom.bdezonia.zorbage.dataview.TwoDView;
 
 /**
@@ -100,19 +101,17 @@ public class FFT2D {
 		
 		long sz = FFT.enclosingPowerOf2(Math.max(rows, cols));
 
+		// all the 1-d transforms below share one set of twiddle factors
+		
+		FFTPlan<C> plan = FFTPlanCache.plan(complexAlg, realAlg, sz);
+
 		long[] squareDims = new long[] {sz,sz};
 		
-		// create power of two square planes for calculations
+		// create a power of two square plane for calculations
 		
 		DimensionedDataSource<C> complexData =
 				DimensionedStorage.allocate(complexValue, squareDims);
 
-		DimensionedDataSource<C> tmpPlane =
-				DimensionedStorage.allocate(complexValue, squareDims);
-
-		DimensionedDataSource<C> outputPlane =
-				DimensionedStorage.allocate(complexValue, squareDims);
-
 		// Copy the rectangular input image into the square plane defined for it.
 		// The values outside the rectangular region will be zero (padding).
 		
@@ -130,41 +129,13 @@ public class FFT2D {
 			}
 		}
 		
-		// for each column of input do a 1-d FFT and store as a column in temp data
-		
-		for (long c = 0; c < sz; c++) {
-			
-			// setup the input col to do FFT on
-			
-			IndexedDataSource<C> inCol = new SequencedDataSource<>(complexData.rawData(), c, sz, sz);
-			
-			// setup the tmp col to place FFT results in
-
-			IndexedDataSource<C> tmpCol = new SequencedDataSource<>(tmpPlane.rawData(), c, sz, sz);
-			
-			// do the fft into from the input col into the tmp col
-			
-			FFT.compute(complexAlg, realAlg, inCol, tmpCol);
-		}
+		// do a 1-d FFT of every column and then of every row. the lines are
+		//   transformed in place and in parallel.
 		
+		AxisFFT.forward(complexAlg, plan, complexData.rawData(), squareDims, 1);
 		
-		// for each row of temp data do a 1-d FFT and store as a row in output
-		
-		for (long r = 0; r < sz; r++) {
-					
-			// setup the tmp row to do FFT on
-
-			IndexedDataSource<C> tmpRow = new SequencedDataSource<>(tmpPlane.rawData(), r*sz, 1, sz);
-			
-			// setup the output row to place FFT results in
-
-			IndexedDataSource<C> outRow = new SequencedDataSource<>(outputPlane.rawData(), r*sz, 1, sz);
-			
-			// do the fft from the tmp row into the output row
-			
-			FFT.compute(complexAlg, realAlg, tmpRow, outRow);
-		}
+		AxisFFT.forward(complexAlg, plan, complexData.rawData(), squareDims, 0);
 
-		return outputPlane;
+		return complexData;
 	}
 }
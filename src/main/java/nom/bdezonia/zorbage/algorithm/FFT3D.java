@@ -40,10 +40,11 @@ import nom.bdezonia.zorbage.algebra.SetI;
 import nom.bdezonia.zorbage.algebra.SetR;
 import nom.bdezonia.zorbage.algebra.Trigonometric;
 import nom.bdezonia.zorbage.algebra.Unity;
+import nom.bdezonia.zorbage.algorithm.fft.AxisFFT;
+import nom.bdezonia.zorbage.algorithm.fft.FFTPlan;
+import nom.bdezonia.zorbage.algorithm.fft.FFTPlanCache;
 import nom.bdezonia.zorbage.data.DimensionedDataSource;
 import nom.bdezonia.zorbage.data.DimensionedStorage;
-import nom.bdezonia.zorbage.datasource.IndexedDataSource;
-import nom.bdezonia.zorbage.datasource.SequencedDataSource;
 import nom.bdezonia.zorbage.dataview.ThreeDView;
 
 /**
@@ -107,22 +108,17 @@ public class FFT3D {
 		
 		long sz = FFT.enclosingPowerOf2(maxDim);
 
+		// all the 1-d transforms below share one set of twiddle factors
+		
+		FFTPlan<C> plan = FFTPlanCache.plan(complexAlg, realAlg, sz);
+
 		long[] cubeDims = new long[] {sz,sz,sz};
 		
-		// create power of two cube planes for calculations
+		// create a power of two cube for calculations
 		
 		DimensionedDataSource<C> complexData =
 				DimensionedStorage.allocate(complexValue, cubeDims);
 
-		DimensionedDataSource<C> tmpCube1 =
-				DimensionedStorage.allocate(complexValue, cubeDims);
-
-		DimensionedDataSource<C> tmpCube2 =
-				DimensionedStorage.allocate(complexValue, cubeDims);
-
-		DimensionedDataSource<C> outputCube =
-				DimensionedStorage.allocate(complexValue, cubeDims);
-
 		// Copy the hyperrectangular input image into the square edges cube defined
 		// for it. The values outside the rectangular region will be zero (padding).
 		
@@ -143,79 +139,16 @@ public class FFT3D {
 			}
 		}
 		
-		// for each plane
-		
-		for (long z = 0; z < sz; z++) {
-			
-			// for each row
-			
-			for (long y = 0; y < sz; y++) {
-			
-				// calc the column piped FFTs
-
-				// setup the input col to do FFT on
-				
-				IndexedDataSource<C> inCol = new SequencedDataSource<>(complexData.rawData(), z*sz*sz + y*sz, 1, sz);
-
-				// setup the tmp col to place FFT results in
-
-				IndexedDataSource<C> outCol = new SequencedDataSource<>(tmpCube1.rawData(), z*sz*sz + y*sz, 1, sz);
-
-				// do the fft into from the in col into the out col
-				
-				FFT.compute(complexAlg, realAlg, inCol, outCol);
-			}
-		}
-		
-		// for each plane
+		// do a 1-d FFT of every line along the x axis, then the y axis, and then
+		//   the z axis. the lines are transformed in place and in parallel.
 		
-		for (long z = 0; z < sz; z++) {
-			
-			// for each col
-			
-			for (long x = 0; x < sz; x++) {
-				
-				// calc the row piped FFTs
-
-				// setup the input row to do FFT on
-				
-				IndexedDataSource<C> inRow = new SequencedDataSource<>(tmpCube1.rawData(), z*sz*sz + x, sz, sz);
-
-				// setup the out row to place FFT results in
-
-				IndexedDataSource<C> outRow = new SequencedDataSource<>(tmpCube2.rawData(), z*sz*sz + x, sz, sz);
-
-				// do the fft into from the in row into the out row
-				
-				FFT.compute(complexAlg, realAlg, inRow, outRow);
-			}
-		}
+		AxisFFT.forward(complexAlg, plan, complexData.rawData(), cubeDims, 0);
 		
-		// for each row
+		AxisFFT.forward(complexAlg, plan, complexData.rawData(), cubeDims, 1);
 		
-		for (long y = 0; y < sz; y++) {
-			
-			// for each col
-			
-			for (long x = 0; x < sz; x++) {
-				
-				// calc the plane piped FFTs
-
-				// setup the input piped to do FFT on
-				
-				IndexedDataSource<C> inPiped = new SequencedDataSource<>(tmpCube2.rawData(), y*sz + x, sz*sz, sz);
-
-				// setup the out piped to place FFT results in
-
-				IndexedDataSource<C> outPiped = new SequencedDataSource<>(outputCube.rawData(), y*sz + x, sz*sz, sz);
-
-				// do the fft into from the in piped into the out piped
-				
-				FFT.compute(complexAlg, realAlg, inPiped, outPiped);
-			}			
-		}
+		AxisFFT.forward(complexAlg, plan, complexData.rawData(), cubeDims, 2);
 		
-		return outputCube;
+		return complexData;
 	}
 
 }
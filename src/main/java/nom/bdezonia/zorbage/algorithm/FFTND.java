@@ -0,0 +1,118 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.algorithm;
+
+import nom.bdezonia.zorbage.algebra.Addition;
+import nom.bdezonia.zorbage.algebra.Algebra;
+import nom.bdezonia.zorbage.algebra.Allocatable;
+import nom.bdezonia.zorbage.algebra.Invertible;
+import nom.bdezonia.zorbage.algebra.Multiplication;
+import nom.bdezonia.zorbage.algebra.RealConstants;
+import nom.bdezonia.zorbage.algebra.SetI;
+import nom.bdezonia.zorbage.algebra.SetR;
+import nom.bdezonia.zorbage.algebra.Trigonometric;
+import nom.bdezonia.zorbage.algebra.Unity;
+import nom.bdezonia.zorbage.algorithm.fft.AxisFFT;
+import nom.bdezonia.zorbage.algorithm.fft.FFTPlan;
+import nom.bdezonia.zorbage.algorithm.fft.FFTPlanCache;
+import nom.bdezonia.zorbage.data.DimensionedDataSource;
+import nom.bdezonia.zorbage.data.DimensionedStorage;
+
+/**
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class FFTND {
+
+	// do not instantiate
+	
+	private FFTND() { }
+
+	/**
+	 * Do an n-dimensional Fourier transform of a complex DataSource with any
+	 * number of dimensions. Unlike the 2-d and 3-d transforms the data is not
+	 * padded: each axis is transformed at its own length (lengths that are not
+	 * a power of 2 are handled by the mixed radix and Bluestein algorithms).
+	 * The 1-d transforms along each axis are done in parallel. The input is
+	 * left unchanged. {@link InvFFTND} is its counterpart.
+	 * 
+	 * @param <CA>
+	 * @param <C>
+	 * @param <RA>
+	 * @param <R>
+	 * @param complexAlg
+	 * @param realAlg
+	 * @param inputData
+	 * @return
+	 */
+	public static
+	
+		<CA extends Algebra<CA,C> & Addition<C> & Multiplication<C>,
+		
+			C extends  Allocatable<C> & SetR<R> & SetI<R>,
+			
+			RA extends Algebra<RA,R> & Trigonometric<R> & RealConstants<R> &
+						Multiplication<R> & Addition<R> & Invertible<R> &
+						Unity<R>,
+				
+			R>
+	
+		DimensionedDataSource<C>
+			
+			compute(CA complexAlg,
+					RA realAlg,
+					DimensionedDataSource<C> inputData)
+	{
+		int numD = inputData.numDimensions();
+		
+		long[] dims = new long[numD];
+		for (int i = 0; i < numD; i++) {
+			dims[i] = inputData.dimension(i);
+		}
+		
+		DimensionedDataSource<C> outputData =
+				DimensionedStorage.allocate(complexAlg.construct(), dims);
+
+		Copy.compute(complexAlg, inputData.rawData(), outputData.rawData());
+		
+		for (int axis = 0; axis < numD; axis++) {
+			
+			// axes of equal length share a plan through the cache
+			
+			FFTPlan<C> plan = FFTPlanCache.plan(complexAlg, realAlg, dims[axis]);
+			
+			AxisFFT.forward(complexAlg, plan, outputData.rawData(), dims, axis);
+		}
+		
+		return outputData;
+	}
+}
@@ -60,6 +60,8 @@ public class Fill {
 	public static <T extends Algebra<T,U>,U>
 		void compute(T algebra, U value, IndexedDataSource<U> storage)
 	{
+		if (PrimitiveArrays.fill(algebra, value, storage))
+			return;
 		Constant<T,U> proc = new Constant<>(algebra, value);
 		compute(algebra, proc, storage);
 	}
@@ -58,7 +58,8 @@ public class GaussianFilter1D {
 	 * GaussianFilter1D
 	 * 
 	 * Creates a 1-d gaussian filter given a radius and a spread parameter. This algorithm uses the
-	 * Gaussian algorithm to calculate individual points.
+	 * Gaussian algorithm to calculate individual points. For large sigmas consider
+	 * {@link RecursiveGaussian} whose cost does not grow with sigma.
 	 * 
 	 * @param alg The algebra for the type of numbers the algorithm will calculate with
 	 * @param radius The radius of the 1-d filter. Filter size = 2 * radius + 1.
@@ -0,0 +1,379 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.algorithm;
+
+import nom.bdezonia.zorbage.algebra.Addition;
+import nom.bdezonia.zorbage.algebra.Algebra;
+import nom.bdezonia.zorbage.algebra.G;
+import nom.bdezonia.zorbage.algebra.Ordered;
+import nom.bdezonia.zorbage.algebra.ScaleByRational;
+import nom.bdezonia.zorbage.datasource.IndexedDataSource;
+import nom.bdezonia.zorbage.datasource.TrimmedDataSource;
+import nom.bdezonia.zorbage.misc.ThreadingUtils;
+import nom.bdezonia.zorbage.storage.Storage;
+import nom.bdezonia.zorbage.tuple.Tuple2;
+import nom.bdezonia.zorbage.type.integer.int12.UnsignedInt12Algebra;
+import nom.bdezonia.zorbage.type.integer.int12.UnsignedInt12Member;
+import nom.bdezonia.zorbage.type.integer.int16.UnsignedInt16Algebra;
+import nom.bdezonia.zorbage.type.integer.int16.UnsignedInt16Member;
+import nom.bdezonia.zorbage.type.integer.int64.SignedInt64Member;
+import nom.bdezonia.zorbage.type.integer.int8.UnsignedInt8Algebra;
+import nom.bdezonia.zorbage.type.integer.int8.UnsignedInt8Member;
+import nom.bdezonia.zorbage.type.rational.RationalMember;
+
+/**
+ * Histogram counts how many values of a list fall into each of a set of
+ * bins. Bins are described by a sorted list of edges: bin i covers the
+ * range [edge i, edge i+1) except for the last bin which also includes its
+ * upper edge. Values that lie outside of all bins are not counted.
+ * <p>
+ * The counting is done in parallel with each thread building its own partial
+ * histogram. The partial histograms are summed once all threads are done.
+ * Unsigned 8, 12, and 16 bit data is counted directly on its raw values and
+ * the raw counts are then folded into the requested bins.
+ *
+ * @author Barry DeZonia
+ *
+ */
+public class Histogram {
+
+	// do not instantiate
+
+	private Histogram() { }
+
+	/**
+	 * Count the values of a list into numBins bins of equal width that cover
+	 * the range [min, max].
+	 *
+	 * @param <T>
+	 * @param <U>
+	 * @param alg
+	 * @param min
+	 * @param max
+	 * @param numBins
+	 * @param data
+	 * @return A list of numBins counts
+	 */
+	public static <T extends Algebra<T,U> & Ordered<U> & Addition<U> & ScaleByRational<U>, U>
+		IndexedDataSource<SignedInt64Member> compute(T alg, U min, U max, long numBins, IndexedDataSource<U> data)
+	{
+		if (numBins <= 0)
+			throw new IllegalArgumentException("histogram must have at least one bin");
+
+		if (alg.isGreater().call(min, max))
+			throw new IllegalArgumentException("histogram min must not be greater than max");
+
+		IndexedDataSource<U> edges = Storage.allocate(alg.construct(), numBins + 1);
+
+		U range = alg.construct();
+		U edge = alg.construct();
+		RationalMember fraction = new RationalMember();
+		alg.subtract().call(max, min, range);
+		edges.set(0, min);
+		for (long i = 1; i < numBins; i++) {
+			fraction.setV(i, numBins);
+			alg.scaleByRational().call(fraction, range, edge);
+			alg.add().call(min, edge, edge);
+			edges.set(i, edge);
+		}
+		edges.set(numBins, max);
+
+		return compute(alg, edges, data);
+	}
+
+	/**
+	 * Count the values of a list into the bins defined by a list of edges.
+	 * The edges must be sorted in ascending order. There is one fewer bin
+	 * than there are edges.
+	 *
+	 * @param <T>
+	 * @param <U>
+	 * @param alg
+	 * @param edges
+	 * @param data
+	 * @return A list of (edges.size() - 1) counts
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends Algebra<T,U> & Ordered<U>, U>
+		IndexedDataSource<SignedInt64Member> compute(T alg, IndexedDataSource<U> edges, IndexedDataSource<U> data)
+	{
+		long numEdges = edges.size();
+
+		if (numEdges < 2)
+			throw new IllegalArgumentException("histogram needs at least two edges");
+
+		if (numEdges - 1 > Integer.MAX_VALUE - 8)
+			throw new IllegalArgumentException("histogram has too many bins");
+
+		if (!IsSorted.compute(alg, edges))
+			throw new IllegalArgumentException("histogram edges must be sorted");
+
+		int numBins = (int) (numEdges - 1);
+
+		U[] edgeValues = (U[]) new Object[(int) numEdges];
+		for (int i = 0; i < numEdges; i++) {
+			edgeValues[i] = alg.construct();
+			edges.get(i, edgeValues[i]);
+		}
+
+		long[] counts;
+
+		if (alg instanceof UnsignedInt8Algebra) {
+
+			counts = rawCounts(alg, edgeValues, numBins, data, 8);
+		}
+		else if (alg instanceof UnsignedInt12Algebra) {
+
+			counts = rawCounts(alg, edgeValues, numBins, data, 12);
+		}
+		else if (alg instanceof UnsignedInt16Algebra) {
+
+			counts = rawCounts(alg, edgeValues, numBins, data, 16);
+		}
+		else {
+
+			counts = partialCounts(alg, edgeValues, numBins, data, -1);
+		}
+
+		IndexedDataSource<SignedInt64Member> result =
+				Storage.allocate(G.INT64.construct(), numBins);
+
+		SignedInt64Member count = G.INT64.construct();
+		for (int i = 0; i < numBins; i++) {
+			count.setV(counts[i]);
+			result.set(i, count);
+		}
+
+		return result;
+	}
+
+	// Count every raw value of an unsigned type with no comparisons and then
+	// fold each raw value's count into the bin that value belongs to.
+
+	private static <T extends Algebra<T,U> & Ordered<U>, U>
+		long[] rawCounts(T alg, U[] edges, int numBins, IndexedDataSource<U> data, int bits)
+	{
+		long[] raw = partialCounts(alg, edges, numBins, data, bits);
+
+		long[] counts = new long[numBins];
+		U value = alg.construct();
+		for (int v = 0; v < raw.length; v++) {
+			if (raw[v] != 0) {
+				setRaw(value, v, bits);
+				int bin = binOf(alg, edges, value);
+				if (bin >= 0)
+					counts[bin] += raw[v];
+			}
+		}
+		return counts;
+	}
+
+	// Split the data among threads, count each piece and merge the results.
+	//   bits < 0 means bin each value using the edges. Otherwise count the
+	//   raw values of an unsigned type that has the given number of bits.
+
+	private static <T extends Algebra<T,U> & Ordered<U>, U>
+		long[] partialCounts(T alg, U[] edges, int numBins, IndexedDataSource<U> data, int bits)
+	{
+		int countsLength = (bits < 0) ? numBins : (1 << bits);
+
+		long[] counts = new long[countsLength];
+
+		long size = data.size();
+
+		if (size == 0)
+			return counts;
+
+		Tuple2<Integer,Long> arrangement =
+				ThreadingUtils.arrange(size, data.accessWithOneThread());
+		int pieces = arrangement.a();
+		long elemsPerPiece = arrangement.b();
+
+		if (pieces == 1) {
+
+			Computer<T,U> computer = new Computer<T,U>(alg, edges, data, bits, countsLength);
+			computer.run();
+			merge(computer.counts, counts);
+		}
+		else {
+
+			final Thread[] threads = new Thread[pieces];
+			@SuppressWarnings("unchecked")
+			final Computer<T,U>[] computers = new Computer[pieces];
+			long start = 0;
+			for (int i = 0; i < pieces; i++) {
+				long count;
+				if (i != pieces-1) {
+					count = elemsPerPiece;
+				}
+				else {
+					count = size - start;
+				}
+				IndexedDataSource<U> trimmed = new TrimmedDataSource<>(data, start, count);
+				computers[i] = new Computer<T,U>(alg, edges, trimmed, bits, countsLength);
+				threads[i] = new Thread(computers[i]);
+				start += count;
+			}
+
+			for (int i = 0; i < pieces; i++) {
+				threads[i].start();
+			}
+
+			for (int i = 0; i < pieces; i++) {
+				try {
+					threads[i].join();
+				} catch(InterruptedException e) {
+					throw new IllegalArgumentException("Thread execution error in Histogram");
+				}
+			}
+
+			for (int i = 0; i < pieces; i++) {
+				merge(computers[i].counts, counts);
+			}
+		}
+
+		return counts;
+	}
+
+	private static void merge(long[] partial, long[] total) {
+		for (int i = 0; i < total.length; i++) {
+			total[i] += partial[i];
+		}
+	}
+
+	private static class Computer<T extends Algebra<T,U> & Ordered<U>, U>
+		implements Runnable
+	{
+		private final T alg;
+		private final U[] edges;
+		private final IndexedDataSource<U> data;
+		private final int bits;
+		private final long[] counts;
+
+		Computer(T alg, U[] edges, IndexedDataSource<U> data, int bits, int countsLength) {
+			this.alg = alg;
+			this.edges = edges;
+			this.data = data;
+			this.bits = bits;
+			this.counts = new long[countsLength];
+		}
+
+		@Override
+		public void run() {
+
+			U value = alg.construct();
+
+			long size = data.size();
+
+			switch (bits) {
+
+			case 8:
+				UnsignedInt8Member u8 = (UnsignedInt8Member) value;
+				for (long i = 0; i < size; i++) {
+					data.get(i, value);
+					counts[u8.v()]++;
+				}
+				break;
+
+			case 12:
+				UnsignedInt12Member u12 = (UnsignedInt12Member) value;
+				for (long i = 0; i < size; i++) {
+					data.get(i, value);
+					counts[u12.v()]++;
+				}
+				break;
+
+			case 16:
+				UnsignedInt16Member u16 = (UnsignedInt16Member) value;
+				for (long i = 0; i < size; i++) {
+					data.get(i, value);
+					counts[u16.v()]++;
+				}
+				break;
+
+			default:
+				for (long i = 0; i < size; i++) {
+					data.get(i, value);
+					int bin = binOf(alg, edges, value);
+					if (bin >= 0)
+						counts[bin]++;
+				}
+				break;
+			}
+		}
+	}
+
+	private static <U> void setRaw(U value, int v, int bits) {
+		switch (bits) {
+		case 8:
+			((UnsignedInt8Member) value).setV(v);
+			break;
+		case 12:
+			((UnsignedInt12Member) value).setV(v);
+			break;
+		case 16:
+			((UnsignedInt16Member) value).setV(v);
+			break;
+		default:
+			throw new IllegalArgumentException("unsupported raw histogram type");
+		}
+	}
+
+	// returns the bin a value belongs in or -1 if it is outside all bins
+
+	private static <T extends Algebra<T,U> & Ordered<U>, U>
+		int binOf(T alg, U[] edges, U value)
+	{
+		int last = edges.length - 1;
+
+		if (alg.isLess().call(value, edges[0]))
+			return -1;
+
+		if (alg.isGreater().call(value, edges[last]))
+			return -1;
+
+		if (alg.isEqual().call(value, edges[last]))
+			return last - 1;
+
+		// find the largest edge index lo such that edges[lo] <= value
+
+		int lo = 0;
+		int hi = last;
+		while (hi - lo > 1) {
+			int mid = (lo + hi) >>> 1;
+			if (alg.isLess().call(value, edges[mid]))
+				hi = mid;
+			else
+				lo = mid;
+		}
+		return lo;
+	}
+}
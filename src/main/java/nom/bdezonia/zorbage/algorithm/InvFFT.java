@@ -30,9 +30,6 @@
  */
 package nom.bdezonia.zorbage.algorithm;
 
-import java.math.BigDecimal;
-import java.math.MathContext;
-
 import nom.bdezonia.zorbage.algebra.Addition;
 import nom.bdezonia.zorbage.algebra.Algebra;
 import nom.bdezonia.zorbage.algebra.Conjugate;
@@ -43,6 +40,8 @@ import nom.bdezonia.zorbage.algebra.SetI;
 import nom.bdezonia.zorbage.algebra.SetR;
 import nom.bdezonia.zorbage.algebra.Trigonometric;
 import nom.bdezonia.zorbage.algebra.Unity;
+import nom.bdezonia.zorbage.algorithm.fft.FFTPlan;
+import nom.bdezonia.zorbage.algorithm.fft.FFTPlanCache;
 import nom.bdezonia.zorbage.datasource.IndexedDataSource;
 
 /**
@@ -59,8 +58,9 @@ public class InvFFT {
 	/**
 	 * Do an inverse fast Fourier transform taking data from source a and putting
 	 * results in destination b. a and b can be the same list: in place transformation
-	 * works. a and b are lists of complex numbers. Their length must match and be a
-	 * power of 2.
+	 * works. a and b are lists of complex numbers. Their length must match. Lengths
+	 * that are not a power of 2 are transformed with mixed radix or Bluestein
+	 * algorithms.
 	 * 
 	 * @param <CA>
 	 * @param <C>
@@ -89,17 +89,53 @@ public class InvFFT {
 					IndexedDataSource<C> b)
 	{
 		long aSize = a.size();
+
+		if (aSize == 0)
+			throw new IllegalArgumentException("input size must be positive");
+		
+		FFTPlan<C> plan = FFTPlanCache.plan(complexAlg, realAlg, aSize);
+		
+		compute(complexAlg, plan, a, b);
+	}
+
+	/**
+	 * Do an inverse fast Fourier transform taking data from source a and putting
+	 * results in destination b using a precalculated plan. a and b can be the same
+	 * list: in place transformation works. a and b are lists of complex numbers.
+	 * Their length must match the size of the plan.
+	 * 
+	 * @param <CA>
+	 * @param <C>
+	 * @param complexAlg
+	 * @param plan The plan whose twiddle factors and permutation are used
+	 * @param a Source list of complex data
+	 * @param b Destination list of complex data
+	 */
+	public static
+	
+		<CA extends Algebra<CA,C> & Addition<C> & Multiplication<C> &
+						Conjugate<C>,
+						
+			C>
+	
+	void compute(CA complexAlg,
+					FFTPlan<C> plan,
+					IndexedDataSource<C> a,
+					IndexedDataSource<C> b)
+	{
+		long aSize = a.size();
 		long bSize = b.size();
 
-		if (aSize != FFT.enclosingPowerOf2(aSize))
-			throw new IllegalArgumentException("input size is not a power of 2");
+		if (aSize != plan.size())
+			throw new IllegalArgumentException("input size does not match plan size");
 		
 		if (aSize != bSize)
 			throw new IllegalArgumentException("output size does not match input size");
 		
-		C one_over_n = complexAlg.construct((BigDecimal.ONE.divide(BigDecimal.valueOf(aSize), new MathContext(100))).toString());
+		C one_over_n = complexAlg.construct();
+		plan.inverseScale(complexAlg, one_over_n);
 		nom.bdezonia.zorbage.algorithm.Conjugate.compute(complexAlg, a, b);
-		FFT.compute(complexAlg, realAlg, b, b);
+		FFT.compute(complexAlg, plan, b, b);
 		nom.bdezonia.zorbage.algorithm.Conjugate.compute(complexAlg, b, b);
 		Scale.compute(complexAlg, one_over_n, b, b);
 	}
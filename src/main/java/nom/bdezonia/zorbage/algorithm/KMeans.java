@@ -30,16 +30,15 @@
  */
 package nom.bdezonia.zorbage.algorithm;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
 import nom.bdezonia.zorbage.algebra.G;
 import nom.bdezonia.zorbage.type.geom.point.Point;
 import nom.bdezonia.zorbage.type.integer.int32.SignedInt32Member;
-import nom.bdezonia.zorbage.type.real.float64.Float64Member;
 import nom.bdezonia.zorbage.datasource.IndexedDataSource;
 import nom.bdezonia.zorbage.function.Function2;
+import nom.bdezonia.zorbage.misc.ThreadingUtils;
+import nom.bdezonia.zorbage.tuple.Tuple2;
 
 /**
  * 
@@ -52,6 +51,8 @@ public class KMeans {
 	
 	private KMeans() { }
 
+	private static final int MAX_ITERS = 1000;
+	
 	/**
 	 * KMeans.compute()
 	 * Usage: Pass in a list of points (all of the same dimension greater than 0) that span any region.
@@ -62,6 +63,8 @@ public class KMeans {
 	 *        This allows the user to make the algorithm work in a measurement space of their choice.
 	 *        Run the algorithm. The points are assigned cluster numbers in the clusterNumbers
 	 *        list.
+	 * Note: the distance function is called from multiple threads at once and must be thread safe.
+	 * 
 	 * @param numClusters The number of clusters to divide the list of Points into.
 	 * @param distFunc The function used to measure how "close" points are in an n-d space. This can
 	 *        be a Euclidean distance function or some other distance function in a user defined space.
@@ -74,193 +77,502 @@ public class KMeans {
 						IndexedDataSource<Point> points,
 						IndexedDataSource<SignedInt32Member> clusterIndices)
 	{
-		final int MAX_ITERS = 1000;
-		
-		if (numClusters < 2)
-			throw new IllegalArgumentException("kmeans: illegal number of clusters. must be >= 2.");
-		
-		long pointsSize = points.size();
-
-		long clusterIndicesSize = clusterIndices.size();
-
-		if (pointsSize != clusterIndicesSize)
-			throw new IllegalArgumentException("points and clusterIndices length must match");
+		compute(numClusters, distFunc, 0, points, clusterIndices);
+	}
 
-		if (pointsSize < numClusters)
-			throw new IllegalArgumentException("number of points given must be >= to the number of clusters");
-		
-		/*
-		
-		// assign initial clusters arbitrarily but somewhat closely in space
-		
-		int cNum = 0;
+	/**
+	 * KMeans.compute()
+	 * Usage: As above but iteration stops once the fraction of points that change cluster
+	 *        in an iteration is no more than maxChangeRate.
+	 * 
+	 * @param numClusters The number of clusters to divide the list of Points into.
+	 * @param distFunc The thread safe function used to measure how "close" points are.
+	 * @param maxChangeRate The fraction (0 to 1) of points changing clusters at which iteration stops.
+	 * @param points The list of Points to analyze.
+	 * @param clusterIndices The list tracking which Point is in which cluster.
+	 */
+	public static
+		void compute(int numClusters,
+						Function2<Double,Point,Point> distFunc,
+						double maxChangeRate,
+						IndexedDataSource<Point> points,
+						IndexedDataSource<SignedInt32Member> clusterIndices)
+	{
+		if (distFunc == null)
+			throw new IllegalArgumentException("kmeans: distance function must not be null");
 		
-		int cSize = 0;
+		new Clusterer(numClusters, distFunc, maxChangeRate, points, clusterIndices).run();
+	}
 
-		long cutoff;
-		
-		if (clusterIndicesSize % numClusters == 0)
-			cutoff = clusterIndicesSize / numClusters;
-		else
-			cutoff = clusterIndicesSize / (numClusters-1);
-		
-		for (long i = 0; i < clusterIndicesSize; i++) {
-			clusterNum.setV(cNum);
-			clusterIndices.set(i, clusterNum);
-			cSize++;
-			if (cSize >= cutoff) {
-				cSize = 0;
-				cNum++;
-			}
-		}
-		
-		*/
-		
-		// assign initial cluster memberships arbitrarily
-		
-		ThreadLocalRandom rng = ThreadLocalRandom.current();
+	/**
+	 * KMeans.compute()
+	 * Usage: Pass in a list of points (all of the same dimension greater than 0) that span any region.
+	 *        Pass in a list of ints that will track which points go with which clusters.
+	 *        The two lists must be of the same length.
+	 *        Pass in the number of clusters you want to divide the point set into.
+	 *        Run the algorithm. The points are assigned cluster numbers in the clusterNumbers
+	 *        list.
+	 *        
+	 * This is the default KMeans algorithm. It measures Euclidean distance. This method is
+	 * designed for use with geometric Point data. Since the distance is known to be Euclidean
+	 * the triangle inequality is used to skip most distance calculations (Hamerly's method).
+	 *  
+	 * @param numClusters The number of clusters to divide the list of Points into.
+	 * @param points The list of Points to analyze.
+	 * @param clusterIndices The list tracking which Point is in which cluster.
+	 */
+	public static
+		void compute(int numClusters,
+						IndexedDataSource<Point> points,
+						IndexedDataSource<SignedInt32Member> clusterIndices)
+	{
+		compute(numClusters, 0, points, clusterIndices);
+	}
+
+	/**
+	 * KMeans.compute()
+	 * Usage: As above but iteration stops once the fraction of points that change cluster
+	 *        in an iteration is no more than maxChangeRate.
+	 *  
+	 * @param numClusters The number of clusters to divide the list of Points into.
+	 * @param maxChangeRate The fraction (0 to 1) of points changing clusters at which iteration stops.
+	 * @param points The list of Points to analyze.
+	 * @param clusterIndices The list tracking which Point is in which cluster.
+	 */
+	public static
+		void compute(int numClusters,
+						double maxChangeRate,
+						IndexedDataSource<Point> points,
+						IndexedDataSource<SignedInt32Member> clusterIndices)
+	{
+		new Clusterer(numClusters, null, maxChangeRate, points, clusterIndices).run();
+	}
+	
+	// Initial centers are chosen with k-means++ seeding. Each iteration then
+	//   assigns every point to its nearest center in parallel while each
+	//   thread sums the points that entered or left each cluster. The updated
+	//   cluster sums make the centers of the next iteration. When distFunc is null distances are Euclidean and
+	//   each point keeps an upper bound on the distance to its own center and
+	//   a lower bound on the distance to any other center. Points whose bounds
+	//   show they cannot change clusters are skipped.
+	
+	private static class Clusterer {
 		
-		SignedInt32Member clusterNum = G.INT32.construct();
+		private final int k;
+		private final int n;
+		private final int dim;
+		private final Function2<Double,Point,Point> distFunc;
+		private final double maxChangeRate;
+		private final IndexedDataSource<Point> points;
+		private final IndexedDataSource<SignedInt32Member> clusterIndices;
+		private final int pieces;
+		private final int pointsPerPiece;
 		
-		for (long i = 0; i < numClusters; i++) {
+		private final int[] assignments;
+		private final double[] upper;
+		private final double[] lower;
+		private final double[] centers;
+		private final double[] clusterSums;
+		private final long[] clusterCounts;
+		private final double[] moves;
+		private final double[] halfGaps;
+		private final Point[] centerPoints;
 		
-			int rval = rng.nextInt(0, numClusters);
+		Clusterer(int numClusters, Function2<Double,Point,Point> distFunc, double maxChangeRate,
+					IndexedDataSource<Point> points, IndexedDataSource<SignedInt32Member> clusterIndices)
+		{
+			if (numClusters < 2)
+				throw new IllegalArgumentException("kmeans: illegal number of clusters. must be >= 2.");
 			
-			clusterNum.setV(rval);
+			long pointsSize = points.size();
+	
+			if (pointsSize != clusterIndices.size())
+				throw new IllegalArgumentException("points and clusterIndices length must match");
+	
+			if (pointsSize < numClusters)
+				throw new IllegalArgumentException("number of points given must be >= to the number of clusters");
 			
-			clusterIndices.set(i, clusterNum);
-		}
-
-		Point point = G.POINT.construct();
-		
-		points.get(0, point);  // set the dimensionality of the set of points
-		
-		List<Point> centers = new ArrayList<Point>();
-		
-		List<Long> counts = new ArrayList<Long>();
-		
-		for (int i = 0; i < numClusters; i++) {
-		
-			centers.add(new Point(point.numDimensions()));
+			if (pointsSize > Integer.MAX_VALUE)
+				throw new IllegalArgumentException("kmeans: too many points");
 			
-			counts.add(0L);
-		}
-
-		for (int k = 0; k < MAX_ITERS; k++) {
+			if (!(maxChangeRate >= 0 && maxChangeRate <= 1))
+				throw new IllegalArgumentException("kmeans: change rate must be between 0 and 1");
+			
+			Point point = G.POINT.construct();
 			
-			// calc centroids of clusters
-			for (int i = 0; i < numClusters; i++) {
+			points.get(0, point);  // set the dimensionality of the set of points
 			
-				G.POINT.zero().call(centers.get(i));
+			this.k = numClusters;
+			this.n = (int) pointsSize;
+			this.dim = point.numDimensions();
+			this.distFunc = distFunc;
+			this.maxChangeRate = maxChangeRate;
+			this.points = points;
+			this.clusterIndices = clusterIndices;
+			
+			Tuple2<Integer,Long> arrangement =
+					ThreadingUtils.arrange(pointsSize,
+											points.accessWithOneThread() ||
+											clusterIndices.accessWithOneThread());
+			this.pieces = arrangement.a();
+			this.pointsPerPiece = (int) (long) arrangement.b();
+			
+			this.assignments = new int[n];
+			this.upper = (distFunc == null) ? new double[n] : null;
+			this.lower = (distFunc == null) ? new double[n] : null;
+			this.centers = new double[k * dim];
+			this.clusterSums = new double[k * dim];
+			this.clusterCounts = new long[k];
+			this.moves = new double[k];
+			this.halfGaps = new double[k];
+			this.centerPoints = new Point[k];
+			for (int j = 0; j < k; j++) {
+				centerPoints[j] = new Point(dim);
 			}
-			for (long i = 0; i < pointsSize; i++) {
-				
-				points.get(i, point);
+		}
+		
+		void run() {
 			
-				clusterIndices.get(i, clusterNum);
-				
-				Point ctrSum = centers.get(clusterNum.v());
+			seed();
+			
+			boolean first = true;
+			int iters = 0;
+			while (true) {
 				
-				G.POINT.add().call(ctrSum, point, ctrSum);
+				Assigner[] assigners = new Assigner[pieces];
+				for (int i = 0; i < pieces; i++) {
+					int start = i * pointsPerPiece;
+					int end = (i == pieces-1) ? n : start + pointsPerPiece;
+					assigners[i] = new Assigner(this, first, start, end);
+				}
+				execute(assigners);
 				
-				counts.set(clusterNum.v(), (counts.get(clusterNum.v()))+1);
-			}
-			for (int i = 0; i < numClusters; i++) {
+				long changes = 0;
+				for (int i = 0; i < pieces; i++) {
+					changes += assigners[i].changes;
+				}
 				
-				Point ctrSum = centers.get(i);
+				updateCenters(assigners);
 				
-				long count = counts.get(i);
+				if (!first && changes <= maxChangeRate * n)
+					break;
 				
-				double scale = 1.0 / count;
+				first = false;
 				
-				G.POINT.scale().call(scale, ctrSum, ctrSum);
+				if (++iters >= MAX_ITERS) {
+					System.out.println("Did not converge after "+MAX_ITERS+" iterations. Best approximation returned.");
+					break;
+				}
 			}
 			
-			// for each point
-
-			boolean converged = true;
+			SignedInt32Member clusterNum = G.INT32.construct();
+			for (int i = 0; i < n; i++) {
+				clusterNum.setV(assignments[i]);
+				clusterIndices.set(i, clusterNum);
+			}
+		}
+		
+		// k-means++: each new center is a point chosen with probability
+		//   proportional to its squared distance from the nearest chosen center
+		
+		private void seed() {
 			
-			for (long i = 0; i < pointsSize; i++) {
-				
-				points.get(i,  point);
-				
-				Point firstCtr = centers.get(0);
+			ThreadLocalRandom rng = ThreadLocalRandom.current();
+			
+			double[] nearest = new double[n];
+			
+			Point point = G.POINT.construct();
+			
+			int chosen = rng.nextInt(n);
+			
+			for (int j = 0; j < k; j++) {
 				
-				double minDist = distFunc.call(point, firstCtr);
+				points.get(chosen, point);
+				for (int d = 0; d < dim; d++) {
+					centers[j * dim + d] = point.component(d);
+				}
+				centerPoints[j].set(point);
 				
-				int minCluster = 0;
+				if (j == k-1)
+					break;
 				
-				//   find closest cluster
-				for (int j = 1; j < numClusters; j++) {
+				Seeder[] seeders = new Seeder[pieces];
+				for (int i = 0; i < pieces; i++) {
+					int start = i * pointsPerPiece;
+					int end = (i == pieces-1) ? n : start + pointsPerPiece;
+					seeders[i] = new Seeder(this, nearest, j, start, end);
+				}
+				execute(seeders);
 				
-					Point oneCtr = centers.get(j);
+				double total = 0;
+				for (int i = 0; i < pieces; i++) {
+					total += seeders[i].total;
+				}
 				
-					double dist = distFunc.call(point, oneCtr);
+				if (total > 0) {
+					double target = rng.nextDouble() * total;
+					chosen = -1;
+					double sum = 0;
+					for (int i = 0; i < n; i++) {
+						if (nearest[i] > 0) {
+							chosen = i;
+							sum += nearest[i];
+							if (sum > target)
+								break;
+						}
+					}
+				}
+				else {
 					
-					if (dist < minDist) {
+					// every point sits on a center already
 					
-						minDist = dist;
-						
-						minCluster = j;
-					}
+					chosen = rng.nextInt(n);
 				}
-
-				clusterIndices.get(i, clusterNum);
-				
-				if (clusterNum.v() != minCluster) {
+			}
+		}
+		
+		// adds the per thread changes to the cluster sums and makes new centers
+		
+		private void updateCenters(Assigner[] assigners) {
+			
+			for (int i = 0; i < pieces; i++) {
+				for (int j = 0; j < k; j++) {
+					clusterCounts[j] += assigners[i].counts[j];
+				}
+				for (int m = 0; m < k * dim; m++) {
+					clusterSums[m] += assigners[i].sums[m];
+				}
+			}
+			
+			for (int j = 0; j < k; j++) {
+				long count = clusterCounts[j];
+				double move = 0;
+				if (count > 0) {
 					
-					converged = false;
-				
-					clusterNum.setV(minCluster);
+					// an empty cluster keeps its last center
 					
-					clusterIndices.set(i, clusterNum);
+					for (int d = 0; d < dim; d++) {
+						double v = clusterSums[j * dim + d] / count;
+						double delta = v - centers[j * dim + d];
+						move += delta * delta;
+						centers[j * dim + d] = v;
+						centerPoints[j].setComponent(d, v);
+					}
 				}
+				moves[j] = Math.sqrt(move);
 			}
 			
-			if (converged)
+			if (distFunc == null) {
+				for (int j = 0; j < k; j++) {
+					double gap = Double.POSITIVE_INFINITY;
+					for (int m = 0; m < k; m++) {
+						if (m != j) {
+							double dist = euclidean(centers, j * dim, centers, m * dim);
+							if (dist < gap)
+								gap = dist;
+						}
+					}
+					halfGaps[j] = gap / 2;
+				}
+			}
+		}
+		
+		private double distance(double[] x, Point point, int j) {
+			if (distFunc == null)
+				return euclidean(x, 0, centers, j * dim);
+			return distFunc.call(point, centerPoints[j]);
+		}
+		
+		private double euclidean(double[] x, int xOffset, double[] y, int yOffset) {
+			double sum = 0;
+			for (int d = 0; d < dim; d++) {
+				double delta = x[xOffset + d] - y[yOffset + d];
+				sum += delta * delta;
+			}
+			return Math.sqrt(sum);
+		}
+		
+		private void read(int i, Point point, double[] x) {
+			points.get(i, point);
+			if (point.numDimensions() != dim)
+				throw new IllegalArgumentException("kmeans: points must all have the same dimension");
+			for (int d = 0; d < dim; d++) {
+				x[d] = point.component(d);
+			}
+		}
+		
+		private void execute(Runnable[] runnables) {
+			
+			if (runnables.length == 1) {
+				runnables[0].run();
 				return;
+			}
+			
+			final Thread[] threads = new Thread[runnables.length];
+			for (int i = 0; i < runnables.length; i++) {
+				threads[i] = new Thread(runnables[i]);
+				threads[i].start();
+			}
+			for (int i = 0; i < threads.length; i++) {
+				try {
+					threads[i].join();
+				} catch(InterruptedException e) {
+					throw new IllegalArgumentException("Thread execution error in KMeans");
+				}
+			}
+		}
+	}
+	
+	// updates the squared distance of each point to its nearest chosen center
+	
+	private static class Seeder implements Runnable {
+		
+		private final Clusterer c;
+		private final double[] nearest;
+		private final int center;
+		private final int start;
+		private final int end;
+		double total;
+		
+		Seeder(Clusterer c, double[] nearest, int center, int start, int end) {
+			this.c = c;
+			this.nearest = nearest;
+			this.center = center;
+			this.start = start;
+			this.end = end;
 		}
 		
-		System.out.println("Did not converge after "+MAX_ITERS+" iterations. Best approximation returned.");
+		@Override
+		public void run() {
+			Point point = G.POINT.construct();
+			double[] x = new double[c.dim];
+			double sum = 0;
+			for (int i = start; i < end; i++) {
+				c.read(i, point, x);
+				double dist = c.distance(x, point, center);
+				double d2 = dist * dist;
+				if (center == 0 || d2 < nearest[i])
+					nearest[i] = d2;
+				sum += nearest[i];
+			}
+			total = sum;
+		}
 	}
-
-	/**
-	 * KMeans.compute()
-	 * Usage: Pass in a list of points (all of the same dimension greater than 0) that span any region.
-	 *        Pass in a list of ints that will track which points go with which clusters.
-	 *        The two lists must be of the same length.
-	 *        Pass in the number of clusters you want to divide the point set into.
-	 *        Run the algorithm. The points are assigned cluster numbers in the clusterNumbers
-	 *        list.
-	 *        
-	 * This is the default KMeans algorithm. It dispatches to the more general KMeans method but
-	 * it passes it a Euclidean distance function. This method is designed for use with geometric
-	 * Point data.
-	 *  
-	 * @param numClusters The number of clusters to divide the list of Points into.
-	 * @param points The list of Points to analyze.
-	 * @param clusterIndices The list tracking which Point is in which cluster.
-	 */
-	public static
-		void compute(int numClusters,
-						IndexedDataSource<Point> points,
-						IndexedDataSource<SignedInt32Member> clusterIndices)
-	{
-		Function2<Double,Point,Point> defaultDistFunc =
-				
-			new Function2<Double,Point,Point>()
+	
+	// assigns a range of points to their nearest centers and accumulates the
+	//   changes to the sums of each cluster
+	
+	private static class Assigner implements Runnable {
 		
-		{
-			private Float64Member dist = G.DBL.construct();
+		private final Clusterer c;
+		private final boolean first;
+		private final int start;
+		private final int end;
+		final double[] sums;
+		final long[] counts;
+		long changes;
+		
+		Assigner(Clusterer c, boolean first, int start, int end) {
+			this.c = c;
+			this.first = first;
+			this.start = start;
+			this.end = end;
+			this.sums = new double[c.k * c.dim];
+			this.counts = new long[c.k];
+		}
+		
+		@Override
+		public void run() {
 			
-			public Double call(Point a, Point b) {
+			int k = c.k;
+			int dim = c.dim;
+			boolean pruning = c.distFunc == null;
 			
-				PointDistance.compute(a, b, dist);
+			// the largest and second largest center moves bound how far any
+			//   other center came closer
+			
+			double maxMove = 0, secondMove = 0;
+			int maxCenter = -1;
+			for (int j = 0; j < k; j++) {
+				double move = c.moves[j];
+				if (move > maxMove) {
+					secondMove = maxMove;
+					maxMove = move;
+					maxCenter = j;
+				}
+				else if (move > secondMove) {
+					secondMove = move;
+				}
+			}
+			
+			Point point = G.POINT.construct();
+			double[] x = new double[dim];
+			long changed = 0;
+			for (int i = start; i < end; i++) {
+				
+				int current = c.assignments[i];
+				boolean loaded = false;
+				boolean scan = true;
 				
-				return dist.v();
+				if (pruning && !first) {
+					double u = c.upper[i] + c.moves[current];
+					double l = c.lower[i] - (current == maxCenter ? secondMove : maxMove);
+					double bound = Math.max(c.halfGaps[current], l);
+					if (u > bound) {
+						c.read(i, point, x);
+						loaded = true;
+						u = c.euclidean(x, 0, c.centers, current * dim);
+						scan = u > bound;
+					}
+					else {
+						scan = false;
+					}
+					c.upper[i] = u;
+					c.lower[i] = l;
+				}
+				
+				if (scan) {
+					if (!loaded)
+						c.read(i, point, x);
+					loaded = true;
+					int best = 0;
+					double bestDist = c.distance(x, point, 0);
+					double nextDist = Double.POSITIVE_INFINITY;
+					for (int j = 1; j < k; j++) {
+						double dist = c.distance(x, point, j);
+						if (dist < bestDist) {
+							nextDist = bestDist;
+							bestDist = dist;
+							best = j;
+						}
+						else if (dist < nextDist) {
+							nextDist = dist;
+						}
+					}
+					if (pruning) {
+						c.upper[i] = bestDist;
+						c.lower[i] = nextDist;
+					}
+					if (first || best != current) {
+						
+						// only points that change clusters alter the sums
+						
+						changed++;
+						c.assignments[i] = best;
+						if (!first) {
+							for (int d = 0; d < dim; d++) {
+								sums[current * dim + d] -= x[d];
+							}
+							counts[current]--;
+						}
+						for (int d = 0; d < dim; d++) {
+							sums[best * dim + d] += x[d];
+						}
+						counts[best]++;
+					}
+				}
 			}
-		};
-		
-		compute(numClusters, defaultDistFunc, points, clusterIndices);
+			changes = changed;
+		}
 	}
 }
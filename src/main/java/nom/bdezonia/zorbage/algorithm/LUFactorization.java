@@ -0,0 +1,605 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.algorithm;
+
+import nom.bdezonia.zorbage.algebra.Algebra;
+import nom.bdezonia.zorbage.algebra.Invertible;
+import nom.bdezonia.zorbage.algebra.MatrixMember;
+import nom.bdezonia.zorbage.algebra.Norm;
+import nom.bdezonia.zorbage.algebra.Ordered;
+import nom.bdezonia.zorbage.algebra.RModuleMember;
+import nom.bdezonia.zorbage.algebra.RingWithUnity;
+import nom.bdezonia.zorbage.misc.ThreadingUtils;
+import nom.bdezonia.zorbage.tuple.Tuple2;
+
+/**
+ * An LUFactorization is the factorization PA = LU of a square matrix A where
+ * P is a row permutation, L is lower triangular with ones on its diagonal,
+ * and U is upper triangular. Once built it can solve any number of systems
+ * Ax = b and calculate the determinant of A without refactoring.
+ * <p>
+ * The factorization is done by blocks of columns. Each block is factored
+ * with partial pivoting and then the rows to its right and the remaining
+ * lower right submatrix are updated in parallel. When the element algebra
+ * has a norm the largest remaining value in a column is chosen as its
+ * pivot. Otherwise the first nonzero value is chosen.
+ * 
+ * @author Barry DeZonia
+ *
+ * @param <T> The algebra of the matrix elements
+ * @param <U> The type of the matrix elements
+ */
+public class LUFactorization<T extends RingWithUnity<T,U> & Invertible<U>, U> {
+
+	// the number of columns factored as one block
+	
+	private static final int BLOCK = 64;
+	
+	// updates that take fewer multiplies than this are done on one thread
+	
+	private static final long PARALLEL_WORK = 1L << 16;
+	
+	private static final int TRIANGLE = 0;
+	private static final int TRAILING = 1;
+	
+	private final T alg;
+	private final int n;
+	private final Object[] lu;
+	private final int[] perm;
+	private final boolean oddPermutation;
+	private final boolean singular;
+	
+	/**
+	 * Factor a square matrix choosing the first nonzero value of each column
+	 * as its pivot.
+	 * 
+	 * @param <T>
+	 * @param <U>
+	 * @param numAlgebra
+	 * @param a
+	 * @return
+	 */
+	public static <T extends RingWithUnity<T,U> & Invertible<U>, U>
+		LUFactorization<T,U> compute(T numAlgebra, MatrixMember<U> a)
+	{
+		return new LUFactorization<T,U>(numAlgebra, a, new NonzeroPivot<T,U>(numAlgebra));
+	}
+	
+	/**
+	 * Factor a square matrix choosing the value of largest norm in each column
+	 * as its pivot. This is the numerically stable choice for floating point
+	 * types.
+	 * 
+	 * @param <T>
+	 * @param <U>
+	 * @param <V>
+	 * @param <W>
+	 * @param numAlgebra
+	 * @param normAlgebra
+	 * @param a
+	 * @return
+	 */
+	public static <T extends RingWithUnity<T,U> & Invertible<U> & Norm<U,W>,
+					U,
+					V extends Algebra<V,W> & Ordered<W>,
+					W>
+		LUFactorization<T,U> compute(T numAlgebra, V normAlgebra, MatrixMember<U> a)
+	{
+		return new LUFactorization<T,U>(numAlgebra, a, new LargestPivot<T,U,V,W>(numAlgebra, normAlgebra));
+	}
+	
+	private LUFactorization(T alg, MatrixMember<U> a, PivotChooser chooser) {
+		
+		if (a.rows() != a.cols())
+			throw new IllegalArgumentException("LU factorization requires a square matrix");
+
+		if (a.rows() * a.cols() > Integer.MAX_VALUE)
+			throw new IllegalArgumentException("matrix too large to factor");
+		
+		this.alg = alg;
+		this.n = (int) a.rows();
+		this.lu = new Object[n * n];
+		this.perm = new int[n];
+		
+		for (int r = 0; r < n; r++) {
+			perm[r] = r;
+			for (int c = 0; c < n; c++) {
+				U value = alg.construct();
+				a.getV(r, c, value);
+				lu[r * n + c] = value;
+			}
+		}
+		
+		U inv = alg.construct();
+		U term = alg.construct();
+		boolean odd = false;
+		boolean zeroPivot = false;
+		
+		for (int k0 = 0; k0 < n; k0 += BLOCK) {
+			
+			int k1 = Math.min(n, k0 + BLOCK);
+			
+			// factor the block of columns k0 to k1-1
+			
+			for (int k = k0; k < k1; k++) {
+				
+				int p = chooser.choose(lu, n, k);
+				if (p != k) {
+					for (int c = 0; c < n; c++) {
+						Object tmp = lu[k * n + c];
+						lu[k * n + c] = lu[p * n + c];
+						lu[p * n + c] = tmp;
+					}
+					int tmp = perm[k];
+					perm[k] = perm[p];
+					perm[p] = tmp;
+					odd = !odd;
+				}
+				
+				U pivot = el(lu, k * n + k);
+				if (alg.isZero().call(pivot)) {
+					zeroPivot = true;
+					continue;
+				}
+				
+				alg.invert().call(pivot, inv);
+				
+				for (int i = k + 1; i < n; i++) {
+					U l = el(lu, i * n + k);
+					alg.multiply().call(l, inv, l);
+					for (int j = k + 1; j < k1; j++) {
+						U v = el(lu, i * n + j);
+						alg.multiply().call(l, el(lu, k * n + j), term);
+						alg.subtract().call(v, term, v);
+					}
+				}
+			}
+			
+			if (k1 < n) {
+				
+				// the rows of U to the right of the block: solve L11 U12 = A12
+				
+				update(TRIANGLE, k0, k1, k1, n);
+				
+				// the rest of the matrix: A22 = A22 - L21 U12
+				
+				update(TRAILING, k0, k1, k1, n);
+			}
+		}
+		
+		this.oddPermutation = odd;
+		this.singular = zeroPivot;
+	}
+	
+	/**
+	 * Returns the number of rows (and columns) of the factored matrix.
+	 */
+	public long size() {
+		return n;
+	}
+	
+	/**
+	 * Returns true if a zero pivot was found. The matrix is then singular and
+	 * solutions calculated from the factorization are not meaningful.
+	 */
+	public boolean isSingular() {
+		return singular;
+	}
+	
+	/**
+	 * Returns the row of the original matrix that became row i of the factors.
+	 * 
+	 * @param i
+	 * @return
+	 */
+	public long pivot(long i) {
+		return perm[(int) i];
+	}
+	
+	/**
+	 * Gets the unit lower triangular factor L.
+	 * 
+	 * @param l
+	 */
+	public void lower(MatrixMember<U> l) {
+		U zero = alg.construct();
+		U one = alg.construct();
+		alg.unity().call(one);
+		l.alloc(n, n);
+		for (int r = 0; r < n; r++) {
+			for (int c = 0; c < n; c++) {
+				if (c < r)
+					l.setV(r, c, el(lu, r * n + c));
+				else if (c == r)
+					l.setV(r, c, one);
+				else
+					l.setV(r, c, zero);
+			}
+		}
+	}
+	
+	/**
+	 * Gets the upper triangular factor U.
+	 * 
+	 * @param u
+	 */
+	public void upper(MatrixMember<U> u) {
+		U zero = alg.construct();
+		u.alloc(n, n);
+		for (int r = 0; r < n; r++) {
+			for (int c = 0; c < n; c++) {
+				if (c >= r)
+					u.setV(r, c, el(lu, r * n + c));
+				else
+					u.setV(r, c, zero);
+			}
+		}
+	}
+	
+	/**
+	 * Calculates the determinant of the factored matrix from the diagonal
+	 * of U and the sign of the row permutation.
+	 * 
+	 * @param det
+	 */
+	public void determinant(U det) {
+		U prod = alg.construct();
+		alg.unity().call(prod);
+		for (int i = 0; i < n; i++) {
+			alg.multiply().call(prod, el(lu, i * n + i), prod);
+		}
+		if (oddPermutation)
+			alg.negate().call(prod, prod);
+		alg.assign().call(prod, det);
+	}
+	
+	/**
+	 * Solve Ax = b for one right hand side vector.
+	 * 
+	 * @param b
+	 * @param x
+	 */
+	public void solve(RModuleMember<U> b, RModuleMember<U> x) {
+		
+		if (b.length() != n)
+			throw new IllegalArgumentException("right hand side length does not match matrix size");
+		
+		Object[] work = new Object[n];
+		for (int i = 0; i < n; i++) {
+			U value = alg.construct();
+			b.getV(perm[i], value);
+			work[i] = value;
+		}
+		
+		substitute(work, 1, 0, 1, inverseDiagonal());
+		
+		x.alloc(n);
+		for (int i = 0; i < n; i++) {
+			x.setV(i, el(work, i));
+		}
+	}
+	
+	/**
+	 * Solve AX = B for a whole matrix of right hand sides in one pass. The
+	 * columns of B are solved in parallel. B and X can be the same matrix.
+	 * 
+	 * @param b
+	 * @param x
+	 */
+	public void solve(MatrixMember<U> b, MatrixMember<U> x) {
+		
+		if (b.rows() != n)
+			throw new IllegalArgumentException("right hand side rows do not match matrix size");
+		
+		if (b.rows() * b.cols() > Integer.MAX_VALUE)
+			throw new IllegalArgumentException("right hand side too large");
+		
+		int m = (int) b.cols();
+		
+		Object[] work = new Object[n * m];
+		for (int i = 0; i < n; i++) {
+			for (int c = 0; c < m; c++) {
+				U value = alg.construct();
+				b.getV(perm[i], c, value);
+				work[i * m + c] = value;
+			}
+		}
+		
+		if (m > 0) {
+			
+			Object[] invDiag = inverseDiagonal();
+			
+			long totalWork = ((long) n) * n * m;
+			
+			int pieces = 1;
+			long colsPerPiece = m;
+			if (totalWork >= PARALLEL_WORK) {
+				Tuple2<Integer,Long> arrangement = ThreadingUtils.arrange(m, false);
+				pieces = arrangement.a();
+				colsPerPiece = arrangement.b();
+			}
+			
+			if (pieces == 1) {
+				
+				substitute(work, m, 0, m, invDiag);
+			}
+			else {
+				
+				final Thread[] threads = new Thread[pieces];
+				int start = 0;
+				for (int i = 0; i < pieces; i++) {
+					int end = (i == pieces - 1) ? m : (int) (start + colsPerPiece);
+					threads[i] = new Thread(new Substituter(work, m, start, end, invDiag));
+					start = end;
+				}
+				for (int i = 0; i < pieces; i++) {
+					threads[i].start();
+				}
+				for (int i = 0; i < pieces; i++) {
+					try {
+						threads[i].join();
+					} catch(InterruptedException e) {
+						throw new IllegalArgumentException("Thread execution error in LUFactorization");
+					}
+				}
+			}
+		}
+		
+		x.alloc(n, m);
+		for (int i = 0; i < n; i++) {
+			for (int c = 0; c < m; c++) {
+				x.setV(i, c, el(work, i * m + c));
+			}
+		}
+	}
+	
+	// forward substitution with L and back substitution with U for the
+	//   columns first to last-1 of a row major n by m work array
+	
+	private void substitute(Object[] work, int m, int first, int last, Object[] invDiag) {
+		
+		U term = alg.construct();
+		
+		for (int c = first; c < last; c++) {
+			
+			for (int i = 0; i < n; i++) {
+				U v = el(work, i * m + c);
+				for (int k = 0; k < i; k++) {
+					alg.multiply().call(el(lu, i * n + k), el(work, k * m + c), term);
+					alg.subtract().call(v, term, v);
+				}
+			}
+			
+			for (int i = n - 1; i >= 0; i--) {
+				U v = el(work, i * m + c);
+				for (int k = i + 1; k < n; k++) {
+					alg.multiply().call(el(lu, i * n + k), el(work, k * m + c), term);
+					alg.subtract().call(v, term, v);
+				}
+				alg.multiply().call(el(invDiag, i), v, v);
+			}
+		}
+	}
+	
+	private Object[] inverseDiagonal() {
+		Object[] invDiag = new Object[n];
+		for (int i = 0; i < n; i++) {
+			U value = alg.construct();
+			alg.invert().call(el(lu, i * n + i), value);
+			invDiag[i] = value;
+		}
+		return invDiag;
+	}
+	
+	// update the rows or columns first to last-1 after the columns k0 to
+	//   k1-1 have been factored
+	
+	private void update(int mode, int k0, int k1, int first, int last) {
+		
+		long count = last - first;
+		long width = k1 - k0;
+		long work = count * width * (mode == TRIANGLE ? width : (n - k1));
+		
+		int pieces = 1;
+		long perPiece = count;
+		if (work >= PARALLEL_WORK) {
+			Tuple2<Integer,Long> arrangement = ThreadingUtils.arrange(count, false);
+			pieces = arrangement.a();
+			perPiece = arrangement.b();
+		}
+		
+		if (pieces == 1) {
+			
+			new Updater(mode, k0, k1, first, last).run();
+		}
+		else {
+			
+			final Thread[] threads = new Thread[pieces];
+			int start = first;
+			for (int i = 0; i < pieces; i++) {
+				int end = (i == pieces - 1) ? last : (int) (start + perPiece);
+				threads[i] = new Thread(new Updater(mode, k0, k1, start, end));
+				start = end;
+			}
+			for (int i = 0; i < pieces; i++) {
+				threads[i].start();
+			}
+			for (int i = 0; i < pieces; i++) {
+				try {
+					threads[i].join();
+				} catch(InterruptedException e) {
+					throw new IllegalArgumentException("Thread execution error in LUFactorization");
+				}
+			}
+		}
+	}
+	
+	private class Updater implements Runnable {
+		
+		private final int mode;
+		private final int k0;
+		private final int k1;
+		private final int first;
+		private final int last;
+		
+		Updater(int mode, int k0, int k1, int first, int last) {
+			this.mode = mode;
+			this.k0 = k0;
+			this.k1 = k1;
+			this.first = first;
+			this.last = last;
+		}
+		
+		@Override
+		public void run() {
+			
+			U term = alg.construct();
+			
+			if (mode == TRIANGLE) {
+				
+				// columns first to last-1 of the block's rows
+				
+				for (int j = first; j < last; j++) {
+					for (int k = k0; k < k1; k++) {
+						U ukj = el(lu, k * n + j);
+						for (int i = k + 1; i < k1; i++) {
+							U v = el(lu, i * n + j);
+							alg.multiply().call(el(lu, i * n + k), ukj, term);
+							alg.subtract().call(v, term, v);
+						}
+					}
+				}
+			}
+			else {
+				
+				// rows first to last-1 of the trailing submatrix
+				
+				for (int i = first; i < last; i++) {
+					for (int k = k0; k < k1; k++) {
+						U lik = el(lu, i * n + k);
+						for (int j = k1; j < n; j++) {
+							U v = el(lu, i * n + j);
+							alg.multiply().call(lik, el(lu, k * n + j), term);
+							alg.subtract().call(v, term, v);
+						}
+					}
+				}
+			}
+		}
+	}
+	
+	private class Substituter implements Runnable {
+		
+		private final Object[] work;
+		private final int m;
+		private final int first;
+		private final int last;
+		private final Object[] invDiag;
+		
+		Substituter(Object[] work, int m, int first, int last, Object[] invDiag) {
+			this.work = work;
+			this.m = m;
+			this.first = first;
+			this.last = last;
+			this.invDiag = invDiag;
+		}
+		
+		@Override
+		public void run() {
+			substitute(work, m, first, last, invDiag);
+		}
+	}
+	
+	// chooses the pivot row for column k from the rows k to n-1
+	
+	private interface PivotChooser {
+		
+		int choose(Object[] lu, int n, int k);
+	}
+	
+	private static class NonzeroPivot<T extends RingWithUnity<T,U>, U>
+		implements PivotChooser
+	{
+		private final T alg;
+		
+		NonzeroPivot(T alg) {
+			this.alg = alg;
+		}
+		
+		@Override
+		public int choose(Object[] lu, int n, int k) {
+			for (int i = k; i < n; i++) {
+				U value = el(lu, i * n + k);
+				if (!alg.isZero().call(value))
+					return i;
+			}
+			return k;
+		}
+	}
+	
+	private static class LargestPivot<T extends RingWithUnity<T,U> & Norm<U,W>,
+										U,
+										V extends Algebra<V,W> & Ordered<W>,
+										W>
+		implements PivotChooser
+	{
+		private final T alg;
+		private final V normAlg;
+		private final W norm;
+		private final W largest;
+		
+		LargestPivot(T alg, V normAlg) {
+			this.alg = alg;
+			this.normAlg = normAlg;
+			this.norm = normAlg.construct();
+			this.largest = normAlg.construct();
+		}
+		
+		@Override
+		public int choose(Object[] lu, int n, int k) {
+			int best = k;
+			alg.norm().call(el(lu, k * n + k), largest);
+			for (int i = k + 1; i < n; i++) {
+				alg.norm().call(el(lu, i * n + k), norm);
+				if (normAlg.isGreater().call(norm, largest)) {
+					normAlg.assign().call(norm, largest);
+					best = i;
+				}
+			}
+			return best;
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	private static <U> U el(Object[] array, int index) {
+		return (U) array[index];
+	}
+}
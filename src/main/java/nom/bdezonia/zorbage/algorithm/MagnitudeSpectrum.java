@@ -82,4 +82,34 @@ public class MagnitudeSpectrum {
 		PowerSpectrum.compute(complexAlg, realAlg, a, b);
 		Transform2.compute(complexAlg, complexAlg.sqrt(), b, b);
 	}
+
+	/**
+	 * Calculate the magnitude spectrum of a list of real numbers using the
+	 * real input fast path of the {@link PowerSpectrum}.
+	 * 
+	 * @param <CA>
+	 * @param <C>
+	 * @param <RA>
+	 * @param <R>
+	 * @param complexAlg
+	 * @param realAlg
+	 * @param a Source list of real data
+	 * @param b Destination list of complex data. Must be the same length as a.
+	 */
+	public static <CA extends Algebra<CA,C> & Addition<C> & Multiplication<C> &
+								Conjugate<C> & ScaleByHighPrec<C> & Roots<C>,
+					C extends SetComplex<R> & Allocatable<C>,
+					RA extends Algebra<RA,R> & Trigonometric<R> & RealConstants<R> &
+								Multiplication<R> & Addition<R> & Invertible<R> &
+								Unity<R>,
+					R>
+
+		void computeFromReals(CA complexAlg,
+								RA realAlg,
+								IndexedDataSource<R> a,
+								IndexedDataSource<C> b)
+	{
+		PowerSpectrum.computeFromReals(complexAlg, realAlg, a, b);
+		Transform2.compute(complexAlg, complexAlg.sqrt(), b, b);
+	}
 }
@@ -34,6 +34,8 @@ import nom.bdezonia.zorbage.algebra.Algebra;
 import nom.bdezonia.zorbage.algebra.Constructible2dLong;
 import nom.bdezonia.zorbage.algebra.Invertible;
 import nom.bdezonia.zorbage.algebra.MatrixMember;
+import nom.bdezonia.zorbage.algebra.Norm;
+import nom.bdezonia.zorbage.algebra.Ordered;
 import nom.bdezonia.zorbage.algebra.RingWithUnity;
 
 /**
@@ -48,7 +50,8 @@ public class MatrixDeterminant {
 	private MatrixDeterminant() {}
 	
 	/**
-	 * Calculate the determinant of a matrix.
+	 * Calculate the determinant of a matrix. Pivots are chosen as the first
+	 * nonzero value in each column.
 	 * 
 	 * @param matAlgebra
 	 * @param numAlgebra
@@ -66,16 +69,33 @@ public class MatrixDeterminant {
 	{
 		if (a.rows() != a.cols())
 			throw new IllegalArgumentException("determinant requires square matrix");
-		MATRIX_MEMBER tmpMat = matAlgebra.construct(a);
-		LUDecomp.compute(numAlgebra, matAlgebra, tmpMat);
-		BASETYPE tmp = numAlgebra.construct();
-		BASETYPE prod = numAlgebra.construct();
-		numAlgebra.unity().call(prod);
-		for (long i = 0; i < tmpMat.rows(); i++) {
-			tmpMat.getV(i, i, tmp);
-			numAlgebra.multiply().call(prod, tmp, prod);
-		}
-		numAlgebra.assign().call(prod, det);
+		LUFactorization.compute(numAlgebra, a).determinant(det);
+	}
+	
+	/**
+	 * Calculate the determinant of a matrix. Pivots are chosen as the value
+	 * of largest norm in each column.
+	 * 
+	 * @param matAlgebra
+	 * @param numAlgebra
+	 * @param normAlgebra
+	 * @param a
+	 * @param det
+	 */
+	public static
+	
+	<BASETYPE, // the base type like Float64Member or Octonion etc.
+	BASETYPE_ALGEBRA extends RingWithUnity<BASETYPE_ALGEBRA,BASETYPE> & Invertible<BASETYPE> & Norm<BASETYPE,NORM_TYPE>,
+	NORM_TYPE,
+	NORM_ALGEBRA extends Algebra<NORM_ALGEBRA,NORM_TYPE> & Ordered<NORM_TYPE>,
+	MATRIX_MEMBER extends MatrixMember<BASETYPE>,
+	MATRIX_ALGEBRA extends Algebra<MATRIX_ALGEBRA,MATRIX_MEMBER> & Constructible2dLong<MATRIX_MEMBER>>
+		
+	void compute(MATRIX_ALGEBRA matAlgebra, BASETYPE_ALGEBRA numAlgebra, NORM_ALGEBRA normAlgebra, MATRIX_MEMBER a, BASETYPE det)
+	{
+		if (a.rows() != a.cols())
+			throw new IllegalArgumentException("determinant requires square matrix");
+		LUFactorization.compute(numAlgebra, normAlgebra, a).determinant(det);
 	}
 	
 }
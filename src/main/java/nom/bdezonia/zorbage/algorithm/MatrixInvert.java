@@ -35,10 +35,11 @@ import nom.bdezonia.zorbage.algebra.Constructible1dLong;
 import nom.bdezonia.zorbage.algebra.Constructible2dLong;
 import nom.bdezonia.zorbage.algebra.Invertible;
 import nom.bdezonia.zorbage.algebra.MatrixMember;
+import nom.bdezonia.zorbage.algebra.Norm;
+import nom.bdezonia.zorbage.algebra.Ordered;
 import nom.bdezonia.zorbage.algebra.RModule;
 import nom.bdezonia.zorbage.algebra.RModuleMember;
 import nom.bdezonia.zorbage.algebra.RingWithUnity;
-import nom.bdezonia.zorbage.type.helper.MatrixColumnRModuleBridge;
 
 /**
  * 
@@ -52,7 +53,8 @@ public class MatrixInvert {
 	private MatrixInvert() {}
 
 	/**
-	 * Invert a matrix
+	 * Invert a matrix. Pivots are chosen as the first nonzero value in
+	 * each column.
 	 * 
 	 * @param numAlgebra
 	 * @param rmodAlgebra
@@ -60,7 +62,6 @@ public class MatrixInvert {
 	 * @param a
 	 * @param b
 	 */
-	@SuppressWarnings("unchecked")
 	public static
 		<BASETYPE, // the base type like Float64Member or Octonion etc.
 		BASETYPE_ALGEBRA extends RingWithUnity<BASETYPE_ALGEBRA,BASETYPE> & Invertible<BASETYPE>,
@@ -72,31 +73,61 @@ public class MatrixInvert {
 	{
 		if (a.rows() != a.cols())
 			throw new IllegalArgumentException("can only invert square matrices");
-		if (a.rows() != b.rows() || a.cols() != b.cols())
-			b.alloc(a.rows(), a.cols());
 
-		MATRIX_MEMBER lu = matAlgebra.construct(a);
+		LUFactorization<BASETYPE_ALGEBRA,BASETYPE> lu =
+				LUFactorization.compute(numAlgebra, a);
 
-		LUDecomp.compute(numAlgebra, matAlgebra, lu);
-		
-		RMODULE_MEMBER bCol =
-				rmodAlgebra.construct(b.storageType(), b.rows());
-		MatrixColumnRModuleBridge<BASETYPE> xBridge =
-				new MatrixColumnRModuleBridge<BASETYPE>(numAlgebra, b);
+		solveIdentity(numAlgebra, lu, b);
+	}
+
+	/**
+	 * Invert a matrix. Pivots are chosen as the value of largest norm in
+	 * each column.
+	 * 
+	 * @param numAlgebra
+	 * @param normAlgebra
+	 * @param rmodAlgebra
+	 * @param matAlgebra
+	 * @param a
+	 * @param b
+	 */
+	public static
+		<BASETYPE, // the base type like Float64Member or Octonion etc.
+		BASETYPE_ALGEBRA extends RingWithUnity<BASETYPE_ALGEBRA,BASETYPE> & Invertible<BASETYPE> & Norm<BASETYPE,NORM_TYPE>,
+		NORM_TYPE,
+		NORM_ALGEBRA extends Algebra<NORM_ALGEBRA,NORM_TYPE> & Ordered<NORM_TYPE>,
+		RMODULE_MEMBER extends RModuleMember<BASETYPE>,
+		RMODULE_ALGEBRA extends RModule<RMODULE_ALGEBRA,RMODULE_MEMBER,BASETYPE_ALGEBRA,BASETYPE> & Constructible1dLong<RMODULE_MEMBER>,
+		MATRIX_MEMBER extends MatrixMember<BASETYPE>,
+		MATRIX_ALGEBRA extends Algebra<MATRIX_ALGEBRA,MATRIX_MEMBER> & Constructible2dLong<MATRIX_MEMBER>>
+	void compute(BASETYPE_ALGEBRA numAlgebra, NORM_ALGEBRA normAlgebra, RMODULE_ALGEBRA rmodAlgebra, MATRIX_ALGEBRA matAlgebra, MATRIX_MEMBER a, MATRIX_MEMBER b)
+	{
+		if (a.rows() != a.cols())
+			throw new IllegalArgumentException("can only invert square matrices");
+
+		LUFactorization<BASETYPE_ALGEBRA,BASETYPE> lu =
+				LUFactorization.compute(numAlgebra, normAlgebra, a);
+
+		solveIdentity(numAlgebra, lu, b);
+	}
+
+	// solve A B = I for all the columns of B at once
+	
+	private static
+		<BASETYPE,
+		BASETYPE_ALGEBRA extends RingWithUnity<BASETYPE_ALGEBRA,BASETYPE> & Invertible<BASETYPE>>
+	void solveIdentity(BASETYPE_ALGEBRA numAlgebra, LUFactorization<BASETYPE_ALGEBRA,BASETYPE> lu, MatrixMember<BASETYPE> b)
+	{
+		long n = lu.size();
 		BASETYPE zero = numAlgebra.construct();
 		BASETYPE one = numAlgebra.construct();
 		numAlgebra.unity().call(one);
-
-		for (long c = 0; c < b.cols(); c++) {
-			xBridge.setCol(c);
-			bCol.setV(c, one);
-			// The cast that follows is necessary because the bridge class does not
-			// implement Constructable1d. I think I can manipulate generics
-			// with a separate rmod type decl that does not require it that
-			// x can satisfy.
-			LUSolve.compute(numAlgebra, rmodAlgebra, lu, bCol, (RMODULE_MEMBER) xBridge);
-			bCol.setV(c, zero);
+		b.alloc(n, n);
+		for (long r = 0; r < n; r++) {
+			for (long c = 0; c < n; c++) {
+				b.setV(r, c, (r == c) ? one : zero);
+			}
 		}
-		
+		lu.solve(b, b);
 	}
 }
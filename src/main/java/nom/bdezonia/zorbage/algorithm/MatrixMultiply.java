@@ -36,6 +36,9 @@ import nom.bdezonia.zorbage.algebra.MatrixMember;
 import nom.bdezonia.zorbage.algebra.Multiplication;
 import nom.bdezonia.zorbage.misc.ThreadingUtils;
 import nom.bdezonia.zorbage.tuple.Tuple2;
+import nom.bdezonia.zorbage.type.complex.float64.ComplexFloat64MatrixMember;
+import nom.bdezonia.zorbage.type.real.float32.Float32MatrixMember;
+import nom.bdezonia.zorbage.type.real.float64.Float64MatrixMember;
 
 /**
  * 
@@ -48,9 +51,24 @@ public class MatrixMultiply {
 	
 	private MatrixMultiply() { }
 	
+	// The output is calculated in square tiles of this many rows and columns.
+	
+	private static final int TILE = 64;
+	
+	// The common dimension is processed in chunks of this size so the packed
+	//   pieces of a and b stay in cache.
+	
+	private static final int CHUNK = 256;
+	
 	/**
 	 * Multiply two matrices into a third using a parallel algorithm to
-	 * improve speed over single threaded approaches.
+	 * improve speed over single threaded approaches. The output is divided
+	 * into tiles that are shared among threads. Each thread packs the parts
+	 * of a and b a tile needs into contiguous scratch space before using
+	 * them. Float32, Float64, and ComplexFloat64 matrices are multiplied with
+	 * primitive arithmetic (the complex products are not scaled against
+	 * overflow as ComplexFloat64Algebra's multiply() is). Each output value
+	 * is summed in the same order as the classic triple loop.
 	 * 
 	 * @param algebra
 	 * @param a
@@ -70,35 +88,50 @@ public class MatrixMultiply {
 		long cols = b.cols();
 		c.alloc(rows, cols);
 		
+		if (rows == 0 || cols == 0)
+			return;
+		
+		long rowTiles = (rows + TILE - 1) / TILE;
+		long colTiles = (cols + TILE - 1) / TILE;
+		long numTiles = rowTiles * colTiles;
+		
 		Tuple2<Integer,Long> arrangement =
-				ThreadingUtils.arrange(rows,
+				ThreadingUtils.arrange(numTiles,
 										a.accessWithOneThread() ||
 										b.accessWithOneThread() ||
 										c.accessWithOneThread());
 		int pieces = arrangement.a();
-		long elemsPerPiece = arrangement.b();
+		long tilesPerPiece = arrangement.b();
 
+		Kernel kernel = primitiveKernel(a, b, c);
+		
+		Runnable[] runnables = new Runnable[pieces];
+		long start = 0;
+		for (int i = 0; i < pieces; i++) {
+			long endPlusOne;
+			// last piece?
+			if (i == pieces-1) {
+				endPlusOne = numTiles;
+			}
+			else {
+				endPlusOne = start + tilesPerPiece;
+			}
+			if (kernel != null)
+				runnables[i] = new PrimitiveComputer(kernel, start, endPlusOne, colTiles);
+			else
+				runnables[i] = new Computer<T,U>(algebra, start, endPlusOne, colTiles, a, b, c);
+			start = endPlusOne;
+		}
+		
 		if (pieces == 1) {
 			
-			Runnable r = new Computer<T,U>(algebra, 0, rows, a, b, c);
-			r.run();
+			runnables[0].run();
 		}
 		else {
 			
 			final Thread[] threads = new Thread[pieces];
-			long start = 0;
 			for (int i = 0; i < pieces; i++) {
-				long endPlusOne;
-				// last piece?
-				if (i == pieces-1) {
-					endPlusOne = rows;
-				}
-				else {
-					endPlusOne = start + elemsPerPiece;
-				}
-				Computer<T,U> computer = new Computer<T,U>(algebra, start, endPlusOne, a, b, c);
-				threads[i] = new Thread(computer);
-				start = endPlusOne;
+				threads[i] = new Thread(runnables[i]);
 			}
 	
 			for (int i = 0; i < threads.length; i++) {
@@ -113,6 +146,47 @@ public class MatrixMultiply {
 				}
 			}
 		}
+		
+		if (kernel != null)
+			kernel.store();
+	}
+	
+	// Returns a primitive kernel if all three matrices are of one of the
+	//   supported types and small enough to be copied into java arrays.
+	
+	private static Kernel primitiveKernel(MatrixMember<?> a, MatrixMember<?> b, MatrixMember<?> c) {
+		
+		if (a.rows() * a.cols() > Integer.MAX_VALUE / 2 ||
+				b.rows() * b.cols() > Integer.MAX_VALUE / 2 ||
+				c.rows() * c.cols() > Integer.MAX_VALUE / 2)
+		{
+			return null;
+		}
+		
+		if (a instanceof Float64MatrixMember &&
+				b instanceof Float64MatrixMember &&
+				c instanceof Float64MatrixMember)
+		{
+			return new Float64Kernel((Float64MatrixMember) a, (Float64MatrixMember) b, (Float64MatrixMember) c);
+		}
+		
+		if (a instanceof Float32MatrixMember &&
+				b instanceof Float32MatrixMember &&
+				c instanceof Float32MatrixMember)
+		{
+			return new Float32Kernel((Float32MatrixMember) a, (Float32MatrixMember) b, (Float32MatrixMember) c);
+		}
+		
+		if (a instanceof ComplexFloat64MatrixMember &&
+				b instanceof ComplexFloat64MatrixMember &&
+				c instanceof ComplexFloat64MatrixMember)
+		{
+			return new ComplexFloat64Kernel((ComplexFloat64MatrixMember) a,
+												(ComplexFloat64MatrixMember) b,
+												(ComplexFloat64MatrixMember) c);
+		}
+		
+		return null;
 	}
 	
 	private static class Computer<T extends Algebra<T,U> & Addition<U> & Multiplication<U>, U>
@@ -121,14 +195,18 @@ public class MatrixMultiply {
 		private final T algebra;
 		private final long start;
 		private final long end;
+		private final long colTiles;
 		private final MatrixMember<U> a;
 		private final MatrixMember<U> b;
 		private final MatrixMember<U> c;
 		
-		public Computer(T algebra, long start, long end, MatrixMember<U> a, MatrixMember<U> b, MatrixMember<U> c) {
+		public Computer(T algebra, long start, long end, long colTiles,
+							MatrixMember<U> a, MatrixMember<U> b, MatrixMember<U> c)
+		{
 			this.algebra = algebra;
 			this.start = start;
 			this.end = end;
+			this.colTiles = colTiles;
 			this.a = a;
 			this.b = b;
 			this.c = c;
@@ -136,24 +214,278 @@ public class MatrixMultiply {
 		
 		@Override
 		public void run() {
-			U sum = algebra.construct();
-			U atmp = algebra.construct();
-			U btmp = algebra.construct();
-			U term = algebra.construct();
+			long rows = a.rows();
 			long cols = b.cols();
 			long common = a.cols();
-			for (long row = start; row < end; row++) {
-				for (long col = 0; col < cols; col++) {
-					algebra.zero().call(sum);
-					for (long i = 0; i < common; i++) {
-						a.getV(row, i, atmp);
-						b.getV(i, col, btmp);
-						algebra.multiply().call(atmp, btmp, term);
-						algebra.add().call(sum, term, sum);
+			
+			// per thread scratch: packed pieces of a and b and the tile's sums.
+			//   small matrices only get as much as they need.
+			
+			int tileRows = (int) Math.min(TILE, rows);
+			int tileCols = (int) Math.min(TILE, cols);
+			int chunk = (int) Math.max(1, Math.min(CHUNK, common));
+			
+			@SuppressWarnings("unchecked")
+			U[] aPack = (U[]) new Object[tileRows * chunk];
+			@SuppressWarnings("unchecked")
+			U[] bPack = (U[]) new Object[chunk * tileCols];
+			@SuppressWarnings("unchecked")
+			U[] sums = (U[]) new Object[tileRows * tileCols];
+			for (int i = 0; i < aPack.length; i++) {
+				aPack[i] = algebra.construct();
+			}
+			for (int i = 0; i < bPack.length; i++) {
+				bPack[i] = algebra.construct();
+			}
+			for (int i = 0; i < sums.length; i++) {
+				sums[i] = algebra.construct();
+			}
+			U term = algebra.construct();
+
+			for (long tile = start; tile < end; tile++) {
+				long row0 = (tile / colTiles) * TILE;
+				long col0 = (tile % colTiles) * TILE;
+				int numRows = (int) Math.min(TILE, rows - row0);
+				int numCols = (int) Math.min(TILE, cols - col0);
+				
+				for (int r = 0; r < numRows; r++) {
+					for (int col = 0; col < numCols; col++) {
+						algebra.zero().call(sums[r * tileCols + col]);
 					}
-					c.setV(row, col, sum);
 				}
+				
+				for (long k0 = 0; k0 < common; k0 += chunk) {
+					int len = (int) Math.min(chunk, common - k0);
+					for (int r = 0; r < numRows; r++) {
+						for (int k = 0; k < len; k++) {
+							a.getV(row0 + r, k0 + k, aPack[r * chunk + k]);
+						}
+					}
+					for (int k = 0; k < len; k++) {
+						for (int col = 0; col < numCols; col++) {
+							b.getV(k0 + k, col0 + col, bPack[k * tileCols + col]);
+						}
+					}
+					for (int r = 0; r < numRows; r++) {
+						for (int col = 0; col < numCols; col++) {
+							U sum = sums[r * tileCols + col];
+							for (int k = 0; k < len; k++) {
+								algebra.multiply().call(aPack[r * chunk + k], bPack[k * tileCols + col], term);
+								algebra.add().call(sum, term, sum);
+							}
+						}
+					}
+				}
+				
+				for (int r = 0; r < numRows; r++) {
+					for (int col = 0; col < numCols; col++) {
+						c.setV(row0 + r, col0 + col, sums[r * tileCols + col]);
+					}
+				}
+			}
+		}
+	}
+
+	private static class PrimitiveComputer implements Runnable {
+		
+		private final Kernel kernel;
+		private final long start;
+		private final long end;
+		private final long colTiles;
+		
+		PrimitiveComputer(Kernel kernel, long start, long end, long colTiles) {
+			this.kernel = kernel;
+			this.start = start;
+			this.end = end;
+			this.colTiles = colTiles;
+		}
+		
+		@Override
+		public void run() {
+			Object scratch = kernel.scratch();
+			for (long tile = start; tile < end; tile++) {
+				int row0 = (int) ((tile / colTiles) * TILE);
+				int col0 = (int) ((tile % colTiles) * TILE);
+				kernel.tile(row0, col0, scratch);
 			}
 		}
 	}
+	
+	// A kernel copies its inputs into primitive arrays, calculates tiles of the
+	//   output into a primitive array, and finally stores it in the output matrix.
+	
+	private static abstract class Kernel {
+		
+		final int rows;
+		final int cols;
+		final int common;
+		
+		Kernel(long rows, long cols, long common) {
+			this.rows = (int) rows;
+			this.cols = (int) cols;
+			this.common = (int) common;
+		}
+		
+		abstract Object scratch();
+		
+		abstract void tile(int row0, int col0, Object scratch);
+		
+		abstract void store();
+	}
+	
+	private static class Float64Kernel extends Kernel {
+		
+		private final double[] a;
+		private final double[] b;
+		private final double[] c;
+		private final Float64MatrixMember result;
+		
+		Float64Kernel(Float64MatrixMember a, Float64MatrixMember b, Float64MatrixMember c) {
+			super(a.rows(), b.cols(), a.cols());
+			this.a = a.getAsDoubleArray();
+			this.b = b.getAsDoubleArray();
+			this.c = new double[rows * cols];
+			this.result = c;
+		}
+		
+		@Override
+		Object scratch() {
+			return new double[Math.min(CHUNK, common) * Math.min(TILE, cols)];
+		}
+
+		@Override
+		void tile(int row0, int col0, Object scratch) {
+			double[] bPack = (double[]) scratch;
+			int numRows = Math.min(TILE, rows - row0);
+			int numCols = Math.min(TILE, cols - col0);
+			for (int k0 = 0; k0 < common; k0 += CHUNK) {
+				int len = Math.min(CHUNK, common - k0);
+				for (int k = 0; k < len; k++) {
+					System.arraycopy(b, (k0 + k) * cols + col0, bPack, k * numCols, numCols);
+				}
+				for (int r = 0; r < numRows; r++) {
+					int aRow = (row0 + r) * common + k0;
+					int cRow = (row0 + r) * cols + col0;
+					for (int k = 0; k < len; k++) {
+						double aVal = a[aRow + k];
+						int bRow = k * numCols;
+						for (int col = 0; col < numCols; col++) {
+							c[cRow + col] += aVal * bPack[bRow + col];
+						}
+					}
+				}
+			}
+		}
+
+		@Override
+		void store() {
+			result.setFromDoubles(c);
+		}
+	}
+	
+	private static class Float32Kernel extends Kernel {
+		
+		private final float[] a;
+		private final float[] b;
+		private final float[] c;
+		private final Float32MatrixMember result;
+		
+		Float32Kernel(Float32MatrixMember a, Float32MatrixMember b, Float32MatrixMember c) {
+			super(a.rows(), b.cols(), a.cols());
+			this.a = a.getAsFloatArray();
+			this.b = b.getAsFloatArray();
+			this.c = new float[rows * cols];
+			this.result = c;
+		}
+		
+		@Override
+		Object scratch() {
+			return new float[Math.min(CHUNK, common) * Math.min(TILE, cols)];
+		}
+
+		@Override
+		void tile(int row0, int col0, Object scratch) {
+			float[] bPack = (float[]) scratch;
+			int numRows = Math.min(TILE, rows - row0);
+			int numCols = Math.min(TILE, cols - col0);
+			for (int k0 = 0; k0 < common; k0 += CHUNK) {
+				int len = Math.min(CHUNK, common - k0);
+				for (int k = 0; k < len; k++) {
+					System.arraycopy(b, (k0 + k) * cols + col0, bPack, k * numCols, numCols);
+				}
+				for (int r = 0; r < numRows; r++) {
+					int aRow = (row0 + r) * common + k0;
+					int cRow = (row0 + r) * cols + col0;
+					for (int k = 0; k < len; k++) {
+						float aVal = a[aRow + k];
+						int bRow = k * numCols;
+						for (int col = 0; col < numCols; col++) {
+							c[cRow + col] += aVal * bPack[bRow + col];
+						}
+					}
+				}
+			}
+		}
+
+		@Override
+		void store() {
+			result.setFromFloats(c);
+		}
+	}
+	
+	// complex values are stored as interleaved (real, imaginary) pairs
+	
+	private static class ComplexFloat64Kernel extends Kernel {
+		
+		private final double[] a;
+		private final double[] b;
+		private final double[] c;
+		private final ComplexFloat64MatrixMember result;
+		
+		ComplexFloat64Kernel(ComplexFloat64MatrixMember a, ComplexFloat64MatrixMember b, ComplexFloat64MatrixMember c) {
+			super(a.rows(), b.cols(), a.cols());
+			this.a = a.getAsDoubleArray();
+			this.b = b.getAsDoubleArray();
+			this.c = new double[2 * rows * cols];
+			this.result = c;
+		}
+		
+		@Override
+		Object scratch() {
+			return new double[2 * Math.min(CHUNK, common) * Math.min(TILE, cols)];
+		}
+
+		@Override
+		void tile(int row0, int col0, Object scratch) {
+			double[] bPack = (double[]) scratch;
+			int numRows = Math.min(TILE, rows - row0);
+			int numCols = Math.min(TILE, cols - col0);
+			for (int k0 = 0; k0 < common; k0 += CHUNK) {
+				int len = Math.min(CHUNK, common - k0);
+				for (int k = 0; k < len; k++) {
+					System.arraycopy(b, 2 * ((k0 + k) * cols + col0), bPack, 2 * k * numCols, 2 * numCols);
+				}
+				for (int r = 0; r < numRows; r++) {
+					int aRow = 2 * ((row0 + r) * common + k0);
+					int cRow = 2 * ((row0 + r) * cols + col0);
+					for (int k = 0; k < len; k++) {
+						double ar = a[aRow + 2 * k];
+						double ai = a[aRow + 2 * k + 1];
+						int bRow = 2 * k * numCols;
+						for (int col = 0; col < numCols; col++) {
+							double br = bPack[bRow + 2 * col];
+							double bi = bPack[bRow + 2 * col + 1];
+							c[cRow + 2 * col] += (ar * br) - (ai * bi);
+							c[cRow + 2 * col + 1] += (ai * br) + (ar * bi);
+						}
+					}
+				}
+			}
+		}
+
+		@Override
+		void store() {
+			result.setFromDoubles(c);
+		}
+	}
 }
@@ -0,0 +1,512 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.algorithm;
+
+import java.util.Arrays;
+
+import nom.bdezonia.zorbage.misc.ThreadingUtils;
+import nom.bdezonia.zorbage.tuple.Tuple2;
+
+/**
+ * Solves systems of ODEs with the embedded Runge Kutta method of Dormand and Prince
+ * (order 5 with an order 4 error estimate). The step size adapts so the estimated
+ * local error of every component stays within absTol + relTol * |y|. Between steps
+ * values are available from a fifth order accurate dense output. States are double
+ * arrays and no memory is allocated while stepping.
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class OdeSolveDormandPrince {
+
+	// do not instantiate
+	
+	private OdeSolveDormandPrince() { }
+
+	/**
+	 * The right hand side of a system y' = f(t, y).
+	 */
+	public interface Derivative {
+		
+		/**
+		 * Calculate f(t, y) and place it in dydt. dydt and y are never the same array.
+		 */
+		void call(double t, double[] y, double[] dydt);
+	}
+	
+	/**
+	 * The default limit on the number of steps one solve can take.
+	 */
+	public static final long MAX_STEPS = 1000000;
+	
+	/**
+	 * Integrate a system from t0 to t1.
+	 * 
+	 * @param f The system
+	 * @param t0 The starting time
+	 * @param y0 The state at t0
+	 * @param t1 The ending time. It can be less than t0.
+	 * @param relTol The relative error tolerance
+	 * @param absTol The absolute error tolerance
+	 * @return A Solution that records every step and can interpolate between them
+	 */
+	public static Solution compute(Derivative f, double t0, double[] y0, double t1, double relTol, double absTol)
+	{
+		checkTolerances(relTol, absTol);
+		if (!(t1 != t0))
+			throw new IllegalArgumentException("start and end times must differ");
+		
+		Stepper stepper = new Stepper(f, y0.length, relTol, absTol);
+		stepper.start(t0, y0, t1);
+		
+		Solution solution = new Solution(y0.length, t0, y0);
+		long steps = 0;
+		while (stepper.t != t1) {
+			if (++steps > MAX_STEPS)
+				throw new IllegalArgumentException("ode solver took too many steps");
+			stepper.step(t1);
+			solution.add(stepper);
+		}
+		return solution;
+	}
+	
+	/**
+	 * Integrate many initial conditions of one system in parallel. Each thread reuses
+	 * its scratch space for all the systems it solves. The system function is called
+	 * from multiple threads at once and must be thread safe.
+	 * 
+	 * @param f The system
+	 * @param t0 The starting time
+	 * @param y0s The initial conditions: one state per system
+	 * @param times The times to record states at. They must all lie on the same side
+	 *   of t0 and be ordered away from it.
+	 * @param relTol The relative error tolerance
+	 * @param absTol The absolute error tolerance
+	 * @param results Where the states are recorded: results[system][time][component]
+	 */
+	public static void compute(Derivative f, double t0, double[][] y0s, double[] times,
+								double relTol, double absTol, double[][][] results)
+	{
+		checkTolerances(relTol, absTol);
+		if (y0s.length == 0 || times.length == 0)
+			throw new IllegalArgumentException("no systems or no times given");
+		if (results.length != y0s.length)
+			throw new IllegalArgumentException("results do not match number of systems");
+		int n = y0s[0].length;
+		for (int s = 0; s < y0s.length; s++) {
+			if (y0s[s].length != n)
+				throw new IllegalArgumentException("initial conditions must all have the same size");
+			if (results[s].length != times.length)
+				throw new IllegalArgumentException("results do not match number of times");
+			for (int i = 0; i < times.length; i++) {
+				if (results[s][i].length != n)
+					throw new IllegalArgumentException("result states do not match system size");
+			}
+		}
+		double direction = Math.signum(times[times.length-1] - t0);
+		for (int i = 0; i < times.length; i++) {
+			double prev = (i == 0) ? t0 : times[i-1];
+			if ((times[i] - prev) * direction < 0)
+				throw new IllegalArgumentException("times must be ordered away from t0");
+		}
+		
+		Tuple2<Integer,Long> arrangement = ThreadingUtils.arrange(y0s.length, false);
+		int pieces = arrangement.a();
+		int perPiece = (int) (long) arrangement.b();
+		
+		if (pieces == 1) {
+			Runnable r = new Batch(f, t0, y0s, times, relTol, absTol, results, 0, y0s.length);
+			r.run();
+		}
+		else {
+			
+			final Thread[] threads = new Thread[pieces];
+			int start = 0;
+			for (int i = 0; i < pieces; i++) {
+				int end = (i == pieces-1) ? y0s.length : start + perPiece;
+				threads[i] = new Thread(new Batch(f, t0, y0s, times, relTol, absTol, results, start, end));
+				start = end;
+			}
+			
+			for (int i = 0; i < threads.length; i++) {
+				threads[i].start();
+			}
+			
+			for (int i = 0; i < threads.length; i++) {
+				try {
+					threads[i].join();
+				} catch(InterruptedException e) {
+					throw new IllegalArgumentException("Thread execution error in OdeSolveDormandPrince");
+				}
+			}
+		}
+	}
+	
+	private static void checkTolerances(double relTol, double absTol) {
+		if (!(relTol >= 0) || !(absTol >= 0) || relTol + absTol == 0)
+			throw new IllegalArgumentException("tolerances must be >= 0 and not both 0");
+	}
+	
+	/**
+	 * The steps taken by a solve. Each step stores its dense output coefficients
+	 * so the solution can be evaluated at any time between t0 and t1.
+	 */
+	public static class Solution {
+		
+		private final int n;
+		private double[] times;
+		private double[] states;
+		private double[] dense;
+		private int count;
+		
+		Solution(int n, double t0, double[] y0) {
+			this.n = n;
+			this.times = new double[16];
+			this.states = new double[16 * n];
+			this.dense = new double[16 * 5 * n];
+			this.times[0] = t0;
+			System.arraycopy(y0, 0, states, 0, n);
+			this.count = 1;
+		}
+		
+		void add(Stepper stepper) {
+			if (count == times.length) {
+				int size = times.length * 2;
+				times = Arrays.copyOf(times, size);
+				states = Arrays.copyOf(states, size * n);
+				dense = Arrays.copyOf(dense, size * 5 * n);
+			}
+			times[count] = stepper.t;
+			System.arraycopy(stepper.y, 0, states, count * n, n);
+			System.arraycopy(stepper.rcont, 0, dense, (count-1) * 5 * n, 5 * n);
+			count++;
+		}
+		
+		/**
+		 * The number of recorded points including the initial one.
+		 */
+		public int numPoints() {
+			return count;
+		}
+		
+		/**
+		 * The time of a recorded point.
+		 */
+		public double time(int i) {
+			if (i < 0 || i >= count)
+				throw new IllegalArgumentException("point index out of bounds");
+			return times[i];
+		}
+		
+		/**
+		 * The state of a recorded point.
+		 */
+		public void state(int i, double[] y) {
+			if (i < 0 || i >= count)
+				throw new IllegalArgumentException("point index out of bounds");
+			System.arraycopy(states, i * n, y, 0, n);
+		}
+		
+		/**
+		 * Evaluate the dense output at a time between the first and last recorded times.
+		 */
+		public void interpolate(double t, double[] y) {
+			double t0 = times[0];
+			double t1 = times[count-1];
+			if ((t - t0) * (t1 - t0) < 0 || Math.abs(t - t0) > Math.abs(t1 - t0))
+				throw new IllegalArgumentException("time is outside the solved interval");
+			
+			// binary search for the step containing t
+			
+			boolean forward = t1 > t0;
+			int lo = 0, hi = count-1;
+			while (hi - lo > 1) {
+				int mid = (lo + hi) >>> 1;
+				if ((times[mid] <= t) == forward)
+					lo = mid;
+				else
+					hi = mid;
+			}
+			double h = times[lo+1] - times[lo];
+			evaluate(dense, lo * 5 * n, n, (t - times[lo]) / h, y);
+		}
+	}
+	
+	// y = r1 + s (r2 + (1-s) (r3 + s (r4 + (1-s) r5)))
+	
+	private static void evaluate(double[] rcont, int offset, int n, double theta, double[] y) {
+		double theta1 = 1 - theta;
+		for (int i = 0; i < n; i++) {
+			int k = offset + i;
+			y[i] = rcont[k] + theta * (rcont[k + n] +
+					theta1 * (rcont[k + 2*n] + theta * (rcont[k + 3*n] + theta1 * rcont[k + 4*n])));
+		}
+	}
+	
+	// solves a range of systems and samples them at the requested times
+	
+	private static class Batch implements Runnable {
+		
+		private final Derivative f;
+		private final double t0;
+		private final double[][] y0s;
+		private final double[] times;
+		private final double relTol;
+		private final double absTol;
+		private final double[][][] results;
+		private final int start;
+		private final int end;
+		
+		Batch(Derivative f, double t0, double[][] y0s, double[] times, double relTol, double absTol,
+				double[][][] results, int start, int end)
+		{
+			this.f = f;
+			this.t0 = t0;
+			this.y0s = y0s;
+			this.times = times;
+			this.relTol = relTol;
+			this.absTol = absTol;
+			this.results = results;
+			this.start = start;
+			this.end = end;
+		}
+		
+		@Override
+		public void run() {
+			int n = y0s[0].length;
+			double tEnd = times[times.length-1];
+			Stepper stepper = new Stepper(f, n, relTol, absTol);
+			for (int s = start; s < end; s++) {
+				int next = 0;
+				if (tEnd == t0) {
+					for (int i = 0; i < times.length; i++) {
+						System.arraycopy(y0s[s], 0, results[s][i], 0, n);
+					}
+					continue;
+				}
+				stepper.start(t0, y0s[s], tEnd);
+				while (next < times.length && times[next] == t0) {
+					System.arraycopy(y0s[s], 0, results[s][next++], 0, n);
+				}
+				long steps = 0;
+				while (next < times.length) {
+					if (++steps > MAX_STEPS)
+						throw new IllegalArgumentException("ode solver took too many steps");
+					double told = stepper.t;
+					stepper.step(tEnd);
+					double h = stepper.t - told;
+					while (next < times.length && (stepper.t - times[next]) * h >= 0) {
+						if (times[next] == stepper.t)
+							System.arraycopy(stepper.y, 0, results[s][next], 0, n);
+						else
+							evaluate(stepper.rcont, 0, n, (times[next] - told) / h, results[s][next]);
+						next++;
+					}
+				}
+			}
+		}
+	}
+	
+	// the Dormand Prince 5(4) stepper with the step size control and
+	//   dense output of Hairer, Norsett, and Wanner's DOPRI5
+	
+	private static class Stepper {
+		
+		private static final double
+			c2 = 1.0/5, c3 = 3.0/10, c4 = 4.0/5, c5 = 8.0/9,
+			a21 = 1.0/5,
+			a31 = 3.0/40, a32 = 9.0/40,
+			a41 = 44.0/45, a42 = -56.0/15, a43 = 32.0/9,
+			a51 = 19372.0/6561, a52 = -25360.0/2187, a53 = 64448.0/6561, a54 = -212.0/729,
+			a61 = 9017.0/3168, a62 = -355.0/33, a63 = 46732.0/5247, a64 = 49.0/176, a65 = -5103.0/18656,
+			a71 = 35.0/384, a73 = 500.0/1113, a74 = 125.0/192, a75 = -2187.0/6784, a76 = 11.0/84,
+			e1 = 71.0/57600, e3 = -71.0/16695, e4 = 71.0/1920, e5 = -17253.0/339200, e6 = 22.0/525, e7 = -1.0/40,
+			d1 = -12715105075.0/11282082432.0, d3 = 87487479700.0/32700410799.0,
+			d4 = -10690763975.0/1880347072.0, d5 = 701980252875.0/199316789632.0,
+			d6 = -1453857185.0/822651844.0, d7 = 69997945.0/29380423.0;
+		
+		private static final double SAFETY = 0.9;
+		private static final double BETA = 0.04;
+		private static final double EXPO = 0.2 - BETA * 0.75;
+		private static final double MIN_SHRINK = 0.2;
+		private static final double MAX_GROW = 10;
+		
+		private final Derivative f;
+		private final int n;
+		private final double relTol;
+		private final double absTol;
+		
+		final double[] y;
+		final double[] rcont;
+		private final double[] k1, k2, k3, k4, k5, k6, k7, ynew, ystage;
+		
+		double t;
+		private double h;
+		private double facOld;
+		
+		Stepper(Derivative f, int n, double relTol, double absTol) {
+			this.f = f;
+			this.n = n;
+			this.relTol = relTol;
+			this.absTol = absTol;
+			this.y = new double[n];
+			this.rcont = new double[5 * n];
+			this.k1 = new double[n];
+			this.k2 = new double[n];
+			this.k3 = new double[n];
+			this.k4 = new double[n];
+			this.k5 = new double[n];
+			this.k6 = new double[n];
+			this.k7 = new double[n];
+			this.ynew = new double[n];
+			this.ystage = new double[n];
+		}
+		
+		void start(double t0, double[] y0, double tEnd) {
+			if (y0.length != n)
+				throw new IllegalArgumentException("initial state does not match system size");
+			t = t0;
+			System.arraycopy(y0, 0, y, 0, n);
+			f.call(t, y, k1);
+			facOld = 1e-4;
+			h = initialStep(tEnd);
+		}
+		
+		// the starting step guess of Hairer, Norsett, and Wanner
+		
+		private double initialStep(double tEnd) {
+			double direction = Math.signum(tEnd - t);
+			double dnf = 0, dny = 0;
+			for (int i = 0; i < n; i++) {
+				double sk = absTol + relTol * Math.abs(y[i]);
+				dnf += (k1[i] / sk) * (k1[i] / sk);
+				dny += (y[i] / sk) * (y[i] / sk);
+			}
+			double h0;
+			if (dnf <= 1e-10 || dny <= 1e-10)
+				h0 = 1e-6;
+			else
+				h0 = Math.sqrt(dny / dnf) * 0.01;
+			h0 = Math.min(h0, Math.abs(tEnd - t));
+			for (int i = 0; i < n; i++) {
+				ystage[i] = y[i] + direction * h0 * k1[i];
+			}
+			f.call(t + direction * h0, ystage, k2);
+			double der2 = 0;
+			for (int i = 0; i < n; i++) {
+				double sk = absTol + relTol * Math.abs(y[i]);
+				der2 += ((k2[i] - k1[i]) / sk) * ((k2[i] - k1[i]) / sk);
+			}
+			der2 = Math.sqrt(der2) / h0;
+			double der12 = Math.max(Math.abs(der2), Math.sqrt(dnf));
+			double h1;
+			if (der12 <= 1e-15)
+				h1 = Math.max(1e-6, Math.abs(h0) * 1e-3);
+			else
+				h1 = Math.pow(0.01 / der12, 0.2);
+			return direction * Math.min(Math.min(100 * Math.abs(h0), h1), Math.abs(tEnd - t));
+		}
+		
+		// take one accepted step toward tEnd without passing it
+		
+		void step(double tEnd) {
+			
+			while (true) {
+				
+				if ((t + h - tEnd) * h > 0)
+					h = tEnd - t;
+				if (Math.abs(h) <= 10 * Math.ulp(t))
+					throw new IllegalArgumentException("ode step size underflow");
+				
+				for (int i = 0; i < n; i++)
+					ystage[i] = y[i] + h * a21 * k1[i];
+				f.call(t + c2 * h, ystage, k2);
+				for (int i = 0; i < n; i++)
+					ystage[i] = y[i] + h * (a31 * k1[i] + a32 * k2[i]);
+				f.call(t + c3 * h, ystage, k3);
+				for (int i = 0; i < n; i++)
+					ystage[i] = y[i] + h * (a41 * k1[i] + a42 * k2[i] + a43 * k3[i]);
+				f.call(t + c4 * h, ystage, k4);
+				for (int i = 0; i < n; i++)
+					ystage[i] = y[i] + h * (a51 * k1[i] + a52 * k2[i] + a53 * k3[i] + a54 * k4[i]);
+				f.call(t + c5 * h, ystage, k5);
+				for (int i = 0; i < n; i++)
+					ystage[i] = y[i] + h * (a61 * k1[i] + a62 * k2[i] + a63 * k3[i] + a64 * k4[i] + a65 * k5[i]);
+				double tnew = (h == tEnd - t) ? tEnd : t + h;
+				f.call(tnew, ystage, k6);
+				for (int i = 0; i < n; i++)
+					ynew[i] = y[i] + h * (a71 * k1[i] + a73 * k3[i] + a74 * k4[i] + a75 * k5[i] + a76 * k6[i]);
+				f.call(tnew, ynew, k7);
+				
+				// estimate the error
+				
+				double err = 0;
+				for (int i = 0; i < n; i++) {
+					double sk = absTol + relTol * Math.max(Math.abs(y[i]), Math.abs(ynew[i]));
+					double e = h * (e1 * k1[i] + e3 * k3[i] + e4 * k4[i] + e5 * k5[i] + e6 * k6[i] + e7 * k7[i]);
+					err += (e / sk) * (e / sk);
+				}
+				err = Math.sqrt(err / n);
+				if (Double.isNaN(err))
+					throw new IllegalArgumentException("ode solution is not finite");
+				
+				// choose the next step size
+				
+				double fac11 = Math.pow(err, EXPO);
+				double fac = fac11 / Math.pow(facOld, BETA);
+				fac = Math.max(1 / MAX_GROW, Math.min(1 / MIN_SHRINK, fac / SAFETY));
+				
+				if (err <= 1) {
+					
+					facOld = Math.max(err, 1e-4);
+					
+					for (int i = 0; i < n; i++) {
+						double ydiff = ynew[i] - y[i];
+						double bspl = h * k1[i] - ydiff;
+						rcont[i] = y[i];
+						rcont[n + i] = ydiff;
+						rcont[2*n + i] = bspl;
+						rcont[3*n + i] = ydiff - h * k7[i] - bspl;
+						rcont[4*n + i] = h * (d1 * k1[i] + d3 * k3[i] + d4 * k4[i] + d5 * k5[i] + d6 * k6[i] + d7 * k7[i]);
+					}
+					
+					System.arraycopy(ynew, 0, y, 0, n);
+					System.arraycopy(k7, 0, k1, 0, n);
+					t = tnew;
+					h = h / fac;
+					return;
+				}
+				
+				h = h / Math.min(1 / MIN_SHRINK, fac11 / SAFETY);
+			}
+		}
+	}
+}
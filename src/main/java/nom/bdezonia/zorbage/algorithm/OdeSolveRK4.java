@@ -52,6 +52,7 @@ public class OdeSolveRK4 {
 	
 	/**
 	 * Solves ODEs (1-d or n-d) using a classic fourth order Runge Kutta algorithm.
+	 * For adaptive step sizes see {@link OdeSolveDormandPrince}.
 	 * 
 	 * @param uAlg
 	 * @param wAlg
@@ -34,6 +34,7 @@ import nom.bdezonia.zorbage.algebra.Addition;
 import nom.bdezonia.zorbage.algebra.Algebra;
 import nom.bdezonia.zorbage.algebra.Allocatable;
 import nom.bdezonia.zorbage.algebra.Conjugate;
+import nom.bdezonia.zorbage.algebra.G;
 import nom.bdezonia.zorbage.algebra.Invertible;
 import nom.bdezonia.zorbage.algebra.Multiplication;
 import nom.bdezonia.zorbage.algebra.RealConstants;
@@ -41,7 +42,11 @@ import nom.bdezonia.zorbage.algebra.ScaleByHighPrec;
 import nom.bdezonia.zorbage.algebra.SetComplex;
 import nom.bdezonia.zorbage.algebra.Trigonometric;
 import nom.bdezonia.zorbage.algebra.Unity;
+import nom.bdezonia.zorbage.algorithm.fft.FFTPlanCache;
+import nom.bdezonia.zorbage.algorithm.fft.RealFFTPlan;
 import nom.bdezonia.zorbage.datasource.IndexedDataSource;
+import nom.bdezonia.zorbage.storage.Storage;
+import nom.bdezonia.zorbage.type.real.highprec.HighPrecisionMember;
 
 /**
  * 
@@ -80,4 +85,70 @@ public class PowerSpectrum {
 		FFT.compute(complexAlg, realAlg, autocorrelation, b);
 	}
 
+	/**
+	 * Calculate the power spectrum of a list of real numbers. The results equal
+	 * those of compute() when given the same data as complex numbers. Rather
+	 * than an O(n^2) autocorrelation this uses a real input FFT: for real data
+	 * the transform of the autocorrelation can be built directly from the half
+	 * spectrum X as exp(2*pi*i*k/n) * conj(X[k])^2 / sqrt(n).
+	 * 
+	 * @param <CA>
+	 * @param <C>
+	 * @param <RA>
+	 * @param <R>
+	 * @param complexAlg
+	 * @param realAlg
+	 * @param a Source list of real data
+	 * @param b Destination list of complex data. Must be the same length as a.
+	 */
+	public static <CA extends Algebra<CA,C> & Addition<C> & Multiplication<C> &
+								Conjugate<C> & ScaleByHighPrec<C>,
+					C extends SetComplex<R> & Allocatable<C>,
+					RA extends Algebra<RA,R> & Trigonometric<R> & RealConstants<R> &
+								Multiplication<R> & Addition<R> & Invertible<R> &
+								Unity<R>,
+					R>
+		void computeFromReals(CA complexAlg, RA realAlg, IndexedDataSource<R> a, IndexedDataSource<C> b)
+	{
+		long n = a.size();
+		
+		if (n == 0)
+			throw new IllegalArgumentException("input size must be positive");
+		
+		if (b.size() != n)
+			throw new IllegalArgumentException("output size does not match input size");
+		
+		RealFFTPlan<C> plan = FFTPlanCache.realPlan(complexAlg, realAlg, n);
+		
+		C value = complexAlg.construct();
+		C w = complexAlg.construct();
+		
+		IndexedDataSource<C> spectrum = Storage.allocate(value, plan.spectrumSize());
+		
+		RealFFT.compute(complexAlg, realAlg, plan, a, spectrum);
+		
+		HighPrecisionMember scale = G.HP.construct(n);
+		G.HP.sqrt().call(scale, scale);
+		G.HP.invert().call(scale, scale);
+
+		for (long k = 0; k < n; k++) {
+			
+			// conj(X[k]) and exp(2*pi*i*k/n) from the stored half of the spectrum
+			
+			if (k <= n / 2) {
+				spectrum.get(k, value);
+				complexAlg.conjugate().call(value, value);
+				plan.twiddle(k, w);
+				complexAlg.conjugate().call(w, w);
+			}
+			else {
+				spectrum.get(n - k, value);
+				plan.twiddle(n - k, w);
+			}
+			complexAlg.multiply().call(value, value, value);
+			complexAlg.multiply().call(w, value, value);
+			complexAlg.scaleByHighPrec().call(scale, value, value);
+			b.set(k, value);
+		}
+	}
 }
@@ -0,0 +1,631 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.algorithm;
+
+import java.util.Arrays;
+
+import nom.bdezonia.zorbage.algebra.G;
+import nom.bdezonia.zorbage.datasource.IndexedDataSource;
+import nom.bdezonia.zorbage.storage.array.ArrayStorageFloat32;
+import nom.bdezonia.zorbage.storage.array.ArrayStorageFloat64;
+import nom.bdezonia.zorbage.storage.array.ArrayStorageSignedInt16;
+import nom.bdezonia.zorbage.storage.array.ArrayStorageSignedInt32;
+import nom.bdezonia.zorbage.storage.array.ArrayStorageSignedInt8;
+import nom.bdezonia.zorbage.type.integer.int16.SignedInt16Member;
+import nom.bdezonia.zorbage.type.integer.int32.SignedInt32Member;
+import nom.bdezonia.zorbage.type.integer.int8.SignedInt8Member;
+import nom.bdezonia.zorbage.type.real.float32.Float32Member;
+import nom.bdezonia.zorbage.type.real.float64.Float64Member;
+
+/**
+ * Primitive loops for the common algorithms. They are used when every list
+ * involved is a plain array storage of one of G.DBL, G.FLT, G.INT32, G.INT16
+ * or G.INT8 (one value per array slot). Each kernel does exactly what the
+ * algebra's own procedure does to each value so results are identical to the
+ * generic code paths. Every method returns false when it does not apply and
+ * the caller then runs its generic code.
+ * 
+ * @author Barry DeZonia
+ *
+ */
+class PrimitiveArrays {
+
+	// do not instantiate
+	
+	private PrimitiveArrays() { }
+
+	/**
+	 * Returns the primitive array backing a list or null if the list and
+	 * algebra are not a pair that this class knows how to handle.
+	 */
+	static Object array(Object algebra, IndexedDataSource<?> list) {
+		if (algebra == G.DBL && list instanceof ArrayStorageFloat64) {
+			double[] data = ((ArrayStorageFloat64<?>) list).rawData();
+			return (data.length == list.size()) ? data : null;
+		}
+		if (algebra == G.FLT && list instanceof ArrayStorageFloat32) {
+			float[] data = ((ArrayStorageFloat32<?>) list).rawData();
+			return (data.length == list.size()) ? data : null;
+		}
+		if (algebra == G.INT32 && list instanceof ArrayStorageSignedInt32) {
+			int[] data = ((ArrayStorageSignedInt32<?>) list).rawData();
+			return (data.length == list.size()) ? data : null;
+		}
+		if (algebra == G.INT16 && list instanceof ArrayStorageSignedInt16) {
+			short[] data = ((ArrayStorageSignedInt16<?>) list).rawData();
+			return (data.length == list.size()) ? data : null;
+		}
+		if (algebra == G.INT8 && list instanceof ArrayStorageSignedInt8) {
+			byte[] data = ((ArrayStorageSignedInt8<?>) list).rawData();
+			return (data.length == list.size()) ? data : null;
+		}
+		return null;
+	}
+
+	static boolean fill(Object algebra, Object value, IndexedDataSource<?> list) {
+		Object x = array(algebra, list);
+		if (x instanceof double[])
+			Arrays.fill((double[]) x, ((Float64Member) value).v());
+		else if (x instanceof float[])
+			Arrays.fill((float[]) x, ((Float32Member) value).v());
+		else if (x instanceof int[])
+			Arrays.fill((int[]) x, ((SignedInt32Member) value).v());
+		else if (x instanceof short[])
+			Arrays.fill((short[]) x, ((SignedInt16Member) value).v());
+		else if (x instanceof byte[])
+			Arrays.fill((byte[]) x, ((SignedInt8Member) value).v());
+		else
+			return false;
+		return true;
+	}
+
+	static boolean sum(Object algebra, IndexedDataSource<?> list, Object result) {
+		Object x = array(algebra, list);
+		if (x instanceof double[]) {
+			double[] in = (double[]) x;
+			double sum = 0;
+			for (int i = 0; i < in.length; i++)
+				sum = sum + in[i];
+			((Float64Member) result).setV(sum);
+		}
+		else if (x instanceof float[]) {
+			float[] in = (float[]) x;
+			float sum = 0;
+			for (int i = 0; i < in.length; i++)
+				sum = sum + in[i];
+			((Float32Member) result).setV(sum);
+		}
+		else if (x instanceof int[]) {
+			int[] in = (int[]) x;
+			int sum = 0;
+			for (int i = 0; i < in.length; i++)
+				sum = sum + in[i];
+			((SignedInt32Member) result).setV(sum);
+		}
+		else if (x instanceof short[]) {
+			// wrapping an int sum to 16 bits at the end matches wrapping every add
+			short[] in = (short[]) x;
+			int sum = 0;
+			for (int i = 0; i < in.length; i++)
+				sum = sum + in[i];
+			((SignedInt16Member) result).setV(sum);
+		}
+		else if (x instanceof byte[]) {
+			// wrapping an int sum to 8 bits at the end matches wrapping every add
+			byte[] in = (byte[]) x;
+			int sum = 0;
+			for (int i = 0; i < in.length; i++)
+				sum = sum + in[i];
+			((SignedInt8Member) result).setV(sum);
+		}
+		else
+			return false;
+		return true;
+	}
+
+	/**
+	 * b[i] = factor * a[i]
+	 */
+	static boolean scale(Object algebra, Object factor, IndexedDataSource<?> a, IndexedDataSource<?> b) {
+		Object x = array(algebra, a);
+		Object y = array(algebra, b);
+		if (x == null || y == null || a.size() != b.size())
+			return false;
+		if (x instanceof double[]) {
+			double f = ((Float64Member) factor).v();
+			double[] in = (double[]) x;
+			double[] out = (double[]) y;
+			for (int i = 0; i < in.length; i++)
+				out[i] = f * in[i];
+		}
+		else if (x instanceof float[]) {
+			float f = ((Float32Member) factor).v();
+			float[] in = (float[]) x;
+			float[] out = (float[]) y;
+			for (int i = 0; i < in.length; i++)
+				out[i] = f * in[i];
+		}
+		else if (x instanceof int[]) {
+			int f = ((SignedInt32Member) factor).v();
+			int[] in = (int[]) x;
+			int[] out = (int[]) y;
+			for (int i = 0; i < in.length; i++)
+				out[i] = f * in[i];
+		}
+		else if (x instanceof short[]) {
+			short f = ((SignedInt16Member) factor).v();
+			short[] in = (short[]) x;
+			short[] out = (short[]) y;
+			for (int i = 0; i < in.length; i++)
+				out[i] = (short) (f * in[i]);
+		}
+		else {
+			byte f = ((SignedInt8Member) factor).v();
+			byte[] in = (byte[]) x;
+			byte[] out = (byte[]) y;
+			for (int i = 0; i < in.length; i++)
+				out[i] = (byte) (f * in[i]);
+		}
+		return true;
+	}
+
+	/**
+	 * b[i] = proc(a[i]) for the assign() procedure of any supported algebra
+	 * and the negate() and abs() procedures of the floating types. (The
+	 * integer negate and abs throw on the most negative value so they are
+	 * left to the generic code.)
+	 */
+	static boolean transform(Object algA, Object algB, Object proc, IndexedDataSource<?> a, IndexedDataSource<?> b) {
+		if (algA != algB)
+			return false;
+		Object x = array(algA, a);
+		Object y = array(algB, b);
+		if (x == null || y == null || a.size() != b.size())
+			return false;
+		if (x instanceof double[]) {
+			double[] in = (double[]) x;
+			double[] out = (double[]) y;
+			if (proc == G.DBL.assign())
+				System.arraycopy(in, 0, out, 0, in.length);
+			else if (proc == G.DBL.negate()) {
+				for (int i = 0; i < in.length; i++)
+					out[i] = -in[i];
+			}
+			else if (proc == G.DBL.abs()) {
+				for (int i = 0; i < in.length; i++)
+					out[i] = Math.abs(in[i]);
+			}
+			else
+				return false;
+		}
+		else if (x instanceof float[]) {
+			float[] in = (float[]) x;
+			float[] out = (float[]) y;
+			if (proc == G.FLT.assign())
+				System.arraycopy(in, 0, out, 0, in.length);
+			else if (proc == G.FLT.negate()) {
+				for (int i = 0; i < in.length; i++)
+					out[i] = -in[i];
+			}
+			else if (proc == G.FLT.abs()) {
+				for (int i = 0; i < in.length; i++)
+					out[i] = Math.abs(in[i]);
+			}
+			else
+				return false;
+		}
+		else if (proc == G.INT32.assign() || proc == G.INT16.assign() || proc == G.INT8.assign()) {
+			System.arraycopy(x, 0, y, 0, (int) a.size());
+		}
+		else
+			return false;
+		return true;
+	}
+
+	/**
+	 * c[i] = proc(a[i], b[i]) for the add(), subtract(), multiply(), min() and
+	 * max() procedures of the supported algebras and the divide() procedures
+	 * of the floating types.
+	 */
+	static boolean transform(Object algA, Object algB, Object algC, Object proc,
+								IndexedDataSource<?> a, IndexedDataSource<?> b, IndexedDataSource<?> c)
+	{
+		if (algA != algB || algA != algC)
+			return false;
+		Object x = array(algA, a);
+		Object y = array(algB, b);
+		Object z = array(algC, c);
+		if (x == null || y == null || z == null || a.size() != b.size() || a.size() != c.size())
+			return false;
+		if (x instanceof double[])
+			return transform(proc, (double[]) x, (double[]) y, (double[]) z);
+		if (x instanceof float[])
+			return transform(proc, (float[]) x, (float[]) y, (float[]) z);
+		if (x instanceof int[])
+			return transform(proc, (int[]) x, (int[]) y, (int[]) z);
+		if (x instanceof short[])
+			return transform(proc, (short[]) x, (short[]) y, (short[]) z);
+		return transform(proc, (byte[]) x, (byte[]) y, (byte[]) z);
+	}
+
+	private static boolean transform(Object proc, double[] a, double[] b, double[] c) {
+		if (proc == G.DBL.add()) {
+			for (int i = 0; i < a.length; i++)
+				c[i] = a[i] + b[i];
+		}
+		else if (proc == G.DBL.subtract()) {
+			for (int i = 0; i < a.length; i++)
+				c[i] = a[i] - b[i];
+		}
+		else if (proc == G.DBL.multiply()) {
+			for (int i = 0; i < a.length; i++)
+				c[i] = a[i] * b[i];
+		}
+		else if (proc == G.DBL.divide()) {
+			for (int i = 0; i < a.length; i++)
+				c[i] = a[i] / b[i];
+		}
+		else if (proc == G.DBL.min()) {
+			for (int i = 0; i < a.length; i++)
+				c[i] = (a[i] < b[i]) ? a[i] : b[i];
+		}
+		else if (proc == G.DBL.max()) {
+			for (int i = 0; i < a.length; i++)
+				c[i] = (a[i] > b[i]) ? a[i] : b[i];
+		}
+		else
+			return false;
+		return true;
+	}
+
+	private static boolean transform(Object proc, float[] a, float[] b, float[] c) {
+		if (proc == G.FLT.add()) {
+			for (int i = 0; i < a.length; i++)
+				c[i] = a[i] + b[i];
+		}
+		else if (proc == G.FLT.subtract()) {
+			for (int i = 0; i < a.length; i++)
+				c[i] = a[i] - b[i];
+		}
+		else if (proc == G.FLT.multiply()) {
+			for (int i = 0; i < a.length; i++)
+				c[i] = a[i] * b[i];
+		}
+		else if (proc == G.FLT.divide()) {
+			for (int i = 0; i < a.length; i++)
+				c[i] = a[i] / b[i];
+		}
+		else if (proc == G.FLT.min()) {
+			for (int i = 0; i < a.length; i++)
+				c[i] = (a[i] < b[i]) ? a[i] : b[i];
+		}
+		else if (proc == G.FLT.max()) {
+			for (int i = 0; i < a.length; i++)
+				c[i] = (a[i] > b[i]) ? a[i] : b[i];
+		}
+		else
+			return false;
+		return true;
+	}
+
+	private static boolean transform(Object proc, int[] a, int[] b, int[] c) {
+		if (proc == G.INT32.add()) {
+			for (int i = 0; i < a.length; i++)
+				c[i] = a[i] + b[i];
+		}
+		else if (proc == G.INT32.subtract()) {
+			for (int i = 0; i < a.length; i++)
+				c[i] = a[i] - b[i];
+		}
+		else if (proc == G.INT32.multiply()) {
+			for (int i = 0; i < a.length; i++)
+				c[i] = a[i] * b[i];
+		}
+		else if (proc == G.INT32.min()) {
+			for (int i = 0; i < a.length; i++)
+				c[i] = (a[i] < b[i]) ? a[i] : b[i];
+		}
+		else if (proc == G.INT32.max()) {
+			for (int i = 0; i < a.length; i++)
+				c[i] = (a[i] > b[i]) ? a[i] : b[i];
+		}
+		else
+			return false;
+		return true;
+	}
+
+	private static boolean transform(Object proc, short[] a, short[] b, short[] c) {
+		if (proc == G.INT16.add()) {
+			for (int i = 0; i < a.length; i++)
+				c[i] = (short) (a[i] + b[i]);
+		}
+		else if (proc == G.INT16.subtract()) {
+			for (int i = 0; i < a.length; i++)
+				c[i] = (short) (a[i] - b[i]);
+		}
+		else if (proc == G.INT16.multiply()) {
+			for (int i = 0; i < a.length; i++)
+				c[i] = (short) (a[i] * b[i]);
+		}
+		else if (proc == G.INT16.min()) {
+			for (int i = 0; i < a.length; i++)
+				c[i] = (a[i] < b[i]) ? a[i] : b[i];
+		}
+		else if (proc == G.INT16.max()) {
+			for (int i = 0; i < a.length; i++)
+				c[i] = (a[i] > b[i]) ? a[i] : b[i];
+		}
+		else
+			return false;
+		return true;
+	}
+
+	private static boolean transform(Object proc, byte[] a, byte[] b, byte[] c) {
+		if (proc == G.INT8.add()) {
+			for (int i = 0; i < a.length; i++)
+				c[i] = (byte) (a[i] + b[i]);
+		}
+		else if (proc == G.INT8.subtract()) {
+			for (int i = 0; i < a.length; i++)
+				c[i] = (byte) (a[i] - b[i]);
+		}
+		else if (proc == G.INT8.multiply()) {
+			for (int i = 0; i < a.length; i++)
+				c[i] = (byte) (a[i] * b[i]);
+		}
+		else if (proc == G.INT8.min()) {
+			for (int i = 0; i < a.length; i++)
+				c[i] = (a[i] < b[i]) ? a[i] : b[i];
+		}
+		else if (proc == G.INT8.max()) {
+			for (int i = 0; i < a.length; i++)
+				c[i] = (a[i] > b[i]) ? a[i] : b[i];
+		}
+		else
+			return false;
+		return true;
+	}
+
+	/**
+	 * b[i] = a[i] clamped to [min, max]. The caller validates the bounds.
+	 */
+	static boolean clamp(Object algebra, Object min, Object max, IndexedDataSource<?> a, IndexedDataSource<?> b) {
+		Object x = array(algebra, a);
+		Object y = array(algebra, b);
+		if (x == null || y == null || a.size() != b.size())
+			return false;
+		if (x instanceof double[]) {
+			double lo = ((Float64Member) min).v();
+			double hi = ((Float64Member) max).v();
+			double[] in = (double[]) x;
+			double[] out = (double[]) y;
+			for (int i = 0; i < in.length; i++) {
+				double v = in[i];
+				out[i] = (v < lo) ? lo : ((v > hi) ? hi : v);
+			}
+		}
+		else if (x instanceof float[]) {
+			float lo = ((Float32Member) min).v();
+			float hi = ((Float32Member) max).v();
+			float[] in = (float[]) x;
+			float[] out = (float[]) y;
+			for (int i = 0; i < in.length; i++) {
+				float v = in[i];
+				out[i] = (v < lo) ? lo : ((v > hi) ? hi : v);
+			}
+		}
+		else if (x instanceof int[]) {
+			int lo = ((SignedInt32Member) min).v();
+			int hi = ((SignedInt32Member) max).v();
+			int[] in = (int[]) x;
+			int[] out = (int[]) y;
+			for (int i = 0; i < in.length; i++) {
+				int v = in[i];
+				out[i] = (v < lo) ? lo : ((v > hi) ? hi : v);
+			}
+		}
+		else if (x instanceof short[]) {
+			short lo = ((SignedInt16Member) min).v();
+			short hi = ((SignedInt16Member) max).v();
+			short[] in = (short[]) x;
+			short[] out = (short[]) y;
+			for (int i = 0; i < in.length; i++) {
+				short v = in[i];
+				out[i] = (v < lo) ? lo : ((v > hi) ? hi : v);
+			}
+		}
+		else {
+			byte lo = ((SignedInt8Member) min).v();
+			byte hi = ((SignedInt8Member) max).v();
+			byte[] in = (byte[]) x;
+			byte[] out = (byte[]) y;
+			for (int i = 0; i < in.length; i++) {
+				byte v = in[i];
+				out[i] = (v < lo) ? lo : ((v > hi) ? hi : v);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Converts the values of a into the first a.size() slots of b. The
+	 * PrimitiveConversion code moves each value through the source type's
+	 * preferred primitive and the destination applies a plain java cast, so
+	 * a cast is all that is done here.
+	 */
+	static boolean convert(Object fromAlg, Object toAlg, IndexedDataSource<?> a, IndexedDataSource<?> b) {
+		Object x = array(fromAlg, a);
+		Object y = array(toAlg, b);
+		if (x == null || y == null || a.size() > b.size())
+			return false;
+		if (y instanceof double[]) {
+			double[] out = (double[]) y;
+			if (x instanceof double[]) {
+				double[] in = (double[]) x;
+				for (int i = 0; i < in.length; i++)
+					out[i] = in[i];
+			}
+			else if (x instanceof float[]) {
+				float[] in = (float[]) x;
+				for (int i = 0; i < in.length; i++)
+					out[i] = in[i];
+			}
+			else if (x instanceof int[]) {
+				int[] in = (int[]) x;
+				for (int i = 0; i < in.length; i++)
+					out[i] = in[i];
+			}
+			else if (x instanceof short[]) {
+				short[] in = (short[]) x;
+				for (int i = 0; i < in.length; i++)
+					out[i] = in[i];
+			}
+			else {
+				byte[] in = (byte[]) x;
+				for (int i = 0; i < in.length; i++)
+					out[i] = in[i];
+			}
+		}
+		else if (y instanceof float[]) {
+			float[] out = (float[]) y;
+			if (x instanceof double[]) {
+				double[] in = (double[]) x;
+				for (int i = 0; i < in.length; i++)
+					out[i] = (float) in[i];
+			}
+			else if (x instanceof float[]) {
+				float[] in = (float[]) x;
+				for (int i = 0; i < in.length; i++)
+					out[i] = in[i];
+			}
+			else if (x instanceof int[]) {
+				int[] in = (int[]) x;
+				for (int i = 0; i < in.length; i++)
+					out[i] = in[i];
+			}
+			else if (x instanceof short[]) {
+				short[] in = (short[]) x;
+				for (int i = 0; i < in.length; i++)
+					out[i] = in[i];
+			}
+			else {
+				byte[] in = (byte[]) x;
+				for (int i = 0; i < in.length; i++)
+					out[i] = in[i];
+			}
+		}
+		else if (y instanceof int[]) {
+			int[] out = (int[]) y;
+			if (x instanceof double[]) {
+				double[] in = (double[]) x;
+				for (int i = 0; i < in.length; i++)
+					out[i] = (int) in[i];
+			}
+			else if (x instanceof float[]) {
+				float[] in = (float[]) x;
+				for (int i = 0; i < in.length; i++)
+					out[i] = (int) in[i];
+			}
+			else if (x instanceof int[]) {
+				int[] in = (int[]) x;
+				for (int i = 0; i < in.length; i++)
+					out[i] = in[i];
+			}
+			else if (x instanceof short[]) {
+				short[] in = (short[]) x;
+				for (int i = 0; i < in.length; i++)
+					out[i] = in[i];
+			}
+			else {
+				byte[] in = (byte[]) x;
+				for (int i = 0; i < in.length; i++)
+					out[i] = in[i];
+			}
+		}
+		else if (y instanceof short[]) {
+			short[] out = (short[]) y;
+			if (x instanceof double[]) {
+				double[] in = (double[]) x;
+				for (int i = 0; i < in.length; i++)
+					out[i] = (short) in[i];
+			}
+			else if (x instanceof float[]) {
+				float[] in = (float[]) x;
+				for (int i = 0; i < in.length; i++)
+					out[i] = (short) in[i];
+			}
+			else if (x instanceof int[]) {
+				int[] in = (int[]) x;
+				for (int i = 0; i < in.length; i++)
+					out[i] = (short) in[i];
+			}
+			else if (x instanceof short[]) {
+				short[] in = (short[]) x;
+				for (int i = 0; i < in.length; i++)
+					out[i] = in[i];
+			}
+			else {
+				byte[] in = (byte[]) x;
+				for (int i = 0; i < in.length; i++)
+					out[i] = in[i];
+			}
+		}
+		else {
+			byte[] out = (byte[]) y;
+			if (x instanceof double[]) {
+				double[] in = (double[]) x;
+				for (int i = 0; i < in.length; i++)
+					out[i] = (byte) in[i];
+			}
+			else if (x instanceof float[]) {
+				float[] in = (float[]) x;
+				for (int i = 0; i < in.length; i++)
+					out[i] = (byte) in[i];
+			}
+			else if (x instanceof int[]) {
+				int[] in = (int[]) x;
+				for (int i = 0; i < in.length; i++)
+					out[i] = (byte) in[i];
+			}
+			else if (x instanceof short[]) {
+				short[] in = (short[]) x;
+				for (int i = 0; i < in.length; i++)
+					out[i] = (byte) in[i];
+			}
+			else {
+				byte[] in = (byte[]) x;
+				for (int i = 0; i < in.length; i++)
+					out[i] = in[i];
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,213 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.algorithm;
+
+import nom.bdezonia.zorbage.algebra.Addition;
+import nom.bdezonia.zorbage.algebra.Algebra;
+import nom.bdezonia.zorbage.algebra.Conjugate;
+import nom.bdezonia.zorbage.algebra.Invertible;
+import nom.bdezonia.zorbage.algebra.Multiplication;
+import nom.bdezonia.zorbage.algebra.RealConstants;
+import nom.bdezonia.zorbage.algebra.SetI;
+import nom.bdezonia.zorbage.algebra.SetR;
+import nom.bdezonia.zorbage.algebra.Trigonometric;
+import nom.bdezonia.zorbage.algebra.Unity;
+import nom.bdezonia.zorbage.algorithm.fft.FFTPlanCache;
+import nom.bdezonia.zorbage.algorithm.fft.RealFFTPlan;
+import nom.bdezonia.zorbage.datasource.IndexedDataSource;
+import nom.bdezonia.zorbage.storage.Storage;
+
+/**
+ * RealFFT does a fast Fourier transform of a list of real numbers. The
+ * spectrum of real data is Hermitian symmetric (X[n-k] = conj(X[k])) so only
+ * its first n/2+1 values are calculated and stored. For even n the work done
+ * is about half of that of a complex FFT of the same size.
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class RealFFT {
+
+	// do not instantiate
+	
+	private RealFFT() {}
+
+	/**
+	 * Do a fast Fourier transform taking real data from source a and putting
+	 * the half spectrum in destination b. a has n real numbers and b must have
+	 * n/2+1 complex numbers.
+	 * 
+	 * @param <CA>
+	 * @param <C>
+	 * @param <RA>
+	 * @param <R>
+	 * @param complexAlg
+	 * @param realAlg
+	 * @param a Source list of real data
+	 * @param b Destination list of complex data
+	 */
+	public static
+	
+		<CA extends Algebra<CA,C> & Addition<C> & Multiplication<C> &
+						Conjugate<C>,
+						
+			C extends SetR<R> & SetI<R>,
+			
+			RA extends Algebra<RA,R> & Trigonometric<R> & RealConstants<R> &
+				Unity<R> & Multiplication<R> & Addition<R> & Invertible<R>,
+				
+			R>
+	
+	void compute(CA complexAlg,
+					RA realAlg,
+					IndexedDataSource<R> a,
+					IndexedDataSource<C> b)
+	{
+		long aSize = a.size();
+
+		if (aSize == 0)
+			throw new IllegalArgumentException("input size must be positive");
+		
+		RealFFTPlan<C> plan = FFTPlanCache.realPlan(complexAlg, realAlg, aSize);
+		
+		compute(complexAlg, realAlg, plan, a, b);
+	}
+
+	/**
+	 * Do a fast Fourier transform taking real data from source a and putting
+	 * the half spectrum in destination b using a precalculated plan. a must
+	 * have as many real numbers as the plan size and b must have plan size/2+1
+	 * complex numbers.
+	 * 
+	 * @param <CA>
+	 * @param <C>
+	 * @param <RA>
+	 * @param <R>
+	 * @param complexAlg
+	 * @param realAlg
+	 * @param plan The plan whose twiddle factors are used
+	 * @param a Source list of real data
+	 * @param b Destination list of complex data
+	 */
+	public static
+	
+		<CA extends Algebra<CA,C> & Addition<C> & Multiplication<C> &
+						Conjugate<C>,
+						
+			C extends SetR<R> & SetI<R>,
+			
+			RA extends Algebra<RA,R>,
+				
+			R>
+	
+	void compute(CA complexAlg,
+					RA realAlg,
+					RealFFTPlan<C> plan,
+					IndexedDataSource<R> a,
+					IndexedDataSource<C> b)
+	{
+		long n = a.size();
+
+		if (n != plan.size())
+			throw new IllegalArgumentException("input size does not match plan size");
+		
+		if (b.size() != plan.spectrumSize())
+			throw new IllegalArgumentException("output size must be input size / 2 + 1");
+		
+		R re = realAlg.construct();
+		R im = realAlg.construct();
+		C value = complexAlg.construct();
+		
+		if (!plan.packed()) {
+			
+			// odd sizes: transform the data as complex numbers and keep the
+			//   first half of the spectrum
+			
+			IndexedDataSource<C> z = Storage.allocate(value, n);
+			for (long i = 0; i < n; i++) {
+				a.get(i, re);
+				value.setR(re);
+				value.setI(im);
+				z.set(i, value);
+			}
+			FFT.compute(complexAlg, plan.complexPlan(), z, z);
+			for (long k = 0; k < b.size(); k++) {
+				z.get(k, value);
+				b.set(k, value);
+			}
+			return;
+		}
+		
+		// even sizes: pack even points as reals and odd points as imaginaries
+		
+		long m = n / 2;
+		
+		IndexedDataSource<C> z = Storage.allocate(value, m);
+		for (long i = 0; i < m; i++) {
+			a.get(2*i, re);
+			a.get(2*i+1, im);
+			value.setR(re);
+			value.setI(im);
+			z.set(i, value);
+		}
+
+		FFT.compute(complexAlg, plan.complexPlan(), z, z);
+		
+		// then separate the transforms of the even and odd points and combine them:
+		//   E[k] = (Z[k] + conj(Z[m-k])) / 2
+		//   O[k] = (Z[k] - conj(Z[m-k])) / 2i
+		//   X[k] = E[k] + w^k O[k]
+		
+		C zk = complexAlg.construct();
+		C zc = complexAlg.construct();
+		C even = complexAlg.construct();
+		C odd = complexAlg.construct();
+		C w = complexAlg.construct();
+		C half = complexAlg.construct();
+		C minusHalfI = complexAlg.construct();
+		plan.half(complexAlg, half);
+		plan.minusHalfI(complexAlg, minusHalfI);
+		
+		for (long k = 0; k <= m; k++) {
+			z.get(k % m, zk);
+			z.get((m - k) % m, zc);
+			complexAlg.conjugate().call(zc, zc);
+			complexAlg.add().call(zk, zc, even);
+			complexAlg.multiply().call(half, even, even);
+			complexAlg.subtract().call(zk, zc, odd);
+			complexAlg.multiply().call(minusHalfI, odd, odd);
+			plan.twiddle(k, w);
+			complexAlg.multiply().call(w, odd, odd);
+			complexAlg.add().call(even, odd, value);
+			b.set(k, value);
+		}
+	}
+}
@@ -0,0 +1,223 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.algorithm;
+
+import nom.bdezonia.zorbage.algebra.Addition;
+import nom.bdezonia.zorbage.algebra.Algebra;
+import nom.bdezonia.zorbage.algebra.Conjugate;
+import nom.bdezonia.zorbage.algebra.GetI;
+import nom.bdezonia.zorbage.algebra.GetR;
+import nom.bdezonia.zorbage.algebra.Invertible;
+import nom.bdezonia.zorbage.algebra.Multiplication;
+import nom.bdezonia.zorbage.algebra.RealConstants;
+import nom.bdezonia.zorbage.algebra.SetI;
+import nom.bdezonia.zorbage.algebra.SetR;
+import nom.bdezonia.zorbage.algebra.Trigonometric;
+import nom.bdezonia.zorbage.algebra.Unity;
+import nom.bdezonia.zorbage.algorithm.fft.FFTPlanCache;
+import nom.bdezonia.zorbage.algorithm.fft.RealFFTPlan;
+import nom.bdezonia.zorbage.datasource.IndexedDataSource;
+import nom.bdezonia.zorbage.storage.Storage;
+
+/**
+ * RealInvFFT does the inverse of {@link RealFFT}: it transforms the first n/2+1
+ * values of a Hermitian symmetric spectrum back into n real numbers. The
+ * imaginary parts of the zero frequency value (and of the n/2 frequency value
+ * when n is even) are ignored.
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class RealInvFFT {
+
+	// do not instantiate
+	
+	private RealInvFFT() {}
+
+	/**
+	 * Do an inverse fast Fourier transform taking the half spectrum from source
+	 * a and putting real results in destination b. b has n real numbers and a
+	 * must have n/2+1 complex numbers.
+	 * 
+	 * @param <CA>
+	 * @param <C>
+	 * @param <RA>
+	 * @param <R>
+	 * @param complexAlg
+	 * @param realAlg
+	 * @param a Source list of complex data
+	 * @param b Destination list of real data
+	 */
+	public static
+	
+		<CA extends Algebra<CA,C> & Addition<C> & Multiplication<C> &
+						Conjugate<C>,
+						
+			C extends SetR<R> & SetI<R> & GetR<R> & GetI<R>,
+			
+			RA extends Algebra<RA,R> & Trigonometric<R> & RealConstants<R> &
+				Unity<R> & Multiplication<R> & Addition<R> & Invertible<R>,
+				
+			R>
+	
+	void compute(CA complexAlg,
+					RA realAlg,
+					IndexedDataSource<C> a,
+					IndexedDataSource<R> b)
+	{
+		long bSize = b.size();
+
+		if (bSize == 0)
+			throw new IllegalArgumentException("output size must be positive");
+		
+		RealFFTPlan<C> plan = FFTPlanCache.realPlan(complexAlg, realAlg, bSize);
+		
+		compute(complexAlg, realAlg, plan, a, b);
+	}
+
+	/**
+	 * Do an inverse fast Fourier transform taking the half spectrum from source
+	 * a and putting real results in destination b using a precalculated plan.
+	 * b must have as many real numbers as the plan size and a must have plan
+	 * size/2+1 complex numbers.
+	 * 
+	 * @param <CA>
+	 * @param <C>
+	 * @param <RA>
+	 * @param <R>
+	 * @param complexAlg
+	 * @param realAlg
+	 * @param plan The plan whose twiddle factors are used
+	 * @param a Source list of complex data
+	 * @param b Destination list of real data
+	 */
+	public static
+	
+		<CA extends Algebra<CA,C> & Addition<C> & Multiplication<C> &
+						Conjugate<C>,
+						
+			C extends SetR<R> & SetI<R> & GetR<R> & GetI<R>,
+			
+			RA extends Algebra<RA,R>,
+				
+			R>
+	
+	void compute(CA complexAlg,
+					RA realAlg,
+					RealFFTPlan<C> plan,
+					IndexedDataSource<C> a,
+					IndexedDataSource<R> b)
+	{
+		long n = b.size();
+
+		if (n != plan.size())
+			throw new IllegalArgumentException("output size does not match plan size");
+		
+		if (a.size() != plan.spectrumSize())
+			throw new IllegalArgumentException("input size must be output size / 2 + 1");
+		
+		R re = realAlg.construct();
+		R im = realAlg.construct();
+		C value = complexAlg.construct();
+		
+		if (!plan.packed()) {
+			
+			// odd sizes: rebuild the full spectrum from its symmetry and do a
+			//   complex inverse transform
+			
+			IndexedDataSource<C> z = Storage.allocate(value, n);
+			a.get(0, value);
+			value.getR(re);
+			value.setR(re);
+			value.setI(im);
+			z.set(0, value);
+			for (long k = 1; k < a.size(); k++) {
+				a.get(k, value);
+				z.set(k, value);
+				complexAlg.conjugate().call(value, value);
+				z.set(n - k, value);
+			}
+			InvFFT.compute(complexAlg, plan.complexPlan(), z, z);
+			for (long i = 0; i < n; i++) {
+				z.get(i, value);
+				value.getR(re);
+				b.set(i, re);
+			}
+			return;
+		}
+		
+		// even sizes: rebuild the half size transform of the packed data:
+		//   E[k] = (X[k] + conj(X[m-k])) / 2
+		//   O[k] = (X[k] - conj(X[m-k])) / 2 * conj(w^k)
+		//   Z[k] = E[k] + i O[k]
+		
+		long m = n / 2;
+		
+		C xk = complexAlg.construct();
+		C xc = complexAlg.construct();
+		C even = complexAlg.construct();
+		C odd = complexAlg.construct();
+		C w = complexAlg.construct();
+		C half = complexAlg.construct();
+		C i = complexAlg.construct();
+		plan.half(complexAlg, half);
+		plan.i(complexAlg, i);
+		
+		IndexedDataSource<C> z = Storage.allocate(value, m);
+		for (long k = 0; k < m; k++) {
+			a.get(k, xk);
+			a.get(m - k, xc);
+			complexAlg.conjugate().call(xc, xc);
+			complexAlg.add().call(xk, xc, even);
+			complexAlg.multiply().call(half, even, even);
+			complexAlg.subtract().call(xk, xc, odd);
+			complexAlg.multiply().call(half, odd, odd);
+			plan.twiddle(k, w);
+			complexAlg.conjugate().call(w, w);
+			complexAlg.multiply().call(w, odd, odd);
+			complexAlg.multiply().call(i, odd, odd);
+			complexAlg.add().call(even, odd, value);
+			z.set(k, value);
+		}
+		
+		InvFFT.compute(complexAlg, plan.complexPlan(), z, z);
+		
+		// unpack: even points are the reals and odd points the imaginaries
+		
+		for (long k = 0; k < m; k++) {
+			z.get(k, value);
+			value.getR(re);
+			value.getI(im);
+			b.set(2*k, re);
+			b.set(2*k+1, im);
+		}
+	}
+}
@@ -0,0 +1,400 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.algorithm;
+
+import nom.bdezonia.zorbage.algebra.Addition;
+import nom.bdezonia.zorbage.algebra.Algebra;
+import nom.bdezonia.zorbage.algebra.ScaleByDouble;
+import nom.bdezonia.zorbage.data.DimensionedDataSource;
+import nom.bdezonia.zorbage.datasource.IndexedDataSource;
+import nom.bdezonia.zorbage.misc.ThreadingUtils;
+import nom.bdezonia.zorbage.tuple.Tuple2;
+import nom.bdezonia.zorbage.type.real.float32.Float32Algebra;
+import nom.bdezonia.zorbage.type.real.float32.Float32Member;
+import nom.bdezonia.zorbage.type.real.float64.Float64Algebra;
+import nom.bdezonia.zorbage.type.real.float64.Float64Member;
+
+/**
+ * RecursiveGaussian smooths multidimensional data with the recursive gaussian
+ * filter of Young and van Vliet. Each line along an axis is run through a third
+ * order causal filter and then a third order anticausal filter. The cost per
+ * sample is fixed no matter how large sigma is. Data values past the ends of a
+ * line are taken to equal the nearest end value (the backward pass is started
+ * with the method of Triggs and Sdika). The result approximates a convolution
+ * with a sampled gaussian kernel. Lines are processed in parallel.
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class RecursiveGaussian {
+
+	// do not instantiate
+	
+	private RecursiveGaussian() { }
+
+	/**
+	 * The smallest sigma the filter coefficients are accurate for.
+	 */
+	public static final double MIN_SIGMA = 0.5;
+	
+	/**
+	 * Smooth the data along every axis. a and b can be the same data source.
+	 * 
+	 * @param alg The algebra of the data
+	 * @param sigmas The standard deviation to smooth with along each axis. A
+	 *   sigma of 0 leaves that axis unsmoothed.
+	 * @param a The input data
+	 * @param b The output data. Its dimensions must match those of a.
+	 */
+	public static <T extends Algebra<T,U> & Addition<U> & ScaleByDouble<U>, U>
+		void compute(T alg, double[] sigmas, DimensionedDataSource<U> a, DimensionedDataSource<U> b)
+	{
+		if (sigmas.length != a.numDimensions())
+			throw new IllegalArgumentException("sigma count does not match data dimensionality");
+		for (int d = 0; d < sigmas.length; d++) {
+			if (sigmas[d] != 0 && !(sigmas[d] >= MIN_SIGMA))
+				throw new IllegalArgumentException("sigma must be 0 or >= " + MIN_SIGMA);
+		}
+		checkDims(a, b);
+		DimensionedDataSource<U> src = a;
+		for (int d = 0; d < sigmas.length; d++) {
+			if (sigmas[d] != 0) {
+				compute(alg, sigmas[d], d, src, b);
+				src = b;
+			}
+		}
+		if (src != b)
+			Copy.compute(alg, a.rawData(), b.rawData());
+	}
+	
+	/**
+	 * Smooth the data along one axis. a and b can be the same data source.
+	 * 
+	 * @param alg The algebra of the data
+	 * @param sigma The standard deviation of the gaussian. It must be at
+	 *   least MIN_SIGMA.
+	 * @param axis The axis to smooth along
+	 * @param a The input data
+	 * @param b The output data. Its dimensions must match those of a.
+	 */
+	public static <T extends Algebra<T,U> & Addition<U> & ScaleByDouble<U>, U>
+		void compute(T alg, double sigma, int axis, DimensionedDataSource<U> a, DimensionedDataSource<U> b)
+	{
+		if (!(sigma >= MIN_SIGMA))
+			throw new IllegalArgumentException("sigma must be >= " + MIN_SIGMA);
+		if (axis < 0 || axis >= a.numDimensions())
+			throw new IllegalArgumentException("axis out of bounds");
+		checkDims(a, b);
+		
+		IndexedDataSource<U> in = a.rawData();
+		IndexedDataSource<U> out = b.rawData();
+		if (in.size() != a.numElements() || out.size() != b.numElements())
+			throw new IllegalArgumentException("data sources do not have plain raw data");
+		
+		long length = a.dimension(axis);
+		long stride = 1;
+		for (int d = 0; d < axis; d++) {
+			stride *= a.dimension(d);
+		}
+		if (length > Integer.MAX_VALUE)
+			throw new IllegalArgumentException("lines are too long to buffer");
+		long lines = a.numElements() / length;
+		
+		double[] coeffs = coefficients(sigma);
+		
+		Tuple2<Integer,Long> arrangement =
+				ThreadingUtils.arrange(lines, in.accessWithOneThread() || out.accessWithOneThread());
+		int pieces = arrangement.a();
+		long linesPerPiece = arrangement.b();
+		
+		if (pieces == 1) {
+			
+			Runnable r = new Smoother<T,U>(alg, coeffs, in, out, (int) length, stride, 0, lines);
+			r.run();
+		}
+		else {
+			
+			final Thread[] threads = new Thread[pieces];
+			long start = 0;
+			for (int i = 0; i < pieces; i++) {
+				long end = (i == pieces-1) ? lines : start + linesPerPiece;
+				threads[i] = new Thread(new Smoother<T,U>(alg, coeffs, in, out, (int) length, stride, start, end));
+				start = end;
+			}
+	
+			for (int i = 0; i < threads.length; i++) {
+				threads[i].start();
+			}
+			
+			for (int i = 0; i < threads.length; i++) {
+				try {
+					threads[i].join();
+				} catch(InterruptedException e) {
+					throw new IllegalArgumentException("Thread execution error in RecursiveGaussian");
+				}
+			}
+		}
+	}
+	
+	private static <U> void checkDims(DimensionedDataSource<U> a, DimensionedDataSource<U> b) {
+		if (a.numDimensions() != b.numDimensions())
+			throw new IllegalArgumentException("mismatched data dimensionality");
+		for (int d = 0; d < a.numDimensions(); d++) {
+			if (a.dimension(d) != b.dimension(d))
+				throw new IllegalArgumentException("mismatched data dimensions");
+		}
+	}
+	
+	// returns {B, a1, a2, a3} for the normalized recursion
+	//   y[n] = B x[n] + a1 y[n-1] + a2 y[n-2] + a3 y[n-3]
+	//   followed by the 9 entries of the Triggs-Sdika matrix M
+	
+	static double[] coefficients(double sigma) {
+		
+		// Young, van Vliet, van Ginkel 2002 for the choice of q
+		
+		double q;
+		if (sigma >= 2.5)
+			q = 0.98711 * sigma - 0.96330;
+		else
+			q = 3.97156 - 4.14554 * Math.sqrt(1 - 0.26891 * sigma);
+		double q2 = q * q;
+		double q3 = q2 * q;
+		
+		double b0 = 1.57825 + 2.44413 * q + 1.4281 * q2 + 0.422205 * q3;
+		double a1 = (2.44413 * q + 2.85619 * q2 + 1.26661 * q3) / b0;
+		double a2 = -(1.4281 * q2 + 1.26661 * q3) / b0;
+		double a3 = (0.422205 * q3) / b0;
+		double B = 1 - (a1 + a2 + a3);
+		
+		double s = 1.0 / ((1 + a1 - a2 + a3) * (1 - a1 - a2 - a3) * (1 + a2 + (a1 - a3) * a3));
+		
+		return new double[] {
+				B, a1, a2, a3,
+				s * (-a3 * a1 + 1 - a3 * a3 - a2),
+				s * (a3 + a1) * (a2 + a3 * a1),
+				s * a3 * (a1 + a3 * a2),
+				s * (a1 + a3 * a2),
+				-s * (a2 - 1) * (a2 + a3 * a1),
+				-s * a3 * (a3 * a1 + a3 * a3 + a2 - 1),
+				s * (a3 * a1 + a2 + a1 * a1 - a2 * a2),
+				s * (a1 * a2 + a3 * a2 * a2 - a1 * a3 * a3 - a3 * a3 * a3 - a3 * a2 + a3),
+				s * a3 * (a1 + a3 * a2)
+		};
+	}
+	
+	// filter one line of doubles in place
+	
+	static void filter(double[] c, double[] x, int n) {
+		
+		double B = c[0], a1 = c[1], a2 = c[2], a3 = c[3];
+		
+		// causal pass: the signal before the line is the first value
+		
+		double y1 = x[0], y2 = x[0], y3 = x[0];
+		for (int i = 0; i < n; i++) {
+			double y = B * x[i] + a1 * y1 + a2 * y2 + a3 * y3;
+			x[i] = y;
+			y3 = y2;
+			y2 = y1;
+			y1 = y;
+		}
+		
+		// anticausal pass: the signal after the line is the last input value.
+		//   the last input value was saved by the caller in x[n].
+		
+		double last = x[n];
+		double u0 = x[n-1] - last;
+		double u1 = (n > 1 ? x[n-2] : x[n-1]) - last;
+		double u2 = (n > 2 ? x[n-3] : (n > 1 ? x[n-2] : x[n-1])) - last;
+		double v0 = last + B * (c[4] * u0 + c[5] * u1 + c[6] * u2);
+		double v1 = last + B * (c[7] * u0 + c[8] * u1 + c[9] * u2);
+		double v2 = last + B * (c[10] * u0 + c[11] * u1 + c[12] * u2);
+		x[n-1] = v0;
+		y1 = v0;
+		y2 = v1;
+		y3 = v2;
+		for (int i = n-2; i >= 0; i--) {
+			double y = B * x[i] + a1 * y1 + a2 * y2 + a3 * y3;
+			x[i] = y;
+			y3 = y2;
+			y2 = y1;
+			y1 = y;
+		}
+	}
+	
+	private static class Smoother<T extends Algebra<T,U> & Addition<U> & ScaleByDouble<U>, U>
+		implements Runnable
+	{
+		private final T alg;
+		private final double[] c;
+		private final IndexedDataSource<U> in;
+		private final IndexedDataSource<U> out;
+		private final int length;
+		private final long stride;
+		private final long firstLine;
+		private final long endLine;
+		
+		Smoother(T alg, double[] c, IndexedDataSource<U> in, IndexedDataSource<U> out,
+					int length, long stride, long firstLine, long endLine)
+		{
+			this.alg = alg;
+			this.c = c;
+			this.in = in;
+			this.out = out;
+			this.length = length;
+			this.stride = stride;
+			this.firstLine = firstLine;
+			this.endLine = endLine;
+		}
+		
+		@Override
+		public void run() {
+			if (alg instanceof Float64Algebra || alg instanceof Float32Algebra)
+				runReals();
+			else
+				runGeneric();
+		}
+		
+		// line number -> index of the first element of the line
+		
+		private long lineStart(long line) {
+			long inner = line % stride;
+			long outer = line / stride;
+			return outer * stride * length + inner;
+		}
+		
+		private void runReals() {
+			boolean dbl = alg instanceof Float64Algebra;
+			U value = alg.construct();
+			double[] x = new double[length + 1];
+			for (long line = firstLine; line < endLine; line++) {
+				long start = lineStart(line);
+				for (int i = 0; i < length; i++) {
+					in.get(start + i * stride, value);
+					x[i] = dbl ? ((Float64Member) value).v() : ((Float32Member) value).v();
+				}
+				x[length] = x[length-1];
+				filter(c, x, length);
+				for (int i = 0; i < length; i++) {
+					if (dbl)
+						((Float64Member) value).setV(x[i]);
+					else
+						((Float32Member) value).setV((float) x[i]);
+					out.set(start + i * stride, value);
+				}
+			}
+		}
+		
+		private void runGeneric() {
+			double B = c[0], a1 = c[1], a2 = c[2], a3 = c[3];
+			U[] x = alloc(length);
+			U last = alg.construct();
+			U y1 = alg.construct();
+			U y2 = alg.construct();
+			U y3 = alg.construct();
+			U u0 = alg.construct();
+			U u1 = alg.construct();
+			U u2 = alg.construct();
+			U tmp = alg.construct();
+			U sum = alg.construct();
+			for (long line = firstLine; line < endLine; line++) {
+				long start = lineStart(line);
+				for (int i = 0; i < length; i++) {
+					in.get(start + i * stride, x[i]);
+				}
+				alg.assign().call(x[length-1], last);
+				
+				// causal pass
+				
+				alg.assign().call(x[0], y1);
+				alg.assign().call(x[0], y2);
+				alg.assign().call(x[0], y3);
+				for (int i = 0; i < length; i++) {
+					step(B, a1, a2, a3, x[i], y1, y2, y3, tmp, sum);
+				}
+				
+				// anticausal pass
+				
+				alg.subtract().call(x[length-1], last, u0);
+				alg.subtract().call(x[length > 1 ? length-2 : length-1], last, u1);
+				alg.subtract().call(x[length > 2 ? length-3 : (length > 1 ? length-2 : length-1)], last, u2);
+				boundary(B, c[4], c[5], c[6], last, u0, u1, u2, tmp, y1);
+				boundary(B, c[7], c[8], c[9], last, u0, u1, u2, tmp, y2);
+				boundary(B, c[10], c[11], c[12], last, u0, u1, u2, tmp, y3);
+				alg.assign().call(y1, x[length-1]);
+				for (int i = length-2; i >= 0; i--) {
+					step(B, a1, a2, a3, x[i], y1, y2, y3, tmp, sum);
+				}
+				
+				for (int i = 0; i < length; i++) {
+					out.set(start + i * stride, x[i]);
+				}
+			}
+		}
+		
+		// x = B x + a1 y1 + a2 y2 + a3 y3 and shift the history
+		
+		private void step(double B, double a1, double a2, double a3, U x, U y1, U y2, U y3, U tmp, U sum) {
+			alg.scaleByDouble().call(B, x, sum);
+			alg.scaleByDouble().call(a1, y1, tmp);
+			alg.add().call(sum, tmp, sum);
+			alg.scaleByDouble().call(a2, y2, tmp);
+			alg.add().call(sum, tmp, sum);
+			alg.scaleByDouble().call(a3, y3, tmp);
+			alg.add().call(sum, tmp, sum);
+			alg.assign().call(sum, x);
+			alg.assign().call(y2, y3);
+			alg.assign().call(y1, y2);
+			alg.assign().call(sum, y1);
+		}
+		
+		// v = last + B (m0 u0 + m1 u1 + m2 u2)
+		
+		private void boundary(double B, double m0, double m1, double m2, U last, U u0, U u1, U u2, U tmp, U v) {
+			alg.scaleByDouble().call(B * m0, u0, v);
+			alg.scaleByDouble().call(B * m1, u1, tmp);
+			alg.add().call(v, tmp, v);
+			alg.scaleByDouble().call(B * m2, u2, tmp);
+			alg.add().call(v, tmp, v);
+			alg.add().call(v, last, v);
+		}
+		
+		@SuppressWarnings("unchecked")
+		private U[] alloc(int n) {
+			Object[] values = new Object[n];
+			for (int i = 0; i < n; i++) {
+				values[i] = alg.construct();
+			}
+			return (U[]) values;
+		}
+	}
+}
@@ -53,6 +53,7 @@ public class ResampleAveragedCubics {
 	 * The algorithm computes a series of cubicly interpolated values from the four nearest points
 	 * in a line along the axis. Then that series of values (1 per axis) is averaged.
 	 * Note: The input datasource should be padded. This algorithm can poke outside the input boundaries.
+	 * See {@link ResampleSeparable} for a faster true separable interpolation.
 	 * 
 	 * @param alg
 	 * @param newDims
@@ -53,6 +53,7 @@ public class ResampleAveragedLinears {
 	 * The algorithm computes a series of linear interpolated values, 1 per dimension, from the two
 	 * nearest points along that dimension. Then that series of values is averaged.
 	 * Note: The input datasource should be padded. This algorithm can poke outside the input boundaries.
+	 * See {@link ResampleSeparable} for a faster true separable interpolation.
 	 * 
 	 * @param alg
 	 * @param newDims
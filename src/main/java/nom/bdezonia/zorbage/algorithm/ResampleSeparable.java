@@ -0,0 +1,72 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.algorithm;
+
+import nom.bdezonia.zorbage.algebra.ScaleByDouble;
+import nom.bdezonia.zorbage.algorithm.resample.SeparableResampler;
+import nom.bdezonia.zorbage.data.DimensionedDataSource;
+import nom.bdezonia.zorbage.algebra.Addition;
+import nom.bdezonia.zorbage.algebra.Algebra;
+import nom.bdezonia.zorbage.algebra.Allocatable;
+
+/**
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class ResampleSeparable {
+
+	// do not instantiate
+	
+	private ResampleSeparable() { }
+
+	/**
+	 * Resamples one multidim dataset into another multidim dataset one axis at a time. The
+	 * result is a true multilinear (or multicubic) interpolation rather than an average of
+	 * 1-d interpolations. Per axis index and weight tables are computed once and applied
+	 * in parallel. Values past the input boundaries are taken from the nearest edge.
+	 * 
+	 * @param alg
+	 * @param method One of SeparableResampler.NEAREST_NEIGHBOR, LINEAR, or CUBIC
+	 * @param newDims
+	 * @param input
+	 * @return
+	 */
+	public static <T extends Algebra<T,U> & Addition<U> & ScaleByDouble<U>,
+					U extends Allocatable<U>>
+		DimensionedDataSource<U> compute(T alg, int method, long[] newDims, DimensionedDataSource<U> input)
+	{
+		int numProcs = Runtime.getRuntime().availableProcessors();
+		if (input.rawData().accessWithOneThread())
+			numProcs = 1;
+		return SeparableResampler.compute(alg, method, newDims, input, numProcs);
+	}
+}
@@ -33,10 +33,13 @@ package nom.bdezonia.zorbage.algorithm;
 import nom.bdezonia.zorbage.algebra.AbsoluteValue;
 import nom.bdezonia.zorbage.algebra.Addition;
 import nom.bdezonia.zorbage.algebra.Algebra;
+import nom.bdezonia.zorbage.algebra.G;
 import nom.bdezonia.zorbage.algebra.ModularDivision;
 import nom.bdezonia.zorbage.algebra.Multiplication;
 import nom.bdezonia.zorbage.algebra.Ordered;
 import nom.bdezonia.zorbage.algebra.Unity;
+import nom.bdezonia.zorbage.type.real.float32.Float32Member;
+import nom.bdezonia.zorbage.type.real.float64.Float64Member;
 
 /**
  * 
@@ -77,6 +80,16 @@ public class Round {
 			algebra.assign().call(a, b);
 			return;
 		}
+		// the common floating types are rounded with primitives rather
+		// than temporary members. the steps match the generic code below.
+		if (algebra == G.DBL) {
+			((Float64Member) b).setV(round(mode, ((Float64Member) delta).v(), ((Float64Member) a).v()));
+			return;
+		}
+		if (algebra == G.FLT) {
+			((Float32Member) b).setV(round(mode, ((Float32Member) delta).v(), ((Float32Member) a).v()));
+			return;
+		}
 		U zero = algebra.construct();
 		if (algebra.isLessEqual().call(delta,zero))
 			throw new IllegalArgumentException("rounding error: delta must be > 0");
@@ -223,4 +236,182 @@ public class Round {
 		algebra.assign().call(bTmp, b);
 	}
 
+
+	private static double round(Mode mode, double delta, double a) {
+		if (delta <= 0)
+			throw new IllegalArgumentException("rounding error: delta must be > 0");
+		double q = a / delta;
+		double d = (q > 0) ? Math.floor(q) : Math.ceil(q);
+		double m = a % delta;
+		double b = delta * d;
+		if (m != 0) {
+			double absM, d1;
+			switch (mode) {
+				case NEGATIVE:
+					if (b == 0) {
+						if (m < 0)
+							b = b - delta;
+					}
+					else if (b < 0)
+						b = b - delta;
+					break;
+				case POSITIVE:
+					if (b == 0) {
+						if (m > 0)
+							b = b + delta;
+					}
+					else if (b > 0)
+						b = b + delta;
+					break;
+				case TOWARDS_ORIGIN:
+					break;
+				case AWAY_FROM_ORIGIN:
+					if (b == 0) {
+						if (m > 0)
+							b = b + delta;
+						else
+							b = b - delta;
+					}
+					else if (b > 0)
+						b = b + delta;
+					else
+						b = b - delta;
+					break;
+				case HALF_UP:
+					absM = Math.abs(m);
+					d1 = delta - absM;
+					if (b > 0 || (b == 0 && m > 0)) {
+						if (absM >= d1)
+							b = b + delta;
+					}
+					else if (b < 0 || (b == 0 && m < 0)) {
+						if (absM >= d1)
+							b = b - delta;
+					}
+					break;
+				case HALF_DOWN:
+					absM = Math.abs(m);
+					d1 = delta - absM;
+					if (b > 0 || (b == 0 && m > 0)) {
+						if (absM > d1)
+							b = b + delta;
+					}
+					else if (b < 0 || (b == 0 && m < 0)) {
+						if (absM > d1)
+							b = b - delta;
+					}
+					break;
+				case HALF_EVEN:
+				case HALF_ODD:
+					// the half case moves away from the origin when d is odd
+					// (HALF_EVEN) or when d is even (HALF_ODD)
+					absM = Math.abs(m);
+					d1 = delta - absM;
+					boolean away = (mode == Mode.HALF_EVEN) ? (d % 2 != 0) : (d % 2 == 0);
+					if (b > 0 || (b == 0 && m > 0)) {
+						if (absM > d1 || (absM == d1 && away))
+							b = b + delta;
+					}
+					else if (b < 0 || (b == 0 && m < 0)) {
+						if (absM > d1 || (absM == d1 && away))
+							b = b - delta;
+					}
+					break;
+				case EXACT:
+					throw new ArithmeticException("exact rounding check failed");
+				default:
+					throw new IllegalArgumentException("Unknown rounding mode: "+mode);
+			}
+		}
+		return b;
+	}
+
+	private static float round(Mode mode, float delta, float a) {
+		if (delta <= 0)
+			throw new IllegalArgumentException("rounding error: delta must be > 0");
+		double q = a / delta;
+		float d = (float) ((q > 0) ? Math.floor(q) : Math.ceil(q));
+		float m = a % delta;
+		float b = delta * d;
+		if (m != 0) {
+			float absM, d1;
+			switch (mode) {
+				case NEGATIVE:
+					if (b == 0) {
+						if (m < 0)
+							b = b - delta;
+					}
+					else if (b < 0)
+						b = b - delta;
+					break;
+				case POSITIVE:
+					if (b == 0) {
+						if (m > 0)
+							b = b + delta;
+					}
+					else if (b > 0)
+						b = b + delta;
+					break;
+				case TOWARDS_ORIGIN:
+					break;
+				case AWAY_FROM_ORIGIN:
+					if (b == 0) {
+						if (m > 0)
+							b = b + delta;
+						else
+							b = b - delta;
+					}
+					else if (b > 0)
+						b = b + delta;
+					else
+						b = b - delta;
+					break;
+				case HALF_UP:
+					absM = Math.abs(m);
+					d1 = delta - absM;
+					if (b > 0 || (b == 0 && m > 0)) {
+						if (absM >= d1)
+							b = b + delta;
+					}
+					else if (b < 0 || (b == 0 && m < 0)) {
+						if (absM >= d1)
+							b = b - delta;
+					}
+					break;
+				case HALF_DOWN:
+					absM = Math.abs(m);
+					d1 = delta - absM;
+					if (b > 0 || (b == 0 && m > 0)) {
+						if (absM > d1)
+							b = b + delta;
+					}
+					else if (b < 0 || (b == 0 && m < 0)) {
+						if (absM > d1)
+							b = b - delta;
+					}
+					break;
+				case HALF_EVEN:
+				case HALF_ODD:
+					// the half case moves away from the origin when d is odd
+					// (HALF_EVEN) or when d is even (HALF_ODD)
+					absM = Math.abs(m);
+					d1 = delta - absM;
+					boolean away = (mode == Mode.HALF_EVEN) ? (d % 2 != 0) : (d % 2 == 0);
+					if (b > 0 || (b == 0 && m > 0)) {
+						if (absM > d1 || (absM == d1 && away))
+							b = b + delta;
+					}
+					else if (b < 0 || (b == 0 && m < 0)) {
+						if (absM > d1 || (absM == d1 && away))
+							b = b - delta;
+					}
+					break;
+				case EXACT:
+					throw new ArithmeticException("exact rounding check failed");
+				default:
+					throw new IllegalArgumentException("Unknown rounding mode: "+mode);
+			}
+		}
+		return b;
+	}
 }
@@ -55,6 +55,8 @@ public class Scale {
 	public static <T extends Algebra<T,U> & Multiplication<U>, U>
 		void compute(T algebra, U factor, IndexedDataSource<U> a, IndexedDataSource<U> b)
 	{
+		if (PrimitiveArrays.scale(algebra, factor, a, b))
+			return;
 		TransformWithConstant.compute(algebra, algebra, algebra.multiply(), factor, a, b);
 	}
 }
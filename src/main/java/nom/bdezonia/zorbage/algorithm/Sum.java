@@ -73,6 +73,9 @@ public class Sum {
 		//
 		//sum(alg, 0, storage.size(), storage, result);
 		
+		if (PrimitiveArrays.sum(alg, storage, result))
+			return;
+		
 		U sum = alg.construct();
 		U tmp = alg.construct();
 		final long sz = storage.size();
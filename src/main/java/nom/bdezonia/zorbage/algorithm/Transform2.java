@@ -84,6 +84,12 @@ public class Transform2 {
 		if (b.size() != sz)
 			throw new IllegalArgumentException("mismatched list sizes");
 		
+		if (PrimitiveArrays.transform(algA, algB, proc, a, b))
+			return;
+		
+		if (BatchArrays.transform(proc, a, b))
+			return;
+		
 		Tuple2<Integer,Long> arrangement =
 				ThreadingUtils.arrange(a.size(),
 										a.accessWithOneThread() ||
@@ -87,6 +87,12 @@ public class Transform3 {
 		if (b.size() != sz || c.size() != sz)
 			throw new IllegalArgumentException("mismatched list sizes");
 		
+		if (PrimitiveArrays.transform(algA, algB, algC, proc, a, b, c))
+			return;
+		
+		if (BatchArrays.transform(proc, a, b, c))
+			return;
+		
 		Tuple2<Integer,Long> arrangement =
 				ThreadingUtils.arrange(a.size(),
 										a.accessWithOneThread() ||
@@ -39,6 +39,7 @@ import nom.bdezonia.zorbage.algebra.Algebra;
 import nom.bdezonia.zorbage.algebra.Multiplication;
 import nom.bdezonia.zorbage.algorithm.GridIterator;
 import nom.bdezonia.zorbage.data.DimensionedDataSource;
+import nom.bdezonia.zorbage.data.InteriorAccess;
 import nom.bdezonia.zorbage.misc.ThreadingUtils;
 
 /**
@@ -91,7 +92,7 @@ public class ConvND {
 			throw new IllegalArgumentException("invalid data dimensions");
 		
 		Tuple2<Integer,Long> arrangement =
-			ThreadingUtils.arrange(numD,
+			ThreadingUtils.arrange(maxDim,
 									a.rawData().accessWithOneThread() ||
 									b.rawData().accessWithOneThread());
 		int pieces = arrangement.a();
@@ -183,27 +184,75 @@ public class ConvND {
 				filterMax.set(i, filter.dimension(i)-1);
 			}
 			
+			// find where each filter point reads relative to a data point
+			
+			int count = (int) filter.numElements();
+			Object[] filterValues = new Object[count];
+			long[][] offsets = new long[count][numD];
+			long[] minOffsets = new long[numD];
+			long[] maxOffsets = new long[numD];
+			IntegerIndex origin = new IntegerIndex(numD);
+			SamplingIterator<IntegerIndex> filterPoints = GridIterator.compute(filterMin, filterMax);
+			for (int k = 0; k < count; k++) {
+				filterPoints.next(filterPoint);
+				U f = alg.construct();
+				filter.get(filterPoint, f);
+				filterValues[k] = f;
+				indexer.call(filter, origin, filterPoint, pt);
+				for (int i = 0; i < numD; i++) {
+					long offset = pt.get(i);
+					offsets[k][i] = offset;
+					if (k == 0 || offset < minOffsets[i])
+						minOffsets[i] = offset;
+					if (k == 0 || offset > maxOffsets[i])
+						maxOffsets[i] = offset;
+				}
+			}
+			
+			// interior points read the raw data without bounds checks. border
+			//   points read through a so its out of bounds policy applies.
+			
+			InteriorAccess<U> interior = new InteriorAccess<U>(a, minOffsets, maxOffsets);
+			long[] deltas = new long[count];
+			for (int k = 0; k < count; k++) {
+				for (int i = 0; i < numD; i++) {
+					deltas[k] += offsets[k][i] * interior.stride(i);
+				}
+			}
+			
 			U tmp = alg.construct();
-			U f = alg.construct();
 			U sum = alg.construct();
 			SamplingIterator<IntegerIndex> dataPoints = GridIterator.compute(dataMinPt, dataMaxPt);
-			SamplingIterator<IntegerIndex> filterPoints = GridIterator.compute(filterMin, filterMax);
 			while (dataPoints.hasNext()) {
 				dataPoints.next(dataPoint);
 				alg.zero().call(sum);
-				filterPoints.reset();
-				while (filterPoints.hasNext()) {
-					filterPoints.next(filterPoint);
-					indexer.call(filter, dataPoint, filterPoint, pt);
-					a.get(pt, tmp);
-					filter.get(filterPoint, f);
-					alg.multiply().call(tmp, f, tmp);
-					alg.add().call(sum, tmp, sum);
+				if (interior.isInterior(dataPoint)) {
+					long base = interior.linearIndex(dataPoint);
+					for (int k = 0; k < count; k++) {
+						interior.get(base + deltas[k], tmp);
+						alg.multiply().call(tmp, el(filterValues, k), tmp);
+						alg.add().call(sum, tmp, sum);
+					}
+				}
+				else {
+					filterPoints.reset();
+					for (int k = 0; k < count; k++) {
+						filterPoints.next(filterPoint);
+						indexer.call(filter, dataPoint, filterPoint, pt);
+						a.get(pt, tmp);
+						alg.multiply().call(tmp, el(filterValues, k), tmp);
+						alg.add().call(sum, tmp, sum);
+					}
 				}
 				b.set(dataPoint, sum);
 			}
 			
 		}
 		
+		@SuppressWarnings("unchecked")
+		private U el(Object[] values, int k) {
+			return (U) values[k];
+		}
+		
 	}
 }
@@ -0,0 +1,332 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.algorithm.corrconv;
+
+import nom.bdezonia.zorbage.algebra.Addition;
+import nom.bdezonia.zorbage.algebra.Algebra;
+import nom.bdezonia.zorbage.algebra.Conjugate;
+import nom.bdezonia.zorbage.algebra.G;
+import nom.bdezonia.zorbage.algebra.GetI;
+import nom.bdezonia.zorbage.algebra.GetR;
+import nom.bdezonia.zorbage.algebra.Invertible;
+import nom.bdezonia.zorbage.algebra.Multiplication;
+import nom.bdezonia.zorbage.algebra.RealConstants;
+import nom.bdezonia.zorbage.algebra.SetI;
+import nom.bdezonia.zorbage.algebra.SetR;
+import nom.bdezonia.zorbage.algebra.Trigonometric;
+import nom.bdezonia.zorbage.algebra.Unity;
+import nom.bdezonia.zorbage.algorithm.FFT;
+import nom.bdezonia.zorbage.algorithm.InvFFT;
+import nom.bdezonia.zorbage.algorithm.RealFFT;
+import nom.bdezonia.zorbage.algorithm.RealInvFFT;
+import nom.bdezonia.zorbage.algorithm.fft.FFTPlan;
+import nom.bdezonia.zorbage.algorithm.fft.FFTPlanCache;
+import nom.bdezonia.zorbage.algorithm.fft.RealFFTPlan;
+import nom.bdezonia.zorbage.datasource.IndexedDataSource;
+import nom.bdezonia.zorbage.storage.Storage;
+import nom.bdezonia.zorbage.type.complex.float128.ComplexFloat128Algebra;
+import nom.bdezonia.zorbage.type.complex.float128.ComplexFloat128Member;
+import nom.bdezonia.zorbage.type.complex.float32.ComplexFloat32Algebra;
+import nom.bdezonia.zorbage.type.complex.float32.ComplexFloat32Member;
+import nom.bdezonia.zorbage.type.complex.float64.ComplexFloat64Algebra;
+import nom.bdezonia.zorbage.type.complex.float64.ComplexFloat64Member;
+import nom.bdezonia.zorbage.type.complex.highprec.ComplexHighPrecisionAlgebra;
+import nom.bdezonia.zorbage.type.complex.highprec.ComplexHighPrecisionMember;
+import nom.bdezonia.zorbage.type.real.float128.Float128Algebra;
+import nom.bdezonia.zorbage.type.real.float128.Float128Member;
+import nom.bdezonia.zorbage.type.real.float32.Float32Algebra;
+import nom.bdezonia.zorbage.type.real.float32.Float32Member;
+import nom.bdezonia.zorbage.type.real.float64.Float64Algebra;
+import nom.bdezonia.zorbage.type.real.float64.Float64Member;
+import nom.bdezonia.zorbage.type.real.highprec.HighPrecisionAlgebra;
+import nom.bdezonia.zorbage.type.real.highprec.HighPrecisionMember;
+
+/**
+ * FFTConv1D convolves or correlates a 1-d list with a filter by multiplying
+ * their Fourier transforms. It calculates the same values as {@link Conv1D}
+ * and {@link Corr1D} (out of bounds reads of the input are made through the
+ * input list just as the direct sums make them) but in O((n+m) log(n+m))
+ * time rather than O(n*m). Real data uses real input FFTs. Only floating
+ * point types are transformed: integer data would lose its exactness.
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class FFTConv1D {
+
+	// do not instantiate
+	
+	private FFTConv1D() { }
+
+	// Filters shorter than this are always applied directly.
+	
+	private static final long MIN_FILTER_SIZE = 32;
+	
+	// The rough cost of one point of one FFT stage relative to one multiply
+	//   and add of a direct sum. It includes the three transforms of the
+	//   calculation and the complex arithmetic they use.
+	
+	private static final double FFT_COST = 6.0;
+	
+	/**
+	 * Returns true if filtering a signal of length n with a filter of length m
+	 * is expected to be faster with FFTs than with a direct sum.
+	 * 
+	 * @param n
+	 * @param m
+	 * @return
+	 */
+	public static boolean fftIsFaster(long n, long m) {
+		
+		if (m < MIN_FILTER_SIZE || n < 1)
+			return false;
+		
+		long size = FFT.enclosingPowerOf2(n + m - 1);
+		
+		int stages = 63 - Long.numberOfLeadingZeros(size);
+		
+		double fftCost = FFT_COST * size * (stages + 1);
+		
+		double directCost = ((double) n) * m;
+		
+		return fftCost < directCost;
+	}
+	
+	/**
+	 * Convolve or correlate a with a filter using FFTs and store the results in b.
+	 * The filter length must be odd. Returns false (and does nothing) if alg is
+	 * not a floating point algebra that this class knows how to transform.
+	 * 
+	 * @param <T>
+	 * @param <U>
+	 * @param alg
+	 * @param correlate true to correlate, false to convolve
+	 * @param filter
+	 * @param a
+	 * @param b
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends Algebra<T,U>, U>
+		boolean compute(T alg, boolean correlate, IndexedDataSource<U> filter, IndexedDataSource<U> a, IndexedDataSource<U> b)
+	{
+		if (a == b)
+			throw new IllegalArgumentException("source and dest lists must be different");
+		
+		if (filter.size() % 2 != 1)
+			throw new IllegalArgumentException("filter length should be odd");
+		
+		if (alg instanceof Float32Algebra) {
+			
+			reals(G.CFLT, G.FLT, correlate,
+					(IndexedDataSource<Float32Member>) filter,
+					(IndexedDataSource<Float32Member>) a,
+					(IndexedDataSource<Float32Member>) b);
+		}
+		else if (alg instanceof Float64Algebra) {
+			
+			reals(G.CDBL, G.DBL, correlate,
+					(IndexedDataSource<Float64Member>) filter,
+					(IndexedDataSource<Float64Member>) a,
+					(IndexedDataSource<Float64Member>) b);
+		}
+		else if (alg instanceof Float128Algebra) {
+			
+			reals(G.CQUAD, G.QUAD, correlate,
+					(IndexedDataSource<Float128Member>) filter,
+					(IndexedDataSource<Float128Member>) a,
+					(IndexedDataSource<Float128Member>) b);
+		}
+		else if (alg instanceof HighPrecisionAlgebra) {
+			
+			reals(G.CHP, G.HP, correlate,
+					(IndexedDataSource<HighPrecisionMember>) filter,
+					(IndexedDataSource<HighPrecisionMember>) a,
+					(IndexedDataSource<HighPrecisionMember>) b);
+		}
+		else if (alg instanceof ComplexFloat32Algebra) {
+			
+			complexes(G.CFLT, G.FLT, correlate,
+					(IndexedDataSource<ComplexFloat32Member>) filter,
+					(IndexedDataSource<ComplexFloat32Member>) a,
+					(IndexedDataSource<ComplexFloat32Member>) b);
+		}
+		else if (alg instanceof ComplexFloat64Algebra) {
+			
+			complexes(G.CDBL, G.DBL, correlate,
+					(IndexedDataSource<ComplexFloat64Member>) filter,
+					(IndexedDataSource<ComplexFloat64Member>) a,
+					(IndexedDataSource<ComplexFloat64Member>) b);
+		}
+		else if (alg instanceof ComplexFloat128Algebra) {
+			
+			complexes(G.CQUAD, G.QUAD, correlate,
+					(IndexedDataSource<ComplexFloat128Member>) filter,
+					(IndexedDataSource<ComplexFloat128Member>) a,
+					(IndexedDataSource<ComplexFloat128Member>) b);
+		}
+		else if (alg instanceof ComplexHighPrecisionAlgebra) {
+			
+			complexes(G.CHP, G.HP, correlate,
+					(IndexedDataSource<ComplexHighPrecisionMember>) filter,
+					(IndexedDataSource<ComplexHighPrecisionMember>) a,
+					(IndexedDataSource<ComplexHighPrecisionMember>) b);
+		}
+		else {
+			
+			return false;
+		}
+		
+		return true;
+	}
+	
+	// With n = filter.size()/2 the input is read from -n to a.size()+n just as
+	//   the direct sums read it. Convolution output x is then element x+2n of
+	//   the linear convolution of that extended input and the filter. A circular
+	//   convolution at least as long as the extended input has the same values
+	//   there. Correlation is convolution with the reversed filter and the
+	//   conjugated input.
+	
+	private static
+	
+		<CA extends Algebra<CA,C> & Addition<C> & Multiplication<C> & Conjugate<C>,
+		
+			C extends SetR<R> & SetI<R> & GetR<R> & GetI<R>,
+			
+			RA extends Algebra<RA,R> & Trigonometric<R> & RealConstants<R> &
+				Unity<R> & Multiplication<R> & Addition<R> & Invertible<R>,
+				
+			R>
+	
+		void reals(CA complexAlg, RA realAlg, boolean correlate,
+					IndexedDataSource<R> filter, IndexedDataSource<R> a, IndexedDataSource<R> b)
+	{
+		long m = filter.size();
+		long n = m / 2;
+		long extended = a.size() + 2 * n;
+		long size = FFT.enclosingPowerOf2(Math.max(2, extended));
+		
+		R value = realAlg.construct();
+		
+		IndexedDataSource<R> signal = Storage.allocate(value, size);
+		for (long j = 0; j < extended; j++) {
+			a.get(j - n, value);
+			signal.set(j, value);
+		}
+		
+		IndexedDataSource<R> kernel = Storage.allocate(value, size);
+		for (long k = 0; k < m; k++) {
+			filter.get(k, value);
+			kernel.set(correlate ? m - 1 - k : k, value);
+		}
+		
+		RealFFTPlan<C> plan = FFTPlanCache.realPlan(complexAlg, realAlg, size);
+		
+		C product = complexAlg.construct();
+		C f = complexAlg.construct();
+		
+		IndexedDataSource<C> signalSpectrum = Storage.allocate(product, plan.spectrumSize());
+		IndexedDataSource<C> kernelSpectrum = Storage.allocate(product, plan.spectrumSize());
+		
+		RealFFT.compute(complexAlg, realAlg, plan, signal, signalSpectrum);
+		RealFFT.compute(complexAlg, realAlg, plan, kernel, kernelSpectrum);
+		
+		for (long k = 0; k < plan.spectrumSize(); k++) {
+			signalSpectrum.get(k, product);
+			kernelSpectrum.get(k, f);
+			complexAlg.multiply().call(product, f, product);
+			signalSpectrum.set(k, product);
+		}
+		
+		RealInvFFT.compute(complexAlg, realAlg, plan, signalSpectrum, signal);
+		
+		for (long x = 0; x < a.size(); x++) {
+			signal.get(x + 2 * n, value);
+			b.set(x, value);
+		}
+	}
+	
+	private static
+	
+		<CA extends Algebra<CA,C> & Addition<C> & Multiplication<C> & Conjugate<C>,
+		
+			C extends SetR<R> & SetI<R>,
+			
+			RA extends Algebra<RA,R> & Trigonometric<R> & RealConstants<R> &
+				Unity<R> & Multiplication<R> & Addition<R> & Invertible<R>,
+				
+			R>
+	
+		void complexes(CA complexAlg, RA realAlg, boolean correlate,
+						IndexedDataSource<C> filter, IndexedDataSource<C> a, IndexedDataSource<C> b)
+	{
+		long m = filter.size();
+		long n = m / 2;
+		long extended = a.size() + 2 * n;
+		long size = FFT.enclosingPowerOf2(extended);
+		
+		C value = complexAlg.construct();
+		C f = complexAlg.construct();
+		
+		IndexedDataSource<C> signal = Storage.allocate(value, size);
+		for (long j = 0; j < extended; j++) {
+			a.get(j - n, value);
+			if (correlate)
+				complexAlg.conjugate().call(value, value);
+			signal.set(j, value);
+		}
+		
+		IndexedDataSource<C> kernel = Storage.allocate(value, size);
+		for (long k = 0; k < m; k++) {
+			filter.get(k, value);
+			kernel.set(correlate ? m - 1 - k : k, value);
+		}
+		
+		FFTPlan<C> plan = FFTPlanCache.plan(complexAlg, realAlg, size);
+		
+		FFT.compute(complexAlg, plan, signal, signal);
+		FFT.compute(complexAlg, plan, kernel, kernel);
+		
+		for (long k = 0; k < size; k++) {
+			signal.get(k, value);
+			kernel.get(k, f);
+			complexAlg.multiply().call(value, f, value);
+			signal.set(k, value);
+		}
+		
+		InvFFT.compute(complexAlg, plan, signal, signal);
+		
+		for (long x = 0; x < a.size(); x++) {
+			signal.get(x + 2 * n, value);
+			b.set(x, value);
+		}
+	}
+}
@@ -0,0 +1,664 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.algorithm.corrconv;
+
+import nom.bdezonia.zorbage.algebra.Algebra;
+import nom.bdezonia.zorbage.algebra.G;
+import nom.bdezonia.zorbage.algorithm.fft.AxisFFT;
+import nom.bdezonia.zorbage.algorithm.fft.FFTPlan;
+import nom.bdezonia.zorbage.algorithm.fft.FFTPlanCache;
+import nom.bdezonia.zorbage.data.DimensionedDataSource;
+import nom.bdezonia.zorbage.datasource.IndexedDataSource;
+import nom.bdezonia.zorbage.misc.ThreadingUtils;
+import nom.bdezonia.zorbage.sampling.IntegerIndex;
+import nom.bdezonia.zorbage.storage.Storage;
+import nom.bdezonia.zorbage.tuple.Tuple2;
+import nom.bdezonia.zorbage.type.complex.float32.ComplexFloat32Algebra;
+import nom.bdezonia.zorbage.type.complex.float32.ComplexFloat32Member;
+import nom.bdezonia.zorbage.type.complex.float64.ComplexFloat64Algebra;
+import nom.bdezonia.zorbage.type.complex.float64.ComplexFloat64Member;
+import nom.bdezonia.zorbage.type.real.float32.Float32Algebra;
+import nom.bdezonia.zorbage.type.real.float32.Float32Member;
+import nom.bdezonia.zorbage.type.real.float64.Float64Algebra;
+import nom.bdezonia.zorbage.type.real.float64.Float64Member;
+
+/**
+ * FastConvND convolves or correlates n-d data with a filter by one of two
+ * methods that are faster than the direct sums of {@link ConvND} and
+ * {@link CorrND}:
+ * <ul>
+ * <li>A separable (rank 1) filter is applied as a sequence of 1-d filters,
+ *     one along each axis. An m^n filter then costs n*m rather than m^n
+ *     multiplies per point.</li>
+ * <li>Any filter can be applied by multiplying the n-d Fourier transforms of
+ *     the data and the filter.</li>
+ * </ul>
+ * A cost model chooses between the direct sums and these two methods. Out
+ * of bounds reads of the input are made through the input data source just
+ * as the direct sums make them, so the same values are calculated (to
+ * within rounding). The calculations are done in double precision and
+ * only the Float32, Float64, ComplexFloat32, and ComplexFloat64 algebras
+ * are supported.
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class FastConvND {
+
+	// do not instantiate
+	
+	private FastConvND() { }
+
+	/** The filter should be applied with direct sums. */
+	public static final int DIRECT = 0;
+	
+	/** The filter should be applied as a sequence of 1-d filters. */
+	public static final int SEPARABLE = 1;
+	
+	/** The filter should be applied by multiplying Fourier transforms. */
+	public static final int FFT = 2;
+	
+	// The rough cost of one generic operation (a data source read or write
+	//   or one multiply and add of a direct sum, each of which goes through
+	//   IntegerIndex math and algebra procedures) relative to one multiply
+	//   and add of doubles.
+	
+	private static final double GENERIC_COST = 25.0;
+	
+	// The rough cost, in generic operations, of one point of one stage of
+	//   the three transforms the FFT method does.
+	
+	private static final double FFT_COST = 3.0;
+	
+	// the largest primitive array the separable method will allocate
+	
+	private static final long MAX_ARRAY = Integer.MAX_VALUE - 8;
+	
+	/**
+	 * Estimate which method is fastest for filtering data of the given
+	 * dimensions by a filter of the given dimensions.
+	 * 
+	 * @param dataDims
+	 * @param filterDims
+	 * @param separable True if the filter is rank 1
+	 * @param complex True if the data is complex
+	 * @return DIRECT, SEPARABLE, or FFT
+	 */
+	public static int chooseMethod(long[] dataDims, long[] filterDims, boolean separable, boolean complex) {
+		
+		if (dataDims.length != filterDims.length)
+			throw new IllegalArgumentException("data and filter have different number of dimensions");
+		
+		int numD = dataDims.length;
+		double n = 1;
+		double m = 1;
+		double extended = 1;
+		double padded = 1;
+		for (int i = 0; i < numD; i++) {
+			n *= dataDims[i];
+			m *= filterDims[i];
+			extended *= dataDims[i] + filterDims[i] - 1;
+			padded *= fftSize(dataDims[i] + filterDims[i] - 1);
+		}
+		
+		double directCost = GENERIC_COST * n * m;
+		
+		double separableCost = Double.POSITIVE_INFINITY;
+		if (separable && extended * (complex ? 2 : 1) <= MAX_ARRAY) {
+			separableCost = GENERIC_COST * (extended + n);
+			double points = extended;
+			for (int i = 0; i < numD; i++) {
+				points = points / (dataDims[i] + filterDims[i] - 1) * dataDims[i];
+				separableCost += points * filterDims[i] * (complex ? 4 : 1);
+			}
+		}
+		
+		double log2 = Math.log(padded) / Math.log(2);
+		double fftCost = GENERIC_COST * (extended + n + m + padded * (1 + FFT_COST * log2));
+		
+		if (separableCost <= directCost && separableCost <= fftCost)
+			return SEPARABLE;
+		if (fftCost < directCost)
+			return FFT;
+		return DIRECT;
+	}
+	
+	/**
+	 * Convolve or correlate a with a filter and store the results in b if a
+	 * faster method than the direct sums applies. Returns false (and does
+	 * nothing) if alg is not supported, if the inputs are not suitable, or
+	 * if the direct sums are expected to be fastest.
+	 * 
+	 * @param <T>
+	 * @param <U>
+	 * @param alg
+	 * @param correlate true to correlate, false to convolve
+	 * @param filter
+	 * @param a
+	 * @param b
+	 * @return
+	 */
+	public static <T extends Algebra<T,U>, U>
+		boolean compute(T alg, boolean correlate, DimensionedDataSource<U> filter, DimensionedDataSource<U> a, DimensionedDataSource<U> b)
+	{
+		Access access = access(alg);
+		if (access == null)
+			return false;
+		
+		// let the direct method report bad inputs
+		
+		int numD = a.numDimensions();
+		if (a == b || b.numDimensions() != numD || filter.numDimensions() != numD ||
+				filter.numElements() % 2 != 1 || filter.numElements() > MAX_ARRAY)
+			return false;
+		
+		long[] dataDims = new long[numD];
+		long[] filterDims = new long[numD];
+		for (int i = 0; i < numD; i++) {
+			dataDims[i] = a.dimension(i);
+			filterDims[i] = filter.dimension(i);
+			if (b.dimension(i) != dataDims[i] || dataDims[i] <= 0)
+				return false;
+		}
+		
+		U value = alg.construct();
+		int m = (int) filter.numElements();
+		double[] fr = new double[m];
+		double[] fi = new double[m];
+		read(filter, filterDims, new long[numD], access, false, value, fr, fi, filterDims);
+		
+		double[][] factors = factor(fr, fi, filterDims, access.epsilon);
+		
+		int method = chooseMethod(dataDims, filterDims, factors != null, access.complex);
+		
+		if (method == SEPARABLE) {
+			separable(correlate, factors, dataDims, filterDims, access, value, a, b);
+			return true;
+		}
+		
+		if (method == FFT) {
+			transform(correlate, fr, fi, dataDims, filterDims, access, value, a, b);
+			return true;
+		}
+		
+		return false;
+	}
+	
+	// Returns the per axis factors (as interleaved complex values) of a rank
+	//   1 filter or null if the filter is not rank 1. The factors are taken
+	//   from the lines through the largest filter value.
+	
+	private static double[][] factor(double[] fr, double[] fi, long[] dims, double epsilon) {
+		
+		int numD = dims.length;
+		int count = fr.length;
+		
+		int p = 0;
+		double max = -1;
+		for (int i = 0; i < count; i++) {
+			double mag = fr[i] * fr[i] + fi[i] * fi[i];
+			if (mag > max) {
+				max = mag;
+				p = i;
+			}
+		}
+		if (max == 0)
+			return null;
+		
+		int[] strides = new int[numD];
+		int[] pc = new int[numD];
+		int stride = 1;
+		for (int d = 0; d < numD; d++) {
+			strides[d] = stride;
+			pc[d] = (int) ((p / stride) % dims[d]);
+			stride *= dims[d];
+		}
+		
+		double[][] factors = new double[numD][];
+		for (int d = 0; d < numD; d++) {
+			int len = (int) dims[d];
+			factors[d] = new double[2 * len];
+			for (int k = 0; k < len; k++) {
+				int q = p + (k - pc[d]) * strides[d];
+				double re = fr[q];
+				double im = fi[q];
+				if (d > 0) {
+					// divide by the largest value so that the product of the factors is the filter
+					double t = re * fr[p] + im * fi[p];
+					im = (im * fr[p] - re * fi[p]) / max;
+					re = t / max;
+				}
+				factors[d][2*k] = re;
+				factors[d][2*k+1] = im;
+			}
+		}
+		
+		double tol = 16 * numD * epsilon * Math.sqrt(max);
+		int[] pos = new int[numD];
+		for (int i = 0; i < count; i++) {
+			double re = 1;
+			double im = 0;
+			for (int d = 0; d < numD; d++) {
+				double fre = factors[d][2*pos[d]];
+				double fim = factors[d][2*pos[d]+1];
+				double t = re * fre - im * fim;
+				im = re * fim + im * fre;
+				re = t;
+			}
+			double dr = fr[i] - re;
+			double di = fi[i] - im;
+			if (dr * dr + di * di > tol * tol)
+				return null;
+			for (int d = 0; d < numD; d++) {
+				if (++pos[d] < dims[d])
+					break;
+				pos[d] = 0;
+			}
+		}
+		
+		return factors;
+	}
+	
+	// filter along one axis after another
+	
+	private static <U> void separable(boolean correlate, double[][] factors, long[] dataDims, long[] filterDims,
+			Access access, U value, DimensionedDataSource<U> a, DimensionedDataSource<U> b)
+	{
+		int numD = dataDims.length;
+		long[] cur = new long[numD];
+		long[] offset = new long[numD];
+		long total = 1;
+		for (int d = 0; d < numD; d++) {
+			cur[d] = dataDims[d] + filterDims[d] - 1;
+			offset[d] = -(filterDims[d] / 2);
+			total *= cur[d];
+		}
+		
+		double[] re = new double[(int) total];
+		double[] im = access.complex ? new double[(int) total] : null;
+		read(a, cur, offset, access, correlate, value, re, im, cur);
+		
+		for (int d = 0; d < numD; d++) {
+			
+			int m = (int) filterDims[d];
+			double[] wr = new double[m];
+			double[] wi = new double[m];
+			for (int j = 0; j < m; j++) {
+				int k = correlate ? j : m - 1 - j;
+				wr[j] = factors[d][2*k];
+				wi[j] = factors[d][2*k+1];
+			}
+			
+			long inner = 1;
+			for (int e = 0; e < d; e++) {
+				inner *= cur[e];
+			}
+			long outer = 1;
+			for (int e = d+1; e < numD; e++) {
+				outer *= cur[e];
+			}
+			int lenIn = (int) cur[d];
+			int lenOut = (int) dataDims[d];
+			
+			double[] outRe = new double[(int) (inner * lenOut * outer)];
+			double[] outIm = access.complex ? new double[outRe.length] : null;
+			
+			long units = outer * lenOut;
+			long work = units * inner * m;
+			
+			int pieces = 1;
+			long unitsPerPiece = units;
+			if (work >= (1 << 16)) {
+				Tuple2<Integer,Long> arrangement = ThreadingUtils.arrange(units, false);
+				pieces = arrangement.a();
+				unitsPerPiece = arrangement.b();
+			}
+			
+			if (pieces == 1) {
+				new Pass(re, im, outRe, outIm, (int) inner, lenIn, lenOut, wr, wi, 0, units).run();
+			}
+			else {
+				final Thread[] threads = new Thread[pieces];
+				long start = 0;
+				for (int i = 0; i < pieces; i++) {
+					long end = (i == pieces - 1) ? units : start + unitsPerPiece;
+					threads[i] = new Thread(new Pass(re, im, outRe, outIm, (int) inner, lenIn, lenOut, wr, wi, start, end));
+					start = end;
+				}
+				for (int i = 0; i < pieces; i++) {
+					threads[i].start();
+				}
+				for (int i = 0; i < pieces; i++) {
+					try {
+						threads[i].join();
+					} catch(InterruptedException e) {
+						throw new IllegalArgumentException("Thread execution error in FastConvND");
+					}
+				}
+			}
+			
+			re = outRe;
+			im = outIm;
+			cur[d] = dataDims[d];
+		}
+		
+		write(b, dataDims, new long[numD], access, value, re, im, dataDims);
+	}
+	
+	// out[x] = sum of in[x + j] * w[j] along one axis for a range of
+	//   (outer, x) units
+	
+	private static class Pass implements Runnable {
+		
+		private final double[] inRe, inIm, outRe, outIm, wr, wi;
+		private final int inner, lenIn, lenOut;
+		private final long first, last;
+		
+		Pass(double[] inRe, double[] inIm, double[] outRe, double[] outIm, int inner, int lenIn, int lenOut,
+				double[] wr, double[] wi, long first, long last)
+		{
+			this.inRe = inRe;
+			this.inIm = inIm;
+			this.outRe = outRe;
+			this.outIm = outIm;
+			this.inner = inner;
+			this.lenIn = lenIn;
+			this.lenOut = lenOut;
+			this.wr = wr;
+			this.wi = wi;
+			this.first = first;
+			this.last = last;
+		}
+		
+		@Override
+		public void run() {
+			int m = wr.length;
+			for (long u = first; u < last; u++) {
+				int o = (int) (u / lenOut);
+				int x = (int) (u % lenOut);
+				int outBase = (o * lenOut + x) * inner;
+				for (int j = 0; j < m; j++) {
+					int inBase = (o * lenIn + x + j) * inner;
+					double r = wr[j];
+					if (inIm == null) {
+						for (int i = 0; i < inner; i++) {
+							outRe[outBase + i] += inRe[inBase + i] * r;
+						}
+					}
+					else {
+						double s = wi[j];
+						for (int i = 0; i < inner; i++) {
+							double ar = inRe[inBase + i];
+							double ai = inIm[inBase + i];
+							outRe[outBase + i] += ar * r - ai * s;
+							outIm[outBase + i] += ar * s + ai * r;
+						}
+					}
+				}
+			}
+		}
+	}
+	
+	// multiply the transforms of the extended input and the filter
+	
+	private static <U> void transform(boolean correlate, double[] fr, double[] fi, long[] dataDims, long[] filterDims,
+			Access access, U value, DimensionedDataSource<U> a, DimensionedDataSource<U> b)
+	{
+		int numD = dataDims.length;
+		long[] extended = new long[numD];
+		long[] offset = new long[numD];
+		long[] padded = new long[numD];
+		long total = 1;
+		for (int d = 0; d < numD; d++) {
+			extended[d] = dataDims[d] + filterDims[d] - 1;
+			offset[d] = -(filterDims[d] / 2);
+			padded[d] = fftSize(extended[d]);
+			total *= padded[d];
+		}
+		
+		IndexedDataSource<ComplexFloat64Member> data = Storage.allocate(G.CDBL.construct(), total);
+		IndexedDataSource<ComplexFloat64Member> kernel = Storage.allocate(G.CDBL.construct(), total);
+		ComplexFloat64Member c = G.CDBL.construct();
+		ComplexFloat64Member k = G.CDBL.construct();
+		
+		// the extended input
+		
+		long count = 1;
+		for (int d = 0; d < numD; d++) {
+			count *= extended[d];
+		}
+		IntegerIndex idx = new IntegerIndex(numD);
+		long[] pos = new long[numD];
+		for (long i = 0; i < count; i++) {
+			for (int d = 0; d < numD; d++) {
+				idx.set(d, pos[d] + offset[d]);
+			}
+			a.get(idx, value);
+			c.setR(access.r(value));
+			c.setI(correlate ? -access.i(value) : access.i(value));
+			data.set(index(pos, padded), c);
+			increment(pos, extended);
+		}
+		
+		// the filter, reversed for correlation
+		
+		pos = new long[numD];
+		long[] kpos = new long[numD];
+		for (int i = 0; i < fr.length; i++) {
+			for (int d = 0; d < numD; d++) {
+				kpos[d] = correlate ? filterDims[d] - 1 - pos[d] : pos[d];
+			}
+			c.setR(fr[i]);
+			c.setI(fi[i]);
+			kernel.set(index(kpos, padded), c);
+			increment(pos, filterDims);
+		}
+		
+		for (int axis = 0; axis < numD; axis++) {
+			FFTPlan<ComplexFloat64Member> plan = FFTPlanCache.plan(G.CDBL, G.DBL, padded[axis]);
+			AxisFFT.forward(G.CDBL, plan, data, padded, axis);
+			AxisFFT.forward(G.CDBL, plan, kernel, padded, axis);
+		}
+		
+		for (long i = 0; i < total; i++) {
+			data.get(i, c);
+			kernel.get(i, k);
+			G.CDBL.multiply().call(c, k, c);
+			data.set(i, c);
+		}
+		
+		for (int axis = 0; axis < numD; axis++) {
+			FFTPlan<ComplexFloat64Member> plan = FFTPlanCache.plan(G.CDBL, G.DBL, padded[axis]);
+			AxisFFT.inverse(G.CDBL, plan, data, padded, axis);
+		}
+		
+		// output point x is at x + m - 1 of the circular convolution
+		
+		pos = new long[numD];
+		long n = 1;
+		for (int d = 0; d < numD; d++) {
+			n *= dataDims[d];
+		}
+		for (long i = 0; i < n; i++) {
+			for (int d = 0; d < numD; d++) {
+				kpos[d] = pos[d] + filterDims[d] - 1;
+				idx.set(d, pos[d]);
+			}
+			data.get(index(kpos, padded), c);
+			access.set(value, c.r(), c.i());
+			b.set(idx, value);
+			increment(pos, dataDims);
+		}
+	}
+	
+	// Read a box of a data source whose corner is at offset into arrays laid
+	//   out with dimension 0 fastest. Values are conjugated if requested.
+	
+	private static <U> void read(DimensionedDataSource<U> src, long[] box, long[] offset, Access access,
+			boolean conjugate, U value, double[] re, double[] im, long[] layout)
+	{
+		int numD = box.length;
+		IntegerIndex idx = new IntegerIndex(numD);
+		long[] pos = new long[numD];
+		long count = 1;
+		for (int d = 0; d < numD; d++) {
+			count *= box[d];
+		}
+		for (long i = 0; i < count; i++) {
+			for (int d = 0; d < numD; d++) {
+				idx.set(d, pos[d] + offset[d]);
+			}
+			src.get(idx, value);
+			int p = (int) index(pos, layout);
+			re[p] = access.r(value);
+			if (im != null)
+				im[p] = conjugate ? -access.i(value) : access.i(value);
+			increment(pos, box);
+		}
+	}
+	
+	private static <U> void write(DimensionedDataSource<U> dest, long[] box, long[] offset, Access access,
+			U value, double[] re, double[] im, long[] layout)
+	{
+		int numD = box.length;
+		IntegerIndex idx = new IntegerIndex(numD);
+		long[] pos = new long[numD];
+		long count = 1;
+		for (int d = 0; d < numD; d++) {
+			count *= box[d];
+		}
+		for (long i = 0; i < count; i++) {
+			for (int d = 0; d < numD; d++) {
+				idx.set(d, pos[d] + offset[d]);
+			}
+			int p = (int) index(pos, layout);
+			access.set(value, re[p], im == null ? 0 : im[p]);
+			dest.set(idx, value);
+			increment(pos, box);
+		}
+	}
+	
+	private static long index(long[] pos, long[] dims) {
+		long index = 0;
+		for (int d = dims.length - 1; d >= 0; d--) {
+			index = index * dims[d] + pos[d];
+		}
+		return index;
+	}
+	
+	private static void increment(long[] pos, long[] dims) {
+		for (int d = 0; d < dims.length; d++) {
+			if (++pos[d] < dims[d])
+				return;
+			pos[d] = 0;
+		}
+	}
+	
+	// the smallest size >= n whose only prime factors are 2, 3, and 5
+	
+	private static long fftSize(long n) {
+		long best = Long.MAX_VALUE;
+		for (long p2 = 1; p2 < 2 * n; p2 *= 2) {
+			for (long p3 = p2; p3 < 2 * n; p3 *= 3) {
+				for (long p5 = p3; p5 < 2 * n; p5 *= 5) {
+					if (p5 >= n && p5 < best)
+						best = p5;
+				}
+			}
+		}
+		return best;
+	}
+	
+	// reads and writes the supported types as doubles
+	
+	private static abstract class Access {
+		
+		final boolean complex;
+		final double epsilon;
+		
+		Access(boolean complex, double epsilon) {
+			this.complex = complex;
+			this.epsilon = epsilon;
+		}
+		
+		abstract double r(Object value);
+		
+		abstract double i(Object value);
+		
+		abstract void set(Object value, double r, double i);
+	}
+	
+	private static final double EPS64 = Math.ulp(1.0);
+	
+	private static final double EPS32 = Math.ulp(1.0f);
+	
+	private static final Access FLOAT64 = new Access(false, EPS64) {
+		double r(Object value) { return ((Float64Member) value).v(); }
+		double i(Object value) { return 0; }
+		void set(Object value, double r, double i) { ((Float64Member) value).setV(r); }
+	};
+	
+	private static final Access FLOAT32 = new Access(false, EPS32) {
+		double r(Object value) { return ((Float32Member) value).v(); }
+		double i(Object value) { return 0; }
+		void set(Object value, double r, double i) { ((Float32Member) value).setV((float) r); }
+	};
+	
+	private static final Access COMPLEX_FLOAT64 = new Access(true, EPS64) {
+		double r(Object value) { return ((ComplexFloat64Member) value).r(); }
+		double i(Object value) { return ((ComplexFloat64Member) value).i(); }
+		void set(Object value, double r, double i) {
+			((ComplexFloat64Member) value).setR(r);
+			((ComplexFloat64Member) value).setI(i);
+		}
+	};
+	
+	private static final Access COMPLEX_FLOAT32 = new Access(true, EPS32) {
+		double r(Object value) { return ((ComplexFloat32Member) value).r(); }
+		double i(Object value) { return ((ComplexFloat32Member) value).i(); }
+		void set(Object value, double r, double i) {
+			((ComplexFloat32Member) value).setR((float) r);
+			((ComplexFloat32Member) value).setI((float) i);
+		}
+	};
+	
+	private static Access access(Algebra<?,?> alg) {
+		if (alg instanceof Float64Algebra)
+			return FLOAT64;
+		if (alg instanceof Float32Algebra)
+			return FLOAT32;
+		if (alg instanceof ComplexFloat64Algebra)
+			return COMPLEX_FLOAT64;
+		if (alg instanceof ComplexFloat32Algebra)
+			return COMPLEX_FLOAT32;
+		return null;
+	}
+}
@@ -0,0 +1,283 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.algorithm.fft;
+
+import nom.bdezonia.zorbage.algebra.Addition;
+import nom.bdezonia.zorbage.algebra.Algebra;
+import nom.bdezonia.zorbage.algebra.Conjugate;
+import nom.bdezonia.zorbage.algebra.Multiplication;
+import nom.bdezonia.zorbage.algorithm.FFT;
+import nom.bdezonia.zorbage.datasource.IndexedDataSource;
+import nom.bdezonia.zorbage.datasource.TrimmedDataSource;
+import nom.bdezonia.zorbage.misc.ThreadingUtils;
+import nom.bdezonia.zorbage.procedure.Procedure2;
+import nom.bdezonia.zorbage.storage.Storage;
+import nom.bdezonia.zorbage.tuple.Tuple2;
+
+/**
+ * AxisFFT transforms, in place, every line of multidimensional data that runs
+ * parallel to one axis. It is the building block of the 2-d, 3-d, and n-d
+ * transforms. The data is laid out with dimension 0 varying fastest.
+ * <p>
+ * The lines are divided among threads. Each thread copies a small block of
+ * neighboring lines into its own contiguous scratch buffer (a cache blocked
+ * transpose: the block is read and written a row of memory at a time), does
+ * the 1-d transforms there, and copies the results back.
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class AxisFFT {
+
+	// do not instantiate
+	
+	private AxisFFT() { }
+
+	// the number of neighboring lines that are gathered together
+	
+	private static final int BLOCK = 16;
+	
+	/**
+	 * Do a forward fast Fourier transform of all the lines along one axis.
+	 * 
+	 * @param <CA>
+	 * @param <C>
+	 * @param complexAlg
+	 * @param plan A plan whose size equals dims[axis]
+	 * @param data The data to transform in place
+	 * @param dims The dimensions of the data
+	 * @param axis The axis along which lines are transformed
+	 */
+	public static
+	
+		<CA extends Algebra<CA,C> & Addition<C> & Multiplication<C>,
+		
+			C>
+	
+		void forward(CA complexAlg, FFTPlan<C> plan, IndexedDataSource<C> data, long[] dims, int axis)
+	{
+		compute(complexAlg, plan, null, null, data, dims, axis);
+	}
+	
+	/**
+	 * Do an inverse fast Fourier transform of all the lines along one axis.
+	 * 
+	 * @param <CA>
+	 * @param <C>
+	 * @param complexAlg
+	 * @param plan A plan whose size equals dims[axis]
+	 * @param data The data to transform in place
+	 * @param dims The dimensions of the data
+	 * @param axis The axis along which lines are transformed
+	 */
+	public static
+	
+		<CA extends Algebra<CA,C> & Addition<C> & Multiplication<C> & Conjugate<C>,
+		
+			C>
+	
+		void inverse(CA complexAlg, FFTPlan<C> plan, IndexedDataSource<C> data, long[] dims, int axis)
+	{
+		C scale = complexAlg.construct();
+		plan.inverseScale(complexAlg, scale);
+		compute(complexAlg, plan, complexAlg.conjugate(), scale, data, dims, axis);
+	}
+	
+	// an inverse transform is conj(FFT(conj(x))) / n
+	
+	private static
+	
+		<CA extends Algebra<CA,C> & Addition<C> & Multiplication<C>,
+		
+			C>
+	
+		void compute(CA complexAlg, FFTPlan<C> plan, Procedure2<C,C> conjugate, C scale,
+						IndexedDataSource<C> data, long[] dims, int axis)
+	{
+		if (axis < 0 || axis >= dims.length)
+			throw new IllegalArgumentException("axis out of bounds");
+		
+		long n = dims[axis];
+		
+		if (n != plan.size())
+			throw new IllegalArgumentException("axis length does not match plan size");
+
+		long stride = 1;
+		for (int i = 0; i < axis; i++) {
+			stride *= dims[i];
+		}
+		
+		long outer = 1;
+		for (int i = axis+1; i < dims.length; i++) {
+			outer *= dims[i];
+		}
+		
+		if (stride * n * outer != data.size())
+			throw new IllegalArgumentException("dims do not match data size");
+
+		int block = (int) Math.min(BLOCK, stride);
+		
+		long blocksPerOuter = (stride + block - 1) / block;
+		
+		long numUnits = outer * blocksPerOuter;
+		
+		Tuple2<Integer,Long> arrangement =
+				ThreadingUtils.arrange(numUnits, data.accessWithOneThread());
+		int pieces = arrangement.a();
+		long unitsPerPiece = arrangement.b();
+		
+		if (pieces == 1) {
+			
+			Runnable r = new Computer<CA,C>(complexAlg, plan, conjugate, scale, data,
+												n, stride, block, blocksPerOuter, 0, numUnits);
+			r.run();
+		}
+		else {
+			
+			final Thread[] threads = new Thread[pieces];
+			long start = 0;
+			for (int i = 0; i < pieces; i++) {
+				long end;
+				if (i != pieces-1) {
+					end = start + unitsPerPiece;
+				}
+				else {
+					end = numUnits;
+				}
+				Runnable r = new Computer<CA,C>(complexAlg, plan, conjugate, scale, data,
+													n, stride, block, blocksPerOuter, start, end);
+				threads[i] = new Thread(r);
+				start += unitsPerPiece;
+			}
+			for (int i = 0; i < pieces; i++) {
+				threads[i].start();
+			}
+			for (int i = 0; i < pieces; i++) {
+				try {
+					threads[i].join();
+				} catch(InterruptedException e) {
+					throw new IllegalArgumentException("Thread execution error in AxisFFT");
+				}
+			}
+		}
+	}
+	
+	private static class Computer<CA extends Algebra<CA,C> & Addition<C> & Multiplication<C>, C>
+		implements Runnable
+	{
+		private final CA complexAlg;
+		private final FFTPlan<C> plan;
+		private final Procedure2<C,C> conjugate;
+		private final C scale;
+		private final IndexedDataSource<C> data;
+		private final long n;
+		private final long stride;
+		private final int block;
+		private final long blocksPerOuter;
+		private final long startUnit;
+		private final long endUnit;
+		
+		Computer(CA complexAlg, FFTPlan<C> plan, Procedure2<C,C> conjugate, C scale,
+					IndexedDataSource<C> data, long n, long stride, int block,
+					long blocksPerOuter, long startUnit, long endUnit)
+		{
+			this.complexAlg = complexAlg;
+			this.plan = plan;
+			this.conjugate = conjugate;
+			this.scale = scale;
+			this.data = data;
+			this.n = n;
+			this.stride = stride;
+			this.block = block;
+			this.blocksPerOuter = blocksPerOuter;
+			this.startUnit = startUnit;
+			this.endUnit = endUnit;
+		}
+		
+		@Override
+		public void run() {
+			
+			C value = complexAlg.construct();
+			
+			// per thread scratch: one contiguous line for each line in a block
+			
+			IndexedDataSource<C> scratch = Storage.allocate(value, block * n);
+			
+			Object[] lines = new Object[block];
+			for (int b = 0; b < block; b++) {
+				lines[b] = new TrimmedDataSource<C>(scratch, b * n, n);
+			}
+			
+			for (long unit = startUnit; unit < endUnit; unit++) {
+				
+				long o = unit / blocksPerOuter;
+				
+				long inner = (unit % blocksPerOuter) * block;
+				
+				int count = (int) Math.min(block, stride - inner);
+				
+				long base = o * stride * n + inner;
+
+				// gather: neighboring lines are read together one memory row at a time
+				
+				for (long j = 0; j < n; j++) {
+					long pos = base + j * stride;
+					for (int b = 0; b < count; b++) {
+						data.get(pos + b, value);
+						if (conjugate != null)
+							conjugate.call(value, value);
+						scratch.set(b * n + j, value);
+					}
+				}
+				
+				for (int b = 0; b < count; b++) {
+					@SuppressWarnings("unchecked")
+					IndexedDataSource<C> line = (IndexedDataSource<C>) lines[b];
+					FFT.compute(complexAlg, plan, line, line);
+				}
+				
+				// scatter the results back the same way
+				
+				for (long j = 0; j < n; j++) {
+					long pos = base + j * stride;
+					for (int b = 0; b < count; b++) {
+						scratch.get(b * n + j, value);
+						if (conjugate != null) {
+							conjugate.call(value, value);
+							complexAlg.multiply().call(scale, value, value);
+						}
+						data.set(pos + b, value);
+					}
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.algorithm.fft;
+
+import nom.bdezonia.zorbage.algebra.Addition;
+import nom.bdezonia.zorbage.algebra.Algebra;
+import nom.bdezonia.zorbage.algebra.Multiplication;
+import nom.bdezonia.zorbage.algorithm.FFT;
+import nom.bdezonia.zorbage.datasource.IndexedDataSource;
+import nom.bdezonia.zorbage.storage.Storage;
+
+/**
+ * BluesteinFFT does a fast Fourier transform of a list of any size using
+ * Bluestein's chirp-z algorithm. The data is weighted by a chirp and then
+ * convolved with the conjugate chirp using power of 2 sized FFTs. This turns
+ * an O(n^2) discrete Fourier transform of a prime size into an O(n log n)
+ * calculation.
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class BluesteinFFT {
+
+	// do not instantiate
+	
+	private BluesteinFFT() { }
+	
+	/**
+	 * Do a Bluestein fast Fourier transform taking data from source a and
+	 * putting results in destination b. a and b can be the same list.
+	 * 
+	 * @param <CA>
+	 * @param <C>
+	 * @param complexAlg
+	 * @param plan A BLUESTEIN plan whose size matches a and b
+	 * @param a Source list of complex data
+	 * @param b Destination list of complex data
+	 */
+	public static <CA extends Algebra<CA,C> & Addition<C> & Multiplication<C>, C>
+	
+		void compute(CA complexAlg, FFTPlan<C> plan, IndexedDataSource<C> a, IndexedDataSource<C> b)
+	{
+		if (plan.kind() != FFTPlan.BLUESTEIN)
+			throw new IllegalArgumentException("plan is not a Bluestein plan");
+		
+		long n = plan.size();
+		
+		if (a.size() != n || b.size() != n)
+			throw new IllegalArgumentException("list sizes do not match plan size");
+		
+		FFTPlan<C> subPlan = plan.subPlan();
+		
+		long m = subPlan.size();
+		
+		C value = complexAlg.construct();
+		C w = complexAlg.construct();
+		C scale = complexAlg.construct();
+		
+		IndexedDataSource<C> work = Storage.allocate(value, m);
+		
+		// weight the input by the chirp. the rest of work stays zero.
+		
+		for (long k = 0; k < n; k++) {
+			a.get(k, value);
+			plan.chirp(k, w);
+			complexAlg.multiply().call(value, w, value);
+			work.set(k, value);
+		}
+		
+		// convolve with the conjugate chirp in the frequency domain
+		
+		FFT.compute(complexAlg, subPlan, work, work);
+		
+		for (long k = 0; k < m; k++) {
+			work.get(k, value);
+			plan.chirpSpectrum(k, w);
+			complexAlg.multiply().call(value, w, value);
+			work.set(k, value);
+		}
+		
+		// An inverse FFT equals a forward FFT with its outputs taken in
+		//   reverse order and scaled by 1/m.
+		
+		FFT.compute(complexAlg, subPlan, work, work);
+		
+		subPlan.inverseScale(complexAlg, scale);
+		
+		for (long k = 0; k < n; k++) {
+			work.get((m - k) % m, value);
+			complexAlg.multiply().call(value, scale, value);
+			plan.chirp(k, w);
+			complexAlg.multiply().call(value, w, value);
+			b.set(k, value);
+		}
+	}
+}
@@ -0,0 +1,464 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.algorithm.fft;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+
+import nom.bdezonia.zorbage.algebra.Addition;
+import nom.bdezonia.zorbage.algebra.Algebra;
+import nom.bdezonia.zorbage.algebra.Invertible;
+import nom.bdezonia.zorbage.algebra.Multiplication;
+import nom.bdezonia.zorbage.algebra.RealConstants;
+import nom.bdezonia.zorbage.algebra.SetI;
+import nom.bdezonia.zorbage.algebra.SetR;
+import nom.bdezonia.zorbage.algebra.Trigonometric;
+import nom.bdezonia.zorbage.algebra.Unity;
+import nom.bdezonia.zorbage.algorithm.FFT;
+import nom.bdezonia.zorbage.datasource.IndexedDataSource;
+import nom.bdezonia.zorbage.storage.Storage;
+
+/**
+ * An FFTPlan holds everything about a fast Fourier transform of a given size
+ * that does not depend upon the data being transformed: the twiddle factors
+ * and the index permutation. A plan is built once with the real and complex
+ * algebras of the data and can then be reused by every transform of that
+ * size. Plans are usually obtained from the {@link FFTPlanCache}.
+ * <p>
+ * Power of 2 sizes use a radix 2 transform. Sizes whose only prime factors
+ * are 2, 3, and 5 use a mixed radix transform with radix 2, 3, 4, and 5
+ * butterflies. All other sizes use Bluestein's chirp-z algorithm which
+ * rewrites the transform as a convolution computed with power of 2 FFTs.
+ * 
+ * @author Barry DeZonia
+ *
+ * @param <C> The complex number type the plan's twiddle factors are stored as
+ */
+public class FFTPlan<C> {
+
+	/** Transform is done with radix 2 butterflies. */
+	public static final int POWER_OF_2 = 0;
+	
+	/** Transform is done with radix 2, 3, 4, and 5 butterflies. */
+	public static final int MIXED_RADIX = 1;
+	
+	/** Transform is done with Bluestein's chirp-z algorithm. */
+	public static final int BLUESTEIN = 2;
+	
+	// Bit reversal tables larger than this are not stored. Their values are
+	// calculated as needed instead.
+	
+	private static final long MAX_TABLE_SIZE = 1L << 26;
+	
+	private final long size;
+	private final int kind;
+	private final C inverseScale;
+
+	// radix 2 and mixed radix data
+	
+	private final int shift;
+	private final int[] reversed;
+	private final IndexedDataSource<C> twiddles;
+	
+	// mixed radix data
+	
+	private final int[] factors;
+	private final long[] spans;
+	private final Object[] constants;
+
+	// Bluestein data
+	
+	private final IndexedDataSource<C> chirp;
+	private final IndexedDataSource<C> chirpSpectrum;
+	private final FFTPlan<C> subPlan;
+
+	// the positions of the butterfly constants within the constants array
+	
+	static final int MINUS_I = 0;
+	static final int COS_3 = 1;
+	static final int SIN_3 = 2;
+	static final int COS_5A = 3;
+	static final int COS_5B = 4;
+	static final int SIN_5A = 5;
+	static final int SIN_5B = 6;
+	
+	/**
+	 * Build a plan for transforms of a given size. Twiddle factor k equals
+	 * exp(-2*pi*i*k/size).
+	 * 
+	 * @param <CA>
+	 * @param <RA>
+	 * @param <R>
+	 * @param complexAlg
+	 * @param realAlg
+	 * @param size
+	 * @return
+	 */
+	public static
+	
+		<CA extends Algebra<CA,C> & Addition<C> & Multiplication<C>,
+		
+			C extends SetR<R> & SetI<R>,
+			
+			RA extends Algebra<RA,R> & Trigonometric<R> & RealConstants<R> &
+							Multiplication<R> & Addition<R> & Invertible<R> &
+							Unity<R>,
+							
+			R>
+	
+		FFTPlan<C> create(CA complexAlg, RA realAlg, long size)
+	{
+		if (size <= 0)
+			throw new IllegalArgumentException("plan size must be positive");
+		
+		C inverseScale = complexAlg.construct(
+				BigDecimal.ONE.divide(BigDecimal.valueOf(size), new MathContext(100)).toString());
+		
+		if (size == FFT.enclosingPowerOf2(size)) {
+
+			IndexedDataSource<C> twiddles = twiddles(complexAlg, realAlg, size, size / 2);
+
+			return new FFTPlan<C>(size, POWER_OF_2, inverseScale, twiddles, null, null, null, null, null, null);
+		}
+
+		int[] factors = factor(size);
+		
+		if (factors != null) {
+
+			IndexedDataSource<C> twiddles = twiddles(complexAlg, realAlg, size, size);
+			
+			long[] spans = new long[factors.length];
+			long span = size;
+			for (int i = 0; i < factors.length; i++) {
+				span /= factors[i];
+				spans[i] = span;
+			}
+			
+			C minusI = complexAlg.construct();
+			C cos3 = complexAlg.construct();
+			C sin3 = complexAlg.construct();
+			C cos5a = complexAlg.construct();
+			C cos5b = complexAlg.construct();
+			C sin5a = complexAlg.construct();
+			C sin5b = complexAlg.construct();
+			R zero = realAlg.construct();
+			R cos = realAlg.construct();
+			R sin = realAlg.construct();
+			R minusOne = realAlg.construct();
+			realAlg.unity().call(minusOne);
+			realAlg.negate().call(minusOne, minusOne);
+			minusI.setI(minusOne);
+			root(realAlg, 1, 3, cos, sin);
+			setConstants(cos, sin, zero, cos3, sin3);
+			root(realAlg, 1, 5, cos, sin);
+			setConstants(cos, sin, zero, cos5a, sin5a);
+			root(realAlg, 2, 5, cos, sin);
+			setConstants(cos, sin, zero, cos5b, sin5b);
+			
+			// same order as the MINUS_I ... SIN_5B positions
+			
+			Object[] constants = new Object[] {minusI, cos3, sin3, cos5a, cos5b, sin5a, sin5b};
+			
+			return new FFTPlan<C>(size, MIXED_RADIX, inverseScale, twiddles, factors, spans, constants, null, null, null);
+		}
+
+		// Bluestein's algorithm: the transform is the convolution of the chirp
+		//   weighted data with the conjugate chirp.
+		
+		long m = FFT.enclosingPowerOf2(2 * size - 1);
+		
+		FFTPlan<C> subPlan = create(complexAlg, realAlg, m);
+		
+		IndexedDataSource<C> chirp = Storage.allocate(complexAlg.construct(), size);
+		
+		IndexedDataSource<C> chirpSpectrum = Storage.allocate(complexAlg.construct(), m);
+
+		C w = complexAlg.construct();
+		C conj = complexAlg.construct();
+		R cos = realAlg.construct();
+		R sin = realAlg.construct();
+		long twoN = 2 * size;
+		for (long k = 0; k < size; k++) {
+			
+			// exp(-pi*i*k^2/n) has a period of 2n in k^2
+			
+			root(realAlg, squareMod(k, twoN), twoN, cos, sin);
+			w.setR(cos);
+			w.setI(sin);
+			chirp.set(k, w);
+			realAlg.negate().call(sin, sin);
+			conj.setR(cos);
+			conj.setI(sin);
+			chirpSpectrum.set(k, conj);
+			if (k != 0)
+				chirpSpectrum.set(m - k, conj);
+		}
+		
+		FFT.compute(complexAlg, subPlan, chirpSpectrum, chirpSpectrum);
+		
+		return new FFTPlan<C>(size, BLUESTEIN, inverseScale, null, null, null, null, chirp, chirpSpectrum, subPlan);
+	}
+	
+	private FFTPlan(long size, int kind, C inverseScale,
+			IndexedDataSource<C> twiddles, int[] factors, long[] spans, Object[] constants,
+			IndexedDataSource<C> chirp, IndexedDataSource<C> chirpSpectrum, FFTPlan<C> subPlan)
+	{
+		this.size = size;
+		this.kind = kind;
+		this.inverseScale = inverseScale;
+		this.twiddles = twiddles;
+		this.factors = factors;
+		this.spans = spans;
+		this.constants = constants;
+		this.chirp = chirp;
+		this.chirpSpectrum = chirpSpectrum;
+		this.subPlan = subPlan;
+		
+		this.shift = 1 + Long.numberOfLeadingZeros(size);
+		
+		// bit reversal permutation
+		
+		if (kind == POWER_OF_2 && size <= MAX_TABLE_SIZE) {
+			reversed = new int[(int) size];
+			for (int k = 0; k < size; k++) {
+				reversed[k] = (int) (Long.reverse(k) >>> shift);
+			}
+		}
+		else {
+			reversed = null;
+		}
+	}
+
+	/**
+	 * Returns the number of points the plan transforms.
+	 */
+	public long size() {
+		return size;
+	}
+	
+	/**
+	 * Returns the kind of transform the plan uses: POWER_OF_2, MIXED_RADIX,
+	 * or BLUESTEIN.
+	 */
+	public int kind() {
+		return kind;
+	}
+	
+	/**
+	 * Returns the position index k moves to in the bit reversal permutation.
+	 * Only valid for power of 2 plans.
+	 * 
+	 * @param k
+	 * @return
+	 */
+	public long bitReversed(long k) {
+		if (reversed != null)
+			return reversed[(int) k];
+		return Long.reverse(k) >>> shift;
+	}
+	
+	/**
+	 * Gets the twiddle factor exp(-2*pi*i*k/size). For power of 2 plans k must
+	 * be less than size/2. For mixed radix plans k must be less than size.
+	 * Bluestein plans have no twiddle factors.
+	 * 
+	 * @param k
+	 * @param result
+	 */
+	public void twiddle(long k, C result) {
+		twiddles.get(k, result);
+	}
+	
+	/**
+	 * Gets the scale factor (1/size) that an inverse transform applies to
+	 * its results.
+	 * 
+	 * @param <CA>
+	 * @param complexAlg
+	 * @param result
+	 */
+	public <CA extends Algebra<CA,C>> void inverseScale(CA complexAlg, C result) {
+		complexAlg.assign().call(inverseScale, result);
+	}
+	
+	int[] factors() {
+		return factors;
+	}
+	
+	long[] spans() {
+		return spans;
+	}
+	
+	@SuppressWarnings("unchecked")
+	C constant(int which) {
+		return (C) constants[which];
+	}
+	
+	void chirp(long k, C result) {
+		chirp.get(k, result);
+	}
+	
+	void chirpSpectrum(long k, C result) {
+		chirpSpectrum.get(k, result);
+	}
+	
+	FFTPlan<C> subPlan() {
+		return subPlan;
+	}
+
+	// Break a size into radix 4, 2, 3, and 5 factors. Returns null if the
+	// size has any other prime factors.
+	
+	private static int[] factor(long size) {
+		int count = 0;
+		int[] tmp = new int[64];
+		long n = size;
+		while (n % 4 == 0) {
+			tmp[count++] = 4;
+			n /= 4;
+		}
+		while (n % 2 == 0) {
+			tmp[count++] = 2;
+			n /= 2;
+		}
+		while (n % 3 == 0) {
+			tmp[count++] = 3;
+			n /= 3;
+		}
+		while (n % 5 == 0) {
+			tmp[count++] = 5;
+			n /= 5;
+		}
+		if (n != 1)
+			return null;
+		int[] result = new int[count];
+		for (int i = 0; i < count; i++) {
+			result[i] = tmp[i];
+		}
+		return result;
+	}
+
+	// (k * k) mod n without overflow
+	
+	private static long squareMod(long k, long n) {
+		long kk = k % n;
+		if (kk < 3037000499L)
+			return (kk * kk) % n;
+		return BigInteger.valueOf(kk).multiply(BigInteger.valueOf(kk)).mod(BigInteger.valueOf(n)).longValue();
+	}
+
+	// Calculate the first count twiddle factors exp(-2*pi*i*k/size)
+	
+	static
+	
+		<CA extends Algebra<CA,C> & Addition<C> & Multiplication<C>,
+		
+			C extends SetR<R> & SetI<R>,
+			
+			RA extends Algebra<RA,R> & Trigonometric<R> & RealConstants<R> &
+							Multiplication<R> & Addition<R> & Invertible<R> &
+							Unity<R>,
+							
+			R>
+	
+		IndexedDataSource<C> twiddles(CA complexAlg, RA realAlg, long size, long count)
+	{
+		C w = complexAlg.construct();
+		
+		IndexedDataSource<C> twiddles = Storage.allocate(w, Math.max(1, count));
+
+		R angle = realAlg.construct();
+		R twoPi = realAlg.construct();
+		R n = realAlg.construct(Long.toString(size));
+		R k = realAlg.construct();
+		R one = realAlg.construct();
+		R cos = realAlg.construct();
+		R sin = realAlg.construct();
+		realAlg.unity().call(one);
+		realAlg.PI().call(twoPi);
+		realAlg.add().call(twoPi, twoPi, twoPi);
+		
+		// at all times long kay == real k
+		
+		for (long kay = 0; kay < count; kay++) {
+			realAlg.multiply().call(twoPi, k, angle);
+			realAlg.divide().call(angle, n, angle);
+			realAlg.cos().call(angle, cos);
+			realAlg.sin().call(angle, sin);
+			realAlg.negate().call(sin, sin);
+			w.setR(cos);
+			w.setI(sin);
+			twiddles.set(kay, w);
+			realAlg.add().call(k, one, k);
+		}
+		
+		return twiddles;
+	}
+
+	// calc the components of exp(-2*pi*i*num/den)
+	
+	private static
+	
+		<RA extends Algebra<RA,R> & Trigonometric<R> & RealConstants<R> &
+							Multiplication<R> & Addition<R> & Invertible<R>,
+							
+			R>
+	
+		void root(RA realAlg, long num, long den, R cos, R sin)
+	{
+		R angle = realAlg.construct();
+		R n = realAlg.construct(Long.toString(num));
+		R d = realAlg.construct(Long.toString(den));
+		realAlg.PI().call(angle);
+		realAlg.add().call(angle, angle, angle);
+		realAlg.multiply().call(angle, n, angle);
+		realAlg.divide().call(angle, d, angle);
+		realAlg.cos().call(angle, cos);
+		realAlg.sin().call(angle, sin);
+		realAlg.negate().call(sin, sin);
+	}
+
+	// Butterfly constants: the real part and the imaginary part of a root of
+	// unity are stored as two separate complex numbers.
+	
+	private static
+	
+		<C extends SetR<R> & SetI<R>, R>
+	
+		void setConstants(R cos, R sin, R zero, C realPart, C imagPart)
+	{
+		realPart.setR(cos);
+		realPart.setI(zero);
+		imagPart.setR(zero);
+		imagPart.setI(sin);
+	}
+}
@@ -0,0 +1,263 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.algorithm.fft;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import nom.bdezonia.zorbage.algebra.Addition;
+import nom.bdezonia.zorbage.algebra.Algebra;
+import nom.bdezonia.zorbage.algebra.Invertible;
+import nom.bdezonia.zorbage.algebra.Multiplication;
+import nom.bdezonia.zorbage.algebra.RealConstants;
+import nom.bdezonia.zorbage.algebra.SetI;
+import nom.bdezonia.zorbage.algebra.SetR;
+import nom.bdezonia.zorbage.algebra.Trigonometric;
+import nom.bdezonia.zorbage.algebra.Unity;
+import nom.bdezonia.zorbage.misc.Hasher;
+import nom.bdezonia.zorbage.type.real.highprec.HighPrecisionAlgebra;
+
+/**
+ * FFTPlanCache keeps the most recently used {@link FFTPlan}s so that repeated
+ * transforms of the same size and type do not have to recalculate their twiddle
+ * factors. It also keeps {@link RealFFTPlan}s for real input transforms. Plans
+ * are keyed by size, algebra, and precision. The cache is bounded:
+ * when it is full the least recently used plan is dropped.
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class FFTPlanCache {
+
+	// do not instantiate
+	
+	private FFTPlanCache() { }
+	
+	private static int capacity = 32;
+	
+	private static final LinkedHashMap<Key, Object> PLANS =
+			new LinkedHashMap<Key, Object>(16, 0.75f, true)
+	{
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+			return size() > capacity;
+		}
+	};
+	
+	/**
+	 * Return the cached plan for a transform of the given size and type. If
+	 * there is no such plan one is created and cached.
+	 * 
+	 * @param <CA>
+	 * @param <C>
+	 * @param <RA>
+	 * @param <R>
+	 * @param complexAlg
+	 * @param realAlg
+	 * @param size
+	 * @return
+	 */
+	public static
+	
+		<CA extends Algebra<CA,C> & Addition<C> & Multiplication<C>,
+		
+			C extends SetR<R> & SetI<R>,
+			
+			RA extends Algebra<RA,R> & Trigonometric<R> & RealConstants<R> &
+							Multiplication<R> & Addition<R> & Invertible<R> &
+							Unity<R>,
+							
+			R>
+	
+		FFTPlan<C> plan(CA complexAlg, RA realAlg, long size)
+	{
+		Key key = new Key(size, false, complexAlg, realAlg, precision(realAlg));
+		
+		synchronized (PLANS) {
+			@SuppressWarnings("unchecked")
+			FFTPlan<C> plan = (FFTPlan<C>) PLANS.get(key);
+			if (plan != null)
+				return plan;
+		}
+		
+		// build outside the lock: plan creation can be slow for big sizes
+		
+		FFTPlan<C> plan = FFTPlan.create(complexAlg, realAlg, size);
+		
+		synchronized (PLANS) {
+			PLANS.put(key, plan);
+		}
+		
+		return plan;
+	}
+	
+	/**
+	 * Return the cached plan for a real to complex transform of the given size
+	 * and type. If there is no such plan one is created and cached.
+	 * 
+	 * @param <CA>
+	 * @param <C>
+	 * @param <RA>
+	 * @param <R>
+	 * @param complexAlg
+	 * @param realAlg
+	 * @param size
+	 * @return
+	 */
+	public static
+	
+		<CA extends Algebra<CA,C> & Addition<C> & Multiplication<C>,
+		
+			C extends SetR<R> & SetI<R>,
+			
+			RA extends Algebra<RA,R> & Trigonometric<R> & RealConstants<R> &
+							Multiplication<R> & Addition<R> & Invertible<R> &
+							Unity<R>,
+							
+			R>
+	
+		RealFFTPlan<C> realPlan(CA complexAlg, RA realAlg, long size)
+	{
+		Key key = new Key(size, true, complexAlg, realAlg, precision(realAlg));
+		
+		synchronized (PLANS) {
+			@SuppressWarnings("unchecked")
+			RealFFTPlan<C> plan = (RealFFTPlan<C>) PLANS.get(key);
+			if (plan != null)
+				return plan;
+		}
+		
+		RealFFTPlan<C> plan = RealFFTPlan.create(complexAlg, realAlg, size);
+		
+		synchronized (PLANS) {
+			PLANS.put(key, plan);
+		}
+		
+		return plan;
+	}
+	
+	/**
+	 * Sets the maximum number of plans the cache will hold.
+	 * 
+	 * @param maxPlans
+	 */
+	public static void setCapacity(int maxPlans) {
+		if (maxPlans < 1)
+			throw new IllegalArgumentException("plan cache capacity must be at least 1");
+		synchronized (PLANS) {
+			capacity = maxPlans;
+			while (PLANS.size() > capacity) {
+				Key eldest = PLANS.keySet().iterator().next();
+				PLANS.remove(eldest);
+			}
+		}
+	}
+	
+	/**
+	 * Returns the maximum number of plans the cache will hold.
+	 */
+	public static int capacity() {
+		synchronized (PLANS) {
+			return capacity;
+		}
+	}
+	
+	/**
+	 * Returns the number of plans currently held in the cache.
+	 */
+	public static int size() {
+		synchronized (PLANS) {
+			return PLANS.size();
+		}
+	}
+	
+	/**
+	 * Removes all plans from the cache.
+	 */
+	public static void clear() {
+		synchronized (PLANS) {
+			PLANS.clear();
+		}
+	}
+
+	// Twiddle factors of arbitrary precision types are only as accurate as
+	// the precision in effect when they were calculated.
+	
+	private static int precision(Object realAlg) {
+		if (realAlg instanceof HighPrecisionAlgebra)
+			return HighPrecisionAlgebra.getPrecision();
+		return 0;
+	}
+	
+	private static class Key {
+		
+		private final long size;
+		private final boolean real;
+		private final Object complexAlg;
+		private final Object realAlg;
+		private final int precision;
+		
+		Key(long size, boolean real, Object complexAlg, Object realAlg, int precision) {
+			this.size = size;
+			this.real = real;
+			this.complexAlg = complexAlg;
+			this.realAlg = realAlg;
+			this.precision = precision;
+		}
+		
+		@Override
+		public int hashCode() {
+			int v = 1;
+			v = Hasher.PRIME * v + Hasher.hashCode(size);
+			v = Hasher.PRIME * v + Hasher.hashCode(real);
+			v = Hasher.PRIME * v + complexAlg.getClass().hashCode();
+			v = Hasher.PRIME * v + realAlg.getClass().hashCode();
+			v = Hasher.PRIME * v + Hasher.hashCode(precision);
+			return v;
+		}
+		
+		@Override
+		public boolean equals(Object o) {
+			if (o instanceof Key) {
+				Key other = (Key) o;
+				return
+					size == other.size &&
+					real == other.real &&
+					complexAlg.getClass() == other.complexAlg.getClass() &&
+					realAlg.getClass() == other.realAlg.getClass() &&
+					precision == other.precision;
+			}
+			return false;
+		}
+	}
+}
@@ -0,0 +1,280 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.algorithm.fft;
+
+import nom.bdezonia.zorbage.algebra.Addition;
+import nom.bdezonia.zorbage.algebra.Algebra;
+import nom.bdezonia.zorbage.algebra.Multiplication;
+import nom.bdezonia.zorbage.datasource.IndexedDataSource;
+import nom.bdezonia.zorbage.storage.Storage;
+
+/**
+ * MixedRadixFFT does a decimation in time fast Fourier transform of a list
+ * whose size factors completely into radices 4, 2, 3, and 5. Each stage of
+ * the recursion gathers the strided subsequences of its input and combines
+ * them with a butterfly of the stage's radix.
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class MixedRadixFFT {
+
+	// do not instantiate
+	
+	private MixedRadixFFT() { }
+	
+	/**
+	 * Do a mixed radix fast Fourier transform taking data from source a and
+	 * putting results in destination b. a and b can be the same list.
+	 * 
+	 * @param <CA>
+	 * @param <C>
+	 * @param complexAlg
+	 * @param plan A MIXED_RADIX plan whose size matches a and b
+	 * @param a Source list of complex data
+	 * @param b Destination list of complex data
+	 */
+	public static <CA extends Algebra<CA,C> & Addition<C> & Multiplication<C>, C>
+	
+		void compute(CA complexAlg, FFTPlan<C> plan, IndexedDataSource<C> a, IndexedDataSource<C> b)
+	{
+		if (plan.kind() != FFTPlan.MIXED_RADIX)
+			throw new IllegalArgumentException("plan is not a mixed radix plan");
+		
+		if (a.size() != plan.size() || b.size() != plan.size())
+			throw new IllegalArgumentException("list sizes do not match plan size");
+		
+		// the recursion reads the input while it writes the output so it
+		//   cannot transform in place
+		
+		// a plain loop: this is called once per line by the multidimensional
+		//   transforms whose threads should not spawn more threads
+		
+		C value = complexAlg.construct();
+		
+		IndexedDataSource<C> input = Storage.allocate(value, a.size());
+		
+		for (long i = 0; i < a.size(); i++) {
+			a.get(i, value);
+			input.set(i, value);
+		}
+		
+		new Worker<CA,C>(complexAlg, plan, input, b).work(0, 1, 0, 0);
+	}
+	
+	private static class Worker<CA extends Algebra<CA,C> & Addition<C> & Multiplication<C>, C> {
+
+		private final CA alg;
+		private final FFTPlan<C> plan;
+		private final IndexedDataSource<C> in;
+		private final IndexedDataSource<C> out;
+		private final int[] factors;
+		private final long[] spans;
+		private final C w;
+		private final C x0, x1, x2, x3, x4;
+		private final C t0, t1, t2, t3;
+		
+		Worker(CA alg, FFTPlan<C> plan, IndexedDataSource<C> in, IndexedDataSource<C> out) {
+			this.alg = alg;
+			this.plan = plan;
+			this.in = in;
+			this.out = out;
+			this.factors = plan.factors();
+			this.spans = plan.spans();
+			this.w = alg.construct();
+			this.x0 = alg.construct();
+			this.x1 = alg.construct();
+			this.x2 = alg.construct();
+			this.x3 = alg.construct();
+			this.x4 = alg.construct();
+			this.t0 = alg.construct();
+			this.t1 = alg.construct();
+			this.t2 = alg.construct();
+			this.t3 = alg.construct();
+		}
+		
+		// transform the p*m inputs starting at inOffset spaced fstride apart
+		//   into the p*m consecutive outputs starting at outOffset
+		
+		void work(int stage, long fstride, long inOffset, long outOffset) {
+			
+			int p = factors[stage];
+			long m = spans[stage];
+			
+			if (m == 1) {
+				for (int j = 0; j < p; j++) {
+					in.get(inOffset + j * fstride, x0);
+					out.set(outOffset + j, x0);
+				}
+			}
+			else {
+				for (int j = 0; j < p; j++) {
+					work(stage + 1, fstride * p, inOffset + j * fstride, outOffset + j * m);
+				}
+			}
+			
+			switch (p) {
+			case 2:
+				butterfly2(outOffset, fstride, m);
+				break;
+			case 3:
+				butterfly3(outOffset, fstride, m);
+				break;
+			case 4:
+				butterfly4(outOffset, fstride, m);
+				break;
+			case 5:
+				butterfly5(outOffset, fstride, m);
+				break;
+			default:
+				throw new IllegalArgumentException("unsupported radix "+p);
+			}
+		}
+
+		// get the element at index and multiply it by twiddle factor k
+		
+		private void twiddled(long index, long k, C result) {
+			out.get(index, result);
+			if (k != 0) {
+				plan.twiddle(k, w);
+				alg.multiply().call(result, w, result);
+			}
+		}
+		
+		private void butterfly2(long off, long fstride, long m) {
+			for (long u = 0; u < m; u++) {
+				out.get(off + u, x0);
+				twiddled(off + u + m, u * fstride, x1);
+				alg.subtract().call(x0, x1, t0);
+				out.set(off + u + m, t0);
+				alg.add().call(x0, x1, t0);
+				out.set(off + u, t0);
+			}
+		}
+		
+		private void butterfly3(long off, long fstride, long m) {
+			C cos = plan.constant(FFTPlan.COS_3);
+			C sin = plan.constant(FFTPlan.SIN_3);
+			for (long u = 0; u < m; u++) {
+				out.get(off + u, x0);
+				twiddled(off + u + m, u * fstride, x1);
+				twiddled(off + u + 2 * m, 2 * u * fstride, x2);
+				alg.add().call(x1, x2, t0);
+				alg.subtract().call(x1, x2, t1);
+				alg.add().call(x0, t0, t2);
+				out.set(off + u, t2);
+				alg.multiply().call(cos, t0, t2);
+				alg.add().call(x0, t2, t2);
+				alg.multiply().call(sin, t1, t3);
+				alg.add().call(t2, t3, t0);
+				out.set(off + u + m, t0);
+				alg.subtract().call(t2, t3, t0);
+				out.set(off + u + 2 * m, t0);
+			}
+		}
+		
+		private void butterfly4(long off, long fstride, long m) {
+			C minusI = plan.constant(FFTPlan.MINUS_I);
+			for (long u = 0; u < m; u++) {
+				out.get(off + u, x0);
+				twiddled(off + u + m, u * fstride, x1);
+				twiddled(off + u + 2 * m, 2 * u * fstride, x2);
+				twiddled(off + u + 3 * m, 3 * u * fstride, x3);
+				alg.add().call(x0, x2, t0);
+				alg.subtract().call(x0, x2, t1);
+				alg.add().call(x1, x3, t2);
+				alg.subtract().call(x1, x3, t3);
+				alg.multiply().call(minusI, t3, t3);
+				alg.add().call(t0, t2, x0);
+				out.set(off + u, x0);
+				alg.subtract().call(t0, t2, x0);
+				out.set(off + u + 2 * m, x0);
+				alg.add().call(t1, t3, x0);
+				out.set(off + u + m, x0);
+				alg.subtract().call(t1, t3, x0);
+				out.set(off + u + 3 * m, x0);
+			}
+		}
+		
+		private void butterfly5(long off, long fstride, long m) {
+			C cosA = plan.constant(FFTPlan.COS_5A);
+			C cosB = plan.constant(FFTPlan.COS_5B);
+			C sinA = plan.constant(FFTPlan.SIN_5A);
+			C sinB = plan.constant(FFTPlan.SIN_5B);
+			for (long u = 0; u < m; u++) {
+				out.get(off + u, x0);
+				twiddled(off + u + m, u * fstride, x1);
+				twiddled(off + u + 2 * m, 2 * u * fstride, x2);
+				twiddled(off + u + 3 * m, 3 * u * fstride, x3);
+				twiddled(off + u + 4 * m, 4 * u * fstride, x4);
+				
+				// sums and differences of the symmetric pairs
+				
+				alg.add().call(x1, x4, t0);
+				alg.subtract().call(x1, x4, t1);
+				alg.add().call(x2, x3, t2);
+				alg.subtract().call(x2, x3, t3);
+				
+				alg.add().call(x0, t0, x1);
+				alg.add().call(x1, t2, x1);
+				out.set(off + u, x1);
+				
+				// outputs 1 and 4
+				
+				alg.multiply().call(cosA, t0, x1);
+				alg.multiply().call(cosB, t2, x2);
+				alg.add().call(x1, x2, x1);
+				alg.add().call(x0, x1, x1);
+				alg.multiply().call(sinA, t1, x2);
+				alg.multiply().call(sinB, t3, x3);
+				alg.add().call(x2, x3, x2);
+				alg.add().call(x1, x2, x3);
+				out.set(off + u + m, x3);
+				alg.subtract().call(x1, x2, x3);
+				out.set(off + u + 4 * m, x3);
+				
+				// outputs 2 and 3
+				
+				alg.multiply().call(cosB, t0, x1);
+				alg.multiply().call(cosA, t2, x2);
+				alg.add().call(x1, x2, x1);
+				alg.add().call(x0, x1, x1);
+				alg.multiply().call(sinB, t1, x2);
+				alg.multiply().call(sinA, t3, x3);
+				alg.subtract().call(x2, x3, x2);
+				alg.add().call(x1, x2, x3);
+				out.set(off + u + 2 * m, x3);
+				alg.subtract().call(x1, x2, x3);
+				out.set(off + u + 3 * m, x3);
+			}
+		}
+	}
+}
@@ -0,0 +1,202 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.algorithm.fft;
+
+import nom.bdezonia.zorbage.algebra.Addition;
+import nom.bdezonia.zorbage.algebra.Algebra;
+import nom.bdezonia.zorbage.algebra.Invertible;
+import nom.bdezonia.zorbage.algebra.Multiplication;
+import nom.bdezonia.zorbage.algebra.RealConstants;
+import nom.bdezonia.zorbage.algebra.SetI;
+import nom.bdezonia.zorbage.algebra.SetR;
+import nom.bdezonia.zorbage.algebra.Trigonometric;
+import nom.bdezonia.zorbage.algebra.Unity;
+import nom.bdezonia.zorbage.datasource.IndexedDataSource;
+
+/**
+ * A RealFFTPlan holds the data needed to transform a list of real numbers of
+ * a given size. The spectrum of real data is Hermitian symmetric so only its
+ * first size/2+1 values are calculated. For even sizes the real data is packed
+ * into a complex list of half the size whose transform is then split into the
+ * transforms of the even and odd data points. Odd sizes use a full size complex
+ * transform. Plans are usually obtained from the {@link FFTPlanCache}.
+ * 
+ * @author Barry DeZonia
+ *
+ * @param <C> The complex number type the plan's twiddle factors are stored as
+ */
+public class RealFFTPlan<C> {
+
+	private final long size;
+	private final FFTPlan<C> complexPlan;
+	private final IndexedDataSource<C> twiddles;
+	private final C half;
+	private final C minusHalfI;
+	private final C i;
+	
+	/**
+	 * Build a plan for real transforms of a given size. Twiddle factor k equals
+	 * exp(-2*pi*i*k/size).
+	 * 
+	 * @param <CA>
+	 * @param <C>
+	 * @param <RA>
+	 * @param <R>
+	 * @param complexAlg
+	 * @param realAlg
+	 * @param size
+	 * @return
+	 */
+	public static
+	
+		<CA extends Algebra<CA,C> & Addition<C> & Multiplication<C>,
+		
+			C extends SetR<R> & SetI<R>,
+			
+			RA extends Algebra<RA,R> & Trigonometric<R> & RealConstants<R> &
+							Multiplication<R> & Addition<R> & Invertible<R> &
+							Unity<R>,
+							
+			R>
+	
+		RealFFTPlan<C> create(CA complexAlg, RA realAlg, long size)
+	{
+		if (size <= 0)
+			throw new IllegalArgumentException("plan size must be positive");
+		
+		long n = (size % 2 == 0) ? size / 2 : size;
+		
+		FFTPlan<C> complexPlan = FFTPlanCache.plan(complexAlg, realAlg, n);
+		
+		IndexedDataSource<C> twiddles = FFTPlan.twiddles(complexAlg, realAlg, size, size / 2 + 1);
+		
+		R zero = realAlg.construct();
+		R value = realAlg.construct("0.5");
+		C half = complexAlg.construct();
+		C minusHalfI = complexAlg.construct();
+		C i = complexAlg.construct();
+		half.setR(value);
+		half.setI(zero);
+		realAlg.negate().call(value, value);
+		minusHalfI.setR(zero);
+		minusHalfI.setI(value);
+		realAlg.unity().call(value);
+		i.setR(zero);
+		i.setI(value);
+		
+		return new RealFFTPlan<C>(size, complexPlan, twiddles, half, minusHalfI, i);
+	}
+	
+	private RealFFTPlan(long size, FFTPlan<C> complexPlan, IndexedDataSource<C> twiddles,
+						C half, C minusHalfI, C i)
+	{
+		this.size = size;
+		this.complexPlan = complexPlan;
+		this.twiddles = twiddles;
+		this.half = half;
+		this.minusHalfI = minusHalfI;
+		this.i = i;
+	}
+	
+	/**
+	 * Returns the number of real points the plan transforms.
+	 */
+	public long size() {
+		return size;
+	}
+	
+	/**
+	 * Returns the number of complex values in the half spectrum: size/2+1.
+	 */
+	public long spectrumSize() {
+		return size / 2 + 1;
+	}
+	
+	/**
+	 * Returns true if the plan packs the real data into a complex list of half
+	 * the size. This is the case for even sizes.
+	 */
+	public boolean packed() {
+		return size % 2 == 0;
+	}
+	
+	/**
+	 * Returns the plan of the underlying complex transform. Its size is
+	 * size/2 for even sizes and size for odd sizes.
+	 */
+	public FFTPlan<C> complexPlan() {
+		return complexPlan;
+	}
+	
+	/**
+	 * Gets the twiddle factor exp(-2*pi*i*k/size) where k is no larger than
+	 * size/2.
+	 * 
+	 * @param k
+	 * @param result
+	 */
+	public void twiddle(long k, C result) {
+		twiddles.get(k, result);
+	}
+	
+	/**
+	 * Gets the constant 1/2 used when splitting and joining spectra.
+	 * 
+	 * @param <CA>
+	 * @param complexAlg
+	 * @param result
+	 */
+	public <CA extends Algebra<CA,C>> void half(CA complexAlg, C result) {
+		complexAlg.assign().call(half, result);
+	}
+	
+	/**
+	 * Gets the constant -i/2 used when splitting and joining spectra.
+	 * 
+	 * @param <CA>
+	 * @param complexAlg
+	 * @param result
+	 */
+	public <CA extends Algebra<CA,C>> void minusHalfI(CA complexAlg, C result) {
+		complexAlg.assign().call(minusHalfI, result);
+	}
+	
+	/**
+	 * Gets the constant i used when splitting and joining spectra.
+	 * 
+	 * @param <CA>
+	 * @param complexAlg
+	 * @param result
+	 */
+	public <CA extends Algebra<CA,C>> void i(CA complexAlg, C result) {
+		complexAlg.assign().call(i, result);
+	}
+}
@@ -36,6 +36,7 @@ import nom.bdezonia.zorbage.algebra.ScaleByDouble;
 import nom.bdezonia.zorbage.algorithm.GridIterator;
 import nom.bdezonia.zorbage.data.DimensionedDataSource;
 import nom.bdezonia.zorbage.data.DimensionedStorage;
+import nom.bdezonia.zorbage.data.InteriorAccess;
 import nom.bdezonia.zorbage.misc.DataSourceUtils;
 import nom.bdezonia.zorbage.misc.ThreadingUtils;
 import nom.bdezonia.zorbage.sampling.IntegerIndex;
@@ -95,7 +96,7 @@ public class ResampleCubic {
 			throw new IllegalArgumentException("invalid data dimensions");
 		
 		Tuple2<Integer,Long> arrangement =
-				ThreadingUtils.arrange(numD,
+				ThreadingUtils.arrange(maxDim,
 										input.rawData().accessWithOneThread() ||
 										output.rawData().accessWithOneThread());
 		int pieces = arrangement.a();
@@ -161,6 +162,7 @@ public class ResampleCubic {
 		private final T alg;
 		private final DimensionedDataSource<U> input;
 		private final DimensionedDataSource<U> output;
+		private InteriorAccess<U> interior;
 		
 		public Computer(T alg, long[] newDims, long[] min, long[] max, DimensionedDataSource<U> input, DimensionedDataSource<U> output) {
 			this.numD = newDims.length;
@@ -174,6 +176,13 @@ public class ResampleCubic {
 		
 		@Override
 		public void run() {
+			long[] minOffsets = new long[numD];
+			long[] maxOffsets = new long[numD];
+			for (int i = 0; i < numD; i++) {
+				minOffsets[i] = -1;
+				maxOffsets[i] = 2;
+			}
+			interior = new InteriorAccess<U>(input, minOffsets, maxOffsets);
 			U value = alg.construct();
 			IntegerIndex inputPoint = new IntegerIndex(numD);
 			IntegerIndex outputPoint = new IntegerIndex(numD);
@@ -219,12 +228,16 @@ public class ResampleCubic {
 		{
 			U tmp = alg.construct();
 			
+			// interior points can read their neighbors from the raw data
+			boolean inside = interior.isInterior(inputPoint);
+			long base = inside ? interior.linearIndex(inputPoint) : 0;
+			
 			for (int d = 0; d < numD; d++) {
 					
 				// calc u
 				BigDecimal t = coords[d].remainder(BigDecimal.ONE);
 				
-				cubicSolution(alg, input, inputPoint, d, t, tmp);
+				cubicSolution(alg, input, inputPoint, inside, base, d, t, tmp);
 				
 				// add to sum
 				alg.add().call(outVal, tmp, outVal);
@@ -235,21 +248,30 @@ public class ResampleCubic {
 		// See https://dsp.stackexchange.com/questions/18265/bicubic-interpolation
 		
 		private void cubicSolution(T alg, DimensionedDataSource<U> input, IntegerIndex inputPoint,
-									int dim, BigDecimal t, U outVal)
+									boolean inside, long base, int dim, BigDecimal t, U outVal)
 		{
 			U ym1 = alg.construct();
 			U y0 = alg.construct();
 			U y1 = alg.construct();
 			U y2 = alg.construct();
 			
-			input.get(inputPoint, y0);
-			inputPoint.set(dim, inputPoint.get(dim) + 1);
-			input.get(inputPoint, y1);
-			inputPoint.set(dim, inputPoint.get(dim) + 1);
-			input.get(inputPoint, y2);
-			inputPoint.set(dim, inputPoint.get(dim) - 3);
-			input.get(inputPoint, ym1);
-			inputPoint.set(dim, inputPoint.get(dim) + 1);
+			if (inside) {
+				long stride = interior.stride(dim);
+				interior.get(base, y0);
+				interior.get(base + stride, y1);
+				interior.get(base + 2*stride, y2);
+				interior.get(base - stride, ym1);
+			}
+			else {
+				input.get(inputPoint, y0);
+				inputPoint.set(dim, inputPoint.get(dim) + 1);
+				input.get(inputPoint, y1);
+				inputPoint.set(dim, inputPoint.get(dim) + 1);
+				input.get(inputPoint, y2);
+				inputPoint.set(dim, inputPoint.get(dim) - 3);
+				input.get(inputPoint, ym1);
+				inputPoint.set(dim, inputPoint.get(dim) + 1);
+			}
 			
 			U a = alg.construct();
 			U b = alg.construct();
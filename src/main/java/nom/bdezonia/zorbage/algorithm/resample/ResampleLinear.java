@@ -36,6 +36,7 @@ import nom.bdezonia.zorbage.algebra.ScaleByDouble;
 import nom.bdezonia.zorbage.algorithm.GridIterator;
 import nom.bdezonia.zorbage.data.DimensionedDataSource;
 import nom.bdezonia.zorbage.data.DimensionedStorage;
+import nom.bdezonia.zorbage.data.InteriorAccess;
 import nom.bdezonia.zorbage.misc.DataSourceUtils;
 import nom.bdezonia.zorbage.misc.ThreadingUtils;
 import nom.bdezonia.zorbage.sampling.IntegerIndex;
@@ -95,7 +96,7 @@ public class ResampleLinear {
 			throw new IllegalArgumentException("invalid data dimensions");
 		
 		Tuple2<Integer,Long> arrangement =
-				ThreadingUtils.arrange(numD,
+				ThreadingUtils.arrange(maxDim,
 										input.rawData().accessWithOneThread() ||
 										output.rawData().accessWithOneThread());
 		int pieces = arrangement.a();
@@ -161,6 +162,7 @@ public class ResampleLinear {
 		private final T alg;
 		private final DimensionedDataSource<U> input;
 		private final DimensionedDataSource<U> output;
+		private InteriorAccess<U> interior;
 		
 		public Computer(T alg, long[] newDims, long[] min, long[] max, DimensionedDataSource<U> input, DimensionedDataSource<U> output) {
 			this.numD = newDims.length;
@@ -174,6 +176,13 @@ public class ResampleLinear {
 		
 		@Override
 		public void run() {
+			long[] minOffsets = new long[numD];
+			long[] maxOffsets = new long[numD];
+			for (int i = 0; i < numD; i++) {
+				minOffsets[i] = 0;
+				maxOffsets[i] = 1;
+			}
+			interior = new InteriorAccess<U>(input, minOffsets, maxOffsets);
 			U value = alg.construct();
 			IntegerIndex inputPoint = new IntegerIndex(numD);
 			IntegerIndex outputPoint = new IntegerIndex(numD);
@@ -219,14 +228,20 @@ public class ResampleLinear {
 		{
 			U tmp = alg.construct();
 			
+			// interior points can read their neighbors from the raw data
+			boolean inside = interior.isInterior(inputPoint);
+			long base = inside ? interior.linearIndex(inputPoint) : 0;
+			
 			for (int i = 0; i < numD; i++) {
 	
 				// calc t
 				BigDecimal t = coords[i].remainder(BigDecimal.ONE);
 				
 				// calc "left" point's contribution
-				inputPoint.set(i, inputPoint.get(i)); // treat current cell as "left"
-				input.get(inputPoint, tmp);
+				if (inside)
+					interior.get(base, tmp);
+				else
+					input.get(inputPoint, tmp); // treat current cell as "left"
 				double scale = 1.0 - t.doubleValue();
 				alg.scaleByDouble().call(scale, tmp, tmp);
 				
@@ -234,16 +249,19 @@ public class ResampleLinear {
 				alg.add().call(outVal, tmp, outVal);
 		
 				// calc "right" point's contribution
-				inputPoint.set(i, inputPoint.get(i) + 1); // go "right" 1 cell
-				input.get(inputPoint, tmp);
+				if (inside) {
+					interior.get(base + interior.stride(i), tmp);
+				}
+				else {
+					inputPoint.set(i, inputPoint.get(i) + 1); // go "right" 1 cell
+					input.get(inputPoint, tmp);
+					inputPoint.set(i, inputPoint.get(i) - 1); // undo go "right"
+				}
 				scale = t.doubleValue();
 				alg.scaleByDouble().call(scale, tmp, tmp);
 				
 				// add to sum
 				alg.add().call(outVal, tmp, outVal);
-				
-				// reset point
-				inputPoint.set(i, inputPoint.get(i) - 1); // undo go "right"
 			}
 		}
 	}
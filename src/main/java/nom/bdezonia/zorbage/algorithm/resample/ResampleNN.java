@@ -41,6 +41,7 @@ import nom.bdezonia.zorbage.algebra.Allocatable;
 import nom.bdezonia.zorbage.algorithm.GridIterator;
 import nom.bdezonia.zorbage.data.DimensionedDataSource;
 import nom.bdezonia.zorbage.data.DimensionedStorage;
+import nom.bdezonia.zorbage.data.InteriorAccess;
 import nom.bdezonia.zorbage.misc.BigDecimalUtils;
 import nom.bdezonia.zorbage.misc.DataSourceUtils;
 import nom.bdezonia.zorbage.misc.ThreadingUtils;
@@ -91,7 +92,7 @@ public class ResampleNN {
 			throw new IllegalArgumentException("invalid data dimensions");
 		
 		Tuple2<Integer,Long> arrangement =
-				ThreadingUtils.arrange(numD,
+				ThreadingUtils.arrange(maxDim,
 										input.rawData().accessWithOneThread() ||
 										output.rawData().accessWithOneThread());
 		int pieces = arrangement.a();
@@ -157,6 +158,7 @@ public class ResampleNN {
 		private final T alg;
 		private final DimensionedDataSource<U> input;
 		private final DimensionedDataSource<U> output;
+		private InteriorAccess<U> interior;
 		
 		public Computer(T alg, long[] newDims, long[] min, long[] max, DimensionedDataSource<U> input, DimensionedDataSource<U> output) {
 			this.numD = newDims.length;
@@ -170,6 +172,13 @@ public class ResampleNN {
 		
 		@Override
 		public void run() {
+			long[] minOffsets = new long[numD];
+			long[] maxOffsets = new long[numD];
+			for (int i = 0; i < numD; i++) {
+				minOffsets[i] = 0;
+				maxOffsets[i] = 0;
+			}
+			interior = new InteriorAccess<U>(input, minOffsets, maxOffsets);
 			U value = alg.construct();
 			IntegerIndex inputPoint = new IntegerIndex(numD);
 			IntegerIndex outputPoint = new IntegerIndex(numD);
@@ -203,7 +212,10 @@ public class ResampleNN {
 			}
 	
 			// set the value
-			input.get(inputPoint, outVal);
+			if (interior.isInterior(inputPoint))
+				interior.get(interior.linearIndex(inputPoint), outVal);
+			else
+				input.get(inputPoint, outVal);
 		}
 	}
 }
@@ -0,0 +1,395 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.algorithm.resample;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+import nom.bdezonia.zorbage.algebra.Addition;
+import nom.bdezonia.zorbage.algebra.Algebra;
+import nom.bdezonia.zorbage.algebra.Allocatable;
+import nom.bdezonia.zorbage.algebra.ScaleByDouble;
+import nom.bdezonia.zorbage.algorithm.Copy;
+import nom.bdezonia.zorbage.data.DimensionedDataSource;
+import nom.bdezonia.zorbage.data.DimensionedStorage;
+import nom.bdezonia.zorbage.datasource.IndexedDataSource;
+import nom.bdezonia.zorbage.misc.ThreadingUtils;
+import nom.bdezonia.zorbage.storage.Storage;
+import nom.bdezonia.zorbage.tuple.Tuple2;
+import nom.bdezonia.zorbage.type.real.float32.Float32Algebra;
+import nom.bdezonia.zorbage.type.real.float32.Float32Member;
+import nom.bdezonia.zorbage.type.real.float64.Float64Algebra;
+import nom.bdezonia.zorbage.type.real.float64.Float64Member;
+
+/**
+ * SeparableResampler resamples a multidim dataset one axis at a time. For each axis
+ * it builds a table of input indices and weights for every output position once.
+ * Each pass then applies the table to every line along its axis. Lines are split
+ * among threads. Axes that shrink the data are done first so later passes touch
+ * less data. Coordinates are mapped so that the first and last samples of each
+ * axis line up in the input and the output. Neighbors past the edges of the input
+ * are taken to equal the nearest edge value.
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class SeparableResampler {
+
+	// do not instantiate
+	
+	private SeparableResampler() { }
+
+	/**
+	 * Use the nearest input point.
+	 */
+	public static final int NEAREST_NEIGHBOR = 0;
+	
+	/**
+	 * Interpolate between the 2 nearest input points.
+	 */
+	public static final int LINEAR = 1;
+	
+	/**
+	 * Interpolate with a Catmull-Rom cubic through the 4 nearest input points.
+	 */
+	public static final int CUBIC = 2;
+	
+	/**
+	 * Resample one multidim dataset into another of the given dimensions.
+	 * 
+	 * @param alg The algebra of the data
+	 * @param method One of NEAREST_NEIGHBOR, LINEAR, or CUBIC
+	 * @param newDims The dimensions of the output
+	 * @param input The data to resample
+	 * @param maxPieces The maximum number of threads to use
+	 * @return The resampled data
+	 */
+	public static <T extends Algebra<T,U> & Addition<U> & ScaleByDouble<U>,
+					U extends Allocatable<U>>
+		DimensionedDataSource<U> compute(T alg, int method, long[] newDims, DimensionedDataSource<U> input, int maxPieces)
+	{
+		int numD = input.numDimensions();
+		
+		if (newDims.length != numD)
+			throw new IllegalArgumentException("mismatched dims in Resample");
+		
+		if (method != NEAREST_NEIGHBOR && method != LINEAR && method != CUBIC)
+			throw new IllegalArgumentException("unknown resampling method");
+		
+		for (int i = 0; i < numD; i++) {
+			if (newDims[i] <= 0)
+				throw new IllegalArgumentException("invalid data dimensions");
+			if (newDims[i] > Integer.MAX_VALUE || input.dimension(i) > Integer.MAX_VALUE)
+				throw new IllegalArgumentException("dimensions are too large to resample");
+		}
+		
+		if (input.rawData().size() != input.numElements())
+			throw new IllegalArgumentException("input does not have plain raw data");
+
+		U value = alg.construct();
+		
+		DimensionedDataSource<U> output = DimensionedStorage.allocate(input.storageType(), value, newDims);
+		
+		// do the axes that shrink the most first
+		
+		Integer[] order = new Integer[numD];
+		for (int i = 0; i < numD; i++) {
+			order[i] = i;
+		}
+		final double[] ratios = new double[numD];
+		for (int i = 0; i < numD; i++) {
+			ratios[i] = ((double) newDims[i]) / input.dimension(i);
+		}
+		Arrays.sort(order, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer x, Integer y) {
+				return Double.compare(ratios[x], ratios[y]);
+			}
+		});
+		
+		int passes = 0;
+		for (int i = 0; i < numD; i++) {
+			if (newDims[i] != input.dimension(i))
+				passes++;
+		}
+		
+		if (passes == 0) {
+			Copy.compute(alg, input.rawData(), output.rawData());
+			return output;
+		}
+		
+		long[] dims = new long[numD];
+		for (int i = 0; i < numD; i++) {
+			dims[i] = input.dimension(i);
+		}
+		IndexedDataSource<U> src = input.rawData();
+		boolean oneThread = src.accessWithOneThread() || output.rawData().accessWithOneThread();
+		
+		for (int p = 0; p < numD; p++) {
+			
+			int axis = order[p];
+			if (newDims[axis] == dims[axis])
+				continue;
+			
+			long[] nextDims = dims.clone();
+			nextDims[axis] = newDims[axis];
+			
+			IndexedDataSource<U> dest;
+			if (--passes == 0)
+				dest = output.rawData();
+			else
+				dest = Storage.allocate(input.storageType(), value, elements(nextDims));
+			
+			Table table = new Table(method, (int) dims[axis], (int) nextDims[axis]);
+			
+			pass(alg, table, src, dest, dims, axis, maxPieces, oneThread);
+			
+			src = dest;
+			dims = nextDims;
+		}
+		
+		return output;
+	}
+	
+	private static long elements(long[] dims) {
+		long count = 1;
+		for (int i = 0; i < dims.length; i++) {
+			count *= dims[i];
+		}
+		return count;
+	}
+	
+	private static <T extends Algebra<T,U> & Addition<U> & ScaleByDouble<U>, U>
+		void pass(T alg, Table table, IndexedDataSource<U> src, IndexedDataSource<U> dest,
+					long[] dims, int axis, int maxPieces, boolean oneThread)
+	{
+		long stride = 1;
+		for (int i = 0; i < axis; i++) {
+			stride *= dims[i];
+		}
+		long lines = elements(dims) / dims[axis];
+		
+		Tuple2<Integer,Long> arrangement = ThreadingUtils.arrange(Math.max(1, maxPieces), lines, oneThread);
+		int pieces = arrangement.a();
+		long linesPerPiece = arrangement.b();
+		
+		if (pieces == 1) {
+			Runnable r = new Pass<T,U>(alg, table, src, dest, stride, 0, lines);
+			r.run();
+		}
+		else {
+			
+			final Thread[] threads = new Thread[pieces];
+			long start = 0;
+			for (int i = 0; i < pieces; i++) {
+				long end = (i == pieces-1) ? lines : start + linesPerPiece;
+				threads[i] = new Thread(new Pass<T,U>(alg, table, src, dest, stride, start, end));
+				start = end;
+			}
+	
+			for (int i = 0; i < threads.length; i++) {
+				threads[i].start();
+			}
+			
+			for (int i = 0; i < threads.length; i++) {
+				try {
+					threads[i].join();
+				} catch(InterruptedException e) {
+					throw new IllegalArgumentException("Thread execution error in SeparableResampler");
+				}
+			}
+		}
+	}
+	
+	// the input positions and weights that make each output position along one axis
+	
+	static class Table {
+		
+		final int inLength;
+		final int outLength;
+		final int taps;
+		final int[] indices;
+		final double[] weights;
+		
+		Table(int method, int inLength, int outLength) {
+			
+			this.inLength = inLength;
+			this.outLength = outLength;
+			this.taps = (method == CUBIC) ? 4 : (method == LINEAR) ? 2 : 1;
+			this.indices = new int[outLength * taps];
+			this.weights = new double[outLength * taps];
+			
+			double scale = (outLength == 1) ? 0 : ((double) (inLength - 1)) / (outLength - 1);
+			
+			for (int o = 0; o < outLength; o++) {
+				
+				double x = o * scale;
+				int base = (int) Math.floor(x);
+				double t = x - base;
+				int k = o * taps;
+				
+				if (method == NEAREST_NEIGHBOR) {
+					indices[k] = clamp((int) Math.floor(x + 0.5));
+					weights[k] = 1;
+				}
+				else if (method == LINEAR) {
+					indices[k] = clamp(base);
+					indices[k+1] = clamp(base + 1);
+					weights[k] = 1 - t;
+					weights[k+1] = t;
+				}
+				else {
+					double t2 = t * t;
+					double t3 = t2 * t;
+					indices[k] = clamp(base - 1);
+					indices[k+1] = clamp(base);
+					indices[k+2] = clamp(base + 1);
+					indices[k+3] = clamp(base + 2);
+					weights[k] = -0.5 * t + t2 - 0.5 * t3;
+					weights[k+1] = 1 - 2.5 * t2 + 1.5 * t3;
+					weights[k+2] = 0.5 * t + 2 * t2 - 1.5 * t3;
+					weights[k+3] = -0.5 * t2 + 0.5 * t3;
+				}
+			}
+		}
+		
+		private int clamp(int i) {
+			if (i < 0) return 0;
+			if (i >= inLength) return inLength - 1;
+			return i;
+		}
+	}
+	
+	private static class Pass<T extends Algebra<T,U> & Addition<U> & ScaleByDouble<U>, U>
+		implements Runnable
+	{
+		private final T alg;
+		private final Table table;
+		private final IndexedDataSource<U> src;
+		private final IndexedDataSource<U> dest;
+		private final long stride;
+		private final long firstLine;
+		private final long endLine;
+		
+		Pass(T alg, Table table, IndexedDataSource<U> src, IndexedDataSource<U> dest,
+				long stride, long firstLine, long endLine)
+		{
+			this.alg = alg;
+			this.table = table;
+			this.src = src;
+			this.dest = dest;
+			this.stride = stride;
+			this.firstLine = firstLine;
+			this.endLine = endLine;
+		}
+		
+		@Override
+		public void run() {
+			if (alg instanceof Float64Algebra || alg instanceof Float32Algebra)
+				runReals();
+			else
+				runGeneric();
+		}
+		
+		private void runReals() {
+			boolean dbl = alg instanceof Float64Algebra;
+			int in = table.inLength;
+			int out = table.outLength;
+			int taps = table.taps;
+			int[] indices = table.indices;
+			double[] weights = table.weights;
+			U value = alg.construct();
+			double[] line = new double[in];
+			for (long l = firstLine; l < endLine; l++) {
+				long inner = l % stride;
+				long outer = l / stride;
+				long srcStart = outer * stride * in + inner;
+				long destStart = outer * stride * out + inner;
+				for (int i = 0; i < in; i++) {
+					src.get(srcStart + i * stride, value);
+					line[i] = dbl ? ((Float64Member) value).v() : ((Float32Member) value).v();
+				}
+				for (int o = 0, k = 0; o < out; o++) {
+					double sum = 0;
+					for (int j = 0; j < taps; j++, k++) {
+						sum += weights[k] * line[indices[k]];
+					}
+					if (dbl)
+						((Float64Member) value).setV(sum);
+					else
+						((Float32Member) value).setV((float) sum);
+					dest.set(destStart + o * stride, value);
+				}
+			}
+		}
+		
+		private void runGeneric() {
+			int in = table.inLength;
+			int out = table.outLength;
+			int taps = table.taps;
+			int[] indices = table.indices;
+			double[] weights = table.weights;
+			U[] line = alloc(in);
+			U tmp = alg.construct();
+			U sum = alg.construct();
+			for (long l = firstLine; l < endLine; l++) {
+				long inner = l % stride;
+				long outer = l / stride;
+				long srcStart = outer * stride * in + inner;
+				long destStart = outer * stride * out + inner;
+				for (int i = 0; i < in; i++) {
+					src.get(srcStart + i * stride, line[i]);
+				}
+				for (int o = 0, k = 0; o < out; o++) {
+					if (taps == 1) {
+						dest.set(destStart + o * stride, line[indices[k++]]);
+						continue;
+					}
+					alg.zero().call(sum);
+					for (int j = 0; j < taps; j++, k++) {
+						alg.scaleByDouble().call(weights[k], line[indices[k]], tmp);
+						alg.add().call(sum, tmp, sum);
+					}
+					dest.set(destStart + o * stride, sum);
+				}
+			}
+		}
+		
+		@SuppressWarnings("unchecked")
+		private U[] alloc(int n) {
+			Object[] values = new Object[n];
+			for (int i = 0; i < n; i++) {
+				values[i] = alg.construct();
+			}
+			return (U[]) values;
+		}
+	}
+}
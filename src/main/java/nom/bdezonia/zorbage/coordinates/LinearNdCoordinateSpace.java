@@ -46,7 +46,7 @@ public class LinearNdCoordinateSpace
 {
 	private final BigDecimal[] scales;
 	private final BigDecimal[] offsets;
-	private MathContext context;
+	private volatile MathContext context;
 
 	/**
 	 * Create a n-dimensional linear coord space.
@@ -54,6 +54,19 @@ public class LinearNdCoordinateSpace
 	 * @param offsets Think of these as the origin of the coord space. There is one per dimension.
 	 */
 	public LinearNdCoordinateSpace(BigDecimal[] scales, BigDecimal[] offsets) {
+
+		// this is pretty accurate: is it super slow for calculations? think of calcing coord readouts.
+		
+		this(scales, offsets, new MathContext(20));  // more accurate than a double
+	}
+
+	/**
+	 * Create a n-dimensional linear coord space that projects with a given precision.
+	 * @param scales Think of these as "cell spacings". There is one per dimension.
+	 * @param offsets Think of these as the origin of the coord space. There is one per dimension.
+	 * @param context The precision used by the project() methods that are not passed one.
+	 */
+	public LinearNdCoordinateSpace(BigDecimal[] scales, BigDecimal[] offsets, MathContext context) {
 		
 		if (scales.length != offsets.length)
 			throw new IllegalArgumentException("inconsistent definition of a linear coord system");
@@ -69,9 +82,7 @@ public class LinearNdCoordinateSpace
 			this.offsets[i] = BigDecimalUtils.value(offsets[i]);
 		}
 		
-		// this is pretty accurate: is it super slow for calculations? think of calcing coord readouts.
-		
-		this.context = new MathContext(20);  // more accurate than a double
+		this.context = context;
 	}
 
 	@Override
@@ -83,28 +94,51 @@ public class LinearNdCoordinateSpace
 	@Override
 	public BigDecimal project(long[] coord, int axis) {
 		
-		return BigDecimal.valueOf(coord[axis]).multiply(scales[axis], context).add(offsets[axis], context);
+		return project(coord, axis, context);
 	}
 
 	@Override
 	public BigDecimal project(IntegerIndex coord, int axis) {
 		
-		return BigDecimal.valueOf(coord.get(axis)).multiply(scales[axis], context).add(offsets[axis], context);
+		return project(coord, axis, context);
 	}
 
 	@Override
 	public void project(long[] coord, BigDecimal[] output) {
 		
-		for (int i = 0; i < numDimensions(); i++) {
-			output[i] = project(coord, i);
-		}
+		project(coord, output, context);
 	}
 
 	@Override
 	public void project(IntegerIndex coord, BigDecimal[] output) {
 		
+		project(coord, output, context);
+	}
+
+	// The project() variants that take a MathContext let callers that share
+	// this space project with their own precision without calling setPrecision().
+	
+	public BigDecimal project(long[] coord, int axis, MathContext context) {
+		
+		return BigDecimal.valueOf(coord[axis]).multiply(scales[axis], context).add(offsets[axis], context);
+	}
+
+	public BigDecimal project(IntegerIndex coord, int axis, MathContext context) {
+		
+		return BigDecimal.valueOf(coord.get(axis)).multiply(scales[axis], context).add(offsets[axis], context);
+	}
+
+	public void project(long[] coord, BigDecimal[] output, MathContext context) {
+		
 		for (int i = 0; i < numDimensions(); i++) {
-			output[i] = project(coord, i);
+			output[i] = project(coord, i, context);
+		}
+	}
+
+	public void project(IntegerIndex coord, BigDecimal[] output, MathContext context) {
+		
+		for (int i = 0; i < numDimensions(); i++) {
+			output[i] = project(coord, i, context);
 		}
 	}
 
@@ -114,6 +148,11 @@ public class LinearNdCoordinateSpace
 		this.context = new MathContext(precision);
 	}
 
+	public MathContext getContext() {
+		
+		return context;
+	}
+
 	public BigDecimal getScale(int axis) {
 		
 		return scales[axis];
@@ -141,7 +180,7 @@ public class LinearNdCoordinateSpace
 			count++;
 		}
 		
-		return new LinearNdCoordinateSpace(scales, offsets);
+		return new LinearNdCoordinateSpace(scales, offsets, context);
 	}
 
 	/**
@@ -198,7 +237,7 @@ public class LinearNdCoordinateSpace
 		
 		return new	
 
-			LinearNdCoordinateSpace(newSpacings, newOrigin);
+			LinearNdCoordinateSpace(newSpacings, newOrigin, origSpace.getContext());
 	}
 	
 	/**
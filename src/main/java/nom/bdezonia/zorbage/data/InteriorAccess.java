@@ -0,0 +1,146 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.data;
+
+import nom.bdezonia.zorbage.datasource.IndexedDataSource;
+import nom.bdezonia.zorbage.sampling.IntegerIndex;
+
+/**
+ * InteriorAccess supports neighborhood algorithms (filters, resamplers) that
+ * read a fixed box of points around each base point. It splits the base
+ * points of a {@link DimensionedDataSource} into an interior, where every
+ * neighbor is in bounds, and a border. Interior neighbors can be read from
+ * the raw data with linear indices and no bounds checks. Border neighbors
+ * should be read through the data source so that its out of bounds policy
+ * (such as that of a {@link ProcedurePaddedDimensionedDataSource}) applies.
+ * 
+ * @author Barry DeZonia
+ *
+ * @param <U>
+ */
+public class InteriorAccess<U> {
+
+	private final IndexedDataSource<U> raw;
+	private final long[] strides;
+	private final long[] interiorMin;
+	private final long[] interiorMax;
+	
+	/**
+	 * 
+	 * @param data The data source that will be read
+	 * @param minOffsets The smallest offset from a base point that is read along each axis
+	 * @param maxOffsets The largest offset from a base point that is read along each axis
+	 */
+	public InteriorAccess(DimensionedDataSource<U> data, long[] minOffsets, long[] maxOffsets) {
+		
+		int numD = data.numDimensions();
+		if (minOffsets.length != numD || maxOffsets.length != numD)
+			throw new IllegalArgumentException("offsets do not match data dimensionality");
+		
+		this.raw = data.rawData();
+		this.strides = new long[numD];
+		this.interiorMin = new long[numD];
+		this.interiorMax = new long[numD];
+		
+		// padded sources share the raw data of the source they wrap. anything
+		//   else gets no interior.
+		
+		boolean usable = raw.size() == data.numElements();
+		
+		long stride = 1;
+		for (int i = 0; i < numD; i++) {
+			if (minOffsets[i] > maxOffsets[i])
+				throw new IllegalArgumentException("min offset is greater than max offset");
+			strides[i] = stride;
+			stride *= data.dimension(i);
+			if (usable) {
+				interiorMin[i] = -minOffsets[i];
+				interiorMax[i] = data.dimension(i) - 1 - maxOffsets[i];
+			}
+			else {
+				interiorMin[i] = 0;
+				interiorMax[i] = -1;
+			}
+		}
+	}
+	
+	/**
+	 * The smallest base coordinate along an axis whose neighbors are in bounds.
+	 */
+	public long interiorMin(int d) {
+		return interiorMin[d];
+	}
+	
+	/**
+	 * The largest base coordinate along an axis whose neighbors are in bounds.
+	 * It is less than interiorMin(d) when there is no interior.
+	 */
+	public long interiorMax(int d) {
+		return interiorMax[d];
+	}
+	
+	/**
+	 * Returns true if all of the neighbors of a base point are in bounds.
+	 */
+	public boolean isInterior(IntegerIndex base) {
+		for (int i = 0; i < strides.length; i++) {
+			long v = base.get(i);
+			if (v < interiorMin[i] || v > interiorMax[i])
+				return false;
+		}
+		return true;
+	}
+	
+	/**
+	 * The distance in the raw data between neighbors along an axis.
+	 */
+	public long stride(int d) {
+		return strides[d];
+	}
+	
+	/**
+	 * The position in the raw data of an in bounds point.
+	 */
+	public long linearIndex(IntegerIndex point) {
+		long index = 0;
+		for (int i = 0; i < strides.length; i++) {
+			index += strides[i] * point.get(i);
+		}
+		return index;
+	}
+	
+	/**
+	 * Read a value from the raw data. No bounds checks are made.
+	 */
+	public void get(long linearIndex, U value) {
+		raw.get(linearIndex, value);
+	}
+}
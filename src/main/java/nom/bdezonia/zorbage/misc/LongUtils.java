@@ -55,4 +55,26 @@ public class LongUtils {
 		}
 		return product;
 	}
+
+	/**
+	 * Binary (Stein) gcd of two nonnegative longs. gcd(0,0) is 0.
+	 */
+	public static long gcd(long a, long b) {
+		if (a < 0 || b < 0)
+			throw new IllegalArgumentException("gcd inputs must be nonnegative");
+		if (a == 0) return b;
+		if (b == 0) return a;
+		int shift = Long.numberOfTrailingZeros(a | b);
+		a >>>= Long.numberOfTrailingZeros(a);
+		do {
+			b >>>= Long.numberOfTrailingZeros(b);
+			if (a > b) {
+				long t = a;
+				a = b;
+				b = t;
+			}
+			b -= a;
+		} while (b != 0);
+		return a << shift;
+	}
 }
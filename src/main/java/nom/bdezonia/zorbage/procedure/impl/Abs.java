@@ -30,7 +30,7 @@
  */
 package nom.bdezonia.zorbage.procedure.impl;
 
-import nom.bdezonia.zorbage.procedure.Procedure2;
+import nom.bdezonia.zorbage.procedure.BatchProcedure2;
 import nom.bdezonia.zorbage.algebra.AbsoluteValue;
 import nom.bdezonia.zorbage.algebra.Algebra;
 
@@ -40,7 +40,7 @@ import nom.bdezonia.zorbage.algebra.Algebra;
  *
  */
 public class Abs<T extends Algebra<T,U> & AbsoluteValue<U,U>,U>
-	implements Procedure2<U,U>
+	implements BatchProcedure2<U,U>
 {
 	private final T algebra;
 	
@@ -53,4 +53,8 @@ public class Abs<T extends Algebra<T,U> & AbsoluteValue<U,U>,U>
 		algebra.abs().call(a, b);
 	}
 
+	@Override
+	public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+		BatchSupport.batchCall(algebra, algebra.abs(), count, a, aOffset, b, bOffset);
+	}
 }
@@ -0,0 +1,140 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.procedure.impl;
+
+import nom.bdezonia.zorbage.algebra.Algebra;
+import nom.bdezonia.zorbage.procedure.BatchProcedure2;
+import nom.bdezonia.zorbage.procedure.BatchProcedure3;
+import nom.bdezonia.zorbage.procedure.Procedure2;
+import nom.bdezonia.zorbage.procedure.Procedure3;
+import nom.bdezonia.zorbage.storage.coder.DoubleCoder;
+import nom.bdezonia.zorbage.storage.coder.FloatCoder;
+
+/**
+ * Batch support for the procedure wrappers and the equation evaluator. An
+ * algebra procedure that is itself batch capable is handed the arrays
+ * directly. Otherwise each element is decoded from the arrays into a member,
+ * passed to the procedure, and the result is encoded back. Double arrays
+ * require members that are DoubleCoders and float arrays require members
+ * that are FloatCoders.
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class BatchSupport {
+
+	// do not instantiate
+	
+	private BatchSupport() { }
+
+	@SuppressWarnings("unchecked")
+	public static <T extends Algebra<T,U>,U>
+		void batchCall(T algebra, Procedure2<U,U> proc, int count, Object a, int aOffset, Object b, int bOffset)
+	{
+		if (proc instanceof BatchProcedure2) {
+			((BatchProcedure2<U,U>) proc).batchCall(count, a, aOffset, b, bOffset);
+			return;
+		}
+		U valueA = algebra.construct();
+		U valueB = algebra.construct();
+		if (a instanceof double[] && b instanceof double[] && valueA instanceof DoubleCoder) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			DoubleCoder coderA = (DoubleCoder) valueA;
+			DoubleCoder coderB = (DoubleCoder) valueB;
+			int n = coderA.doubleCount();
+			for (int i = 0; i < count; i++) {
+				coderA.fromDoubleArray(x, (aOffset + i) * n);
+				proc.call(valueA, valueB);
+				coderB.toDoubleArray(y, (bOffset + i) * n);
+			}
+		}
+		else if (a instanceof float[] && b instanceof float[] && valueA instanceof FloatCoder) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			FloatCoder coderA = (FloatCoder) valueA;
+			FloatCoder coderB = (FloatCoder) valueB;
+			int n = coderA.floatCount();
+			for (int i = 0; i < count; i++) {
+				coderA.fromFloatArray(x, (aOffset + i) * n);
+				proc.call(valueA, valueB);
+				coderB.toFloatArray(y, (bOffset + i) * n);
+			}
+		}
+		else
+			throw new IllegalArgumentException("batch arrays do not match the algebra's element type");
+	}
+
+	@SuppressWarnings("unchecked")
+	public static <T extends Algebra<T,U>,U>
+		void batchCall(T algebra, Procedure3<U,U,U> proc, int count, Object a, int aOffset, Object b, int bOffset, Object c, int cOffset)
+	{
+		if (proc instanceof BatchProcedure3) {
+			((BatchProcedure3<U,U,U>) proc).batchCall(count, a, aOffset, b, bOffset, c, cOffset);
+			return;
+		}
+		U valueA = algebra.construct();
+		U valueB = algebra.construct();
+		U valueC = algebra.construct();
+		if (a instanceof double[] && b instanceof double[] && c instanceof double[] && valueA instanceof DoubleCoder) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			double[] z = (double[]) c;
+			DoubleCoder coderA = (DoubleCoder) valueA;
+			DoubleCoder coderB = (DoubleCoder) valueB;
+			DoubleCoder coderC = (DoubleCoder) valueC;
+			int n = coderA.doubleCount();
+			for (int i = 0; i < count; i++) {
+				coderA.fromDoubleArray(x, (aOffset + i) * n);
+				coderB.fromDoubleArray(y, (bOffset + i) * n);
+				proc.call(valueA, valueB, valueC);
+				coderC.toDoubleArray(z, (cOffset + i) * n);
+			}
+		}
+		else if (a instanceof float[] && b instanceof float[] && c instanceof float[] && valueA instanceof FloatCoder) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			float[] z = (float[]) c;
+			FloatCoder coderA = (FloatCoder) valueA;
+			FloatCoder coderB = (FloatCoder) valueB;
+			FloatCoder coderC = (FloatCoder) valueC;
+			int n = coderA.floatCount();
+			for (int i = 0; i < count; i++) {
+				coderA.fromFloatArray(x, (aOffset + i) * n);
+				coderB.fromFloatArray(y, (bOffset + i) * n);
+				proc.call(valueA, valueB, valueC);
+				coderC.toFloatArray(z, (cOffset + i) * n);
+			}
+		}
+		else
+			throw new IllegalArgumentException("batch arrays do not match the algebra's element type");
+	}
+}
@@ -30,7 +30,7 @@
  */
 package nom.bdezonia.zorbage.procedure.impl;
 
-import nom.bdezonia.zorbage.procedure.Procedure3;
+import nom.bdezonia.zorbage.procedure.BatchProcedure3;
 import nom.bdezonia.zorbage.algebra.Algebra;
 import nom.bdezonia.zorbage.algebra.Multiplication;
 
@@ -40,7 +40,7 @@ import nom.bdezonia.zorbage.algebra.Multiplication;
  *
  */
 public class Multiply<T extends Algebra<T,U> & Multiplication<U>,U>
-	implements Procedure3<U,U,U>
+	implements BatchProcedure3<U,U,U>
 {
 	private final T algebra;
 	
@@ -53,4 +53,8 @@ public class Multiply<T extends Algebra<T,U> & Multiplication<U>,U>
 		algebra.multiply().call(a, b, c);
 	}
 
+	@Override
+	public void batchCall(int count, Object a, int aOffset, Object b, int bOffset, Object c, int cOffset) {
+		BatchSupport.batchCall(algebra, algebra.multiply(), count, a, aOffset, b, bOffset, c, cOffset);
+	}
 }
@@ -30,7 +30,7 @@
  */
 package nom.bdezonia.zorbage.procedure.impl;
 
-import nom.bdezonia.zorbage.procedure.Procedure2;
+import nom.bdezonia.zorbage.procedure.BatchProcedure2;
 import nom.bdezonia.zorbage.algebra.Algebra;
 import nom.bdezonia.zorbage.algebra.Hyperbolic;
 
@@ -40,7 +40,7 @@ import nom.bdezonia.zorbage.algebra.Hyperbolic;
  *
  */
 public class Tanh<T extends Algebra<T,U> & Hyperbolic<U>,U>
-	implements Procedure2<U,U>
+	implements BatchProcedure2<U,U>
 {
 	private final T algebra;
 	
@@ -53,4 +53,8 @@ public class Tanh<T extends Algebra<T,U> & Hyperbolic<U>,U>
 		algebra.tanh().call(a, b);
 	}
 
+	@Override
+	public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+		BatchSupport.batchCall(algebra, algebra.tanh(), count, a, aOffset, b, bOffset);
+	}
 }
@@ -0,0 +1,261 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.procedure.impl.parse;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import nom.bdezonia.zorbage.algebra.Algebra;
+import nom.bdezonia.zorbage.misc.Hasher;
+import nom.bdezonia.zorbage.procedure.Procedure;
+import nom.bdezonia.zorbage.tuple.Tuple2;
+import nom.bdezonia.zorbage.type.real.highprec.HighPrecisionAlgebra;
+
+/**
+ * EquationCache keeps the most recently used results of
+ * {@link EquationParser#parse(Algebra, String)} so that equations that are
+ * submitted again and again are only lexed, parsed and compiled once. Results
+ * are keyed by equation text, algebra and the current high precision setting
+ * (constants are folded at parse time so they depend on it). Parse errors are
+ * cached too. The cache is bounded: when it is full the least recently used
+ * equation is dropped. The cached procedures are safe to call from many
+ * threads at once.
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class EquationCache {
+
+	// do not instantiate
+	
+	private EquationCache() { }
+	
+	private static int capacity = 256;
+	
+	private static long hits = 0;
+	private static long misses = 0;
+	private static long evictions = 0;
+	
+	private static final LinkedHashMap<Key, Tuple2<String,Object>> EQUATIONS =
+			new LinkedHashMap<Key, Tuple2<String,Object>>(16, 0.75f, true)
+	{
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Tuple2<String,Object>> eldest) {
+			if (size() > capacity) {
+				evictions++;
+				return true;
+			}
+			return false;
+		}
+	};
+	
+	/**
+	 * Parse an equation or return the cached result of an earlier parse of
+	 * the same equation. The result has the same form as the result of
+	 * {@link EquationParser#parse(Algebra, String)}: an error message (or null
+	 * if there was no error) and the procedure that evaluates the equation.
+	 * 
+	 * @param <T>
+	 * @param <U>
+	 * @param algebra
+	 * @param equation
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends Algebra<T,U>,U>
+		Tuple2<String,Procedure<U>> parse(T algebra, String equation)
+	{
+		Key key = new Key(equation, algebra, HighPrecisionAlgebra.getPrecision());
+		
+		synchronized (EQUATIONS) {
+			Tuple2<String,Object> cached = EQUATIONS.get(key);
+			if (cached != null) {
+				hits++;
+				return new Tuple2<String,Procedure<U>>(cached.a(), (Procedure<U>) cached.b());
+			}
+			misses++;
+		}
+		
+		// parse outside the lock so one slow equation does not stall other threads
+		
+		Tuple2<String,Procedure<U>> result = new EquationParser<T,U>().parse(algebra, equation);
+		
+		synchronized (EQUATIONS) {
+			EQUATIONS.put(key, new Tuple2<String,Object>(result.a(), result.b()));
+		}
+		
+		return new Tuple2<String,Procedure<U>>(result.a(), result.b());
+	}
+	
+	/**
+	 * Parse a group of equations ahead of time (for instance at startup) so
+	 * later requests for them are cache hits.
+	 * 
+	 * @param <T>
+	 * @param <U>
+	 * @param algebra
+	 * @param equations
+	 * @return The number of equations that had parse errors.
+	 */
+	public static <T extends Algebra<T,U>,U>
+		int warm(T algebra, String... equations)
+	{
+		int errors = 0;
+		for (String equation : equations) {
+			if (parse(algebra, equation).a() != null)
+				errors++;
+		}
+		return errors;
+	}
+	
+	/**
+	 * Sets the maximum number of equations the cache will hold.
+	 * 
+	 * @param maxEquations
+	 */
+	public static void setCapacity(int maxEquations) {
+		if (maxEquations < 1)
+			throw new IllegalArgumentException("equation cache capacity must be at least 1");
+		synchronized (EQUATIONS) {
+			capacity = maxEquations;
+			while (EQUATIONS.size() > capacity) {
+				Key eldest = EQUATIONS.keySet().iterator().next();
+				EQUATIONS.remove(eldest);
+				evictions++;
+			}
+		}
+	}
+	
+	/**
+	 * Returns the maximum number of equations the cache will hold.
+	 */
+	public static int capacity() {
+		synchronized (EQUATIONS) {
+			return capacity;
+		}
+	}
+	
+	/**
+	 * Returns the number of equations currently held in the cache.
+	 */
+	public static int size() {
+		synchronized (EQUATIONS) {
+			return EQUATIONS.size();
+		}
+	}
+	
+	/**
+	 * Returns the number of parse requests answered from the cache.
+	 */
+	public static long hits() {
+		synchronized (EQUATIONS) {
+			return hits;
+		}
+	}
+	
+	/**
+	 * Returns the number of parse requests that had to parse their equation.
+	 */
+	public static long misses() {
+		synchronized (EQUATIONS) {
+			return misses;
+		}
+	}
+	
+	/**
+	 * Returns the number of equations dropped to stay within capacity.
+	 */
+	public static long evictions() {
+		synchronized (EQUATIONS) {
+			return evictions;
+		}
+	}
+	
+	/**
+	 * Sets the hit, miss and eviction counts back to zero.
+	 */
+	public static void resetStatistics() {
+		synchronized (EQUATIONS) {
+			hits = 0;
+			misses = 0;
+			evictions = 0;
+		}
+	}
+	
+	/**
+	 * Removes all equations from the cache.
+	 */
+	public static void clear() {
+		synchronized (EQUATIONS) {
+			EQUATIONS.clear();
+		}
+	}
+	
+	// Algebras are matched by identity: a compiled equation holds the
+	//   algebra's own procedures, and algebras of one class (like tuple
+	//   algebras) can be built from different component algebras.
+	
+	private static class Key {
+		
+		private final String equation;
+		private final Object algebra;
+		private final int precision;
+		
+		Key(String equation, Object algebra, int precision) {
+			this.equation = equation;
+			this.algebra = algebra;
+			this.precision = precision;
+		}
+		
+		@Override
+		public int hashCode() {
+			int v = 1;
+			v = Hasher.PRIME * v + equation.hashCode();
+			v = Hasher.PRIME * v + System.identityHashCode(algebra);
+			v = Hasher.PRIME * v + Hasher.hashCode(precision);
+			return v;
+		}
+		
+		@Override
+		public boolean equals(Object o) {
+			if (o instanceof Key) {
+				Key other = (Key) o;
+				return
+					equation.equals(other.equation) &&
+					algebra == other.algebra &&
+					precision == other.precision;
+			}
+			return false;
+		}
+	}
+}
@@ -0,0 +1,282 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.procedure.impl.parse;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import nom.bdezonia.zorbage.algebra.Algebra;
+import nom.bdezonia.zorbage.procedure.Procedure1;
+import nom.bdezonia.zorbage.procedure.Procedure2;
+import nom.bdezonia.zorbage.procedure.Procedure3;
+
+/**
+ * Lowers an expression tree into an {@link EquationProgram}.
+ * <p>
+ * Subtrees whose inputs are all constants are evaluated once here and replaced
+ * by their value. A subtree that throws when evaluated is left in place so the
+ * error still happens when the equation is evaluated. Repeated subexpressions
+ * and repeated constants are shared, so they are computed or stored once. The
+ * rand() function is never shared or folded since each use must make a new
+ * value. Registers are reused once the last instruction reading them has run.
+ * An instruction never writes to a register that it also reads.
+ * 
+ * @author Barry DeZonia
+ *
+ */
+class EquationCompiler {
+
+	// do not instantiate
+	
+	private EquationCompiler() { }
+	
+	static <T extends Algebra<T,U>,U>
+		EquationProgram<T,U> compile(T algebra, EquationNode<U> root)
+	{
+		return new Compilation<T,U>(algebra).compile(root);
+	}
+	
+	private static class Compilation<T extends Algebra<T,U>,U> {
+		
+		private final T algebra;
+		private final List<EquationNode<U>> constants = new ArrayList<>();
+		private final Map<Integer,EquationNode<U>> variables = new HashMap<>();
+		private final Map<String,EquationNode<U>> operations = new HashMap<>();
+		private final Map<EquationNode<U>,Integer> ids = new IdentityHashMap<>();
+		private final Map<EquationNode<U>,EquationNode<U>> shared = new IdentityHashMap<>();
+		
+		Compilation(T algebra) {
+			this.algebra = algebra;
+		}
+		
+		@SuppressWarnings("unchecked")
+		EquationProgram<T,U> compile(EquationNode<U> root) {
+			
+			root = share(root);
+			
+			// order the operations so every node comes after its arguments
+			
+			List<EquationNode<U>> code = new ArrayList<>();
+			order(root, code, new IdentityHashMap<EquationNode<U>,Boolean>());
+			
+			// registers 0 .. k-1 hold the constants that are still in use
+			
+			Map<EquationNode<U>,Integer> locations = new IdentityHashMap<>();
+			List<U> usedConstants = new ArrayList<>();
+			int variableCount = 0;
+			for (EquationNode<U> node : code) {
+				for (EquationNode<U> arg : args(node)) {
+					if (arg.kind == EquationNode.CONSTANT && !locations.containsKey(arg)) {
+						locations.put(arg, usedConstants.size());
+						usedConstants.add(arg.value);
+					}
+					if (arg.kind == EquationNode.VARIABLE) {
+						locations.put(arg, -(arg.index+1));
+						variableCount = Math.max(variableCount, arg.index+1);
+					}
+				}
+			}
+			if (code.size() == 0) {
+				if (root.kind == EquationNode.CONSTANT) {
+					locations.put(root, 0);
+					usedConstants.add(root.value);
+				}
+				else {
+					locations.put(root, -(root.index+1));
+					variableCount = root.index+1;
+				}
+			}
+			
+			// find where each operation's value is read for the last time
+			
+			Map<EquationNode<U>,Integer> lastUse = new IdentityHashMap<>();
+			for (int i = 0; i < code.size(); i++) {
+				for (EquationNode<U> arg : args(code.get(i))) {
+					lastUse.put(arg, i);
+				}
+			}
+			
+			// assign registers to operation results, reusing dead ones
+			
+			int n = code.size();
+			int[] kinds = new int[n];
+			Procedure1<U>[] procs1 = new Procedure1[n];
+			Procedure2<U,U>[] procs2 = new Procedure2[n];
+			Procedure3<U,U,U>[] procs3 = new Procedure3[n];
+			int[] args1 = new int[n];
+			int[] args2 = new int[n];
+			int[] dests = new int[n];
+			int registerCount = usedConstants.size();
+			List<Integer> free = new ArrayList<>();
+			for (int i = 0; i < n; i++) {
+				EquationNode<U> node = code.get(i);
+				kinds[i] = node.kind;
+				switch (node.kind) {
+				case EquationNode.NULLARY:
+					procs1[i] = (Procedure1<U>) node.proc;
+					break;
+				case EquationNode.UNARY:
+					procs2[i] = (Procedure2<U,U>) node.proc;
+					args1[i] = locations.get(node.arg1);
+					break;
+				default:
+					procs3[i] = (Procedure3<U,U,U>) node.proc;
+					args1[i] = locations.get(node.arg1);
+					args2[i] = locations.get(node.arg2);
+					break;
+				}
+				int dest;
+				if (free.size() > 0)
+					dest = free.remove(free.size()-1);
+				else
+					dest = registerCount++;
+				dests[i] = dest;
+				locations.put(node, dest);
+				for (EquationNode<U> arg : args(node)) {
+					if (isOperation(arg) && lastUse.get(arg) == i) {
+						Integer reg = locations.get(arg);
+						if (!free.contains(reg))
+							free.add(reg);
+					}
+				}
+			}
+			
+			U[] constantValues = (U[]) usedConstants.toArray();
+			
+			int resultOperand = locations.get(root);
+			
+			return new EquationProgram<T,U>(algebra, constantValues, registerCount,
+					kinds, procs1, procs2, procs3, args1, args2, dests, resultOperand, variableCount);
+		}
+		
+		// Returns the shared version of a node: constants are folded and equal
+		// subtrees become the same node.
+		
+		@SuppressWarnings("unchecked")
+		private EquationNode<U> share(EquationNode<U> node) {
+			EquationNode<U> result = shared.get(node);
+			if (result != null)
+				return result;
+			switch (node.kind) {
+			case EquationNode.CONSTANT:
+				result = constant(node.value);
+				break;
+			case EquationNode.VARIABLE:
+				result = variables.get(node.index);
+				if (result == null) {
+					result = node;
+					variables.put(node.index, node);
+				}
+				break;
+			case EquationNode.NULLARY:
+				result = node;
+				break;
+			default:
+				EquationNode<U> arg1 = share(node.arg1);
+				EquationNode<U> arg2 = (node.kind == EquationNode.BINARY) ? share(node.arg2) : null;
+				if (arg1.kind == EquationNode.CONSTANT &&
+						(arg2 == null || arg2.kind == EquationNode.CONSTANT))
+				{
+					U value = algebra.construct();
+					try {
+						if (arg2 == null)
+							((Procedure2<U,U>) node.proc).call(arg1.value, value);
+						else
+							((Procedure3<U,U,U>) node.proc).call(arg1.value, arg2.value, value);
+						result = constant(value);
+						break;
+					} catch (RuntimeException e) {
+						// leave the failure for evaluation time
+					}
+				}
+				String key = node.name + "(" + id(arg1) + (arg2 == null ? "" : "," + id(arg2)) + ")";
+				result = operations.get(key);
+				if (result == null) {
+					if (arg2 == null)
+						result = EquationNode.unary(node.name, node.proc, arg1);
+					else
+						result = EquationNode.binary(node.name, node.proc, arg1, arg2);
+					operations.put(key, result);
+				}
+				break;
+			}
+			shared.put(node, result);
+			return result;
+		}
+		
+		private EquationNode<U> constant(U value) {
+			for (EquationNode<U> c : constants) {
+				// the text check keeps values like 0 and -0 apart
+				if (algebra.isEqual().call(c.value, value) &&
+						c.value.toString().equals(value.toString()))
+					return c;
+			}
+			EquationNode<U> c = EquationNode.constant(value);
+			constants.add(c);
+			return c;
+		}
+		
+		private int id(EquationNode<U> node) {
+			Integer id = ids.get(node);
+			if (id == null) {
+				id = ids.size();
+				ids.put(node, id);
+			}
+			return id;
+		}
+		
+		private void order(EquationNode<U> node, List<EquationNode<U>> code, Map<EquationNode<U>,Boolean> visited) {
+			if (!isOperation(node) || visited.containsKey(node))
+				return;
+			visited.put(node, true);
+			for (EquationNode<U> arg : args(node)) {
+				order(arg, code, visited);
+			}
+			code.add(node);
+		}
+		
+		private boolean isOperation(EquationNode<U> node) {
+			return node.kind != EquationNode.CONSTANT && node.kind != EquationNode.VARIABLE;
+		}
+		
+		private List<EquationNode<U>> args(EquationNode<U> node) {
+			List<EquationNode<U>> list = new ArrayList<>();
+			if (node.arg1 != null)
+				list.add(node.arg1);
+			if (node.arg2 != null)
+				list.add(node.arg2);
+			return list;
+		}
+	}
+}
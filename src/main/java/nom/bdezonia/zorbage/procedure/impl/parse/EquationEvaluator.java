@@ -0,0 +1,406 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.procedure.impl.parse;
+
+import java.lang.reflect.Array;
+
+import nom.bdezonia.zorbage.algebra.Algebra;
+import nom.bdezonia.zorbage.datasource.IndexedDataSource;
+import nom.bdezonia.zorbage.misc.ThreadingUtils;
+import nom.bdezonia.zorbage.procedure.Procedure;
+import nom.bdezonia.zorbage.procedure.impl.BatchSupport;
+import nom.bdezonia.zorbage.storage.array.ArrayStorageFloat32;
+import nom.bdezonia.zorbage.storage.array.ArrayStorageFloat64;
+import nom.bdezonia.zorbage.storage.coder.DoubleCoder;
+import nom.bdezonia.zorbage.storage.coder.FloatCoder;
+import nom.bdezonia.zorbage.tuple.Tuple2;
+
+/**
+ * EquationEvaluator evaluates an equation at every position of a group of
+ * lists: output[i] = equation(inputs[0][i], inputs[1][i], ...) where input
+ * list n is bound to the equation's $n variable. The positions are split
+ * across threads. Each thread runs the equation a block of BLOCK_SIZE
+ * positions at a time: every instruction of the compiled equation is applied
+ * to the whole block before the next instruction starts.
+ * <p>
+ * When the lists are plain double or float array storage the blocks are
+ * primitive arrays. The inputs are read and the output written in place, and
+ * batch capable algebra procedures process a whole block per call. Other
+ * lists are copied a block at a time into columns of members.
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class EquationEvaluator {
+
+	// do not instantiate
+	
+	private EquationEvaluator() { }
+
+	/**
+	 * The number of positions each instruction processes at a time.
+	 */
+	public static final int BLOCK_SIZE = 1024;
+	
+	/**
+	 * Parse an equation (using the {@link EquationCache}) and evaluate it at
+	 * every position of the given lists.
+	 * 
+	 * @param <T>
+	 * @param <U>
+	 * @param algebra
+	 * @param equation
+	 * @param output
+	 * @param inputs
+	 */
+	@SafeVarargs
+	public static <T extends Algebra<T,U>,U>
+		void compute(T algebra, String equation, IndexedDataSource<U> output, IndexedDataSource<U>... inputs)
+	{
+		Tuple2<String,Procedure<U>> result = EquationCache.parse(algebra, equation);
+		if (result.a() != null)
+			throw new IllegalArgumentException(result.a());
+		compute(algebra, result.b(), output, inputs);
+	}
+	
+	/**
+	 * Evaluate an equation at every position of the given lists. Procedures
+	 * made by the {@link EquationParser} are evaluated a block at a time. Any
+	 * other procedure is simply called once per position.
+	 * 
+	 * @param <T>
+	 * @param <U>
+	 * @param algebra
+	 * @param equation
+	 * @param output
+	 * @param inputs
+	 */
+	@SafeVarargs
+	public static <T extends Algebra<T,U>,U>
+		void compute(T algebra, Procedure<U> equation, IndexedDataSource<U> output, IndexedDataSource<U>... inputs)
+	{
+		long size = output.size();
+		boolean oneThread = output.accessWithOneThread();
+		for (int i = 0; i < inputs.length; i++) {
+			if (inputs[i].size() != size)
+				throw new IllegalArgumentException("mismatched list sizes");
+			oneThread = oneThread || inputs[i].accessWithOneThread();
+		}
+		
+		if (size == 0)
+			return;
+		
+		EquationProgram<T,U> program = null;
+		Object[] arrays = null;
+		if (equation instanceof EquationProgram) {
+			@SuppressWarnings("unchecked")
+			EquationProgram<T,U> p = (EquationProgram<T,U>) equation;
+			program = p;
+			if (inputs.length < program.variableCount)
+				throw new IllegalArgumentException("unspecified variable #"+(program.variableCount-1));
+			arrays = arrays(algebra, program, output, inputs);
+		}
+		
+		Tuple2<Integer,Long> arrangement = ThreadingUtils.arrange(size, oneThread);
+		int pieces = arrangement.a();
+		long elemsPerPiece = arrangement.b();
+		
+		if (pieces == 1) {
+			
+			Runnable r = new Computer<T,U>(algebra, equation, program, arrays, output, inputs, 0, size);
+			r.run();
+		}
+		else {
+			
+			final Thread[] threads = new Thread[pieces];
+			long start = 0;
+			for (int i = 0; i < pieces; i++) {
+				long count;
+				if (i != pieces-1) {
+					count = elemsPerPiece;
+				}
+				else {
+					count = size - start;
+				}
+				Runnable r = new Computer<T,U>(algebra, equation, program, arrays, output, inputs, start, count);
+				threads[i] = new Thread(r);
+				start += count;
+			}
+	
+			for (int i = 0; i < pieces; i++) {
+				threads[i].start();
+			}
+			
+			for (int i = 0; i < pieces; i++) {
+				try {
+					threads[i].join();
+				} catch(InterruptedException e) {
+					throw new IllegalArgumentException("Thread execution error in EquationEvaluator");
+				}
+			}
+		}
+	}
+	
+	// Returns the output array followed by the arrays of the inputs the program
+	// reads when all of them are double (or all float) array storage of a type
+	// that can be coded to and from them. Otherwise returns null.
+	
+	private static <T extends Algebra<T,U>,U>
+		Object[] arrays(T algebra, EquationProgram<T,U> program, IndexedDataSource<U> output, IndexedDataSource<U>[] inputs)
+	{
+		U value = algebra.construct();
+		Object[] arrays = new Object[program.variableCount + 1];
+		for (int i = 0; i < arrays.length; i++) {
+			IndexedDataSource<U> list = (i == 0) ? output : inputs[i-1];
+			if (list instanceof ArrayStorageFloat64 && value instanceof DoubleCoder)
+				arrays[i] = ((ArrayStorageFloat64<?>) list).rawData();
+			else if (list instanceof ArrayStorageFloat32 && value instanceof FloatCoder)
+				arrays[i] = ((ArrayStorageFloat32<?>) list).rawData();
+			else
+				return null;
+			if (arrays[i].getClass() != arrays[0].getClass())
+				return null;
+		}
+		return arrays;
+	}
+	
+	private static class Computer<T extends Algebra<T,U>,U>
+		implements Runnable
+	{
+		private final T algebra;
+		private final Procedure<U> equation;
+		private final EquationProgram<T,U> program;
+		private final Object[] arrays;
+		private final IndexedDataSource<U> output;
+		private final IndexedDataSource<U>[] inputs;
+		private final long start;
+		private final long count;
+		
+		Computer(T algebra, Procedure<U> equation, EquationProgram<T,U> program, Object[] arrays,
+					IndexedDataSource<U> output, IndexedDataSource<U>[] inputs, long start, long count)
+		{
+			this.algebra = algebra;
+			this.equation = equation;
+			this.program = program;
+			this.arrays = arrays;
+			this.output = output;
+			this.inputs = inputs;
+			this.start = start;
+			this.count = count;
+		}
+		
+		public void run() {
+			if (program == null)
+				byElement();
+			else if (arrays != null)
+				byPrimitiveBlock();
+			else
+				byMemberBlock();
+		}
+		
+		// a procedure that is not a compiled equation: call it per position
+		
+		@SuppressWarnings("unchecked")
+		private void byElement() {
+			U result = algebra.construct();
+			// procedures declared with concrete types need a real U[] here
+			U[] values = (U[]) Array.newInstance(result.getClass(), inputs.length);
+			for (int i = 0; i < values.length; i++) {
+				values[i] = algebra.construct();
+			}
+			for (long i = start; i < start + count; i++) {
+				for (int j = 0; j < values.length; j++) {
+					inputs[j].get(i, values[j]);
+				}
+				equation.call(result, values);
+				output.set(i, result);
+			}
+		}
+		
+		// registers are primitive arrays holding one block; inputs and output
+		// are accessed in place
+		
+		private void byPrimitiveBlock() {
+			
+			U value = algebra.construct();
+			int slots = (value instanceof DoubleCoder) ? ((DoubleCoder) value).doubleCount() : ((FloatCoder) value).floatCount();
+			boolean doubles = arrays[0] instanceof double[];
+			
+			Object[] registers = new Object[program.registerCount];
+			for (int r = 0; r < registers.length; r++) {
+				registers[r] = doubles ? new double[BLOCK_SIZE * slots] : new float[BLOCK_SIZE * slots];
+				if (r < program.constants.length) {
+					for (int k = 0; k < BLOCK_SIZE; k++) {
+						encode(program.constants[r], registers[r], k * slots);
+					}
+				}
+			}
+			
+			Object out = arrays[0];
+			int n = program.kinds.length;
+			
+			for (long b = start; b < start + count; b += BLOCK_SIZE) {
+				
+				int blockStart = (int) b;
+				int c = (int) Math.min(BLOCK_SIZE, start + count - b);
+				
+				if (n == 0) {
+					// the equation is a constant or a single variable
+					int operand = program.resultOperand;
+					Object src = (operand >= 0) ? registers[operand] : arrays[-operand];
+					int srcOffset = (operand >= 0) ? 0 : blockStart;
+					System.arraycopy(src, srcOffset * slots, out, blockStart * slots, c * slots);
+					continue;
+				}
+				
+				for (int i = 0; i < n; i++) {
+					Object dest = (i == n-1) ? out : registers[program.dests[i]];
+					int destOffset = (i == n-1) ? blockStart : 0;
+					switch (program.kinds[i]) {
+					case EquationNode.NULLARY:
+						for (int k = 0; k < c; k++) {
+							program.procs1[i].call(value);
+							encode(value, dest, (destOffset + k) * slots);
+						}
+						break;
+					case EquationNode.UNARY:
+						BatchSupport.batchCall(algebra, program.procs2[i], c,
+								array(program.args1[i], registers), offset(program.args1[i], blockStart),
+								dest, destOffset);
+						break;
+					default:
+						BatchSupport.batchCall(algebra, program.procs3[i], c,
+								array(program.args1[i], registers), offset(program.args1[i], blockStart),
+								array(program.args2[i], registers), offset(program.args2[i], blockStart),
+								dest, destOffset);
+						break;
+					}
+				}
+			}
+		}
+		
+		private Object array(int operand, Object[] registers) {
+			return (operand >= 0) ? registers[operand] : arrays[-operand];
+		}
+		
+		private int offset(int operand, int blockStart) {
+			return (operand >= 0) ? 0 : blockStart;
+		}
+		
+		private void encode(U value, Object array, int index) {
+			if (array instanceof double[])
+				((DoubleCoder) value).toDoubleArray((double[]) array, index);
+			else
+				((FloatCoder) value).toFloatArray((float[]) array, index);
+		}
+		
+		// registers are columns of members holding one block; inputs are
+		// copied in and the output copied out a block at a time
+		
+		@SuppressWarnings("unchecked")
+		private void byMemberBlock() {
+			
+			U[][] registers = (U[][]) new Object[program.registerCount][];
+			for (int r = 0; r < registers.length; r++) {
+				registers[r] = column();
+				if (r < program.constants.length) {
+					for (int k = 0; k < BLOCK_SIZE; k++) {
+						algebra.assign().call(program.constants[r], registers[r][k]);
+					}
+				}
+			}
+			U[][] variables = (U[][]) new Object[program.variableCount][];
+			for (int v = 0; v < variables.length; v++) {
+				variables[v] = column();
+			}
+			U[] results = column();
+			
+			int n = program.kinds.length;
+			
+			for (long b = start; b < start + count; b += BLOCK_SIZE) {
+				
+				int c = (int) Math.min(BLOCK_SIZE, start + count - b);
+				
+				for (int v = 0; v < variables.length; v++) {
+					for (int k = 0; k < c; k++) {
+						inputs[v].get(b + k, variables[v][k]);
+					}
+				}
+				
+				U[] answer = results;
+				if (n == 0) {
+					answer = column(program.resultOperand, registers, variables);
+				}
+				
+				for (int i = 0; i < n; i++) {
+					U[] dest = (i == n-1) ? results : registers[program.dests[i]];
+					switch (program.kinds[i]) {
+					case EquationNode.NULLARY:
+						for (int k = 0; k < c; k++) {
+							program.procs1[i].call(dest[k]);
+						}
+						break;
+					case EquationNode.UNARY:
+						U[] x = column(program.args1[i], registers, variables);
+						for (int k = 0; k < c; k++) {
+							program.procs2[i].call(x[k], dest[k]);
+						}
+						break;
+					default:
+						U[] y = column(program.args1[i], registers, variables);
+						U[] z = column(program.args2[i], registers, variables);
+						for (int k = 0; k < c; k++) {
+							program.procs3[i].call(y[k], z[k], dest[k]);
+						}
+						break;
+					}
+				}
+				
+				for (int k = 0; k < c; k++) {
+					output.set(b + k, answer[k]);
+				}
+			}
+		}
+		
+		@SuppressWarnings("unchecked")
+		private U[] column() {
+			U[] column = (U[]) new Object[BLOCK_SIZE];
+			for (int k = 0; k < BLOCK_SIZE; k++) {
+				column[k] = algebra.construct();
+			}
+			return column;
+		}
+		
+		private U[] column(int operand, U[][] registers, U[][] variables) {
+			return (operand >= 0) ? registers[operand] : variables[-operand-1];
+		}
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.procedure.impl.parse;
+
+/**
+ * A node of the expression tree the {@link EquationParser} builds before it
+ * compiles an equation into an {@link EquationProgram}. A node is a constant,
+ * a $n variable reference, or the application of an algebra procedure to zero,
+ * one or two child nodes.
+ * 
+ * @author Barry DeZonia
+ *
+ * @param <U>
+ */
+class EquationNode<U> {
+
+	static final int CONSTANT = 0;
+	static final int VARIABLE = 1;
+	static final int NULLARY = 2;  // proc is a Procedure1
+	static final int UNARY = 3;    // proc is a Procedure2
+	static final int BINARY = 4;   // proc is a Procedure3
+	
+	final int kind;
+	final String name;
+	final Object proc;
+	final EquationNode<U> arg1;
+	final EquationNode<U> arg2;
+	final U value;
+	final int index;
+	
+	private EquationNode(int kind, String name, Object proc, EquationNode<U> arg1, EquationNode<U> arg2, U value, int index) {
+		this.kind = kind;
+		this.name = name;
+		this.proc = proc;
+		this.arg1 = arg1;
+		this.arg2 = arg2;
+		this.value = value;
+		this.index = index;
+	}
+	
+	static <U> EquationNode<U> constant(U value) {
+		return new EquationNode<U>(CONSTANT, "const", null, null, null, value, -1);
+	}
+	
+	static <U> EquationNode<U> variable(int index) {
+		if (index < 0)
+			throw new IllegalArgumentException("negative index exception");
+		return new EquationNode<U>(VARIABLE, "$"+index, null, null, null, null, index);
+	}
+	
+	static <U> EquationNode<U> nullary(String name, Object proc) {
+		return new EquationNode<U>(NULLARY, name, proc, null, null, null, -1);
+	}
+	
+	static <U> EquationNode<U> unary(String name, Object proc, EquationNode<U> arg) {
+		return new EquationNode<U>(UNARY, name, proc, arg, null, null, -1);
+	}
+	
+	static <U> EquationNode<U> binary(String name, Object proc, EquationNode<U> arg1, EquationNode<U> arg2) {
+		return new EquationNode<U>(BINARY, name, proc, arg1, arg2, null, -1);
+	}
+}
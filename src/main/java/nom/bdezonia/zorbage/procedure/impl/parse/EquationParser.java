@@ -33,40 +33,6 @@ package nom.bdezonia.zorbage.procedure.impl.parse;
 import nom.bdezonia.zorbage.algebra.*;
 import nom.bdezonia.zorbage.misc.BigList;
 import nom.bdezonia.zorbage.procedure.Procedure;
-import nom.bdezonia.zorbage.procedure.impl.AbsL;
-import nom.bdezonia.zorbage.procedure.impl.AcosL;
-import nom.bdezonia.zorbage.procedure.impl.AcoshL;
-import nom.bdezonia.zorbage.procedure.impl.AddL;
-import nom.bdezonia.zorbage.procedure.impl.AsinL;
-import nom.bdezonia.zorbage.procedure.impl.AsinhL;
-import nom.bdezonia.zorbage.procedure.impl.AtanL;
-import nom.bdezonia.zorbage.procedure.impl.AtanhL;
-import nom.bdezonia.zorbage.procedure.impl.CbrtL;
-import nom.bdezonia.zorbage.procedure.impl.ConstantL;
-import nom.bdezonia.zorbage.procedure.impl.CosL;
-import nom.bdezonia.zorbage.procedure.impl.CoshL;
-import nom.bdezonia.zorbage.procedure.impl.DivL;
-import nom.bdezonia.zorbage.procedure.impl.DivideL;
-import nom.bdezonia.zorbage.procedure.impl.ExpL;
-import nom.bdezonia.zorbage.procedure.impl.LogL;
-import nom.bdezonia.zorbage.procedure.impl.MaxL;
-import nom.bdezonia.zorbage.procedure.impl.MinL;
-import nom.bdezonia.zorbage.procedure.impl.ModL;
-import nom.bdezonia.zorbage.procedure.impl.MultiplyL;
-import nom.bdezonia.zorbage.procedure.impl.NegateL;
-import nom.bdezonia.zorbage.procedure.impl.PowL;
-import nom.bdezonia.zorbage.procedure.impl.RandL;
-import nom.bdezonia.zorbage.procedure.impl.SinL;
-import nom.bdezonia.zorbage.procedure.impl.SincL;
-import nom.bdezonia.zorbage.procedure.impl.SinchL;
-import nom.bdezonia.zorbage.procedure.impl.SinchpiL;
-import nom.bdezonia.zorbage.procedure.impl.SincpiL;
-import nom.bdezonia.zorbage.procedure.impl.SinhL;
-import nom.bdezonia.zorbage.procedure.impl.SqrtL;
-import nom.bdezonia.zorbage.procedure.impl.SubtractL;
-import nom.bdezonia.zorbage.procedure.impl.TanL;
-import nom.bdezonia.zorbage.procedure.impl.TanhL;
-import nom.bdezonia.zorbage.procedure.impl.VariableConstantL;
 import nom.bdezonia.zorbage.procedure.impl.ZeroL;
 import nom.bdezonia.zorbage.tuple.Tuple2;
 import nom.bdezonia.zorbage.algebra.Addition;
@@ -745,7 +711,7 @@ public class EquationParser<T extends Algebra<T,U>,U> {
 			}
 			else {
 				retVal.setA(null);
-				retVal.setB(result.procedure);
+				retVal.setB(EquationCompiler.compile(algebra, result.node));
 			}
 			return retVal;
 		}
@@ -755,7 +721,7 @@ public class EquationParser<T extends Algebra<T,U>,U> {
 		
 		String errMsg;
 		long tokenNumber;
-		Procedure<U> procedure;
+		EquationNode<U> node;
 	}
 	
 	private boolean match(Class<?> tokClass, BigList<Token> tokens, long pos) {
@@ -796,7 +762,7 @@ public class EquationParser<T extends Algebra<T,U>,U> {
 			else
 				status2 = equation(algebra, tokens, status1.tokenNumber+1);
 			if (status2.errMsg != null) return status2;
-			status2.procedure = new AddL(algebra, status1.procedure, status2.procedure);
+			status2.node = EquationNode.binary("+", ((Addition<U>) algebra).add(), status1.node, status2.node);
 		}
 		else if (match(Minus.class, tokens, status1.tokenNumber)) {
 			if (!(algebra instanceof Addition)) {
@@ -805,7 +771,7 @@ public class EquationParser<T extends Algebra<T,U>,U> {
 			else
 				status2 = equation(algebra, tokens, status1.tokenNumber+1);
 			if (status2.errMsg != null) return status2;
-			status2.procedure = new SubtractL(algebra, status1.procedure, status2.procedure);
+			status2.node = EquationNode.binary("-", ((Addition<U>) algebra).subtract(), status1.node, status2.node);
 		}
 		return status2;
 	}
@@ -829,16 +795,16 @@ public class EquationParser<T extends Algebra<T,U>,U> {
 			else
 				status2 = term(algebra, tokens, status1.tokenNumber+1);
 			if (status2.errMsg != null) return status2;
-			status2.procedure = new MultiplyL(algebra, status1.procedure, status2.procedure);
+			status2.node = EquationNode.binary("*", ((Multiplication<U>) algebra).multiply(), status1.node, status2.node);
 		}
 		else if (match(Divide.class, tokens, status1.tokenNumber)) {
 			if ((algebra instanceof Invertible) || (algebra instanceof ModularDivision)) {
 				status2 = term(algebra, tokens, status1.tokenNumber+1);
 				if (status2.errMsg != null) return status2;
 				if (algebra instanceof Invertible)
-					status2.procedure = new DivideL(algebra, status1.procedure, status2.procedure);
+					status2.node = EquationNode.binary("/", ((Invertible<U>) algebra).divide(), status1.node, status2.node);
 				else
-					status2.procedure = new DivL(algebra, status1.procedure, status2.procedure);
+					status2.node = EquationNode.binary("div", ((ModularDivision<U>) algebra).div(), status1.node, status2.node);
 			}
 			else {
 				status2.errMsg = "Parse error near '/' token: division not defined for given algebra";
@@ -852,7 +818,7 @@ public class EquationParser<T extends Algebra<T,U>,U> {
 			else
 				status2 = term(algebra, tokens, status1.tokenNumber+1);
 			if (status2.errMsg != null) return status2;
-			status2.procedure = new ModL(algebra, status1.procedure, status2.procedure);
+			status2.node = EquationNode.binary("%", ((ModularDivision<U>) algebra).mod(), status1.node, status2.node);
 		}
 		return status2;
 	}
@@ -874,7 +840,7 @@ public class EquationParser<T extends Algebra<T,U>,U> {
 			else
 				status2 = factor(algebra, tokens, status1.tokenNumber+1);
 			if (status2.errMsg != null) return status2;
-			status2.procedure = new PowL(algebra, status1.procedure, status2.procedure);
+			status2.node = EquationNode.binary("^", ((nom.bdezonia.zorbage.algebra.Power<U>) algebra).pow(), status1.node, status2.node);
 		}
 		return status2;
 	}
@@ -893,7 +859,7 @@ public class EquationParser<T extends Algebra<T,U>,U> {
 		else if (match(Minus.class, tokens, pos)) {
 			ParseStatus status = atom(algebra, tokens, pos+1);
 			if (status.errMsg != null) return status;
-			status.procedure = new NegateL(algebra, status.procedure);
+			status.node = EquationNode.unary("neg", ((Addition<U>) algebra).negate(), status.node);
 			return status;
 		}
 		else
@@ -914,7 +880,7 @@ public class EquationParser<T extends Algebra<T,U>,U> {
 			int index = idx.getNumber();
 			ParseStatus status = new ParseStatus();
 			status.tokenNumber = pos + 1;
-			status.procedure = new VariableConstantL(algebra, index);
+			status.node = EquationNode.variable(index);
 			return status;
 		}
 		else if (match(FunctionName.class, tokens, pos)) {
@@ -926,7 +892,7 @@ public class EquationParser<T extends Algebra<T,U>,U> {
 					status.errMsg = "Parse error near 'rand' token: randomize not defined for given algebra";
 				}
 				else
-					status.procedure = createFunction(algebra, funcCall.getText(), null);
+					status.node = createFunction(algebra, funcCall.getText(), null);
 				status.tokenNumber = pos + 1;
 				return status;
 			}
@@ -942,7 +908,7 @@ public class EquationParser<T extends Algebra<T,U>,U> {
 							status.tokenNumber,
 							tokens,
 							"Function call definition expected a ')'");
-				status.procedure = createFunction(algebra, funcCall.getText(), status.procedure);
+				status.node = createFunction(algebra, funcCall.getText(), status.node);
 				status.tokenNumber++;
 				return status;
 			}
@@ -976,9 +942,9 @@ public class EquationParser<T extends Algebra<T,U>,U> {
 			ParseStatus status = new ParseStatus();
 			status.tokenNumber = status2.tokenNumber+1;
 			if (match(Min.class, tokens, pos))
-				status.procedure = new MinL(algebra, status1.procedure, status2.procedure);
+				status.node = EquationNode.binary("min", ((Ordered<U>) algebra).min(), status1.node, status2.node);
 			else
-				status.procedure = new MaxL(algebra, status1.procedure, status2.procedure);
+				status.node = EquationNode.binary("max", ((Ordered<U>) algebra).max(), status1.node, status2.node);
 			return status;
 		}
 		else
@@ -994,74 +960,74 @@ public class EquationParser<T extends Algebra<T,U>,U> {
 			Numeric tok = (Numeric) tokens.get(pos);
 			ParseStatus status = new ParseStatus();
 			status.tokenNumber = pos + 1;
-			status.procedure = new ConstantL(algebra, tok.value);
+			status.node = EquationNode.constant(tok.value);
 			return status;
 		} catch (Exception e) {
 			return syntaxError(pos, tokens, "Expected something numeric.");
 		}
 	}
 
-	@SuppressWarnings({"unchecked","rawtypes"})
-	private Procedure<U> createFunction(T algebra, String funcName, Procedure<U> ancestor1) {
+	@SuppressWarnings("unchecked")
+	private EquationNode<U> createFunction(T algebra, String funcName, EquationNode<U> ancestor1) {
 		if (algebra instanceof InverseTrigonometric) {
 			if (funcName.equals("acos"))
-				return new AcosL(algebra,ancestor1);
+				return EquationNode.unary(funcName, ((InverseTrigonometric<U>) algebra).acos(), ancestor1);
 			if (funcName.equals("asin"))
-				return new AsinL(algebra,ancestor1);
+				return EquationNode.unary(funcName, ((InverseTrigonometric<U>) algebra).asin(), ancestor1);
 			if (funcName.equals("atan"))
-				return new AtanL(algebra,ancestor1);
+				return EquationNode.unary(funcName, ((InverseTrigonometric<U>) algebra).atan(), ancestor1);
 		}
 		if (algebra instanceof InverseHyperbolic) {
 			if (funcName.equals("acosh"))
-				return new AcoshL(algebra,ancestor1);
+				return EquationNode.unary(funcName, ((InverseHyperbolic<U>) algebra).acosh(), ancestor1);
 			if (funcName.equals("asinh"))
-				return new AsinhL(algebra,ancestor1);
+				return EquationNode.unary(funcName, ((InverseHyperbolic<U>) algebra).asinh(), ancestor1);
 			if (funcName.equals("atanh"))
-				return new AtanhL(algebra,ancestor1);
+				return EquationNode.unary(funcName, ((InverseHyperbolic<U>) algebra).atanh(), ancestor1);
 		}
 		if (algebra instanceof Roots) {
 			if (funcName.equals("cbrt"))
-				return new CbrtL(algebra,ancestor1);
+				return EquationNode.unary(funcName, ((Roots<U>) algebra).cbrt(), ancestor1);
 			if (funcName.equals("sqrt"))
-				return new SqrtL(algebra,ancestor1);
+				return EquationNode.unary(funcName, ((Roots<U>) algebra).sqrt(), ancestor1);
 		}
 		if (algebra instanceof Trigonometric) {
 			if (funcName.equals("cos"))
-				return new CosL(algebra,ancestor1);
+				return EquationNode.unary(funcName, ((Trigonometric<U>) algebra).cos(), ancestor1);
 			if (funcName.equals("sin"))
-				return new SinL(algebra,ancestor1);
+				return EquationNode.unary(funcName, ((Trigonometric<U>) algebra).sin(), ancestor1);
 			if (funcName.equals("tan"))
-				return new TanL(algebra,ancestor1);
+				return EquationNode.unary(funcName, ((Trigonometric<U>) algebra).tan(), ancestor1);
 			if (funcName.equals("sinc"))
-				return new SincL(algebra,ancestor1);
+				return EquationNode.unary(funcName, ((Trigonometric<U>) algebra).sinc(), ancestor1);
 			if (funcName.equals("sincpi"))
-				return new SincpiL(algebra,ancestor1);
+				return EquationNode.unary(funcName, ((Trigonometric<U>) algebra).sincpi(), ancestor1);
 		}
 		if (algebra instanceof Hyperbolic) {
 			if (funcName.equals("cosh"))
-				return new CoshL(algebra,ancestor1);
+				return EquationNode.unary(funcName, ((Hyperbolic<U>) algebra).cosh(), ancestor1);
 			if (funcName.equals("sinh"))
-				return new SinhL(algebra,ancestor1);
+				return EquationNode.unary(funcName, ((Hyperbolic<U>) algebra).sinh(), ancestor1);
 			if (funcName.equals("tanh"))
-				return new TanhL(algebra,ancestor1);
+				return EquationNode.unary(funcName, ((Hyperbolic<U>) algebra).tanh(), ancestor1);
 			if (funcName.equals("sinch"))
-				return new SinchL(algebra,ancestor1);
+				return EquationNode.unary(funcName, ((Hyperbolic<U>) algebra).sinch(), ancestor1);
 			if (funcName.equals("sinchpi"))
-				return new SinchpiL(algebra,ancestor1);
+				return EquationNode.unary(funcName, ((Hyperbolic<U>) algebra).sinchpi(), ancestor1);
 		}
 		if (algebra instanceof Exponential) {
 			if (funcName.equals("exp"))
-				return new ExpL(algebra,ancestor1);
+				return EquationNode.unary(funcName, ((Exponential<U>) algebra).exp(), ancestor1);
 			if (funcName.equals("log"))
-				return new LogL(algebra,ancestor1);
+				return EquationNode.unary(funcName, ((Exponential<U>) algebra).log(), ancestor1);
 		}
 		if (algebra instanceof Random) {
 			if (funcName.equals("rand"))
-				return new RandL(algebra);
+				return EquationNode.nullary(funcName, ((Random<U>) algebra).random());
 		}
 		if (algebra instanceof AbsoluteValue) {
 			if (funcName.equals("abs"))
-				return new AbsL(algebra,ancestor1);
+				return EquationNode.unary(funcName, ((AbsoluteValue<U,U>) algebra).abs(), ancestor1);
 		}
 		
 		throw new IllegalArgumentException("Unsupported function type : "+funcName+" for given algebra");
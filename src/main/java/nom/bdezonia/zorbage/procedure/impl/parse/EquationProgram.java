@@ -0,0 +1,164 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.procedure.impl.parse;
+
+import nom.bdezonia.zorbage.algebra.Algebra;
+import nom.bdezonia.zorbage.procedure.Procedure;
+import nom.bdezonia.zorbage.procedure.Procedure1;
+import nom.bdezonia.zorbage.procedure.Procedure2;
+import nom.bdezonia.zorbage.procedure.Procedure3;
+
+/**
+ * A compiled equation. The {@link EquationParser} lowers the expression tree
+ * of an equation into a flat list of instructions that each apply one algebra
+ * procedure. Instructions read their operands from registers or from the $n
+ * inputs and write their output to a register. The last instruction writes
+ * straight to the result. Constant registers are filled once when a thread
+ * first evaluates the program, so each evaluation does a single ThreadLocal
+ * lookup and then runs a simple loop over the instructions.
+ * 
+ * @author Barry DeZonia
+ *
+ * @param <T>
+ * @param <U>
+ */
+public class EquationProgram<T extends Algebra<T,U>,U>
+	implements Procedure<U>
+{
+	final T algebra;
+	final U[] constants;         // the first constants.length registers
+	final int registerCount;
+	final int[] kinds;           // EquationNode.NULLARY, UNARY or BINARY
+	final Procedure1<U>[] procs1;
+	final Procedure2<U,U>[] procs2;
+	final Procedure3<U,U,U>[] procs3;
+	final int[] args1;           // operand: register number or -(variable+1)
+	final int[] args2;
+	final int[] dests;           // register number
+	final int resultOperand;     // the answer when there are no instructions
+	final int variableCount;
+	private final ThreadLocal<U[]> registers;
+	
+	EquationProgram(T algebra, U[] constants, int registerCount,
+						int[] kinds, Procedure1<U>[] procs1, Procedure2<U,U>[] procs2, Procedure3<U,U,U>[] procs3,
+						int[] args1, int[] args2, int[] dests, int resultOperand, int variableCount)
+	{
+		this.algebra = algebra;
+		this.constants = constants;
+		this.registerCount = registerCount;
+		this.kinds = kinds;
+		this.procs1 = procs1;
+		this.procs2 = procs2;
+		this.procs3 = procs3;
+		this.args1 = args1;
+		this.args2 = args2;
+		this.dests = dests;
+		this.resultOperand = resultOperand;
+		this.variableCount = variableCount;
+		this.registers = new ThreadLocal<U[]>() {
+			@Override
+			protected U[] initialValue() {
+				return newRegisters();
+			}
+		};
+	}
+	
+	/**
+	 * Returns the number of instructions the program runs per evaluation.
+	 */
+	public int instructionCount() {
+		return kinds.length;
+	}
+	
+	/**
+	 * Returns the number of registers (constants included) the program uses.
+	 */
+	public int registerCount() {
+		return registerCount;
+	}
+	
+	/**
+	 * Returns the number of $n inputs the program requires.
+	 */
+	public int variableCount() {
+		return variableCount;
+	}
+	
+	@Override
+	@SuppressWarnings("unchecked")
+	public void call(U result, U... inputs) {
+		if (inputs.length < variableCount)
+			throw new IllegalArgumentException("unspecified variable #"+(variableCount-1));
+		U[] regs = registers.get();
+		int n = kinds.length;
+		if (n == 0) {
+			algebra.assign().call(operand(resultOperand, regs, inputs), result);
+			return;
+		}
+		// an input that is also the output must not be written before all reads are done
+		boolean aliased = false;
+		for (int i = 0; i < variableCount; i++) {
+			if (inputs[i] == result)
+				aliased = true;
+		}
+		for (int i = 0; i < n; i++) {
+			U out = (i == n-1 && !aliased) ? result : regs[dests[i]];
+			switch (kinds[i]) {
+			case EquationNode.NULLARY:
+				procs1[i].call(out);
+				break;
+			case EquationNode.UNARY:
+				procs2[i].call(operand(args1[i], regs, inputs), out);
+				break;
+			default:
+				procs3[i].call(operand(args1[i], regs, inputs), operand(args2[i], regs, inputs), out);
+				break;
+			}
+		}
+		if (aliased)
+			algebra.assign().call(regs[dests[n-1]], result);
+	}
+
+	@SuppressWarnings("unchecked")
+	U[] newRegisters() {
+		U[] regs = (U[]) new Object[registerCount];
+		for (int i = 0; i < registerCount; i++) {
+			regs[i] = algebra.construct();
+			if (i < constants.length)
+				algebra.assign().call(constants[i], regs[i]);
+		}
+		return regs;
+	}
+	
+	private static <U> U operand(int operand, U[] regs, U[] inputs) {
+		return (operand >= 0) ? regs[operand] : inputs[-operand-1];
+	}
+}
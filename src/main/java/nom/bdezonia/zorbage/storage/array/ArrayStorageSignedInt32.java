@@ -91,4 +91,13 @@ public class ArrayStorageSignedInt32<U extends IntCoder & Allocatable<U>>
 	public boolean accessWithOneThread() {
 		return false;
 	}
+
+	/**
+	 * Returns the array that backs this storage. Changes made to the array
+	 * change the stored values. Algorithms use this to run primitive loops
+	 * over the data rather than moving each value through a member.
+	 */
+	public int[] rawData() {
+		return data;
+	}
 }
@@ -401,7 +401,7 @@ public class ComplexFloat128Matrix
 	{				
 		@Override
 		public void call(ComplexFloat128MatrixMember a, ComplexFloat128Member b) {
-			MatrixDeterminant.compute(G.CQUAD_MAT, G.CQUAD, a, b);
+			MatrixDeterminant.compute(G.CQUAD_MAT, G.CQUAD, G.QUAD, a, b);
 		}
 	};
 	
@@ -429,7 +429,7 @@ public class ComplexFloat128Matrix
 	{
 		@Override
 		public void call(ComplexFloat128MatrixMember a, ComplexFloat128MatrixMember b) {
-			MatrixInvert.compute(G.CQUAD, G.CQUAD_VEC, G.CQUAD_MAT, a, b);
+			MatrixInvert.compute(G.CQUAD, G.QUAD, G.CQUAD_VEC, G.CQUAD_MAT, a, b);
 		}
 	};
 
@@ -46,6 +46,7 @@ import nom.bdezonia.zorbage.algebra.type.markers.UnityIncludedType;
 import nom.bdezonia.zorbage.algebra.type.markers.ZeroIncludedType;
 import nom.bdezonia.zorbage.sampling.IntegerIndex;
 import nom.bdezonia.zorbage.storage.coder.ByteCoder;
+import nom.bdezonia.zorbage.storage.coder.LongCoder;
 import nom.bdezonia.zorbage.misc.Hasher;
 import nom.bdezonia.zorbage.type.real.float128.Float128Member;
 import nom.bdezonia.zorbage.type.universal.OctonionRepresentation;
@@ -62,6 +63,7 @@ import nom.bdezonia.zorbage.type.universal.UniversalRepresentation;
  */
 public final class ComplexFloat128Member
 	implements
+		LongCoder,
 		ByteCoder,
 		Allocatable<ComplexFloat128Member>, Duplicatable<ComplexFloat128Member>,
 		Settable<ComplexFloat128Member>, Gettable<ComplexFloat128Member>,
@@ -174,6 +176,23 @@ public final class ComplexFloat128Member
 		return builder.toString();
 	}
 
+	@Override
+	public int longCount() {
+		return 4;
+	}
+
+	@Override
+	public void fromLongArray(long[] arr, int index) {
+		r.fromLongArray(arr, index);
+		i.fromLongArray(arr, index+2);
+	}
+
+	@Override
+	public void toLongArray(long[] arr, int index) {
+		r.toLongArray(arr, index);
+		i.toLongArray(arr, index+2);
+	}
+
 	@Override
 	public int byteCount() {
 		return 32;
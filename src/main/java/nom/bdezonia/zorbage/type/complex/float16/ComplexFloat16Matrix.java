@@ -400,7 +400,7 @@ public class ComplexFloat16Matrix
 	{				
 		@Override
 		public void call(ComplexFloat16MatrixMember a, ComplexFloat16Member b) {
-			MatrixDeterminant.compute(G.CHLF_MAT, G.CHLF, a, b);
+			MatrixDeterminant.compute(G.CHLF_MAT, G.CHLF, G.HLF, a, b);
 		}
 	};
 	
@@ -428,7 +428,7 @@ public class ComplexFloat16Matrix
 	{
 		@Override
 		public void call(ComplexFloat16MatrixMember a, ComplexFloat16MatrixMember b) {
-			MatrixInvert.compute(G.CHLF, G.CHLF_VEC, G.CHLF_MAT, a, b);
+			MatrixInvert.compute(G.CHLF, G.HLF, G.CHLF_VEC, G.CHLF_MAT, a, b);
 		}
 	};
 
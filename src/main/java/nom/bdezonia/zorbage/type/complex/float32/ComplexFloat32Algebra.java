@@ -57,6 +57,8 @@ import nom.bdezonia.zorbage.algorithm.Round.Mode;
 import nom.bdezonia.zorbage.function.Function1;
 import nom.bdezonia.zorbage.function.Function2;
 import nom.bdezonia.zorbage.function.Function3;
+import nom.bdezonia.zorbage.procedure.BatchProcedure2;
+import nom.bdezonia.zorbage.procedure.BatchProcedure3;
 import nom.bdezonia.zorbage.procedure.Procedure1;
 import nom.bdezonia.zorbage.procedure.Procedure2;
 import nom.bdezonia.zorbage.procedure.Procedure3;
@@ -147,8 +149,8 @@ public class ComplexFloat32Algebra
 		return new ComplexFloat32Member(s);
 	}
 	
-	private final Procedure3<ComplexFloat32Member,ComplexFloat32Member,ComplexFloat32Member> MUL =
-			new Procedure3<ComplexFloat32Member, ComplexFloat32Member, ComplexFloat32Member>()
+	private final BatchProcedure3<ComplexFloat32Member,ComplexFloat32Member,ComplexFloat32Member> MUL =
+			new BatchProcedure3<ComplexFloat32Member, ComplexFloat32Member, ComplexFloat32Member>()
 	{
 		@Override
 		public void call(ComplexFloat32Member a, ComplexFloat32Member b, ComplexFloat32Member c) {
@@ -167,6 +169,33 @@ public class ComplexFloat32Algebra
 				c.setI( (float) (i * max * max) );
 			}
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset, Object c, int cOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			float[] z = (float[]) c;
+			for (int i = 0; i < count; i++) {
+				int ia = 2 * (aOffset + i);
+				int ib = 2 * (bOffset + i);
+				int ic = 2 * (cOffset + i);
+				double max = Math.max( Math.max(Math.abs(x[ia]), Math.abs(x[ia+1])) , Math.max(Math.abs(y[ib]), Math.abs(y[ib+1])) );
+				if (max == 0) {
+					z[ic] = 0;
+					z[ic+1] = 0;
+				}
+				else {
+					double ar = x[ia] / max;
+					double ai = x[ia+1] / max;
+					double br = y[ib] / max;
+					double bi = y[ib+1] / max;
+					double r = (ar*br) - (ai*bi);
+					double im = (ai*br) + (ar*bi);
+					z[ic] = (float) (r * max * max);
+					z[ic+1] = (float) (im * max * max);
+				}
+			}
+		}
 	};
 
 	@Override
@@ -209,14 +238,26 @@ public class ComplexFloat32Algebra
 		return ZER;
 	}
 
-	private final Procedure2<ComplexFloat32Member,ComplexFloat32Member> NEG =
-			new Procedure2<ComplexFloat32Member, ComplexFloat32Member>()
+	private final BatchProcedure2<ComplexFloat32Member,ComplexFloat32Member> NEG =
+			new BatchProcedure2<ComplexFloat32Member, ComplexFloat32Member>()
 	{
 		@Override
 		public void call(ComplexFloat32Member a, ComplexFloat32Member b) {
 			b.setR( -a.r() );
 			b.setI( -a.i() );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				int ia = 2 * (aOffset + i);
+				int ib = 2 * (bOffset + i);
+				y[ib] = -x[ia];
+				y[ib+1] = -x[ia+1];
+			}
+		}
 	};
 
 	@Override
@@ -224,14 +265,28 @@ public class ComplexFloat32Algebra
 		return NEG;
 	}
 
-	private final Procedure3<ComplexFloat32Member,ComplexFloat32Member,ComplexFloat32Member> ADD =
-			new Procedure3<ComplexFloat32Member, ComplexFloat32Member, ComplexFloat32Member>()
+	private final BatchProcedure3<ComplexFloat32Member,ComplexFloat32Member,ComplexFloat32Member> ADD =
+			new BatchProcedure3<ComplexFloat32Member, ComplexFloat32Member, ComplexFloat32Member>()
 	{
 		@Override
 		public void call(ComplexFloat32Member a, ComplexFloat32Member b, ComplexFloat32Member c) {
 			c.setR( a.r() + b.r() );
 			c.setI( a.i() + b.i() );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset, Object c, int cOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			float[] z = (float[]) c;
+			for (int i = 0; i < count; i++) {
+				int ia = 2 * (aOffset + i);
+				int ib = 2 * (bOffset + i);
+				int ic = 2 * (cOffset + i);
+				z[ic] = x[ia] + y[ib];
+				z[ic+1] = x[ia+1] + y[ib+1];
+			}
+		}
 	};
 
 	@Override
@@ -239,14 +294,28 @@ public class ComplexFloat32Algebra
 		return ADD;
 	}
 
-	private final Procedure3<ComplexFloat32Member,ComplexFloat32Member,ComplexFloat32Member> SUB =
-			new Procedure3<ComplexFloat32Member, ComplexFloat32Member, ComplexFloat32Member>()
+	private final BatchProcedure3<ComplexFloat32Member,ComplexFloat32Member,ComplexFloat32Member> SUB =
+			new BatchProcedure3<ComplexFloat32Member, ComplexFloat32Member, ComplexFloat32Member>()
 	{
 		@Override
 		public void call(ComplexFloat32Member a, ComplexFloat32Member b, ComplexFloat32Member c) {
 			c.setR( a.r() - b.r() );
 			c.setI( a.i() - b.i() );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset, Object c, int cOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			float[] z = (float[]) c;
+			for (int i = 0; i < count; i++) {
+				int ia = 2 * (aOffset + i);
+				int ib = 2 * (bOffset + i);
+				int ic = 2 * (cOffset + i);
+				z[ic] = x[ia] - y[ib];
+				z[ic+1] = x[ia+1] - y[ib+1];
+			}
+		}
 	};
 
 	@Override
@@ -324,8 +393,8 @@ public class ComplexFloat32Algebra
 		return INV;
 	}
 
-	private final Procedure3<ComplexFloat32Member,ComplexFloat32Member,ComplexFloat32Member> DIVIDE =
-			new Procedure3<ComplexFloat32Member, ComplexFloat32Member, ComplexFloat32Member>()
+	private final BatchProcedure3<ComplexFloat32Member,ComplexFloat32Member,ComplexFloat32Member> DIVIDE =
+			new BatchProcedure3<ComplexFloat32Member, ComplexFloat32Member, ComplexFloat32Member>()
 	{
 		@Override
 		public void call(ComplexFloat32Member a, ComplexFloat32Member b, ComplexFloat32Member c) {
@@ -346,6 +415,34 @@ public class ComplexFloat32Algebra
 				c.setI( (float) (i / mod2) );
 			}
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset, Object c, int cOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			float[] z = (float[]) c;
+			for (int i = 0; i < count; i++) {
+				int ia = 2 * (aOffset + i);
+				int ib = 2 * (bOffset + i);
+				int ic = 2 * (cOffset + i);
+				double max = Math.max( Math.max(Math.abs(x[ia]), Math.abs(x[ia+1])) , Math.max(Math.abs(y[ib]), Math.abs(y[ib+1])) );
+				if (max == 0) {
+					z[ic] = Float.NaN;
+					z[ic+1] = Float.NaN;
+				}
+				else {
+					double ar = x[ia] / max;
+					double ai = x[ia+1] / max;
+					double br = y[ib] / max;
+					double bi = y[ib+1] / max;
+					double mod2 = (br*br) + (bi*bi);
+					double r = (ar*br) + (ai*bi);
+					double im = (ai*br) - (ar*bi);
+					z[ic] = (float) (r / mod2);
+					z[ic+1] = (float) (im / mod2);
+				}
+			}
+		}
 	};
 
 	@Override
@@ -353,14 +450,26 @@ public class ComplexFloat32Algebra
 		return DIVIDE;
 	}
 	
-	private final Procedure2<ComplexFloat32Member,ComplexFloat32Member> CONJ =
-			new Procedure2<ComplexFloat32Member, ComplexFloat32Member>()
+	private final BatchProcedure2<ComplexFloat32Member,ComplexFloat32Member> CONJ =
+			new BatchProcedure2<ComplexFloat32Member, ComplexFloat32Member>()
 	{
 		@Override
 		public void call(ComplexFloat32Member a, ComplexFloat32Member b) {
 			b.setR( a.r() );
 			b.setI( -a.i() );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				int ia = 2 * (aOffset + i);
+				int ib = 2 * (bOffset + i);
+				y[ib] = x[ia];
+				y[ib+1] = -x[ia+1];
+			}
+		}
 	};
 	
 	@Override
@@ -1009,8 +1118,8 @@ public class ComplexFloat32Algebra
 		return COTH;
 	}
 
-	private final Procedure2<ComplexFloat32Member,ComplexFloat32Member> EXP =
-			new Procedure2<ComplexFloat32Member, ComplexFloat32Member>()
+	private final BatchProcedure2<ComplexFloat32Member,ComplexFloat32Member> EXP =
+			new BatchProcedure2<ComplexFloat32Member, ComplexFloat32Member>()
 	{
 		@Override
 		public void call(ComplexFloat32Member a, ComplexFloat32Member b) {
@@ -1018,6 +1127,20 @@ public class ComplexFloat32Algebra
 			b.setR( (float) (constant * Math.cos(a.i())) );
 			b.setI( (float) (constant * Math.sin(a.i())) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				int ia = 2 * (aOffset + i);
+				int ib = 2 * (bOffset + i);
+				double constant = Math.exp(x[ia]);
+				double im = x[ia+1];
+				y[ib] = (float) (constant * Math.cos(im));
+				y[ib+1] = (float) (constant * Math.sin(im));
+			}
+		}
 	};
 	
 	@Override
@@ -1042,8 +1165,8 @@ public class ComplexFloat32Algebra
 		return EXPM1;
 	}
 	
-	private final Procedure2<ComplexFloat32Member,ComplexFloat32Member> LOG =
-			new Procedure2<ComplexFloat32Member, ComplexFloat32Member>()
+	private final BatchProcedure2<ComplexFloat32Member,ComplexFloat32Member> LOG =
+			new BatchProcedure2<ComplexFloat32Member, ComplexFloat32Member>()
 	{
 		@Override
 		public void call(ComplexFloat32Member a, ComplexFloat32Member b) {
@@ -1052,6 +1175,20 @@ public class ComplexFloat32Algebra
 			b.setR( (float) Math.log(modulus) );
 			b.setI( (float) getPrincipalArgument(argument) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				int ia = 2 * (aOffset + i);
+				int ib = 2 * (bOffset + i);
+				double modulus = Math.hypot(x[ia], x[ia+1]);
+				double argument = getArgument(x[ia], x[ia+1]);
+				y[ib] = (float) Math.log(modulus);
+				y[ib+1] = (float) getPrincipalArgument(argument);
+			}
+		}
 	};
 
 	@Override
@@ -1060,8 +1197,10 @@ public class ComplexFloat32Algebra
 	}
 	
 	private double getArgument(ComplexFloat32Member a) {
-		double x = a.r();
-		double y = a.i();
+		return getArgument(a.r(), a.i());
+	}
+
+	private double getArgument(double x, double y) {
 		double theta;
 		if (x == 0) {
 			if (y > 0)
@@ -400,7 +400,7 @@ public class ComplexFloat32Matrix
 	{				
 		@Override
 		public void call(ComplexFloat32MatrixMember a, ComplexFloat32Member b) {
-			MatrixDeterminant.compute(G.CFLT_MAT, G.CFLT, a, b);
+			MatrixDeterminant.compute(G.CFLT_MAT, G.CFLT, G.FLT, a, b);
 		}
 	};
 	
@@ -428,7 +428,7 @@ public class ComplexFloat32Matrix
 	{
 		@Override
 		public void call(ComplexFloat32MatrixMember a, ComplexFloat32MatrixMember b) {
-			MatrixInvert.compute(G.CFLT, G.CFLT_VEC, G.CFLT_MAT, a, b);
+			MatrixInvert.compute(G.CFLT, G.FLT, G.CFLT_VEC, G.CFLT_MAT, a, b);
 		}
 	};
 
@@ -57,6 +57,8 @@ import nom.bdezonia.zorbage.algorithm.Round.Mode;
 import nom.bdezonia.zorbage.function.Function1;
 import nom.bdezonia.zorbage.function.Function2;
 import nom.bdezonia.zorbage.function.Function3;
+import nom.bdezonia.zorbage.procedure.BatchProcedure2;
+import nom.bdezonia.zorbage.procedure.BatchProcedure3;
 import nom.bdezonia.zorbage.procedure.Procedure1;
 import nom.bdezonia.zorbage.procedure.Procedure2;
 import nom.bdezonia.zorbage.procedure.Procedure3;
@@ -149,8 +151,8 @@ public class ComplexFloat64Algebra
 		return new ComplexFloat64Member(s);
 	}
 	
-	private final Procedure3<ComplexFloat64Member,ComplexFloat64Member,ComplexFloat64Member> MUL =
-			new Procedure3<ComplexFloat64Member, ComplexFloat64Member, ComplexFloat64Member>()
+	private final BatchProcedure3<ComplexFloat64Member,ComplexFloat64Member,ComplexFloat64Member> MUL =
+			new BatchProcedure3<ComplexFloat64Member, ComplexFloat64Member, ComplexFloat64Member>()
 	{
 		@Override
 		public void call(ComplexFloat64Member aV, ComplexFloat64Member bV, ComplexFloat64Member cV) {
@@ -186,6 +188,33 @@ public class ComplexFloat64Algebra
 				cV.setI( i * max * max );
 			}
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset, Object c, int cOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			double[] z = (double[]) c;
+			for (int i = 0; i < count; i++) {
+				int ia = 2 * (aOffset + i);
+				int ib = 2 * (bOffset + i);
+				int ic = 2 * (cOffset + i);
+				double max = Math.max( Math.max(Math.abs(x[ia]), Math.abs(x[ia+1])) , Math.max(Math.abs(y[ib]), Math.abs(y[ib+1])) );
+				if (max == 0) {
+					z[ic] = 0;
+					z[ic+1] = 0;
+				}
+				else {
+					double ar = x[ia] / max;
+					double ai = x[ia+1] / max;
+					double br = y[ib] / max;
+					double bi = y[ib+1] / max;
+					double r = (ar*br) - (ai*bi);
+					double im = (ai*br) + (ar*bi);
+					z[ic] = r * max * max;
+					z[ic+1] = im * max * max;
+				}
+			}
+		}
 	};
 
 	@Override
@@ -228,14 +257,26 @@ public class ComplexFloat64Algebra
 		return ZER;
 	}
 
-	private final Procedure2<ComplexFloat64Member,ComplexFloat64Member> NEG =
-			new Procedure2<ComplexFloat64Member, ComplexFloat64Member>()
+	private final BatchProcedure2<ComplexFloat64Member,ComplexFloat64Member> NEG =
+			new BatchProcedure2<ComplexFloat64Member, ComplexFloat64Member>()
 	{
 		@Override
 		public void call(ComplexFloat64Member a, ComplexFloat64Member b) {
 			b.setR( -a.r() );
 			b.setI( -a.i() );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				int ia = 2 * (aOffset + i);
+				int ib = 2 * (bOffset + i);
+				y[ib] = -x[ia];
+				y[ib+1] = -x[ia+1];
+			}
+		}
 	};
 
 	@Override
@@ -243,14 +284,28 @@ public class ComplexFloat64Algebra
 		return NEG;
 	}
 
-	private final Procedure3<ComplexFloat64Member,ComplexFloat64Member,ComplexFloat64Member> ADD =
-			new Procedure3<ComplexFloat64Member, ComplexFloat64Member, ComplexFloat64Member>()
+	private final BatchProcedure3<ComplexFloat64Member,ComplexFloat64Member,ComplexFloat64Member> ADD =
+			new BatchProcedure3<ComplexFloat64Member, ComplexFloat64Member, ComplexFloat64Member>()
 	{
 		@Override
 		public void call(ComplexFloat64Member a, ComplexFloat64Member b, ComplexFloat64Member c) {
 			c.setR( a.r() + b.r() );
 			c.setI( a.i() + b.i() );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset, Object c, int cOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			double[] z = (double[]) c;
+			for (int i = 0; i < count; i++) {
+				int ia = 2 * (aOffset + i);
+				int ib = 2 * (bOffset + i);
+				int ic = 2 * (cOffset + i);
+				z[ic] = x[ia] + y[ib];
+				z[ic+1] = x[ia+1] + y[ib+1];
+			}
+		}
 	};
 
 	@Override
@@ -258,14 +313,28 @@ public class ComplexFloat64Algebra
 		return ADD;
 	}
 
-	private final Procedure3<ComplexFloat64Member,ComplexFloat64Member,ComplexFloat64Member> SUB =
-			new Procedure3<ComplexFloat64Member, ComplexFloat64Member, ComplexFloat64Member>()
+	private final BatchProcedure3<ComplexFloat64Member,ComplexFloat64Member,ComplexFloat64Member> SUB =
+			new BatchProcedure3<ComplexFloat64Member, ComplexFloat64Member, ComplexFloat64Member>()
 	{
 		@Override
 		public void call(ComplexFloat64Member a, ComplexFloat64Member b, ComplexFloat64Member c) {
 			c.setR( a.r() - b.r() );
 			c.setI( a.i() - b.i() );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset, Object c, int cOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			double[] z = (double[]) c;
+			for (int i = 0; i < count; i++) {
+				int ia = 2 * (aOffset + i);
+				int ib = 2 * (bOffset + i);
+				int ic = 2 * (cOffset + i);
+				z[ic] = x[ia] - y[ib];
+				z[ic+1] = x[ia+1] - y[ib+1];
+			}
+		}
 	};
 
 	@Override
@@ -343,8 +412,8 @@ public class ComplexFloat64Algebra
 		return INV;
 	}
 
-	private final Procedure3<ComplexFloat64Member,ComplexFloat64Member,ComplexFloat64Member> DIVIDE =
-			new Procedure3<ComplexFloat64Member, ComplexFloat64Member, ComplexFloat64Member>()
+	private final BatchProcedure3<ComplexFloat64Member,ComplexFloat64Member,ComplexFloat64Member> DIVIDE =
+			new BatchProcedure3<ComplexFloat64Member, ComplexFloat64Member, ComplexFloat64Member>()
 	{
 		@Override
 		public void call(ComplexFloat64Member a, ComplexFloat64Member b, ComplexFloat64Member c) {
@@ -365,6 +434,34 @@ public class ComplexFloat64Algebra
 				c.setI( i / mod2 );
 			}
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset, Object c, int cOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			double[] z = (double[]) c;
+			for (int i = 0; i < count; i++) {
+				int ia = 2 * (aOffset + i);
+				int ib = 2 * (bOffset + i);
+				int ic = 2 * (cOffset + i);
+				double max = Math.max( Math.max(Math.abs(x[ia]), Math.abs(x[ia+1])) , Math.max(Math.abs(y[ib]), Math.abs(y[ib+1])) );
+				if (max == 0) {
+					z[ic] = Double.NaN;
+					z[ic+1] = Double.NaN;
+				}
+				else {
+					double ar = x[ia] / max;
+					double ai = x[ia+1] / max;
+					double br = y[ib] / max;
+					double bi = y[ib+1] / max;
+					double mod2 = (br*br) + (bi*bi);
+					double r = (ar*br) + (ai*bi);
+					double im = (ai*br) - (ar*bi);
+					z[ic] = r / mod2;
+					z[ic+1] = im / mod2;
+				}
+			}
+		}
 	};
 
 	@Override
@@ -372,14 +469,26 @@ public class ComplexFloat64Algebra
 		return DIVIDE;
 	}
 	
-	private final Procedure2<ComplexFloat64Member,ComplexFloat64Member> CONJ =
-			new Procedure2<ComplexFloat64Member, ComplexFloat64Member>()
+	private final BatchProcedure2<ComplexFloat64Member,ComplexFloat64Member> CONJ =
+			new BatchProcedure2<ComplexFloat64Member, ComplexFloat64Member>()
 	{
 		@Override
 		public void call(ComplexFloat64Member a, ComplexFloat64Member b) {
 			b.setR( a.r() );
 			b.setI( -a.i() );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				int ia = 2 * (aOffset + i);
+				int ib = 2 * (bOffset + i);
+				y[ib] = x[ia];
+				y[ib+1] = -x[ia+1];
+			}
+		}
 	};
 	
 	@Override
@@ -1028,8 +1137,8 @@ public class ComplexFloat64Algebra
 		return COTH;
 	}
 
-	private final Procedure2<ComplexFloat64Member,ComplexFloat64Member> EXP =
-			new Procedure2<ComplexFloat64Member, ComplexFloat64Member>()
+	private final BatchProcedure2<ComplexFloat64Member,ComplexFloat64Member> EXP =
+			new BatchProcedure2<ComplexFloat64Member, ComplexFloat64Member>()
 	{
 		@Override
 		public void call(ComplexFloat64Member a, ComplexFloat64Member b) {
@@ -1037,6 +1146,20 @@ public class ComplexFloat64Algebra
 			b.setR( constant * Math.cos(a.i()) );
 			b.setI( constant * Math.sin(a.i()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				int ia = 2 * (aOffset + i);
+				int ib = 2 * (bOffset + i);
+				double constant = Math.exp(x[ia]);
+				double im = x[ia+1];
+				y[ib] = constant * Math.cos(im);
+				y[ib+1] = constant * Math.sin(im);
+			}
+		}
 	};
 	
 	@Override
@@ -1061,8 +1184,8 @@ public class ComplexFloat64Algebra
 		return EXPM1;
 	}
 	
-	private final Procedure2<ComplexFloat64Member,ComplexFloat64Member> LOG =
-			new Procedure2<ComplexFloat64Member, ComplexFloat64Member>()
+	private final BatchProcedure2<ComplexFloat64Member,ComplexFloat64Member> LOG =
+			new BatchProcedure2<ComplexFloat64Member, ComplexFloat64Member>()
 	{
 		@Override
 		public void call(ComplexFloat64Member a, ComplexFloat64Member b) {
@@ -1071,6 +1194,20 @@ public class ComplexFloat64Algebra
 			b.setR( Math.log(modulus) );
 			b.setI( getPrincipalArgument(argument) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				int ia = 2 * (aOffset + i);
+				int ib = 2 * (bOffset + i);
+				double modulus = Math.hypot(x[ia], x[ia+1]);
+				double argument = getArgument(x[ia], x[ia+1]);
+				y[ib] = Math.log(modulus);
+				y[ib+1] = getPrincipalArgument(argument);
+			}
+		}
 	};
 
 	@Override
@@ -1079,8 +1216,10 @@ public class ComplexFloat64Algebra
 	}
 	
 	private double getArgument(ComplexFloat64Member a) {
-		double x = a.r();
-		double y = a.i();
+		return getArgument(a.r(), a.i());
+	}
+
+	private double getArgument(double x, double y) {
 		double theta;
 		if (x == 0) {
 			if (y > 0)
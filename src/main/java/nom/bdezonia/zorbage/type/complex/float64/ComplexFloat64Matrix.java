@@ -400,7 +400,7 @@ public class ComplexFloat64Matrix
 	{				
 		@Override
 		public void call(ComplexFloat64MatrixMember a, ComplexFloat64Member b) {
-			MatrixDeterminant.compute(G.CDBL_MAT, G.CDBL, a, b);
+			MatrixDeterminant.compute(G.CDBL_MAT, G.CDBL, G.DBL, a, b);
 		}
 	};
 	
@@ -428,7 +428,7 @@ public class ComplexFloat64Matrix
 	{
 		@Override
 		public void call(ComplexFloat64MatrixMember a, ComplexFloat64MatrixMember b) {
-			MatrixInvert.compute(G.CDBL, G.CDBL_VEC, G.CDBL_MAT, a, b);
+			MatrixInvert.compute(G.CDBL, G.DBL, G.CDBL_VEC, G.CDBL_MAT, a, b);
 		}
 	};
 
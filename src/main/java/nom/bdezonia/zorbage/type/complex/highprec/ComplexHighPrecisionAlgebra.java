@@ -115,7 +115,9 @@ public class ComplexHighPrecisionAlgebra
 	private static final ComplexHighPrecisionMember TWO_I = new ComplexHighPrecisionMember(BigDecimal.ZERO,BigDecimal.valueOf(2));
 	private static final ComplexHighPrecisionMember MINUS_I = new ComplexHighPrecisionMember(BigDecimal.ZERO,BigDecimal.valueOf(-1));
 
-	private static MathContext context = HighPrecisionAlgebra.getContext();
+	private static MathContext context() {
+		return HighPrecisionAlgebra.getContext();
+	}
 	
 	@Override
 	public String typeDescription() {
@@ -145,8 +147,8 @@ public class ComplexHighPrecisionAlgebra
 		@Override
 		public void call(ComplexHighPrecisionMember a, ComplexHighPrecisionMember b, ComplexHighPrecisionMember c) {
 			// for safety must use tmps
-			BigDecimal r = a.r().multiply(b.r(),context).subtract(a.i().multiply(b.i(),context));
-			BigDecimal i = a.i().multiply(b.r(),context).add(a.r().multiply(b.i(),context));
+			BigDecimal r = a.r().multiply(b.r(),context()).subtract(a.i().multiply(b.i(),context()));
+			BigDecimal i = a.i().multiply(b.r(),context()).add(a.r().multiply(b.i(),context()));
 			c.setR( r );
 			c.setI( i );
 		}
@@ -167,10 +169,10 @@ public class ComplexHighPrecisionAlgebra
 				return;
 			}
 			BigDecimal r = getModulus(a);
-			BigDecimal rToTheN = BigDecimalMath.pow(r, power, context);
-			BigDecimal nTheta = BigDecimal.valueOf(power).multiply(getArgument(a), context);
-			b.setR( rToTheN.multiply(BigDecimalMath.cos(nTheta, context), context) );
-			b.setI( rToTheN.multiply(BigDecimalMath.sin(nTheta, context), context) );
+			BigDecimal rToTheN = BigDecimalMath.pow(r, power, context());
+			BigDecimal nTheta = BigDecimal.valueOf(power).multiply(getArgument(a), context());
+			b.setR( rToTheN.multiply(BigDecimalMath.cos(nTheta, context()), context()) );
+			b.setI( rToTheN.multiply(BigDecimalMath.sin(nTheta, context()), context()) );
 		}
 	};
 
@@ -315,10 +317,10 @@ public class ComplexHighPrecisionAlgebra
 		public void call(ComplexHighPrecisionMember a, ComplexHighPrecisionMember b, ComplexHighPrecisionMember c) {
 			// for safety must use tmps
 			BigDecimal mod2 = getModulus2(b);
-			BigDecimal r = a.r().multiply(b.r(),context).add(a.i().multiply(b.i(),context));
-			BigDecimal i = a.i().multiply(b.r(),context).subtract(a.r().multiply(b.i(),context));
-			r = r.divide(mod2, context);
-			i = i.divide(mod2, context);
+			BigDecimal r = a.r().multiply(b.r(),context()).add(a.i().multiply(b.i(),context()));
+			BigDecimal i = a.i().multiply(b.r(),context()).subtract(a.r().multiply(b.i(),context()));
+			r = r.divide(mod2, context());
+			i = i.divide(mod2, context());
 			c.setR( r );
 			c.setI( i );
 		}
@@ -451,7 +453,7 @@ public class ComplexHighPrecisionAlgebra
 			ComplexHighPrecisionMember root = new ComplexHighPrecisionMember();
 			ComplexHighPrecisionMember sum = new ComplexHighPrecisionMember();
 			ComplexHighPrecisionMember logSum = new ComplexHighPrecisionMember();
-			BigDecimal one_half = BigDecimal.ONE.divide(BigDecimal.valueOf(2), context);
+			BigDecimal one_half = BigDecimal.ONE.divide(BigDecimal.valueOf(2), context());
 			ComplexHighPrecisionMember ONE_HALF = new ComplexHighPrecisionMember(one_half, BigDecimal.ZERO);
 			
 			multiply().call(I, a, ia);
@@ -479,7 +481,7 @@ public class ComplexHighPrecisionAlgebra
 			ComplexHighPrecisionMember root = new ComplexHighPrecisionMember();
 			ComplexHighPrecisionMember sum = new ComplexHighPrecisionMember();
 			ComplexHighPrecisionMember logSum = new ComplexHighPrecisionMember();
-			BigDecimal one_half = BigDecimal.ONE.divide(BigDecimal.valueOf(2), context);
+			BigDecimal one_half = BigDecimal.ONE.divide(BigDecimal.valueOf(2), context());
 			ComplexHighPrecisionMember ONE_HALF = new ComplexHighPrecisionMember(one_half, BigDecimal.ZERO);
 
 			multiply().call(a, a, aSquared);
@@ -506,7 +508,7 @@ public class ComplexHighPrecisionAlgebra
 			ComplexHighPrecisionMember diff = new ComplexHighPrecisionMember();
 			ComplexHighPrecisionMember quotient = new ComplexHighPrecisionMember();
 			ComplexHighPrecisionMember log = new ComplexHighPrecisionMember();
-			BigDecimal minus_one_half = BigDecimal.ONE.divide(BigDecimal.valueOf(-2), context);
+			BigDecimal minus_one_half = BigDecimal.ONE.divide(BigDecimal.valueOf(-2), context());
 			ComplexHighPrecisionMember MINUS_I_OVER_TWO = new ComplexHighPrecisionMember(BigDecimal.ZERO, minus_one_half);
 			
 			multiply().call(I, a, ia);
@@ -567,7 +569,7 @@ public class ComplexHighPrecisionAlgebra
 			ComplexHighPrecisionMember diff = new ComplexHighPrecisionMember();
 			ComplexHighPrecisionMember quotient = new ComplexHighPrecisionMember();
 			ComplexHighPrecisionMember log = new ComplexHighPrecisionMember();
-			BigDecimal one_half = BigDecimal.ONE.divide(BigDecimal.valueOf(2),context);
+			BigDecimal one_half = BigDecimal.ONE.divide(BigDecimal.valueOf(2),context());
 			ComplexHighPrecisionMember I_OVER_TWO = new ComplexHighPrecisionMember(BigDecimal.ZERO, one_half);
 
 			multiply().call(I, a, ia);
@@ -593,7 +595,7 @@ public class ComplexHighPrecisionAlgebra
 			ComplexHighPrecisionMember miniSum = new ComplexHighPrecisionMember();
 			ComplexHighPrecisionMember root = new ComplexHighPrecisionMember();
 			ComplexHighPrecisionMember sum = new ComplexHighPrecisionMember();
-			BigDecimal one_half = BigDecimal.ONE.divide(BigDecimal.valueOf(2),context);
+			BigDecimal one_half = BigDecimal.ONE.divide(BigDecimal.valueOf(2),context());
 			ComplexHighPrecisionMember ONE_HALF = new ComplexHighPrecisionMember(one_half, BigDecimal.ZERO);
 
 			multiply().call(a, a, aSquared);
@@ -618,7 +620,7 @@ public class ComplexHighPrecisionAlgebra
 			ComplexHighPrecisionMember miniSum = new ComplexHighPrecisionMember();
 			ComplexHighPrecisionMember root = new ComplexHighPrecisionMember();
 			ComplexHighPrecisionMember sum = new ComplexHighPrecisionMember();
-			BigDecimal one_half = BigDecimal.ONE.divide(BigDecimal.valueOf(2),context);
+			BigDecimal one_half = BigDecimal.ONE.divide(BigDecimal.valueOf(2),context());
 			ComplexHighPrecisionMember ONE_HALF = new ComplexHighPrecisionMember(one_half, BigDecimal.ZERO);
 
 			multiply().call(a, a, aSquared);
@@ -643,7 +645,7 @@ public class ComplexHighPrecisionAlgebra
 			ComplexHighPrecisionMember diff = new ComplexHighPrecisionMember();
 			ComplexHighPrecisionMember quotient = new ComplexHighPrecisionMember();
 			ComplexHighPrecisionMember log = new ComplexHighPrecisionMember();
-			BigDecimal one_half = BigDecimal.ONE.divide(BigDecimal.valueOf(2),context);
+			BigDecimal one_half = BigDecimal.ONE.divide(BigDecimal.valueOf(2),context());
 			ComplexHighPrecisionMember ONE_HALF = new ComplexHighPrecisionMember(one_half, BigDecimal.ZERO);
 
 			add().call(ONE, a, sum);
@@ -702,7 +704,7 @@ public class ComplexHighPrecisionAlgebra
 			ComplexHighPrecisionMember diff = new ComplexHighPrecisionMember();
 			ComplexHighPrecisionMember quotient = new ComplexHighPrecisionMember();
 			ComplexHighPrecisionMember log = new ComplexHighPrecisionMember();
-			BigDecimal one_half = BigDecimal.ONE.divide(BigDecimal.valueOf(2),context);
+			BigDecimal one_half = BigDecimal.ONE.divide(BigDecimal.valueOf(2),context());
 			ComplexHighPrecisionMember ONE_HALF = new ComplexHighPrecisionMember(one_half, BigDecimal.ZERO);
 
 			add().call(a, ONE, sum);
@@ -1018,9 +1020,9 @@ public class ComplexHighPrecisionAlgebra
 	{
 		@Override
 		public void call(ComplexHighPrecisionMember a, ComplexHighPrecisionMember b) {
-			BigDecimal constant = BigDecimalMath.exp(a.r(), context);
-			b.setR( constant.multiply(BigDecimalMath.cos(a.i(), context), context) );
-			b.setI( constant.multiply(BigDecimalMath.sin(a.i(), context), context) );
+			BigDecimal constant = BigDecimalMath.exp(a.r(), context());
+			b.setR( constant.multiply(BigDecimalMath.cos(a.i(), context()), context()) );
+			b.setI( constant.multiply(BigDecimalMath.sin(a.i(), context()), context()) );
 		}
 	};
 	
@@ -1053,7 +1055,7 @@ public class ComplexHighPrecisionAlgebra
 		public void call(ComplexHighPrecisionMember a, ComplexHighPrecisionMember b) {
 			BigDecimal modulus = getModulus(a);
 			BigDecimal argument = getArgument(a);
-			b.setR( BigDecimalMath.log(modulus, context) );
+			b.setR( BigDecimalMath.log(modulus, context()) );
 			b.setI( getPrincipalArgument(argument) );
 		}
 	};
@@ -1064,11 +1066,11 @@ public class ComplexHighPrecisionAlgebra
 	}
 	
 	private BigDecimal getModulus2(ComplexHighPrecisionMember a) {
-		return a.r().multiply(a.r(),context).add(a.i().multiply(a.i(),context));
+		return a.r().multiply(a.r(),context()).add(a.i().multiply(a.i(),context()));
 	}
 
 	private BigDecimal getModulus(ComplexHighPrecisionMember a) {
-		return BigDecimalMath.sqrt(getModulus2(a), context);
+		return BigDecimalMath.sqrt(getModulus2(a), context());
 	}
 
 	private BigDecimal getArgument(ComplexHighPrecisionMember a) {
@@ -1081,9 +1083,9 @@ public class ComplexHighPrecisionAlgebra
 		BigDecimal theta;
 		if (x.equals(BigDecimal.ZERO)) {
 			if (y.compareTo(BigDecimal.ZERO) > 0)
-				theta = pi.v().divide(BigDecimal.valueOf(2), context);
+				theta = pi.v().divide(BigDecimal.valueOf(2), context());
 			else if (y.compareTo(BigDecimal.ZERO) < 0)
-				theta = minus_pi.v().divide(BigDecimal.valueOf(2), context);
+				theta = minus_pi.v().divide(BigDecimal.valueOf(2), context());
 			else // y == 0 : theta indeterminate
 				throw new IllegalArgumentException("HighPrec can't use NaN value");
 		}
@@ -1094,7 +1096,7 @@ public class ComplexHighPrecisionAlgebra
 				theta = pi.v();
 		}
 		else // x && y both != 0
-			theta = BigDecimalMath.atan2(y,x, context);
+			theta = BigDecimalMath.atan2(y,x, context());
 		
 		return theta;
 	}
@@ -1136,7 +1138,7 @@ public class ComplexHighPrecisionAlgebra
 	{
 		@Override
 		public void call(ComplexHighPrecisionMember a, ComplexHighPrecisionMember b) {
-			BigDecimal one_half = BigDecimal.ONE.divide(BigDecimal.valueOf(2), context);
+			BigDecimal one_half = BigDecimal.ONE.divide(BigDecimal.valueOf(2), context());
 			ComplexHighPrecisionMember ONE_HALF = new ComplexHighPrecisionMember(one_half, BigDecimal.ZERO);
 			pow().call(a, ONE_HALF, b);
 		}
@@ -1154,7 +1156,7 @@ public class ComplexHighPrecisionAlgebra
 	{
 		@Override
 		public void call(ComplexHighPrecisionMember a, ComplexHighPrecisionMember b) {
-			BigDecimal one_third = BigDecimal.ONE.divide(BigDecimal.valueOf(3), context);
+			BigDecimal one_third = BigDecimal.ONE.divide(BigDecimal.valueOf(3), context());
 			ComplexHighPrecisionMember ONE_THIRD = new ComplexHighPrecisionMember(one_third, BigDecimal.ZERO);
 			pow().call(a, ONE_THIRD, b);
 		}
@@ -1293,9 +1295,9 @@ public class ComplexHighPrecisionAlgebra
 		@Override
 		public void call(HighPrecisionMember a, ComplexHighPrecisionMember b, ComplexHighPrecisionMember c) {
 			BigDecimal tmp;
-			tmp = a.v().multiply(b.r(),context);
+			tmp = a.v().multiply(b.r(),context());
 			c.setR(tmp);
-			tmp = a.v().multiply(b.i(),context);
+			tmp = a.v().multiply(b.i(),context());
 			c.setI(tmp);
 		}
 	};
@@ -1314,12 +1316,12 @@ public class ComplexHighPrecisionAlgebra
 			BigDecimal d = new BigDecimal(a.d());
 			BigDecimal tmp;
 			tmp = b.r();
-			tmp = tmp.multiply(n, context);
-			tmp = tmp.divide(d, context);
+			tmp = tmp.multiply(n, context());
+			tmp = tmp.divide(d, context());
 			c.setR(tmp);
 			tmp = b.i();
-			tmp = tmp.multiply(n, context);
-			tmp = tmp.divide(d, context);
+			tmp = tmp.multiply(n, context());
+			tmp = tmp.divide(d, context());
 			c.setI(tmp);
 		}
 	};
@@ -1337,10 +1339,10 @@ public class ComplexHighPrecisionAlgebra
 			BigDecimal d = BigDecimal.valueOf(a);
 			BigDecimal tmp;
 			tmp = b.r();
-			tmp = tmp.multiply(d, context);
+			tmp = tmp.multiply(d, context());
 			c.setR(tmp);
 			tmp = b.i();
-			tmp = tmp.multiply(d, context);
+			tmp = tmp.multiply(d, context());
 			c.setI(tmp);
 		}
 	};
@@ -1355,8 +1357,8 @@ public class ComplexHighPrecisionAlgebra
 	{
 		@Override
 		public void call(HighPrecisionMember a, ComplexHighPrecisionMember b, ComplexHighPrecisionMember c) {
-			c.setR(a.v().multiply(b.r(),context));
-			c.setI(a.v().multiply(b.i(),context));
+			c.setR(a.v().multiply(b.r(),context()));
+			c.setI(a.v().multiply(b.i(),context()));
 		}
 	};
 
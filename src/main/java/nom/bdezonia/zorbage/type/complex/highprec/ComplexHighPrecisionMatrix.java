@@ -319,7 +319,7 @@ public class ComplexHighPrecisionMatrix
 	{				
 		@Override
 		public void call(ComplexHighPrecisionMatrixMember a, ComplexHighPrecisionMember b) {
-			MatrixDeterminant.compute(G.CHP_MAT, G.CHP, a, b);
+			MatrixDeterminant.compute(G.CHP_MAT, G.CHP, G.HP, a, b);
 		}
 	};
 	
@@ -347,7 +347,7 @@ public class ComplexHighPrecisionMatrix
 	{
 		@Override
 		public void call(ComplexHighPrecisionMatrixMember a, ComplexHighPrecisionMatrixMember b) {
-			MatrixInvert.compute(G.CHP, G.CHP_VEC, G.CHP_MAT, a, b);
+			MatrixInvert.compute(G.CHP, G.HP, G.CHP_VEC, G.CHP_MAT, a, b);
 		}
 	};
 
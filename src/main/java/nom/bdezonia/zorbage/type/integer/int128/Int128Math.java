@@ -0,0 +1,201 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.type.integer.int128;
+
+/**
+ * Int128Math holds the two word kernels shared by the signed and unsigned
+ * 128-bit algebras. Values are passed as (hi, lo) pairs of longs and are
+ * treated as unsigned. Routines that produce a 128-bit result have one
+ * method per word so that callers can write straight into their members
+ * without allocating anything.
+ * 
+ * @author Barry DeZonia
+ *
+ */
+class Int128Math {
+
+	// do not instantiate
+	
+	private Int128Math() { }
+	
+	private static final long B = 1L << 32;
+	
+	private static final long[] TENS = new long[19];
+	
+	static {
+		TENS[0] = 1;
+		for (int i = 1; i < TENS.length; i++) {
+			TENS[i] = TENS[i-1] * 10;
+		}
+	}
+	
+	/**
+	 * Returns the high word of the unsigned 64x64 bit product of a and b.
+	 */
+	static long multiplyHighUnsigned(long a, long b) {
+		return Math.multiplyHigh(a, b) + ((a >> 63) & b) + ((b >> 63) & a);
+	}
+	
+	/**
+	 * Returns the high word of the 128x128 bit product of a and b modulo
+	 * 2^128. The low word is simply aLo * bLo.
+	 */
+	static long multiplyHi(long aHi, long aLo, long bHi, long bLo) {
+		return multiplyHighUnsigned(aLo, bLo) + aHi * bLo + aLo * bHi;
+	}
+	
+	/**
+	 * Returns the high word of the unsigned quotient n / d. d must not be 0.
+	 */
+	static long divideHi(long nHi, long nLo, long dHi, long dLo) {
+		if (dHi == 0 && Long.compareUnsigned(nHi, dLo) >= 0)
+			return Long.divideUnsigned(nHi, dLo);
+		return 0;
+	}
+	
+	/**
+	 * Returns the low word of the unsigned quotient n / d. d must not be 0.
+	 */
+	static long divideLo(long nHi, long nLo, long dHi, long dLo) {
+		if (dHi == 0) {
+			if (Long.compareUnsigned(nHi, dLo) < 0)
+				return divide(nHi, nLo, dLo);
+			return divide(Long.remainderUnsigned(nHi, dLo), nLo, dLo);
+		}
+		
+		// the divisor has two words so the quotient fits in one. estimate it
+		// from the top word of the normalized divisor and correct by at most one.
+		
+		int s = Long.numberOfLeadingZeros(dHi);
+		long v1 = (s == 0) ? dHi : (dHi << s) | (dLo >>> (64 - s));
+		long q = divide(nHi >>> 1, (nLo >>> 1) | (nHi << 63), v1) >>> (63 - s);
+		if (q != 0)
+			q--;
+		long pLo = q * dLo;
+		long pHi = multiplyHighUnsigned(q, dLo) + q * dHi;
+		long rLo = nLo - pLo;
+		long rHi = nHi - pHi - (Long.compareUnsigned(nLo, pLo) < 0 ? 1 : 0);
+		if (compare(rHi, rLo, dHi, dLo) >= 0)
+			q++;
+		return q;
+	}
+	
+	/**
+	 * Compares two unsigned 128-bit values.
+	 */
+	static int compare(long aHi, long aLo, long bHi, long bLo) {
+		int c = Long.compareUnsigned(aHi, bHi);
+		if (c != 0)
+			return c;
+		return Long.compareUnsigned(aLo, bLo);
+	}
+	
+	/**
+	 * Divides the unsigned 128-bit value (hi, lo) by d where hi < d (unsigned)
+	 * so that the quotient fits in 64 bits. This is Knuth's algorithm D on
+	 * 32-bit digits as laid out in Hacker's Delight (divlu).
+	 */
+	static long divide(long hi, long lo, long d) {
+		int s = Long.numberOfLeadingZeros(d);
+		long v = d << s;
+		long vn1 = v >>> 32;
+		long vn0 = v & 0xffffffffL;
+		long un32 = (s == 0) ? hi : (hi << s) | (lo >>> (64 - s));
+		long un10 = lo << s;
+		long un1 = un10 >>> 32;
+		long un0 = un10 & 0xffffffffL;
+		
+		long q1 = Long.divideUnsigned(un32, vn1);
+		long rhat = un32 - q1 * vn1;
+		while (Long.compareUnsigned(q1, B) >= 0 ||
+				Long.compareUnsigned(q1 * vn0, (rhat << 32) | un1) > 0)
+		{
+			q1--;
+			rhat += vn1;
+			if (Long.compareUnsigned(rhat, B) >= 0)
+				break;
+		}
+		
+		long un21 = (un32 << 32) + un1 - q1 * v;
+		long q0 = Long.divideUnsigned(un21, vn1);
+		rhat = un21 - q0 * vn1;
+		while (Long.compareUnsigned(q0, B) >= 0 ||
+				Long.compareUnsigned(q0 * vn0, (rhat << 32) | un0) > 0)
+		{
+			q0--;
+			rhat += vn1;
+			if (Long.compareUnsigned(rhat, B) >= 0)
+				break;
+		}
+		
+		return (q1 << 32) | q0;
+	}
+	
+	/**
+	 * Returns one word of (x * m) / d truncated, or rounded half away from
+	 * zero, modulo 2^128. x is a 128-bit and m and d are 64-bit unsigned values.
+	 * d must not be 0.
+	 */
+	static long scaleWord(long xHi, long xLo, long m, long d, boolean round, boolean high) {
+		
+		// 192-bit product
+		
+		long p0 = xLo * m;
+		long t = xHi * m;
+		long p1 = t + multiplyHighUnsigned(xLo, m);
+		long p2 = multiplyHighUnsigned(xHi, m) + (Long.compareUnsigned(p1, t) < 0 ? 1 : 0);
+		
+		if (d == 1)
+			return high ? p1 : p0;
+		
+		// long division by d one word at a time. the top word of the quotient
+		// falls outside the 128-bit result.
+		
+		long r = Long.remainderUnsigned(p2, d);
+		long q1 = divide(r, p1, d);
+		r = p1 - q1 * d;
+		long q0 = divide(r, p0, d);
+		r = p0 - q0 * d;
+		if (round && Long.compareUnsigned(r, d - r) >= 0) {
+			q0++;
+			if (q0 == 0)
+				q1++;
+		}
+		return high ? q1 : q0;
+	}
+	
+	/**
+	 * Returns 10^n for 0 <= n <= 18.
+	 */
+	static long powerOfTen(int n) {
+		return TENS[n];
+	}
+}
@@ -35,12 +35,10 @@ import java.math.BigInteger;
 import java.util.concurrent.ThreadLocalRandom;
 
 import nom.bdezonia.zorbage.algebra.*;
-import nom.bdezonia.zorbage.algorithm.DivMod;
 import nom.bdezonia.zorbage.algorithm.SteinGcd;
 import nom.bdezonia.zorbage.algorithm.SteinLcm;
 import nom.bdezonia.zorbage.algorithm.Max;
 import nom.bdezonia.zorbage.algorithm.Min;
-import nom.bdezonia.zorbage.algorithm.Multiply;
 import nom.bdezonia.zorbage.algorithm.NumberWithin;
 import nom.bdezonia.zorbage.algorithm.PowerNonNegative;
 import nom.bdezonia.zorbage.function.Function1;
@@ -94,6 +92,7 @@ public class SignedInt128Algebra
 {
 	private static final SignedInt128Member ZERO = new SignedInt128Member();
 	private static final SignedInt128Member ONE = new SignedInt128Member(0,1);
+	private static final double TWO_53 = 9007199254740992.0;
 
 	@Override
 	public String typeDescription() {
@@ -257,7 +256,10 @@ public class SignedInt128Algebra
 	{
 		@Override
 		public void call(SignedInt128Member a, SignedInt128Member b, SignedInt128Member c) {
-			Multiply.compute(G.INT128, a, b, c);
+			long lo = a.lo * b.lo;
+			long hi = Int128Math.multiplyHi(a.hi, a.lo, b.hi, b.lo);
+			c.lo = lo;
+			c.hi = hi;
 		}
 	};
 
@@ -476,8 +478,7 @@ public class SignedInt128Algebra
 	{
 		@Override
 		public void call(SignedInt128Member a, SignedInt128Member b, SignedInt128Member d) {
-			SignedInt128Member m = new SignedInt128Member();
-			divMod().call(a,b,d,m);
+			divMod(a, b, d, null);
 		}
 	};
 	
@@ -491,8 +492,7 @@ public class SignedInt128Algebra
 	{
 		@Override
 		public void call(SignedInt128Member a, SignedInt128Member b, SignedInt128Member m) {
-			SignedInt128Member d = new SignedInt128Member();
-			divMod().call(a,b,d,m);
+			divMod(a, b, null, m);
 		}
 	};
 	
@@ -506,9 +506,7 @@ public class SignedInt128Algebra
 	{
 		@Override
 		public void call(SignedInt128Member a, SignedInt128Member b, SignedInt128Member d, SignedInt128Member m) {
-			if (a.hi == 0x8000000000000000L && a.lo == 0 && b.hi == 0xffffffffffffffffL && b.lo == 0xffffffffffffffffL)
-				throw new IllegalArgumentException("cannot divide -minint by -1");
-			DivMod.compute(G.INT128, a, b, d, m);
+			divMod(a, b, d, m);
 		}
 	};
 	
@@ -722,8 +720,6 @@ public class SignedInt128Algebra
 		return BITANDNOT;
 	}
 
-	// TODO improve performance
-	
 	private final Procedure3<java.lang.Integer,SignedInt128Member,SignedInt128Member> BITSHL = 
 			new Procedure3<java.lang.Integer, SignedInt128Member, SignedInt128Member>()
 	{
@@ -733,11 +729,21 @@ public class SignedInt128Algebra
 				bitShiftRight().call(-count, a, b);
 			else {
 				count = count % 128;
-				SignedInt128Member tmp = new SignedInt128Member(a);
-				for (int i = 0; i < count; i++) {
-					shiftLeftOneBit(tmp);
+				long hi, lo;
+				if (count == 0) {
+					hi = a.hi;
+					lo = a.lo;
+				}
+				else if (count < 64) {
+					hi = (a.hi << count) | (a.lo >>> (64 - count));
+					lo = a.lo << count;
 				}
-				assign().call(tmp, b);
+				else {
+					hi = a.lo << (count - 64);
+					lo = 0;
+				}
+				b.hi = hi;
+				b.lo = lo;
 			}
 		}
 	};
@@ -755,15 +761,24 @@ public class SignedInt128Algebra
 			if (count < 0)
 				bitShiftLeft().call(-count, a, b);
 			else {
-				SignedInt128Member tmp = new SignedInt128Member(a);
-				for (int i = 0; i < count; i++) {
-					if (tmp.hi == 0 && tmp.lo == 0)
-						break;
-					if (tmp.hi == 0xffffffffffffffffL && tmp.lo == 0xffffffffffffffffL)
-						break;
-					shiftRightOneBit(tmp);
+				// shifting more than 127 places leaves nothing but sign bits
+				if (count > 127)
+					count = 127;
+				long hi, lo;
+				if (count == 0) {
+					hi = a.hi;
+					lo = a.lo;
+				}
+				else if (count < 64) {
+					hi = a.hi >> count;
+					lo = (a.lo >>> count) | (a.hi << (64 - count));
 				}
-				assign().call(tmp, b);
+				else {
+					hi = a.hi >> 63;
+					lo = a.hi >> (count - 64);
+				}
+				b.hi = hi;
+				b.lo = lo;
 			}
 		}
 	};
@@ -773,8 +788,6 @@ public class SignedInt128Algebra
 		return BITSHR;
 	}
 
-	// TODO improve performance
-	
 	private final Procedure3<java.lang.Integer,SignedInt128Member,SignedInt128Member> BITSHRZ = 
 			new Procedure3<java.lang.Integer, SignedInt128Member, SignedInt128Member>()
 	{
@@ -785,11 +798,8 @@ public class SignedInt128Algebra
 			else if (count > 127)
 				assign().call(ZERO, b);
 			else {
-				SignedInt128Member tmp = new SignedInt128Member(a);
-				for (int i = 0; i < count; i++) {
-					shiftRightOneBit(tmp);
-				}
-				assign().call(tmp, b);
+				// this has always kept the sign bit like bitShiftRight() does
+				bitShiftRight().call(count, a, b);
 			}
 		}
 	};
@@ -843,29 +853,86 @@ public class SignedInt128Algebra
 		return ISZERO;
 	}
 
-	private void shiftLeftOneBit(SignedInt128Member val) {
-		boolean transitionBit = (val.lo & 0x8000000000000000L) != 0;
-		val.lo = ((val.lo) << 1);
-		val.hi = ((val.hi) << 1);
-		if (transitionBit)
-			val.hi |= 1;
+	// d or m can be null when only one of them is wanted. results are
+	// truncated toward zero like the other integer types.
+	
+	private static void divMod(SignedInt128Member a, SignedInt128Member b, SignedInt128Member d, SignedInt128Member m) {
+		if (b.hi == 0 && b.lo == 0)
+			throw new IllegalArgumentException("divide by zero");
+		if (a.hi == 0x8000000000000000L && a.lo == 0 && b.hi == 0xffffffffffffffffL && b.lo == 0xffffffffffffffffL)
+			throw new IllegalArgumentException("cannot divide -minint by -1");
+		boolean aNeg = a.hi < 0;
+		boolean bNeg = b.hi < 0;
+		long aHi = aNeg ? ~a.hi + (a.lo == 0 ? 1 : 0) : a.hi;
+		long aLo = aNeg ? -a.lo : a.lo;
+		long bHi = bNeg ? ~b.hi + (b.lo == 0 ? 1 : 0) : b.hi;
+		long bLo = bNeg ? -b.lo : b.lo;
+		long qHi = Int128Math.divideHi(aHi, aLo, bHi, bLo);
+		long qLo = Int128Math.divideLo(aHi, aLo, bHi, bLo);
+		long pLo = qLo * bLo;
+		long pHi = Int128Math.multiplyHi(qHi, qLo, bHi, bLo);
+		long rLo = aLo - pLo;
+		long rHi = aHi - pHi - (Long.compareUnsigned(aLo, pLo) < 0 ? 1 : 0);
+		if (aNeg != bNeg) {
+			qHi = ~qHi + (qLo == 0 ? 1 : 0);
+			qLo = -qLo;
+		}
+		if (aNeg) {
+			rHi = ~rHi + (rLo == 0 ? 1 : 0);
+			rLo = -rLo;
+		}
+		if (d != null) {
+			d.hi = qHi;
+			d.lo = qLo;
+		}
+		if (m != null) {
+			m.hi = rHi;
+			m.lo = rLo;
+		}
 	}
 
-	// TODO: why did UINT128 shift not require all the extra ops this one does?
+	// c = b * v truncated toward zero or rounded half away from zero. short
+	// decimals are done in two word arithmetic rather than with BigIntegers.
 	
-	private void shiftRightOneBit(SignedInt128Member val) {
-		boolean neg = (val.hi & (0x8000000000000000L)) != 0;
-		boolean transitionBit = (val.hi & 1) != 0;
-		boolean loHBit = (val.lo & 0x8000000000000000L) != 0;
-		val.lo = ((val.lo & 0x7fffffffffffffffL) >>> 1);
-		if (loHBit) val.lo |= 0x4000000000000000L;
-		boolean hiHBit = (val.hi & 0x8000000000000000L) != 0;
-		val.hi = ((val.hi & 0x7fffffffffffffffL) >>> 1);
-		if (hiHBit) val.hi |= 0x4000000000000000L;
-		if (transitionBit)
-			val.lo |= 0x8000000000000000L;
-		if (neg)
-			val.hi |= 0x8000000000000000L;
+	private static void scale(BigDecimal v, SignedInt128Member b, boolean round, SignedInt128Member c) {
+		int scale = v.scale();
+		int precision = v.precision();
+		if (precision <= 18 && scale <= 18 && precision - scale <= 18) {
+			long u = v.unscaledValue().longValue();
+			long multiplier = Math.abs(u);
+			long divisor = 1;
+			if (scale >= 0)
+				divisor = Int128Math.powerOfTen(scale);
+			else
+				multiplier *= Int128Math.powerOfTen(-scale);
+			scale(multiplier, divisor, u < 0, b, round, c);
+		}
+		else {
+			BigDecimal tmp = v.multiply(new BigDecimal(b.v()));
+			if (round) {
+				if (tmp.signum() < 0)
+					tmp = tmp.subtract(BigDecimalUtils.ONE_HALF);
+				else
+					tmp = tmp.add(BigDecimalUtils.ONE_HALF);
+			}
+			c.setV(tmp.toBigInteger());
+		}
+	}
+	
+	// c = b * multiplier / divisor where multiplier and divisor are not negative
+	
+	private static void scale(long multiplier, long divisor, boolean negative, SignedInt128Member b, boolean round, SignedInt128Member c) {
+		boolean bNeg = b.hi < 0;
+		long bHi = bNeg ? ~b.hi + (b.lo == 0 ? 1 : 0) : b.hi;
+		long bLo = bNeg ? -b.lo : b.lo;
+		long hi = Int128Math.scaleWord(bHi, bLo, multiplier, divisor, round, true);
+		long lo = Int128Math.scaleWord(bHi, bLo, multiplier, divisor, round, false);
+		if (negative != bNeg) {
+			hi = ~hi + (lo == 0 ? 1 : 0);
+			lo = -lo;
+		}
+		c.hi = hi;
+		c.lo = lo;
 	}
 
 	@Override
@@ -878,9 +945,7 @@ public class SignedInt128Algebra
 	{
 		@Override
 		public void call(HighPrecisionMember a, SignedInt128Member b, SignedInt128Member c) {
-			BigDecimal tmp = a.v();
-			tmp = tmp.multiply(new BigDecimal(b.v()));
-			c.setV(tmp.toBigInteger());
+			scale(a.v(), b, false, c);
 		}
 	};
 
@@ -894,14 +959,7 @@ public class SignedInt128Algebra
 	{
 		@Override
 		public void call(HighPrecisionMember a, SignedInt128Member b, SignedInt128Member c) {
-			BigDecimal tmp = a.v();
-			tmp = tmp.multiply(new BigDecimal(b.v()));
-			int signum = tmp.signum();
-			if (signum < 0)
-				tmp = tmp.subtract(BigDecimalUtils.ONE_HALF);
-			else
-				tmp = tmp.add(BigDecimalUtils.ONE_HALF);
-			c.setV(tmp.toBigInteger());
+			scale(a.v(), b, true, c);
 		}
 	};
 
@@ -915,6 +973,12 @@ public class SignedInt128Algebra
 	{
 		@Override
 		public void call(RationalMember a, SignedInt128Member b, SignedInt128Member c) {
+			BigInteger n = a.n();
+			BigInteger d = a.d();
+			if (n.bitLength() < 63 && d.bitLength() < 63) {
+				scale(Math.abs(n.longValue()), d.longValue(), n.signum() < 0, b, false, c);
+				return;
+			}
 			BigInteger tmp = b.v();
 			tmp = tmp.multiply(a.n());
 			tmp = tmp.divide(a.d());
@@ -932,9 +996,11 @@ public class SignedInt128Algebra
 	{
 		@Override
 		public void call(Double a, SignedInt128Member b, SignedInt128Member c) {
-			BigDecimal tmp = new BigDecimal(b.v());
-			tmp = tmp.multiply(BigDecimal.valueOf(a));
-			c.setV(tmp.toBigInteger());
+			double v = a;
+			if (v == (long) v && Math.abs(v) < TWO_53)
+				scale(Math.abs((long) v), 1, v < 0, b, false, c);
+			else
+				scale(BigDecimal.valueOf(v), b, false, c);
 		}
 	};
 
@@ -948,14 +1014,11 @@ public class SignedInt128Algebra
 	{
 		@Override
 		public void call(Double a, SignedInt128Member b, SignedInt128Member c) {
-			BigDecimal tmp = new BigDecimal(b.v());
-			tmp = tmp.multiply(BigDecimal.valueOf(a));
-			int signum = tmp.signum();
-			if (signum < 0)
-				tmp = tmp.subtract(BigDecimalUtils.ONE_HALF);
+			double v = a;
+			if (v == (long) v && Math.abs(v) < TWO_53)
+				scale(Math.abs((long) v), 1, v < 0, b, true, c);
 			else
-				tmp = tmp.add(BigDecimalUtils.ONE_HALF);
-			c.setV(tmp.toBigInteger());
+				scale(BigDecimal.valueOf(v), b, true, c);
 		}
 	};
 
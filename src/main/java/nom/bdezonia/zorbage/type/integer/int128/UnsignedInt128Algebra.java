@@ -35,12 +35,10 @@ import java.math.BigInteger;
 import java.util.concurrent.ThreadLocalRandom;
 
 import nom.bdezonia.zorbage.algebra.*;
-import nom.bdezonia.zorbage.algorithm.DivMod;
 import nom.bdezonia.zorbage.algorithm.SteinGcd;
 import nom.bdezonia.zorbage.algorithm.SteinLcm;
 import nom.bdezonia.zorbage.algorithm.Max;
 import nom.bdezonia.zorbage.algorithm.Min;
-import nom.bdezonia.zorbage.algorithm.Multiply;
 import nom.bdezonia.zorbage.algorithm.NumberWithin;
 import nom.bdezonia.zorbage.algorithm.PowerNonNegative;
 import nom.bdezonia.zorbage.function.Function1;
@@ -90,6 +88,7 @@ public class UnsignedInt128Algebra
 {
 	private static final UnsignedInt128Member ZERO = new UnsignedInt128Member();
 	private static final UnsignedInt128Member ONE = new UnsignedInt128Member(0,1);
+	private static final double TWO_53 = 9007199254740992.0;
 
 	@Override
 	public String typeDescription() {
@@ -242,7 +241,10 @@ public class UnsignedInt128Algebra
 	{
 		@Override
 		public void call(UnsignedInt128Member a, UnsignedInt128Member b, UnsignedInt128Member c) {
-			Multiply.compute(G.UINT128, a, b, c);
+			long lo = a.lo * b.lo;
+			long hi = Int128Math.multiplyHi(a.hi, a.lo, b.hi, b.lo);
+			c.lo = lo;
+			c.hi = hi;
 		}
 	};
 
@@ -444,8 +446,7 @@ public class UnsignedInt128Algebra
 	{
 		@Override
 		public void call(UnsignedInt128Member a, UnsignedInt128Member b, UnsignedInt128Member d) {
-			UnsignedInt128Member m = new UnsignedInt128Member();
-			divMod().call(a,b,d,m);
+			divMod(a, b, d, null);
 		}
 	};
 	
@@ -459,8 +460,7 @@ public class UnsignedInt128Algebra
 	{
 		@Override
 		public void call(UnsignedInt128Member a, UnsignedInt128Member b, UnsignedInt128Member m) {
-			UnsignedInt128Member d = new UnsignedInt128Member();
-			divMod().call(a,b,d,m);
+			divMod(a, b, null, m);
 		}
 	};
 	
@@ -474,7 +474,7 @@ public class UnsignedInt128Algebra
 	{
 		@Override
 		public void call(UnsignedInt128Member a, UnsignedInt128Member b, UnsignedInt128Member d, UnsignedInt128Member m) {
-			DivMod.compute(G.UINT128, a, b, d, m);
+			divMod(a, b, d, m);
 		}
 	};
 	
@@ -688,8 +688,6 @@ public class UnsignedInt128Algebra
 		return BITANDNOT;
 	}
 
-	// TODO improve performance
-	
 	private final Procedure3<java.lang.Integer,UnsignedInt128Member,UnsignedInt128Member> BITSHL = 
 			new Procedure3<java.lang.Integer, UnsignedInt128Member, UnsignedInt128Member>()
 	{
@@ -699,11 +697,21 @@ public class UnsignedInt128Algebra
 				bitShiftRight().call(-count, a, b);
 			else {
 				count = count % 0x80;
-				UnsignedInt128Member tmp = new UnsignedInt128Member(a);
-				for (int i = 0; i < count; i++) {
-					shiftLeftOneBit(tmp);
+				long hi, lo;
+				if (count == 0) {
+					hi = a.hi;
+					lo = a.lo;
+				}
+				else if (count < 64) {
+					hi = (a.hi << count) | (a.lo >>> (64 - count));
+					lo = a.lo << count;
 				}
-				assign().call(tmp, b);
+				else {
+					hi = a.lo << (count - 64);
+					lo = 0;
+				}
+				b.hi = hi;
+				b.lo = lo;
 			}
 		}
 	};
@@ -713,8 +721,6 @@ public class UnsignedInt128Algebra
 		return BITSHL;
 	}
 
-	// TODO improve performance
-	
 	private final Procedure3<java.lang.Integer,UnsignedInt128Member,UnsignedInt128Member> BITSHRZ = 
 			new Procedure3<java.lang.Integer, UnsignedInt128Member, UnsignedInt128Member>()
 	{
@@ -725,11 +731,21 @@ public class UnsignedInt128Algebra
 			else if (count > 0x7f)
 				assign().call(ZERO, b);
 			else {
-				UnsignedInt128Member tmp = new UnsignedInt128Member(a);
-				for (int i = 0; i < count; i++) {
-					shiftRightOneBit(tmp);
+				long hi, lo;
+				if (count == 0) {
+					hi = a.hi;
+					lo = a.lo;
 				}
-				assign().call(tmp, b);
+				else if (count < 64) {
+					hi = a.hi >>> count;
+					lo = (a.lo >>> count) | (a.hi << (64 - count));
+				}
+				else {
+					hi = 0;
+					lo = a.hi >>> (count - 64);
+				}
+				b.hi = hi;
+				b.lo = lo;
 			}
 		}
 	};
@@ -789,20 +805,66 @@ public class UnsignedInt128Algebra
 		return ISZERO;
 	}
 
-	private void shiftLeftOneBit(UnsignedInt128Member val) {
-		boolean transitionBit = (val.lo & 0x8000000000000000L) != 0;
-		val.lo = val.lo << 1;
-		val.hi = val.hi << 1;
-		if (transitionBit)
-			val.hi |= 1;
+	// d or m can be null when only one of them is wanted
+	
+	private static void divMod(UnsignedInt128Member a, UnsignedInt128Member b, UnsignedInt128Member d, UnsignedInt128Member m) {
+		if (b.hi == 0 && b.lo == 0)
+			throw new IllegalArgumentException("divide by zero");
+		long qHi = Int128Math.divideHi(a.hi, a.lo, b.hi, b.lo);
+		long qLo = Int128Math.divideLo(a.hi, a.lo, b.hi, b.lo);
+		long pLo = qLo * b.lo;
+		long pHi = Int128Math.multiplyHi(qHi, qLo, b.hi, b.lo);
+		long rLo = a.lo - pLo;
+		long rHi = a.hi - pHi - (Long.compareUnsigned(a.lo, pLo) < 0 ? 1 : 0);
+		if (d != null) {
+			d.hi = qHi;
+			d.lo = qLo;
+		}
+		if (m != null) {
+			m.hi = rHi;
+			m.lo = rLo;
+		}
 	}
 
-	private void shiftRightOneBit(UnsignedInt128Member val) {
-		boolean transitionBit = (val.hi & 1) != 0;
-		val.lo = val.lo >>> 1;
-		val.hi = val.hi >>> 1;
-		if (transitionBit)
-			val.lo |= 0x8000000000000000L;
+	// c = b * v truncated toward zero or rounded half away from zero. short
+	// decimals are done in two word arithmetic rather than with BigIntegers.
+	
+	private static void scale(BigDecimal v, UnsignedInt128Member b, boolean round, UnsignedInt128Member c) {
+		int scale = v.scale();
+		int precision = v.precision();
+		if (precision <= 18 && scale <= 18 && precision - scale <= 18) {
+			long u = v.unscaledValue().longValue();
+			long multiplier = Math.abs(u);
+			long divisor = 1;
+			if (scale >= 0)
+				divisor = Int128Math.powerOfTen(scale);
+			else
+				multiplier *= Int128Math.powerOfTen(-scale);
+			scale(multiplier, divisor, u < 0, b, round, c);
+		}
+		else {
+			BigDecimal tmp = v.multiply(new BigDecimal(b.v()));
+			if (round) {
+				if (tmp.signum() < 0)
+					tmp = tmp.subtract(BigDecimalUtils.ONE_HALF);
+				else
+					tmp = tmp.add(BigDecimalUtils.ONE_HALF);
+			}
+			c.setV(tmp.toBigInteger());
+		}
+	}
+	
+	// c = b * multiplier / divisor where multiplier and divisor are not negative
+	
+	private static void scale(long multiplier, long divisor, boolean negative, UnsignedInt128Member b, boolean round, UnsignedInt128Member c) {
+		long hi = Int128Math.scaleWord(b.hi, b.lo, multiplier, divisor, round, true);
+		long lo = Int128Math.scaleWord(b.hi, b.lo, multiplier, divisor, round, false);
+		if (negative) {
+			hi = ~hi + (lo == 0 ? 1 : 0);
+			lo = -lo;
+		}
+		c.hi = hi;
+		c.lo = lo;
 	}
 
 	@Override
@@ -815,9 +877,7 @@ public class UnsignedInt128Algebra
 	{
 		@Override
 		public void call(HighPrecisionMember a, UnsignedInt128Member b, UnsignedInt128Member c) {
-			BigDecimal tmp = a.v();
-			tmp = tmp.multiply(new BigDecimal(b.v()));
-			c.setV(tmp.toBigInteger());
+			scale(a.v(), b, false, c);
 		}
 	};
 
@@ -831,14 +891,7 @@ public class UnsignedInt128Algebra
 	{
 		@Override
 		public void call(HighPrecisionMember a, UnsignedInt128Member b, UnsignedInt128Member c) {
-			BigDecimal tmp = a.v();
-			tmp = tmp.multiply(new BigDecimal(b.v()));
-			int signum = tmp.signum();
-			if (signum < 0)
-				tmp = tmp.subtract(BigDecimalUtils.ONE_HALF);
-			else
-				tmp = tmp.add(BigDecimalUtils.ONE_HALF);
-			c.setV(tmp.toBigInteger());
+			scale(a.v(), b, true, c);
 		}
 	};
 
@@ -852,6 +905,12 @@ public class UnsignedInt128Algebra
 	{
 		@Override
 		public void call(RationalMember a, UnsignedInt128Member b, UnsignedInt128Member c) {
+			BigInteger n = a.n();
+			BigInteger d = a.d();
+			if (n.bitLength() < 63 && d.bitLength() < 63) {
+				scale(Math.abs(n.longValue()), d.longValue(), n.signum() < 0, b, false, c);
+				return;
+			}
 			BigInteger tmp = b.v();
 			tmp = tmp.multiply(a.n());
 			tmp = tmp.divide(a.d());
@@ -869,9 +928,11 @@ public class UnsignedInt128Algebra
 	{
 		@Override
 		public void call(Double a, UnsignedInt128Member b, UnsignedInt128Member c) {
-			BigDecimal tmp = new BigDecimal(b.v());
-			tmp = tmp.multiply(BigDecimal.valueOf(a));
-			c.setV(tmp.toBigInteger());
+			double v = a;
+			if (v == (long) v && Math.abs(v) < TWO_53)
+				scale(Math.abs((long) v), 1, v < 0, b, false, c);
+			else
+				scale(BigDecimal.valueOf(v), b, false, c);
 		}
 	};
 
@@ -885,14 +946,11 @@ public class UnsignedInt128Algebra
 	{
 		@Override
 		public void call(Double a, UnsignedInt128Member b, UnsignedInt128Member c) {
-			BigDecimal tmp = new BigDecimal(b.v());
-			tmp = tmp.multiply(BigDecimal.valueOf(a));
-			int signum = tmp.signum();
-			if (signum < 0)
-				tmp = tmp.subtract(BigDecimalUtils.ONE_HALF);
+			double v = a;
+			if (v == (long) v && Math.abs(v) < TWO_53)
+				scale(Math.abs((long) v), 1, v < 0, b, true, c);
 			else
-				tmp = tmp.add(BigDecimalUtils.ONE_HALF);
-			c.setV(tmp.toBigInteger());
+				scale(BigDecimal.valueOf(v), b, true, c);
 		}
 	};
 
@@ -40,6 +40,7 @@ import nom.bdezonia.zorbage.function.Function1;
 import nom.bdezonia.zorbage.function.Function2;
 import nom.bdezonia.zorbage.function.Function3;
 import nom.bdezonia.zorbage.misc.BigDecimalUtils;
+import nom.bdezonia.zorbage.misc.LongUtils;
 import nom.bdezonia.zorbage.procedure.Procedure1;
 import nom.bdezonia.zorbage.procedure.Procedure2;
 import nom.bdezonia.zorbage.procedure.Procedure3;
@@ -120,11 +121,24 @@ public class UnboundedIntAlgebra
 		return new UnboundedIntMember(s);
 	}
 
+	// true when a / b can be done in longs: both values are small, b is not
+	// zero (so BigInteger reports division by zero) and the quotient is not
+	// the one case that overflows.
+	
+	private static boolean smallDivisible(UnboundedIntMember a, UnboundedIntMember b) {
+		return a.big == null && b.big == null && b.small != 0 &&
+				!(a.small == Long.MIN_VALUE && b.small == -1);
+	}
+
 	private final Procedure2<UnboundedIntMember,UnboundedIntMember> ABS =
 			new Procedure2<UnboundedIntMember,UnboundedIntMember>()
 	{
 		@Override
 		public void call(UnboundedIntMember a, UnboundedIntMember b) {
+			if (a.big == null && a.small != Long.MIN_VALUE) {
+				b.setV(Math.abs(a.small));
+				return;
+			}
 			b.setV( a.v().abs() );
 		}
 	};
@@ -139,6 +153,14 @@ public class UnboundedIntAlgebra
 	{
 		@Override
 		public void call(UnboundedIntMember a, UnboundedIntMember b,UnboundedIntMember c) {
+			if (a.big == null && b.big == null) {
+				try {
+					c.setV(Math.multiplyExact(a.small, b.small));
+					return;
+				} catch (ArithmeticException e) {
+					// overflow: fall through to the BigInteger path
+				}
+			}
 			c.setV( a.v().multiply(b.v()) );
 		}
 	};
@@ -186,6 +208,10 @@ public class UnboundedIntAlgebra
 	{
 		@Override
 		public void call(UnboundedIntMember a, UnboundedIntMember b) {
+			if (a.big == null && a.small != Long.MIN_VALUE) {
+				b.setV(-a.small);
+				return;
+			}
 			b.setV( a.v().negate() );
 		}
 	};
@@ -200,6 +226,14 @@ public class UnboundedIntAlgebra
 	{
 		@Override
 		public void call(UnboundedIntMember a, UnboundedIntMember b,UnboundedIntMember c) {
+			if (a.big == null && b.big == null) {
+				try {
+					c.setV(Math.addExact(a.small, b.small));
+					return;
+				} catch (ArithmeticException e) {
+					// overflow: fall through to the BigInteger path
+				}
+			}
 			c.setV( a.v().add(b.v()) );
 		}
 	};
@@ -214,6 +248,14 @@ public class UnboundedIntAlgebra
 	{
 		@Override
 		public void call(UnboundedIntMember a, UnboundedIntMember b,UnboundedIntMember c) {
+			if (a.big == null && b.big == null) {
+				try {
+					c.setV(Math.subtractExact(a.small, b.small));
+					return;
+				} catch (ArithmeticException e) {
+					// overflow: fall through to the BigInteger path
+				}
+			}
 			c.setV( a.v().subtract(b.v()) );
 		}
 	};
@@ -342,6 +384,8 @@ public class UnboundedIntAlgebra
 	{
 		@Override
 		public java.lang.Integer call(UnboundedIntMember a, UnboundedIntMember b) {
+			if (a.big == null && b.big == null)
+				return Long.compare(a.small, b.small);
 			return a.v().compareTo(b.v());
 		}
 	};
@@ -356,7 +400,9 @@ public class UnboundedIntAlgebra
 	{
 		@Override
 		public java.lang.Integer call(UnboundedIntMember a) {
-			return a.v().signum();
+			if (a.big == null)
+				return Long.signum(a.small);
+			return a.big.signum();
 		}
 	};
 
@@ -370,6 +416,10 @@ public class UnboundedIntAlgebra
 	{
 		@Override
 		public void call(UnboundedIntMember a, UnboundedIntMember b,UnboundedIntMember c) {
+			if (smallDivisible(a, b)) {
+				c.setV(a.small / b.small);
+				return;
+			}
 			c.setV( a.v().divide(b.v()) );
 		}
 	};
@@ -384,6 +434,10 @@ public class UnboundedIntAlgebra
 	{
 		@Override
 		public void call(UnboundedIntMember a, UnboundedIntMember b,UnboundedIntMember c) {
+			if (smallDivisible(a, b)) {
+				c.setV(a.small % b.small);
+				return;
+			}
 			c.setV( a.v().remainder(b.v()) );
 		}
 	};
@@ -398,6 +452,13 @@ public class UnboundedIntAlgebra
 	{
 		@Override
 		public void call(UnboundedIntMember a, UnboundedIntMember b,UnboundedIntMember d,UnboundedIntMember m) {
+			if (smallDivisible(a, b)) {
+				long q = a.small / b.small;
+				long r = a.small % b.small;
+				d.setV(q);
+				m.setV(r);
+				return;
+			}
 			BigInteger[] results = a.v().divideAndRemainder(b.v());
 			d.setV(results[0]);
 			m.setV(results[1]);
@@ -414,6 +475,12 @@ public class UnboundedIntAlgebra
 	{
 		@Override
 		public void call(UnboundedIntMember a, UnboundedIntMember b,UnboundedIntMember c) {
+			if (a.big == null && b.big == null &&
+					a.small != Long.MIN_VALUE && b.small != Long.MIN_VALUE)
+			{
+				c.setV(LongUtils.gcd(Math.abs(a.small), Math.abs(b.small)));
+				return;
+			}
 			c.setV( a.v().gcd(b.v()) );
 		}
 	};
@@ -428,6 +495,22 @@ public class UnboundedIntAlgebra
 	{
 		@Override
 		public void call(UnboundedIntMember a, UnboundedIntMember b,UnboundedIntMember c) {
+			if (a.big == null && b.big == null &&
+					a.small != Long.MIN_VALUE && b.small != Long.MIN_VALUE)
+			{
+				long x = Math.abs(a.small);
+				long y = Math.abs(b.small);
+				if (x == 0 || y == 0) {
+					c.setV(0);
+					return;
+				}
+				try {
+					c.setV(Math.multiplyExact(x / LongUtils.gcd(x, y), y));
+					return;
+				} catch (ArithmeticException e) {
+					// overflow: fall through to the BigInteger path
+				}
+			}
 			BigInteger n = a.v().multiply(b.v()).abs();
 			BigInteger d = a.v().gcd(b.v());
 			c.setV( n.divide(d) );
@@ -463,7 +546,9 @@ public class UnboundedIntAlgebra
 	{
 		@Override
 		public Boolean call(UnboundedIntMember a) {
-			return a.v().and(BigInteger.ONE).equals(BigInteger.ONE);
+			if (a.big == null)
+				return (a.small & 1) != 0;
+			return a.big.testBit(0);
 		}
 	};
 
@@ -519,6 +604,10 @@ public class UnboundedIntAlgebra
 	{
 		@Override
 		public void call(java.lang.Integer count, UnboundedIntMember a, UnboundedIntMember b) {
+			if (a.big == null && count >= 0) {
+				b.setV(a.small >> Math.min(count, 63));
+				return;
+			}
 			b.setV( a.v().shiftRight(count) );
 		}
 	};
@@ -825,7 +914,7 @@ public class UnboundedIntAlgebra
 	{
 		@Override
 		public Boolean call(UnboundedIntMember a) {
-			return a.v().equals(BigInteger.ZERO);
+			return a.big == null && a.small == 0;
 		}
 	};
 
@@ -952,6 +1041,13 @@ public class UnboundedIntAlgebra
 	{
 		@Override
 		public void call(java.lang.Integer numTimes, UnboundedIntMember a, UnboundedIntMember b) {
+			if (a.big == null && numTimes > 0 && numTimes < 63) {
+				long shifted = a.small << numTimes;
+				if ((shifted >> numTimes) == a.small) {
+					b.setV(shifted);
+					return;
+				}
+			}
 			BigInteger tmp = a.v();
 			for (int i = 0; i < numTimes; i++)
 				tmp = tmp.multiply(TWO);
@@ -969,6 +1065,16 @@ public class UnboundedIntAlgebra
 	{
 		@Override
 		public void call(java.lang.Integer numTimes, UnboundedIntMember a, UnboundedIntMember b) {
+			if (a.big == null && numTimes > 0) {
+				// repeated truncating halvings equal one truncating division by 2^n
+				if (numTimes < 63)
+					b.setV(a.small / (1L << numTimes));
+				else if (numTimes == 63 && a.small == Long.MIN_VALUE)
+					b.setV(-1);
+				else
+					b.setV(0);
+				return;
+			}
 			BigInteger tmp = a.v();
 			for (int i = 0; i < numTimes; i++)
 				tmp = tmp.divide(TWO);
@@ -986,7 +1092,7 @@ public class UnboundedIntAlgebra
 	{
 		@Override
 		public Boolean call(UnboundedIntMember a) {
-			return a.v().equals(BigInteger.ONE);
+			return a.big == null && a.small == 1;
 		}
 	};
 
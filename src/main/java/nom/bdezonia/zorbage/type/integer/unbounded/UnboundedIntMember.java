@@ -108,10 +108,14 @@ public final class UnboundedIntMember
 		VaryingSize,
 		ZeroIncludedType
 {
-	private BigInteger v;
+	// values that fit in a long are kept in small and big is null. only
+	// values that do not fit are kept as BigIntegers.
+	
+	long small;
+	BigInteger big;
 	
 	public UnboundedIntMember() {
-		v = BigInteger.ZERO;
+		small = 0;
 	}
 	
 	public UnboundedIntMember(long... vals) {
@@ -129,25 +133,55 @@ public final class UnboundedIntMember
 	public UnboundedIntMember(String value) {
 		TensorStringRepresentation rep = new TensorStringRepresentation(value);
 		OctonionRepresentation val = rep.firstValue();
-		v = val.r().toBigInteger();
+		setV(val.r().toBigInteger());
 	}
 
-	public BigInteger v() { return v; }
+	public BigInteger v() {
+		if (big != null)
+			return big;
+		return BigInteger.valueOf(small);
+	}
 
-	public void setV(BigInteger val) { v = val; }
+	public void setV(BigInteger val) {
+		if (val.bitLength() < 64) {
+			small = val.longValue();
+			big = null;
+		}
+		else
+			big = val;
+	}
+	
+	void setV(long val) {
+		small = val;
+		big = null;
+	}
+	
+	// the low 64 bits of the value like BigInteger.longValue()
+	
+	long longValue() {
+		if (big != null)
+			return big.longValue();
+		return small;
+	}
 	
 	@Override
 	public void set(UnboundedIntMember other) {
-		v = other.v;
+		small = other.small;
+		big = other.big;
 	}
 	
 	@Override
 	public void get(UnboundedIntMember other) {
-		other.v = v;
+		other.small = small;
+		other.big = big;
 	}
 
 	@Override
-	public String toString() { return v.toString(); }
+	public String toString() {
+		if (big != null)
+			return big.toString();
+		return Long.toString(small);
+	}
 
 	@Override
 	public UnboundedIntMember duplicate() {
@@ -166,7 +200,7 @@ public final class UnboundedIntMember
 
 	@Override
 	public void fromRep(TensorOctonionRepresentation rep) {
-		v = rep.getValue().r().toBigInteger();
+		setV(rep.getValue().r().toBigInteger());
 	}
 
 	@Override
@@ -201,42 +235,42 @@ public final class UnboundedIntMember
 
 	@Override
 	public void primComponentSetByte(IntegerIndex index, int component, byte v) {
-		this.v = BigInteger.valueOf(v);
+		setV(v);
 	}
 
 	@Override
 	public void primComponentSetShort(IntegerIndex index, int component, short v) {
-		this.v = BigInteger.valueOf(v);
+		setV(v);
 	}
 
 	@Override
 	public void primComponentSetInt(IntegerIndex index, int component, int v) {
-		this.v = BigInteger.valueOf(v);
+		setV(v);
 	}
 
 	@Override
 	public void primComponentSetLong(IntegerIndex index, int component, long v) {
-		this.v = BigInteger.valueOf(v);
+		setV(v);
 	}
 
 	@Override
 	public void primComponentSetFloat(IntegerIndex index, int component, float v) {
-		this.v = BigDecimal.valueOf(v).toBigInteger();
+		setV(BigDecimal.valueOf(v).toBigInteger());
 	}
 
 	@Override
 	public void primComponentSetDouble(IntegerIndex index, int component, double v) {
-		this.v = BigDecimal.valueOf(v).toBigInteger();
+		setV(BigDecimal.valueOf(v).toBigInteger());
 	}
 
 	@Override
 	public void primComponentSetBigInteger(IntegerIndex index, int component, BigInteger v) {
-		this.v = v;
+		setV(v);
 	}
 
 	@Override
 	public void primComponentSetBigDecimal(IntegerIndex index, int component, BigDecimal v) {
-		this.v = v.toBigInteger();
+		setV(v.toBigInteger());
 	}
 
 	@Override
@@ -259,7 +293,7 @@ public final class UnboundedIntMember
 						"cannot set nonzero value outside extents");
 		}
 		else {
-			this.v = BigInteger.valueOf(v);
+			setV(v);
 		}
 	}
 
@@ -283,7 +317,7 @@ public final class UnboundedIntMember
 						"cannot set nonzero value outside extents");
 		}
 		else {
-			this.v = BigInteger.valueOf(v);
+			setV(v);
 		}
 	}
 
@@ -307,7 +341,7 @@ public final class UnboundedIntMember
 						"cannot set nonzero value outside extents");
 		}
 		else {
-			this.v = BigInteger.valueOf(v);
+			setV(v);
 		}
 	}
 
@@ -331,7 +365,7 @@ public final class UnboundedIntMember
 						"cannot set nonzero value outside extents");
 		}
 		else {
-			this.v = BigInteger.valueOf(v);
+			setV(v);
 		}
 	}
 
@@ -355,7 +389,7 @@ public final class UnboundedIntMember
 						"cannot set nonzero value outside extents");
 		}
 		else {
-			this.v = BigDecimal.valueOf(v).toBigInteger();
+			setV(BigDecimal.valueOf(v).toBigInteger());
 		}
 	}
 
@@ -379,7 +413,7 @@ public final class UnboundedIntMember
 						"cannot set nonzero value outside extents");
 		}
 		else {
-			this.v = BigDecimal.valueOf(v).toBigInteger();
+			setV(BigDecimal.valueOf(v).toBigInteger());
 		}
 	}
 
@@ -403,7 +437,7 @@ public final class UnboundedIntMember
 						"cannot set nonzero value outside extents");
 		}
 		else {
-			this.v = v;
+			setV(v);
 		}
 	}
 
@@ -427,7 +461,7 @@ public final class UnboundedIntMember
 						"cannot set nonzero value outside extents");
 		}
 		else {
-			this.v = v.toBigInteger();
+			setV(v.toBigInteger());
 		}
 	}
 
@@ -436,7 +470,7 @@ public final class UnboundedIntMember
 		if (component < 0)
 			throw new IllegalArgumentException(
 					"negative component index error");
-		if (component == 0) return v.byteValue();
+		if (component == 0) return (byte) longValue();
 		return 0;
 	}
 
@@ -445,7 +479,7 @@ public final class UnboundedIntMember
 		if (component < 0)
 			throw new IllegalArgumentException(
 					"negative component index error");
-		if (component == 0) return v.shortValue();
+		if (component == 0) return (short) longValue();
 		return 0;
 	}
 
@@ -454,7 +488,7 @@ public final class UnboundedIntMember
 		if (component < 0)
 			throw new IllegalArgumentException(
 					"negative component index error");
-		if (component == 0) return v.intValue();
+		if (component == 0) return (int) longValue();
 		return 0;
 	}
 
@@ -463,7 +497,7 @@ public final class UnboundedIntMember
 		if (component < 0)
 			throw new IllegalArgumentException(
 					"negative component index error");
-		if (component == 0) return v.longValue();
+		if (component == 0) return longValue();
 		return 0;
 	}
 
@@ -472,7 +506,7 @@ public final class UnboundedIntMember
 		if (component < 0)
 			throw new IllegalArgumentException(
 					"negative component index error");
-		if (component == 0) return v.longValue();
+		if (component == 0) return longValue();
 		return 0;
 	}
 
@@ -481,7 +515,7 @@ public final class UnboundedIntMember
 		if (component < 0)
 			throw new IllegalArgumentException(
 					"negative component index error");
-		if (component == 0) return v.longValue();
+		if (component == 0) return longValue();
 		return 0;
 	}
 
@@ -490,7 +524,7 @@ public final class UnboundedIntMember
 		if (component < 0)
 			throw new IllegalArgumentException(
 					"negative component index error");
-		if (component == 0) return v;
+		if (component == 0) return v();
 		return BigInteger.ZERO;
 	}
 
@@ -499,7 +533,7 @@ public final class UnboundedIntMember
 		if (component < 0)
 			throw new IllegalArgumentException(
 					"negative component index error");
-		if (component == 0) return new BigDecimal(v);
+		if (component == 0) return new BigDecimal(v());
 		return BigDecimal.ZERO;
 	}
 
@@ -521,7 +555,7 @@ public final class UnboundedIntMember
 			return 0;
 		}
 		else {
-			return v.byteValue();
+			return (byte) longValue();
 		}
 	}
 
@@ -543,7 +577,7 @@ public final class UnboundedIntMember
 			return 0;
 		}
 		else {
-			return v.shortValue();
+			return (short) longValue();
 		}
 	}
 
@@ -565,7 +599,7 @@ public final class UnboundedIntMember
 			return 0;
 		}
 		else {
-			return v.intValue();
+			return (int) longValue();
 		}
 	}
 
@@ -587,7 +621,7 @@ public final class UnboundedIntMember
 			return 0;
 		}
 		else {
-			return v.longValue();
+			return longValue();
 		}
 	}
 
@@ -609,7 +643,7 @@ public final class UnboundedIntMember
 			return 0;
 		}
 		else {
-			return v.longValue();
+			return longValue();
 		}
 	}
 
@@ -631,7 +665,7 @@ public final class UnboundedIntMember
 			return 0;
 		}
 		else {
-			return v.longValue();
+			return longValue();
 		}
 	}
 
@@ -653,7 +687,7 @@ public final class UnboundedIntMember
 			return BigInteger.ZERO;
 		}
 		else {
-			return v;
+			return v();
 		}
 	}
 
@@ -675,13 +709,13 @@ public final class UnboundedIntMember
 			return BigDecimal.ZERO;
 		}
 		else {
-			return new BigDecimal(v);
+			return new BigDecimal(v());
 		}
 	}
 
 	@Override
 	public void primitiveInit() {
-		v = BigInteger.ZERO;
+		setV(0);
 	}
 
 	@Override
@@ -706,12 +740,12 @@ public final class UnboundedIntMember
 
 	@Override
 	public void fromBigIntegerArray(BigInteger[] arr, int index) {
-		v = arr[index];
+		setV(arr[index]);
 	}
 
 	@Override
 	public void toBigIntegerArray(BigInteger[] arr, int index) {
-		arr[index] = v;
+		arr[index] = v();
 	}
 
 	@Override
@@ -722,7 +756,7 @@ public final class UnboundedIntMember
 	@Override
 	public int hashCode() {
 		int v = 1;
-		v = Hasher.PRIME * v + Hasher.hashCode(this.v);
+		v = Hasher.PRIME * v + Hasher.hashCode(v());
 		return v;
 	}
 	
@@ -750,7 +784,7 @@ public final class UnboundedIntMember
 	public void setFromLongs(long... vals) {
 		if (vals.length != 1)
 			throw new IllegalArgumentException("mismatch between component count and input values count");
-		setV(BigInteger.valueOf(vals[0]));
+		setV(vals[0]);
 	}
 
 	@Override
@@ -819,7 +853,9 @@ public final class UnboundedIntMember
 
 	@Override
 	public double getAsDouble() {
-		return v().doubleValue();
+		if (big != null)
+			return big.doubleValue();
+		return small;
 	}
 
 	@Override
@@ -829,7 +865,9 @@ public final class UnboundedIntMember
 
 	@Override
 	public float getAsFloat() {
-		return v().floatValue();
+		if (big != null)
+			return big.floatValue();
+		return small;
 	}
 
 	@Override
@@ -839,7 +877,7 @@ public final class UnboundedIntMember
 
 	@Override
 	public long getAsLong() {
-		return v().longValue();
+		return longValue();
 	}
 
 	@Override
@@ -849,7 +887,7 @@ public final class UnboundedIntMember
 
 	@Override
 	public int getAsInt() {
-		return v().intValue();
+		return (int) longValue();
 	}
 
 	@Override
@@ -859,7 +897,7 @@ public final class UnboundedIntMember
 
 	@Override
 	public short getAsShort() {
-		return v().shortValue();
+		return (short) longValue();
 	}
 
 	@Override
@@ -869,7 +907,7 @@ public final class UnboundedIntMember
 
 	@Override
 	public byte getAsByte() {
-		return v().byteValue();
+		return (byte) longValue();
 	}
 
 	@Override
@@ -912,7 +950,7 @@ public final class UnboundedIntMember
 	public void setFromInts(int... vals) {
 		if (vals.length != 1)
 			throw new IllegalArgumentException("mismatch between component count and input values count");
-		setV(BigInteger.valueOf(vals[0]));
+		setV(vals[0]);
 	}
 
 	@Override
@@ -924,7 +962,7 @@ public final class UnboundedIntMember
 	public void setFromShorts(short... vals) {
 		if (vals.length != 1)
 			throw new IllegalArgumentException("mismatch between component count and input values count");
-		setV(BigInteger.valueOf(vals[0]));
+		setV(vals[0]);
 	}
 
 	@Override
@@ -936,7 +974,7 @@ public final class UnboundedIntMember
 	public void setFromBytes(byte... vals) {
 		if (vals.length != 1)
 			throw new IllegalArgumentException("mismatch between component count and input values count");
-		setV(BigInteger.valueOf(vals[0]));
+		setV(vals[0]);
 	}
 	
 	@Override
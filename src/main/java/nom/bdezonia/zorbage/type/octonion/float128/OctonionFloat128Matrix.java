@@ -401,7 +401,7 @@ public class OctonionFloat128Matrix
 	{
 		@Override
 		public void call(OctonionFloat128MatrixMember a, OctonionFloat128Member b) {
-			MatrixDeterminant.compute(G.OQUAD_MAT, G.OQUAD, a, b);
+			MatrixDeterminant.compute(G.OQUAD_MAT, G.OQUAD, G.QUAD, a, b);
 		}
 	};
 	
@@ -429,7 +429,7 @@ public class OctonionFloat128Matrix
 	{
 		@Override
 		public void call(OctonionFloat128MatrixMember a, OctonionFloat128MatrixMember b) {
-			MatrixInvert.compute(G.OQUAD, G.OQUAD_RMOD, G.OQUAD_MAT, a, b);
+			MatrixInvert.compute(G.OQUAD, G.QUAD, G.OQUAD_RMOD, G.OQUAD_MAT, a, b);
 		}
 	};
 	
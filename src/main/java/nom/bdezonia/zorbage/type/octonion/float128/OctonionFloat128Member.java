@@ -46,6 +46,7 @@ import nom.bdezonia.zorbage.algebra.type.markers.UnityIncludedType;
 import nom.bdezonia.zorbage.algebra.type.markers.ZeroIncludedType;
 import nom.bdezonia.zorbage.sampling.IntegerIndex;
 import nom.bdezonia.zorbage.storage.coder.ByteCoder;
+import nom.bdezonia.zorbage.storage.coder.LongCoder;
 import nom.bdezonia.zorbage.misc.Hasher;
 import nom.bdezonia.zorbage.type.real.float128.Float128Member;
 import nom.bdezonia.zorbage.type.universal.OctonionRepresentation;
@@ -63,6 +64,7 @@ import nom.bdezonia.zorbage.type.universal.UniversalRepresentation;
 public final class OctonionFloat128Member
 	implements
 		NumberMember<OctonionFloat128Member>,
+		LongCoder,
 		ByteCoder,
 		Allocatable<OctonionFloat128Member>, Duplicatable<OctonionFloat128Member>,
 		Settable<OctonionFloat128Member>, Gettable<OctonionFloat128Member>,
@@ -251,6 +253,35 @@ public final class OctonionFloat128Member
 		return builder.toString();
 	}
 
+	@Override
+	public int longCount() {
+		return 16;
+	}
+
+	@Override
+	public void fromLongArray(long[] arr, int index) {
+		r.fromLongArray(arr, index);
+		i.fromLongArray(arr, index+2);
+		j.fromLongArray(arr, index+4);
+		k.fromLongArray(arr, index+6);
+		l.fromLongArray(arr, index+8);
+		i0.fromLongArray(arr, index+10);
+		j0.fromLongArray(arr, index+12);
+		k0.fromLongArray(arr, index+14);
+	}
+
+	@Override
+	public void toLongArray(long[] arr, int index) {
+		r.toLongArray(arr, index);
+		i.toLongArray(arr, index+2);
+		j.toLongArray(arr, index+4);
+		k.toLongArray(arr, index+6);
+		l.toLongArray(arr, index+8);
+		i0.toLongArray(arr, index+10);
+		j0.toLongArray(arr, index+12);
+		k0.toLongArray(arr, index+14);
+	}
+
 	@Override
 	public int byteCount() {
 		return 128;
@@ -401,7 +401,7 @@ public class OctonionFloat16Matrix
 	{
 		@Override
 		public void call(OctonionFloat16MatrixMember a, OctonionFloat16Member b) {
-			MatrixDeterminant.compute(G.OHLF_MAT, G.OHLF, a, b);
+			MatrixDeterminant.compute(G.OHLF_MAT, G.OHLF, G.HLF, a, b);
 		}
 	};
 	
@@ -429,7 +429,7 @@ public class OctonionFloat16Matrix
 	{
 		@Override
 		public void call(OctonionFloat16MatrixMember a, OctonionFloat16MatrixMember b) {
-			MatrixInvert.compute(G.OHLF, G.OHLF_RMOD, G.OHLF_MAT, a, b);
+			MatrixInvert.compute(G.OHLF, G.HLF, G.OHLF_RMOD, G.OHLF_MAT, a, b);
 		}
 	};
 	
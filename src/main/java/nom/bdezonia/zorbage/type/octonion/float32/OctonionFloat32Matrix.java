@@ -401,7 +401,7 @@ public class OctonionFloat32Matrix
 	{
 		@Override
 		public void call(OctonionFloat32MatrixMember a, OctonionFloat32Member b) {
-			MatrixDeterminant.compute(G.OFLT_MAT, G.OFLT, a, b);
+			MatrixDeterminant.compute(G.OFLT_MAT, G.OFLT, G.FLT, a, b);
 		}
 	};
 	
@@ -429,7 +429,7 @@ public class OctonionFloat32Matrix
 	{
 		@Override
 		public void call(OctonionFloat32MatrixMember a, OctonionFloat32MatrixMember b) {
-			MatrixInvert.compute(G.OFLT, G.OFLT_RMOD, G.OFLT_MAT, a, b);
+			MatrixInvert.compute(G.OFLT, G.FLT, G.OFLT_RMOD, G.OFLT_MAT, a, b);
 		}
 	};
 	
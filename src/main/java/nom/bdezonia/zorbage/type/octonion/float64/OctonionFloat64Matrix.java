@@ -401,7 +401,7 @@ public class OctonionFloat64Matrix
 	{
 		@Override
 		public void call(OctonionFloat64MatrixMember a, OctonionFloat64Member b) {
-			MatrixDeterminant.compute(G.ODBL_MAT, G.ODBL, a, b);
+			MatrixDeterminant.compute(G.ODBL_MAT, G.ODBL, G.DBL, a, b);
 		}
 	};
 	
@@ -429,7 +429,7 @@ public class OctonionFloat64Matrix
 	{
 		@Override
 		public void call(OctonionFloat64MatrixMember a, OctonionFloat64MatrixMember b) {
-			MatrixInvert.compute(G.ODBL, G.ODBL_RMOD, G.ODBL_MAT, a, b);
+			MatrixInvert.compute(G.ODBL, G.DBL, G.ODBL_RMOD, G.ODBL_MAT, a, b);
 		}
 	};
 	
@@ -110,7 +110,9 @@ public class OctonionHighPrecisionAlgebra
 	private static final OctonionHighPrecisionMember J0 = new OctonionHighPrecisionMember(BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ONE, BigDecimal.ZERO);
 	private static final OctonionHighPrecisionMember K0 = new OctonionHighPrecisionMember(BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ONE);
 
-	private static MathContext context = HighPrecisionAlgebra.getContext();
+	private static MathContext context() {
+		return HighPrecisionAlgebra.getContext();
+	}
 
 	@Override
 	public String typeDescription() {
@@ -170,140 +172,140 @@ public class OctonionHighPrecisionAlgebra
 			OctonionHighPrecisionMember tmp = new OctonionHighPrecisionMember(ZERO);
 	
 			// r * r = r
-			tmp.setR(a.r().multiply(b.r(), context));
+			tmp.setR(a.r().multiply(b.r(), context()));
 			// r * i = i
-			tmp.setI(a.r().multiply(b.i(), context));
+			tmp.setI(a.r().multiply(b.i(), context()));
 			// r * j = j
-			tmp.setJ(a.r().multiply(b.j(), context));
+			tmp.setJ(a.r().multiply(b.j(), context()));
 			// r * k = k
-			tmp.setK(a.r().multiply(b.k(), context));
+			tmp.setK(a.r().multiply(b.k(), context()));
 			// r * l = l
-			tmp.setL(a.r().multiply(b.l(), context));
+			tmp.setL(a.r().multiply(b.l(), context()));
 			// r * i0 = i0
-			tmp.setI0(a.r().multiply(b.i0(), context));
+			tmp.setI0(a.r().multiply(b.i0(), context()));
 			// r * j0 = j0
-			tmp.setJ0(a.r().multiply(b.j0(), context));
+			tmp.setJ0(a.r().multiply(b.j0(), context()));
 			// r * k0 = k0
-			tmp.setK0(a.r().multiply(b.k0(), context));
+			tmp.setK0(a.r().multiply(b.k0(), context()));
 	
 			// i * r = i
-			tmp.setI(tmp.i().add(a.i().multiply(b.r(), context)));
+			tmp.setI(tmp.i().add(a.i().multiply(b.r(), context())));
 			// i * i = −r
-			tmp.setR(tmp.r().subtract(a.i().multiply(b.i(), context)));
+			tmp.setR(tmp.r().subtract(a.i().multiply(b.i(), context())));
 			// i * j = k
-			tmp.setK(tmp.k().add(a.i().multiply(b.j(), context)));
+			tmp.setK(tmp.k().add(a.i().multiply(b.j(), context())));
 			// i * k = −j
-			tmp.setJ(tmp.j().subtract(a.i().multiply(b.k(), context)));
+			tmp.setJ(tmp.j().subtract(a.i().multiply(b.k(), context())));
 			// i * l = i0
-			tmp.setI0(tmp.i0().add(a.i().multiply(b.l(), context)));
+			tmp.setI0(tmp.i0().add(a.i().multiply(b.l(), context())));
 			// i * i0 = −l
-			tmp.setL(tmp.l().subtract(a.i().multiply(b.i0(), context)));
+			tmp.setL(tmp.l().subtract(a.i().multiply(b.i0(), context())));
 			// i * j0 = −k0
-			tmp.setK0(tmp.k0().subtract(a.i().multiply(b.j0(), context)));
+			tmp.setK0(tmp.k0().subtract(a.i().multiply(b.j0(), context())));
 			// i * k0 = j0
-			tmp.setJ0(tmp.j0().add(a.i().multiply(b.k0(), context)));
+			tmp.setJ0(tmp.j0().add(a.i().multiply(b.k0(), context())));
 	
 			// j * r = j
-			tmp.setJ(tmp.j().add(a.j().multiply(b.r(), context)));
+			tmp.setJ(tmp.j().add(a.j().multiply(b.r(), context())));
 			// j * i = −k
-			tmp.setK(tmp.k().subtract(a.j().multiply(b.i(), context)));
+			tmp.setK(tmp.k().subtract(a.j().multiply(b.i(), context())));
 			// j * j = −r
-			tmp.setR(tmp.r().subtract(a.j().multiply(b.j(), context)));
+			tmp.setR(tmp.r().subtract(a.j().multiply(b.j(), context())));
 			// j * k = i
-			tmp.setI(tmp.i().add(a.j().multiply(b.k(), context)));
+			tmp.setI(tmp.i().add(a.j().multiply(b.k(), context())));
 			// j * l = j0
-			tmp.setJ0(tmp.j0().add(a.j().multiply(b.l(), context)));
+			tmp.setJ0(tmp.j0().add(a.j().multiply(b.l(), context())));
 			// j * i0 = k0
-			tmp.setK0(tmp.k0().add(a.j().multiply(b.i0(), context)));
+			tmp.setK0(tmp.k0().add(a.j().multiply(b.i0(), context())));
 			// j * j0 = −l
-			tmp.setL(tmp.l().subtract(a.j().multiply(b.j0(), context)));
+			tmp.setL(tmp.l().subtract(a.j().multiply(b.j0(), context())));
 			// j * k0 = -i0
-			tmp.setI0(tmp.i0().subtract(a.j().multiply(b.k0(), context)));
+			tmp.setI0(tmp.i0().subtract(a.j().multiply(b.k0(), context())));
 	
 			// k * r = k
-			tmp.setK(tmp.k().add(a.k().multiply(b.r(), context)));
+			tmp.setK(tmp.k().add(a.k().multiply(b.r(), context())));
 			// k * i = j
-			tmp.setJ(tmp.j().add(a.k().multiply(b.i(), context)));
+			tmp.setJ(tmp.j().add(a.k().multiply(b.i(), context())));
 			// k * j = −i
-			tmp.setI(tmp.i().subtract(a.k().multiply(b.j(), context)));
+			tmp.setI(tmp.i().subtract(a.k().multiply(b.j(), context())));
 			// k * k = −r
-			tmp.setR(tmp.r().subtract(a.k().multiply(b.k(), context)));
+			tmp.setR(tmp.r().subtract(a.k().multiply(b.k(), context())));
 			// k * l = k0
-			tmp.setK0(tmp.k0().add(a.k().multiply(b.l(), context)));
+			tmp.setK0(tmp.k0().add(a.k().multiply(b.l(), context())));
 			// k * i0 = −j0
-			tmp.setJ0(tmp.j0().subtract(a.k().multiply(b.i0(), context)));
+			tmp.setJ0(tmp.j0().subtract(a.k().multiply(b.i0(), context())));
 			// k * j0 = i0
-			tmp.setI0(tmp.i0().add(a.k().multiply(b.j0(), context)));
+			tmp.setI0(tmp.i0().add(a.k().multiply(b.j0(), context())));
 			// k * k0 = −l
-			tmp.setL(tmp.l().subtract(a.k().multiply(b.k0(), context)));
+			tmp.setL(tmp.l().subtract(a.k().multiply(b.k0(), context())));
 	 
 			// l * r = l
-			tmp.setL(tmp.l().add(a.l().multiply(b.r(), context)));
+			tmp.setL(tmp.l().add(a.l().multiply(b.r(), context())));
 			// l * i = −i0
-			tmp.setI0(tmp.i0().subtract(a.l().multiply(b.i(), context)));
+			tmp.setI0(tmp.i0().subtract(a.l().multiply(b.i(), context())));
 			// l * j = −j0
-			tmp.setJ0(tmp.j0().subtract(a.l().multiply(b.j(), context)));
+			tmp.setJ0(tmp.j0().subtract(a.l().multiply(b.j(), context())));
 			// l * k = −k0
-			tmp.setK0(tmp.k0().subtract(a.l().multiply(b.k(), context)));
+			tmp.setK0(tmp.k0().subtract(a.l().multiply(b.k(), context())));
 			// l * l = −r
-			tmp.setR(tmp.r().subtract(a.l().multiply(b.l(), context)));
+			tmp.setR(tmp.r().subtract(a.l().multiply(b.l(), context())));
 			// l * i0 = i
-			tmp.setI(tmp.i().add(a.l().multiply(b.i0(), context)));
+			tmp.setI(tmp.i().add(a.l().multiply(b.i0(), context())));
 			// l * j0 = j
-			tmp.setJ(tmp.j().add(a.l().multiply(b.j0(), context)));
+			tmp.setJ(tmp.j().add(a.l().multiply(b.j0(), context())));
 			// l * k0 = k
-			tmp.setK(tmp.k().add(a.l().multiply(b.k0(), context)));
+			tmp.setK(tmp.k().add(a.l().multiply(b.k0(), context())));
 	
 			// i0 * r = i0
-			tmp.setI0(tmp.i0().add(a.i0().multiply(b.r(), context)));
+			tmp.setI0(tmp.i0().add(a.i0().multiply(b.r(), context())));
 			// i0 * i = l
-			tmp.setL(tmp.l().add(a.i0().multiply(b.i(), context)));
+			tmp.setL(tmp.l().add(a.i0().multiply(b.i(), context())));
 			// i0 * j = −k0
-			tmp.setK0(tmp.k0().subtract(a.i0().multiply(b.j(), context)));
+			tmp.setK0(tmp.k0().subtract(a.i0().multiply(b.j(), context())));
 			// i0 * k = j0
-			tmp.setJ0(tmp.j0().add(a.i0().multiply(b.k(), context)));
+			tmp.setJ0(tmp.j0().add(a.i0().multiply(b.k(), context())));
 			// i0 * l = −i
-			tmp.setI(tmp.i().subtract(a.i0().multiply(b.l(), context)));
+			tmp.setI(tmp.i().subtract(a.i0().multiply(b.l(), context())));
 			// i0 * i0 = −r
-			tmp.setR(tmp.r().subtract(a.i0().multiply(b.i0(), context)));
+			tmp.setR(tmp.r().subtract(a.i0().multiply(b.i0(), context())));
 			// i0 * j0 = −k
-			tmp.setK(tmp.k().subtract(a.i0().multiply(b.j0(), context)));
+			tmp.setK(tmp.k().subtract(a.i0().multiply(b.j0(), context())));
 			// i0 * k0 = j
-			tmp.setJ(tmp.j().add(a.i0().multiply(b.k0(), context)));
+			tmp.setJ(tmp.j().add(a.i0().multiply(b.k0(), context())));
 			
 			// j0 * r = j0
-			tmp.setJ0(tmp.j0().add(a.j0().multiply(b.r(), context)));
+			tmp.setJ0(tmp.j0().add(a.j0().multiply(b.r(), context())));
 			// j0 * i = k0
-			tmp.setK0(tmp.k0().add(a.j0().multiply(b.i(), context)));
+			tmp.setK0(tmp.k0().add(a.j0().multiply(b.i(), context())));
 			// j0 * j = l
-			tmp.setL(tmp.l().add(a.j0().multiply(b.j(), context)));
+			tmp.setL(tmp.l().add(a.j0().multiply(b.j(), context())));
 			// j0 * k = −i0
-			tmp.setI0(tmp.i0().subtract(a.j0().multiply(b.k(), context)));
+			tmp.setI0(tmp.i0().subtract(a.j0().multiply(b.k(), context())));
 			// j0 * l = −j
-			tmp.setJ(tmp.j().subtract(a.j0().multiply(b.l(), context)));
+			tmp.setJ(tmp.j().subtract(a.j0().multiply(b.l(), context())));
 			// j0 * i0 = k
-			tmp.setK(tmp.k().add(a.j0().multiply(b.i0(), context)));
+			tmp.setK(tmp.k().add(a.j0().multiply(b.i0(), context())));
 			// j0 * j0 = −r
-			tmp.setR(tmp.r().subtract(a.j0().multiply(b.j0(), context)));
+			tmp.setR(tmp.r().subtract(a.j0().multiply(b.j0(), context())));
 			// j0 * k0 = −i
-			tmp.setI(tmp.i().subtract(a.j0().multiply(b.k0(), context)));
+			tmp.setI(tmp.i().subtract(a.j0().multiply(b.k0(), context())));
 			
 			// k0 * r = k0
-			tmp.setK0(tmp.k0().add(a.k0().multiply(b.r(), context)));
+			tmp.setK0(tmp.k0().add(a.k0().multiply(b.r(), context())));
 			// k0 * i = −j0
-			tmp.setJ0(tmp.j0().subtract(a.k0().multiply(b.i(), context)));
+			tmp.setJ0(tmp.j0().subtract(a.k0().multiply(b.i(), context())));
 			// k0 * j = i0
-			tmp.setI0(tmp.i0().add(a.k0().multiply(b.j(), context)));
+			tmp.setI0(tmp.i0().add(a.k0().multiply(b.j(), context())));
 			// k0 * k = l
-			tmp.setL(tmp.l().add(a.k0().multiply(b.k(), context)));
+			tmp.setL(tmp.l().add(a.k0().multiply(b.k(), context())));
 			// k0 * l = −k
-			tmp.setK(tmp.k().subtract(a.k0().multiply(b.l(), context)));
+			tmp.setK(tmp.k().subtract(a.k0().multiply(b.l(), context())));
 			// k0 * i0 = −j
-			tmp.setJ(tmp.j().subtract(a.k0().multiply(b.i0(), context)));
+			tmp.setJ(tmp.j().subtract(a.k0().multiply(b.i0(), context())));
 			// k0 * j0 = i
-			tmp.setI(tmp.i().add(a.k0().multiply(b.j0(), context)));
+			tmp.setI(tmp.i().add(a.k0().multiply(b.j0(), context())));
 			// k0 * k0 = −r
-			tmp.setR(tmp.r().subtract(a.k0().multiply(b.k0(), context)));
+			tmp.setR(tmp.r().subtract(a.k0().multiply(b.k0(), context())));
 			
 			assign().call(tmp, c);
 		}
@@ -448,14 +450,14 @@ public class OctonionHighPrecisionAlgebra
 		public void call(OctonionHighPrecisionMember a, OctonionHighPrecisionMember b) {
 			BigDecimal norm2 = norm2(a);
 			conjugate().call(a, b);
-			b.setR( b.r().divide(norm2, context) );
-			b.setI( b.i().divide(norm2, context) );
-			b.setJ( b.j().divide(norm2, context) );
-			b.setK( b.k().divide(norm2, context) );
-			b.setL( b.l().divide(norm2, context) );
-			b.setI0( b.i0().divide(norm2, context) );
-			b.setJ0( b.j0().divide(norm2, context) );
-			b.setK0( b.k0().divide(norm2, context) );
+			b.setR( b.r().divide(norm2, context()) );
+			b.setI( b.i().divide(norm2, context()) );
+			b.setJ( b.j().divide(norm2, context()) );
+			b.setK( b.k().divide(norm2, context()) );
+			b.setL( b.l().divide(norm2, context()) );
+			b.setI0( b.i0().divide(norm2, context()) );
+			b.setJ0( b.j0().divide(norm2, context()) );
+			b.setK0( b.k0().divide(norm2, context()) );
 		}
 	};
 	
@@ -495,20 +497,20 @@ public class OctonionHighPrecisionAlgebra
 	}
 
 	private BigDecimal norm(OctonionHighPrecisionMember a) {
-		BigDecimal sum = (a.r().multiply(a.r(), context));
-		sum = sum.add(a.i().multiply(a.i(), context));
-		sum = sum.add(a.j().multiply(a.j(), context));
-		sum = sum.add(a.k().multiply(a.k(), context));
-		sum = sum.add(a.l().multiply(a.l(), context));
-		sum = sum.add(a.i0().multiply(a.i0(), context));
-		sum = sum.add(a.j0().multiply(a.j0(), context));
-		sum = sum.add(a.k0().multiply(a.k0(), context));
-		return BigDecimalMath.sqrt(sum, context);
+		BigDecimal sum = (a.r().multiply(a.r(), context()));
+		sum = sum.add(a.i().multiply(a.i(), context()));
+		sum = sum.add(a.j().multiply(a.j(), context()));
+		sum = sum.add(a.k().multiply(a.k(), context()));
+		sum = sum.add(a.l().multiply(a.l(), context()));
+		sum = sum.add(a.i0().multiply(a.i0(), context()));
+		sum = sum.add(a.j0().multiply(a.j0(), context()));
+		sum = sum.add(a.k0().multiply(a.k0(), context()));
+		return BigDecimalMath.sqrt(sum, context());
 	}
 	
 	private BigDecimal norm2(OctonionHighPrecisionMember a) {
 		BigDecimal norm = norm(a);
-		return norm.multiply(norm, context);
+		return norm.multiply(norm, context());
 	}
 
 	private final Procedure2<OctonionHighPrecisionMember,OctonionHighPrecisionMember> CONJ =
@@ -857,19 +859,19 @@ public class OctonionHighPrecisionAlgebra
 			unreal().call(a, tmp);
 			norm().call(tmp, z);
 			G.HP.sinch().call(z, z2);
-			BigDecimal cos = BigDecimalMath.cos(a.r(), context);
-			BigDecimal sin = BigDecimalMath.sin(a.r(), context);
+			BigDecimal cos = BigDecimalMath.cos(a.r(), context());
+			BigDecimal sin = BigDecimalMath.sin(a.r(), context());
 			BigDecimal sinhc_pi = z2.v();
-			BigDecimal cosh = BigDecimalMath.cosh(z.v(), context);
-			BigDecimal ws = cos.multiply(sinhc_pi, context);
-			b.setR((sin.multiply(cosh, context)));
-			b.setI((ws.multiply(a.i(), context)));
-			b.setJ((ws.multiply(a.j(), context)));
-			b.setK((ws.multiply(a.k(), context)));
-			b.setL((ws.multiply(a.l(), context)));
-			b.setI0((ws.multiply(a.i0(), context)));
-			b.setJ0((ws.multiply(a.j0(), context)));
-			b.setK0((ws.multiply(a.k0(), context)));
+			BigDecimal cosh = BigDecimalMath.cosh(z.v(), context());
+			BigDecimal ws = cos.multiply(sinhc_pi, context());
+			b.setR((sin.multiply(cosh, context())));
+			b.setI((ws.multiply(a.i(), context())));
+			b.setJ((ws.multiply(a.j(), context())));
+			b.setK((ws.multiply(a.k(), context())));
+			b.setL((ws.multiply(a.l(), context())));
+			b.setI0((ws.multiply(a.i0(), context())));
+			b.setJ0((ws.multiply(a.j0(), context())));
+			b.setK0((ws.multiply(a.k0(), context())));
 		}
 	};
 	
@@ -889,19 +891,19 @@ public class OctonionHighPrecisionAlgebra
 			unreal().call(a, tmp);
 			norm().call(tmp, z);
 			G.HP.sinch().call(z, z2);
-			BigDecimal cos = BigDecimalMath.cos(a.r(), context);
-			BigDecimal sin = BigDecimalMath.sin(a.r(), context);
+			BigDecimal cos = BigDecimalMath.cos(a.r(), context());
+			BigDecimal sin = BigDecimalMath.sin(a.r(), context());
 			BigDecimal sinhc_pi = z2.v();
-			BigDecimal cosh = BigDecimalMath.cosh(z.v(), context);
-			BigDecimal wc = sin.negate().multiply(sinhc_pi, context);
-			b.setR((cos.multiply(cosh, context)));
-			b.setI((wc.multiply(a.i(), context)));
-			b.setJ((wc.multiply(a.j(), context)));
-			b.setK((wc.multiply(a.k(), context)));
-			b.setL((wc.multiply(a.l(), context)));
-			b.setI0((wc.multiply(a.i0(), context)));
-			b.setJ0((wc.multiply(a.j0(), context)));
-			b.setK0((wc.multiply(a.k0(), context)));
+			BigDecimal cosh = BigDecimalMath.cosh(z.v(), context());
+			BigDecimal wc = sin.negate().multiply(sinhc_pi, context());
+			b.setR((cos.multiply(cosh, context())));
+			b.setI((wc.multiply(a.i(), context())));
+			b.setJ((wc.multiply(a.j(), context())));
+			b.setK((wc.multiply(a.k(), context())));
+			b.setL((wc.multiply(a.l(), context())));
+			b.setI0((wc.multiply(a.i0(), context())));
+			b.setJ0((wc.multiply(a.j0(), context())));
+			b.setK0((wc.multiply(a.k0(), context())));
 		}
 	};
 	
@@ -921,28 +923,28 @@ public class OctonionHighPrecisionAlgebra
 			unreal().call(a, tmp);
 			norm().call(tmp, z);
 			G.HP.sinch().call(z, z2);
-			BigDecimal cos = BigDecimalMath.cos(a.r(), context);
-			BigDecimal sin = BigDecimalMath.sin(a.r(), context);
+			BigDecimal cos = BigDecimalMath.cos(a.r(), context());
+			BigDecimal sin = BigDecimalMath.sin(a.r(), context());
 			BigDecimal sinhc_pi = z2.v();
-			BigDecimal cosh = BigDecimalMath.cosh(z.v(), context);
-			BigDecimal ws = cos.multiply(sinhc_pi, context);
-			BigDecimal wc = sin.negate().multiply(sinhc_pi, context);
-			s.setR((sin.multiply(cosh, context)));
-			s.setI((ws.multiply(a.i(), context)));
-			s.setJ((ws.multiply(a.j(), context)));
-			s.setK((ws.multiply(a.k(), context)));
-			s.setL((ws.multiply(a.l(), context)));
-			s.setI0((ws.multiply(a.i0(), context)));
-			s.setJ0((ws.multiply(a.j0(), context)));
-			s.setK0((ws.multiply(a.k0(), context)));
-			c.setR(((cos.multiply(cosh, context))));
-			c.setI(((wc.multiply(a.i(), context))));
-			c.setJ(((wc.multiply(a.j(), context))));
-			c.setK((wc.multiply(a.k(), context)));
-			c.setL((wc.multiply(a.l(), context)));
-			c.setI0((wc.multiply(a.i0(), context)));
-			c.setJ0((wc.multiply(a.j0(), context)));
-			c.setK0((wc.multiply(a.k0(), context)));
+			BigDecimal cosh = BigDecimalMath.cosh(z.v(), context());
+			BigDecimal ws = cos.multiply(sinhc_pi, context());
+			BigDecimal wc = sin.negate().multiply(sinhc_pi, context());
+			s.setR((sin.multiply(cosh, context())));
+			s.setI((ws.multiply(a.i(), context())));
+			s.setJ((ws.multiply(a.j(), context())));
+			s.setK((ws.multiply(a.k(), context())));
+			s.setL((ws.multiply(a.l(), context())));
+			s.setI0((ws.multiply(a.i0(), context())));
+			s.setJ0((ws.multiply(a.j0(), context())));
+			s.setK0((ws.multiply(a.k0(), context())));
+			c.setR(((cos.multiply(cosh, context()))));
+			c.setI(((wc.multiply(a.i(), context()))));
+			c.setJ(((wc.multiply(a.j(), context()))));
+			c.setK((wc.multiply(a.k(), context())));
+			c.setL((wc.multiply(a.l(), context())));
+			c.setI0((wc.multiply(a.i0(), context())));
+			c.setJ0((wc.multiply(a.j0(), context())));
+			c.setK0((wc.multiply(a.k0(), context())));
 		}
 	};
 	
@@ -976,20 +978,20 @@ public class OctonionHighPrecisionAlgebra
 			HighPrecisionMember z = new HighPrecisionMember();
 			HighPrecisionMember z2 = new HighPrecisionMember();
 			OctonionHighPrecisionMember tmp = new OctonionHighPrecisionMember();
-			BigDecimal u = BigDecimalMath.exp(a.r(), context);
+			BigDecimal u = BigDecimalMath.exp(a.r(), context());
 			unreal().call(a, tmp);
 			norm().call(tmp, z);
 			G.HP.sinc().call(z, z2);
 			BigDecimal w = z2.v();
-			BigDecimal uw = u.multiply(w, context);
-			b.setR((u.multiply(BigDecimalMath.cos(z.v(), context))));
-			b.setI((uw.multiply(a.i(), context)));
-			b.setJ((uw.multiply(a.j(), context)));
-			b.setK((uw.multiply(a.k(), context)));
-			b.setL((uw.multiply(a.l(), context)));
-			b.setI0((uw.multiply(a.i0(), context)));
-			b.setJ0((uw.multiply(a.j0(), context)));
-			b.setK0((uw.multiply(a.k0(), context)));
+			BigDecimal uw = u.multiply(w, context());
+			b.setR((u.multiply(BigDecimalMath.cos(z.v(), context()))));
+			b.setI((uw.multiply(a.i(), context())));
+			b.setJ((uw.multiply(a.j(), context())));
+			b.setK((uw.multiply(a.k(), context())));
+			b.setL((uw.multiply(a.l(), context())));
+			b.setI0((uw.multiply(a.i0(), context())));
+			b.setJ0((uw.multiply(a.j0(), context())));
+			b.setK0((uw.multiply(a.k0(), context())));
 		}
 	};
 	
@@ -1019,7 +1021,7 @@ public class OctonionHighPrecisionAlgebra
 			if ( norm.v().signum() == 0 ) {
 				factor = tmp.i();
 			} else {
-				factor = tmp.i().divide(norm.v(), context);
+				factor = tmp.i().divide(norm.v(), context());
 			}
 
 			multiplier(tmp.r(), factor, b);
@@ -1049,56 +1051,56 @@ public class OctonionHighPrecisionAlgebra
 					result.k().signum() == 0 )
 			{
 				result.setR(r);
-				result.setI((result.i().multiply(factor, context)));
-				result.setJ((result.j().multiply(factor, context)));
-				result.setK((result.k().multiply(factor, context)));
-				result.setL((result.l().multiply(factor, context)));
-				result.setI0((result.i0().multiply(factor, context)));
-				result.setJ0((result.j0().multiply(factor, context)));
-				result.setK0((result.k0().multiply(factor, context)));
+				result.setI((result.i().multiply(factor, context())));
+				result.setJ((result.j().multiply(factor, context())));
+				result.setK((result.k().multiply(factor, context())));
+				result.setL((result.l().multiply(factor, context())));
+				result.setI0((result.i0().multiply(factor, context())));
+				result.setJ0((result.j0().multiply(factor, context())));
+				result.setK0((result.k0().multiply(factor, context())));
 			}
 			else {
 				BigDecimal signum = BigDecimal.valueOf(factor.signum());
 				result.setR(r);
 				if (result.i().signum() == 0)
-					result.setI((signum.multiply(result.i(), context)));
+					result.setI((signum.multiply(result.i(), context())));
 				else 
-					result.setI((factor.multiply(result.i(), context)));
+					result.setI((factor.multiply(result.i(), context())));
 				if (result.j().signum() == 0)
-					result.setJ((signum.multiply(result.j(), context)));
+					result.setJ((signum.multiply(result.j(), context())));
 				else
-					result.setJ((factor.multiply(result.j(), context)));
+					result.setJ((factor.multiply(result.j(), context())));
 				if (result.k().signum() == 0)
-					result.setK((signum.multiply(result.k(), context)));
+					result.setK((signum.multiply(result.k(), context())));
 				else 
-					result.setK((factor.multiply(result.k(), context)));
+					result.setK((factor.multiply(result.k(), context())));
 				if (result.l().signum() == 0)
-					result.setL((signum.multiply(result.l(), context)));
+					result.setL((signum.multiply(result.l(), context())));
 				else
-					result.setL((factor.multiply(result.l(), context)));
+					result.setL((factor.multiply(result.l(), context())));
 				if (result.i0().signum() == 0)
-					result.setI0((signum.multiply(result.i0(), context)));
+					result.setI0((signum.multiply(result.i0(), context())));
 				else
-					result.setI0((factor.multiply(result.i0(), context)));
+					result.setI0((factor.multiply(result.i0(), context())));
 				if (result.j0().signum() == 0)
-					result.setJ0((signum.multiply(result.j0(), context)));
+					result.setJ0((signum.multiply(result.j0(), context())));
 				else
-					result.setJ0((factor.multiply(result.j0(), context)));
+					result.setJ0((factor.multiply(result.j0(), context())));
 				if (result.k0().signum() == 0)
-					result.setK0((signum.multiply(result.k0(), context)));
+					result.setK0((signum.multiply(result.k0(), context())));
 				else
-					result.setK0((factor.multiply(result.k0(), context)));
+					result.setK0((factor.multiply(result.k0(), context())));
 			}
 		}
 		else {
 			result.setR(r);
-			result.setI((result.i().multiply(factor, context)));
-			result.setJ((result.j().multiply(factor, context)));
-			result.setK((result.k().multiply(factor, context)));
-			result.setL((result.l().multiply(factor, context)));
-			result.setI0((result.i0().multiply(factor, context)));
-			result.setJ0((result.j0().multiply(factor, context)));
-			result.setK0((result.k0().multiply(factor, context)));
+			result.setI((result.i().multiply(factor, context())));
+			result.setJ((result.j().multiply(factor, context())));
+			result.setK((result.k().multiply(factor, context())));
+			result.setL((result.l().multiply(factor, context())));
+			result.setI0((result.i0().multiply(factor, context())));
+			result.setJ0((result.j0().multiply(factor, context())));
+			result.setK0((result.k0().multiply(factor, context())));
 		}
 	}
 
@@ -1182,7 +1184,7 @@ public class OctonionHighPrecisionAlgebra
 		@Override
 		public void call(OctonionHighPrecisionMember a, OctonionHighPrecisionMember b) {
 			OctonionHighPrecisionMember ONE_HALF = G.OHP.construct();
-			ONE_HALF.setR(BigDecimal.ONE.divide(BigDecimal.valueOf(2), context));
+			ONE_HALF.setR(BigDecimal.ONE.divide(BigDecimal.valueOf(2), context()));
 			pow().call(a, ONE_HALF, b);
 		}
 	};
@@ -1198,7 +1200,7 @@ public class OctonionHighPrecisionAlgebra
 		@Override
 		public void call(OctonionHighPrecisionMember a, OctonionHighPrecisionMember b) {
 			OctonionHighPrecisionMember ONE_THIRD = G.OHP.construct();
-			ONE_THIRD.setR(BigDecimal.ONE.divide(BigDecimal.valueOf(3), context));
+			ONE_THIRD.setR(BigDecimal.ONE.divide(BigDecimal.valueOf(3), context()));
 			pow().call(a, ONE_THIRD, b);
 		}
 	};
@@ -1236,21 +1238,21 @@ public class OctonionHighPrecisionAlgebra
 		@Override
 		public void call(HighPrecisionMember a, OctonionHighPrecisionMember b, OctonionHighPrecisionMember c) {
 			BigDecimal tmp;
-			tmp = a.v().multiply(b.r(), context);
+			tmp = a.v().multiply(b.r(), context());
 			c.setR(tmp);
-			tmp = a.v().multiply(b.i(), context);
+			tmp = a.v().multiply(b.i(), context());
 			c.setI(tmp);
-			tmp = a.v().multiply(b.j(), context);
+			tmp = a.v().multiply(b.j(), context());
 			c.setJ(tmp);
-			tmp = a.v().multiply(b.k(), context);
+			tmp = a.v().multiply(b.k(), context());
 			c.setK(tmp);
-			tmp = a.v().multiply(b.l(), context);
+			tmp = a.v().multiply(b.l(), context());
 			c.setL(tmp);
-			tmp = a.v().multiply(b.i0(), context);
+			tmp = a.v().multiply(b.i0(), context());
 			c.setI0(tmp);
-			tmp = a.v().multiply(b.j0(), context);
+			tmp = a.v().multiply(b.j0(), context());
 			c.setJ0(tmp);
-			tmp = a.v().multiply(b.k0(), context);
+			tmp = a.v().multiply(b.k0(), context());
 			c.setK0(tmp);
 		}
 	};
@@ -1269,36 +1271,36 @@ public class OctonionHighPrecisionAlgebra
 			BigDecimal d = new BigDecimal(a.d());
 			BigDecimal tmp;
 			tmp = b.r();
-			tmp = tmp.multiply(n, context);
-			tmp = tmp.divide(d, context);
+			tmp = tmp.multiply(n, context());
+			tmp = tmp.divide(d, context());
 			c.setR(tmp);
 			tmp = b.i();
-			tmp = tmp.multiply(n, context);
-			tmp = tmp.divide(d, context);
+			tmp = tmp.multiply(n, context());
+			tmp = tmp.divide(d, context());
 			c.setI(tmp);
 			tmp = b.j();
-			tmp = tmp.multiply(n, context);
-			tmp = tmp.divide(d, context);
+			tmp = tmp.multiply(n, context());
+			tmp = tmp.divide(d, context());
 			c.setJ(tmp);
 			tmp = b.k();
-			tmp = tmp.multiply(n, context);
-			tmp = tmp.divide(d, context);
+			tmp = tmp.multiply(n, context());
+			tmp = tmp.divide(d, context());
 			c.setK(tmp);
 			tmp = b.l();
-			tmp = tmp.multiply(n, context);
-			tmp = tmp.divide(d, context);
+			tmp = tmp.multiply(n, context());
+			tmp = tmp.divide(d, context());
 			c.setL(tmp);
 			tmp = b.i0();
-			tmp = tmp.multiply(n, context);
-			tmp = tmp.divide(d, context);
+			tmp = tmp.multiply(n, context());
+			tmp = tmp.divide(d, context());
 			c.setI0(tmp);
 			tmp = b.j0();
-			tmp = tmp.multiply(n, context);
-			tmp = tmp.divide(d, context);
+			tmp = tmp.multiply(n, context());
+			tmp = tmp.divide(d, context());
 			c.setJ0(tmp);
 			tmp = b.k0();
-			tmp = tmp.multiply(n, context);
-			tmp = tmp.divide(d, context);
+			tmp = tmp.multiply(n, context());
+			tmp = tmp.divide(d, context());
 			c.setK0(tmp);
 		}
 	};
@@ -1316,28 +1318,28 @@ public class OctonionHighPrecisionAlgebra
 			BigDecimal d = BigDecimal.valueOf(a);
 			BigDecimal tmp;
 			tmp = b.r();
-			tmp = tmp.multiply(d, context);
+			tmp = tmp.multiply(d, context());
 			c.setR(tmp);
 			tmp = b.i();
-			tmp = tmp.multiply(d, context);
+			tmp = tmp.multiply(d, context());
 			c.setI(tmp);
 			tmp = b.j();
-			tmp = tmp.multiply(d, context);
+			tmp = tmp.multiply(d, context());
 			c.setJ(tmp);
 			tmp = b.k();
-			tmp = tmp.multiply(d, context);
+			tmp = tmp.multiply(d, context());
 			c.setK(tmp);
 			tmp = b.l();
-			tmp = tmp.multiply(d, context);
+			tmp = tmp.multiply(d, context());
 			c.setL(tmp);
 			tmp = b.i0();
-			tmp = tmp.multiply(d, context);
+			tmp = tmp.multiply(d, context());
 			c.setI0(tmp);
 			tmp = b.j0();
-			tmp = tmp.multiply(d, context);
+			tmp = tmp.multiply(d, context());
 			c.setJ0(tmp);
 			tmp = b.k0();
-			tmp = tmp.multiply(d, context);
+			tmp = tmp.multiply(d, context());
 			c.setK0(tmp);
 		}
 	};
@@ -1352,14 +1354,14 @@ public class OctonionHighPrecisionAlgebra
 	{
 		@Override
 		public void call(HighPrecisionMember a, OctonionHighPrecisionMember b, OctonionHighPrecisionMember c) {
-			c.setR(a.v().multiply(b.r(), context));
-			c.setI(a.v().multiply(b.i(), context));
-			c.setJ(a.v().multiply(b.j(), context));
-			c.setK(a.v().multiply(b.k(), context));
-			c.setL(a.v().multiply(b.l(), context));
-			c.setI0(a.v().multiply(b.i0(), context));
-			c.setJ0(a.v().multiply(b.j0(), context));
-			c.setK0(a.v().multiply(b.k0(), context));
+			c.setR(a.v().multiply(b.r(), context()));
+			c.setI(a.v().multiply(b.i(), context()));
+			c.setJ(a.v().multiply(b.j(), context()));
+			c.setK(a.v().multiply(b.k(), context()));
+			c.setL(a.v().multiply(b.l(), context()));
+			c.setI0(a.v().multiply(b.i0(), context()));
+			c.setJ0(a.v().multiply(b.j0(), context()));
+			c.setK0(a.v().multiply(b.k0(), context()));
 		}
 	};
 
@@ -320,7 +320,7 @@ public class OctonionHighPrecisionMatrix
 	{
 		@Override
 		public void call(OctonionHighPrecisionMatrixMember a, OctonionHighPrecisionMember b) {
-			MatrixDeterminant.compute(G.OHP_MAT, G.OHP, a, b);
+			MatrixDeterminant.compute(G.OHP_MAT, G.OHP, G.HP, a, b);
 		}
 	};
 	
@@ -348,7 +348,7 @@ public class OctonionHighPrecisionMatrix
 	{
 		@Override
 		public void call(OctonionHighPrecisionMatrixMember a, OctonionHighPrecisionMatrixMember b) {
-			MatrixInvert.compute(G.OHP, G.OHP_RMOD, G.OHP_MAT, a, b);
+			MatrixInvert.compute(G.OHP, G.HP, G.OHP_RMOD, G.OHP_MAT, a, b);
 		}
 	};
 	
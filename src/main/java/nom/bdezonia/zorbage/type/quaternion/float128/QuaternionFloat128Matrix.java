@@ -409,7 +409,7 @@ public class QuaternionFloat128Matrix
 	{
 		@Override
 		public void call(QuaternionFloat128MatrixMember a, QuaternionFloat128Member b) {
-			MatrixDeterminant.compute(G.QQUAD_MAT, G.QQUAD, a, b);
+			MatrixDeterminant.compute(G.QQUAD_MAT, G.QQUAD, G.QUAD, a, b);
 		}
 	};
 	
@@ -437,7 +437,7 @@ public class QuaternionFloat128Matrix
 	{
 		@Override
 		public void call(QuaternionFloat128MatrixMember a, QuaternionFloat128MatrixMember b) {
-			MatrixInvert.compute(G.QQUAD, G.QQUAD_RMOD, G.QQUAD_MAT, a, b);
+			MatrixInvert.compute(G.QQUAD, G.QUAD, G.QQUAD_RMOD, G.QQUAD_MAT, a, b);
 		}
 	};
 
@@ -46,6 +46,7 @@ import nom.bdezonia.zorbage.algebra.type.markers.UnityIncludedType;
 import nom.bdezonia.zorbage.algebra.type.markers.ZeroIncludedType;
 import nom.bdezonia.zorbage.sampling.IntegerIndex;
 import nom.bdezonia.zorbage.storage.coder.ByteCoder;
+import nom.bdezonia.zorbage.storage.coder.LongCoder;
 import nom.bdezonia.zorbage.misc.Hasher;
 import nom.bdezonia.zorbage.type.real.float128.Float128Member;
 import nom.bdezonia.zorbage.type.universal.OctonionRepresentation;
@@ -63,6 +64,7 @@ import nom.bdezonia.zorbage.type.universal.UniversalRepresentation;
 public final class QuaternionFloat128Member 
 	implements
 		NumberMember<QuaternionFloat128Member>,
+		LongCoder,
 		ByteCoder,
 		Allocatable<QuaternionFloat128Member>, Duplicatable<QuaternionFloat128Member>,
 		Settable<QuaternionFloat128Member>, Gettable<QuaternionFloat128Member>,
@@ -210,6 +212,27 @@ public final class QuaternionFloat128Member
 		return builder.toString();
 	}
 
+	@Override
+	public int longCount() {
+		return 8;
+	}
+
+	@Override
+	public void fromLongArray(long[] arr, int index) {
+		r.fromLongArray(arr, index);
+		i.fromLongArray(arr, index+2);
+		j.fromLongArray(arr, index+4);
+		k.fromLongArray(arr, index+6);
+	}
+
+	@Override
+	public void toLongArray(long[] arr, int index) {
+		r.toLongArray(arr, index);
+		i.toLongArray(arr, index+2);
+		j.toLongArray(arr, index+4);
+		k.toLongArray(arr, index+6);
+	}
+
 	@Override
 	public int byteCount() {
 		return 64;
@@ -409,7 +409,7 @@ public class QuaternionFloat16Matrix
 	{
 		@Override
 		public void call(QuaternionFloat16MatrixMember a, QuaternionFloat16Member b) {
-			MatrixDeterminant.compute(G.QHLF_MAT, G.QHLF, a, b);
+			MatrixDeterminant.compute(G.QHLF_MAT, G.QHLF, G.HLF, a, b);
 		}
 	};
 	
@@ -437,7 +437,7 @@ public class QuaternionFloat16Matrix
 	{
 		@Override
 		public void call(QuaternionFloat16MatrixMember a, QuaternionFloat16MatrixMember b) {
-			MatrixInvert.compute(G.QHLF, G.QHLF_RMOD, G.QHLF_MAT, a, b);
+			MatrixInvert.compute(G.QHLF, G.HLF, G.QHLF_RMOD, G.QHLF_MAT, a, b);
 		}
 	};
 
@@ -409,7 +409,7 @@ public class QuaternionFloat32Matrix
 	{
 		@Override
 		public void call(QuaternionFloat32MatrixMember a, QuaternionFloat32Member b) {
-			MatrixDeterminant.compute(G.QFLT_MAT, G.QFLT, a, b);
+			MatrixDeterminant.compute(G.QFLT_MAT, G.QFLT, G.FLT, a, b);
 		}
 	};
 	
@@ -437,7 +437,7 @@ public class QuaternionFloat32Matrix
 	{
 		@Override
 		public void call(QuaternionFloat32MatrixMember a, QuaternionFloat32MatrixMember b) {
-			MatrixInvert.compute(G.QFLT, G.QFLT_RMOD, G.QFLT_MAT, a, b);
+			MatrixInvert.compute(G.QFLT, G.FLT, G.QFLT_RMOD, G.QFLT_MAT, a, b);
 		}
 	};
 
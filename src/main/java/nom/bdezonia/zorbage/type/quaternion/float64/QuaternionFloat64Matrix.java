@@ -409,7 +409,7 @@ public class QuaternionFloat64Matrix
 	{
 		@Override
 		public void call(QuaternionFloat64MatrixMember a, QuaternionFloat64Member b) {
-			MatrixDeterminant.compute(G.QDBL_MAT, G.QDBL, a, b);
+			MatrixDeterminant.compute(G.QDBL_MAT, G.QDBL, G.DBL, a, b);
 		}
 	};
 	
@@ -437,7 +437,7 @@ public class QuaternionFloat64Matrix
 	{
 		@Override
 		public void call(QuaternionFloat64MatrixMember a, QuaternionFloat64MatrixMember b) {
-			MatrixInvert.compute(G.QDBL, G.QDBL_RMOD, G.QDBL_MAT, a, b);
+			MatrixInvert.compute(G.QDBL, G.DBL, G.QDBL_RMOD, G.QDBL_MAT, a, b);
 		}
 	};
 
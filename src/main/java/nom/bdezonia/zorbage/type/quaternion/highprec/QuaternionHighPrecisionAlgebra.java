@@ -105,7 +105,9 @@ public class QuaternionHighPrecisionAlgebra
 	private static final QuaternionHighPrecisionMember J = new QuaternionHighPrecisionMember(BigDecimal.ZERO,BigDecimal.ZERO,BigDecimal.ONE,BigDecimal.ZERO);
 	private static final QuaternionHighPrecisionMember K = new QuaternionHighPrecisionMember(BigDecimal.ZERO,BigDecimal.ZERO,BigDecimal.ZERO,BigDecimal.ONE);
 	
-	private MathContext context = HighPrecisionAlgebra.getContext();
+	private static MathContext context() {
+		return HighPrecisionAlgebra.getContext();
+	}
 	
 	@Override
 	public String typeDescription() {
@@ -149,22 +151,22 @@ public class QuaternionHighPrecisionAlgebra
 		@Override
 		public void call(QuaternionHighPrecisionMember a, QuaternionHighPrecisionMember b, QuaternionHighPrecisionMember c) {
 			// for safety must use tmps
-			BigDecimal r = a.r().multiply(b.r(), context);
-			r = r.subtract(a.i().multiply(b.i(), context));
-			r = r.subtract(a.j().multiply(b.j(), context));
-			r = r.subtract(a.k().multiply(b.k(), context));
-			BigDecimal i = a.r().multiply(b.i(), context);
-			i = i.add(a.i().multiply(b.r(), context));
-			i = i.add(a.j().multiply(b.k(), context));
-			i = i.subtract(a.k().multiply(b.j(), context));
-			BigDecimal j = a.r().multiply(b.j(), context);
-			j = j.subtract(a.i().multiply(b.k(), context));
-			j = j.add(a.j().multiply(b.r(), context));
-			j = j.add(a.k().multiply(b.i(), context));
-			BigDecimal k = a.r().multiply(b.k(), context);
-			k = k.add(a.i().multiply(b.j(), context));
-			k = k.subtract(a.j().multiply(b.i(), context));
-			k = k.add(a.k().multiply(b.r(), context));
+			BigDecimal r = a.r().multiply(b.r(), context());
+			r = r.subtract(a.i().multiply(b.i(), context()));
+			r = r.subtract(a.j().multiply(b.j(), context()));
+			r = r.subtract(a.k().multiply(b.k(), context()));
+			BigDecimal i = a.r().multiply(b.i(), context());
+			i = i.add(a.i().multiply(b.r(), context()));
+			i = i.add(a.j().multiply(b.k(), context()));
+			i = i.subtract(a.k().multiply(b.j(), context()));
+			BigDecimal j = a.r().multiply(b.j(), context());
+			j = j.subtract(a.i().multiply(b.k(), context()));
+			j = j.add(a.j().multiply(b.r(), context()));
+			j = j.add(a.k().multiply(b.i(), context()));
+			BigDecimal k = a.r().multiply(b.k(), context());
+			k = k.add(a.i().multiply(b.j(), context()));
+			k = k.subtract(a.j().multiply(b.i(), context()));
+			k = k.add(a.k().multiply(b.r(), context()));
 			c.setR( r );
 			c.setI( i );
 			c.setJ( j );
@@ -304,7 +306,7 @@ public class QuaternionHighPrecisionAlgebra
 			QuaternionHighPrecisionMember scale = new QuaternionHighPrecisionMember();
 			HighPrecisionMember nval = new HighPrecisionMember();
 			norm().call(a, nval);
-			scale.setR( BigDecimal.ONE.divide((nval.v().multiply(nval.v(), context)), context) );
+			scale.setR( BigDecimal.ONE.divide((nval.v().multiply(nval.v(), context())), context()) );
 			conjugate().call(a, conjA);
 			multiply().call(scale, conjA, b);
 		}
@@ -353,11 +355,11 @@ public class QuaternionHighPrecisionAlgebra
 	{
 		@Override
 		public void call(QuaternionHighPrecisionMember a, HighPrecisionMember b) {
-			BigDecimal sum = a.r().multiply(a.r(), context);
-			sum = sum.add(a.i().multiply(a.i(), context));
-			sum = sum.add(a.j().multiply(a.j(), context));
-			sum = sum.add(a.k().multiply(a.k(), context));
-			b.setV( BigDecimalMath.sqrt(sum, context) );
+			BigDecimal sum = a.r().multiply(a.r(), context());
+			sum = sum.add(a.i().multiply(a.i(), context()));
+			sum = sum.add(a.j().multiply(a.j(), context()));
+			sum = sum.add(a.k().multiply(a.k(), context()));
+			b.setV( BigDecimalMath.sqrt(sum, context()) );
 		}
 	};
 	
@@ -492,16 +494,16 @@ public class QuaternionHighPrecisionAlgebra
 			HighPrecisionMember z = new HighPrecisionMember();
 			HighPrecisionMember z2 = new HighPrecisionMember();
 			QuaternionHighPrecisionMember tmp = new QuaternionHighPrecisionMember();
-			BigDecimal u = BigDecimalMath.exp(a.r(), context);
+			BigDecimal u = BigDecimalMath.exp(a.r(), context());
 			unreal().call(a, tmp);
 			norm().call(tmp, z);
 			G.HP.sinc().call(z, z2);
 			BigDecimal w = z2.v();
-			BigDecimal t = u.multiply(w, context);
-			b.setR( u.multiply(BigDecimalMath.cos(z.v(), context)) );
-			b.setI( t.multiply(a.i(), context) );
-			b.setJ( t.multiply(a.j(), context) );
-			b.setK( t.multiply(a.k(), context) );
+			BigDecimal t = u.multiply(w, context());
+			b.setR( u.multiply(BigDecimalMath.cos(z.v(), context())) );
+			b.setI( t.multiply(a.i(), context()) );
+			b.setJ( t.multiply(a.j(), context()) );
+			b.setK( t.multiply(a.k(), context()) );
 		}
 	};
 	
@@ -521,15 +523,15 @@ public class QuaternionHighPrecisionAlgebra
 			HighPrecisionMember v2 = new HighPrecisionMember();
 			HighPrecisionMember v3 = new HighPrecisionMember();
 			norm().call(a, norm);
-			HighPrecisionMember multiplier = new HighPrecisionMember(a.r().divide(norm.v(), context));
-			v1.setV( a.i().multiply(multiplier.v(), context) );
-			v2.setV( a.j().multiply(multiplier.v(), context) );
-			v3.setV( a.k().multiply(multiplier.v(), context) );
+			HighPrecisionMember multiplier = new HighPrecisionMember(a.r().divide(norm.v(), context()));
+			v1.setV( a.i().multiply(multiplier.v(), context()) );
+			v2.setV( a.j().multiply(multiplier.v(), context()) );
+			v3.setV( a.k().multiply(multiplier.v(), context()) );
 			G.HP.acos().call(multiplier, term);
-			b.setR(BigDecimalMath.log(norm.v(), context));
-			b.setI( v1.v().multiply(term.v(), context) );
-			b.setJ( v2.v().multiply(term.v(), context) );
-			b.setK( v3.v().multiply(term.v(), context) );
+			b.setR(BigDecimalMath.log(norm.v(), context()));
+			b.setI( v1.v().multiply(term.v(), context()) );
+			b.setJ( v2.v().multiply(term.v(), context()) );
+			b.setK( v3.v().multiply(term.v(), context()) );
 		}
 	};
 	
@@ -673,15 +675,15 @@ public class QuaternionHighPrecisionAlgebra
 			unreal().call(a, tmp);
 			norm().call(tmp, z);
 			G.HP.sinch().call(z, z2);
-			BigDecimal cos = BigDecimalMath.cos(a.r(), context);
-			BigDecimal sin = BigDecimalMath.sin(a.r(), context);
+			BigDecimal cos = BigDecimalMath.cos(a.r(), context());
+			BigDecimal sin = BigDecimalMath.sin(a.r(), context());
 			BigDecimal sinhc_pi = z2.v();
-			BigDecimal cosh = BigDecimalMath.cosh(z.v(), context);
-			BigDecimal ws = cos.multiply(sinhc_pi, context);
-			b.setR( sin.multiply(cosh, context) );
-			b.setI( ws.multiply(a.i(), context) );
-			b.setJ( ws.multiply(a.j(), context) );
-			b.setK( ws.multiply(a.k(), context) );
+			BigDecimal cosh = BigDecimalMath.cosh(z.v(), context());
+			BigDecimal ws = cos.multiply(sinhc_pi, context());
+			b.setR( sin.multiply(cosh, context()) );
+			b.setI( ws.multiply(a.i(), context()) );
+			b.setJ( ws.multiply(a.j(), context()) );
+			b.setK( ws.multiply(a.k(), context()) );
 		}
 	};
 	
@@ -701,15 +703,15 @@ public class QuaternionHighPrecisionAlgebra
 			unreal().call(a, tmp);
 			norm().call(tmp, z);
 			G.HP.sinch().call(z, z2);
-			BigDecimal cos = BigDecimalMath.cos(a.r(), context);
-			BigDecimal sin = BigDecimalMath.sin(a.r(), context);
+			BigDecimal cos = BigDecimalMath.cos(a.r(), context());
+			BigDecimal sin = BigDecimalMath.sin(a.r(), context());
 			BigDecimal sinhc_pi = z2.v();
-			BigDecimal cosh = BigDecimalMath.cosh(z.v(), context);
-			BigDecimal wc = sin.negate().multiply(sinhc_pi, context);
-			b.setR( cos.multiply(cosh, context) );
-			b.setI( wc.multiply(a.i(), context) );
-			b.setJ( wc.multiply(a.j(), context) );
-			b.setK( wc.multiply(a.k(), context) );
+			BigDecimal cosh = BigDecimalMath.cosh(z.v(), context());
+			BigDecimal wc = sin.negate().multiply(sinhc_pi, context());
+			b.setR( cos.multiply(cosh, context()) );
+			b.setI( wc.multiply(a.i(), context()) );
+			b.setJ( wc.multiply(a.j(), context()) );
+			b.setK( wc.multiply(a.k(), context()) );
 		}
 	};
 	
@@ -729,20 +731,20 @@ public class QuaternionHighPrecisionAlgebra
 			unreal().call(a, tmp);
 			norm().call(tmp, z);
 			G.HP.sinch().call(z, z2);
-			BigDecimal cos = BigDecimalMath.cos(a.r(), context);
-			BigDecimal sin = BigDecimalMath.sin(a.r(), context);
+			BigDecimal cos = BigDecimalMath.cos(a.r(), context());
+			BigDecimal sin = BigDecimalMath.sin(a.r(), context());
 			BigDecimal sinhc_pi = z2.v();
-			BigDecimal cosh = BigDecimalMath.cosh(z.v(), context);
-			BigDecimal ws = cos.multiply(sinhc_pi, context);
-			BigDecimal wc = sin.negate().multiply(sinhc_pi, context);
-			s.setR( sin.multiply(cosh, context) );
-			s.setI( ws.multiply(a.i(), context) );
-			s.setJ( ws.multiply(a.j(), context) );
-			s.setK( ws.multiply(a.k(), context) );
-			c.setR( cos.multiply(cosh, context) );
-			c.setI( wc.multiply(a.i(), context) );
-			c.setJ( wc.multiply(a.j(), context) );
-			c.setK( wc.multiply(a.k(), context) );
+			BigDecimal cosh = BigDecimalMath.cosh(z.v(), context());
+			BigDecimal ws = cos.multiply(sinhc_pi, context());
+			BigDecimal wc = sin.negate().multiply(sinhc_pi, context());
+			s.setR( sin.multiply(cosh, context()) );
+			s.setI( ws.multiply(a.i(), context()) );
+			s.setJ( ws.multiply(a.j(), context()) );
+			s.setK( ws.multiply(a.k(), context()) );
+			c.setR( cos.multiply(cosh, context()) );
+			c.setI( wc.multiply(a.i(), context()) );
+			c.setJ( wc.multiply(a.j(), context()) );
+			c.setK( wc.multiply(a.k(), context()) );
 		}
 	};
 	
@@ -848,7 +850,7 @@ public class QuaternionHighPrecisionAlgebra
 		@Override
 		public void call(QuaternionHighPrecisionMember a, QuaternionHighPrecisionMember b) {
 			QuaternionHighPrecisionMember ONE_HALF = G.QHP.construct();
-			ONE_HALF.setR(BigDecimal.ONE.divide(TWO.r(), context));
+			ONE_HALF.setR(BigDecimal.ONE.divide(TWO.r(), context()));
 			pow().call(a, ONE_HALF, b);
 		}
 	};
@@ -864,7 +866,7 @@ public class QuaternionHighPrecisionAlgebra
 		@Override
 		public void call(QuaternionHighPrecisionMember a, QuaternionHighPrecisionMember b) {
 			QuaternionHighPrecisionMember ONE_THIRD = G.QHP.construct();
-			ONE_THIRD.setR(BigDecimal.ONE.divide(THREE.r(), context));
+			ONE_THIRD.setR(BigDecimal.ONE.divide(THREE.r(), context()));
 			pow().call(a, ONE_THIRD, b);
 		}
 	};
@@ -900,13 +902,13 @@ public class QuaternionHighPrecisionAlgebra
 		@Override
 		public void call(HighPrecisionMember a, QuaternionHighPrecisionMember b, QuaternionHighPrecisionMember c) {
 			BigDecimal tmp;
-			tmp = a.v().multiply(b.r(), context);
+			tmp = a.v().multiply(b.r(), context());
 			c.setR(tmp);
-			tmp = a.v().multiply(b.i(), context);
+			tmp = a.v().multiply(b.i(), context());
 			c.setI(tmp);
-			tmp = a.v().multiply(b.j(), context);
+			tmp = a.v().multiply(b.j(), context());
 			c.setJ(tmp);
-			tmp = a.v().multiply(b.k(), context);
+			tmp = a.v().multiply(b.k(), context());
 			c.setK(tmp);
 		}
 	};
@@ -925,20 +927,20 @@ public class QuaternionHighPrecisionAlgebra
 			BigDecimal d = new BigDecimal(a.d());
 			BigDecimal tmp;
 			tmp = b.r();
-			tmp = tmp.multiply(n, context);
-			tmp = tmp.divide(d, context);
+			tmp = tmp.multiply(n, context());
+			tmp = tmp.divide(d, context());
 			c.setR(tmp);
 			tmp = b.i();
-			tmp = tmp.multiply(n, context);
-			tmp = tmp.divide(d, context);
+			tmp = tmp.multiply(n, context());
+			tmp = tmp.divide(d, context());
 			c.setI(tmp);
 			tmp = b.j();
-			tmp = tmp.multiply(n, context);
-			tmp = tmp.divide(d, context);
+			tmp = tmp.multiply(n, context());
+			tmp = tmp.divide(d, context());
 			c.setJ(tmp);
 			tmp = b.k();
-			tmp = tmp.multiply(n, context);
-			tmp = tmp.divide(d, context);
+			tmp = tmp.multiply(n, context());
+			tmp = tmp.divide(d, context());
 			c.setK(tmp);
 		}
 	};
@@ -956,16 +958,16 @@ public class QuaternionHighPrecisionAlgebra
 			BigDecimal d = BigDecimal.valueOf(a);
 			BigDecimal tmp;
 			tmp = b.r();
-			tmp = tmp.multiply(d, context);
+			tmp = tmp.multiply(d, context());
 			c.setR(tmp);
 			tmp = b.i();
-			tmp = tmp.multiply(d, context);
+			tmp = tmp.multiply(d, context());
 			c.setI(tmp);
 			tmp = b.j();
-			tmp = tmp.multiply(d, context);
+			tmp = tmp.multiply(d, context());
 			c.setJ(tmp);
 			tmp = b.k();
-			tmp = tmp.multiply(d, context);
+			tmp = tmp.multiply(d, context());
 			c.setK(tmp);
 		}
 	};
@@ -980,10 +982,10 @@ public class QuaternionHighPrecisionAlgebra
 	{
 		@Override
 		public void call(HighPrecisionMember a, QuaternionHighPrecisionMember b, QuaternionHighPrecisionMember c) {
-			c.setR(a.v().multiply(b.r(), context));
-			c.setI(a.v().multiply(b.i(), context));
-			c.setJ(a.v().multiply(b.j(), context));
-			c.setK(a.v().multiply(b.k(), context));
+			c.setR(a.v().multiply(b.r(), context()));
+			c.setI(a.v().multiply(b.i(), context()));
+			c.setJ(a.v().multiply(b.j(), context()));
+			c.setK(a.v().multiply(b.k(), context()));
 		}
 	};
 
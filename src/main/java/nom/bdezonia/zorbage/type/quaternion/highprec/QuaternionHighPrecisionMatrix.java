@@ -326,7 +326,7 @@ public class QuaternionHighPrecisionMatrix
 	{
 		@Override
 		public void call(QuaternionHighPrecisionMatrixMember a, QuaternionHighPrecisionMember b) {
-			MatrixDeterminant.compute(G.QHP_MAT, G.QHP, a, b);
+			MatrixDeterminant.compute(G.QHP_MAT, G.QHP, G.HP, a, b);
 		}
 	};
 	
@@ -354,7 +354,7 @@ public class QuaternionHighPrecisionMatrix
 	{
 		@Override
 		public void call(QuaternionHighPrecisionMatrixMember a, QuaternionHighPrecisionMatrixMember b) {
-			MatrixInvert.compute(G.QHP, G.QHP_RMOD, G.QHP_MAT, a, b);
+			MatrixInvert.compute(G.QHP, G.HP, G.QHP_RMOD, G.QHP_MAT, a, b);
 		}
 	};
 
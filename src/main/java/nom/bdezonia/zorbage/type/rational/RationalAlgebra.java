@@ -43,6 +43,7 @@ import nom.bdezonia.zorbage.algorithm.ScaleHelper;
 import nom.bdezonia.zorbage.function.Function1;
 import nom.bdezonia.zorbage.function.Function2;
 import nom.bdezonia.zorbage.function.Function3;
+import nom.bdezonia.zorbage.misc.LongUtils;
 import nom.bdezonia.zorbage.procedure.Procedure1;
 import nom.bdezonia.zorbage.procedure.Procedure2;
 import nom.bdezonia.zorbage.procedure.Procedure3;
@@ -96,11 +97,47 @@ public class RationalAlgebra
 		return new RationalMember(str);
 	}
 
+	// The small value kernels below work on reduced fractions held in longs
+	// (numerators are never Long.MIN_VALUE so they can be negated safely and
+	// denominators are positive). They use the gcd tricks from Knuth (TAOCP
+	// 4.5.1) so that intermediate values stay small and the result needs no
+	// final reduction. They throw ArithmeticException on overflow and the
+	// callers then redo the operation with BigIntegers.
+	
+	private static void addSmall(long an, long ad, long bn, long bd, RationalMember c) {
+		long g = LongUtils.gcd(ad, bd);
+		if (g == 1) {
+			long n = Math.addExact(Math.multiplyExact(an, bd), Math.multiplyExact(bn, ad));
+			c.setReduced(n, Math.multiplyExact(ad, bd));
+		}
+		else {
+			long t = Math.addExact(Math.multiplyExact(an, bd / g), Math.multiplyExact(bn, ad / g));
+			if (t == Long.MIN_VALUE)
+				throw new ArithmeticException("long overflow");
+			long g2 = LongUtils.gcd(Math.abs(t), g);
+			c.setReduced(t / g2, Math.multiplyExact(ad / g, bd / g2));
+		}
+	}
+	
+	private static void multiplySmall(long an, long ad, long bn, long bd, RationalMember c) {
+		long g1 = LongUtils.gcd(Math.abs(an), bd);
+		long g2 = LongUtils.gcd(Math.abs(bn), ad);
+		long n = Math.multiplyExact(an / g1, bn / g2);
+		long d = Math.multiplyExact(ad / g2, bd / g1);
+		c.setReduced(n, d);
+	}
+
 	private final Function2<Boolean, RationalMember, RationalMember> EQ =
 			new Function2<Boolean, RationalMember, RationalMember>()
 	{
 		@Override
 		public Boolean call(RationalMember a, RationalMember b) {
+			// every value that fits in longs is stored in longs so mixed
+			// representations can never be equal
+			if (a.n == null && b.n == null)
+				return a.ln == b.ln && a.ld == b.ld;
+			if (a.n == null || b.n == null)
+				return false;
 			return a.n.equals(b.n) && a.d.equals(b.d);
 		}
 	};
@@ -143,7 +180,7 @@ public class RationalAlgebra
 	{
 		@Override
 		public Boolean call(RationalMember a) {
-			return a.n.signum() == 0;
+			return a.n == null && a.ln == 0;
 		}
 	};
 
@@ -171,6 +208,10 @@ public class RationalAlgebra
 	{
 		@Override
 		public void call(RationalMember a, RationalMember b) {
+			if (a.n == null) {
+				b.setReduced(-a.ln, a.ld);
+				return;
+			}
 			b.n = a.n.negate();
 			b.d = a.d;
 		}
@@ -186,8 +227,16 @@ public class RationalAlgebra
 	{
 		@Override
 		public void call(RationalMember a, RationalMember b, RationalMember c) {
-			BigInteger n = a.n.multiply(b.d).add(b.n.multiply(a.d));
-			BigInteger d = a.d.multiply(b.d);
+			if (a.n == null && b.n == null) {
+				try {
+					addSmall(a.ln, a.ld, b.ln, b.ld, c);
+					return;
+				} catch (ArithmeticException e) {
+					// overflow: fall through to the BigInteger path
+				}
+			}
+			BigInteger n = a.n().multiply(b.d()).add(b.n().multiply(a.d()));
+			BigInteger d = a.d().multiply(b.d());
 			c.setV(n, d);
 		}
 	};
@@ -202,8 +251,16 @@ public class RationalAlgebra
 	{
 		@Override
 		public void call(RationalMember a, RationalMember b, RationalMember c) {
-			BigInteger n = a.n.multiply(b.d).subtract(b.n.multiply(a.d));
-			BigInteger d = a.d.multiply(b.d);
+			if (a.n == null && b.n == null) {
+				try {
+					addSmall(a.ln, a.ld, -b.ln, b.ld, c);
+					return;
+				} catch (ArithmeticException e) {
+					// overflow: fall through to the BigInteger path
+				}
+			}
+			BigInteger n = a.n().multiply(b.d()).subtract(b.n().multiply(a.d()));
+			BigInteger d = a.d().multiply(b.d());
 			c.setV(n, d);
 		}
 	};
@@ -218,8 +275,16 @@ public class RationalAlgebra
 	{
 		@Override
 		public void call(RationalMember a, RationalMember b, RationalMember c) {
-			BigInteger n = a.n.multiply(b.n);
-			BigInteger d = a.d.multiply(b.d);
+			if (a.n == null && b.n == null) {
+				try {
+					multiplySmall(a.ln, a.ld, b.ln, b.ld, c);
+					return;
+				} catch (ArithmeticException e) {
+					// overflow: fall through to the BigInteger path
+				}
+			}
+			BigInteger n = a.n().multiply(b.n());
+			BigInteger d = a.d().multiply(b.d());
 			c.setV(n, d);
 		}
 	};
@@ -234,8 +299,20 @@ public class RationalAlgebra
 	{
 		@Override
 		public void call(RationalMember a, RationalMember b, RationalMember c) {
-			BigInteger n = a.n.multiply(b.d);
-			BigInteger d = a.d.multiply(b.n);
+			if (a.n == null && b.n == null && b.ln != 0) {
+				try {
+					// a/b = a * (1/b) with the sign of b moved to the numerator
+					if (b.ln < 0)
+						multiplySmall(a.ln, a.ld, -b.ld, -b.ln, c);
+					else
+						multiplySmall(a.ln, a.ld, b.ld, b.ln, c);
+					return;
+				} catch (ArithmeticException e) {
+					// overflow: fall through to the BigInteger path
+				}
+			}
+			BigInteger n = a.n().multiply(b.d());
+			BigInteger d = a.d().multiply(b.n());
 			c.setV(n, d);
 		}
 	};
@@ -323,8 +400,7 @@ public class RationalAlgebra
 	{
 		@Override
 		public void call(RationalMember a) {
-			a.n = BigInteger.ONE;
-			a.d = BigInteger.ONE;
+			a.setReduced(1, 1);
 		}
 	};
 
@@ -338,7 +414,10 @@ public class RationalAlgebra
 	{
 		@Override
 		public void call(RationalMember a, RationalMember b) {
-			b.setV(a.d, a.n);
+			if (a.n == null)
+				b.setV(a.ld, a.ln);
+			else
+				b.setV(a.d, a.n);
 		}
 	};
 
@@ -408,7 +487,16 @@ public class RationalAlgebra
 	{
 		@Override
 		public Integer call(RationalMember a, RationalMember b) {
-			return a.n.multiply(b.d).compareTo(b.n.multiply(a.d));
+			if (a.n == null && b.n == null) {
+				if (a.ld == b.ld)
+					return Long.compare(a.ln, b.ln);
+				try {
+					return Long.compare(Math.multiplyExact(a.ln, b.ld), Math.multiplyExact(b.ln, a.ld));
+				} catch (ArithmeticException e) {
+					// overflow: fall through to the BigInteger path
+				}
+			}
+			return a.n().multiply(b.d()).compareTo(b.n().multiply(a.d()));
 		}
 	};
 
@@ -422,6 +510,8 @@ public class RationalAlgebra
 	{
 		@Override
 		public Integer call(RationalMember a) {
+			if (a.n == null)
+				return Long.signum(a.ln);
 			return a.n.signum();
 		}
 	};
@@ -464,6 +554,10 @@ public class RationalAlgebra
 	{
 		@Override
 		public void call(RationalMember a, RationalMember b) {
+			if (a.n == null) {
+				b.setReduced(Math.abs(a.ln), a.ld);
+				return;
+			}
 			b.n = a.n.abs();
 			b.d = a.d;
 		}
@@ -553,7 +647,7 @@ public class RationalAlgebra
 	{
 		@Override
 		public Boolean call(RationalMember a) {
-			return a.n.equals(BigInteger.ONE) && a.d.equals(BigInteger.ONE);
+			return a.n == null && a.ln == 1 && a.ld == 1;
 		}
 	};
 
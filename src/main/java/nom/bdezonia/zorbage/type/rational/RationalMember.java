@@ -52,6 +52,7 @@ import nom.bdezonia.zorbage.type.universal.TensorOctonionRepresentation;
 import nom.bdezonia.zorbage.type.universal.TensorStringRepresentation;
 import nom.bdezonia.zorbage.type.universal.UniversalRepresentation;
 import nom.bdezonia.zorbage.misc.BigDecimalUtils;
+import nom.bdezonia.zorbage.misc.LongUtils;
 import nom.bdezonia.zorbage.misc.Hasher;
 
 /**
@@ -117,6 +118,11 @@ public class RationalMember
 	
 	private static final BigDecimal BIG_DENOM_AS_BD = new BigDecimal(BIG_DENOM);
 	
+	// when the reduced numerator and denominator both fit in a long (and the
+	// numerator is not Long.MIN_VALUE) they are kept in ln and ld and n and d
+	// are null. otherwise they are kept in n and d. ld is always positive.
+	
+	long ln, ld;
 	BigInteger n, d;
 	
 	public RationalMember() {
@@ -138,7 +144,7 @@ public class RationalMember
 	}
 
 	public RationalMember(long integer) {
-		setV(BigInteger.valueOf(integer));
+		setV(integer, 1);
 	}
 
 	public RationalMember(BigInteger n, BigInteger d) {
@@ -146,7 +152,7 @@ public class RationalMember
 	}
 
 	public RationalMember(long n, long d) {
-		setV(BigInteger.valueOf(n), BigInteger.valueOf(d));
+		setV(n, d);
 	}
 
 	@Override
@@ -160,12 +166,22 @@ public class RationalMember
 	}
 	
 	public BigDecimal v() {
+		if (n == null)
+			return BigDecimal.valueOf(ln).divide(BigDecimal.valueOf(ld), CONTEXT);
 		return new BigDecimal(n).divide(new BigDecimal(d), CONTEXT);
 	}
 	
-	public BigInteger n() { return n; }
+	public BigInteger n() {
+		if (n == null)
+			return BigInteger.valueOf(ln);
+		return n;
+	}
 	
-	public BigInteger d() { return d; }
+	public BigInteger d() {
+		if (n == null)
+			return BigInteger.valueOf(ld);
+		return d;
+	}
 	
 	public void setV(BigDecimal v) {
 		BigDecimal numer = v.multiply(BIG_DENOM_AS_BD, CONTEXT);
@@ -177,12 +193,31 @@ public class RationalMember
 	}
 
 	public void setV(BigInteger n) {
-		this.n = n;
-		this.d = BigInteger.ONE;
+		setReduced(n, BigInteger.ONE);
 	}
 	
 	public void setV(long n, long d) {
-		setV(BigInteger.valueOf(n), BigInteger.valueOf(d));
+		if (d == 0)
+			throw new IllegalArgumentException("divide by zero");
+		if (n == Long.MIN_VALUE || d == Long.MIN_VALUE) {
+			setV(BigInteger.valueOf(n), BigInteger.valueOf(d));
+			return;
+		}
+		if (d < 0) {
+			// denominator is negative. normalize so that sign stored in numerator.
+			n = -n;
+			d = -d;
+		}
+		if (n == 0) {
+			primitiveInit();
+		}
+		else {
+			long gcd = LongUtils.gcd(Math.abs(n), d);
+			this.ln = n / gcd;
+			this.ld = d / gcd;
+			this.n = null;
+			this.d = null;
+		}
 	}
 	
 	public void setV(BigInteger n, BigInteger d) {
@@ -199,19 +234,55 @@ public class RationalMember
 		}
 		else {
 			BigInteger gcd = n.gcd(d);
-			this.n = n.divide(gcd);
-			this.d = d.divide(gcd);
+			setReduced(n.divide(gcd), d.divide(gcd));
+		}
+	}
+	
+	// store an already reduced fraction whose denominator is positive
+	
+	void setReduced(long n, long d) {
+		if (n == 0) {
+			primitiveInit();
+		}
+		else if (n == Long.MIN_VALUE) {
+			this.n = BigInteger.valueOf(n);
+			this.d = BigInteger.valueOf(d);
+		}
+		else {
+			this.ln = n;
+			this.ld = d;
+			this.n = null;
+			this.d = null;
+		}
+	}
+	
+	// store an already reduced fraction whose denominator is positive
+	
+	private void setReduced(BigInteger n, BigInteger d) {
+		if (n.bitLength() < 64 && d.bitLength() < 64 && n.longValue() != Long.MIN_VALUE) {
+			this.ln = n.longValue();
+			this.ld = d.longValue();
+			this.n = null;
+			this.d = null;
+		}
+		else {
+			this.n = n;
+			this.d = d;
 		}
 	}
 	
 	@Override
 	public void get(RationalMember other) {
+		other.ln = this.ln;
+		other.ld = this.ld;
 		other.n = this.n;
 		other.d = this.d;
 	}
 
 	@Override
 	public void set(RationalMember other) {
+		this.ln = other.ln;
+		this.ld = other.ld;
 		this.n = other.n;
 		this.d = other.d;
 	}
@@ -228,6 +299,8 @@ public class RationalMember
 
 	@Override
 	public String toString() {
+		if (n == null)
+			return ln + "/" + ld;
 		return n.toString() + "/" + d.toString();
 	}
 
@@ -245,8 +318,8 @@ public class RationalMember
 
 	@Override
 	public void toBigIntegerArray(BigInteger[] arr, int index) {
-		arr[index] = n;
-		arr[index+1] = d;
+		arr[index] = n();
+		arr[index+1] = d();
 	}
 
 	@Override
@@ -761,15 +834,17 @@ public class RationalMember
 
 	@Override
 	public void primitiveInit() {
-		this.n = BigInteger.ZERO;
-		this.d = BigInteger.ONE;
+		this.ln = 0;
+		this.ld = 1;
+		this.n = null;
+		this.d = null;
 	}
 
 	@Override
 	public int hashCode() {
 		int v = 1;
-		v = Hasher.PRIME * v + Hasher.hashCode(n);
-		v = Hasher.PRIME * v + Hasher.hashCode(d);
+		v = Hasher.PRIME * v + Hasher.hashCode(n());
+		v = Hasher.PRIME * v + Hasher.hashCode(d());
 		return v;
 	}
 	
@@ -0,0 +1,943 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.type.real.float128;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+
+/**
+ * Binary128 does IEEE 754 binary128 arithmetic on the two longs of a
+ * {@link Float128Member}. The high long holds the sign bit, the 15 bit
+ * exponent, and the top 48 bits of the fraction. The low long holds the
+ * bottom 64 bits of the fraction. Results are rounded to nearest with
+ * ties to even and no objects are allocated by the arithmetic.
+ * 
+ * @author Barry DeZonia
+ *
+ */
+class Binary128 {
+
+	// do not instantiate
+	
+	private Binary128() { }
+	
+	static final int BIAS = 16383;
+	static final int MAX_EXPONENT = 0x7fff;
+	static final long SIGN = 0x8000000000000000L;
+	static final long FRACTION = 0x0000ffffffffffffL;
+	static final long IMPLICIT = 0x0001000000000000L;
+	
+	static final long INF_HI = 0x7fff000000000000L;
+	static final long ONE_HI = 0x3fff000000000000L;
+	static final long NAN_HI = 0x7fff010101010101L;
+	static final long NAN_LO = 0x0101010101010101L;
+	
+	private static final BigInteger TEN = BigInteger.TEN;
+	private static final BigDecimal TWO = BigDecimal.valueOf(2);
+	
+	static int exponent(long hi) {
+		return (int) (hi >>> 48) & MAX_EXPONENT;
+	}
+	
+	static boolean isNan(long hi, long lo) {
+		return exponent(hi) == MAX_EXPONENT && ((hi & FRACTION) | lo) != 0;
+	}
+	
+	static boolean isInfinite(long hi, long lo) {
+		return exponent(hi) == MAX_EXPONENT && ((hi & FRACTION) | lo) == 0;
+	}
+	
+	static boolean isZero(long hi, long lo) {
+		return ((hi & ~SIGN) | lo) == 0;
+	}
+	
+	static boolean isOne(long hi, long lo) {
+		return hi == ONE_HI && lo == 0;
+	}
+	
+	static void setOne(Float128Member out) {
+		out.hi = ONE_HI;
+		out.lo = 0;
+	}
+	
+	static void setNan(Float128Member out) {
+		out.hi = NAN_HI;
+		out.lo = NAN_LO;
+	}
+	
+	static void setInfinite(boolean negative, Float128Member out) {
+		out.hi = negative ? (SIGN | INF_HI) : INF_HI;
+		out.lo = 0;
+	}
+	
+	static void setZero(boolean negative, Float128Member out) {
+		out.hi = negative ? SIGN : 0;
+		out.lo = 0;
+	}
+	
+	// the high 64 bits of the unsigned product of x and y
+	
+	static long unsignedMultiplyHigh(long x, long y) {
+		return Math.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+	}
+	
+	/**
+	 * Round and store the value W * 2^(exp - BIAS - 176) where W is the
+	 * unsigned 192 bit number w2:w1:w0. Callers that have dropped nonzero bits
+	 * below w0 must set the low bit of w0, and in that case the leading bit
+	 * of W must be at bit 176 or above.
+	 */
+	static void roundPack(boolean negative, int exp, long w2, long w1, long w0, Float128Member out) {
+		
+		if ((w2 | w1 | w0) == 0) {
+			setZero(negative, out);
+			return;
+		}
+		
+		int lead;
+		if (w2 != 0)
+			lead = 191 - Long.numberOfLeadingZeros(w2);
+		else if (w1 != 0)
+			lead = 127 - Long.numberOfLeadingZeros(w1);
+		else
+			lead = 63 - Long.numberOfLeadingZeros(w0);
+		
+		// put the leading bit at 176 (the implicit bit) and lower the
+		//   precision of numbers too small to be normal
+		
+		long e = (long) exp + lead - 176;
+		int shift = lead - 176;
+		if (e < 1) {
+			shift += (int) Math.min(1 - e, 200);
+			e = 0;
+		}
+		
+		if (shift > 0) {
+			long sticky = 0;
+			while (shift >= 64) {
+				sticky |= w0;
+				w0 = w1;
+				w1 = w2;
+				w2 = 0;
+				shift -= 64;
+			}
+			if (shift > 0) {
+				sticky |= w0 << (64 - shift);
+				w0 = (w0 >>> shift) | (w1 << (64 - shift));
+				w1 = (w1 >>> shift) | (w2 << (64 - shift));
+				w2 = w2 >>> shift;
+			}
+			if (sticky != 0)
+				w0 |= 1;
+		}
+		else if (shift < 0) {
+			shift = -shift;
+			while (shift >= 64) {
+				w2 = w1;
+				w1 = w0;
+				w0 = 0;
+				shift -= 64;
+			}
+			if (shift > 0) {
+				w2 = (w2 << shift) | (w1 >>> (64 - shift));
+				w1 = (w1 << shift) | (w0 >>> (64 - shift));
+				w0 = w0 << shift;
+			}
+		}
+		
+		// round to nearest, ties to even
+		
+		if (w0 < 0 && ((w0 & Long.MAX_VALUE) != 0 || (w1 & 1) != 0)) {
+			w1++;
+			if (w1 == 0)
+				w2++;
+			if (e == 0) {
+				if ((w2 & IMPLICIT) != 0)
+					e = 1;
+			}
+			else if ((w2 & (IMPLICIT << 1)) != 0) {
+				w2 = IMPLICIT;
+				w1 = 0;
+				e++;
+			}
+		}
+		
+		if (e >= MAX_EXPONENT) {
+			setInfinite(negative, out);
+			return;
+		}
+		
+		out.hi = (negative ? SIGN : 0) | (e << 48) | (w2 & FRACTION);
+		out.lo = w1;
+	}
+	
+	/**
+	 * c = a + b, or a - b when subtract is true.
+	 */
+	static void add(Float128Member a, Float128Member b, boolean subtract, Float128Member c) {
+		
+		long aHi = a.hi, aLo = a.lo;
+		long bHi = subtract ? b.hi ^ SIGN : b.hi, bLo = b.lo;
+		
+		int ea = exponent(aHi);
+		int eb = exponent(bHi);
+		
+		if (ea == MAX_EXPONENT || eb == MAX_EXPONENT) {
+			if (isNan(aHi, aLo) || isNan(bHi, bLo))
+				setNan(c);
+			else if (ea == MAX_EXPONENT && eb == MAX_EXPONENT && (aHi ^ bHi) < 0)
+				setNan(c);
+			else if (ea == MAX_EXPONENT)
+				setInfinite(aHi < 0, c);
+			else
+				setInfinite(bHi < 0, c);
+			return;
+		}
+		
+		boolean aZero = isZero(aHi, aLo);
+		boolean bZero = isZero(bHi, bLo);
+		if (aZero || bZero) {
+			if (aZero && bZero) {
+				setZero(aHi < 0 && bHi < 0, c);
+			}
+			else if (aZero) {
+				c.hi = bHi;
+				c.lo = bLo;
+			}
+			else {
+				c.hi = aHi;
+				c.lo = aLo;
+			}
+			return;
+		}
+		
+		// unpack the significands
+		
+		long a1 = aHi & FRACTION, a0 = aLo;
+		long b1 = bHi & FRACTION, b0 = bLo;
+		if (ea == 0) ea = 1; else a1 |= IMPLICIT;
+		if (eb == 0) eb = 1; else b1 |= IMPLICIT;
+		boolean aNeg = aHi < 0;
+		boolean bNeg = bHi < 0;
+		
+		// make a the operand with the larger magnitude
+		
+		if (ea < eb || (ea == eb && (a1 < b1 || (a1 == b1 && Long.compareUnsigned(a0, b0) < 0)))) {
+			long t = a1; a1 = b1; b1 = t;
+			t = a0; a0 = b0; b0 = t;
+			int s = ea; ea = eb; eb = s;
+			boolean n = aNeg; aNeg = bNeg; bNeg = n;
+		}
+		
+		// align b to a in 192 bits with a sticky bit
+		
+		long b2 = b1, bm = b0, bl = 0;
+		int shift = ea - eb;
+		if (shift > 0) {
+			long sticky = 0;
+			if (shift >= 192) {
+				sticky = b2 | bm;
+				b2 = bm = 0;
+			}
+			else {
+				while (shift >= 64) {
+					sticky |= bl;
+					bl = bm;
+					bm = b2;
+					b2 = 0;
+					shift -= 64;
+				}
+				if (shift > 0) {
+					sticky |= bl << (64 - shift);
+					bl = (bl >>> shift) | (bm << (64 - shift));
+					bm = (bm >>> shift) | (b2 << (64 - shift));
+					b2 = b2 >>> shift;
+				}
+			}
+			if (sticky != 0)
+				bl |= 1;
+		}
+		
+		long w2, w1, w0;
+		if (aNeg == bNeg) {
+			w0 = bl;
+			w1 = a0 + bm;
+			long carry = Long.compareUnsigned(w1, a0) < 0 ? 1 : 0;
+			w2 = a1 + b2 + carry;
+		}
+		else {
+			w0 = -bl;
+			long borrow = (bl != 0) ? 1 : 0;
+			w1 = a0 - bm - borrow;
+			long borrow2 = (Long.compareUnsigned(a0, bm) < 0 || (borrow == 1 && a0 == bm)) ? 1 : 0;
+			w2 = a1 - b2 - borrow2;
+			if ((w2 | w1 | w0) == 0) {
+				setZero(false, c);
+				return;
+			}
+		}
+		
+		roundPack(aNeg, ea, w2, w1, w0, c);
+	}
+	
+	/**
+	 * c = a * b
+	 */
+	static void multiply(Float128Member a, Float128Member b, Float128Member c) {
+		
+		long aHi = a.hi, aLo = a.lo;
+		long bHi = b.hi, bLo = b.lo;
+		boolean negative = (aHi ^ bHi) < 0;
+		int ea = exponent(aHi);
+		int eb = exponent(bHi);
+		
+		if (ea == MAX_EXPONENT || eb == MAX_EXPONENT) {
+			if (isNan(aHi, aLo) || isNan(bHi, bLo) || isZero(aHi, aLo) || isZero(bHi, bLo))
+				setNan(c);
+			else
+				setInfinite(negative, c);
+			return;
+		}
+		if (isZero(aHi, aLo) || isZero(bHi, bLo)) {
+			setZero(negative, c);
+			return;
+		}
+		
+		// significands scaled so their top bits are bit 127
+		
+		long a1 = aHi & FRACTION, a0 = aLo;
+		long b1 = bHi & FRACTION, b0 = bLo;
+		if (ea == 0) ea = 1; else a1 |= IMPLICIT;
+		if (eb == 0) eb = 1; else b1 |= IMPLICIT;
+		int na = (a1 != 0) ? Long.numberOfLeadingZeros(a1) : 64 + Long.numberOfLeadingZeros(a0);
+		int nb = (b1 != 0) ? Long.numberOfLeadingZeros(b1) : 64 + Long.numberOfLeadingZeros(b0);
+		ea -= na - 15;
+		eb -= nb - 15;
+		if (na >= 64) { a1 = a0; a0 = 0; na -= 64; }
+		if (na > 0) { a1 = (a1 << na) | (a0 >>> (64 - na)); a0 <<= na; }
+		if (nb >= 64) { b1 = b0; b0 = 0; nb -= 64; }
+		if (nb > 0) { b1 = (b1 << nb) | (b0 >>> (64 - nb)); b0 <<= nb; }
+		
+		// the 256 bit product
+		
+		long p00hi = unsignedMultiplyHigh(a0, b0);
+		long p01lo = a0 * b1, p01hi = unsignedMultiplyHigh(a0, b1);
+		long p10lo = a1 * b0, p10hi = unsignedMultiplyHigh(a1, b0);
+		long p11lo = a1 * b1, p11hi = unsignedMultiplyHigh(a1, b1);
+		long w0 = a0 * b0;
+		long t = p00hi + p01lo;
+		long carry = Long.compareUnsigned(t, p00hi) < 0 ? 1 : 0;
+		long w1 = t + p10lo;
+		carry += Long.compareUnsigned(w1, t) < 0 ? 1 : 0;
+		t = p01hi + p10hi;
+		long carry2 = Long.compareUnsigned(t, p01hi) < 0 ? 1 : 0;
+		long u = t + p11lo;
+		carry2 += Long.compareUnsigned(u, t) < 0 ? 1 : 0;
+		long w2 = u + carry;
+		carry2 += Long.compareUnsigned(w2, u) < 0 ? 1 : 0;
+		long w3 = p11hi + carry2;
+		
+		roundPack(negative, ea + eb - BIAS - 14, w3, w2, w1 | (w0 != 0 ? 1 : 0), c);
+	}
+	
+	/**
+	 * c = a / b
+	 */
+	static void divide(Float128Member a, Float128Member b, Float128Member c) {
+		
+		long aHi = a.hi, aLo = a.lo;
+		long bHi = b.hi, bLo = b.lo;
+		boolean negative = (aHi ^ bHi) < 0;
+		int ea = exponent(aHi);
+		int eb = exponent(bHi);
+		
+		if (isNan(aHi, aLo) || isNan(bHi, bLo)) {
+			setNan(c);
+			return;
+		}
+		if (ea == MAX_EXPONENT) {
+			if (eb == MAX_EXPONENT)
+				setNan(c);
+			else
+				setInfinite(negative, c);
+			return;
+		}
+		if (eb == MAX_EXPONENT) {
+			setZero(negative, c);
+			return;
+		}
+		if (isZero(bHi, bLo)) {
+			if (isZero(aHi, aLo))
+				setNan(c);
+			else
+				setInfinite(negative, c);
+			return;
+		}
+		if (isZero(aHi, aLo)) {
+			setZero(negative, c);
+			return;
+		}
+		
+		// significands scaled so their top bits are bit 112
+		
+		long a1 = aHi & FRACTION, a0 = aLo;
+		long b1 = bHi & FRACTION, b0 = bLo;
+		if (ea == 0) ea = 1; else a1 |= IMPLICIT;
+		if (eb == 0) eb = 1; else b1 |= IMPLICIT;
+		int na = ((a1 != 0) ? Long.numberOfLeadingZeros(a1) : 64 + Long.numberOfLeadingZeros(a0)) - 15;
+		int nb = ((b1 != 0) ? Long.numberOfLeadingZeros(b1) : 64 + Long.numberOfLeadingZeros(b0)) - 15;
+		ea -= na;
+		eb -= nb;
+		if (na >= 64) { a1 = a0; a0 = 0; na -= 64; }
+		if (na > 0) { a1 = (a1 << na) | (a0 >>> (64 - na)); a0 <<= na; }
+		if (nb >= 64) { b1 = b0; b0 = 0; nb -= 64; }
+		if (nb > 0) { b1 = (b1 << nb) | (b0 >>> (64 - nb)); b0 <<= nb; }
+		
+		// restoring division: q = floor(a * 2^119 / b)
+		
+		long r1 = a1, r0 = a0;
+		long q1 = 0, q0 = 0;
+		for (int i = 0; i < 120; i++) {
+			q1 = (q1 << 1) | (q0 >>> 63);
+			q0 <<= 1;
+			if (r1 > b1 || (r1 == b1 && Long.compareUnsigned(r0, b0) >= 0)) {
+				long borrow = Long.compareUnsigned(r0, b0) < 0 ? 1 : 0;
+				r0 -= b0;
+				r1 -= b1 + borrow;
+				q0 |= 1;
+			}
+			r1 = (r1 << 1) | (r0 >>> 63);
+			r0 <<= 1;
+		}
+		
+		roundPack(negative, ea - eb + BIAS - 7, q1, q0, (r1 | r0) != 0 ? 1 : 0, c);
+	}
+	
+	/**
+	 * d = the integer part of a / b and m = a - d * b for finite a and a
+	 * finite nonzero b. d is rounded but m is exact. Zero results are
+	 * positive.
+	 */
+	static void divideToIntegral(Float128Member a, Float128Member b, Float128Member d, Float128Member m) {
+		
+		long aHi = a.hi, aLo = a.lo;
+		long bHi = b.hi, bLo = b.lo;
+		
+		if (isZero(bHi, bLo))
+			throw new ArithmeticException("Division by zero");
+		if (isZero(aHi, aLo)) {
+			setZero(false, d);
+			setZero(false, m);
+			return;
+		}
+		
+		// significands scaled so their top bits are bit 112
+		
+		int ea = exponent(aHi);
+		int eb = exponent(bHi);
+		long a1 = aHi & FRACTION, a0 = aLo;
+		long b1 = bHi & FRACTION, b0 = bLo;
+		if (ea == 0) ea = 1; else a1 |= IMPLICIT;
+		if (eb == 0) eb = 1; else b1 |= IMPLICIT;
+		int na = ((a1 != 0) ? Long.numberOfLeadingZeros(a1) : 64 + Long.numberOfLeadingZeros(a0)) - 15;
+		int nb = ((b1 != 0) ? Long.numberOfLeadingZeros(b1) : 64 + Long.numberOfLeadingZeros(b0)) - 15;
+		ea -= na;
+		eb -= nb;
+		if (na >= 64) { a1 = a0; a0 = 0; na -= 64; }
+		if (na > 0) { a1 = (a1 << na) | (a0 >>> (64 - na)); a0 <<= na; }
+		if (nb >= 64) { b1 = b0; b0 = 0; nb -= 64; }
+		if (nb > 0) { b1 = (b1 << nb) | (b0 >>> (64 - nb)); b0 <<= nb; }
+		
+		if (ea < eb) {
+			setZero(false, d);
+			m.hi = aHi;
+			m.lo = aLo;
+			return;
+		}
+		
+		// restoring division of a * 2^(ea-eb) by b. The first 192 quotient
+		//   bits are kept and later ones only count toward the exponent and
+		//   the sticky bit. The remainder is always exact.
+		
+		long r1 = a1, r0 = a0;
+		long q2 = 0, q1 = 0, q0 = 0;
+		int dropped = 0;
+		boolean sticky = false;
+		int steps = ea - eb;
+		for (int i = 0; i <= steps; i++) {
+			boolean bit = r1 > b1 || (r1 == b1 && Long.compareUnsigned(r0, b0) >= 0);
+			if (bit) {
+				long borrow = Long.compareUnsigned(r0, b0) < 0 ? 1 : 0;
+				r0 -= b0;
+				r1 -= b1 + borrow;
+			}
+			if (q2 < 0) {
+				sticky |= bit;
+				dropped++;
+			}
+			else {
+				q2 = (q2 << 1) | (q1 >>> 63);
+				q1 = (q1 << 1) | (q0 >>> 63);
+				q0 = (q0 << 1) | (bit ? 1 : 0);
+			}
+			if (i < steps) {
+				r1 = (r1 << 1) | (r0 >>> 63);
+				r0 <<= 1;
+			}
+		}
+		
+		if ((q2 | q1 | q0) == 0)
+			setZero(false, d);
+		else
+			roundPack((aHi ^ bHi) < 0, BIAS + 176 + dropped, q2, q1, q0 | (sticky ? 1 : 0), d);
+		
+		if ((r1 | r0) == 0)
+			setZero(false, m);
+		else
+			roundPack(aHi < 0, eb + 64, 0, r1, r0, m);
+	}
+	
+	/**
+	 * out = a * 2^n, rounded when the result is subnormal.
+	 */
+	static void scalb(long hi, long lo, int n, Float128Member out) {
+		int e = exponent(hi);
+		if (e == MAX_EXPONENT || isZero(hi, lo)) {
+			if (isNan(hi, lo)) {
+				setNan(out);
+				return;
+			}
+			out.hi = hi;
+			out.lo = lo;
+			return;
+		}
+		long s1 = hi & FRACTION;
+		if (e == 0) e = 1; else s1 |= IMPLICIT;
+		
+		// keep the exponent in int range: anything this far out has
+		//   already overflowed or underflowed
+		
+		long exp = Math.max(-(1L << 20), Math.min(1L << 20, (long) e + n));
+		roundPack(hi < 0, (int) exp, s1, lo, 0, out);
+	}
+	
+	/**
+	 * -1 if a finite number is not an integer, 0 if it is an even integer,
+	 * and 1 if it is an odd integer.
+	 */
+	static int integerParity(long hi, long lo) {
+		if (isZero(hi, lo))
+			return 0;
+		int power = exponent(hi) - BIAS;
+		if (power < 0)
+			return -1;
+		if (power > 112)
+			return 0;
+		
+		// the significand bit worth 1 and the fraction bits below it
+		
+		int k = 112 - power;
+		boolean fractional;
+		int unit;
+		if (k == 0) {
+			fractional = false;
+			unit = (int) (lo & 1);
+		}
+		else if (k < 64) {
+			fractional = (lo << (64 - k)) != 0;
+			unit = (int) ((lo >>> k) & 1);
+		}
+		else if (k == 64) {
+			fractional = lo != 0;
+			unit = (int) (hi & 1);
+		}
+		else if (k < 112) {
+			fractional = lo != 0 || (hi << (128 - k)) != 0;
+			unit = (int) ((hi >>> (k - 64)) & 1);
+		}
+		else {
+			fractional = lo != 0 || (hi & FRACTION) != 0;
+			unit = 1;
+		}
+		if (fractional)
+			return -1;
+		return unit;
+	}
+	
+	/**
+	 * Compares the magnitude of a finite number to 1.
+	 */
+	static int compareMagnitudeToOne(long hi, long lo) {
+		int c = Long.compare(hi & ~SIGN, ONE_HI);
+		if (c == 0 && lo != 0)
+			c = 1;
+		return c;
+	}
+	
+	/**
+	 * Compares two numbers that are not nans. -0 is less than +0.
+	 */
+	static int compare(long aHi, long aLo, long bHi, long bLo) {
+		boolean aNeg = aHi < 0;
+		boolean bNeg = bHi < 0;
+		if (aNeg != bNeg)
+			return aNeg ? -1 : 1;
+		int mag = Long.compare(aHi & ~SIGN, bHi & ~SIGN);
+		if (mag == 0)
+			mag = Long.compareUnsigned(aLo, bLo);
+		return aNeg ? -mag : mag;
+	}
+	
+	/**
+	 * Set out to the binary128 number nearest a BigDecimal.
+	 */
+	static void fromBigDecimal(BigDecimal value, Float128Member out) {
+		
+		int signum = value.signum();
+		if (signum == 0) {
+			setZero(false, out);
+			return;
+		}
+		boolean negative = signum < 0;
+		value = value.abs();
+		
+		// floor(log10(value)) decides the obvious overflows and underflows
+		
+		long magnitude = (long) value.precision() - value.scale() - 1;
+		if (magnitude > 4933) {
+			setInfinite(negative, out);
+			return;
+		}
+		if (magnitude < -4967) {
+			setZero(negative, out);
+			return;
+		}
+		
+		BigInteger unscaled = value.unscaledValue();
+		int scale = value.scale();
+		if (scale <= 0) {
+			fromBigInteger(negative, unscaled.multiply(tenPow(-scale)), 0, false, out);
+		}
+		else {
+			BigInteger denom = tenPow(scale);
+			int shift = Math.max(0, 116 + denom.bitLength() - unscaled.bitLength());
+			BigInteger[] qr = unscaled.shiftLeft(shift).divideAndRemainder(denom);
+			fromBigInteger(negative, qr[0], -shift, qr[1].signum() != 0, out);
+		}
+	}
+	
+	// value = m * 2^e2 (plus a little more when sticky is set)
+	
+	private static void fromBigInteger(boolean negative, BigInteger m, int e2, boolean sticky, Float128Member out) {
+		int len = m.bitLength();
+		if (len > 192) {
+			int drop = len - 192;
+			if (m.getLowestSetBit() < drop)
+				sticky = true;
+			m = m.shiftRight(drop);
+			e2 += drop;
+		}
+		long w0 = m.longValue();
+		long w1 = m.shiftRight(64).longValue();
+		long w2 = m.shiftRight(128).longValue();
+		if (sticky)
+			w0 |= 1;
+		roundPack(negative, e2 + BIAS + 176, w2, w1, w0, out);
+	}
+	
+	/**
+	 * Set out to a long value. All longs are exact.
+	 */
+	static void fromLong(long value, Float128Member out) {
+		if (value == 0) {
+			setZero(false, out);
+			return;
+		}
+		boolean negative = value < 0;
+		long magnitude = negative ? -value : value;  // MIN_VALUE stays correct as unsigned
+		roundPack(negative, BIAS + 176 - 64, 0, magnitude, 0, out);
+	}
+	
+	/**
+	 * The value of a finite binary128 number rounded to a MathContext.
+	 */
+	static BigDecimal toBigDecimal(long hi, long lo, MathContext context) {
+		if (isZero(hi, lo))
+			return BigDecimal.ZERO;
+		int e = exponent(hi);
+		long s1 = hi & FRACTION;
+		if (e == 0) e = 1; else s1 |= IMPLICIT;
+		BigInteger sig = BigInteger.valueOf(s1).shiftLeft(64).or(unsigned(lo));
+		if (hi < 0)
+			sig = sig.negate();
+		int power = e - BIAS - 112;
+		BigDecimal result;
+		if (power >= 0)
+			result = new BigDecimal(sig.shiftLeft(power));
+		else if (power >= -400 || context.getPrecision() == 0)
+			result = new BigDecimal(sig.multiply(BigInteger.valueOf(5).pow(-power)), -power);
+		else
+			result = new BigDecimal(sig).multiply(TWO.pow(power, new MathContext(context.getPrecision() + 10)));
+		return result.round(context);
+	}
+	
+	/**
+	 * The shortest decimal that converts back to the same finite binary128
+	 * number.
+	 */
+	static BigDecimal shortest(long hi, long lo) {
+		if (isZero(hi, lo))
+			return BigDecimal.ZERO;
+		
+		int e = exponent(hi);
+		long s1 = hi & FRACTION;
+		boolean halfGapBelow = (s1 | lo) == 0 && e > 1;
+		if (e == 0) e = 1; else s1 |= IMPLICIT;
+		BigInteger sig = BigInteger.valueOf(s1).shiftLeft(64).or(unsigned(lo));
+		int power = e - BIAS - 112;
+		
+		// Scale by 10^k so the value has 35 or 36 digits. Then every number
+		//   from a to b rounds back to the same bits. The halfway points
+		//   round to an even significand so they are only included then.
+		
+		int lead = power + sig.bitLength() - 1;
+		int k = 34 - (int) Math.floor(lead * LOG10_2);
+		BigInteger ten = (k >= 0) ? tenPow(k) : BigInteger.ONE;
+		BigInteger tenDenominator = (k >= 0) ? null : tenPow(-k);
+		BigInteger center = sig.multiply(ten).shiftLeft(2);
+		BigInteger below = center.subtract(halfGapBelow ? ten : ten.shiftLeft(1));
+		BigInteger above = center.add(ten.shiftLeft(1));
+		int shift = 2 - power;
+		if (shift < 0) {
+			center = center.shiftLeft(-shift);
+			below = below.shiftLeft(-shift);
+			above = above.shiftLeft(-shift);
+			shift = 0;
+		}
+		BigInteger[] lower = scaledDivide(below, tenDenominator, shift);
+		BigInteger[] upper = scaledDivide(above, tenDenominator, shift);
+		BigInteger a, b;
+		if ((lo & 1) == 0) {
+			a = (lower[1].signum() == 0) ? lower[0] : lower[0].add(BigInteger.ONE);
+			b = upper[0];
+		}
+		else {
+			a = lower[0].add(BigInteger.ONE);
+			b = (upper[1].signum() == 0) ? upper[0].subtract(BigInteger.ONE) : upper[0];
+		}
+		BigInteger width = b.subtract(a);
+		
+		if (width.signum() < 0 || width.bitLength() > 59)
+			return shortestBySearch(hi, lo);
+		
+		// find the largest power of ten with a multiple between a and b
+		
+		long w = width.longValue();
+		BigInteger[] parts = b.divideAndRemainder(tenPow(18));
+		long bHigh = parts[0].longValue();
+		long bLow = parts[1].longValue();
+		int d = 0;
+		for (int i = 36; i > 0; i--) {
+			long remainder;
+			if (i <= 18)
+				remainder = bLow % LONG_TENS[i];
+			else if (bHigh % LONG_TENS[i - 18] == 0)
+				remainder = bLow;
+			else
+				continue;
+			if (remainder <= w) {
+				d = i;
+				break;
+			}
+		}
+		
+		// pick the multiple nearest the value
+		
+		BigInteger step = tenPow(d);
+		BigInteger nearest = scaledDivide(center, tenDenominator, shift)[0];
+		BigInteger q = nearest.add(step.shiftRight(1)).divide(step);
+		BigInteger candidate = q.multiply(step);
+		if (candidate.compareTo(a) < 0)
+			q = q.add(BigInteger.ONE);
+		else if (candidate.compareTo(b) > 0)
+			q = q.subtract(BigInteger.ONE);
+		if (hi < 0)
+			q = q.negate();
+		return new BigDecimal(q, k - d).stripTrailingZeros();
+	}
+	
+	private static final double LOG10_2 = Math.log10(2);
+	
+	private static final long[] LONG_TENS = new long[19];
+	
+	private static final BigInteger[] TENS = new BigInteger[64];
+	
+	static {
+		long v = 1;
+		for (int i = 0; i < LONG_TENS.length; i++) {
+			LONG_TENS[i] = v;
+			v *= 10;
+		}
+		BigInteger t = BigInteger.ONE;
+		for (int i = 0; i < TENS.length; i++) {
+			TENS[i] = t;
+			t = t.multiply(TEN);
+		}
+	}
+	
+	private static BigInteger tenPow(int n) {
+		if (n < TENS.length)
+			return TENS[n];
+		return TEN.pow(n);
+	}
+	
+	// {floor(n / (tenDenominator * 2^shift)), remainder} for a nonnegative n.
+	//   A null tenDenominator means 1. Only the sign of the remainder is
+	//   meaningful.
+	
+	private static BigInteger[] scaledDivide(BigInteger n, BigInteger tenDenominator, int shift) {
+		if (tenDenominator == null) {
+			BigInteger floor = n.shiftRight(shift);
+			boolean exact = shift == 0 || n.signum() == 0 || n.getLowestSetBit() >= shift;
+			return new BigInteger[] {floor, exact ? BigInteger.ZERO : BigInteger.ONE};
+		}
+		return n.divideAndRemainder(tenDenominator.shiftLeft(shift));
+	}
+	
+	// the slow but simple way: the fewest digits that round trip
+	
+	private static BigDecimal shortestBySearch(long hi, long lo) {
+		Float128Member tmp = new Float128Member();
+		BigDecimal best = null;
+		int lower = 1;
+		int upper = 36;
+		while (lower <= upper) {
+			int digits = (lower + upper) / 2;
+			BigDecimal candidate = toBigDecimal(hi, lo, new MathContext(digits));
+			fromBigDecimal(candidate, tmp);
+			if (tmp.hi == hi && tmp.lo == lo) {
+				best = candidate;
+				upper = digits - 1;
+			}
+			else {
+				lower = digits + 1;
+			}
+		}
+		if (best == null)
+			best = toBigDecimal(hi, lo, new MathContext(40));
+		return best.stripTrailingZeros();
+	}
+	
+	/**
+	 * out = the next representable number above a. The next number above
+	 * a zero is the smallest subnormal.
+	 */
+	static void nextUp(long hi, long lo, Float128Member out) {
+		if (isNan(hi, lo)) {
+			setNan(out);
+			return;
+		}
+		if (hi == INF_HI && lo == 0) {
+			setInfinite(false, out);
+			return;
+		}
+		if (isZero(hi, lo)) {
+			out.hi = 0;
+			out.lo = 1;
+			return;
+		}
+		if (hi >= 0) {
+			// grow the magnitude: a carry out of the fraction bumps the exponent
+			lo++;
+			if (lo == 0)
+				hi++;
+		}
+		else {
+			// shrink the magnitude
+			if (lo == 0)
+				hi--;
+			lo--;
+		}
+		out.hi = hi;
+		out.lo = lo;
+	}
+	
+	/**
+	 * out = the next representable number below a.
+	 */
+	static void nextDown(long hi, long lo, Float128Member out) {
+		nextUp(hi ^ SIGN, lo, out);
+		if (!isNan(out.hi, out.lo))
+			out.hi ^= SIGN;
+	}
+	
+	private static BigInteger unsigned(long v) {
+		BigInteger b = BigInteger.valueOf(v & Long.MAX_VALUE);
+		if (v < 0)
+			b = b.setBit(63);
+		return b;
+	}
+	
+	/**
+	 * The double nearest a binary128 number.
+	 */
+	static double toDouble(long hi, long lo) {
+		int e = exponent(hi);
+		if (e == MAX_EXPONENT) {
+			if (isNan(hi, lo))
+				return Double.NaN;
+			return hi < 0 ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+		}
+		int de = e - BIAS + 1023;
+		if (de >= 0x7ff)
+			return hi < 0 ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+		if (de <= 0) {
+			if (isZero(hi, lo))
+				return hi < 0 ? -0.0 : 0.0;
+			
+			// zero or subnormal as a double
+			
+			return toBigDecimal(hi, lo, new MathContext(40)).doubleValue();
+		}
+		
+		// keep the top 52 of the 112 fraction bits and round on the other 60
+		
+		long fraction = ((hi & FRACTION) << 4) | (lo >>> 60);
+		long rest = lo & 0x0fffffffffffffffL;
+		long half = 0x0800000000000000L;
+		long bits = ((long) de << 52) | fraction;
+		if (rest > half || (rest == half && (fraction & 1) != 0))
+			bits++;
+		double d = Double.longBitsToDouble(bits);
+		return hi < 0 ? -d : d;
+	}
+}
@@ -165,6 +165,7 @@ public class Float128Algebra
 	private static final BigDecimal _GAMMA = new BigDecimal(HighPrecisionAlgebra.GAMMA_STR.substring(0, 40));
 	
 	private static final BigDecimal TWO = BigDecimal.valueOf(2);
+	private static final Float128Member ONE = new Float128Member(1L);
 	private static final BigDecimal PI_OVER_TWO = _PI.divide(TWO);
 	private static final BigDecimal MINUS_PI_OVER_TWO = _PI.negate().divide(TWO);
 	
@@ -193,58 +194,14 @@ public class Float128Algebra
 	{
 		@Override
 		public Boolean call(Float128Member a, Float128Member b) {
-
-			// neg zero == pos zero == zero
-			
-			if ((a.classification == Float128Member.POSZERO ||
-					a.classification == Float128Member.NEGZERO) &&
-				(b.classification == Float128Member.POSZERO ||
-					b.classification == Float128Member.NEGZERO))
-			{
-				return true;
-			}
-			
-			// nans never equal anything
-			
-			if (a.classification == Float128Member.NAN || b.classification == Float128Member.NAN) {
-				return false;
-			}
 			
-			// if classifications are different amongst remaining choices they can't be equal
+			// nans never equal anything and neg zero == pos zero
 			
-			if (a.classification != b.classification) {
+			if (a.isNan() || b.isNan())
 				return false;
-			}
-			
-			// if here classifications are the same and neither is nan
-
-			// two regular numbers
-			
-			if (a.classification == Float128Member.NORMAL) {
-				return a.num.compareTo(b.num) == 0;
-			}
-			
-			// neg and pos zeroes
-			
-			if (a.classification == Float128Member.POSZERO || a.classification == Float128Member.NEGZERO) {
-				return b.classification == Float128Member.POSZERO || b.classification == Float128Member.NEGZERO;
-			}
-			
-			// pos inf
-			
-			if (a.classification == Float128Member.POSINF) {
-				// we know by logic that b has the same type
-				return true;
-			}
-			
-			// neg inf
-			
-			if (a.classification == Float128Member.NEGINF) {
-				// we know by logic that b has the same type
+			if (a.isZero() && b.isZero())
 				return true;
-			}
-			
-			throw new IllegalArgumentException("unknown classifications error "+a.classification);
+			return a.hi == b.hi && a.lo == b.lo;
 		}
 	};
 
@@ -300,7 +257,7 @@ public class Float128Algebra
 	{
 		@Override
 		public Boolean call(Float128Member a) {
-			return a.classification == Float128Member.POSZERO || a.classification == Float128Member.NEGZERO;
+			return a.isZero();
 		}
 	};
 			
@@ -314,34 +271,11 @@ public class Float128Algebra
 	{
 		@Override
 		public void call(Float128Member a, Float128Member b) {
-			switch(a.classification) {
-			
-			case Float128Member.NORMAL:
-				b.setV(a.num.negate());
-				break;
-				
-			case Float128Member.POSZERO:
-				b.setNegZero();
-				break;
-				
-			case Float128Member.NEGZERO:
-				b.setPosZero();
-				break;
-				
-			case Float128Member.POSINF:
-				b.setNegInf();
-				break;
-				
-			case Float128Member.NEGINF:
-				b.setPosInf();
-				break;
-				
-			case Float128Member.NAN:
+			if (a.isNan())
 				b.setNan();
-				break;
-				
-			default:
-				throw new IllegalArgumentException("unknown classification error "+a.classification);
+			else {
+				b.hi = a.hi ^ Binary128.SIGN;
+				b.lo = a.lo;
 			}
 		}
 	};
@@ -357,137 +291,7 @@ public class Float128Algebra
 		
 		@Override
 		public void call(Float128Member a, Float128Member b, Float128Member c) {
-			
-			// NOTE: the various special cases were derived from Java's behavior for doubles
-			
-			switch(a.classification) {
-			
-			case Float128Member.NORMAL:
-				
-				if (b.classification == Float128Member.NORMAL) {
-					c.setV(a.num.add(b.num));
-				}
-				else if (b.classification == Float128Member.POSZERO) {
-					c.set(a);
-				}
-				else if (b.classification == Float128Member.NEGZERO) {
-					c.set(a);
-				}
-				else if (b.classification == Float128Member.POSINF) {
-					c.setPosInf();
-				}
-				else if (b.classification == Float128Member.NEGINF) {
-					c.setNegInf();
-				}
-				else if (b.classification == Float128Member.NAN) {
-					c.setNan();
-				}
-				else
-					throw new IllegalArgumentException("unknown classification error "+b.classification);
-				break;
-
-			case Float128Member.POSZERO:
-				
-				if (b.classification == Float128Member.NORMAL) {
-					c.set(b);
-				}
-				else if (b.classification == Float128Member.POSZERO) {
-					c.setPosZero();
-				}
-				else if (b.classification == Float128Member.NEGZERO) {
-					c.setPosZero();
-				}
-				else if (b.classification == Float128Member.POSINF) {
-					c.setPosInf();
-				}
-				else if (b.classification == Float128Member.NEGINF) {
-					c.setNegInf();
-				}
-				else if (b.classification == Float128Member.NAN) {
-					c.setNan();
-				}
-				else
-					throw new IllegalArgumentException("unknown classification error "+b.classification);
-			
-			case Float128Member.NEGZERO:
-				
-				if (b.classification == Float128Member.NORMAL) {
-					c.set(b);
-				}
-				else if (b.classification == Float128Member.POSZERO) {
-					c.setPosZero();
-				}
-				else if (b.classification == Float128Member.NEGZERO) {
-					c.setNegZero();
-				}
-				else if (b.classification == Float128Member.POSINF) {
-					c.setPosInf();
-				}
-				else if (b.classification == Float128Member.NEGINF) {
-					c.setNegInf();
-				}
-				else if (b.classification == Float128Member.NAN) {
-					c.setNan();
-				}
-				else
-					throw new IllegalArgumentException("unknown classification error "+b.classification);
-				break;
-				
-			case Float128Member.POSINF:
-				
-				if (b.classification == Float128Member.NORMAL) {
-					c.setPosInf();
-				}
-				else if (b.classification == Float128Member.POSZERO) {
-					c.setPosInf();
-				}
-				else if (b.classification == Float128Member.NEGZERO) {
-					c.setPosInf();
-				}
-				else if (b.classification == Float128Member.POSINF) {
-					c.setPosInf();
-				}
-				else if (b.classification == Float128Member.NEGINF) {
-					c.setNan();
-				}
-				else if (b.classification == Float128Member.NAN) {
-					c.setNan();
-				}
-				else
-					throw new IllegalArgumentException("unknown classification error "+b.classification);
-				break;
-				
-			case Float128Member.NEGINF:
-				
-				if (b.classification == Float128Member.NORMAL) {
-					c.setNegInf();
-				}
-				else if (b.classification == Float128Member.POSZERO) {
-					c.setNegInf();
-				}
-				else if (b.classification == Float128Member.NEGZERO) {
-					c.setNegInf();
-				}
-				else if (b.classification == Float128Member.POSINF) {
-					c.setNan();
-				}
-				else if (b.classification == Float128Member.NEGINF) {
-					c.setNegInf();
-				}
-				else if (b.classification == Float128Member.NAN) {
-					c.setNan();
-				}
-				else
-					throw new IllegalArgumentException("unknown classification error "+b.classification);
-				break;
-
-			case Float128Member.NAN:
-				c.setNan();
-				break;
-			
-			default:
-				throw new IllegalArgumentException("unknown classification error "+a.classification);
-			}
+			Binary128.add(a, b, false, c);
 		}
 	};
 	
@@ -502,138 +306,7 @@ public class Float128Algebra
 		
 		@Override
 		public void call(Float128Member a, Float128Member b, Float128Member c) {
-			
-			// NOTE: the various special cases were derived from Java's behavior for doubles
-			
-			switch (a.classification) {
-			
-			case Float128Member.NORMAL:
-				
-				if (b.classification == Float128Member.NORMAL) {
-					c.setV(a.num.subtract(b.num));
-				}
-				else if (b.classification == Float128Member.POSZERO) {
-					c.set(a);
-				}
-				else if (b.classification == Float128Member.NEGZERO) {
-					c.set(a);
-				}
-				else if (b.classification == Float128Member.POSINF) {
-					c.setNegInf();
-				}
-				else if (b.classification == Float128Member.NEGINF) {
-					c.setPosInf();
-				}
-				else if (b.classification == Float128Member.NAN) {
-					c.setNan();
-				}
-				else
-					throw new IllegalArgumentException("unknown classification error "+b.classification);
-				break;
-
-			case Float128Member.POSZERO:
-				
-				if (b.classification == Float128Member.NORMAL) {
-					c.setV(b.num.negate());
-				}
-				else if (b.classification == Float128Member.POSZERO) {
-					c.setPosZero();
-				}
-				else if (b.classification == Float128Member.NEGZERO) {
-					c.setPosZero();
-				}
-				else if (b.classification == Float128Member.POSINF) {
-					c.setNegInf();
-				}
-				else if (b.classification == Float128Member.NEGINF) {
-					c.setPosInf();
-				}
-				else if (b.classification == Float128Member.NAN) {
-					c.setNan();
-				}
-				else
-					throw new IllegalArgumentException("unknown classification error "+b.classification);
-				break;
-
-			case Float128Member.NEGZERO:
-				
-				if (b.classification == Float128Member.NORMAL) {
-					c.setV(b.num.negate());
-				}
-				else if (b.classification == Float128Member.POSZERO) {
-					c.setNegZero();
-				}
-				else if (b.classification == Float128Member.NEGZERO) {
-					c.setPosZero();
-				}
-				else if (b.classification == Float128Member.POSINF) {
-					c.setNegInf();
-				}
-				else if (b.classification == Float128Member.NEGINF) {
-					c.setPosInf();
-				}
-				else if (b.classification == Float128Member.NAN) {
-					c.setNan();
-				}
-				else
-					throw new IllegalArgumentException("unknown classification error "+b.classification);
-				break;
-
-			case Float128Member.POSINF:
-				
-				if (b.classification == Float128Member.NORMAL) {
-					c.setPosInf();
-				}
-				else if (b.classification == Float128Member.POSZERO) {
-					c.setPosInf();
-				}
-				else if (b.classification == Float128Member.NEGZERO) {
-					c.setPosInf();
-				}
-				else if (b.classification == Float128Member.POSINF) {
-					c.setNan();
-				}
-				else if (b.classification == Float128Member.NEGINF) {
-					c.setPosInf();
-				}
-				else if (b.classification == Float128Member.NAN) {
-					c.setNan();
-				}
-				else
-					throw new IllegalArgumentException("unknown classification error "+b.classification);
-				break;
-
-			case Float128Member.NEGINF:
-				
-				if (b.classification == Float128Member.NORMAL) {
-					c.setNegInf();
-				}
-				else if (b.classification == Float128Member.POSZERO) {
-					c.setNegInf();
-				}
-				else if (b.classification == Float128Member.NEGZERO) {
-					c.setNegInf();
-				}
-				else if (b.classification == Float128Member.POSINF) {
-					c.setNegInf();
-				}
-				else if (b.classification == Float128Member.NEGINF) {
-					c.setNan();
-				}
-				else if (b.classification == Float128Member.NAN) {
-					c.setNan();
-				}
-				else
-					throw new IllegalArgumentException("unknown classification error "+b.classification);
-				break;
-
-			case Float128Member.NAN:
-				c.setNan();
-				break;
-
-			default:
-				throw new IllegalArgumentException("unknown classification error "+a.classification);
-			}
+			Binary128.add(a, b, true, c);
 		}
 	};
 
@@ -647,162 +320,7 @@ public class Float128Algebra
 	{
 		@Override
 		public void call(Float128Member a, Float128Member b, Float128Member c) {
-			
-			// NOTE: the various special cases were derived from Java's behavior for doubles
-			
-			switch (a.classification) {
-			
-			case Float128Member.NORMAL:
-
-				if (b.classification == Float128Member.NORMAL) {
-					c.setV(a.num.multiply(b.num, CONTEXT));
-				}
-				else if (b.classification == Float128Member.POSZERO) {
-					if (a.num.signum() < 0)
-						c.setNegZero();
-					else
-						c.setPosZero();
-				}
-				else if (b.classification == Float128Member.NEGZERO) {
-					if (a.num.signum() < 0)
-						c.setPosZero();
-					else
-						c.setNegZero();
-				}
-				else if (b.classification == Float128Member.POSINF) {
-					if (a.num.signum() < 0)
-						c.setNegInf();
-					else
-						c.setPosInf();
-				}
-				else if (b.classification == Float128Member.NEGINF) {
-					if (a.num.signum() < 0)
-						c.setPosInf();
-					else
-						c.setNegInf();
-				}
-				else if (b.classification == Float128Member.NAN) {
-					c.setNan();
-				}
-				else
-					throw new IllegalArgumentException("unknown classification error "+b.classification);
-				break;
-
-			case Float128Member.POSZERO:
-				
-				if (b.classification == Float128Member.NORMAL) {
-					if (b.num.signum() < 0)
-						c.setNegZero();
-					else
-						c.setPosZero();
-				}
-				else if (b.classification == Float128Member.POSZERO) {
-					c.setPosZero();
-				}
-				else if (b.classification == Float128Member.NEGZERO) {
-					c.setNegZero();
-				}
-				else if (b.classification == Float128Member.POSINF) {
-					c.setNan();
-				}
-				else if (b.classification == Float128Member.NEGINF) {
-					c.setNan();
-				}
-				else if (b.classification == Float128Member.NAN) {
-					c.setNan();
-				}
-				else
-					throw new IllegalArgumentException("unknown classification error "+b.classification);
-				break;
-
-			case Float128Member.NEGZERO:
-				
-				if (b.classification == Float128Member.NORMAL) {
-					if (b.num.signum() < 0)
-						c.setPosZero();
-					else
-						c.setNegZero();
-				}
-				else if (b.classification == Float128Member.POSZERO) {
-					c.setNegZero();
-				}
-				else if (b.classification == Float128Member.NEGZERO) {
-					c.setPosZero();
-				}
-				else if (b.classification == Float128Member.POSINF) {
-					c.setNan();
-				}
-				else if (b.classification == Float128Member.NEGINF) {
-					c.setNan();
-				}
-				else if (b.classification == Float128Member.NAN) {
-					c.setNan();
-				}
-				else
-					throw new IllegalArgumentException("unknown classification error "+b.classification);
-				break;
-
-			case Float128Member.POSINF:
-				
-				if (b.classification == Float128Member.NORMAL) {
-					if (b.num.signum() < 0)
-						c.setNegInf();
-					else
-						c.setPosInf();
-				}
-				else if (b.classification == Float128Member.POSZERO) {
-					c.setNan();
-				}
-				else if (b.classification == Float128Member.NEGZERO) {
-					c.setNan();
-				}
-				else if (b.classification == Float128Member.POSINF) {
-					c.setPosInf();
-				}
-				else if (b.classification == Float128Member.NEGINF) {
-					c.setNegInf();
-				}
-				else if (b.classification == Float128Member.NAN) {
-					c.setNan();
-				}
-				else
-					throw new IllegalArgumentException("unknown classification error "+b.classification);
-				break;
-
-			case Float128Member.NEGINF:
-				
-				if (b.classification == Float128Member.NORMAL) {
-					if (b.num.signum() < 0)
-						c.setPosInf();
-					else
-						c.setNegInf();
-				}
-				else if (b.classification == Float128Member.POSZERO) {
-					c.setNan();
-				}
-				else if (b.classification == Float128Member.NEGZERO) {
-					c.setNan();
-				}
-				else if (b.classification == Float128Member.POSINF) {
-					c.setNegInf();
-				}
-				else if (b.classification == Float128Member.NEGINF) {
-					c.setPosInf();
-				}
-				else if (b.classification == Float128Member.NAN) {
-					c.setNan();
-				}
-				else
-					throw new IllegalArgumentException("unknown classification error "+b.classification);
-				break;
-
-			case Float128Member.NAN:
-				c.setNan();
-				break;
-
-			default:
-				throw new IllegalArgumentException("unknown classification error "+a.classification);
-			}
+			Binary128.multiply(a, b, c);
 		}
 	};
 
@@ -816,7 +334,7 @@ public class Float128Algebra
 	{
 		@Override
 		public void call(Integer p, Float128Member a, Float128Member b) {
-			if (a.classification == Float128Member.NAN) {
+			if (a.classification() == Float128Member.NAN) {
 				b.setNan();
 			}
 			else
@@ -834,7 +352,7 @@ public class Float128Algebra
 	{
 		@Override
 		public void call(Float128Member a) {
-			a.setV(BigDecimal.ONE);
+			Binary128.setOne(a);
 		}
 	};
 
@@ -848,7 +366,7 @@ public class Float128Algebra
 	{
 		@Override
 		public Boolean call(Float128Member a) {
-			return a.classification == Float128Member.NORMAL && a.num.compareTo(BigDecimal.ONE) == 0;
+			return Binary128.isOne(a.hi, a.lo);
 		}
 	};
 			
@@ -862,28 +380,7 @@ public class Float128Algebra
 	{
 		@Override
 		public void call(Float128Member a, Float128Member b) {
-			switch (a.classification) {
-			case Float128Member.NORMAL:
-				b.setV(BigDecimal.ONE.divide(a.num, CONTEXT));
-				break;
-			case Float128Member.POSZERO:
-				b.setPosInf();
-				break;
-			case Float128Member.NEGZERO:
-				b.setNegInf();
-				break;
-			case Float128Member.POSINF:
-				b.setPosZero();
-				break;
-			case Float128Member.NEGINF:
-				b.setNegZero();
-				break;
-			case Float128Member.NAN:
-				b.setNan();
-				break;
-			default:
-				throw new IllegalArgumentException("unknown classification error "+a.classification);
-			}
+			Binary128.divide(ONE, a, b);
 		}
 	};
 			
@@ -897,162 +394,7 @@ public class Float128Algebra
 	{
 		@Override
 		public void call(Float128Member a, Float128Member b, Float128Member c) {
-
-			// NOTE: the various special cases were derived from Java's behavior for doubles
-			
-			switch (a.classification) {
-			
-			case Float128Member.NORMAL:
-				
-				if (b.classification == Float128Member.NORMAL) {
-					c.setV(a.num.divide(b.num, CONTEXT));
-				}
-				else if (b.classification == Float128Member.POSZERO) {
-					if (a.num.signum() < 0)
-						c.setNegInf();
-					else
-						c.setPosInf();
-				}
-				else if (b.classification == Float128Member.NEGZERO) {
-					if (a.num.signum() < 0)
-						c.setPosInf();
-					else
-						c.setNegInf();
-				}
-				else if (b.classification == Float128Member.POSINF) {
-					if (a.num.signum() < 0)
-						c.setNegZero();
-					else
-						c.setPosZero();
-				}
-				else if (b.classification == Float128Member.NEGINF) {
-					if (a.num.signum() < 0)
-						c.setPosZero();
-					else
-						c.setNegZero();
-				}
-				else if (b.classification == Float128Member.NAN) {
-					c.setNan();
-				}
-				else
-					throw new IllegalArgumentException("unknown classification error "+b.classification);
-				break;
-
-			case Float128Member.POSZERO:
-				
-				if (b.classification == Float128Member.NORMAL) {
-					if (b.num.signum() < 0)
-						c.setNegZero();
-					else
-						c.setPosZero();
-				}
-				else if (b.classification == Float128Member.POSZERO) {
-					c.setNan();
-				}
-				else if (b.classification == Float128Member.NEGZERO) {
-					c.setNan();
-				}
-				else if (b.classification == Float128Member.POSINF) {
-					c.setPosZero();
-				}
-				else if (b.classification == Float128Member.NEGINF) {
-					c.setNegZero();
-				}
-				else if (b.classification == Float128Member.NAN) {
-					c.setNan();
-				}
-				else
-					throw new IllegalArgumentException("unknown classification error "+b.classification);
-				break;
-			
-			case Float128Member.NEGZERO:
-				
-				if (b.classification == Float128Member.NORMAL) {
-					if (b.num.signum() < 0)
-						c.setPosZero();
-					else
-						c.setNegZero();
-				}
-				else if (b.classification == Float128Member.POSZERO) {
-					c.setNan();
-				}
-				else if (b.classification == Float128Member.NEGZERO) {
-					c.setNan();
-				}
-				else if (b.classification == Float128Member.POSINF) {
-					c.setNegZero();
-				}
-				else if (b.classification == Float128Member.NEGINF) {
-					c.setPosZero();
-				}
-				else if (b.classification == Float128Member.NAN) {
-					c.setNan();
-				}
-				else
-					throw new IllegalArgumentException("unknown classification error "+b.classification);
-				break;
-			
-			case Float128Member.POSINF:
-				
-				if (b.classification == Float128Member.NORMAL) {
-					if (b.num.signum() < 0)
-						c.setNegInf();
-					else
-						c.setPosInf();
-				}
-				else if (b.classification == Float128Member.POSZERO) {
-					c.setPosInf();
-				}
-				else if (b.classification == Float128Member.NEGZERO) {
-					c.setNegInf();
-				}
-				else if (b.classification == Float128Member.POSINF) {
-					c.setNan();
-				}
-				else if (b.classification == Float128Member.NEGINF) {
-					c.setNan();
-				}
-				else if (b.classification == Float128Member.NAN) {
-					c.setNan();
-				}
-				else
-					throw new IllegalArgumentException("unknown classification error "+b.classification);
-				break;
-			
-			case Float128Member.NEGINF:
-				
-				if (b.classification == Float128Member.NORMAL) {
-					if (b.num.signum() < 0)
-						c.setPosInf();
-					else
-						c.setNegInf();
-				}
-				else if (b.classification == Float128Member.POSZERO) {
-					c.setNegInf();
-				}
-				else if (b.classification == Float128Member.NEGZERO) {
-					c.setPosInf();
-				}
-				else if (b.classification == Float128Member.POSINF) {
-					c.setNan();
-				}
-				else if (b.classification == Float128Member.NEGINF) {
-					c.setNan();
-				}
-				else if (b.classification == Float128Member.NAN) {
-					c.setNan();
-				}
-				else
-					throw new IllegalArgumentException("unknown classification error "+b.classification);
-				break;
-			
-			case Float128Member.NAN:
-				c.setNan();
-				break;
-
-			default:
-				throw new IllegalArgumentException("unknown classification error "+a.classification);
-			}
+			Binary128.divide(a, b, c);
 		}
 	};
 
@@ -1123,136 +465,13 @@ public class Float128Algebra
 		@Override
 		public Integer call(Float128Member a, Float128Member b) {
 
-			switch (a.classification) {
+			// nans sort before everything and equal each other
 			
-			case Float128Member.NORMAL:
-
-				if (b.classification == Float128Member.NORMAL) {
-					return a.num.compareTo(b.num);
-				}
-				else if (b.classification == Float128Member.POSZERO) {
-					return a.num.compareTo(BigDecimal.ZERO);
-				}
-				else if (b.classification == Float128Member.NEGZERO) {
-					return a.num.compareTo(BigDecimal.ZERO);
-				}
-				else if (b.classification == Float128Member.POSINF) {
-					return -1;
-				}
-				else if (b.classification == Float128Member.NEGINF) {
-					return 1;
-				}
-				else if (b.classification == Float128Member.NAN) {
-					return -1;
-				}
-				else
-					throw new IllegalArgumentException("unknown classification error "+a.classification);
-				
-			case Float128Member.POSZERO:
-
-				if (b.classification == Float128Member.NORMAL) {
-					return BigDecimal.ZERO.compareTo(b.num);
-				}
-				else if (b.classification == Float128Member.POSZERO) {
-					return 0;
-				}
-				else if (b.classification == Float128Member.NEGZERO) {
-					return 1;
-				}
-				else if (b.classification == Float128Member.POSINF) {
-					return -1;
-				}
-				else if (b.classification == Float128Member.NEGINF) {
-					return 1;
-				}
-				else if (b.classification == Float128Member.NAN) {
-					return -1;
-				}
-				else
-					throw new IllegalArgumentException("unknown classification error "+a.classification);
-				
-			case Float128Member.NEGZERO:
-
-				if (b.classification == Float128Member.NORMAL) {
-					return BigDecimal.ZERO.compareTo(b.num);
-				}
-				else if (b.classification == Float128Member.POSZERO) {
-					return -1;
-				}
-				else if (b.classification == Float128Member.NEGZERO) {
-					return 0;
-				}
-				else if (b.classification == Float128Member.POSINF) {
-					return -1;
-				}
-				else if (b.classification == Float128Member.NEGINF) {
-					return 1;
-				}
-				else if (b.classification == Float128Member.NAN) {
-					return -1;
-				}
-				else
-					throw new IllegalArgumentException("unknown classification error "+a.classification);
-
-			case Float128Member.POSINF:
-
-				if (b.classification == Float128Member.NORMAL) {
-					return 1;
-				}
-				else if (b.classification == Float128Member.POSZERO) {
-					return 1;
-				}
-				else if (b.classification == Float128Member.NEGZERO) {
-					return 1;
-				}
-				else if (b.classification == Float128Member.POSINF) {
-					return 0;
-				}
-				else if (b.classification == Float128Member.NEGINF) {
-					return 1;
-				}
-				else if (b.classification == Float128Member.NAN) {
-					return -1;
-				}
-				else
-					throw new IllegalArgumentException("unknown classification error "+a.classification);
-
-			case Float128Member.NEGINF:
-
-				if (b.classification == Float128Member.NORMAL) {
-					return -1;
-				}
-				else if (b.classification == Float128Member.POSZERO) {
-					return -1;
-				}
-				else if (b.classification == Float128Member.NEGZERO) {
-					return -1;
-				}
-				else if (b.classification == Float128Member.POSINF) {
-					return -1;
-				}
-				else if (b.classification == Float128Member.NEGINF) {
-					return 0;
-				}
-				else if (b.classification == Float128Member.NAN) {
-					return -1;
-				}
-				else
-					throw new IllegalArgumentException("unknown classification error "+a.classification);
-
-			case Float128Member.NAN:
-
-				if (b.classification == Float128Member.NAN) {
-					return 0;
-				}
-				else if (Math.abs(b.classification) < Float128Member.NAN)
-					return -1;
-				else
-					throw new IllegalArgumentException("unknown classification error "+a.classification);
-
-			default:
-				throw new IllegalArgumentException("unknown classification error "+a.classification);
-			}
+			if (a.isNan())
+				return b.isNan() ? 0 : -1;
+			if (b.isNan())
+				return -1;
+			return Binary128.compare(a.hi, a.lo, b.hi, b.lo);
 		}
 	};
 
@@ -1266,22 +485,11 @@ public class Float128Algebra
 	{
 		@Override
 		public Integer call(Float128Member a) {
-			switch (a.classification) {
-				case Float128Member.NORMAL:
-					return a.num.signum();
-				case Float128Member.POSZERO:
-					return 0;
-				case Float128Member.NEGZERO:
-					return 0;
-				case Float128Member.POSINF:
-					return 1;
-				case Float128Member.NEGINF:
-					return -1;
-				case Float128Member.NAN:
-					throw new IllegalArgumentException("signum of a nan value is impossible");
-				default:
-					throw new IllegalArgumentException("unknown classification error "+a.classification);
-			}
+			if (a.isNan())
+				throw new IllegalArgumentException("signum of a nan value is impossible");
+			if (a.isZero())
+				return 0;
+			return (a.hi < 0) ? -1 : 1;
 		}
 	};
 	
@@ -1323,35 +531,11 @@ public class Float128Algebra
 	{
 		@Override
 		public void call(Float128Member a, Float128Member b) {
-			
-			switch(a.classification) {
-
-			case Float128Member.NORMAL:
-				b.setV(a.num.abs());
-				break;
-
-			case Float128Member.POSZERO:
-				b.setPosZero();
-				break;
-
-			case Float128Member.NEGZERO:
-				b.setPosZero();
-				break;
-
-			case Float128Member.POSINF:
-				b.setPosInf();
-				break;
-
-			case Float128Member.NEGINF:
-				b.setPosInf();
-				break;
-			
-			case Float128Member.NAN:
+			if (a.isNan())
 				b.setNan();
-				break;
-			
-			default:
-				throw new IllegalArgumentException("unknown classification error "+a.classification);
+			else {
+				b.hi = a.hi & ~Binary128.SIGN;
+				b.lo = a.lo;
 			}
 		}
 	};
@@ -1523,11 +707,7 @@ public class Float128Algebra
 		@Override
 		public void call(Float128Member a, Float128Member b, Float128Member d, Float128Member m) {
 			if (a.isFinite() && b.isFinite()) {
-				BigDecimal divI = a.num.divideToIntegralValue(b.num);
-				BigDecimal integral = divI.multiply(b.num, CONTEXT);
-				BigDecimal remainder = a.num.subtract(integral);
-				d.setV(divI);
-				m.setV(remainder);
+				Binary128.divideToIntegral(a, b, d, m);
 			}
 			else {
 				if (a.isNan() || b.isNan()) {
@@ -1535,7 +715,7 @@ public class Float128Algebra
 					m.setNan();
 				}
 				else if (a.isInfinite()) {
-					switch (b.classification) {
+					switch (b.classification()) {
 						case Float128Member.NORMAL:
 							break;
 						case Float128Member.POSZERO:
@@ -1558,21 +738,21 @@ public class Float128Algebra
 							m.setPosZero();
 							break;
 						default:
-							throw new IllegalArgumentException("unknown classification error "+b.classification);
+							throw new IllegalArgumentException("unknown classification error "+b.classification());
 					}
 				}
 				else if (b.isInfinite()) {
-					switch (a.classification) {
+					switch (a.classification()) {
 						case Float128Member.NORMAL:
 							if (b.isPosInf()) {
-								if (a.num.signum() < 0)
+								if (a.hi < 0)
 									d.setNegZero();
 								else
 									d.setPosZero();
 								m.setPosZero();
 							}
 							else { // b is neg inf
-								if (a.num.signum() < 0)
+								if (a.hi < 0)
 									d.setPosZero();
 								else
 									d.setNegZero();
@@ -1594,11 +774,11 @@ public class Float128Algebra
 							m.setPosZero();
 							break;
 						default:
-							throw new IllegalArgumentException("unknown classification error "+a.classification);
+							throw new IllegalArgumentException("unknown classification error "+a.classification());
 					}
 				}
 				else
-					throw new IllegalArgumentException("unknown classification error "+a.classification);
+					throw new IllegalArgumentException("unknown classification error "+a.classification());
 			}
 		}
 	};
@@ -1613,68 +793,14 @@ public class Float128Algebra
 	{
 		@Override
 		public void call(Float128Member magnitude, Float128Member sign, Float128Member result) {
-			BigDecimal mag;
-			boolean neg;
-			switch (sign.classification) {
-				case Float128Member.NORMAL:
-					neg = (sign.num.signum() < 0);
-					break;
-				case Float128Member.POSZERO:
-					neg = false;
-					break;
-				case Float128Member.NEGZERO:
-					neg = true;
-					break;
-				case Float128Member.POSINF:
-					neg = false;
-					break;
-				case Float128Member.NEGINF:
-					neg = true;
-					break;
-				case Float128Member.NAN:
-					// copy java StrictMath's approach
-					neg = false;
-					break;
-				default:
-					throw new IllegalArgumentException("unknown classification error "+magnitude.classification);
-			}
-			switch (magnitude.classification) {
-				case Float128Member.NORMAL:
-					mag = magnitude.num.abs();
-					if (neg)
-						mag = mag.negate();
-					result.setV(mag);
-					break;
-				case Float128Member.POSZERO:
-					if (neg)
-						result.setNegZero();
-					else
-						result.setPosZero();
-					break;
-				case Float128Member.NEGZERO:
-					if (neg)
-						result.setNegZero();
-					else
-						result.setPosZero();
-					break;
-				case Float128Member.POSINF:
-					if (neg)
-						result.setNegInf();
-					else
-						result.setPosInf();
-					break;
-				case Float128Member.NEGINF:
-					if (neg)
-						result.setNegInf();
-					else
-						result.setPosInf();
-					break;
-				case Float128Member.NAN:
-					result.setNan();
-					break;
-				default:
-					throw new IllegalArgumentException("unknown classification error "+magnitude.classification);
+			if (magnitude.isNan()) {
+				result.setNan();
+				return;
 			}
+			// copy java StrictMath's approach: a nan sign is positive
+			boolean neg = !sign.isNan() && sign.hi < 0;
+			result.hi = (magnitude.hi & ~Binary128.SIGN) | (neg ? Binary128.SIGN : 0);
+			result.lo = magnitude.lo;
 		}
 	};
 
@@ -1688,12 +814,9 @@ public class Float128Algebra
 	{
 		@Override
 		public Integer call(Float128Member a) {
-			switch (a.classification) {
+			switch (a.classification()) {
 				case Float128Member.NORMAL:
-					byte[] byteRep = new byte[16];
-					a.toByteArray(byteRep, 0);
-					int biasedExponent = ((byteRep[15] & 0x7f) << 8) | (byteRep[14] & 0xff);
-					return biasedExponent - 16383;
+					return Binary128.exponent(a.hi) - 16383;
 				case Float128Member.POSZERO:
 					return -16382 - 1;  // mirror java double behavior but adjusted for 128 bits
 				case Float128Member.NEGZERO:
@@ -1705,7 +828,7 @@ public class Float128Algebra
 				case Float128Member.NAN:
 					return 16383 + 1;  // mirror java double behavior but adjusted for 128 bits
 				default:
-					throw new IllegalArgumentException("unknown classification error "+a.classification);
+					throw new IllegalArgumentException("unknown classification error "+a.classification());
 			}
 		}
 	};
@@ -1720,9 +843,9 @@ public class Float128Algebra
 	{
 		@Override
 		public void call(Integer scaleFactor, Float128Member a, Float128Member b) {
-			switch (a.classification) {
+			switch (a.classification()) {
 				case Float128Member.NORMAL:
-					b.setV(a.num.multiply(TWO.pow(scaleFactor, CONTEXT), CONTEXT));
+					Binary128.scalb(a.hi, a.lo, scaleFactor, b);
 					break;
 				case Float128Member.POSZERO:
 					b.setPosZero();
@@ -1740,7 +863,7 @@ public class Float128Algebra
 					b.setNan();
 					break;
 				default:
-					throw new IllegalArgumentException("unknown classification error "+a.classification);
+					throw new IllegalArgumentException("unknown classification error "+a.classification());
 			}
 		}
 	};
@@ -1763,9 +886,9 @@ public class Float128Algebra
 		public void call(Float128Member a, Float128Member ulp) {
 			Float128Member top = G.QUAD.construct();
 			Float128Member bottom = G.QUAD.construct();
-			switch (a.classification) {
+			switch (a.classification()) {
 				case Float128Member.NORMAL:
-					if (a.num.compareTo(Float128Member.MAX_NORMAL) == 0) {
+					if (a.hi == 0x7ffeffffffffffffL && a.lo == 0xffffffffffffffffL) {
 						// succ() of a is not finite
 						ulp.setV(MAX_ULP);    // see constant above
 					}
@@ -1791,7 +914,7 @@ public class Float128Algebra
 					ulp.setNan();
 					break;
 				default:
-					throw new IllegalArgumentException("unknown classification error "+a.classification);
+					throw new IllegalArgumentException("unknown classification error "+a.classification());
 			}
 		}
 	};
@@ -1806,126 +929,7 @@ public class Float128Algebra
 	{
 		@Override
 		public void call(Float128Member a, Float128Member b) {
-			switch (a.classification) {
-			case Float128Member.NORMAL:
-				// this code is slow but it is very easy to understand and it eliminates
-				// a bunch of confusing and probably buggy code below
-				if (a.num.compareTo(Float128Member.MIN_NORMAL) == 0)
-					b.setV(Float128Member.MAX_SUBNORMAL);
-				else if (a.num.compareTo(Float128Member.MIN_SUBNORMAL) == 0)
-					b.setPosZero();
-				else if (a.num.compareTo(Float128Member.MAX_SUBNORMAL.negate()) == 0)
-					b.setV(Float128Member.MIN_NORMAL.negate());
-				else if (a.num.compareTo(Float128Member.MAX_NORMAL.negate()) == 0)
-					b.setNegInf();
-				else {
-					// we do not have any tricky boundary conditions
-					byte[] bytes = new byte[16];
-					a.toByteArray(bytes, 0);
-					if (G.QUAD.signum().call(a) > 0) {
-						// number is positive
-						// move towards zero
-						// find a decrementable fraction byte
-						int spot = -1;
-						for (int i = 0; i <= 13; i++) {  // work from lsb to msb is correct here
-							if (bytes[i] != 0) {
-								spot = i;
-								i = 14;
-							}
-						}
-						// found a decrementable fraction byte
-						if (spot != -1) {
-							bytes[spot] = (byte) ((bytes[spot] & 0xff) - 1);
-							for (int i = spot-1; i >= 0; i--) {
-								bytes[i] = (byte) 0xff;
-							}
-							b.fromByteArray(bytes, 0);
-						}
-						else {
-							// did not find one. find a decremental exponent byte
-							if ((bytes[14] & 0xff) != 0) {
-								bytes[14] = (byte) ((bytes[14] & 0xff) - 1);
-								for (int i = 13; i >= 0; i--) {
-									bytes[i] = (byte) 0xff;
-								}
-								b.fromByteArray(bytes, 0);
-							}
-							else if ((bytes[15] & 0x7f) != 0) {
-								bytes[15] = (byte) ((bytes[15] & 0xff) - 1);
-								bytes[14] = (byte) 0xff;
-								for (int i = 13; i >= 0; i--) {
-									bytes[i] = (byte) 0xff;
-								}
-								b.fromByteArray(bytes, 0);
-							}
-							else {
-								// this implies that a was some zero and the classification rules that out
-								throw new IllegalArgumentException("if we got here my code has a bug");
-							}
-						}
-					}
-					else {
-						// number is negative
-						// move away from zero
-						// find an incrementable fraction byte
-						int spot = -1;
-						for (int i = 0; i <= 13; i++) {  // work from lsb to msb is correct here
-							if (bytes[i] != 0xff) {
-								spot = i;
-								i = 14;
-							}
-						}
-						// found a incrementable fraction byte
-						if (spot != -1) {
-							bytes[spot] = (byte) ((bytes[spot] & 0xff) + 1);
-							for (int i = spot-1; i >= 0; i--) {
-								bytes[i] = 0;
-							}
-							b.fromByteArray(bytes, 0);
-						}
-						else {
-							// did not find one. find an incremental exponent byte
-							if ((bytes[14] & 0xff) != 0xff) {
-								bytes[14] = (byte) ((bytes[14] & 0xff) + 1);
-								for (int i = 13; i >= 0; i--) {
-									bytes[i] = 0;
-								}
-								b.fromByteArray(bytes, 0);
-							}
-							else if ((bytes[15] & 0x7f) != 0x7f) {
-								bytes[15] = (byte) ((bytes[15] & 0xff) + 1);
-								bytes[14] = 0;
-								for (int i = 13; i >= 0; i--) {
-									bytes[i] = 0;
-								}
-								b.fromByteArray(bytes, 0);
-							}
-							else {
-								// this implies that a was some Infinity and the classification rules that out
-								throw new IllegalArgumentException("if we got here my code has a bug");
-							}
-						}
-					}
-				}
-				break;
-			case Float128Member.POSZERO:
-				b.setV(Float128Member.MIN_SUBNORMAL.negate());
-				break;
-			case Float128Member.NEGZERO:
-				b.setV(Float128Member.MIN_SUBNORMAL.negate());
-				break;
-			case Float128Member.POSINF:
-				b.setV(Float128Member.MAX_NORMAL);
-				break;
-			case Float128Member.NEGINF:
-				b.setNegInf(); // trap here
-				break;
-			case Float128Member.NAN:
-				b.setNan();
-				break;
-			default:
-				throw new IllegalArgumentException("unknown classification error "+a.classification);
-			}
+			Binary128.nextDown(a.hi, a.lo, b);
 		}
 	};
 
@@ -1939,126 +943,7 @@ public class Float128Algebra
 	{
 		@Override
 		public void call(Float128Member a, Float128Member b) {
-			switch (a.classification) {
-			case Float128Member.NORMAL:
-				// this code is slow but it is very easy to understand and it eliminates
-				// a bunch of confusing and probably buggy code below
-				if (a.num.compareTo(Float128Member.MIN_NORMAL.negate()) == 0)
-					b.setV(Float128Member.MAX_SUBNORMAL.negate());
-				else if (a.num.compareTo(Float128Member.MIN_SUBNORMAL.negate()) == 0)
-					b.setNegZero();
-				else if (a.num.compareTo(Float128Member.MAX_SUBNORMAL) == 0)
-					b.setV(Float128Member.MIN_NORMAL);
-				else if (a.num.compareTo(Float128Member.MAX_NORMAL) == 0)
-					b.setPosInf();
-				else {
-					// we do not have any tricky boundary conditions
-					byte[] bytes = new byte[16];
-					a.toByteArray(bytes, 0);
-					if (G.QUAD.signum().call(a) > 0) {
-						// number is positive
-						// move away from zero
-						// find an incrementable fraction byte
-						int spot = -1;
-						for (int i = 0; i <= 13; i++) {  // work from lsb to msb is correct here
-							if (bytes[i] != 0xff) {
-								spot = i;
-								i = 14;
-							}
-						}
-						// found a incrementable fraction byte
-						if (spot != -1) {
-							bytes[spot] = (byte) ((bytes[spot] & 0xff) + 1);
-							for (int i = spot-1; i >= 0; i--) {
-								bytes[i] = 0;
-							}
-							b.fromByteArray(bytes, 0);
-						}
-						else {
-							// did not find one. find an incremental exponent byte
-							if ((bytes[14] & 0xff) != 0xff) {
-								bytes[14] = (byte) ((bytes[14] & 0xff) + 1);
-								for (int i = 13; i >= 0; i--) {
-									bytes[i] = 0;
-								}
-								b.fromByteArray(bytes, 0);
-							}
-							else if ((bytes[15] & 0x7f) != 0x7f) {
-								bytes[15] = (byte) ((bytes[15] & 0xff) + 1);
-								bytes[14] = 0;
-								for (int i = 13; i >= 0; i--) {
-									bytes[i] = 0;
-								}
-								b.fromByteArray(bytes, 0);
-							}
-							else {
-								// this implies that a was some Infinity and the classification rules that out
-								throw new IllegalArgumentException("if we got here my code has a bug");
-							}
-						}
-					}
-					else {
-						// number is negative
-						// move towards from zero
-						// find a decrementable fraction byte
-						int spot = -1;
-						for (int i = 0; i <= 13; i++) {  // work from lsb to msb is correct here
-							if (bytes[i] != 0) {
-								spot = i;
-								i = 14;
-							}
-						}
-						// found a decrementable fraction byte
-						if (spot != -1) {
-							bytes[spot] = (byte) ((bytes[spot] & 0xff) - 1);
-							for (int i = spot-1; i >= 0; i--) {
-								bytes[i] = (byte) 0xff;
-							}
-							b.fromByteArray(bytes, 0);
-						}
-						else {
-							// did not find one. find a decremental exponent byte
-							if ((bytes[14] & 0xff) != 0) {
-								bytes[14] = (byte) ((bytes[14] & 0xff) - 1);
-								for (int i = 13; i >= 0; i--) {
-									bytes[i] = (byte) 0xff;
-								}
-								b.fromByteArray(bytes, 0);
-							}
-							else if ((bytes[15] & 0x7f) != 0) {
-								bytes[15] = (byte) ((bytes[15] & 0xff) - 1);
-								bytes[14] = (byte) 0xff;
-								for (int i = 13; i >= 0; i--) {
-									bytes[i] = (byte) 0xff;
-								}
-								b.fromByteArray(bytes, 0);
-							}
-							else {
-								// this implies that a was some zero and the classification rules that out
-								throw new IllegalArgumentException("if we got here my code has a bug");
-							}
-						}
-					}
-				}
-				break;
-			case Float128Member.POSZERO:
-				b.setV(Float128Member.MIN_SUBNORMAL);
-				break;
-			case Float128Member.NEGZERO:
-				b.setV(Float128Member.MIN_SUBNORMAL);
-				break;
-			case Float128Member.POSINF:
-				b.setPosInf(); // trap here
-				break;
-			case Float128Member.NEGINF:
-				b.setV(Float128Member.MIN_NORMAL);
-				break;
-			case Float128Member.NAN:
-				b.setNan();
-				break;
-			default:
-				throw new IllegalArgumentException("unknown classification error "+a.classification);
-			}
+			Binary128.nextUp(a.hi, a.lo, b);
 		}
 	};
 
@@ -2101,17 +986,10 @@ public class Float128Algebra
 		@Override
 		public void call(Float128Member a) {
 			ThreadLocalRandom rng = ThreadLocalRandom.current();
-			byte[] bytes = new byte[16];
-			bytes[15] = (byte) 0x3f;
-			bytes[14] = (byte) 0xff;
-			for (int i = 13; i >= 0; i--) {
-				bytes[i] = (byte) rng.nextInt(256);
-			}
-			// so at this point bytes encode something in range [1.0, 2.0)
-			Float128Member tmp = G.QUAD.construct();
-			tmp.fromByteArray(bytes, 0);
-			// now take that num and correct into [0.0, 1.0)
-			a.setV(tmp.num.subtract(BigDecimal.ONE));
+			long fraction1 = rng.nextLong() & Binary128.FRACTION;
+			long fraction0 = rng.nextLong();
+			// 112 random fraction bits times 2^-112 is in range [0.0, 1.0)
+			Binary128.roundPack(false, Binary128.BIAS + 64, 0, fraction1, fraction0, a);
 		}
 	};
 
@@ -2134,6 +1012,21 @@ public class Float128Algebra
 		return ROUND;
 	}
 
+	// The special cases of pow() read a non-finite value's num() as zero.
+	//   These give the same answers straight from the bits.
+	
+	private static int numSignum(Float128Member a) {
+		if (!a.isFinite() || a.isZero())
+			return 0;
+		return (a.hi < 0) ? -1 : 1;
+	}
+	
+	private static int numMagnitudeVersusOne(Float128Member a) {
+		if (!a.isFinite())
+			return -1;
+		return Binary128.compareMagnitudeToOne(a.hi, a.lo);
+	}
+	
 	// TODO
 	//   I tested various cases of float64 code to glean correct behavior.
 	//   Some of the results returned 0.0 but maybe they were really -0.0s.
@@ -2214,13 +1107,13 @@ public class Float128Algebra
 			// 1) If the second argument is positive or negative zero, then the result is 1.0.
 			
 			if (b.isZero()) {
-				c.setV(BigDecimal.ONE);
+				Binary128.setOne(c);
 				return;
 			}
 			
 			// 2) If the second argument is 1.0, then the result is the same as the first argument.
 			
-			if (b.num.compareTo(BigDecimal.ONE) == 0) {
+			if (Binary128.isOne(b.hi, b.lo)) {
 				c.set(a);
 				return;
 			}
@@ -2245,19 +1138,19 @@ public class Float128Algebra
 			// the absolute value of the first argument is less than 1 and the second argument is negative infinity,
 			// then the result is positive infinity.
 			
-			if ((a.isPosInf() || (a.num.abs().compareTo(BigDecimal.ONE) > 0)) && b.isPosInf()) {
+			if ((a.isPosInf() || (numMagnitudeVersusOne(a) > 0)) && b.isPosInf()) {
 				c.setPosInf();
 				return;
 			}
 			
-			if ((a.isNegInf() || (a.num.abs().compareTo(BigDecimal.ONE) < 0)) && b.isNegInf()) {
+			if ((a.isNegInf() || (numMagnitudeVersusOne(a) < 0)) && b.isNegInf()) {
 				c.setPosInf();
 				return;
 			}
 
 			// 6) If the absolute value of the first argument equals 1 and the second argument is infinite, then the result is NaN.
 
-			if ((a.num.abs().compareTo(BigDecimal.ONE) == 0) && b.isInfinite()) {
+			if ((numMagnitudeVersusOne(a) == 0) && b.isInfinite()) {
 				c.setNan();  // Note: tested w/flt64s: 1^Inf really is NaN.
 				return;
 			}
@@ -2268,12 +1161,12 @@ public class Float128Algebra
 			// the first argument is positive infinity and the second argument is less than zero,
 			// then the result is positive zero.
 
-			if (a.isPosZero() && (b.num.compareTo(BigDecimal.ZERO) > 0)) {
+			if (a.isPosZero() && (numSignum(b) > 0)) {
 				c.setPosZero();
 				return;
 			}
 
-			if (a.isPosInf() && (b.num.compareTo(BigDecimal.ZERO) < 0)) {
+			if (a.isPosInf() && (numSignum(b) < 0)) {
 				c.setPosZero();
 				return;
 			}
@@ -2284,12 +1177,12 @@ public class Float128Algebra
 			// the first argument is positive infinity and the second argument is greater than zero,
 			// then the result is positive infinity.
 
-			if (a.isPosZero() && (b.num.compareTo(BigDecimal.ZERO) < 0)) {
+			if (a.isPosZero() && (numSignum(b) < 0)) {
 				c.setPosInf();
 				return;
 			}
 
-			if (a.isPosInf() && (b.num.compareTo(BigDecimal.ZERO) > 0)) {
+			if (a.isPosInf() && (numSignum(b) > 0)) {
 				c.setPosInf();
 				return;
 			}
@@ -2300,33 +1193,22 @@ public class Float128Algebra
 			// the first argument is negative infinity and the second argument is less than zero but not a finite odd integer,
 			// then the result is positive zero.
 			
-			BigInteger intVersion = a.num.toBigInteger();
-			BigDecimal intAsBigDecimal = new BigDecimal(intVersion);
+			// parity is -1 for non-integers, 0 for even and 1 for odd integers
 			
 			int NOT_FINITE_INTEGER = -1;
 			int FINITE_ODD_INTEGER = 1;
-			int FINITE_EVEN_INTEGER = 0;
 			
 			int bDescription = NOT_FINITE_INTEGER;
 			if (b.isFinite()) {
-				// is integer
-				if (a.num.compareTo(intAsBigDecimal) == 0) {
-					BigInteger num = intVersion.abs();
-					if (num.remainder(BigInteger.valueOf(2)).compareTo(BigInteger.ONE) == 0) {
-						bDescription = FINITE_ODD_INTEGER;
-					}
-					else {
-						bDescription = FINITE_EVEN_INTEGER;
-					}
-				}
+				bDescription = Binary128.integerParity(b.hi, b.lo);
 			}
 			
-			if (a.isNegZero() && (b.num.compareTo(BigDecimal.ZERO) > 0) && bDescription != FINITE_ODD_INTEGER) {
+			if (a.isNegZero() && (numSignum(b) > 0) && bDescription != FINITE_ODD_INTEGER) {
 				c.setPosZero();
 				return;
 			}
 			
-			if (a.isNegInf() && (b.num.compareTo(BigDecimal.ZERO) < 0) && bDescription != FINITE_ODD_INTEGER) {
+			if (a.isNegInf() && (numSignum(b) < 0) && bDescription != FINITE_ODD_INTEGER) {
 				c.setPosZero();
 				return;
 			}
@@ -2353,12 +1235,12 @@ public class Float128Algebra
 			// the first argument is negative infinity and the second argument is greater than zero but not a finite odd integer,
 			// then the result is positive infinity.
 
-			if (a.isNegZero() && (b.num.compareTo(BigDecimal.ZERO) < 0) && bDescription != FINITE_ODD_INTEGER) {
+			if (a.isNegZero() && (numSignum(b) < 0) && bDescription != FINITE_ODD_INTEGER) {
 				c.setPosInf();
 				return;
 			}
 			
-			if (a.isNegInf() && (b.num.compareTo(BigDecimal.ZERO) > 0) && bDescription != FINITE_ODD_INTEGER) {
+			if (a.isNegInf() && (numSignum(b) > 0) && bDescription != FINITE_ODD_INTEGER) {
 				c.setPosInf();
 				return;
 			}
@@ -2369,12 +1251,12 @@ public class Float128Algebra
 			// the first argument is negative infinity and the second argument is a positive finite odd integer,
 			// then the result is negative infinity.
 
-			if (a.isNegZero() && (b.num.compareTo(BigDecimal.ZERO) < 0) && bDescription == FINITE_ODD_INTEGER) {
+			if (a.isNegZero() && (numSignum(b) < 0) && bDescription == FINITE_ODD_INTEGER) {
 				c.setNegInf();
 				return;
 			}
 			
-			if (a.isNegInf() && (b.num.compareTo(BigDecimal.ZERO) > 0) && bDescription == FINITE_ODD_INTEGER) {
+			if (a.isNegInf() && (numSignum(b) > 0) && bDescription == FINITE_ODD_INTEGER) {
 				c.setNegInf();
 				return;
 			}
@@ -2388,7 +1270,7 @@ public class Float128Algebra
 			
 			// If the first argument is finite and less than zero
 
-			if (a.isFinite() && a.num.compareTo(BigDecimal.ZERO) < 0) {
+			if (a.isFinite() && numSignum(a) < 0) {
 				
 				// if the second argument is finite and not an integer, then the result is NaN.
 
@@ -2403,31 +1285,32 @@ public class Float128Algebra
 			// one case I found was falling through
 			
 			if (a.isNormal() && b.isInfinite()) {
-				if (a.num.compareTo(BigDecimal.ONE.negate()) < 0) {
+				int magnitude = Binary128.compareMagnitudeToOne(a.hi, a.lo);
+				if (a.hi < 0 && magnitude > 0) {
 					if (b.isPosInf())
 						c.setPosInf();
 					else // b is neg inf
 						c.setPosZero();
 				}
-				else if (a.num.compareTo(BigDecimal.ONE.negate()) == 0) {
+				else if (a.hi < 0 && magnitude == 0) {
 					if (b.isPosInf())
 						c.setNan();
 					else // b is neg inf
 						c.setNan();
 				}
-				else if (a.num.compareTo(BigDecimal.ZERO) < 0) {
+				else if (a.hi < 0) {
 					if (b.isPosInf())
 						c.setPosZero();
 					else // b is neg inf
 						c.setPosInf();
 				}
-				else if (a.num.compareTo(BigDecimal.ONE) < 0) {
+				else if (magnitude < 0) {
 					if (b.isPosInf())
 						c.setPosZero();
 					else // b is neg inf
 						c.setPosInf();
 				}
-				else if (a.num.compareTo(BigDecimal.ONE) == 0) {
+				else if (magnitude == 0) {
 					if (b.isPosInf())
 						c.setNan(); // makes no sense but that is what float64 does
 					else // b is neg inf
@@ -2468,10 +1351,10 @@ public class Float128Algebra
 			}
 
 			// Tested exhaustively: at this point number is zero or finite/normal
-			// This allows us to use a.num and b.num since for zero types their
+			// This allows us to use a.num() and b.num() since for zero types their
 			// value is zero. This is a convenient shortcut but must not be abused.
 
-			c.setV(BigDecimalMath.pow(a.num, b.num, CONTEXT));
+			c.setV(BigDecimalMath.pow(a.num(), b.num(), CONTEXT));
 		}
 	};
 
@@ -2485,9 +1368,9 @@ public class Float128Algebra
 	{
 		@Override
 		public void call(Float128Member a, Float128Member b) {
-			switch (a.classification) {
+			switch (a.classification()) {
 				case Float128Member.NORMAL:
-					b.setV(BigDecimalMath.sqrt(a.num, CONTEXT));
+					b.setV(BigDecimalMath.sqrt(a.num(), CONTEXT));
 					break;
 				case Float128Member.POSZERO:
 					b.setPosZero();
@@ -2505,7 +1388,7 @@ public class Float128Algebra
 					b.setNan();
 					break;
 				default:
-					throw new IllegalArgumentException("unknown classification error "+a.classification);
+					throw new IllegalArgumentException("unknown classification error "+a.classification());
 			}
 		}
 	};
@@ -2522,9 +1405,9 @@ public class Float128Algebra
 		
 		@Override
 		public void call(Float128Member a, Float128Member b) {
-			switch (a.classification) {
+			switch (a.classification()) {
 				case Float128Member.NORMAL:
-					b.setV(BigDecimalMath.pow(a.num, ONE_THIRD, CONTEXT));
+					b.setV(BigDecimalMath.pow(a.num(), ONE_THIRD, CONTEXT));
 					break;
 				case Float128Member.POSZERO:
 					b.setPosZero();
@@ -2542,7 +1425,7 @@ public class Float128Algebra
 					b.setNan();
 					break;
 				default:
-					throw new IllegalArgumentException("unknown classification error "+a.classification);
+					throw new IllegalArgumentException("unknown classification error "+a.classification());
 			}
 		}
 	};
@@ -2557,7 +1440,7 @@ public class Float128Algebra
 	{
 		@Override
 		public Boolean call(Float128Member a) {
-			return a.classification == Float128Member.NAN;
+			return a.classification() == Float128Member.NAN;
 		}
 	};
 	
@@ -2599,7 +1482,7 @@ public class Float128Algebra
 	{
 		@Override
 		public Boolean call(Float128Member a) {
-			return a.classification == Float128Member.POSINF || a.classification == Float128Member.NEGINF;
+			return a.classification() == Float128Member.POSINF || a.classification() == Float128Member.NEGINF;
 		}
 	};
 
@@ -2627,15 +1510,15 @@ public class Float128Algebra
 	{
 		@Override
 		public void call(Float128Member a, Float128Member b) {
-			switch (a.classification) {
+			switch (a.classification()) {
 				case Float128Member.NORMAL:
-					b.setV(BigDecimalMath.asinh(a.num, CONTEXT));
+					b.setV(BigDecimalMath.asinh(a.num(), CONTEXT));
 					break;
 				case Float128Member.POSZERO:
-					b.setV(BigDecimalMath.asinh(a.num, CONTEXT));
+					b.setV(BigDecimalMath.asinh(a.num(), CONTEXT));
 					break;
 				case Float128Member.NEGZERO:
-					b.setV(BigDecimalMath.asinh(a.num, CONTEXT));
+					b.setV(BigDecimalMath.asinh(a.num(), CONTEXT));
 					break;
 				case Float128Member.POSINF:
 					b.setPosInf();
@@ -2647,7 +1530,7 @@ public class Float128Algebra
 					b.setNan();
 					break;
 				default:
-					throw new IllegalArgumentException("unknown classification error "+a.classification);
+					throw new IllegalArgumentException("unknown classification error "+a.classification());
 			}
 		}
 	};
@@ -2662,12 +1545,12 @@ public class Float128Algebra
 	{
 		@Override
 		public void call(Float128Member a, Float128Member b) {
-			switch (a.classification) {
+			switch (a.classification()) {
 				case Float128Member.NORMAL:
-					if (a.num.abs().compareTo(BigDecimal.ONE) < 0)
+					if (a.num().abs().compareTo(BigDecimal.ONE) < 0)
 						b.setNan();
 					else
-						b.setV(BigDecimalMath.acosh(a.num, CONTEXT));
+						b.setV(BigDecimalMath.acosh(a.num(), CONTEXT));
 					break;
 				case Float128Member.POSZERO:
 					b.setNan();
@@ -2685,7 +1568,7 @@ public class Float128Algebra
 					b.setNan();
 					break;
 				default:
-					throw new IllegalArgumentException("unknown classification error "+a.classification);
+					throw new IllegalArgumentException("unknown classification error "+a.classification());
 			}
 		}
 	};
@@ -2700,22 +1583,22 @@ public class Float128Algebra
 	{
 		@Override
 		public void call(Float128Member a, Float128Member b) {
-			switch (a.classification) {
+			switch (a.classification()) {
 				case Float128Member.NORMAL:
-					if (a.num.abs().compareTo(BigDecimal.ONE) > 0)
+					if (a.num().abs().compareTo(BigDecimal.ONE) > 0)
 						b.setNan();
-					else if (a.num.compareTo(BigDecimal.ONE) == 0)
+					else if (a.num().compareTo(BigDecimal.ONE) == 0)
 						b.setPosInf();
-					else if (a.num.compareTo(BigDecimal.ONE.negate()) == 0)
+					else if (a.num().compareTo(BigDecimal.ONE.negate()) == 0)
 						b.setNegInf();
 					else
-						b.setV(BigDecimalMath.atanh(a.num, CONTEXT));
+						b.setV(BigDecimalMath.atanh(a.num(), CONTEXT));
 					break;
 				case Float128Member.POSZERO:
-					b.setV(BigDecimalMath.atanh(a.num, CONTEXT));
+					b.setV(BigDecimalMath.atanh(a.num(), CONTEXT));
 					break;
 				case Float128Member.NEGZERO:
-					b.setV(BigDecimalMath.atanh(a.num, CONTEXT));
+					b.setV(BigDecimalMath.atanh(a.num(), CONTEXT));
 					break;
 				case Float128Member.POSINF:
 					b.setNan();
@@ -2727,7 +1610,7 @@ public class Float128Algebra
 					b.setNan();
 					break;
 				default:
-					throw new IllegalArgumentException("unknown classification error "+a.classification);
+					throw new IllegalArgumentException("unknown classification error "+a.classification());
 			}
 		}
 	};
@@ -2742,9 +1625,9 @@ public class Float128Algebra
 	{
 		@Override
 		public void call(Float128Member a, Float128Member b) {
-			switch (a.classification) {
+			switch (a.classification()) {
 				case Float128Member.NORMAL:
-					b.setV(BigDecimalMath.sinh(a.num, CONTEXT));
+					b.setV(BigDecimalMath.sinh(a.num(), CONTEXT));
 					break;
 				case Float128Member.POSZERO:
 					b.setPosZero();
@@ -2762,7 +1645,7 @@ public class Float128Algebra
 					b.setNan();
 					break;
 				default:
-					throw new IllegalArgumentException("unknown classification error "+a.classification);
+					throw new IllegalArgumentException("unknown classification error "+a.classification());
 			}
 		}
 	};
@@ -2777,9 +1660,9 @@ public class Float128Algebra
 	{
 		@Override
 		public void call(Float128Member a, Float128Member b) {
-			switch (a.classification) {
+			switch (a.classification()) {
 				case Float128Member.NORMAL:
-					b.setV(BigDecimalMath.cosh(a.num, CONTEXT));
+					b.setV(BigDecimalMath.cosh(a.num(), CONTEXT));
 					break;
 				case Float128Member.POSZERO:
 					b.setV(BigDecimal.ONE);
@@ -2797,7 +1680,7 @@ public class Float128Algebra
 					b.setNan();
 					break;
 				default:
-					throw new IllegalArgumentException("unknown classification error "+a.classification);
+					throw new IllegalArgumentException("unknown classification error "+a.classification());
 			}
 		}
 	};
@@ -2827,9 +1710,9 @@ public class Float128Algebra
 	{
 		@Override
 		public void call(Float128Member a, Float128Member b) {
-			switch (a.classification) {
+			switch (a.classification()) {
 				case Float128Member.NORMAL:
-					b.setV(BigDecimalMath.tanh(a.num, CONTEXT));
+					b.setV(BigDecimalMath.tanh(a.num(), CONTEXT));
 					break;
 				case Float128Member.POSZERO:
 					b.setPosZero();
@@ -2847,7 +1730,7 @@ public class Float128Algebra
 					b.setNan();
 					break;
 				default:
-					throw new IllegalArgumentException("unknown classification error "+a.classification);
+					throw new IllegalArgumentException("unknown classification error "+a.classification());
 			}
 		}
 	};
@@ -2890,12 +1773,12 @@ public class Float128Algebra
 	{
 		@Override
 		public void call(Float128Member a, Float128Member b) {
-			switch (a.classification) {
+			switch (a.classification()) {
 				case Float128Member.NORMAL:
-					if (a.num.abs().compareTo(BigDecimal.ONE) > 0)
+					if (a.num().abs().compareTo(BigDecimal.ONE) > 0)
 						b.setNan();
 					else
-						b.setV(BigDecimalMath.asin(a.num, CONTEXT));
+						b.setV(BigDecimalMath.asin(a.num(), CONTEXT));
 					break;
 				case Float128Member.POSZERO:
 					b.setPosZero();
@@ -2913,7 +1796,7 @@ public class Float128Algebra
 					b.setNan();
 					break;
 				default:
-					throw new IllegalArgumentException("unknown classification error "+a.classification);
+					throw new IllegalArgumentException("unknown classification error "+a.classification());
 			}
 		}
 	};
@@ -2928,18 +1811,18 @@ public class Float128Algebra
 	{
 		@Override
 		public void call(Float128Member a, Float128Member b) {
-			switch (a.classification) {
+			switch (a.classification()) {
 				case Float128Member.NORMAL:
-					if (a.num.abs().compareTo(BigDecimal.ONE) > 0)
+					if (a.num().abs().compareTo(BigDecimal.ONE) > 0)
 						b.setNan();
 					else
-						b.setV(BigDecimalMath.acos(a.num, CONTEXT));
+						b.setV(BigDecimalMath.acos(a.num(), CONTEXT));
 					break;
 				case Float128Member.POSZERO:
-					b.setV(BigDecimalMath.acos(a.num, CONTEXT));
+					b.setV(BigDecimalMath.acos(a.num(), CONTEXT));
 					break;
 				case Float128Member.NEGZERO:
-					b.setV(BigDecimalMath.acos(a.num, CONTEXT));
+					b.setV(BigDecimalMath.acos(a.num(), CONTEXT));
 					break;
 				case Float128Member.POSINF:
 					b.setNan();
@@ -2951,7 +1834,7 @@ public class Float128Algebra
 					b.setNan();
 					break;
 				default:
-					throw new IllegalArgumentException("unknown classification error "+a.classification);
+					throw new IllegalArgumentException("unknown classification error "+a.classification());
 			}
 		}
 	};
@@ -2966,9 +1849,9 @@ public class Float128Algebra
 	{
 		@Override
 		public void call(Float128Member a, Float128Member b) {
-			switch (a.classification) {
+			switch (a.classification()) {
 				case Float128Member.NORMAL:
-					b.setV(BigDecimalMath.atan(a.num, CONTEXT));
+					b.setV(BigDecimalMath.atan(a.num(), CONTEXT));
 					break;
 				case Float128Member.POSZERO:
 					b.setPosZero();
@@ -2986,7 +1869,7 @@ public class Float128Algebra
 					b.setNan();
 					break;
 				default:
-					throw new IllegalArgumentException("unknown classification error "+a.classification);
+					throw new IllegalArgumentException("unknown classification error "+a.classification());
 			}
 		}
 	};
@@ -3001,9 +1884,9 @@ public class Float128Algebra
 	{
 		@Override
 		public void call(Float128Member a, Float128Member b) {
-			switch (a.classification) {
+			switch (a.classification()) {
 				case Float128Member.NORMAL:
-					b.setV(BigDecimalMath.sin(a.num, CONTEXT));
+					b.setV(BigDecimalMath.sin(a.num(), CONTEXT));
 					break;
 				case Float128Member.POSZERO:
 					b.setPosZero();
@@ -3021,7 +1904,7 @@ public class Float128Algebra
 					b.setNan();
 					break;
 				default:
-					throw new IllegalArgumentException("unknown classification error "+a.classification);
+					throw new IllegalArgumentException("unknown classification error "+a.classification());
 			}
 		}
 	};
@@ -3036,9 +1919,9 @@ public class Float128Algebra
 	{
 		@Override
 		public void call(Float128Member a, Float128Member b) {
-			switch (a.classification) {
+			switch (a.classification()) {
 				case Float128Member.NORMAL:
-					b.setV(BigDecimalMath.cos(a.num, CONTEXT));
+					b.setV(BigDecimalMath.cos(a.num(), CONTEXT));
 					break;
 				case Float128Member.POSZERO:
 					b.setV(BigDecimal.ONE);
@@ -3056,7 +1939,7 @@ public class Float128Algebra
 					b.setNan();
 					break;
 				default:
-					throw new IllegalArgumentException("unknown classification error "+a.classification);
+					throw new IllegalArgumentException("unknown classification error "+a.classification());
 			}
 		}
 	};
@@ -3071,9 +1954,9 @@ public class Float128Algebra
 	{
 		@Override
 		public void call(Float128Member a, Float128Member b) {
-			switch (a.classification) {
+			switch (a.classification()) {
 				case Float128Member.NORMAL:
-					b.setV(BigDecimalMath.tan(a.num, CONTEXT));
+					b.setV(BigDecimalMath.tan(a.num(), CONTEXT));
 					break;
 				case Float128Member.POSZERO:
 					b.setPosZero();
@@ -3091,7 +1974,7 @@ public class Float128Algebra
 					b.setNan();
 					break;
 				default:
-					throw new IllegalArgumentException("unknown classification error "+a.classification);
+					throw new IllegalArgumentException("unknown classification error "+a.classification());
 			}
 		}
 	};
@@ -3149,9 +2032,9 @@ public class Float128Algebra
 	{
 		@Override
 		public void call(Float128Member a, Float128Member b) {
-			switch (a.classification) {
+			switch (a.classification()) {
 				case Float128Member.NORMAL:
-					b.setV(BigDecimalMath.exp(a.num, CONTEXT));
+					b.setV(BigDecimalMath.exp(a.num(), CONTEXT));
 					break;
 				case Float128Member.POSZERO:
 					b.setV(BigDecimal.ONE);
@@ -3169,7 +2052,7 @@ public class Float128Algebra
 					b.setNan();
 					break;
 				default:
-					throw new IllegalArgumentException("unknown classification error "+a.classification);
+					throw new IllegalArgumentException("unknown classification error "+a.classification());
 			}
 		}
 	};
@@ -3184,12 +2067,12 @@ public class Float128Algebra
 	{
 		@Override
 		public void call(Float128Member a, Float128Member b) {
-			switch (a.classification) {
+			switch (a.classification()) {
 				case Float128Member.NORMAL:
-					if (a.num.signum() < 0)
+					if (a.hi < 0)
 						b.setNan();
 					else
-						b.setV(BigDecimalMath.log(a.num, CONTEXT));
+						b.setV(BigDecimalMath.log(a.num(), CONTEXT));
 					break;
 				case Float128Member.POSZERO:
 					b.setNegInf();
@@ -3207,7 +2090,7 @@ public class Float128Algebra
 					b.setNan();
 					break;
 				default:
-					throw new IllegalArgumentException("unknown classification error "+a.classification);
+					throw new IllegalArgumentException("unknown classification error "+a.classification());
 			}
 		}
 	};
@@ -388,7 +388,7 @@ public class Float128Matrix
 	{
 		@Override
 		public void call(Float128MatrixMember a, Float128Member b) {
-			MatrixDeterminant.compute(G.QUAD_MAT, G.QUAD, a, b);
+			MatrixDeterminant.compute(G.QUAD_MAT, G.QUAD, G.QUAD, a, b);
 		}
 	};
 	
@@ -416,7 +416,7 @@ public class Float128Matrix
 	{
 		@Override
 		public void call(Float128MatrixMember a, Float128MatrixMember b) {
-			MatrixInvert.compute(G.QUAD, G.QUAD_VEC, G.QUAD_MAT, a, b);
+			MatrixInvert.compute(G.QUAD, G.QUAD, G.QUAD_VEC, G.QUAD_MAT, a, b);
 		}
 	};
 	
@@ -32,6 +32,7 @@ package nom.bdezonia.zorbage.type.real.float128;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.MathContext;
 
 import nom.bdezonia.zorbage.algebra.Allocatable;
 import nom.bdezonia.zorbage.algebra.Duplicatable;
@@ -85,10 +86,10 @@ import nom.bdezonia.zorbage.algebra.type.markers.RealType;
 import nom.bdezonia.zorbage.algebra.type.markers.SignedType;
 import nom.bdezonia.zorbage.algebra.type.markers.UnityIncludedType;
 import nom.bdezonia.zorbage.algebra.type.markers.ZeroIncludedType;
-import nom.bdezonia.zorbage.misc.BigDecimalUtils;
 import nom.bdezonia.zorbage.misc.Hasher;
 import nom.bdezonia.zorbage.sampling.IntegerIndex;
 import nom.bdezonia.zorbage.storage.coder.ByteCoder;
+import nom.bdezonia.zorbage.storage.coder.LongCoder;
 import nom.bdezonia.zorbage.type.real.highprec.HighPrecisionMember;
 import nom.bdezonia.zorbage.type.universal.OctonionRepresentation;
 import nom.bdezonia.zorbage.type.universal.PrimitiveConversion;
@@ -105,6 +106,7 @@ import nom.bdezonia.zorbage.type.universal.UniversalRepresentation;
 public final class Float128Member
 	implements
 		NumberMember<Float128Member>,
+		LongCoder,
 		ByteCoder,
 		Allocatable<Float128Member>, Duplicatable<Float128Member>,
 		Settable<Float128Member>, Gettable<Float128Member>,
@@ -154,17 +156,17 @@ public final class Float128Member
 		UnityIncludedType,
 		ZeroIncludedType
 {
-	BigDecimal num;
-	byte classification;
+	// the IEEE binary128 bits: sign, 15 exponent bits and the top 48
+	//   fraction bits in hi, the bottom 64 fraction bits in lo
+	
+	long hi;
+	long lo;
 
 	static final BigDecimal TWO = BigDecimal.valueOf(2);
-	static final BigDecimal MAX_NORMAL = TWO.pow(16383).multiply(TWO.subtract(TWO.pow(-112, Float128Algebra.CONTEXT)));
+	static final BigDecimal MAX_NORMAL = Binary128.shortest(0x7ffeffffffffffffL, 0xffffffffffffffffL);
 	static final BigDecimal MIN_NORMAL = MAX_NORMAL.negate();
-	static final BigDecimal MAX_SUBNORMAL = TWO.pow(-16382, Float128Algebra.CONTEXT).multiply(BigDecimal.ONE.subtract(TWO.pow(-112, Float128Algebra.CONTEXT)));
-	static final BigDecimal MIN_SUBNORMAL = TWO.pow(-16382, Float128Algebra.CONTEXT).multiply(TWO.pow(-112, Float128Algebra.CONTEXT));
-	static final BigInteger FULL_RANGE = new BigInteger("10000000000000000000000000000",16);
-	static final BigDecimal FULL_RANGE_BD = new BigDecimal(FULL_RANGE);
-	static final BigInteger FULL_FRACTION = new BigInteger("ffffffffffffffffffffffffffff", 16);
+	static final BigDecimal MAX_SUBNORMAL = Binary128.shortest(0x0000ffffffffffffL, 0xffffffffffffffffL);
+	static final BigDecimal MIN_SUBNORMAL = Binary128.shortest(0, 1);
 	
 	static final byte NORMAL = 0;
 	static final byte POSZERO = 1;
@@ -229,22 +231,39 @@ public final class Float128Member
 		get(val);
 	}
 
+	// Returns the shortest decimal that converts back to the same bits.
+	
 	public BigDecimal v() {
-		if (classification == POSINF || classification == NEGINF || classification == NAN)
+		if (!isFinite())
 			throw new java.lang.NumberFormatException("nan/posinf/neginf cannot be converted to big decimal");
-		return num;
+		return Binary128.shortest(hi, lo);
+	}
+	
+	// The value rounded to the precision the algebra uses for its
+	//   BigDecimal based calculations. Non finite numbers return 0.
+	
+	BigDecimal num() {
+		if (!isFinite())
+			return BigDecimal.ZERO;
+		return Binary128.toBigDecimal(hi, lo, Float128Algebra.CONTEXT);
+	}
+	
+	byte classification() {
+		int exponent = Binary128.exponent(hi);
+		if (exponent == Binary128.MAX_EXPONENT) {
+			if (((hi & Binary128.FRACTION) | lo) != 0)
+				return NAN;
+			return (hi < 0) ? NEGINF : POSINF;
+		}
+		if (exponent == 0 && ((hi & Binary128.FRACTION) | lo) == 0)
+			return (hi < 0) ? NEGZERO : POSZERO;
+		return NORMAL;
 	}
 	
 	public void setV(BigDecimal v) {
 		if (v == null)
 			throw new IllegalArgumentException("this class does not allow null values");
-		if (v.signum() == 0) {
-			setPosZero();
-		}
-		else {
-			setNormal(v);
-			clamp();
-		}
+		Binary128.fromBigDecimal(v, this);
 	}
 	
 	@Override
@@ -264,7 +283,7 @@ public final class Float128Member
 	public void setFromLongs(long... vals) {
 		if (vals.length != 1)
 			throw new IllegalArgumentException("mismatch between component count and input values count");
-		setV(BigDecimal.valueOf(vals[0]));
+		Binary128.fromLong(vals[0], this);
 	}
 	
 	@Override
@@ -805,14 +824,14 @@ public final class Float128Member
 
 	@Override
 	public void get(Float128Member other) {
-		other.num = this.num;
-		other.classification = this.classification;
+		other.hi = this.hi;
+		other.lo = this.lo;
 	}
 
 	@Override
 	public void set(Float128Member other) {
-		this.num = other.num;
-		this.classification = other.classification;
+		this.hi = other.hi;
+		this.lo = other.lo;
 	}
 
 	@Override
@@ -825,6 +844,25 @@ public final class Float128Member
 		return new Float128Member();
 	}
 
+	@Override
+	public int longCount() {
+		return 2;
+	}
+
+	@Override
+	public void fromLongArray(long[] arr, int index) {
+		lo = arr[index];
+		hi = arr[index+1];
+		if (Binary128.isNan(hi, lo))
+			setNan();
+	}
+
+	@Override
+	public void toLongArray(long[] arr, int index) {
+		arr[index] = lo;
+		arr[index+1] = hi;
+	}
+
 	@Override
 	public int byteCount() {
 		return 16;
@@ -853,8 +891,14 @@ public final class Float128Member
 	@Override
 	public int hashCode() {
 		int v = 1;
-		v = Hasher.PRIME * v + Hasher.hashCode(num);
-		v = Hasher.PRIME * v + Hasher.hashCode(classification);
+		if (isZero()) {
+			v = Hasher.PRIME * v + Hasher.hashCode(0L);
+			v = Hasher.PRIME * v + Hasher.hashCode(0L);
+		}
+		else {
+			v = Hasher.PRIME * v + Hasher.hashCode(hi);
+			v = Hasher.PRIME * v + Hasher.hashCode(lo);
+		}
 		return v;
 	}
 	
@@ -868,10 +912,11 @@ public final class Float128Member
 	
 	@Override
 	public String toString() {
+		byte classification = classification();
 		switch (classification) {
 		
 		case NORMAL:
-			return num.toString();
+			return v().toString();
 		
 		case POSZERO:
 			return "0";
@@ -894,57 +939,55 @@ public final class Float128Member
 	}
 
 	public boolean isNormal() {
-		return classification == NORMAL;
+		return classification() == NORMAL;
 	}
 
 	public boolean isPosZero() {
-		return classification == POSZERO;
+		return hi == 0 && lo == 0;
 	}
 
 	public boolean isNegZero() {
-		return classification == NEGZERO;
+		return hi == Binary128.SIGN && lo == 0;
 	}
 
 	public boolean isPosInf() {
-		return classification == POSINF;
+		return hi == Binary128.INF_HI && lo == 0;
 	}
 
 	public boolean isNegInf() {
-		return classification == NEGINF;
+		return hi == (Binary128.SIGN | Binary128.INF_HI) && lo == 0;
 	}
 
 	public boolean isNan() {
-		return classification == NAN;
+		return Binary128.isNan(hi, lo);
 	}
 
 	public boolean isFinite() {
-		return classification == NORMAL || classification == POSZERO || classification == NEGZERO;
+		return Binary128.exponent(hi) != Binary128.MAX_EXPONENT;
 	}
 
 	public boolean isInfinite() {
-		return classification == POSINF || classification == NEGINF;
+		return Binary128.isInfinite(hi, lo);
 	}
 
 	public boolean isZero() {
-		return classification == POSZERO || classification == NEGZERO;
+		return Binary128.isZero(hi, lo);
 	}
 
 	public boolean isPositive() {
-		return classification == POSINF ||
-				(classification == NORMAL && num.signum() > 0);
+		return hi >= 0 && !isZero() && !isNan();
 	}
 
 	public boolean isNegative() {
-		return classification == NEGINF ||
-				(classification == NORMAL && num.signum() < 0);
+		return hi < 0 && !isZero() && !isNan();
 	}
 
 	public boolean hasPositiveSign() {
-		return classification == POSZERO || isPositive();
+		return isPosZero() || isPositive();
 	}
 	
 	public boolean hasNegativeSign() {
-		return classification == NEGZERO || isNegative();
+		return isNegZero() || isNegative();
 	}
 
 	// DO NOT MAKE THIS ONE PUBLIC: use num.setV(BigDecimal)
@@ -955,267 +998,53 @@ public final class Float128Member
 	// sneak in.
 	
 	void setNormal(BigDecimal value) {
-		num = value;
-		classification = NORMAL;
+		Binary128.fromBigDecimal(value, this);
 	}
 
 	public void setPosZero() {
-		num = BigDecimal.ZERO;
-		classification = POSZERO;
+		Binary128.setZero(false, this);
 	}
 
 	public void setNegZero() {
-		num = BigDecimal.ZERO;
-		classification = NEGZERO;
+		Binary128.setZero(true, this);
 	}
 
 	public void setPosInf() {
-		num = BigDecimal.ZERO;
-		classification = POSINF;
+		Binary128.setInfinite(false, this);
 	}
 
 	public void setNegInf() {
-		num = BigDecimal.ZERO;
-		classification = NEGINF;
+		Binary128.setInfinite(true, this);
 	}
 	
 	public void setNan() {
-		num = BigDecimal.ZERO;
-		classification = NAN;
+		Binary128.setNan(this);
 	}
 
-	// Take my classification and BigDecimal values and encode them as
-	//   an IEEE128 in the 16 bytes of arr starting at offset
+	// Encode my bits as an IEEE128 in the 16 bytes of arr starting at
+	//   offset. The bytes are stored in little endian order.
 	
 	void encode(byte[] arr, int offset) {
-		switch (classification) {
-		case NORMAL:
-			
-			BigInteger ff = BigInteger.valueOf(255);
-			BigDecimal tmp = num.abs();
-			int signBit = (num.signum() < 0) ? 0x80 : 0;
-			
-			if (tmp.compareTo(BigDecimal.ONE) == 0) {
-				arr[offset + 15] = (byte) (signBit | 0x3f);
-				arr[offset + 14] = (byte) 0xff;
-				for (int i = 13; i >= 0; i--) {
-					arr[offset + i] = 0;
-				}
-			}
-			
-			// is it a subnormal?
-			
-			else if (tmp.compareTo(MIN_SUBNORMAL) >= 0 && tmp.compareTo(MAX_SUBNORMAL) <= 0) {
-				BigInteger fraction = findFraction(MIN_SUBNORMAL, MAX_SUBNORMAL, tmp);
-				arr[offset + 15] = (byte) signBit;
-				arr[offset + 14] = 0;
-				for (int i = 0; i < 14; i++) {
-					byte b = fraction.and(ff).byteValue();
-					fraction = fraction.shiftRight(8);
-					arr[offset + i] = b;
-				}
-			}
-			
-			// is it between zero and one?
-			
-			else if (tmp.compareTo(BigDecimal.ZERO) > 0 && tmp.compareTo(BigDecimal.ONE) < 0) {
-				// it's a number > 0 and < 1
-				//BigDecimal lg2 = BigDecimalMath.log2(tmp, Float128Algebra.CONTEXT);
-				//int exponent = lg2.intValue();
-				int exponent = -(BigDecimal.ONE.divide(tmp, Float128Algebra.CONTEXT).toBigInteger().bitLength()-1); 
-				BigDecimal lowerBound = TWO.pow(exponent-1, Float128Algebra.CONTEXT);
-				BigDecimal upperBound = TWO.pow(exponent, Float128Algebra.CONTEXT);
-				BigInteger fraction = findFraction(lowerBound, upperBound, tmp);
-				exponent += 16382;
-				int ehi = (exponent & 0xff00) >> 8;
-				int elo = (exponent & 0x00ff) >> 0;
-				arr[offset + 15] = (byte) (signBit | ehi);
-				arr[offset + 14] = (byte) (elo);
-				for (int i = 0; i < 14; i++) {
-					byte b = fraction.and(ff).byteValue();
-					fraction = fraction.shiftRight(8);
-					arr[offset + i] = b;
-				}
-			}
-			
-			else {
-
-				// it's a number > 1 and <= MAXBOUND
-				
-				BigInteger bi = tmp.toBigInteger();
-				int exponent = bi.bitLength() - 1;
-				BigDecimal lowerBound = TWO.pow(exponent, Float128Algebra.CONTEXT);
-				BigDecimal upperBound = TWO.pow(exponent+1, Float128Algebra.CONTEXT);
-				BigInteger fraction = findFraction(lowerBound, upperBound, tmp);
-				exponent += 16383;
-				int ehi = (exponent & 0xff00) >> 8;
-				int elo = (exponent & 0x00ff) >> 0;
-				arr[offset + 15] = (byte) (signBit | ehi);
-				arr[offset + 14] = (byte) (elo);
-				for (int i = 0; i < 14; i++) {
-					byte b = fraction.and(ff).byteValue();
-					fraction = fraction.shiftRight(8);
-					arr[offset + i] = b;
-				}
-			}
-			break;
-			
-		case POSZERO:
-			// encode a regular (positive) 0
-			for (int i = 15; i >= 0; i--) {
-				arr[offset + i] = 0;
-			}
-			break;
-			
-		case NEGZERO:
-			// encode a negative 0
-			arr[offset + 15] = (byte) 0x80;
-			for (int i = 14; i >= 0; i--) {
-				arr[offset + i] = 0;
-			}
-			break;
-			
-		case POSINF:
-			// +1 / 0
-			// encode a positive infinity in the remaining 16 bytes
-			arr[offset + 15] = (byte) 0x7f;
-			arr[offset + 14] = (byte) 0xff;
-			for (int i = 13; i >= 0; i--) {
-				arr[offset + i] = 0;
-			}
-			break;
-			
-		case NEGINF:
-			// -1 / 0
-			// encode a negative infinity in the remaining 16 bytes
-			arr[offset + 15] = (byte) 0xff;
-			arr[offset + 14] = (byte) 0xff;
-			for (int i = 13; i >= 0; i--) {
-				arr[offset + i] = 0;
-			}
-			break;
-			
-		case NAN:
-			// 0 / 0
-			// encode a NaN in the remaining 16 bytes
-			arr[offset + 15] = (byte) 0x7f;
-			arr[offset + 14] = (byte) 0xff;
-			for (int i = 13; i >= 0; i--) {
-				// Any non zero value tells the OS this is a nan rather than
-				// an inf.
-				// TODO : do I have to deal with signaling versus nonsignaling
-				// or is that only applicable to hardware implementations?
-				arr[offset + i] = 1;
-			}
-			break;
-			
-		default:
-			throw new IllegalArgumentException("unknown number classification "+classification);
+		for (int i = 0; i < 8; i++) {
+			arr[offset + i] = (byte) (lo >>> (8 * i));
+			arr[offset + 8 + i] = (byte) (hi >>> (8 * i));
 		}
 	}
 	
 	// Take the 16 bytes stored in arr starting at offset and decode them
-	//   into my denom and BigDecimal values.
+	//   into my bits. All nans decode to the one nan this class uses.
 	
 	void decode(byte[] buffer, int offset) {
-		
-		int sign = (buffer[offset + 15] & 0x80);
-		
-		int exponent = ((buffer[offset + 15] & 0x7f) << 8) + (buffer[offset + 14] & 0xff);
-		
-		BigInteger fraction = BigInteger.ZERO;
-		
-		for (int i = 13; i >= 0; i--) {
-			fraction = fraction.shiftLeft(8).add(BigInteger.valueOf(buffer[offset + i] & 0xff));
-		}
-		
-		if (exponent > 0 && exponent < 0x7fff) {
-
-			// a regular number
-			
-			BigDecimal value = new BigDecimal(fraction).divide(FULL_RANGE_BD, Float128Algebra.CONTEXT);
-			value = value.add(BigDecimal.ONE);
-			value = value.multiply(TWO.pow(exponent - 16383, Float128Algebra.CONTEXT));
-			if (sign != 0)
-				value = value.negate();
-			setNormal(value);
-		}
-		else if (exponent == 0) {
-			
-			// a special number : zeroes and subnormals
-			
-			if (fraction.compareTo(BigInteger.ZERO) == 0) {
-				
-				// a zero
-				
-				if (sign != 0)
-					setNegZero();
-				else
-					setPosZero();
-			}
-			else {
-				
-				// subnormal number
-
-				BigDecimal value = new BigDecimal(fraction).divide(FULL_RANGE_BD, Float128Algebra.CONTEXT);
-				value = value.multiply(TWO.pow(-16382, Float128Algebra.CONTEXT));
-				if (sign != 0)
-					value = value.negate();
-				// setV() rather than setNormal() to clamp off roundoff issues
-				setV(value);
-			}
-		}
-		else if (exponent == 0x7fff) {
-			
-			// a special number; infinities and nan
-			
-			if (fraction.compareTo(BigInteger.ZERO) == 0) {
-				
-				// an infinity
-				
-				if (sign != 0)
-					setNegInf();
-				else
-					setPosInf();
-			}
-			else {
-				
-				// a nan
-				
-				setNan();
-			}
-		}
-		else
-			throw new IllegalArgumentException("illegal exponent "+exponent);
-	}
-
-	private BigInteger findFraction(BigDecimal lowerBound, BigDecimal upperBound, BigDecimal value) {
-		BigDecimal numer = value.subtract(lowerBound);
-		BigDecimal denom = upperBound.subtract(lowerBound);
-		BigDecimal ratio = numer.divide(denom, Float128Algebra.CONTEXT);
-		// adding half to make sure we are correctly rounding
-		BigInteger fraction = FULL_RANGE_BD.multiply(ratio).add(BigDecimalUtils.ONE_HALF).toBigInteger();
-		// due to rounding quirks with java you might actually reach or surpass 1.0 so clamp it
-		if (fraction.compareTo(FULL_FRACTION) > 0)
-			fraction = FULL_FRACTION;
-		return fraction;
-	}
-	
-	private void clamp() {
-		if (classification == NORMAL) {
-			if (num.compareTo(MIN_NORMAL) < 0) {
-				setNegInf();
-			}
-			else if (num.compareTo(MAX_NORMAL) > 0) {
-				setPosInf();
-			}
-			else if (num.abs().compareTo(MIN_SUBNORMAL) < 0) {
-				if (num.signum() < 0)
-					setNegZero();
-				else
-					setPosZero();
-			}
+		long h = 0;
+		long l = 0;
+		for (int i = 7; i >= 0; i--) {
+			l = (l << 8) | (buffer[offset + i] & 0xffL);
+			h = (h << 8) | (buffer[offset + 8 + i] & 0xffL);
 		}
+		hi = h;
+		lo = l;
+		if (Binary128.isNan(hi, lo))
+			setNan();
 	}
 
 	@Override
@@ -1267,7 +1096,7 @@ public final class Float128Member
 			else
 				return BigInteger.ZERO; // NAN
 		}
-		return v().toBigInteger();
+		return Binary128.toBigDecimal(hi, lo, MathContext.UNLIMITED).toBigInteger();
 	}
 
 	@Override
@@ -1285,7 +1114,7 @@ public final class Float128Member
 			else
 				return Double.NaN; // NAN
 		}
-		return v().doubleValue();
+		return Binary128.toDouble(hi, lo);
 	}
 
 	@Override
@@ -1303,7 +1132,7 @@ public final class Float128Member
 			else
 				return Float.NaN; // NAN
 		}
-		return v().floatValue();
+		return num().floatValue();
 	}
 
 	@Override
@@ -1321,7 +1150,7 @@ public final class Float128Member
 			else
 				return 0; // NAN
 		}
-		return v().longValue();
+		return num().longValue();
 	}
 
 	@Override
@@ -1339,7 +1168,7 @@ public final class Float128Member
 			else
 				return 0; // NAN
 		}
-		return v().intValue();
+		return num().intValue();
 	}
 
 	@Override
@@ -1357,7 +1186,7 @@ public final class Float128Member
 			else
 				return 0; // NAN
 		}
-		return v().shortValue();
+		return num().shortValue();
 	}
 
 	@Override
@@ -1375,7 +1204,7 @@ public final class Float128Member
 			else
 				return 0; // NAN
 		}
-		return v().byteValue();
+		return num().byteValue();
 	}
 
 	@Override
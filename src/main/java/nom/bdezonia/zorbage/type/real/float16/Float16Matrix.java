@@ -387,7 +387,7 @@ public class Float16Matrix
 	{
 		@Override
 		public void call(Float16MatrixMember a, Float16Member b) {
-			MatrixDeterminant.compute(G.HLF_MAT, G.HLF, a, b);
+			MatrixDeterminant.compute(G.HLF_MAT, G.HLF, G.HLF, a, b);
 		}
 	};
 	
@@ -415,7 +415,7 @@ public class Float16Matrix
 	{
 		@Override
 		public void call(Float16MatrixMember a, Float16MatrixMember b) {
-			MatrixInvert.compute(G.HLF, G.HLF_VEC, G.HLF_MAT, a, b);
+			MatrixInvert.compute(G.HLF, G.HLF, G.HLF_VEC, G.HLF_MAT, a, b);
 		}
 	};
 	
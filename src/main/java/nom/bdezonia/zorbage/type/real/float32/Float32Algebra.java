@@ -49,6 +49,8 @@ import nom.bdezonia.zorbage.algorithm.Round.Mode;
 import nom.bdezonia.zorbage.function.Function1;
 import nom.bdezonia.zorbage.function.Function2;
 import nom.bdezonia.zorbage.function.Function3;
+import nom.bdezonia.zorbage.procedure.BatchProcedure2;
+import nom.bdezonia.zorbage.procedure.BatchProcedure3;
 import nom.bdezonia.zorbage.procedure.Procedure1;
 import nom.bdezonia.zorbage.procedure.Procedure2;
 import nom.bdezonia.zorbage.procedure.Procedure3;
@@ -175,13 +177,23 @@ public class Float32Algebra
 		return ASSIGN;
 	}
 
-	private final Procedure3<Float32Member,Float32Member,Float32Member> ADD =
-			new Procedure3<Float32Member, Float32Member, Float32Member>()
+	private final BatchProcedure3<Float32Member,Float32Member,Float32Member> ADD =
+			new BatchProcedure3<Float32Member, Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b, Float32Member c) {
 			c.setV( a.v() + b.v() );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset, Object c, int cOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			float[] z = (float[]) c;
+			for (int i = 0; i < count; i++) {
+				z[cOffset+i] = x[aOffset+i] + y[bOffset+i];
+			}
+		}
 	};
 	
 	@Override
@@ -189,13 +201,23 @@ public class Float32Algebra
 		return ADD;
 	}
 
-	private final Procedure3<Float32Member,Float32Member,Float32Member> SUB =
-			new Procedure3<Float32Member, Float32Member, Float32Member>()
+	private final BatchProcedure3<Float32Member,Float32Member,Float32Member> SUB =
+			new BatchProcedure3<Float32Member, Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b, Float32Member c) {
 			c.setV( a.v() - b.v() );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset, Object c, int cOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			float[] z = (float[]) c;
+			for (int i = 0; i < count; i++) {
+				z[cOffset+i] = x[aOffset+i] - y[bOffset+i];
+			}
+		}
 	};
 	
 	@Override
@@ -217,13 +239,22 @@ public class Float32Algebra
 		return ZER;
 	}
 
-	private final Procedure2<Float32Member,Float32Member> NEG =
-			new Procedure2<Float32Member, Float32Member>()
+	private final BatchProcedure2<Float32Member,Float32Member> NEG =
+			new BatchProcedure2<Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b) {
 			b.setV( -a.v() );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = -x[aOffset+i];
+			}
+		}
 	};
 
 	@Override
@@ -245,13 +276,22 @@ public class Float32Algebra
 		return UNITY;
 	}
 
-	private final Procedure2<Float32Member,Float32Member> INV =
-			new Procedure2<Float32Member, Float32Member>()
+	private final BatchProcedure2<Float32Member,Float32Member> INV =
+			new BatchProcedure2<Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b) {
 			b.setV( 1.0f / a.v() );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = 1.0f / x[aOffset+i];
+			}
+		}
 	};
 
 	@Override
@@ -259,13 +299,23 @@ public class Float32Algebra
 		return INV;
 	}
 
-	private final Procedure3<Float32Member,Float32Member,Float32Member> DIVIDE =
-			new Procedure3<Float32Member, Float32Member, Float32Member>()
+	private final BatchProcedure3<Float32Member,Float32Member,Float32Member> DIVIDE =
+			new BatchProcedure3<Float32Member, Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b, Float32Member c) {
 			c.setV( a.v() / b.v() );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset, Object c, int cOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			float[] z = (float[]) c;
+			for (int i = 0; i < count; i++) {
+				z[cOffset+i] = x[aOffset+i] / y[bOffset+i];
+			}
+		}
 	};
 	
 	@Override
@@ -389,13 +439,23 @@ public class Float32Algebra
 		return MINBOUND;
 	}
 
-	private final Procedure3<Float32Member,Float32Member,Float32Member> MUL =
-			new Procedure3<Float32Member, Float32Member, Float32Member>()
+	private final BatchProcedure3<Float32Member,Float32Member,Float32Member> MUL =
+			new BatchProcedure3<Float32Member, Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b, Float32Member c) {
 			c.setV( a.v() * b.v() );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset, Object c, int cOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			float[] z = (float[]) c;
+			for (int i = 0; i < count; i++) {
+				z[cOffset+i] = x[aOffset+i] * y[bOffset+i];
+			}
+		}
 	};
 	
 	@Override
@@ -421,13 +481,22 @@ public class Float32Algebra
 		return POWER;
 	}
 
-	private final Procedure2<Float32Member,Float32Member> ABS =
-			new Procedure2<Float32Member, Float32Member>()
+	private final BatchProcedure2<Float32Member,Float32Member> ABS =
+			new BatchProcedure2<Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b) {
 			b.setV( Math.abs(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = Math.abs(x[aOffset+i]);
+			}
+		}
 	};
 	
 	@Override
@@ -505,13 +574,22 @@ public class Float32Algebra
 		return PHI_;
 	}
 
-	private final Procedure2<Float32Member,Float32Member> EXP =
-			new Procedure2<Float32Member, Float32Member>()
+	private final BatchProcedure2<Float32Member,Float32Member> EXP =
+			new BatchProcedure2<Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b) {
 			b.setV( (float) Math.exp(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = (float) Math.exp(x[aOffset+i]);
+			}
+		}
 	};
 	
 	@Override
@@ -519,26 +597,44 @@ public class Float32Algebra
 		return EXP;
 	}
 
-	private final Procedure2<Float32Member,Float32Member> EXPM1 =
-			new Procedure2<Float32Member, Float32Member>()
+	private final BatchProcedure2<Float32Member,Float32Member> EXPM1 =
+			new BatchProcedure2<Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b) {
 			b.setV( (float) Math.expm1(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = (float) Math.expm1(x[aOffset+i]);
+			}
+		}
 	};
 	
 	public Procedure2<Float32Member,Float32Member> expm1() {
 		return EXPM1;
 	}
 
-	private final Procedure2<Float32Member,Float32Member> LOG =
-			new Procedure2<Float32Member, Float32Member>()
+	private final BatchProcedure2<Float32Member,Float32Member> LOG =
+			new BatchProcedure2<Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b) {
 			b.setV( (float) Math.log(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = (float) Math.log(x[aOffset+i]);
+			}
+		}
 	};
 
 	@Override
@@ -546,26 +642,44 @@ public class Float32Algebra
 		return LOG;
 	}
 
-	private final Procedure2<Float32Member,Float32Member> LOG1P =
-			new Procedure2<Float32Member, Float32Member>()
+	private final BatchProcedure2<Float32Member,Float32Member> LOG1P =
+			new BatchProcedure2<Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b) {
 			b.setV( (float) Math.log1p(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = (float) Math.log1p(x[aOffset+i]);
+			}
+		}
 	};
 
 	public Procedure2<Float32Member,Float32Member> log1p() {
 		return LOG1P;
 	}
 
-	private final Procedure2<Float32Member,Float32Member> COS =
-			new Procedure2<Float32Member, Float32Member>()
+	private final BatchProcedure2<Float32Member,Float32Member> COS =
+			new BatchProcedure2<Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b) {
 			b.setV( (float) Math.cos(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = (float) Math.cos(x[aOffset+i]);
+			}
+		}
 	};
 	
 	@Override
@@ -573,13 +687,22 @@ public class Float32Algebra
 		return COS;
 	}
 
-	private final Procedure2<Float32Member,Float32Member> SIN =
-			new Procedure2<Float32Member, Float32Member>()
+	private final BatchProcedure2<Float32Member,Float32Member> SIN =
+			new BatchProcedure2<Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b) {
 			b.setV( (float) Math.sin(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = (float) Math.sin(x[aOffset+i]);
+			}
+		}
 	};
 	
 	@Override
@@ -602,13 +725,22 @@ public class Float32Algebra
 		return SINANDCOS;
 	}
 
-	private final Procedure2<Float32Member,Float32Member> TAN =
-			new Procedure2<Float32Member, Float32Member>()
+	private final BatchProcedure2<Float32Member,Float32Member> TAN =
+			new BatchProcedure2<Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b) {
 			b.setV( (float) Math.tan(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = (float) Math.tan(x[aOffset+i]);
+			}
+		}
 	};
 	
 	@Override
@@ -618,13 +750,22 @@ public class Float32Algebra
 
 	// ref: internet
 
-	private final Procedure2<Float32Member,Float32Member> CSC =
-			new Procedure2<Float32Member, Float32Member>()
+	private final BatchProcedure2<Float32Member,Float32Member> CSC =
+			new BatchProcedure2<Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b) {
 			b.setV( (float) (1.0 / Math.sin(a.v())) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = (float) (1.0 / Math.sin(x[aOffset+i]));
+			}
+		}
 	};
 	
 	//@Override
@@ -634,13 +775,22 @@ public class Float32Algebra
 	
 	// ref: internet
 
-	private final Procedure2<Float32Member,Float32Member> SEC =
-			new Procedure2<Float32Member, Float32Member>()
+	private final BatchProcedure2<Float32Member,Float32Member> SEC =
+			new BatchProcedure2<Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b) {
 			b.setV( (float) (1.0 / Math.cos(a.v())) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = (float) (1.0 / Math.cos(x[aOffset+i]));
+			}
+		}
 	};
 	
 	//@Override
@@ -650,13 +800,22 @@ public class Float32Algebra
 	
 	// ref: internet
 
-	private final Procedure2<Float32Member,Float32Member> COT =
-			new Procedure2<Float32Member, Float32Member>()
+	private final BatchProcedure2<Float32Member,Float32Member> COT =
+			new BatchProcedure2<Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b) {
 			b.setV( (float) (1.0 / Math.tan(a.v())) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = (float) (1.0 / Math.tan(x[aOffset+i]));
+			}
+		}
 	};
 	
 	//@Override
@@ -664,13 +823,22 @@ public class Float32Algebra
 		return COT;
 	}
 	
-	private final Procedure2<Float32Member,Float32Member> COSH =
-			new Procedure2<Float32Member, Float32Member>()
+	private final BatchProcedure2<Float32Member,Float32Member> COSH =
+			new BatchProcedure2<Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b) {
 			b.setV( (float) Math.cosh(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = (float) Math.cosh(x[aOffset+i]);
+			}
+		}
 	};
 	
 	@Override
@@ -678,13 +846,22 @@ public class Float32Algebra
 		return COSH;
 	}
 
-	private final Procedure2<Float32Member,Float32Member> SINH =
-			new Procedure2<Float32Member, Float32Member>()
+	private final BatchProcedure2<Float32Member,Float32Member> SINH =
+			new BatchProcedure2<Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b) {
 			b.setV( (float) Math.sinh(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = (float) Math.sinh(x[aOffset+i]);
+			}
+		}
 	};
 	
 	@Override
@@ -707,13 +884,22 @@ public class Float32Algebra
 		return SINHANDCOSH;
 	}
 
-	private final Procedure2<Float32Member,Float32Member> TANH =
-			new Procedure2<Float32Member, Float32Member>()
+	private final BatchProcedure2<Float32Member,Float32Member> TANH =
+			new BatchProcedure2<Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b) {
 			b.setV( (float) Math.tanh(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = (float) Math.tanh(x[aOffset+i]);
+			}
+		}
 	};
 	
 	@Override
@@ -723,13 +909,22 @@ public class Float32Algebra
 
 	// ref: internet
 
-	private final Procedure2<Float32Member,Float32Member> CSCH =
-			new Procedure2<Float32Member, Float32Member>()
+	private final BatchProcedure2<Float32Member,Float32Member> CSCH =
+			new BatchProcedure2<Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b) {
 			b.setV( (float) (1.0 / Math.sinh(a.v())) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = (float) (1.0 / Math.sinh(x[aOffset+i]));
+			}
+		}
 	};
 	
 	//@Override
@@ -739,13 +934,22 @@ public class Float32Algebra
 	
 	// ref: internet
 
-	private final Procedure2<Float32Member,Float32Member> SECH =
-			new Procedure2<Float32Member, Float32Member>()
+	private final BatchProcedure2<Float32Member,Float32Member> SECH =
+			new BatchProcedure2<Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b) {
 			b.setV( (float) (1.0 / Math.cosh(a.v())) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = (float) (1.0 / Math.cosh(x[aOffset+i]));
+			}
+		}
 	};
 	
 	//@Override
@@ -755,13 +959,22 @@ public class Float32Algebra
 
 	// ref: internet
 
-	private final Procedure2<Float32Member,Float32Member> COTH =
-			new Procedure2<Float32Member, Float32Member>()
+	private final BatchProcedure2<Float32Member,Float32Member> COTH =
+			new BatchProcedure2<Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b) {
 			b.setV( (float) (1.0 / Math.tanh(a.v())) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = (float) (1.0 / Math.tanh(x[aOffset+i]));
+			}
+		}
 	};
 	
 	//@Override
@@ -769,13 +982,22 @@ public class Float32Algebra
 		return COTH;
 	}
 	
-	private final Procedure2<Float32Member,Float32Member> ACOS =
-			new Procedure2<Float32Member, Float32Member>()
+	private final BatchProcedure2<Float32Member,Float32Member> ACOS =
+			new BatchProcedure2<Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b) {
 			b.setV( (float) Math.acos(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = (float) Math.acos(x[aOffset+i]);
+			}
+		}
 	};
 	
 	@Override
@@ -783,13 +1005,22 @@ public class Float32Algebra
 		return ACOS;
 	}
 
-	private final Procedure2<Float32Member,Float32Member> ASIN =
-			new Procedure2<Float32Member, Float32Member>()
+	private final BatchProcedure2<Float32Member,Float32Member> ASIN =
+			new BatchProcedure2<Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b) {
 			b.setV( (float) Math.asin(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = (float) Math.asin(x[aOffset+i]);
+			}
+		}
 	};
 	
 	@Override
@@ -797,13 +1028,22 @@ public class Float32Algebra
 		return ASIN;
 	}
 
-	private final Procedure2<Float32Member,Float32Member> ATAN =
-			new Procedure2<Float32Member, Float32Member>()
+	private final BatchProcedure2<Float32Member,Float32Member> ATAN =
+			new BatchProcedure2<Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b) {
 			b.setV( (float) Math.atan(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = (float) Math.atan(x[aOffset+i]);
+			}
+		}
 	};
 	
 	@Override
@@ -811,13 +1051,23 @@ public class Float32Algebra
 		return ATAN;
 	}
 
-	private final Procedure3<Float32Member,Float32Member,Float32Member> ATAN2 =
-			new Procedure3<Float32Member, Float32Member, Float32Member>()
+	private final BatchProcedure3<Float32Member,Float32Member,Float32Member> ATAN2 =
+			new BatchProcedure3<Float32Member, Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b, Float32Member c) {
 			c.setV( (float) Math.atan2(a.v(), b.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset, Object c, int cOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			float[] z = (float[]) c;
+			for (int i = 0; i < count; i++) {
+				z[cOffset+i] = (float) Math.atan2(x[aOffset+i], y[bOffset+i]);
+			}
+		}
 	};
 	
 	public Procedure3<Float32Member,Float32Member,Float32Member> atan2() {
@@ -880,13 +1130,22 @@ public class Float32Algebra
 	
 	// reference: Mathworld
 
-	private final Procedure2<Float32Member,Float32Member> ACOSH =
-			new Procedure2<Float32Member, Float32Member>()
+	private final BatchProcedure2<Float32Member,Float32Member> ACOSH =
+			new BatchProcedure2<Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b) {
 			b.setV( (float) (Math.log(a.v() + Math.sqrt(a.v()*a.v() - 1))) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = (float) (Math.log(x[aOffset+i] + Math.sqrt(x[aOffset+i]*x[aOffset+i] - 1)));
+			}
+		}
 	};
 	
 	@Override
@@ -896,13 +1155,22 @@ public class Float32Algebra
 
 	// reference: Wolfram Alpha
 
-	private final Procedure2<Float32Member,Float32Member> ASINH =
-			new Procedure2<Float32Member, Float32Member>()
+	private final BatchProcedure2<Float32Member,Float32Member> ASINH =
+			new BatchProcedure2<Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b) {
 			b.setV( (float) (Math.log(a.v() + Math.sqrt(a.v()*a.v() + 1))) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = (float) (Math.log(x[aOffset+i] + Math.sqrt(x[aOffset+i]*x[aOffset+i] + 1)));
+			}
+		}
 	};
 	
 	@Override
@@ -912,13 +1180,22 @@ public class Float32Algebra
 
 	// reference: Wolfram Alpha
 
-	private final Procedure2<Float32Member,Float32Member> ATANH =
-			new Procedure2<Float32Member, Float32Member>()
+	private final BatchProcedure2<Float32Member,Float32Member> ATANH =
+			new BatchProcedure2<Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b) {
 			b.setV( (float) (0.5 * (-Math.log(1 - a.v()) + Math.log(1 + a.v()))) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = (float) (0.5 * (-Math.log(1 - x[aOffset+i]) + Math.log(1 + x[aOffset+i])));
+			}
+		}
 	};
 	
 	@Override
@@ -1050,13 +1327,22 @@ public class Float32Algebra
 		return NINF;
 	}
 
-	private final Procedure2<Float32Member,Float32Member> SQRT =
-			new Procedure2<Float32Member, Float32Member>()
+	private final BatchProcedure2<Float32Member,Float32Member> SQRT =
+			new BatchProcedure2<Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b) {
 			b.setV( (float) Math.sqrt(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = (float) Math.sqrt(x[aOffset+i]);
+			}
+		}
 	};
 	
 	@Override
@@ -1064,13 +1350,22 @@ public class Float32Algebra
 		return SQRT;
 	}
 
-	private final Procedure2<Float32Member,Float32Member> CBRT =
-			new Procedure2<Float32Member, Float32Member>()
+	private final BatchProcedure2<Float32Member,Float32Member> CBRT =
+			new BatchProcedure2<Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b) {
 			b.setV( (float) Math.cbrt(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = (float) Math.cbrt(x[aOffset+i]);
+			}
+		}
 	};
 	
 	@Override
@@ -1138,52 +1433,89 @@ public class Float32Algebra
 		return POW;
 	}
 	
-	private final Procedure3<Float32Member,Float32Member,Float32Member> IEEE =
-			new Procedure3<Float32Member, Float32Member, Float32Member>()
+	private final BatchProcedure3<Float32Member,Float32Member,Float32Member> IEEE =
+			new BatchProcedure3<Float32Member, Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b, Float32Member c) {
 			c.setV( (float) Math.IEEEremainder(a.v(), b.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset, Object c, int cOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			float[] z = (float[]) c;
+			for (int i = 0; i < count; i++) {
+				z[cOffset+i] = (float) Math.IEEEremainder(x[aOffset+i], y[bOffset+i]);
+			}
+		}
 	};
 	
 	public Procedure3<Float32Member,Float32Member,Float32Member> IEEEremainder() {
 		return IEEE;
 	}
 
-	private final Procedure2<Float32Member,Float32Member> LOG10 =
-			new Procedure2<Float32Member, Float32Member>()
+	private final BatchProcedure2<Float32Member,Float32Member> LOG10 =
+			new BatchProcedure2<Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b) {
 			b.setV( (float) Math.log10(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = (float) Math.log10(x[aOffset+i]);
+			}
+		}
 	};
 	
 	public Procedure2<Float32Member,Float32Member> log10() {
 		return LOG10;
 	}
 	
-	private final Procedure2<Float32Member,Float32Member> TODEG =
-			new Procedure2<Float32Member, Float32Member>()
+	private final BatchProcedure2<Float32Member,Float32Member> TODEG =
+			new BatchProcedure2<Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b) {
 			b.setV( (float) Math.toDegrees(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = (float) Math.toDegrees(x[aOffset+i]);
+			}
+		}
 	};
 	
 	public Procedure2<Float32Member,Float32Member> toDegrees() {
 		return TODEG;
 	}
 	
-	private final Procedure2<Float32Member,Float32Member> TORAD =
-			new Procedure2<Float32Member, Float32Member>()
+	private final BatchProcedure2<Float32Member,Float32Member> TORAD =
+			new BatchProcedure2<Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b) {
 			b.setV( (float) Math.toRadians(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = (float) Math.toRadians(x[aOffset+i]);
+			}
+		}
 	};
 	
 	public Procedure2<Float32Member,Float32Member> toRadians() {
@@ -1233,13 +1565,22 @@ public class Float32Algebra
 		return UNREAL;
 	}
 	
-	private final Procedure2<Float32Member,Float32Member> PRED =
-			new Procedure2<Float32Member, Float32Member>()
+	private final BatchProcedure2<Float32Member,Float32Member> PRED =
+			new BatchProcedure2<Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b) {
 			b.setV( Math.nextDown( a.v() ) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = Math.nextDown( x[aOffset+i] );
+			}
+		}
 	};
 	
 	@Override
@@ -1247,13 +1588,22 @@ public class Float32Algebra
 		return PRED;
 	}
 
-	private final Procedure2<Float32Member,Float32Member> SUCC =
-			new Procedure2<Float32Member, Float32Member>()
+	private final BatchProcedure2<Float32Member,Float32Member> SUCC =
+			new BatchProcedure2<Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b) {
 			b.setV( Math.nextUp( a.v() ) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = Math.nextUp( x[aOffset+i] );
+			}
+		}
 	};
 	
 	@Override
@@ -1261,13 +1611,23 @@ public class Float32Algebra
 		return SUCC;
 	}
 
-	private final Procedure3<Float32Member,Float32Member,Float32Member> CPS =
-			new Procedure3<Float32Member, Float32Member, Float32Member>()
+	private final BatchProcedure3<Float32Member,Float32Member,Float32Member> CPS =
+			new BatchProcedure3<Float32Member, Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b, Float32Member c) {
 			c.setV(Math.copySign(a.v(), b.v()));
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset, Object c, int cOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			float[] z = (float[]) c;
+			for (int i = 0; i < count; i++) {
+				z[cOffset+i] = Math.copySign(x[aOffset+i], y[bOffset+i]);
+			}
+		}
 	};
 	
 	@Override
@@ -1303,13 +1663,22 @@ public class Float32Algebra
 		return SCALB;
 	}
 
-	private final Procedure2<Float32Member,Float32Member> ULP =
-			new Procedure2<Float32Member, Float32Member>()
+	private final BatchProcedure2<Float32Member,Float32Member> ULP =
+			new BatchProcedure2<Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b) {
 			b.setV(Math.ulp(a.v()));
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = Math.ulp(x[aOffset+i]);
+			}
+		}
 	};
 	
 	@Override
@@ -1340,13 +1709,23 @@ public class Float32Algebra
 		return DIV;
 	}
 
-	private final Procedure3<Float32Member,Float32Member,Float32Member> MOD =
-			new Procedure3<Float32Member, Float32Member, Float32Member>()
+	private final BatchProcedure3<Float32Member,Float32Member,Float32Member> MOD =
+			new BatchProcedure3<Float32Member, Float32Member, Float32Member>()
 	{
 		@Override
 		public void call(Float32Member a, Float32Member b, Float32Member m) {
 			m.setV(a.v() % b.v());
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset, Object c, int cOffset) {
+			float[] x = (float[]) a;
+			float[] y = (float[]) b;
+			float[] z = (float[]) c;
+			for (int i = 0; i < count; i++) {
+				z[cOffset+i] = x[aOffset+i] % y[bOffset+i];
+			}
+		}
 	};
 	
 	@Override
@@ -387,7 +387,7 @@ public class Float32Matrix
 	{
 		@Override
 		public void call(Float32MatrixMember a, Float32Member b) {
-			MatrixDeterminant.compute(G.FLT_MAT, G.FLT, a, b);
+			MatrixDeterminant.compute(G.FLT_MAT, G.FLT, G.FLT, a, b);
 		}
 	};
 	
@@ -415,7 +415,7 @@ public class Float32Matrix
 	{
 		@Override
 		public void call(Float32MatrixMember a, Float32MatrixMember b) {
-			MatrixInvert.compute(G.FLT, G.FLT_VEC, G.FLT_MAT, a, b);
+			MatrixInvert.compute(G.FLT, G.FLT, G.FLT_VEC, G.FLT_MAT, a, b);
 		}
 	};
 	
@@ -49,6 +49,8 @@ import nom.bdezonia.zorbage.algorithm.Round.Mode;
 import nom.bdezonia.zorbage.function.Function1;
 import nom.bdezonia.zorbage.function.Function2;
 import nom.bdezonia.zorbage.function.Function3;
+import nom.bdezonia.zorbage.procedure.BatchProcedure2;
+import nom.bdezonia.zorbage.procedure.BatchProcedure3;
 import nom.bdezonia.zorbage.procedure.Procedure1;
 import nom.bdezonia.zorbage.procedure.Procedure2;
 import nom.bdezonia.zorbage.procedure.Procedure3;
@@ -177,13 +179,23 @@ public class Float64Algebra
 		return ASSIGN;
 	}
 
-	private final Procedure3<Float64Member,Float64Member,Float64Member> ADD =
-			new Procedure3<Float64Member, Float64Member, Float64Member>()
+	private final BatchProcedure3<Float64Member,Float64Member,Float64Member> ADD =
+			new BatchProcedure3<Float64Member, Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b, Float64Member c) {
 			c.setV( a.v() + b.v() );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset, Object c, int cOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			double[] z = (double[]) c;
+			for (int i = 0; i < count; i++) {
+				z[cOffset+i] = x[aOffset+i] + y[bOffset+i];
+			}
+		}
 	};
 	
 	@Override
@@ -191,13 +203,23 @@ public class Float64Algebra
 		return ADD;
 	}
 
-	private final Procedure3<Float64Member,Float64Member,Float64Member> SUB =
-			new Procedure3<Float64Member, Float64Member, Float64Member>()
+	private final BatchProcedure3<Float64Member,Float64Member,Float64Member> SUB =
+			new BatchProcedure3<Float64Member, Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b, Float64Member c) {
 			c.setV( a.v() - b.v() );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset, Object c, int cOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			double[] z = (double[]) c;
+			for (int i = 0; i < count; i++) {
+				z[cOffset+i] = x[aOffset+i] - y[bOffset+i];
+			}
+		}
 	};
 	
 	@Override
@@ -219,13 +241,22 @@ public class Float64Algebra
 		return ZER;
 	}
 
-	private final Procedure2<Float64Member,Float64Member> NEG =
-			new Procedure2<Float64Member, Float64Member>()
+	private final BatchProcedure2<Float64Member,Float64Member> NEG =
+			new BatchProcedure2<Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b) {
 			b.setV( -a.v() );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = -x[aOffset+i];
+			}
+		}
 	};
 
 	@Override
@@ -247,13 +278,22 @@ public class Float64Algebra
 		return UNITY;
 	}
 
-	private final Procedure2<Float64Member,Float64Member> INV =
-			new Procedure2<Float64Member, Float64Member>()
+	private final BatchProcedure2<Float64Member,Float64Member> INV =
+			new BatchProcedure2<Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b) {
 			b.setV( 1.0 / a.v() );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = 1.0 / x[aOffset+i];
+			}
+		}
 	};
 
 	@Override
@@ -261,13 +301,23 @@ public class Float64Algebra
 		return INV;
 	}
 
-	private final Procedure3<Float64Member,Float64Member,Float64Member> DIVIDE =
-			new Procedure3<Float64Member, Float64Member, Float64Member>()
+	private final BatchProcedure3<Float64Member,Float64Member,Float64Member> DIVIDE =
+			new BatchProcedure3<Float64Member, Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b, Float64Member c) {
 			c.setV( a.v() / b.v() );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset, Object c, int cOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			double[] z = (double[]) c;
+			for (int i = 0; i < count; i++) {
+				z[cOffset+i] = x[aOffset+i] / y[bOffset+i];
+			}
+		}
 	};
 	
 	@Override
@@ -391,13 +441,23 @@ public class Float64Algebra
 		return MINBOUND;
 	}
 
-	private final Procedure3<Float64Member,Float64Member,Float64Member> MUL =
-			new Procedure3<Float64Member, Float64Member, Float64Member>()
+	private final BatchProcedure3<Float64Member,Float64Member,Float64Member> MUL =
+			new BatchProcedure3<Float64Member, Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b, Float64Member c) {
 			c.setV( a.v() * b.v() );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset, Object c, int cOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			double[] z = (double[]) c;
+			for (int i = 0; i < count; i++) {
+				z[cOffset+i] = x[aOffset+i] * y[bOffset+i];
+			}
+		}
 	};
 	
 	@Override
@@ -423,13 +483,22 @@ public class Float64Algebra
 		return POWER;
 	}
 
-	private final Procedure2<Float64Member,Float64Member> ABS =
-			new Procedure2<Float64Member, Float64Member>()
+	private final BatchProcedure2<Float64Member,Float64Member> ABS =
+			new BatchProcedure2<Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b) {
 			b.setV( Math.abs(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = Math.abs(x[aOffset+i]);
+			}
+		}
 	};
 	
 	@Override
@@ -507,13 +576,22 @@ public class Float64Algebra
 		return PHI_;
 	}
 
-	private final Procedure2<Float64Member,Float64Member> EXP =
-			new Procedure2<Float64Member, Float64Member>()
+	private final BatchProcedure2<Float64Member,Float64Member> EXP =
+			new BatchProcedure2<Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b) {
 			b.setV( Math.exp(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = Math.exp(x[aOffset+i]);
+			}
+		}
 	};
 	
 	@Override
@@ -521,26 +599,44 @@ public class Float64Algebra
 		return EXP;
 	}
 
-	private final Procedure2<Float64Member,Float64Member> EXPM1 =
-			new Procedure2<Float64Member, Float64Member>()
+	private final BatchProcedure2<Float64Member,Float64Member> EXPM1 =
+			new BatchProcedure2<Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b) {
 			b.setV( Math.expm1(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = Math.expm1(x[aOffset+i]);
+			}
+		}
 	};
 	
 	public Procedure2<Float64Member,Float64Member> expm1() {
 		return EXPM1;
 	}
 
-	private final Procedure2<Float64Member,Float64Member> LOG =
-			new Procedure2<Float64Member, Float64Member>()
+	private final BatchProcedure2<Float64Member,Float64Member> LOG =
+			new BatchProcedure2<Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b) {
 			b.setV( Math.log(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = Math.log(x[aOffset+i]);
+			}
+		}
 	};
 
 	@Override
@@ -548,26 +644,44 @@ public class Float64Algebra
 		return LOG;
 	}
 
-	private final Procedure2<Float64Member,Float64Member> LOG1P =
-			new Procedure2<Float64Member, Float64Member>()
+	private final BatchProcedure2<Float64Member,Float64Member> LOG1P =
+			new BatchProcedure2<Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b) {
 			b.setV( Math.log1p(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = Math.log1p(x[aOffset+i]);
+			}
+		}
 	};
 
 	public Procedure2<Float64Member,Float64Member> log1p() {
 		return LOG1P;
 	}
 
-	private final Procedure2<Float64Member,Float64Member> COS =
-			new Procedure2<Float64Member, Float64Member>()
+	private final BatchProcedure2<Float64Member,Float64Member> COS =
+			new BatchProcedure2<Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b) {
 			b.setV( Math.cos(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = Math.cos(x[aOffset+i]);
+			}
+		}
 	};
 	
 	@Override
@@ -575,13 +689,22 @@ public class Float64Algebra
 		return COS;
 	}
 
-	private final Procedure2<Float64Member,Float64Member> SIN =
-			new Procedure2<Float64Member, Float64Member>()
+	private final BatchProcedure2<Float64Member,Float64Member> SIN =
+			new BatchProcedure2<Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b) {
 			b.setV( Math.sin(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = Math.sin(x[aOffset+i]);
+			}
+		}
 	};
 	
 	@Override
@@ -623,13 +746,22 @@ public class Float64Algebra
 		return SINANDCOS;
 	}
 
-	private final Procedure2<Float64Member,Float64Member> TAN =
-			new Procedure2<Float64Member, Float64Member>()
+	private final BatchProcedure2<Float64Member,Float64Member> TAN =
+			new BatchProcedure2<Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b) {
 			b.setV( Math.tan(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = Math.tan(x[aOffset+i]);
+			}
+		}
 	};
 	
 	@Override
@@ -639,13 +771,22 @@ public class Float64Algebra
 
 	// ref: internet
 
-	private final Procedure2<Float64Member,Float64Member> CSC =
-			new Procedure2<Float64Member, Float64Member>()
+	private final BatchProcedure2<Float64Member,Float64Member> CSC =
+			new BatchProcedure2<Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b) {
 			b.setV( 1.0 / Math.sin(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = 1.0 / Math.sin(x[aOffset+i]);
+			}
+		}
 	};
 	
 	//@Override
@@ -655,13 +796,22 @@ public class Float64Algebra
 	
 	// ref: internet
 
-	private final Procedure2<Float64Member,Float64Member> SEC =
-			new Procedure2<Float64Member, Float64Member>()
+	private final BatchProcedure2<Float64Member,Float64Member> SEC =
+			new BatchProcedure2<Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b) {
 			b.setV( 1.0 / Math.cos(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = 1.0 / Math.cos(x[aOffset+i]);
+			}
+		}
 	};
 	
 	//@Override
@@ -671,13 +821,22 @@ public class Float64Algebra
 	
 	// ref: internet
 
-	private final Procedure2<Float64Member,Float64Member> COT =
-			new Procedure2<Float64Member, Float64Member>()
+	private final BatchProcedure2<Float64Member,Float64Member> COT =
+			new BatchProcedure2<Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b) {
 			b.setV( 1.0 / Math.tan(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = 1.0 / Math.tan(x[aOffset+i]);
+			}
+		}
 	};
 	
 	//@Override
@@ -685,13 +844,22 @@ public class Float64Algebra
 		return COT;
 	}
 	
-	private final Procedure2<Float64Member,Float64Member> COSH =
-			new Procedure2<Float64Member, Float64Member>()
+	private final BatchProcedure2<Float64Member,Float64Member> COSH =
+			new BatchProcedure2<Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b) {
 			b.setV( Math.cosh(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = Math.cosh(x[aOffset+i]);
+			}
+		}
 	};
 	
 	@Override
@@ -699,13 +867,22 @@ public class Float64Algebra
 		return COSH;
 	}
 
-	private final Procedure2<Float64Member,Float64Member> SINH =
-			new Procedure2<Float64Member, Float64Member>()
+	private final BatchProcedure2<Float64Member,Float64Member> SINH =
+			new BatchProcedure2<Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b) {
 			b.setV( Math.sinh(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = Math.sinh(x[aOffset+i]);
+			}
+		}
 	};
 	
 	@Override
@@ -744,13 +921,22 @@ public class Float64Algebra
 		return SINHANDCOSH;
 	}
 
-	private final Procedure2<Float64Member,Float64Member> TANH =
-			new Procedure2<Float64Member, Float64Member>()
+	private final BatchProcedure2<Float64Member,Float64Member> TANH =
+			new BatchProcedure2<Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b) {
 			b.setV( Math.tanh(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = Math.tanh(x[aOffset+i]);
+			}
+		}
 	};
 	
 	@Override
@@ -760,13 +946,22 @@ public class Float64Algebra
 
 	// ref: internet
 
-	private final Procedure2<Float64Member,Float64Member> CSCH =
-			new Procedure2<Float64Member, Float64Member>()
+	private final BatchProcedure2<Float64Member,Float64Member> CSCH =
+			new BatchProcedure2<Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b) {
 			b.setV( 1.0 / Math.sinh(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = 1.0 / Math.sinh(x[aOffset+i]);
+			}
+		}
 	};
 	
 	//@Override
@@ -776,13 +971,22 @@ public class Float64Algebra
 	
 	// ref: internet
 
-	private final Procedure2<Float64Member,Float64Member> SECH =
-			new Procedure2<Float64Member, Float64Member>()
+	private final BatchProcedure2<Float64Member,Float64Member> SECH =
+			new BatchProcedure2<Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b) {
 			b.setV( 1.0 / Math.cosh(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = 1.0 / Math.cosh(x[aOffset+i]);
+			}
+		}
 	};
 	
 	//@Override
@@ -792,13 +996,22 @@ public class Float64Algebra
 
 	// ref: internet
 
-	private final Procedure2<Float64Member,Float64Member> COTH =
-			new Procedure2<Float64Member, Float64Member>()
+	private final BatchProcedure2<Float64Member,Float64Member> COTH =
+			new BatchProcedure2<Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b) {
 			b.setV( 1.0 / Math.tanh(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = 1.0 / Math.tanh(x[aOffset+i]);
+			}
+		}
 	};
 	
 	//@Override
@@ -806,13 +1019,22 @@ public class Float64Algebra
 		return COTH;
 	}
 	
-	private final Procedure2<Float64Member,Float64Member> ACOS =
-			new Procedure2<Float64Member, Float64Member>()
+	private final BatchProcedure2<Float64Member,Float64Member> ACOS =
+			new BatchProcedure2<Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b) {
 			b.setV( Math.acos(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = Math.acos(x[aOffset+i]);
+			}
+		}
 	};
 	
 	@Override
@@ -820,13 +1042,22 @@ public class Float64Algebra
 		return ACOS;
 	}
 
-	private final Procedure2<Float64Member,Float64Member> ASIN =
-			new Procedure2<Float64Member, Float64Member>()
+	private final BatchProcedure2<Float64Member,Float64Member> ASIN =
+			new BatchProcedure2<Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b) {
 			b.setV( Math.asin(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = Math.asin(x[aOffset+i]);
+			}
+		}
 	};
 	
 	@Override
@@ -834,13 +1065,22 @@ public class Float64Algebra
 		return ASIN;
 	}
 
-	private final Procedure2<Float64Member,Float64Member> ATAN =
-			new Procedure2<Float64Member, Float64Member>()
+	private final BatchProcedure2<Float64Member,Float64Member> ATAN =
+			new BatchProcedure2<Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b) {
 			b.setV( Math.atan(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = Math.atan(x[aOffset+i]);
+			}
+		}
 	};
 	
 	@Override
@@ -848,13 +1088,23 @@ public class Float64Algebra
 		return ATAN;
 	}
 
-	private final Procedure3<Float64Member,Float64Member,Float64Member> ATAN2 =
-			new Procedure3<Float64Member, Float64Member, Float64Member>()
+	private final BatchProcedure3<Float64Member,Float64Member,Float64Member> ATAN2 =
+			new BatchProcedure3<Float64Member, Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b, Float64Member c) {
 			c.setV( Math.atan2(a.v(), b.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset, Object c, int cOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			double[] z = (double[]) c;
+			for (int i = 0; i < count; i++) {
+				z[cOffset+i] = Math.atan2(x[aOffset+i], y[bOffset+i]);
+			}
+		}
 	};
 	
 	public Procedure3<Float64Member,Float64Member,Float64Member> atan2() {
@@ -917,13 +1167,22 @@ public class Float64Algebra
 	
 	// reference: Mathworld
 
-	private final Procedure2<Float64Member,Float64Member> ACOSH =
-			new Procedure2<Float64Member, Float64Member>()
+	private final BatchProcedure2<Float64Member,Float64Member> ACOSH =
+			new BatchProcedure2<Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b) {
 			b.setV( Math.log(a.v() + Math.sqrt(a.v()*a.v() - 1)) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = Math.log(x[aOffset+i] + Math.sqrt(x[aOffset+i]*x[aOffset+i] - 1));
+			}
+		}
 	};
 	
 	@Override
@@ -933,13 +1192,22 @@ public class Float64Algebra
 
 	// reference: Wolfram Alpha
 
-	private final Procedure2<Float64Member,Float64Member> ASINH =
-			new Procedure2<Float64Member, Float64Member>()
+	private final BatchProcedure2<Float64Member,Float64Member> ASINH =
+			new BatchProcedure2<Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b) {
 			b.setV( Math.log(a.v() + Math.sqrt(a.v()*a.v() + 1)) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = Math.log(x[aOffset+i] + Math.sqrt(x[aOffset+i]*x[aOffset+i] + 1));
+			}
+		}
 	};
 	
 	@Override
@@ -949,13 +1217,22 @@ public class Float64Algebra
 
 	// reference: Wolfram Alpha
 
-	private final Procedure2<Float64Member,Float64Member> ATANH =
-			new Procedure2<Float64Member, Float64Member>()
+	private final BatchProcedure2<Float64Member,Float64Member> ATANH =
+			new BatchProcedure2<Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b) {
 			b.setV( 0.5 * (-Math.log(1 - a.v()) + Math.log(1 + a.v())) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = 0.5 * (-Math.log(1 - x[aOffset+i]) + Math.log(1 + x[aOffset+i]));
+			}
+		}
 	};
 	
 	@Override
@@ -1087,13 +1364,22 @@ public class Float64Algebra
 		return NINF;
 	}
 
-	private final Procedure2<Float64Member,Float64Member> SQRT =
-			new Procedure2<Float64Member, Float64Member>()
+	private final BatchProcedure2<Float64Member,Float64Member> SQRT =
+			new BatchProcedure2<Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b) {
 			b.setV( Math.sqrt(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = Math.sqrt(x[aOffset+i]);
+			}
+		}
 	};
 	
 	@Override
@@ -1101,13 +1387,22 @@ public class Float64Algebra
 		return SQRT;
 	}
 
-	private final Procedure2<Float64Member,Float64Member> CBRT =
-			new Procedure2<Float64Member, Float64Member>()
+	private final BatchProcedure2<Float64Member,Float64Member> CBRT =
+			new BatchProcedure2<Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b) {
 			b.setV( Math.cbrt(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = Math.cbrt(x[aOffset+i]);
+			}
+		}
 	};
 	
 	@Override
@@ -1175,52 +1470,89 @@ public class Float64Algebra
 		return POW;
 	}
 	
-	private final Procedure3<Float64Member,Float64Member,Float64Member> IEEE =
-			new Procedure3<Float64Member, Float64Member, Float64Member>()
+	private final BatchProcedure3<Float64Member,Float64Member,Float64Member> IEEE =
+			new BatchProcedure3<Float64Member, Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b, Float64Member c) {
 			c.setV( Math.IEEEremainder(a.v(), b.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset, Object c, int cOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			double[] z = (double[]) c;
+			for (int i = 0; i < count; i++) {
+				z[cOffset+i] = Math.IEEEremainder(x[aOffset+i], y[bOffset+i]);
+			}
+		}
 	};
 	
 	public Procedure3<Float64Member,Float64Member,Float64Member> IEEEremainder() {
 		return IEEE;
 	}
 
-	private final Procedure2<Float64Member,Float64Member> LOG10 =
-			new Procedure2<Float64Member, Float64Member>()
+	private final BatchProcedure2<Float64Member,Float64Member> LOG10 =
+			new BatchProcedure2<Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b) {
 			b.setV( Math.log10(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = Math.log10(x[aOffset+i]);
+			}
+		}
 	};
 	
 	public Procedure2<Float64Member,Float64Member> log10() {
 		return LOG10;
 	}
 	
-	private final Procedure2<Float64Member,Float64Member> TODEG =
-			new Procedure2<Float64Member, Float64Member>()
+	private final BatchProcedure2<Float64Member,Float64Member> TODEG =
+			new BatchProcedure2<Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b) {
 			b.setV( Math.toDegrees(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = Math.toDegrees(x[aOffset+i]);
+			}
+		}
 	};
 	
 	public Procedure2<Float64Member,Float64Member> toDegrees() {
 		return TODEG;
 	}
 	
-	private final Procedure2<Float64Member,Float64Member> TORAD =
-			new Procedure2<Float64Member, Float64Member>()
+	private final BatchProcedure2<Float64Member,Float64Member> TORAD =
+			new BatchProcedure2<Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b) {
 			b.setV( Math.toRadians(a.v()) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = Math.toRadians(x[aOffset+i]);
+			}
+		}
 	};
 	
 	public Procedure2<Float64Member,Float64Member> toRadians() {
@@ -1270,13 +1602,22 @@ public class Float64Algebra
 		return UNREAL;
 	}
 	
-	private final Procedure2<Float64Member,Float64Member> PRED =
-			new Procedure2<Float64Member, Float64Member>()
+	private final BatchProcedure2<Float64Member,Float64Member> PRED =
+			new BatchProcedure2<Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b) {
 			b.setV( Math.nextDown( a.v() ) );
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = Math.nextDown( x[aOffset+i] );
+			}
+		}
 	};
 	
 	@Override
@@ -1284,13 +1625,22 @@ public class Float64Algebra
 		return PRED;
 	}
 
-	private final Procedure2<Float64Member,Float64Member> SUCC =
-			new Procedure2<Float64Member, Float64Member>()
+	private final BatchProcedure2<Float64Member,Float64Member> SUCC =
+			new BatchProcedure2<Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b) {
 			b.setV(Math.nextUp(a.v()));
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = Math.nextUp(x[aOffset+i]);
+			}
+		}
 	};
 	
 	@Override
@@ -1298,13 +1648,23 @@ public class Float64Algebra
 		return SUCC;
 	}
 
-	private final Procedure3<Float64Member,Float64Member,Float64Member> CPS =
-			new Procedure3<Float64Member, Float64Member, Float64Member>()
+	private final BatchProcedure3<Float64Member,Float64Member,Float64Member> CPS =
+			new BatchProcedure3<Float64Member, Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b, Float64Member c) {
 			c.setV(Math.copySign(a.v(), b.v()));
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset, Object c, int cOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			double[] z = (double[]) c;
+			for (int i = 0; i < count; i++) {
+				z[cOffset+i] = Math.copySign(x[aOffset+i], y[bOffset+i]);
+			}
+		}
 	};
 	
 	@Override
@@ -1340,13 +1700,22 @@ public class Float64Algebra
 		return SCALB;
 	}
 
-	private final Procedure2<Float64Member,Float64Member> ULP =
-			new Procedure2<Float64Member, Float64Member>()
+	private final BatchProcedure2<Float64Member,Float64Member> ULP =
+			new BatchProcedure2<Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b) {
 			b.setV(Math.ulp(a.v()));
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			for (int i = 0; i < count; i++) {
+				y[bOffset+i] = Math.ulp(x[aOffset+i]);
+			}
+		}
 	};
 	
 	@Override
@@ -1377,13 +1746,23 @@ public class Float64Algebra
 		return DIV;
 	}
 
-	private final Procedure3<Float64Member,Float64Member,Float64Member> MOD =
-			new Procedure3<Float64Member, Float64Member, Float64Member>()
+	private final BatchProcedure3<Float64Member,Float64Member,Float64Member> MOD =
+			new BatchProcedure3<Float64Member, Float64Member, Float64Member>()
 	{
 		@Override
 		public void call(Float64Member a, Float64Member b, Float64Member m) {
 			m.setV(a.v() % b.v());
 		}
+
+		@Override
+		public void batchCall(int count, Object a, int aOffset, Object b, int bOffset, Object c, int cOffset) {
+			double[] x = (double[]) a;
+			double[] y = (double[]) b;
+			double[] z = (double[]) c;
+			for (int i = 0; i < count; i++) {
+				z[cOffset+i] = x[aOffset+i] % y[bOffset+i];
+			}
+		}
 	};
 	
 	@Override
@@ -387,7 +387,7 @@ public class Float64Matrix
 	{
 		@Override
 		public void call(Float64MatrixMember a, Float64Member b) {
-			MatrixDeterminant.compute(G.DBL_MAT, G.DBL, a, b);
+			MatrixDeterminant.compute(G.DBL_MAT, G.DBL, G.DBL, a, b);
 		}
 	};
 	
@@ -415,7 +415,7 @@ public class Float64Matrix
 	{
 		@Override
 		public void call(Float64MatrixMember a, Float64MatrixMember b) {
-			MatrixInvert.compute(G.DBL, G.DBL_VEC, G.DBL_MAT, a, b);
+			MatrixInvert.compute(G.DBL, G.DBL, G.DBL_VEC, G.DBL_MAT, a, b);
 		}
 	};
 	
@@ -95,7 +95,9 @@ public class HighPrecisionAlgebra
 		ExactlyConstructibleFromShorts<HighPrecisionMember>,
 		ExactlyConstructibleFromBytes<HighPrecisionMember>
 {
-	private static MathContext CONTEXT = new MathContext(24, RoundingMode.HALF_EVEN);
+	private static volatile MathContext CONTEXT = new MathContext(24, RoundingMode.HALF_EVEN);
+	private static final InheritableThreadLocal<MathContext> THREAD_CONTEXT = new InheritableThreadLocal<>();
+	private static volatile boolean threadContextsUsed = false;
 	private static final BigDecimal THREE = BigDecimal.valueOf(3);
 	
 	@Override
@@ -103,21 +105,76 @@ public class HighPrecisionAlgebra
 		return "Arbitrary precision real number";
 	}
 
+	/**
+	 * Returns the precision context in effect for the calling thread. This is
+	 * the thread's own context if one was set with setThreadPrecision() or
+	 * withPrecision() and otherwise the global one set with setPrecision().
+	 * Threads inherit the context of the thread that created them.
+	 */
 	public static MathContext getContext() {
+		if (threadContextsUsed) {
+			MathContext context = THREAD_CONTEXT.get();
+			if (context != null)
+				return context;
+		}
 		return CONTEXT;
 	}
 	
 	public static int getPrecision() {
-		return CONTEXT.getPrecision();
+		return getContext().getPrecision();
 	}
 	
+	/**
+	 * Sets the global precision used by all threads that have not set their own.
+	 */
 	public static void setPrecision(int decimalPlaces) {
+		CONTEXT = context(decimalPlaces);
+	}
+
+	/**
+	 * Sets the precision used by the calling thread (and threads it creates
+	 * afterwards) until clearThreadPrecision() is called.
+	 */
+	public static void setThreadPrecision(int decimalPlaces) {
+		MathContext context = context(decimalPlaces);
+		threadContextsUsed = true;
+		THREAD_CONTEXT.set(context);
+	}
+
+	/**
+	 * Makes the calling thread go back to using the global precision.
+	 */
+	public static void clearThreadPrecision() {
+		THREAD_CONTEXT.remove();
+	}
+
+	/**
+	 * Runs some code with the calling thread's precision set to a given number
+	 * of decimal places. The thread's previous precision is restored afterwards.
+	 */
+	public static void withPrecision(int decimalPlaces, Runnable code) {
+		MathContext context = context(decimalPlaces);
+		threadContextsUsed = true;
+		MathContext prior = THREAD_CONTEXT.get();
+		THREAD_CONTEXT.set(context);
+		try {
+			code.run();
+		}
+		finally {
+			if (prior == null)
+				THREAD_CONTEXT.remove();
+			else
+				THREAD_CONTEXT.set(prior);
+		}
+	}
+
+	private static MathContext context(int decimalPlaces) {
 		if (decimalPlaces < 1)
 			throw new IllegalArgumentException("number of decimal places must be > 0");
-		int maxPlaces = Math.min(Math.min(PI_STR.length()-2, E_STR.length()-2), Math.min(GAMMA_STR.length()-2, PHI_STR.length()-2));
+		int maxPlaces = HighPrecisionConstants.MAX_PRECISION;
 		if (decimalPlaces > maxPlaces)
 			throw new IllegalArgumentException("precision too high: beyond max accuracy of "+maxPlaces+" decimal places");
-		CONTEXT = new MathContext(decimalPlaces, RoundingMode.HALF_EVEN);
+		return new MathContext(decimalPlaces, RoundingMode.HALF_EVEN);
 	}
 
 	// Source: wolfram alpha to 4000 digits on 5/25/19
@@ -270,7 +327,7 @@ public class HighPrecisionAlgebra
 	{
 		@Override
 		public void call(HighPrecisionMember a, HighPrecisionMember b) {
-			b.setV( BigDecimal.ONE.divide(a.v(), CONTEXT) );
+			b.setV( BigDecimal.ONE.divide(a.v(), getContext()) );
 		}
 	};
 
@@ -284,7 +341,7 @@ public class HighPrecisionAlgebra
 	{
 		@Override
 		public void call(HighPrecisionMember a, HighPrecisionMember b, HighPrecisionMember c) {
-			c.setV( a.v().divide(b.v(), CONTEXT) );
+			c.setV( a.v().divide(b.v(), getContext()) );
 		}
 	};
 	
@@ -382,7 +439,7 @@ public class HighPrecisionAlgebra
 	{
 		@Override
 		public void call(HighPrecisionMember a, HighPrecisionMember b, HighPrecisionMember c) {
-			c.setV( a.v().multiply(b.v(), CONTEXT) );
+			c.setV( a.v().multiply(b.v(), getContext()) );
 		}
 	};
 	
@@ -442,8 +499,7 @@ public class HighPrecisionAlgebra
 	{
 		@Override
 		public void call(HighPrecisionMember a) {
-			BigDecimal pi = new BigDecimal(PI_STR.substring(0, CONTEXT.getPrecision()+2));
-			a.setV(pi);
+			a.setV(HighPrecisionConstants.get(getContext()).pi());
 		}
 	};
 	
@@ -457,8 +513,7 @@ public class HighPrecisionAlgebra
 	{
 		@Override
 		public void call(HighPrecisionMember a) {
-			BigDecimal e = new BigDecimal(E_STR.substring(0, CONTEXT.getPrecision()+2));
-			a.setV(e);
+			a.setV(HighPrecisionConstants.get(getContext()).e());
 		}
 	};
 	
@@ -472,8 +527,7 @@ public class HighPrecisionAlgebra
 	{
 		@Override
 		public void call(HighPrecisionMember a) {
-			BigDecimal gamma = new BigDecimal(GAMMA_STR.substring(0, CONTEXT.getPrecision()+2));
-			a.setV(gamma);
+			a.setV(HighPrecisionConstants.get(getContext()).gamma());
 		}
 	};
 	
@@ -487,8 +541,7 @@ public class HighPrecisionAlgebra
 	{
 		@Override
 		public void call(HighPrecisionMember a) {
-			BigDecimal phi = new BigDecimal(PHI_STR.substring(0, CONTEXT.getPrecision()+2));
-			a.setV(phi);
+			a.setV(HighPrecisionConstants.get(getContext()).phi());
 		}
 	};
 	
@@ -583,8 +636,8 @@ public class HighPrecisionAlgebra
 		@Override
 		public void call(RationalMember a, HighPrecisionMember b, HighPrecisionMember c) {
 			BigDecimal tmp = b.v();
-			tmp = tmp.multiply(new BigDecimal(a.n()), CONTEXT);
-			tmp = tmp.divide(new BigDecimal(a.d()), CONTEXT);
+			tmp = tmp.multiply(new BigDecimal(a.n()), getContext());
+			tmp = tmp.divide(new BigDecimal(a.d()), getContext());
 			c.setV(tmp);
 		}
 	};
@@ -601,7 +654,7 @@ public class HighPrecisionAlgebra
 		public void call(Double a, HighPrecisionMember b, HighPrecisionMember c) {
 			BigDecimal d = BigDecimal.valueOf(a);
 			BigDecimal tmp = b.v();
-			tmp = tmp.multiply(d, CONTEXT);
+			tmp = tmp.multiply(d, getContext());
 			c.setV(tmp);
 		}
 	};
@@ -621,7 +674,7 @@ public class HighPrecisionAlgebra
 	{
 		@Override
 		public void call(HighPrecisionMember a, HighPrecisionMember b) {
-			b.setV(BigDecimalMath.asinh(a.v(), CONTEXT));
+			b.setV(BigDecimalMath.asinh(a.v(), getContext()));
 		}
 	};
 
@@ -635,7 +688,7 @@ public class HighPrecisionAlgebra
 	{
 		@Override
 		public void call(HighPrecisionMember a, HighPrecisionMember b) {
-			b.setV(BigDecimalMath.acosh(a.v(), CONTEXT));
+			b.setV(BigDecimalMath.acosh(a.v(), getContext()));
 		}
 	};
 
@@ -649,7 +702,7 @@ public class HighPrecisionAlgebra
 	{
 		@Override
 		public void call(HighPrecisionMember a, HighPrecisionMember b) {
-			b.setV(BigDecimalMath.atanh(a.v(), CONTEXT));
+			b.setV(BigDecimalMath.atanh(a.v(), getContext()));
 		}
 	};
 
@@ -663,7 +716,7 @@ public class HighPrecisionAlgebra
 	{
 		@Override
 		public void call(HighPrecisionMember a, HighPrecisionMember b) {
-			b.setV(BigDecimalMath.asin(a.v(), CONTEXT));
+			b.setV(BigDecimalMath.asin(a.v(), getContext()));
 		}
 	};
 
@@ -677,7 +730,7 @@ public class HighPrecisionAlgebra
 	{
 		@Override
 		public void call(HighPrecisionMember a, HighPrecisionMember b) {
-			b.setV(BigDecimalMath.acos(a.v(), CONTEXT));
+			b.setV(BigDecimalMath.acos(a.v(), getContext()));
 		}
 	};
 
@@ -691,7 +744,7 @@ public class HighPrecisionAlgebra
 	{
 		@Override
 		public void call(HighPrecisionMember a, HighPrecisionMember b) {
-			b.setV(BigDecimalMath.atan(a.v(), CONTEXT));
+			b.setV(BigDecimalMath.atan(a.v(), getContext()));
 		}
 	};
 
@@ -705,7 +758,7 @@ public class HighPrecisionAlgebra
 	{
 		@Override
 		public void call(HighPrecisionMember a, HighPrecisionMember b) {
-			b.setV(BigDecimalMath.sinh(a.v(), CONTEXT));
+			b.setV(BigDecimalMath.sinh(a.v(), getContext()));
 		}
 	};
 
@@ -719,7 +772,7 @@ public class HighPrecisionAlgebra
 	{
 		@Override
 		public void call(HighPrecisionMember a, HighPrecisionMember b) {
-			b.setV(BigDecimalMath.cosh(a.v(), CONTEXT));
+			b.setV(BigDecimalMath.cosh(a.v(), getContext()));
 		}
 	};
 
@@ -748,7 +801,7 @@ public class HighPrecisionAlgebra
 	{
 		@Override
 		public void call(HighPrecisionMember a, HighPrecisionMember b) {
-			b.setV(BigDecimalMath.tanh(a.v(), CONTEXT));
+			b.setV(BigDecimalMath.tanh(a.v(), getContext()));
 		}
 	};
 
@@ -762,7 +815,7 @@ public class HighPrecisionAlgebra
 	{
 		@Override
 		public void call(HighPrecisionMember a, HighPrecisionMember b) {
-			b.setV(BigDecimalMath.sin(a.v(), CONTEXT));
+			b.setV(HighPrecisionFunctions.sin(a.v(), getContext()));
 		}
 	};
 
@@ -776,7 +829,7 @@ public class HighPrecisionAlgebra
 	{
 		@Override
 		public void call(HighPrecisionMember a, HighPrecisionMember b) {
-			b.setV(BigDecimalMath.cos(a.v(), CONTEXT));
+			b.setV(HighPrecisionFunctions.cos(a.v(), getContext()));
 		}
 	};
 
@@ -790,7 +843,7 @@ public class HighPrecisionAlgebra
 	{
 		@Override
 		public void call(HighPrecisionMember a, HighPrecisionMember b) {
-			b.setV(BigDecimalMath.tan(a.v(), CONTEXT));
+			b.setV(HighPrecisionFunctions.tan(a.v(), getContext()));
 		}
 	};
 
@@ -804,8 +857,10 @@ public class HighPrecisionAlgebra
 	{
 		@Override
 		public void call(HighPrecisionMember a, HighPrecisionMember b, HighPrecisionMember c) {
-			sin().call(a, b);
-			cos().call(a, c);
+			BigDecimal[] sinCos = new BigDecimal[2];
+			HighPrecisionFunctions.sinAndCos(a.v(), getContext(), sinCos);
+			b.setV(sinCos[0]);
+			c.setV(sinCos[1]);
 		}
 	};
 
@@ -822,7 +877,7 @@ public class HighPrecisionAlgebra
 			if (a.v().signum() == 0)
 				b.setV(BigDecimal.ONE);
 			else
-				b.setV(BigDecimalMath.sinh(a.v(), CONTEXT).divide(a.v(), CONTEXT));
+				b.setV(BigDecimalMath.sinh(a.v(), getContext()).divide(a.v(), getContext()));
 		}
 	};
 
@@ -839,8 +894,8 @@ public class HighPrecisionAlgebra
 			if (a.v().signum() == 0)
 				b.setV(BigDecimal.ONE);
 			else {
-				BigDecimal term = a.v().multiply(BigDecimalMath.e(CONTEXT), CONTEXT);
-				b.setV(BigDecimalMath.sinh(term, CONTEXT).divide(term, CONTEXT));
+				BigDecimal term = a.v().multiply(HighPrecisionConstants.get(getContext()).pi(), getContext());
+				b.setV(BigDecimalMath.sinh(term, getContext()).divide(term, getContext()));
 			}
 		}
 	};
@@ -858,7 +913,7 @@ public class HighPrecisionAlgebra
 			if (a.v().signum() == 0)
 				b.setV(BigDecimal.ONE);
 			else
-				b.setV(BigDecimalMath.sin(a.v(), CONTEXT).divide(a.v(), CONTEXT));
+				b.setV(HighPrecisionFunctions.sin(a.v(), getContext()).divide(a.v(), getContext()));
 		}
 	};
 
@@ -875,8 +930,8 @@ public class HighPrecisionAlgebra
 			if (a.v().signum() == 0)
 				b.setV(BigDecimal.ONE);
 			else {
-				BigDecimal term = a.v().multiply(BigDecimalMath.e(CONTEXT), CONTEXT);
-				b.setV(BigDecimalMath.sin(term, CONTEXT).divide(term, CONTEXT));
+				BigDecimal term = a.v().multiply(HighPrecisionConstants.get(getContext()).pi(), getContext());
+				b.setV(HighPrecisionFunctions.sin(term, getContext()).divide(term, getContext()));
 			}
 		}
 	};
@@ -891,7 +946,7 @@ public class HighPrecisionAlgebra
 	{
 		@Override
 		public void call(HighPrecisionMember a, HighPrecisionMember b, HighPrecisionMember c) {
-			c.setV(BigDecimalMath.pow(a.v(), b.v(), CONTEXT));
+			c.setV(BigDecimalMath.pow(a.v(), b.v(), getContext()));
 		}
 	};
 
@@ -905,7 +960,7 @@ public class HighPrecisionAlgebra
 	{
 		@Override
 		public void call(HighPrecisionMember a, HighPrecisionMember b) {
-			b.setV(BigDecimalMath.sqrt(a.v(), CONTEXT));
+			b.setV(BigDecimalMath.sqrt(a.v(), getContext()));
 		}
 	};
 
@@ -919,7 +974,7 @@ public class HighPrecisionAlgebra
 	{
 		@Override
 		public void call(HighPrecisionMember a, HighPrecisionMember b) {
-			b.setV(BigDecimalMath.root(a.v(), THREE, CONTEXT));
+			b.setV(BigDecimalMath.root(a.v(), THREE, getContext()));
 		}
 	};
 
@@ -933,7 +988,7 @@ public class HighPrecisionAlgebra
 	{
 		@Override
 		public void call(HighPrecisionMember a, HighPrecisionMember b, HighPrecisionMember c) {
-			c.setV(a.v().multiply(b.v(), CONTEXT));
+			c.setV(a.v().multiply(b.v(), getContext()));
 		}
 	};
 
@@ -962,7 +1017,7 @@ public class HighPrecisionAlgebra
 	{
 		@Override
 		public void call(HighPrecisionMember a, HighPrecisionMember b) {
-			b.setV(BigDecimalMath.exp(a.v(), CONTEXT));
+			b.setV(HighPrecisionFunctions.exp(a.v(), getContext()));
 		}
 	};
 
@@ -976,7 +1031,7 @@ public class HighPrecisionAlgebra
 	{
 		@Override
 		public void call(HighPrecisionMember a, HighPrecisionMember b) {
-			b.setV(BigDecimalMath.log(b.v(), CONTEXT));
+			b.setV(HighPrecisionFunctions.log(a.v(), getContext()));
 		}
 	};
 
@@ -1046,7 +1101,7 @@ public class HighPrecisionAlgebra
 	{
 		@Override
 		public void call(Integer scaleFactor, HighPrecisionMember a, HighPrecisionMember b) {
-			b.setV(a.v().multiply(BigDecimal.valueOf(2).pow(scaleFactor), CONTEXT));
+			b.setV(a.v().multiply(BigDecimal.valueOf(2).pow(scaleFactor), getContext()));
 		}
 	};
 
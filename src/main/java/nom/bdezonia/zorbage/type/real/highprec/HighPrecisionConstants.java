@@ -0,0 +1,197 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.type.real.highprec;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import ch.obermuhlner.math.big.BigDecimalMath;
+
+/**
+ * HighPrecisionConstants holds the constants and derived values that the
+ * {@link HighPrecisionAlgebra} uses at one precision. Sets of constants are
+ * cached by precision so that element by element transforms of large lists
+ * do not rebuild them for every value. The cache is bounded: when it is full
+ * the least recently used set is dropped. The values used for argument
+ * reduction (pi/2, 2*pi and ln 2) are kept to extra digits so one set covers
+ * every argument its functions reduce at a given precision.
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public final class HighPrecisionConstants {
+
+	private static final int CAPACITY = 8;
+	
+	private static final LinkedHashMap<Integer, HighPrecisionConstants> CACHE =
+			new LinkedHashMap<Integer, HighPrecisionConstants>(16, 0.75f, true)
+	{
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Integer, HighPrecisionConstants> eldest) {
+			return size() > CAPACITY;
+		}
+	};
+	
+	// the most recently used set: most code stays at one precision
+	
+	private static volatile HighPrecisionConstants latest = null;
+	
+	/**
+	 * The largest precision the constants are known to.
+	 */
+	public static final int MAX_PRECISION =
+			Math.min(
+				Math.min(HighPrecisionAlgebra.PI_STR.length()-2, HighPrecisionAlgebra.E_STR.length()-2),
+				Math.min(HighPrecisionAlgebra.GAMMA_STR.length()-2, HighPrecisionAlgebra.PHI_STR.length()-2));
+	
+	/**
+	 * Returns the constants for a given number of decimal places.
+	 * 
+	 * @param precision
+	 */
+	public static HighPrecisionConstants get(int precision) {
+		if (precision < 1)
+			throw new IllegalArgumentException("number of decimal places must be > 0");
+		if (precision > MAX_PRECISION)
+			throw new IllegalArgumentException("precision too high: beyond max accuracy of "+MAX_PRECISION+" decimal places");
+		HighPrecisionConstants constants = latest;
+		if (constants != null && constants.precision == precision)
+			return constants;
+		synchronized (CACHE) {
+			constants = CACHE.get(precision);
+			if (constants == null) {
+				constants = new HighPrecisionConstants(precision);
+				CACHE.put(precision, constants);
+			}
+		}
+		latest = constants;
+		return constants;
+	}
+	
+	/**
+	 * Returns the constants for the precision of a MathContext.
+	 * 
+	 * @param context
+	 */
+	public static HighPrecisionConstants get(MathContext context) {
+		return get(context.getPrecision());
+	}
+
+	private final int precision;
+	private final MathContext context;
+	private final BigDecimal pi;
+	private final BigDecimal halfPi;
+	private final BigDecimal twoPi;
+	private final BigDecimal e;
+	private final BigDecimal gamma;
+	private final BigDecimal phi;
+	private final int workingPrecision;
+	private final MathContext workingContext;
+	private volatile BigDecimal ln2 = null;
+	
+	private HighPrecisionConstants(int precision) {
+		this.precision = precision;
+		this.context = new MathContext(precision, RoundingMode.HALF_EVEN);
+		this.pi = constant(HighPrecisionAlgebra.PI_STR, precision);
+		this.e = constant(HighPrecisionAlgebra.E_STR, precision);
+		this.gamma = constant(HighPrecisionAlgebra.GAMMA_STR, precision);
+		this.phi = constant(HighPrecisionAlgebra.PHI_STR, precision);
+		this.workingPrecision = Math.min(MAX_PRECISION,
+				precision + HighPrecisionFunctions.GUARD_DIGITS + HighPrecisionFunctions.MAX_EXTRA_DIGITS);
+		this.workingContext = new MathContext(workingPrecision, RoundingMode.HALF_EVEN);
+		BigDecimal widePi = constant(HighPrecisionAlgebra.PI_STR, workingPrecision);
+		this.halfPi = widePi.divide(BigDecimal.valueOf(2), workingContext);
+		this.twoPi = widePi.multiply(BigDecimal.valueOf(2), workingContext);
+	}
+	
+	// Same digits as the old substring approach: all the digits before the
+	//   decimal point are single digits.
+	
+	private static BigDecimal constant(String digits, int precision) {
+		return new BigDecimal(digits.substring(0, precision+2));
+	}
+	
+	public int precision() {
+		return precision;
+	}
+
+	public MathContext context() {
+		return context;
+	}
+	
+	/**
+	 * The number of digits of halfPi(), twoPi() and ln2().
+	 */
+	public int workingPrecision() {
+		return workingPrecision;
+	}
+	
+	public BigDecimal pi() {
+		return pi;
+	}
+
+	public BigDecimal halfPi() {
+		return halfPi;
+	}
+
+	public BigDecimal twoPi() {
+		return twoPi;
+	}
+
+	public BigDecimal e() {
+		return e;
+	}
+
+	public BigDecimal gamma() {
+		return gamma;
+	}
+
+	public BigDecimal phi() {
+		return phi;
+	}
+
+	// ln2 is a full log series so it is only computed when exp() first needs it
+	
+	public BigDecimal ln2() {
+		BigDecimal value = ln2;
+		if (value == null) {
+			MathContext guarded = new MathContext(workingPrecision + 5, RoundingMode.HALF_EVEN);
+			value = BigDecimalMath.log(BigDecimal.valueOf(2), guarded).round(workingContext);
+			ln2 = value;
+		}
+		return value;
+	}
+}
@@ -0,0 +1,210 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.type.real.highprec;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import ch.obermuhlner.math.big.BigDecimalMath;
+
+/**
+ * HighPrecisionFunctions reduces the arguments of the transcendental
+ * functions with cached {@link HighPrecisionConstants} before handing the
+ * small remaining arguments to the series code. Arguments that are too big
+ * to reduce with the cached constants go straight to the series code.
+ * 
+ * @author Barry DeZonia
+ *
+ */
+class HighPrecisionFunctions {
+
+	// do not instantiate
+	
+	private HighPrecisionFunctions() { }
+	
+	static final int GUARD_DIGITS = 10;
+	
+	// how many digits past the guard digits an argument reduction may need
+	//   before it falls back to the series code alone
+	
+	static final int MAX_EXTRA_DIGITS = 40;
+	
+	private static final int MAX_POWER_OF_TWO = 100000;
+	
+	private static final double LOG2_10 = Math.log(10) / Math.log(2);
+	
+	/**
+	 * Fills result[0] with sin(x) and result[1] with cos(x).
+	 */
+	static void sinAndCos(BigDecimal x, MathContext context, BigDecimal[] result) {
+		if (x.signum() == 0) {
+			result[0] = BigDecimal.ZERO;
+			result[1] = BigDecimal.ONE;
+			return;
+		}
+		
+		// x = n * pi/2 + r with |r| <= pi/4
+		
+		int integerDigits = Math.max(0, x.precision() - x.scale());
+		int working = context.getPrecision() + GUARD_DIGITS + integerDigits;
+		HighPrecisionConstants constants = constants(context, working);
+		if (constants == null) {
+			result[0] = BigDecimalMath.sin(x, context);
+			result[1] = BigDecimalMath.cos(x, context);
+			return;
+		}
+		MathContext mc = new MathContext(working, RoundingMode.HALF_EVEN);
+		BigInteger n = x.divide(constants.halfPi(), mc).setScale(0, RoundingMode.HALF_EVEN).toBigIntegerExact();
+		BigDecimal r = x.subtract(constants.halfPi().multiply(new BigDecimal(n)), mc);
+		
+		// x near a multiple of pi/2 cancels leading digits of r: redo with more
+		
+		int lost = (r.signum() == 0) ? working : -(r.precision() - r.scale());
+		if (lost > 0) {
+			working += lost;
+			if (working > constants.workingPrecision()) {
+				result[0] = BigDecimalMath.sin(x, context);
+				result[1] = BigDecimalMath.cos(x, context);
+				return;
+			}
+			r = x.subtract(constants.halfPi().multiply(new BigDecimal(n)), new MathContext(working, RoundingMode.HALF_EVEN));
+		}
+		MathContext series = new MathContext(context.getPrecision() + GUARD_DIGITS, RoundingMode.HALF_EVEN);
+		BigDecimal s = BigDecimalMath.sin(r, series);
+		BigDecimal c = BigDecimalMath.cos(r, series);
+		switch (n.intValue() & 3) {
+		case 0:
+			result[0] = s;
+			result[1] = c;
+			break;
+		case 1:
+			result[0] = c;
+			result[1] = s.negate();
+			break;
+		case 2:
+			result[0] = s.negate();
+			result[1] = c.negate();
+			break;
+		default:
+			result[0] = c.negate();
+			result[1] = s;
+			break;
+		}
+		result[0] = result[0].round(context);
+		result[1] = result[1].round(context);
+	}
+	
+	static BigDecimal sin(BigDecimal x, MathContext context) {
+		BigDecimal[] result = new BigDecimal[2];
+		sinAndCos(x, context, result);
+		return result[0];
+	}
+	
+	static BigDecimal cos(BigDecimal x, MathContext context) {
+		BigDecimal[] result = new BigDecimal[2];
+		sinAndCos(x, context, result);
+		return result[1];
+	}
+	
+	static BigDecimal tan(BigDecimal x, MathContext context) {
+		BigDecimal[] result = new BigDecimal[2];
+		MathContext guarded = new MathContext(context.getPrecision() + GUARD_DIGITS, RoundingMode.HALF_EVEN);
+		sinAndCos(x, guarded, result);
+		return result[0].divide(result[1], context);
+	}
+	
+	/**
+	 * exp(x) = 2^k * exp(r) with x = k * ln(2) + r and |r| <= ln(2)/2
+	 */
+	static BigDecimal exp(BigDecimal x, MathContext context) {
+		if (x.signum() == 0)
+			return BigDecimal.ONE;
+		int integerDigits = Math.max(0, x.precision() - x.scale());
+		int working = context.getPrecision() + GUARD_DIGITS + integerDigits;
+		HighPrecisionConstants constants = (integerDigits > 5) ? null : constants(context, working);
+		if (constants == null)
+			return BigDecimalMath.exp(x, context);
+		MathContext mc = new MathContext(working, RoundingMode.HALF_EVEN);
+		int k = x.divide(constants.ln2(), mc).setScale(0, RoundingMode.HALF_EVEN).intValueExact();
+		if (Math.abs(k) > MAX_POWER_OF_TWO)
+			return BigDecimalMath.exp(x, context);
+		BigDecimal r = x.subtract(constants.ln2().multiply(BigDecimal.valueOf(k)), mc);
+		MathContext series = new MathContext(context.getPrecision() + GUARD_DIGITS, RoundingMode.HALF_EVEN);
+		BigDecimal result = BigDecimalMath.exp(r, series);
+		return result.multiply(powerOfTwo(k)).round(context);
+	}
+	
+	/**
+	 * log(x) = k * ln(2) + log(m) with x = 2^k * m and m near 1
+	 */
+	static BigDecimal log(BigDecimal x, MathContext context) {
+		if (x.signum() <= 0)
+			return BigDecimalMath.log(x, context);
+		int exponent = x.precision() - x.scale() - 1;
+		double leading = x.movePointLeft(exponent).doubleValue();
+		long k = Math.round((exponent + Math.log10(leading)) * LOG2_10);
+		int kDigits = Long.toString(Math.abs(k)).length();
+		int working = context.getPrecision() + GUARD_DIGITS + kDigits;
+		HighPrecisionConstants constants = (Math.abs(k) > MAX_POWER_OF_TWO) ? null : constants(context, working);
+		if (constants == null)
+			return BigDecimalMath.log(x, context);
+		MathContext mc = new MathContext(working, RoundingMode.HALF_EVEN);
+		BigDecimal m = x.multiply(powerOfTwo((int) -k)).round(mc);
+		MathContext series = new MathContext(context.getPrecision() + GUARD_DIGITS, RoundingMode.HALF_EVEN);
+		BigDecimal result = BigDecimalMath.log(m, series);
+		result = result.add(constants.ln2().multiply(BigDecimal.valueOf(k)), mc);
+		return result.round(context);
+	}
+	
+	// The constants for the caller's precision, or null if they are not
+	//   precise enough for a reduction at the given working precision. The
+	//   constants are looked up by the caller's precision only so the same
+	//   set serves arguments of every size.
+	
+	private static HighPrecisionConstants constants(MathContext context, int working) {
+		if (context.getPrecision() < 1 || working > HighPrecisionConstants.MAX_PRECISION)
+			return null;
+		HighPrecisionConstants constants = HighPrecisionConstants.get(context.getPrecision());
+		if (working > constants.workingPrecision())
+			return null;
+		return constants;
+	}
+	
+	// exact powers of two: negative powers are 5^n / 10^n
+	
+	private static BigDecimal powerOfTwo(int k) {
+		if (k >= 0)
+			return new BigDecimal(BigInteger.ONE.shiftLeft(k));
+		return new BigDecimal(BigInteger.valueOf(5).pow(-k), -k);
+	}
+}
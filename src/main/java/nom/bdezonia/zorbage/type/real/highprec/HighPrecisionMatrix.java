@@ -306,7 +306,7 @@ public class HighPrecisionMatrix
 	{
 		@Override
 		public void call(HighPrecisionMatrixMember a, HighPrecisionMember b) {
-			MatrixDeterminant.compute(G.HP_MAT, G.HP, a, b);
+			MatrixDeterminant.compute(G.HP_MAT, G.HP, G.HP, a, b);
 		}
 	};
 	
@@ -334,7 +334,7 @@ public class HighPrecisionMatrix
 	{
 		@Override
 		public void call(HighPrecisionMatrixMember a, HighPrecisionMatrixMember b) {
-			MatrixInvert.compute(G.HP, G.HP_VEC, G.HP_MAT, a, b);
+			MatrixInvert.compute(G.HP, G.HP, G.HP_VEC, G.HP_MAT, a, b);
 		}
 	};
 	
@@ -0,0 +1,543 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.type.sparse;
+
+import java.util.Arrays;
+
+import nom.bdezonia.zorbage.algebra.Addition;
+import nom.bdezonia.zorbage.algebra.Algebra;
+import nom.bdezonia.zorbage.algebra.MatrixMember;
+import nom.bdezonia.zorbage.algebra.Multiplication;
+import nom.bdezonia.zorbage.algebra.RModuleMember;
+import nom.bdezonia.zorbage.datasource.IndexedDataSource;
+import nom.bdezonia.zorbage.misc.ThreadingUtils;
+import nom.bdezonia.zorbage.storage.Storage;
+import nom.bdezonia.zorbage.tuple.Tuple2;
+import nom.bdezonia.zorbage.type.complex.float64.ComplexFloat64Algebra;
+import nom.bdezonia.zorbage.type.complex.float64.ComplexFloat64Member;
+import nom.bdezonia.zorbage.type.real.float64.Float64Algebra;
+import nom.bdezonia.zorbage.type.real.float64.Float64Member;
+
+/**
+ * The compressed storage shared by {@link CsrMatrix} and {@link CscMatrix}.
+ * The entries of each major line (a row for CSR and a column for CSC) are
+ * stored contiguously, sorted by their minor index.
+ * 
+ * @author Barry DeZonia
+ *
+ * @param <T>
+ * @param <U>
+ */
+final class CompressedData<T extends Algebra<T,U> & Addition<U> & Multiplication<U>, U> {
+
+	// products with fewer nonzeros than this are done on one thread
+	
+	private static final int PARALLEL_NONZEROS = 1 << 14;
+	
+	final T alg;
+	final int majors;
+	final int minors;
+	final int[] starts;
+	final int[] indices;
+	final IndexedDataSource<U> values;
+	
+	CompressedData(T alg, long majors, long minors, int[] starts, int[] indices, IndexedDataSource<U> values) {
+		if (majors < 0 || minors < 0)
+			throw new IllegalArgumentException("sparse matrix dimensions must be >= 0");
+		if (majors > Integer.MAX_VALUE - 1 || minors > Integer.MAX_VALUE)
+			throw new IllegalArgumentException("sparse matrix dimensions are too large");
+		if (starts.length != majors + 1)
+			throw new IllegalArgumentException("sparse matrix has wrong number of line starts");
+		if (starts[0] != 0 || starts[(int) majors] != indices.length || indices.length != values.size())
+			throw new IllegalArgumentException("sparse matrix line starts do not match its number of values");
+		for (int i = 0; i < majors; i++) {
+			if (starts[i] > starts[i+1])
+				throw new IllegalArgumentException("sparse matrix line starts must not decrease");
+			for (int k = starts[i]; k < starts[i+1]; k++) {
+				if (indices[k] < 0 || indices[k] >= minors)
+					throw new IllegalArgumentException("sparse matrix index out of bounds");
+				if (k > starts[i] && indices[k-1] >= indices[k])
+					throw new IllegalArgumentException("sparse matrix indices must be strictly increasing within a line");
+			}
+		}
+		this.alg = alg;
+		this.majors = (int) majors;
+		this.minors = (int) minors;
+		this.starts = starts;
+		this.indices = indices;
+		this.values = values;
+	}
+	
+	long numNonZeros() {
+		return indices.length;
+	}
+	
+	void get(long major, long minor, U value) {
+		if (major < 0 || major >= majors || minor < 0 || minor >= minors)
+			throw new IllegalArgumentException("sparse matrix index out of bounds");
+		int k = Arrays.binarySearch(indices, starts[(int) major], starts[(int) major + 1], (int) minor);
+		if (k >= 0)
+			values.get(k, value);
+		else
+			alg.zero().call(value);
+	}
+	
+	/**
+	 * Returns the same matrix compressed along the other dimension.
+	 */
+	CompressedData<T,U> transposed() {
+		int nnz = indices.length;
+		int[] tStarts = new int[minors + 1];
+		for (int k = 0; k < nnz; k++) {
+			tStarts[indices[k] + 1]++;
+		}
+		for (int i = 0; i < minors; i++) {
+			tStarts[i+1] += tStarts[i];
+		}
+		int[] next = Arrays.copyOf(tStarts, minors);
+		int[] tIndices = new int[nnz];
+		IndexedDataSource<U> tValues = Storage.allocate(alg.construct(), nnz);
+		U value = alg.construct();
+		// walking the majors in order leaves each new line sorted
+		for (int major = 0; major < majors; major++) {
+			for (int k = starts[major]; k < starts[major+1]; k++) {
+				int pos = next[indices[k]]++;
+				tIndices[pos] = major;
+				values.get(k, value);
+				tValues.set(pos, value);
+			}
+		}
+		return new CompressedData<T,U>(alg, minors, majors, tStarts, tIndices, tValues);
+	}
+
+	/**
+	 * Write the matrix into a dense matrix. Rows are majors when rowMajor is true.
+	 */
+	void toDense(boolean rowMajor, MatrixMember<U> m) {
+		U zero = alg.construct();
+		U value = alg.construct();
+		if (rowMajor)
+			m.alloc(majors, minors);
+		else
+			m.alloc(minors, majors);
+		for (long r = 0; r < m.rows(); r++) {
+			for (long c = 0; c < m.cols(); c++) {
+				m.setV(r, c, zero);
+			}
+		}
+		for (int major = 0; major < majors; major++) {
+			for (int k = starts[major]; k < starts[major+1]; k++) {
+				values.get(k, value);
+				if (rowMajor)
+					m.setV(major, indices[k], value);
+				else
+					m.setV(indices[k], major, value);
+			}
+		}
+	}
+	
+	// y[major] = sum over the line of a[major,minor] * x[minor]
+	
+	void gather(RModuleMember<U> x, RModuleMember<U> y) {
+		if (x.length() != minors)
+			throw new IllegalArgumentException("vector length does not match sparse matrix");
+		Vectors<U> v = new Vectors<U>(alg, x, minors, majors);
+		gather(v);
+		v.store(y);
+	}
+	
+	void gather(IndexedDataSource<U> x, IndexedDataSource<U> y) {
+		if (x.size() != minors || y.size() != majors)
+			throw new IllegalArgumentException("data source size does not match sparse matrix");
+		Vectors<U> v = new Vectors<U>(alg, x, minors, majors);
+		gather(v);
+		v.store(y);
+	}
+	
+	// y[minor] = sum over the majors of a[major,minor] * x[major]
+	
+	void scatter(RModuleMember<U> x, RModuleMember<U> y) {
+		if (x.length() != majors)
+			throw new IllegalArgumentException("vector length does not match sparse matrix");
+		Vectors<U> v = new Vectors<U>(alg, x, majors, minors);
+		scatter(v);
+		v.store(y);
+	}
+	
+	void scatter(IndexedDataSource<U> x, IndexedDataSource<U> y) {
+		if (x.size() != majors || y.size() != minors)
+			throw new IllegalArgumentException("data source size does not match sparse matrix");
+		Vectors<U> v = new Vectors<U>(alg, x, majors, minors);
+		scatter(v);
+		v.store(y);
+	}
+	
+	private void gather(Vectors<U> v) {
+		int[] bounds = split();
+		int pieces = bounds.length - 1;
+		if (pieces == 1) {
+			new Computer(v, v.out, true, 0, majors).run();
+		}
+		else {
+			final Thread[] threads = new Thread[pieces];
+			for (int i = 0; i < pieces; i++) {
+				threads[i] = new Thread(new Computer(v, v.out, true, bounds[i], bounds[i+1]));
+			}
+			execute(threads);
+		}
+	}
+	
+	private void scatter(Vectors<U> v) {
+		int[] bounds = split();
+		int pieces = bounds.length - 1;
+		if (pieces == 1) {
+			new Computer(v, v.out, false, 0, majors).run();
+		}
+		else {
+			// every piece accumulates into its own output then they are summed
+			Object[] partials = new Object[pieces];
+			final Thread[] threads = new Thread[pieces];
+			for (int i = 0; i < pieces; i++) {
+				partials[i] = (i == 0) ? v.out : v.newOutput();
+				threads[i] = new Thread(new Computer(v, partials[i], false, bounds[i], bounds[i+1]));
+			}
+			execute(threads);
+			for (int i = 1; i < pieces; i++) {
+				v.accumulate(partials[i]);
+			}
+		}
+	}
+	
+	// split the majors into pieces that each hold about the same number of nonzeros
+	
+	private int[] split() {
+		int nnz = indices.length;
+		int pieces = 1;
+		if (nnz >= PARALLEL_NONZEROS && !values.accessWithOneThread()) {
+			Tuple2<Integer,Long> arrangement = ThreadingUtils.arrange(Math.min(nnz, majors), false);
+			pieces = arrangement.a();
+		}
+		int[] bounds = new int[pieces + 1];
+		bounds[pieces] = majors;
+		for (int i = 1; i < pieces; i++) {
+			int target = (int) ((((long) nnz) * i) / pieces);
+			int lo = bounds[i-1], hi = majors;
+			while (lo < hi) {
+				int mid = (lo + hi) >>> 1;
+				if (starts[mid] < target)
+					lo = mid + 1;
+				else
+					hi = mid;
+			}
+			bounds[i] = lo;
+		}
+		return bounds;
+	}
+	
+	private static void execute(Thread[] threads) {
+		for (int i = 0; i < threads.length; i++) {
+			threads[i].start();
+		}
+		for (int i = 0; i < threads.length; i++) {
+			try {
+				threads[i].join();
+			} catch(InterruptedException e) {
+				throw new IllegalArgumentException("Thread execution error in sparse matrix multiply");
+			}
+		}
+	}
+	
+	private class Computer implements Runnable {
+		
+		private final Vectors<U> v;
+		private final Object out;
+		private final boolean gather;
+		private final int first;
+		private final int last;
+		
+		Computer(Vectors<U> v, Object out, boolean gather, int first, int last) {
+			this.v = v;
+			this.out = out;
+			this.gather = gather;
+			this.first = first;
+			this.last = last;
+		}
+		
+		@Override
+		public void run() {
+			if (v.kind == Vectors.FLOAT64)
+				runFloat64((double[]) v.in, (double[]) out);
+			else if (v.kind == Vectors.COMPLEX_FLOAT64)
+				runComplexFloat64((double[]) v.in, (double[]) out);
+			else
+				runGeneral(v.source(), v.source(out));
+		}
+		
+		private void runFloat64(double[] in, double[] result) {
+			Float64Member a = new Float64Member();
+			for (int major = first; major < last; major++) {
+				if (gather) {
+					double sum = 0;
+					for (int k = starts[major]; k < starts[major+1]; k++) {
+						values.get(k, cast(a));
+						sum += a.v() * in[indices[k]];
+					}
+					result[major] = sum;
+				}
+				else {
+					double xv = in[major];
+					for (int k = starts[major]; k < starts[major+1]; k++) {
+						values.get(k, cast(a));
+						result[indices[k]] += a.v() * xv;
+					}
+				}
+			}
+		}
+		
+		private void runComplexFloat64(double[] in, double[] result) {
+			ComplexFloat64Member a = new ComplexFloat64Member();
+			for (int major = first; major < last; major++) {
+				if (gather) {
+					double sumR = 0, sumI = 0;
+					for (int k = starts[major]; k < starts[major+1]; k++) {
+						values.get(k, cast(a));
+						int i = 2 * indices[k];
+						sumR += a.r() * in[i] - a.i() * in[i+1];
+						sumI += a.r() * in[i+1] + a.i() * in[i];
+					}
+					result[2*major] = sumR;
+					result[2*major+1] = sumI;
+				}
+				else {
+					double xr = in[2*major], xi = in[2*major+1];
+					for (int k = starts[major]; k < starts[major+1]; k++) {
+						values.get(k, cast(a));
+						int i = 2 * indices[k];
+						result[i] += a.r() * xr - a.i() * xi;
+						result[i+1] += a.r() * xi + a.i() * xr;
+					}
+				}
+			}
+		}
+		
+		private void runGeneral(IndexedDataSource<U> in, IndexedDataSource<U> result) {
+			U a = alg.construct();
+			U b = alg.construct();
+			U term = alg.construct();
+			U sum = alg.construct();
+			for (int major = first; major < last; major++) {
+				if (gather) {
+					alg.zero().call(sum);
+					for (int k = starts[major]; k < starts[major+1]; k++) {
+						values.get(k, a);
+						in.get(indices[k], b);
+						alg.multiply().call(a, b, term);
+						alg.add().call(sum, term, sum);
+					}
+					result.set(major, sum);
+				}
+				else {
+					in.get(major, b);
+					for (int k = starts[major]; k < starts[major+1]; k++) {
+						values.get(k, a);
+						alg.multiply().call(a, b, term);
+						result.get(indices[k], sum);
+						alg.add().call(sum, term, sum);
+						result.set(indices[k], sum);
+					}
+				}
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <U> U cast(Object o) {
+		return (U) o;
+	}
+	
+	/**
+	 * The input and output of one product. Float64 and ComplexFloat64 values
+	 * are held in primitive arrays. Other types are held in array storage so
+	 * that they can be safely shared by threads.
+	 */
+	private static class Vectors<U> {
+		
+		static final int GENERAL = 0;
+		static final int FLOAT64 = 1;
+		static final int COMPLEX_FLOAT64 = 2;
+		
+		final Algebra<?,U> alg;
+		final int kind;
+		final int outSize;
+		final Object in;
+		final Object out;
+
+		Vectors(Algebra<?,U> alg, RModuleMember<U> x, int inSize, int outSize) {
+			this.alg = alg;
+			this.kind = kindOf(alg);
+			this.outSize = outSize;
+			U value = alg.construct();
+			if (kind == GENERAL) {
+				IndexedDataSource<U> src = Storage.allocate(value, inSize);
+				for (int i = 0; i < inSize; i++) {
+					x.getV(i, value);
+					src.set(i, value);
+				}
+				this.in = src;
+			}
+			else {
+				double[] src = new double[inSize * (kind == FLOAT64 ? 1 : 2)];
+				for (int i = 0; i < inSize; i++) {
+					x.getV(i, value);
+					toDoubles(value, src, i);
+				}
+				this.in = src;
+			}
+			this.out = newOutput();
+		}
+
+		Vectors(Algebra<?,U> alg, IndexedDataSource<U> x, int inSize, int outSize) {
+			this.alg = alg;
+			this.kind = kindOf(alg);
+			this.outSize = outSize;
+			U value = alg.construct();
+			if (kind == GENERAL) {
+				// copy: the caller's source might not be safe to share
+				IndexedDataSource<U> src = Storage.allocate(value, inSize);
+				for (int i = 0; i < inSize; i++) {
+					x.get(i, value);
+					src.set(i, value);
+				}
+				this.in = src;
+			}
+			else {
+				double[] src = new double[inSize * (kind == FLOAT64 ? 1 : 2)];
+				for (int i = 0; i < inSize; i++) {
+					x.get(i, value);
+					toDoubles(value, src, i);
+				}
+				this.in = src;
+			}
+			this.out = newOutput();
+		}
+		
+		private static int kindOf(Algebra<?,?> alg) {
+			if (alg instanceof Float64Algebra)
+				return FLOAT64;
+			if (alg instanceof ComplexFloat64Algebra)
+				return COMPLEX_FLOAT64;
+			return GENERAL;
+		}
+		
+		Object newOutput() {
+			if (kind == FLOAT64)
+				return new double[outSize];
+			if (kind == COMPLEX_FLOAT64)
+				return new double[2 * outSize];
+			// array storage of a new type starts out zero
+			return Storage.allocate(alg.construct(), outSize);
+		}
+		
+		IndexedDataSource<U> source() {
+			return source(in);
+		}
+		
+		@SuppressWarnings("unchecked")
+		IndexedDataSource<U> source(Object o) {
+			return (IndexedDataSource<U>) o;
+		}
+		
+		void accumulate(Object partial) {
+			if (kind == GENERAL) {
+				@SuppressWarnings("unchecked")
+				Addition<U> adder = (Addition<U>) alg;
+				IndexedDataSource<U> a = source(partial);
+				IndexedDataSource<U> b = source(out);
+				U av = alg.construct();
+				U bv = alg.construct();
+				for (int i = 0; i < outSize; i++) {
+					a.get(i, av);
+					b.get(i, bv);
+					adder.add().call(av, bv, bv);
+					b.set(i, bv);
+				}
+			}
+			else {
+				double[] a = (double[]) partial;
+				double[] b = (double[]) out;
+				for (int i = 0; i < a.length; i++) {
+					b[i] += a[i];
+				}
+			}
+		}
+		
+		void store(RModuleMember<U> y) {
+			U value = alg.construct();
+			y.alloc(outSize);
+			for (int i = 0; i < outSize; i++) {
+				outValue(i, value);
+				y.setV(i, value);
+			}
+		}
+		
+		void store(IndexedDataSource<U> y) {
+			U value = alg.construct();
+			for (int i = 0; i < outSize; i++) {
+				outValue(i, value);
+				y.set(i, value);
+			}
+		}
+		
+		private void outValue(int i, U value) {
+			if (kind == FLOAT64) {
+				((Float64Member) value).setV(((double[]) out)[i]);
+			}
+			else if (kind == COMPLEX_FLOAT64) {
+				double[] o = (double[]) out;
+				((ComplexFloat64Member) value).setR(o[2*i]);
+				((ComplexFloat64Member) value).setI(o[2*i+1]);
+			}
+			else {
+				source(out).get(i, value);
+			}
+		}
+		
+		private void toDoubles(U value, double[] dest, int i) {
+			if (kind == FLOAT64) {
+				dest[i] = ((Float64Member) value).v();
+			}
+			else {
+				dest[2*i] = ((ComplexFloat64Member) value).r();
+				dest[2*i+1] = ((ComplexFloat64Member) value).i();
+			}
+		}
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.type.sparse;
+
+import nom.bdezonia.zorbage.algebra.Addition;
+import nom.bdezonia.zorbage.algebra.Algebra;
+import nom.bdezonia.zorbage.algebra.MatrixMember;
+import nom.bdezonia.zorbage.algebra.Multiplication;
+import nom.bdezonia.zorbage.algebra.RModuleMember;
+import nom.bdezonia.zorbage.datasource.IndexedDataSource;
+
+/**
+ * A CscMatrix stores a sparse matrix in compressed sparse column form. It is
+ * the better choice for products transpose(A) x, which are computed in
+ * parallel by columns.
+ * 
+ * @author Barry DeZonia
+ *
+ * @param <T> The algebra of the matrix elements
+ * @param <U> The type of the matrix elements
+ */
+public class CscMatrix<T extends Algebra<T,U> & Addition<U> & Multiplication<U>, U>
+	implements SparseMatrix<U>
+{
+	private final CompressedData<T,U> data;
+	
+	/**
+	 * Construct a matrix from existing compressed arrays. The entries of
+	 * col i are stored at positions colStarts[i] to colStarts[i+1]-1 with
+	 * strictly increasing row indices. The arrays are used directly and
+	 * not copied.
+	 * 
+	 * @param alg
+	 * @param rows
+	 * @param cols
+	 * @param colStarts
+	 * @param rowIndices
+	 * @param values
+	 */
+	public CscMatrix(T alg, long rows, long cols, int[] colStarts, int[] rowIndices, IndexedDataSource<U> values) {
+		this(new CompressedData<T,U>(alg, cols, rows, colStarts, rowIndices, values));
+	}
+	
+	CscMatrix(CompressedData<T,U> data) {
+		this.data = data;
+	}
+
+	CompressedData<T,U> data() {
+		return data;
+	}
+	
+	@Override
+	public long rows() {
+		return data.minors;
+	}
+	
+	@Override
+	public long cols() {
+		return data.majors;
+	}
+	
+	@Override
+	public long numNonZeros() {
+		return data.numNonZeros();
+	}
+	
+	@Override
+	public void getV(long r, long c, U value) {
+		data.get(c, r, value);
+	}
+	
+	@Override
+	public void multiply(RModuleMember<U> x, RModuleMember<U> y) {
+		data.scatter(x, y);
+	}
+	
+	@Override
+	public void multiply(IndexedDataSource<U> x, IndexedDataSource<U> y) {
+		data.scatter(x, y);
+	}
+	
+	@Override
+	public void multiplyTranspose(RModuleMember<U> x, RModuleMember<U> y) {
+		data.gather(x, y);
+	}
+	
+	@Override
+	public void multiplyTranspose(IndexedDataSource<U> x, IndexedDataSource<U> y) {
+		data.gather(x, y);
+	}
+	
+	@Override
+	public void toDense(MatrixMember<U> m) {
+		data.toDense(false, m);
+	}
+	
+	/**
+	 * Returns the transpose of this matrix. It shares this matrix's storage.
+	 */
+	public CsrMatrix<T,U> transpose() {
+		return new CsrMatrix<T,U>(data);
+	}
+	
+	/**
+	 * Returns a copy of this matrix stored CscMatrix3.
+	 */
+	public CsrMatrix<T,U> toCsrMatrix() {
+		return new CsrMatrix<T,U>(data.transposed());
+	}
+	
+	/**
+	 * The position of the first stored entry of a col.
+	 * 
+	 * @param col
+	 * @return
+	 */
+	public long colStart(long col) {
+		return data.starts[(int) col];
+	}
+	
+	/**
+	 * The row of a stored entry.
+	 * 
+	 * @param k
+	 * @return
+	 */
+	public long rowIndex(long k) {
+		return data.indices[(int) k];
+	}
+	
+	/**
+	 * The value of a stored entry.
+	 * 
+	 * @param k
+	 * @param value
+	 */
+	public void value(long k, U value) {
+		data.values.get(k, value);
+	}
+}
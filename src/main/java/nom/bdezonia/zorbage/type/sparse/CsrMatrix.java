@@ -0,0 +1,167 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.type.sparse;
+
+import nom.bdezonia.zorbage.algebra.Addition;
+import nom.bdezonia.zorbage.algebra.Algebra;
+import nom.bdezonia.zorbage.algebra.MatrixMember;
+import nom.bdezonia.zorbage.algebra.Multiplication;
+import nom.bdezonia.zorbage.algebra.RModuleMember;
+import nom.bdezonia.zorbage.datasource.IndexedDataSource;
+
+/**
+ * A CsrMatrix stores a sparse matrix in compressed sparse row form. It is
+ * the better choice for products A x, which are computed in parallel by rows.
+ * 
+ * @author Barry DeZonia
+ *
+ * @param <T> The algebra of the matrix elements
+ * @param <U> The type of the matrix elements
+ */
+public class CsrMatrix<T extends Algebra<T,U> & Addition<U> & Multiplication<U>, U>
+	implements SparseMatrix<U>
+{
+	private final CompressedData<T,U> data;
+	
+	/**
+	 * Construct a matrix from existing compressed arrays. The entries of
+	 * row i are stored at positions rowStarts[i] to rowStarts[i+1]-1 with
+	 * strictly increasing col indices. The arrays are used directly and
+	 * not copied.
+	 * 
+	 * @param alg
+	 * @param rows
+	 * @param cols
+	 * @param rowStarts
+	 * @param colIndices
+	 * @param values
+	 */
+	public CsrMatrix(T alg, long rows, long cols, int[] rowStarts, int[] colIndices, IndexedDataSource<U> values) {
+		this(new CompressedData<T,U>(alg, rows, cols, rowStarts, colIndices, values));
+	}
+	
+	CsrMatrix(CompressedData<T,U> data) {
+		this.data = data;
+	}
+
+	CompressedData<T,U> data() {
+		return data;
+	}
+	
+	@Override
+	public long rows() {
+		return data.majors;
+	}
+	
+	@Override
+	public long cols() {
+		return data.minors;
+	}
+	
+	@Override
+	public long numNonZeros() {
+		return data.numNonZeros();
+	}
+	
+	@Override
+	public void getV(long r, long c, U value) {
+		data.get(r, c, value);
+	}
+	
+	@Override
+	public void multiply(RModuleMember<U> x, RModuleMember<U> y) {
+		data.gather(x, y);
+	}
+	
+	@Override
+	public void multiply(IndexedDataSource<U> x, IndexedDataSource<U> y) {
+		data.gather(x, y);
+	}
+	
+	@Override
+	public void multiplyTranspose(RModuleMember<U> x, RModuleMember<U> y) {
+		data.scatter(x, y);
+	}
+	
+	@Override
+	public void multiplyTranspose(IndexedDataSource<U> x, IndexedDataSource<U> y) {
+		data.scatter(x, y);
+	}
+	
+	@Override
+	public void toDense(MatrixMember<U> m) {
+		data.toDense(true, m);
+	}
+	
+	/**
+	 * Returns the transpose of this matrix. It shares this matrix's storage.
+	 */
+	public CscMatrix<T,U> transpose() {
+		return new CscMatrix<T,U>(data);
+	}
+	
+	/**
+	 * Returns a copy of this matrix stored CsrMatrix3.
+	 */
+	public CscMatrix<T,U> toCscMatrix() {
+		return new CscMatrix<T,U>(data.transposed());
+	}
+	
+	/**
+	 * The position of the first stored entry of a row.
+	 * 
+	 * @param row
+	 * @return
+	 */
+	public long rowStart(long row) {
+		return data.starts[(int) row];
+	}
+	
+	/**
+	 * The col of a stored entry.
+	 * 
+	 * @param k
+	 * @return
+	 */
+	public long colIndex(long k) {
+		return data.indices[(int) k];
+	}
+	
+	/**
+	 * The value of a stored entry.
+	 * 
+	 * @param k
+	 * @param value
+	 */
+	public void value(long k, U value) {
+		data.values.get(k, value);
+	}
+}
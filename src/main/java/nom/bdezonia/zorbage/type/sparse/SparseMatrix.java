@@ -0,0 +1,94 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.type.sparse;
+
+import nom.bdezonia.zorbage.algebra.MatrixMember;
+import nom.bdezonia.zorbage.algebra.RModuleMember;
+import nom.bdezonia.zorbage.datasource.IndexedDataSource;
+
+/**
+ * A matrix that only stores its nonzero entries. Sparse matrices are meant
+ * for large systems that have few nonzeros per row. They are not members
+ * of a matrix algebra but they multiply the vector types of the existing
+ * algebras.
+ * 
+ * @author Barry DeZonia
+ *
+ * @param <U> The type of the matrix elements
+ */
+public interface SparseMatrix<U> {
+
+	/**
+	 * The number of rows in the matrix.
+	 */
+	long rows();
+
+	/**
+	 * The number of columns in the matrix.
+	 */
+	long cols();
+	
+	/**
+	 * The number of entries actually stored in the matrix.
+	 */
+	long numNonZeros();
+	
+	/**
+	 * Get the value at a row and column. Entries that are not stored are zero.
+	 */
+	void getV(long r, long c, U value);
+	
+	/**
+	 * Calculate y = A x. y is resized as needed.
+	 */
+	void multiply(RModuleMember<U> x, RModuleMember<U> y);
+	
+	/**
+	 * Calculate y = A x where x and y are lists of rows() and cols() elements.
+	 */
+	void multiply(IndexedDataSource<U> x, IndexedDataSource<U> y);
+
+	/**
+	 * Calculate y = transpose(A) x. y is resized as needed.
+	 */
+	void multiplyTranspose(RModuleMember<U> x, RModuleMember<U> y);
+	
+	/**
+	 * Calculate y = transpose(A) x where x and y are lists of cols() and rows()
+	 * elements.
+	 */
+	void multiplyTranspose(IndexedDataSource<U> x, IndexedDataSource<U> y);
+	
+	/**
+	 * Write all the entries of this matrix into a dense matrix.
+	 */
+	void toDense(MatrixMember<U> m);
+}
@@ -0,0 +1,202 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.type.sparse;
+
+import java.util.Arrays;
+
+import nom.bdezonia.zorbage.algebra.Addition;
+import nom.bdezonia.zorbage.algebra.Algebra;
+import nom.bdezonia.zorbage.algebra.Multiplication;
+import nom.bdezonia.zorbage.datasource.IndexedDataSource;
+import nom.bdezonia.zorbage.storage.Storage;
+
+/**
+ * A SparseMatrixBuilder collects (row, column, value) entries in any order
+ * and then builds a {@link CsrMatrix} or {@link CscMatrix} from them. Values
+ * added more than once at the same position are summed as is usual when
+ * assembling finite element systems.
+ * 
+ * @author Barry DeZonia
+ *
+ * @param <T> The algebra of the matrix elements
+ * @param <U> The type of the matrix elements
+ */
+public class SparseMatrixBuilder<T extends Algebra<T,U> & Addition<U> & Multiplication<U>, U> {
+
+	private final T alg;
+	private final long rows;
+	private final long cols;
+	private int count;
+	private int[] rowIndices;
+	private int[] colIndices;
+	private IndexedDataSource<U> values;
+	
+	/**
+	 * 
+	 * @param alg
+	 * @param rows
+	 * @param cols
+	 */
+	public SparseMatrixBuilder(T alg, long rows, long cols) {
+		if (rows < 0 || cols < 0)
+			throw new IllegalArgumentException("sparse matrix dimensions must be >= 0");
+		if (rows >= Integer.MAX_VALUE || cols >= Integer.MAX_VALUE)
+			throw new IllegalArgumentException("sparse matrix dimensions are too large");
+		this.alg = alg;
+		this.rows = rows;
+		this.cols = cols;
+		this.count = 0;
+		this.rowIndices = new int[16];
+		this.colIndices = new int[16];
+		this.values = Storage.allocate(alg.construct(), 16);
+	}
+	
+	/**
+	 * The number of entries added so far.
+	 */
+	public long size() {
+		return count;
+	}
+	
+	/**
+	 * Add an entry to the matrix.
+	 * 
+	 * @param r
+	 * @param c
+	 * @param value
+	 */
+	public void add(long r, long c, U value) {
+		if (r < 0 || r >= rows || c < 0 || c >= cols)
+			throw new IllegalArgumentException("sparse matrix index out of bounds");
+		if (count == rowIndices.length)
+			grow();
+		rowIndices[count] = (int) r;
+		colIndices[count] = (int) c;
+		values.set(count, value);
+		count++;
+	}
+	
+	/**
+	 * Build a compressed sparse row matrix from the entries.
+	 */
+	public CsrMatrix<T,U> buildCsr() {
+		return new CsrMatrix<T,U>(compress(rowIndices, colIndices, (int) rows, (int) cols));
+	}
+	
+	/**
+	 * Build a compressed sparse column matrix from the entries.
+	 */
+	public CscMatrix<T,U> buildCsc() {
+		return new CscMatrix<T,U>(compress(colIndices, rowIndices, (int) cols, (int) rows));
+	}
+	
+	private void grow() {
+		if (count == Integer.MAX_VALUE - 8)
+			throw new IllegalArgumentException("too many sparse matrix entries");
+		int newSize = (int) Math.min(Integer.MAX_VALUE - 8, 2L * count);
+		rowIndices = Arrays.copyOf(rowIndices, newSize);
+		colIndices = Arrays.copyOf(colIndices, newSize);
+		IndexedDataSource<U> newValues = Storage.allocate(alg.construct(), newSize);
+		U value = alg.construct();
+		for (int i = 0; i < count; i++) {
+			values.get(i, value);
+			newValues.set(i, value);
+		}
+		values = newValues;
+	}
+	
+	private CompressedData<T,U> compress(int[] major, int[] minor, int majors, int minors) {
+		
+		// bucket the entries by major index
+		
+		int[] starts = new int[majors + 1];
+		for (int i = 0; i < count; i++) {
+			starts[major[i] + 1]++;
+		}
+		for (int i = 0; i < majors; i++) {
+			starts[i+1] += starts[i];
+		}
+		int[] next = Arrays.copyOf(starts, majors);
+		int[] order = new int[count];
+		for (int i = 0; i < count; i++) {
+			order[next[major[i]]++] = i;
+		}
+
+		// sort each line by minor index, keeping entry order among duplicates
+		
+		long[] keys = new long[count];
+		for (int line = 0; line < majors; line++) {
+			for (int k = starts[line]; k < starts[line+1]; k++) {
+				keys[k] = (((long) minor[order[k]]) << 32) | order[k];
+			}
+			Arrays.sort(keys, starts[line], starts[line+1]);
+		}
+		
+		// merge duplicates
+		
+		int[] newStarts = new int[majors + 1];
+		int unique = 0;
+		for (int line = 0; line < majors; line++) {
+			newStarts[line] = unique;
+			for (int k = starts[line]; k < starts[line+1]; k++) {
+				if (k == starts[line] || (keys[k] >>> 32) != (keys[k-1] >>> 32))
+					unique++;
+			}
+		}
+		newStarts[majors] = unique;
+		
+		int[] indices = new int[unique];
+		IndexedDataSource<U> vals = Storage.allocate(alg.construct(), unique);
+		U sum = alg.construct();
+		U value = alg.construct();
+		int pos = -1;
+		for (int line = 0; line < majors; line++) {
+			for (int k = starts[line]; k < starts[line+1]; k++) {
+				int entry = (int) (keys[k] & 0xffffffffL);
+				values.get(entry, value);
+				if (k == starts[line] || (keys[k] >>> 32) != (keys[k-1] >>> 32)) {
+					if (pos >= 0)
+						vals.set(pos, sum);
+					pos++;
+					indices[pos] = (int) (keys[k] >>> 32);
+					alg.assign().call(value, sum);
+				}
+				else {
+					alg.add().call(sum, value, sum);
+				}
+			}
+		}
+		if (pos >= 0)
+			vals.set(pos, sum);
+		
+		return new CompressedData<T,U>(alg, majors, minors, newStarts, indices, vals);
+	}
+}
@@ -0,0 +1,262 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.algorithm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import nom.bdezonia.zorbage.algebra.Algebra;
+import nom.bdezonia.zorbage.algebra.G;
+import nom.bdezonia.zorbage.datasource.IndexedDataSource;
+import nom.bdezonia.zorbage.procedure.BatchProcedure2;
+import nom.bdezonia.zorbage.procedure.BatchProcedure3;
+import nom.bdezonia.zorbage.procedure.Procedure2;
+import nom.bdezonia.zorbage.procedure.Procedure3;
+import nom.bdezonia.zorbage.procedure.impl.Add;
+import nom.bdezonia.zorbage.procedure.impl.Sin;
+import nom.bdezonia.zorbage.procedure.impl.Sqrt;
+import nom.bdezonia.zorbage.storage.array.ArrayStorage;
+import nom.bdezonia.zorbage.type.complex.float32.ComplexFloat32Member;
+import nom.bdezonia.zorbage.type.complex.float64.ComplexFloat64Member;
+import nom.bdezonia.zorbage.type.real.float32.Float32Member;
+import nom.bdezonia.zorbage.type.real.float64.Float64Member;
+
+/**
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class TestBatchArrays {
+
+	// more than two blocks and a partial block
+	private static final int SIZE = 2 * BatchArrays.BLOCK_SIZE + 77;
+	
+	@Test
+	public void float64BatchesMatchElementCalls() {
+		Random rng = new Random(1);
+		IndexedDataSource<Float64Member> a = ArrayStorage.allocate(G.DBL.construct(), SIZE);
+		IndexedDataSource<Float64Member> b = ArrayStorage.allocate(G.DBL.construct(), SIZE);
+		Float64Member value = G.DBL.construct();
+		for (int i = 0; i < SIZE; i++) {
+			value.setV(i == 5 ? Double.NaN : (rng.nextDouble() - 0.5) * 6);
+			a.set(i, value);
+			value.setV(i == 9 ? 0 : (rng.nextDouble() - 0.5) * 6);
+			b.set(i, value);
+		}
+		assertTrue(G.DBL.exp() instanceof BatchProcedure2);
+		assertTrue(G.DBL.atan2() instanceof BatchProcedure3);
+		check(G.DBL, G.DBL.exp(), a);
+		check(G.DBL, G.DBL.log(), a);
+		check(G.DBL, G.DBL.sin(), a);
+		check(G.DBL, G.DBL.acosh(), a);
+		check(G.DBL, G.DBL.atanh(), a);
+		check(G.DBL, G.DBL.coth(), a);
+		check(G.DBL, G.DBL.invert(), a);
+		check(G.DBL, G.DBL.pred(), a);
+		check(G.DBL, G.DBL.divide(), a, b);
+		check(G.DBL, G.DBL.atan2(), a, b);
+		check(G.DBL, G.DBL.mod(), a, b);
+		check(G.DBL, G.DBL.copySign(), a, b);
+		check(G.DBL, new Sqrt<>(G.DBL), a);
+		check(G.DBL, new Add<>(G.DBL), a, b);
+	}
+	
+	@Test
+	public void float32BatchesMatchElementCalls() {
+		Random rng = new Random(2);
+		IndexedDataSource<Float32Member> a = ArrayStorage.allocate(G.FLT.construct(), SIZE);
+		IndexedDataSource<Float32Member> b = ArrayStorage.allocate(G.FLT.construct(), SIZE);
+		Float32Member value = G.FLT.construct();
+		for (int i = 0; i < SIZE; i++) {
+			value.setV((float) ((rng.nextDouble() - 0.5) * 6));
+			a.set(i, value);
+			value.setV((float) ((rng.nextDouble() - 0.5) * 6));
+			b.set(i, value);
+		}
+		check(G.FLT, G.FLT.exp(), a);
+		check(G.FLT, G.FLT.tanh(), a);
+		check(G.FLT, G.FLT.asinh(), a);
+		check(G.FLT, G.FLT.cbrt(), a);
+		check(G.FLT, G.FLT.multiply(), a, b);
+		check(G.FLT, G.FLT.IEEEremainder(), a, b);
+		check(G.FLT, new Sin<>(G.FLT), a);
+	}
+	
+	@Test
+	public void complexBatchesMatchElementCalls() {
+		Random rng = new Random(3);
+		IndexedDataSource<ComplexFloat64Member> a = ArrayStorage.allocate(G.CDBL.construct(), SIZE);
+		IndexedDataSource<ComplexFloat64Member> b = ArrayStorage.allocate(G.CDBL.construct(), SIZE);
+		IndexedDataSource<ComplexFloat32Member> af = ArrayStorage.allocate(G.CFLT.construct(), SIZE);
+		IndexedDataSource<ComplexFloat32Member> bf = ArrayStorage.allocate(G.CFLT.construct(), SIZE);
+		ComplexFloat64Member value = G.CDBL.construct();
+		ComplexFloat32Member valuef = G.CFLT.construct();
+		for (int i = 0; i < SIZE; i++) {
+			double r = (rng.nextDouble() - 0.5) * 6;
+			double im = (i % 7 == 0) ? 0 : (rng.nextDouble() - 0.5) * 6;
+			value.setR(r);
+			value.setI(im);
+			a.set(i, value);
+			valuef.setR((float) r);
+			valuef.setI((float) im);
+			af.set(i, valuef);
+			r = (i % 11 == 0) ? 0 : (rng.nextDouble() - 0.5) * 6;
+			im = (i % 11 == 0) ? 0 : (rng.nextDouble() - 0.5) * 6;
+			value.setR(r);
+			value.setI(im);
+			b.set(i, value);
+			valuef.setR((float) r);
+			valuef.setI((float) im);
+			bf.set(i, valuef);
+		}
+		check(G.CDBL, G.CDBL.exp(), a);
+		check(G.CDBL, G.CDBL.log(), a);
+		check(G.CDBL, G.CDBL.conjugate(), a);
+		check(G.CDBL, G.CDBL.multiply(), a, b);
+		check(G.CDBL, G.CDBL.divide(), a, b);
+		check(G.CDBL, G.CDBL.subtract(), a, b);
+		// not batch capable in the algebra: the wrapper decodes each element
+		check(G.CDBL, new Sin<>(G.CDBL), a);
+		check(G.CFLT, G.CFLT.exp(), af);
+		check(G.CFLT, G.CFLT.log(), af);
+		check(G.CFLT, G.CFLT.multiply(), af, bf);
+		check(G.CFLT, G.CFLT.divide(), af, bf);
+		check(G.CFLT, new Sin<>(G.CFLT), af);
+	}
+	
+	@Test
+	public void inPlaceBatches() {
+		IndexedDataSource<Float64Member> a = ArrayStorage.allocate(G.DBL.construct(), SIZE);
+		Float64Member value = G.DBL.construct();
+		for (int i = 0; i < SIZE; i++) {
+			value.setV(i);
+			a.set(i, value);
+		}
+		Transform2.compute(G.DBL, G.DBL.sqrt(), a, a);
+		Transform3.compute(G.DBL, G.DBL.multiply(), a, a, a);
+		for (int i = 0; i < SIZE; i++) {
+			a.get(i, value);
+			double expected = Math.sqrt(i) * Math.sqrt(i);
+			assertEquals(expected, value.v(), 0);
+		}
+	}
+	
+	@Test
+	public void arrayStorageUsesBatchCalls() {
+		IndexedDataSource<Float64Member> a = ArrayStorage.allocate(G.DBL.construct(), SIZE);
+		IndexedDataSource<Float64Member> b = ArrayStorage.allocate(G.DBL.construct(), SIZE);
+		Fill.compute(G.DBL, new Float64Member(3), a);
+		BatchProcedure2<Float64Member,Float64Member> proc =
+				new BatchProcedure2<Float64Member, Float64Member>()
+		{
+			@Override
+			public void call(Float64Member a, Float64Member b) {
+				throw new IllegalArgumentException("element call made");
+			}
+			
+			@Override
+			public void batchCall(int count, Object a, int aOffset, Object b, int bOffset) {
+				assertTrue(count <= BatchArrays.BLOCK_SIZE);
+				double[] x = (double[]) a;
+				double[] y = (double[]) b;
+				for (int i = 0; i < count; i++) {
+					y[bOffset+i] = x[aOffset+i] + bOffset + i;
+				}
+			}
+		};
+		Transform2.compute(G.DBL, proc, a, b);
+		Float64Member value = G.DBL.construct();
+		for (int i = 0; i < SIZE; i++) {
+			b.get(i, value);
+			assertEquals(3 + i, value.v(), 0);
+		}
+	}
+	
+	private static <T extends Algebra<T,U>, U>
+		void check(T alg, Procedure2<U,U> proc, IndexedDataSource<U> a)
+	{
+		IndexedDataSource<U> b = ArrayStorage.allocate(alg.construct(), a.size());
+		Transform2.compute(alg, proc, a, b);
+		U in = alg.construct();
+		U expected = alg.construct();
+		U actual = alg.construct();
+		for (long i = 0; i < a.size(); i++) {
+			a.get(i, in);
+			proc.call(in, expected);
+			b.get(i, actual);
+			assertSame(expected, actual);
+		}
+	}
+	
+	private static <T extends Algebra<T,U>, U>
+		void check(T alg, Procedure3<U,U,U> proc, IndexedDataSource<U> a, IndexedDataSource<U> b)
+	{
+		IndexedDataSource<U> c = ArrayStorage.allocate(alg.construct(), a.size());
+		Transform3.compute(alg, proc, a, b, c);
+		U in1 = alg.construct();
+		U in2 = alg.construct();
+		U expected = alg.construct();
+		U actual = alg.construct();
+		for (long i = 0; i < a.size(); i++) {
+			a.get(i, in1);
+			b.get(i, in2);
+			proc.call(in1, in2, expected);
+			c.get(i, actual);
+			assertSame(expected, actual);
+		}
+	}
+	
+	// compares bit patterns so NaNs and signed zeros must match too
+	private static void assertSame(Object expected, Object actual) {
+		if (expected instanceof Float64Member) {
+			assertEquals(0, Double.compare(((Float64Member) expected).v(), ((Float64Member) actual).v()));
+		}
+		else if (expected instanceof Float32Member) {
+			assertEquals(0, Float.compare(((Float32Member) expected).v(), ((Float32Member) actual).v()));
+		}
+		else if (expected instanceof ComplexFloat64Member) {
+			ComplexFloat64Member e = (ComplexFloat64Member) expected;
+			ComplexFloat64Member o = (ComplexFloat64Member) actual;
+			assertEquals(0, Double.compare(e.r(), o.r()));
+			assertEquals(0, Double.compare(e.i(), o.i()));
+		}
+		else {
+			ComplexFloat32Member e = (ComplexFloat32Member) expected;
+			ComplexFloat32Member o = (ComplexFloat32Member) actual;
+			assertEquals(0, Float.compare(e.r(), o.r()));
+			assertEquals(0, Float.compare(e.i(), o.i()));
+		}
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.algorithm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import nom.bdezonia.zorbage.algebra.G;
+import nom.bdezonia.zorbage.type.complex.float64.ComplexFloat64Algebra;
+import nom.bdezonia.zorbage.type.complex.float64.ComplexFloat64Member;
+import nom.bdezonia.zorbage.type.complex.float64.ComplexFloat64VectorMember;
+import nom.bdezonia.zorbage.type.real.float64.Float64Algebra;
+import nom.bdezonia.zorbage.type.real.float64.Float64Member;
+import nom.bdezonia.zorbage.type.real.float64.Float64VectorMember;
+import nom.bdezonia.zorbage.type.sparse.CscMatrix;
+import nom.bdezonia.zorbage.type.sparse.CsrMatrix;
+import nom.bdezonia.zorbage.type.sparse.SparseMatrixBuilder;
+
+/**
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class TestBiCGStab {
+
+	@Test
+	public void testConvectionDiffusion() {
+		
+		// a nonsymmetric but diagonally dominant system
+		
+		int n = 500;
+		SparseMatrixBuilder<Float64Algebra,Float64Member> builder =
+				new SparseMatrixBuilder<>(G.DBL, n, n);
+		for (int i = 0; i < n; i++) {
+			builder.add(i, i, new Float64Member(4));
+			if (i > 0)
+				builder.add(i, i-1, new Float64Member(-1));
+			if (i < n-1)
+				builder.add(i, i+1, new Float64Member(-2));
+			if (i < n-7)
+				builder.add(i, i+7, new Float64Member(0.5));
+		}
+		CsrMatrix<Float64Algebra,Float64Member> a = builder.buildCsr();
+		CscMatrix<Float64Algebra,Float64Member> aCsc = builder.buildCsc();
+		
+		Float64VectorMember expected = G.DBL_VEC.construct();
+		expected.alloc(n);
+		for (int i = 0; i < n; i++) {
+			expected.setV(i, new Float64Member((i % 13) - 6));
+		}
+		Float64VectorMember b = G.DBL_VEC.construct();
+		a.multiply(expected, b);
+		
+		Float64VectorMember x = G.DBL_VEC.construct();
+		long iters = BiCGStab.compute(G.DBL, G.DBL, a, b, x, new Float64Member(1e-12), 500);
+		assertTrue(iters > 0);
+		
+		Float64VectorMember x2 = G.DBL_VEC.construct();
+		assertEquals(iters, BiCGStab.compute(G.DBL, G.DBL, aCsc, b, x2, new Float64Member(1e-12), 500));
+		
+		Float64Member e = G.DBL.construct();
+		Float64Member v = G.DBL.construct();
+		for (int i = 0; i < n; i++) {
+			expected.getV(i, e);
+			x.getV(i, v);
+			assertEquals(e.v(), v.v(), 1e-9);
+			x2.getV(i, v);
+			assertEquals(e.v(), v.v(), 1e-9);
+		}
+	}
+	
+	@Test
+	public void testComplex() {
+		
+		SparseMatrixBuilder<ComplexFloat64Algebra,ComplexFloat64Member> builder =
+				new SparseMatrixBuilder<>(G.CDBL, 3, 3);
+		builder.add(0, 0, new ComplexFloat64Member(3, 1));
+		builder.add(0, 2, new ComplexFloat64Member(1, 0));
+		builder.add(1, 0, new ComplexFloat64Member(0, 2));
+		builder.add(1, 1, new ComplexFloat64Member(5, -1));
+		builder.add(2, 1, new ComplexFloat64Member(-1, 1));
+		builder.add(2, 2, new ComplexFloat64Member(4, 0));
+		CsrMatrix<ComplexFloat64Algebra,ComplexFloat64Member> a = builder.buildCsr();
+		
+		ComplexFloat64VectorMember expected = new ComplexFloat64VectorMember(1,-1, 2,3, -4,0.5);
+		ComplexFloat64VectorMember b = G.CDBL_VEC.construct();
+		a.multiply(expected, b);
+
+		ComplexFloat64VectorMember x = G.CDBL_VEC.construct();
+		long iters = BiCGStab.compute(G.CDBL, G.DBL, a, b, x, new Float64Member(1e-14), 100);
+		assertTrue(iters > 0);
+		
+		ComplexFloat64Member e = G.CDBL.construct();
+		ComplexFloat64Member v = G.CDBL.construct();
+		for (int i = 0; i < 3; i++) {
+			expected.getV(i, e);
+			x.getV(i, v);
+			assertEquals(e.r(), v.r(), 1e-12);
+			assertEquals(e.i(), v.i(), 1e-12);
+		}
+	}
+}
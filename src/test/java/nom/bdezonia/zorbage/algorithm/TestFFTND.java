@@ -0,0 +1,141 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.algorithm;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import nom.bdezonia.zorbage.algebra.G;
+import nom.bdezonia.zorbage.data.DimensionedDataSource;
+import nom.bdezonia.zorbage.data.DimensionedStorage;
+import nom.bdezonia.zorbage.datasource.IndexedDataSource;
+import nom.bdezonia.zorbage.datasource.SequencedDataSource;
+import nom.bdezonia.zorbage.storage.Storage;
+import nom.bdezonia.zorbage.type.complex.float64.ComplexFloat64Member;
+
+/**
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class TestFFTND {
+
+	@Test
+	public void testMatchesFFT2D() {
+		
+		DimensionedDataSource<ComplexFloat64Member> data = data(new long[] {64, 64});
+		
+		DimensionedDataSource<ComplexFloat64Member> expected = FFT2D.compute(G.CDBL, G.DBL, data);
+		DimensionedDataSource<ComplexFloat64Member> actual = FFTND.compute(G.CDBL, G.DBL, data);
+		
+		assertListsEqual(expected.rawData(), actual.rawData(), 1e-9);
+		
+		DimensionedDataSource<ComplexFloat64Member> back = InvFFT2D.compute(G.CDBL, G.DBL, actual);
+		
+		assertListsEqual(data.rawData(), back.rawData(), 1e-9);
+	}
+	
+	@Test
+	public void testMatchesFFT3D() {
+		
+		DimensionedDataSource<ComplexFloat64Member> data = data(new long[] {8, 8, 8});
+		
+		DimensionedDataSource<ComplexFloat64Member> expected = FFT3D.compute(G.CDBL, G.DBL, data);
+		DimensionedDataSource<ComplexFloat64Member> actual = FFTND.compute(G.CDBL, G.DBL, data);
+		
+		assertListsEqual(expected.rawData(), actual.rawData(), 1e-9);
+	}
+	
+	@Test
+	public void testRectangularMatchesLineByLine() {
+		
+		long cols = 12;
+		long rows = 7;
+		
+		DimensionedDataSource<ComplexFloat64Member> data = data(new long[] {cols, rows});
+		
+		// transform the rows then the columns one line at a time
+		
+		IndexedDataSource<ComplexFloat64Member> expected = Storage.allocate(G.CDBL.construct(), cols * rows);
+		Copy.compute(G.CDBL, data.rawData(), expected);
+		for (long r = 0; r < rows; r++) {
+			IndexedDataSource<ComplexFloat64Member> row = new SequencedDataSource<>(expected, r*cols, 1, cols);
+			FFT.compute(G.CDBL, G.DBL, row, row);
+		}
+		for (long c = 0; c < cols; c++) {
+			IndexedDataSource<ComplexFloat64Member> col = new SequencedDataSource<>(expected, c, cols, rows);
+			FFT.compute(G.CDBL, G.DBL, col, col);
+		}
+		
+		DimensionedDataSource<ComplexFloat64Member> actual = FFTND.compute(G.CDBL, G.DBL, data);
+		
+		assertEquals(2, actual.numDimensions());
+		assertEquals(cols, actual.dimension(0));
+		assertEquals(rows, actual.dimension(1));
+		assertListsEqual(expected, actual.rawData(), 1e-9);
+	}
+	
+	@Test
+	public void testRoundTrip4D() {
+		
+		DimensionedDataSource<ComplexFloat64Member> data = data(new long[] {3, 5, 2, 33});
+		
+		DimensionedDataSource<ComplexFloat64Member> transformed = FFTND.compute(G.CDBL, G.DBL, data);
+		DimensionedDataSource<ComplexFloat64Member> back = InvFFTND.compute(G.CDBL, G.DBL, transformed);
+		
+		assertListsEqual(data.rawData(), back.rawData(), 1e-9);
+	}
+	
+	private DimensionedDataSource<ComplexFloat64Member> data(long[] dims) {
+		DimensionedDataSource<ComplexFloat64Member> data =
+				DimensionedStorage.allocate(G.CDBL.construct(), dims);
+		ComplexFloat64Member value = G.CDBL.construct();
+		for (long i = 0; i < data.rawData().size(); i++) {
+			value.setR(Math.sin(0.3 * i) + (i % 5));
+			value.setI(Math.cos(0.17 * i) - (i % 3));
+			data.rawData().set(i, value);
+		}
+		return data;
+	}
+	
+	private void assertListsEqual(IndexedDataSource<ComplexFloat64Member> a, IndexedDataSource<ComplexFloat64Member> b, double tol) {
+		ComplexFloat64Member x = G.CDBL.construct();
+		ComplexFloat64Member y = G.CDBL.construct();
+		assertEquals(a.size(), b.size());
+		for (long i = 0; i < a.size(); i++) {
+			a.get(i, x);
+			b.get(i, y);
+			assertEquals(x.r(), y.r(), tol);
+			assertEquals(x.i(), y.i(), tol);
+		}
+	}
+}
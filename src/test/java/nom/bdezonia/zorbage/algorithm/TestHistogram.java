@@ -0,0 +1,144 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.algorithm;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import nom.bdezonia.zorbage.algebra.G;
+import nom.bdezonia.zorbage.datasource.IndexedDataSource;
+import nom.bdezonia.zorbage.storage.Storage;
+import nom.bdezonia.zorbage.type.integer.int16.UnsignedInt16Member;
+import nom.bdezonia.zorbage.type.integer.int64.SignedInt64Member;
+import nom.bdezonia.zorbage.type.integer.int8.UnsignedInt8Member;
+import nom.bdezonia.zorbage.type.real.float64.Float64Member;
+
+/**
+ *
+ * @author Barry DeZonia
+ *
+ */
+public class TestHistogram {
+
+	@Test
+	public void testUniformFloats() {
+
+		IndexedDataSource<Float64Member> data =
+				Storage.allocate(G.DBL.construct(), new double[] {-1, 0, 0.5, 1, 2.5, 3, 3.99, 4, 7});
+
+		IndexedDataSource<SignedInt64Member> hist =
+				Histogram.compute(G.DBL, new Float64Member(0), new Float64Member(4), 4, data);
+
+		assertEquals(4, hist.size());
+		assertCounts(hist, 2, 1, 1, 3);
+	}
+
+	@Test
+	public void testExplicitEdges() {
+
+		IndexedDataSource<Float64Member> data =
+				Storage.allocate(G.DBL.construct(), new double[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10});
+
+		IndexedDataSource<Float64Member> edges =
+				Storage.allocate(G.DBL.construct(), new double[] {2, 3, 7, 9});
+
+		IndexedDataSource<SignedInt64Member> hist = Histogram.compute(G.DBL, edges, data);
+
+		assertEquals(3, hist.size());
+		assertCounts(hist, 1, 4, 3);
+	}
+
+	@Test
+	public void testUnsignedInt8FastPath() {
+
+		IndexedDataSource<UnsignedInt8Member> data =
+				Storage.allocate(G.UINT8.construct(), 100000);
+
+		UnsignedInt8Member value = G.UINT8.construct();
+		long[] expected = new long[4];
+		for (long i = 0; i < data.size(); i++) {
+			int v = (int) ((i * 7919) % 256);
+			value.setV(v);
+			data.set(i, value);
+			if (v <= 200)
+				expected[Math.min(v / 50, 3)]++;
+		}
+
+		IndexedDataSource<SignedInt64Member> hist =
+				Histogram.compute(G.UINT8, new UnsignedInt8Member(0), new UnsignedInt8Member(200), 4, data);
+
+		assertCounts(hist, expected);
+	}
+
+	@Test
+	public void testUnsignedInt16FastPath() {
+
+		IndexedDataSource<UnsignedInt16Member> data =
+				Storage.allocate(G.UINT16.construct(), 5000);
+
+		UnsignedInt16Member value = G.UINT16.construct();
+		for (long i = 0; i < data.size(); i++) {
+			value.setV((int) ((i * 104729) % 65536));
+			data.set(i, value);
+		}
+
+		int[] edgeValues = new int[] {100, 1000, 30000, 60000};
+		IndexedDataSource<UnsignedInt16Member> edges =
+				Storage.allocate(G.UINT16.construct(), edgeValues.length);
+		for (int i = 0; i < edgeValues.length; i++) {
+			value.setV(edgeValues[i]);
+			edges.set(i, value);
+		}
+
+		IndexedDataSource<SignedInt64Member> hist = Histogram.compute(G.UINT16, edges, data);
+
+		long[] expected = new long[3];
+		for (long i = 0; i < data.size(); i++) {
+			data.get(i, value);
+			int v = value.v();
+			if (v >= 100 && v < 1000) expected[0]++;
+			else if (v >= 1000 && v < 30000) expected[1]++;
+			else if (v >= 30000 && v <= 60000) expected[2]++;
+		}
+
+		assertCounts(hist, expected);
+	}
+
+	private void assertCounts(IndexedDataSource<SignedInt64Member> hist, long... expected) {
+		SignedInt64Member count = G.INT64.construct();
+		assertEquals(expected.length, hist.size());
+		for (int i = 0; i < expected.length; i++) {
+			hist.get(i, count);
+			assertEquals(expected[i], count.v());
+		}
+	}
+}
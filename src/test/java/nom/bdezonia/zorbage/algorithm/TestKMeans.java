@@ -30,6 +30,7 @@
  */
 package nom.bdezonia.zorbage.algorithm;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test; import nom.bdezonia.zorbage.algebra.G;
@@ -37,6 +38,7 @@ import nom.bdezonia.zorbage.type.geom.point.Point;
 import nom.bdezonia.zorbage.type.geom.point.PointAlgebra;
 import nom.bdezonia.zorbage.type.integer.int32.SignedInt32Member;
 import nom.bdezonia.zorbage.datasource.IndexedDataSource;
+import nom.bdezonia.zorbage.function.Function2;
 import nom.bdezonia.zorbage.storage.array.ArrayStorage;
 
 /**
@@ -72,4 +74,83 @@ public class TestKMeans {
 		
 		assertTrue(true);
 	}
+
+	@Test
+	public void separatedClusters() {
+		
+		checkBlobs(false);
+		checkBlobs(true);
+	}
+	
+	@Test
+	public void changeRateStopsEarly() {
+		
+		IndexedDataSource<Point> points = ArrayStorage.allocate(new Point(2), 2000);
+		IndexedDataSource<SignedInt32Member> clusterIndices = ArrayStorage.allocate(G.INT32.construct(), 2000);
+		
+		Point point = new Point(2);
+		for (int i = 0; i < points.size(); i++) {
+			point.setComponent(0, (i * 7919) % 1000 / 10.0);
+			point.setComponent(1, (i * 104729) % 997 / 10.0);
+			points.set(i, point);
+		}
+		
+		KMeans.compute(8, 0.05, points, clusterIndices);
+		
+		SignedInt32Member num = G.INT32.construct();
+		for (int i = 0; i < clusterIndices.size(); i++) {
+			clusterIndices.get(i, num);
+			assertTrue(num.v() >= 0 && num.v() < 8);
+		}
+	}
+	
+	// three well separated groups of points must land in three clusters
+	
+	private void checkBlobs(boolean customDistance) {
+		
+		double[][] centers = new double[][] {{0, 0, 0}, {100, 5, -40}, {-60, 80, 20}};
+		int perBlob = 500;
+		
+		IndexedDataSource<Point> points = ArrayStorage.allocate(new Point(3), perBlob * 3);
+		IndexedDataSource<SignedInt32Member> clusterIndices = ArrayStorage.allocate(G.INT32.construct(), perBlob * 3);
+		
+		Point point = new Point(3);
+		for (int b = 0; b < 3; b++) {
+			for (int i = 0; i < perBlob; i++) {
+				for (int d = 0; d < 3; d++) {
+					point.setComponent(d, centers[b][d] + ((i * (d + 3) * 2654435761L) % 1000) / 1000.0 - 0.5);
+				}
+				points.set(b * perBlob + i, point);
+			}
+		}
+		
+		if (customDistance) {
+			Function2<Double,Point,Point> manhattan = new Function2<Double,Point,Point>() {
+				@Override
+				public Double call(Point a, Point b) {
+					double sum = 0;
+					for (int d = 0; d < a.numDimensions(); d++) {
+						sum += Math.abs(a.component(d) - b.component(d));
+					}
+					return sum;
+				}
+			};
+			KMeans.compute(3, manhattan, points, clusterIndices);
+		}
+		else {
+			KMeans.compute(3, points, clusterIndices);
+		}
+		
+		SignedInt32Member num = G.INT32.construct();
+		int[] labels = new int[3];
+		for (int b = 0; b < 3; b++) {
+			clusterIndices.get(b * perBlob, num);
+			labels[b] = num.v();
+			for (int i = 0; i < perBlob; i++) {
+				clusterIndices.get(b * perBlob + i, num);
+				assertEquals(labels[b], num.v());
+			}
+		}
+		assertTrue(labels[0] != labels[1] && labels[0] != labels[2] && labels[1] != labels[2]);
+	}
 }
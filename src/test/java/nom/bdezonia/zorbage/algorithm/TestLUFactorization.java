@@ -0,0 +1,220 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.algorithm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import nom.bdezonia.zorbage.algebra.G;
+import nom.bdezonia.zorbage.type.complex.float64.ComplexFloat64MatrixMember;
+import nom.bdezonia.zorbage.type.complex.float64.ComplexFloat64Member;
+import nom.bdezonia.zorbage.type.real.float64.Float64Algebra;
+import nom.bdezonia.zorbage.type.real.float64.Float64MatrixMember;
+import nom.bdezonia.zorbage.type.real.float64.Float64Member;
+import nom.bdezonia.zorbage.type.real.float64.Float64VectorMember;
+
+/**
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class TestLUFactorization {
+
+	@Test
+	public void testPivoting() {
+		
+		Float64MatrixMember a = new Float64MatrixMember(3, 3, new double[] {0,2,1, 1,1,1, 2,1,3});
+		
+		LUFactorization<Float64Algebra,Float64Member> lu =
+				LUFactorization.compute(G.DBL, G.DBL, a);
+
+		assertFalse(lu.isSingular());
+		assertEquals(2, lu.pivot(0));
+		
+		Float64Member det = G.DBL.construct();
+		lu.determinant(det);
+		assertEquals(-3, det.v(), 1e-14);
+		
+		// P A = L U
+		
+		Float64MatrixMember l = G.DBL_MAT.construct();
+		Float64MatrixMember u = G.DBL_MAT.construct();
+		Float64MatrixMember prod = G.DBL_MAT.construct();
+		lu.lower(l);
+		lu.upper(u);
+		G.DBL_MAT.multiply().call(l, u, prod);
+		Float64Member expected = G.DBL.construct();
+		Float64Member actual = G.DBL.construct();
+		for (long r = 0; r < 3; r++) {
+			for (long c = 0; c < 3; c++) {
+				a.getV(lu.pivot(r), c, expected);
+				prod.getV(r, c, actual);
+				assertEquals(expected.v(), actual.v(), 1e-14);
+			}
+		}
+		
+		// the old unpivoted decomposition divided by the zero in the corner
+		
+		LUFactorization.compute(G.DBL, a).determinant(det);
+		assertEquals(-3, det.v(), 1e-14);
+	}
+	
+	@Test
+	public void testSingular() {
+		
+		Float64MatrixMember a = new Float64MatrixMember(2, 2, new double[] {1,2,2,4});
+		
+		LUFactorization<Float64Algebra,Float64Member> lu =
+				LUFactorization.compute(G.DBL, G.DBL, a);
+
+		assertTrue(lu.isSingular());
+
+		Float64Member det = G.DBL.construct();
+		lu.determinant(det);
+		assertEquals(0, det.v(), 0);
+	}
+	
+	@Test
+	public void testMultipleRightHandSides() {
+		
+		// large enough to span several blocks of columns
+		
+		int n = 150;
+		int m = 7;
+		Random rng = new Random(1234);
+		Float64MatrixMember a = new Float64MatrixMember(n, n, randoms(rng, n * n));
+		Float64MatrixMember b = new Float64MatrixMember(n, m, randoms(rng, n * m));
+		Float64MatrixMember x = G.DBL_MAT.construct();
+		
+		LUFactorization<Float64Algebra,Float64Member> lu =
+				LUFactorization.compute(G.DBL, G.DBL, a);
+		
+		lu.solve(b, x);
+
+		assertEquals(n, x.rows());
+		assertEquals(m, x.cols());
+		
+		Float64MatrixMember ax = G.DBL_MAT.construct();
+		G.DBL_MAT.multiply().call(a, x, ax);
+		Float64Member expected = G.DBL.construct();
+		Float64Member actual = G.DBL.construct();
+		for (long r = 0; r < n; r++) {
+			for (long c = 0; c < m; c++) {
+				b.getV(r, c, expected);
+				ax.getV(r, c, actual);
+				assertEquals(expected.v(), actual.v(), 1e-9);
+			}
+		}
+		
+		// one column at a time gives the same answers
+		
+		Float64VectorMember bCol = G.DBL_VEC.construct();
+		Float64VectorMember xCol = G.DBL_VEC.construct();
+		bCol.alloc(n);
+		for (long r = 0; r < n; r++) {
+			b.getV(r, 3, expected);
+			bCol.setV(r, expected);
+		}
+		lu.solve(bCol, xCol);
+		for (long r = 0; r < n; r++) {
+			x.getV(r, 3, expected);
+			xCol.getV(r, actual);
+			assertEquals(expected.v(), actual.v(), 0);
+		}
+	}
+	
+	@Test
+	public void testInvertRoundTrip() {
+		
+		int n = 100;
+		Random rng = new Random(99);
+		Float64MatrixMember a = new Float64MatrixMember(n, n, randoms(rng, n * n));
+		a.setV(0, 0, new Float64Member(0));
+		Float64MatrixMember inv = G.DBL_MAT.construct();
+		Float64MatrixMember prod = G.DBL_MAT.construct();
+
+		G.DBL_MAT.invert().call(a, inv);
+		G.DBL_MAT.multiply().call(a, inv, prod);
+		
+		Float64Member value = G.DBL.construct();
+		for (long r = 0; r < n; r++) {
+			for (long c = 0; c < n; c++) {
+				prod.getV(r, c, value);
+				assertEquals(r == c ? 1 : 0, value.v(), 1e-9);
+			}
+		}
+	}
+	
+	@Test
+	public void testComplex() {
+		
+		ComplexFloat64MatrixMember a = G.CDBL_MAT.construct();
+		a.alloc(2, 2);
+		a.setV(0, 0, new ComplexFloat64Member(0, 0));
+		a.setV(0, 1, new ComplexFloat64Member(1, 1));
+		a.setV(1, 0, new ComplexFloat64Member(2, -1));
+		a.setV(1, 1, new ComplexFloat64Member(3, 0));
+
+		ComplexFloat64Member det = G.CDBL.construct();
+		G.CDBL_MAT.det().call(a, det);
+		
+		// 0*3 - (1+i)(2-i) = -(3+i)
+		
+		assertEquals(-3, det.r(), 1e-14);
+		assertEquals(-1, det.i(), 1e-14);
+		
+		ComplexFloat64MatrixMember inv = G.CDBL_MAT.construct();
+		ComplexFloat64MatrixMember prod = G.CDBL_MAT.construct();
+		G.CDBL_MAT.invert().call(a, inv);
+		G.CDBL_MAT.multiply().call(inv, a, prod);
+		ComplexFloat64Member value = G.CDBL.construct();
+		for (long r = 0; r < 2; r++) {
+			for (long c = 0; c < 2; c++) {
+				prod.getV(r, c, value);
+				assertEquals(r == c ? 1 : 0, value.r(), 1e-14);
+				assertEquals(0, value.i(), 1e-14);
+			}
+		}
+	}
+	
+	private double[] randoms(Random rng, int count) {
+		double[] values = new double[count];
+		for (int i = 0; i < count; i++) {
+			values[i] = rng.nextDouble() * 2 - 1;
+		}
+		return values;
+	}
+}
@@ -33,6 +33,12 @@ package nom.bdezonia.zorbage.algorithm;
 import static org.junit.Assert.assertEquals;
 
 import org.junit.Test; import nom.bdezonia.zorbage.algebra.G;
+import nom.bdezonia.zorbage.type.complex.float32.ComplexFloat32MatrixMember;
+import nom.bdezonia.zorbage.type.complex.float32.ComplexFloat32Member;
+import nom.bdezonia.zorbage.type.complex.float64.ComplexFloat64MatrixMember;
+import nom.bdezonia.zorbage.type.complex.float64.ComplexFloat64Member;
+import nom.bdezonia.zorbage.type.real.float32.Float32MatrixMember;
+import nom.bdezonia.zorbage.type.real.float32.Float32Member;
 import nom.bdezonia.zorbage.type.real.float64.Float64MatrixMember;
 import nom.bdezonia.zorbage.type.real.float64.Float64Member;
 
@@ -57,4 +63,112 @@ public class TestMatrixMultiply {
 		c.getV(1, 0, value);
 		assertEquals(40, value.v(), 0);
 	}
+
+	@Test
+	public void testFloat64Tiles() {
+		int rows = 130, common = 300, cols = 70;
+		Float64MatrixMember a = new Float64MatrixMember(rows, common);
+		Float64MatrixMember b = new Float64MatrixMember(common, cols);
+		Fill.compute(G.DBL, G.DBL.random(), a.rawData());
+		Fill.compute(G.DBL, G.DBL.random(), b.rawData());
+		Float64MatrixMember c = G.DBL_MAT.construct();
+		MatrixMultiply.compute(G.DBL, a, b, c);
+		double[] av = a.getAsDoubleArray();
+		double[] bv = b.getAsDoubleArray();
+		Float64Member value = G.DBL.construct();
+		for (int r = 0; r < rows; r++) {
+			for (int col = 0; col < cols; col++) {
+				double sum = 0;
+				for (int k = 0; k < common; k++) {
+					sum += av[r*common + k] * bv[k*cols + col];
+				}
+				c.getV(r, col, value);
+				assertEquals(sum, value.v(), 0);
+			}
+		}
+	}
+
+	@Test
+	public void testFloat32Tiles() {
+		int rows = 65, common = 257, cols = 129;
+		Float32MatrixMember a = new Float32MatrixMember(rows, common);
+		Float32MatrixMember b = new Float32MatrixMember(common, cols);
+		Fill.compute(G.FLT, G.FLT.random(), a.rawData());
+		Fill.compute(G.FLT, G.FLT.random(), b.rawData());
+		Float32MatrixMember c = G.FLT_MAT.construct();
+		MatrixMultiply.compute(G.FLT, a, b, c);
+		float[] av = a.getAsFloatArray();
+		float[] bv = b.getAsFloatArray();
+		Float32Member value = G.FLT.construct();
+		for (int r = 0; r < rows; r++) {
+			for (int col = 0; col < cols; col++) {
+				float sum = 0;
+				for (int k = 0; k < common; k++) {
+					sum += av[r*common + k] * bv[k*cols + col];
+				}
+				c.getV(r, col, value);
+				assertEquals(sum, value.v(), 0);
+			}
+		}
+	}
+
+	@Test
+	public void testComplexFloat64Tiles() {
+		int rows = 70, common = 90, cols = 66;
+		ComplexFloat64MatrixMember a = new ComplexFloat64MatrixMember(rows, common);
+		ComplexFloat64MatrixMember b = new ComplexFloat64MatrixMember(common, cols);
+		Fill.compute(G.CDBL, G.CDBL.random(), a.rawData());
+		Fill.compute(G.CDBL, G.CDBL.random(), b.rawData());
+		ComplexFloat64MatrixMember c = G.CDBL_MAT.construct();
+		MatrixMultiply.compute(G.CDBL, a, b, c);
+		ComplexFloat64Member av = G.CDBL.construct();
+		ComplexFloat64Member bv = G.CDBL.construct();
+		ComplexFloat64Member term = G.CDBL.construct();
+		ComplexFloat64Member sum = G.CDBL.construct();
+		ComplexFloat64Member value = G.CDBL.construct();
+		for (int r = 0; r < rows; r++) {
+			for (int col = 0; col < cols; col++) {
+				G.CDBL.zero().call(sum);
+				for (int k = 0; k < common; k++) {
+					a.getV(r, k, av);
+					b.getV(k, col, bv);
+					G.CDBL.multiply().call(av, bv, term);
+					G.CDBL.add().call(sum, term, sum);
+				}
+				c.getV(r, col, value);
+				assertEquals(sum.r(), value.r(), 1e-12);
+				assertEquals(sum.i(), value.i(), 1e-12);
+			}
+		}
+	}
+
+	@Test
+	public void testGenericTiles() {
+		int rows = 67, common = 260, cols = 3;
+		ComplexFloat32MatrixMember a = new ComplexFloat32MatrixMember(rows, common);
+		ComplexFloat32MatrixMember b = new ComplexFloat32MatrixMember(common, cols);
+		Fill.compute(G.CFLT, G.CFLT.random(), a.rawData());
+		Fill.compute(G.CFLT, G.CFLT.random(), b.rawData());
+		ComplexFloat32MatrixMember c = G.CFLT_MAT.construct();
+		MatrixMultiply.compute(G.CFLT, a, b, c);
+		ComplexFloat32Member av = G.CFLT.construct();
+		ComplexFloat32Member bv = G.CFLT.construct();
+		ComplexFloat32Member term = G.CFLT.construct();
+		ComplexFloat32Member sum = G.CFLT.construct();
+		ComplexFloat32Member value = G.CFLT.construct();
+		for (int r = 0; r < rows; r++) {
+			for (int col = 0; col < cols; col++) {
+				G.CFLT.zero().call(sum);
+				for (int k = 0; k < common; k++) {
+					a.getV(r, k, av);
+					b.getV(k, col, bv);
+					G.CFLT.multiply().call(av, bv, term);
+					G.CFLT.add().call(sum, term, sum);
+				}
+				c.getV(r, col, value);
+				assertEquals(sum.r(), value.r(), 0);
+				assertEquals(sum.i(), value.i(), 0);
+			}
+		}
+	}
 }
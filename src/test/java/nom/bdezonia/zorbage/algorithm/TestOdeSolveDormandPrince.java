@@ -0,0 +1,130 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.algorithm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+/**
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class TestOdeSolveDormandPrince {
+
+	private static final OdeSolveDormandPrince.Derivative DECAY =
+			new OdeSolveDormandPrince.Derivative() {
+				@Override
+				public void call(double t, double[] y, double[] dydt) {
+					dydt[0] = -y[0];
+				}
+			};
+	
+	private static final OdeSolveDormandPrince.Derivative OSCILLATOR =
+			new OdeSolveDormandPrince.Derivative() {
+				@Override
+				public void call(double t, double[] y, double[] dydt) {
+					dydt[0] = y[1];
+					dydt[1] = -y[0];
+				}
+			};
+	
+	@Test
+	public void testDecay() {
+		
+		OdeSolveDormandPrince.Solution solution =
+				OdeSolveDormandPrince.compute(DECAY, 0, new double[] {2}, 5, 1e-10, 1e-12);
+		
+		double[] y = new double[1];
+		int last = solution.numPoints() - 1;
+		assertEquals(5, solution.time(last), 0);
+		solution.state(last, y);
+		assertEquals(2 * Math.exp(-5), y[0], 1e-9);
+		
+		// adaptive steps should be far fewer than a fixed step method would need
+		
+		assertTrue(solution.numPoints() < 200);
+	}
+	
+	@Test
+	public void testDenseOutput() {
+		
+		OdeSolveDormandPrince.Solution solution =
+				OdeSolveDormandPrince.compute(OSCILLATOR, 0, new double[] {0, 1}, 10, 1e-9, 1e-9);
+		
+		double[] y = new double[2];
+		for (int i = 0; i <= 1000; i++) {
+			double t = i * 0.01;
+			solution.interpolate(t, y);
+			assertEquals(Math.sin(t), y[0], 1e-6);
+			assertEquals(Math.cos(t), y[1], 1e-6);
+		}
+	}
+	
+	@Test
+	public void testBackward() {
+		
+		OdeSolveDormandPrince.Solution solution =
+				OdeSolveDormandPrince.compute(DECAY, 1, new double[] {1}, -2, 1e-10, 1e-12);
+		
+		double[] y = new double[1];
+		solution.state(solution.numPoints() - 1, y);
+		assertEquals(Math.exp(3), y[0], 1e-7);
+		solution.interpolate(0, y);
+		assertEquals(Math.exp(1), y[0], 1e-7);
+	}
+	
+	@Test
+	public void testBatch() {
+		
+		int systems = 50;
+		double[][] y0s = new double[systems][];
+		for (int s = 0; s < systems; s++) {
+			y0s[s] = new double[] {Math.sin(s), Math.cos(s * 0.3)};
+		}
+		double[] times = new double[] {0, 0.5, 2, 7.25};
+		double[][][] results = new double[systems][times.length][2];
+		
+		OdeSolveDormandPrince.compute(OSCILLATOR, 0, y0s, times, 1e-10, 1e-10, results);
+		
+		for (int s = 0; s < systems; s++) {
+			double a = y0s[s][0];
+			double b = y0s[s][1];
+			for (int i = 0; i < times.length; i++) {
+				double t = times[i];
+				assertEquals(a * Math.cos(t) + b * Math.sin(t), results[s][i][0], 1e-7);
+				assertEquals(-a * Math.sin(t) + b * Math.cos(t), results[s][i][1], 1e-7);
+			}
+		}
+	}
+}
@@ -0,0 +1,298 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.algorithm;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test; import nom.bdezonia.zorbage.algebra.G;
+
+import nom.bdezonia.zorbage.algebra.Addition;
+import nom.bdezonia.zorbage.algebra.Algebra;
+import nom.bdezonia.zorbage.algebra.Multiplication;
+import nom.bdezonia.zorbage.algebra.Ordered;
+import nom.bdezonia.zorbage.algorithm.Round.Mode;
+import nom.bdezonia.zorbage.datasource.IndexedDataSource;
+import nom.bdezonia.zorbage.datasource.TrimmedDataSource;
+import nom.bdezonia.zorbage.procedure.Procedure2;
+import nom.bdezonia.zorbage.procedure.Procedure3;
+import nom.bdezonia.zorbage.storage.array.ArrayStorage;
+import nom.bdezonia.zorbage.type.integer.int16.SignedInt16Member;
+import nom.bdezonia.zorbage.type.integer.int32.SignedInt32Member;
+import nom.bdezonia.zorbage.type.integer.int8.SignedInt8Member;
+import nom.bdezonia.zorbage.type.real.float32.Float32Algebra;
+import nom.bdezonia.zorbage.type.real.float32.Float32Member;
+import nom.bdezonia.zorbage.type.real.float64.Float64Algebra;
+import nom.bdezonia.zorbage.type.real.float64.Float64Member;
+import nom.bdezonia.zorbage.type.universal.PrimitiveConversion;
+
+/**
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class TestPrimitiveArrays {
+
+	private static final int SIZE = 257;
+	
+	@Test
+	public void float64MatchesGenericCode() {
+		Random rng = new Random(1);
+		double[] specials = new double[] {0.0, -0.0, 1, -1, 0.5, -2.5, 1e300, -1e-300,
+				Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.MIN_VALUE};
+		IndexedDataSource<Float64Member> a = ArrayStorage.allocate(G.DBL.construct(), SIZE);
+		IndexedDataSource<Float64Member> b = ArrayStorage.allocate(G.DBL.construct(), SIZE);
+		Float64Member value = G.DBL.construct();
+		for (int i = 0; i < SIZE; i++) {
+			value.setV(i < specials.length ? specials[i] : (rng.nextDouble() - 0.5) * 200);
+			a.set(i, value);
+			value.setV(i < specials.length ? specials[specials.length - 1 - i] : (rng.nextDouble() - 0.5) * 200);
+			b.set(i, value);
+		}
+		checkAll(G.DBL, a, b, new Float64Member(1.7), new Float64Member(-20), new Float64Member(30));
+		checkTransform2(G.DBL, G.DBL.negate(), a);
+		checkTransform2(G.DBL, G.DBL.abs(), a);
+		checkTransform3(G.DBL, G.DBL.divide(), a, b);
+
+		// Round: G.DBL takes the primitive path and a second instance does not
+		Float64Algebra generic = new Float64Algebra();
+		Float64Member fast = G.DBL.construct();
+		Float64Member slow = G.DBL.construct();
+		for (Mode mode : Mode.values()) {
+			for (double d : new double[] {1, 0.25, 3, 0.1}) {
+				Float64Member delta = new Float64Member(d);
+				for (int i = 0; i < SIZE; i++) {
+					a.get(i, value);
+					String expected = null;
+					String actual = null;
+					try {
+						Round.compute(generic, mode, delta, value, slow);
+						expected = slow.toString();
+					} catch (ArithmeticException e) {
+						expected = "exception";
+					}
+					try {
+						Round.compute(G.DBL, mode, delta, value, fast);
+						actual = fast.toString();
+					} catch (ArithmeticException e) {
+						actual = "exception";
+					}
+					assertEquals(expected, actual);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void float32MatchesGenericCode() {
+		Random rng = new Random(2);
+		IndexedDataSource<Float32Member> a = ArrayStorage.allocate(G.FLT.construct(), SIZE);
+		IndexedDataSource<Float32Member> b = ArrayStorage.allocate(G.FLT.construct(), SIZE);
+		Float32Member value = G.FLT.construct();
+		for (int i = 0; i < SIZE; i++) {
+			value.setV((float) ((rng.nextDouble() - 0.5) * 200));
+			a.set(i, value);
+			value.setV(i == 7 ? Float.NaN : (float) ((rng.nextDouble() - 0.5) * 200));
+			b.set(i, value);
+		}
+		checkAll(G.FLT, a, b, new Float32Member(0.3f), new Float32Member(-20), new Float32Member(30));
+		checkTransform2(G.FLT, G.FLT.negate(), a);
+		checkTransform2(G.FLT, G.FLT.abs(), a);
+		checkTransform3(G.FLT, G.FLT.divide(), a, b);
+
+		Float32Algebra generic = new Float32Algebra();
+		Float32Member fast = G.FLT.construct();
+		Float32Member slow = G.FLT.construct();
+		for (Mode mode : new Mode[] {Mode.NEGATIVE, Mode.POSITIVE, Mode.AWAY_FROM_ORIGIN,
+										Mode.HALF_UP, Mode.HALF_DOWN, Mode.HALF_EVEN, Mode.HALF_ODD})
+		{
+			for (float d : new float[] {1, 0.25f, 0.1f}) {
+				Float32Member delta = new Float32Member(d);
+				for (int i = 0; i < SIZE; i++) {
+					a.get(i, value);
+					Round.compute(generic, mode, delta, value, slow);
+					Round.compute(G.FLT, mode, delta, value, fast);
+					assertEquals(slow.toString(), fast.toString());
+				}
+			}
+		}
+	}
+
+	@Test
+	public void integersMatchGenericCode() {
+		Random rng = new Random(3);
+		IndexedDataSource<SignedInt32Member> a32 = ArrayStorage.allocate(G.INT32.construct(), SIZE);
+		IndexedDataSource<SignedInt32Member> b32 = ArrayStorage.allocate(G.INT32.construct(), SIZE);
+		IndexedDataSource<SignedInt16Member> a16 = ArrayStorage.allocate(G.INT16.construct(), SIZE);
+		IndexedDataSource<SignedInt16Member> b16 = ArrayStorage.allocate(G.INT16.construct(), SIZE);
+		IndexedDataSource<SignedInt8Member> a8 = ArrayStorage.allocate(G.INT8.construct(), SIZE);
+		IndexedDataSource<SignedInt8Member> b8 = ArrayStorage.allocate(G.INT8.construct(), SIZE);
+		SignedInt32Member v32 = G.INT32.construct();
+		SignedInt16Member v16 = G.INT16.construct();
+		SignedInt8Member v8 = G.INT8.construct();
+		for (int i = 0; i < SIZE; i++) {
+			v32.setV(rng.nextInt());
+			a32.set(i, v32);
+			v16.setV(rng.nextInt());
+			a16.set(i, v16);
+			v8.setV(rng.nextInt());
+			a8.set(i, v8);
+			v32.setV(rng.nextInt());
+			b32.set(i, v32);
+			v16.setV(rng.nextInt());
+			b16.set(i, v16);
+			v8.setV(rng.nextInt());
+			b8.set(i, v8);
+		}
+		checkAll(G.INT32, a32, b32, new SignedInt32Member(77777), new SignedInt32Member(-1000000), new SignedInt32Member(1000000));
+		checkAll(G.INT16, a16, b16, new SignedInt16Member(3), new SignedInt16Member(-1000), new SignedInt16Member(1000));
+		checkAll(G.INT8, a8, b8, new SignedInt8Member(5), new SignedInt8Member(-10), new SignedInt8Member(100));
+	}
+
+	@Test
+	public void conversionsMatchGenericCode() {
+		Random rng = new Random(4);
+		IndexedDataSource<Float64Member> d = ArrayStorage.allocate(G.DBL.construct(), SIZE);
+		IndexedDataSource<Float32Member> f = ArrayStorage.allocate(G.FLT.construct(), SIZE);
+		IndexedDataSource<SignedInt32Member> i32 = ArrayStorage.allocate(G.INT32.construct(), SIZE);
+		IndexedDataSource<SignedInt16Member> i16 = ArrayStorage.allocate(G.INT16.construct(), SIZE);
+		IndexedDataSource<SignedInt8Member> i8 = ArrayStorage.allocate(G.INT8.construct(), SIZE);
+		for (int i = 0; i < SIZE; i++) {
+			double v = (i == 3) ? Double.NaN : (rng.nextDouble() - 0.5) * 1e11;
+			d.set(i, new Float64Member(v));
+			f.set(i, new Float32Member((float) (v / 1000)));
+			i32.set(i, new SignedInt32Member(rng.nextInt()));
+			i16.set(i, new SignedInt16Member((short) rng.nextInt()));
+			i8.set(i, new SignedInt8Member((byte) rng.nextInt()));
+		}
+		checkConversions(G.DBL, d);
+		checkConversions(G.FLT, f);
+		checkConversions(G.INT32, i32);
+		checkConversions(G.INT16, i16);
+		checkConversions(G.INT8, i8);
+	}
+
+	// the primitive paths only handle plain array storage: a trimmed view of
+	// the same data always runs the generic code.
+	
+	private static <U> IndexedDataSource<U> view(IndexedDataSource<U> list) {
+		return new TrimmedDataSource<>(list, 0, list.size());
+	}
+	
+	private static <T extends Algebra<T,U>, U>
+		void assertSame(T alg, IndexedDataSource<U> expected, IndexedDataSource<U> actual)
+	{
+		U e = alg.construct();
+		U a = alg.construct();
+		assertEquals(expected.size(), actual.size());
+		for (long i = 0; i < expected.size(); i++) {
+			expected.get(i, e);
+			actual.get(i, a);
+			assertEquals(e.toString(), a.toString());
+		}
+	}
+	
+	private static <T extends Algebra<T,U> & Addition<U> & Multiplication<U> & Ordered<U>, U>
+		void checkAll(T alg, IndexedDataSource<U> a, IndexedDataSource<U> b, U factor, U lo, U hi)
+	{
+		IndexedDataSource<U> fast = ArrayStorage.allocate(alg.construct(), a.size());
+		IndexedDataSource<U> slow = ArrayStorage.allocate(alg.construct(), a.size());
+
+		Fill.compute(alg, factor, fast);
+		Fill.compute(alg, factor, view(slow));
+		assertSame(alg, slow, fast);
+
+		Copy.compute(alg, a, fast);
+		Copy.compute(alg, view(a), view(slow));
+		assertSame(alg, slow, fast);
+
+		Scale.compute(alg, factor, a, fast);
+		Scale.compute(alg, factor, view(a), view(slow));
+		assertSame(alg, slow, fast);
+
+		U sumFast = alg.construct();
+		U sumSlow = alg.construct();
+		Sum.compute(alg, a, sumFast);
+		Sum.compute(alg, view(a), sumSlow);
+		assertEquals(sumSlow.toString(), sumFast.toString());
+
+		ClampToRange.compute(alg, lo, hi, a, fast);
+		ClampToRange.compute(alg, lo, hi, view(a), view(slow));
+		assertSame(alg, slow, fast);
+
+		checkTransform3(alg, alg.add(), a, b);
+		checkTransform3(alg, alg.subtract(), a, b);
+		checkTransform3(alg, alg.multiply(), a, b);
+		checkTransform3(alg, alg.min(), a, b);
+		checkTransform3(alg, alg.max(), a, b);
+	}
+	
+	private static <T extends Algebra<T,U>, U>
+		void checkTransform2(T alg, Procedure2<U,U> proc, IndexedDataSource<U> a)
+	{
+		IndexedDataSource<U> fast = ArrayStorage.allocate(alg.construct(), a.size());
+		IndexedDataSource<U> slow = ArrayStorage.allocate(alg.construct(), a.size());
+		Transform2.compute(alg, proc, a, fast);
+		Transform2.compute(alg, proc, view(a), view(slow));
+		assertSame(alg, slow, fast);
+	}
+	
+	private static <T extends Algebra<T,U>, U>
+		void checkTransform3(T alg, Procedure3<U,U,U> proc, IndexedDataSource<U> a, IndexedDataSource<U> b)
+	{
+		IndexedDataSource<U> fast = ArrayStorage.allocate(alg.construct(), a.size());
+		IndexedDataSource<U> slow = ArrayStorage.allocate(alg.construct(), a.size());
+		Transform3.compute(alg, proc, a, b, fast);
+		Transform3.compute(alg, proc, view(a), view(b), view(slow));
+		assertSame(alg, slow, fast);
+	}
+	
+	private static <T extends Algebra<T,U>, U extends PrimitiveConversion>
+		void checkConversions(T alg, IndexedDataSource<U> src)
+	{
+		checkConversion(alg, src, G.DBL);
+		checkConversion(alg, src, G.FLT);
+		checkConversion(alg, src, G.INT32);
+		checkConversion(alg, src, G.INT16);
+		checkConversion(alg, src, G.INT8);
+	}
+	
+	private static <T extends Algebra<T,U>, U extends PrimitiveConversion, V extends Algebra<V,W>, W extends PrimitiveConversion>
+		void checkConversion(T fromAlg, IndexedDataSource<U> src, V toAlg)
+	{
+		IndexedDataSource<W> fast = ArrayStorage.allocate(toAlg.construct(), src.size());
+		IndexedDataSource<W> slow = ArrayStorage.allocate(toAlg.construct(), src.size());
+		DataConvert.compute(fromAlg, toAlg, src, fast);
+		DataConvert.compute(fromAlg, toAlg, view(src), view(slow));
+		assertSame(toAlg, slow, fast);
+	}
+}
@@ -0,0 +1,214 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.algorithm;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import nom.bdezonia.zorbage.algebra.G;
+import nom.bdezonia.zorbage.datasource.IndexedDataSource;
+import nom.bdezonia.zorbage.storage.Storage;
+import nom.bdezonia.zorbage.type.complex.float32.ComplexFloat32Member;
+import nom.bdezonia.zorbage.type.complex.float64.ComplexFloat64Member;
+import nom.bdezonia.zorbage.type.complex.highprec.ComplexHighPrecisionMember;
+import nom.bdezonia.zorbage.type.real.float32.Float32Member;
+import nom.bdezonia.zorbage.type.real.float64.Float64Member;
+import nom.bdezonia.zorbage.type.real.highprec.HighPrecisionMember;
+
+/**
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class TestRealFFT {
+
+	@Test
+	public void testMatchesComplexFFT() {
+		
+		for (int n : new int[] {1, 2, 3, 7, 8, 12, 30, 64, 100}) {
+			
+			IndexedDataSource<Float64Member> reals = realData(n);
+			IndexedDataSource<ComplexFloat64Member> complexes = Storage.allocate(G.CDBL.construct(), n);
+			Float64Member r = G.DBL.construct();
+			ComplexFloat64Member c = G.CDBL.construct();
+			for (int i = 0; i < n; i++) {
+				reals.get(i, r);
+				c.setR(r.v());
+				complexes.set(i, c);
+			}
+			
+			FFT.compute(G.CDBL, G.DBL, complexes, complexes);
+			
+			IndexedDataSource<ComplexFloat64Member> half = Storage.allocate(G.CDBL.construct(), n/2 + 1);
+			RealFFT.compute(G.CDBL, G.DBL, reals, half);
+			
+			ComplexFloat64Member h = G.CDBL.construct();
+			for (int k = 0; k <= n/2; k++) {
+				complexes.get(k, c);
+				half.get(k, h);
+				assertEquals(c.r(), h.r(), 1e-10);
+				assertEquals(c.i(), h.i(), 1e-10);
+			}
+		}
+	}
+	
+	@Test
+	public void testRoundTrip() {
+		
+		for (int n : new int[] {1, 2, 5, 6, 16, 45, 128}) {
+			
+			IndexedDataSource<Float64Member> reals = realData(n);
+			IndexedDataSource<ComplexFloat64Member> half = Storage.allocate(G.CDBL.construct(), n/2 + 1);
+			IndexedDataSource<Float64Member> back = Storage.allocate(G.DBL.construct(), n);
+			
+			RealFFT.compute(G.CDBL, G.DBL, reals, half);
+			RealInvFFT.compute(G.CDBL, G.DBL, half, back);
+			
+			Float64Member expected = G.DBL.construct();
+			Float64Member actual = G.DBL.construct();
+			for (int i = 0; i < n; i++) {
+				reals.get(i, expected);
+				back.get(i, actual);
+				assertEquals(expected.v(), actual.v(), 1e-10);
+			}
+		}
+	}
+	
+	@Test
+	public void testFloat32() {
+		
+		int n = 10;
+		
+		IndexedDataSource<Float32Member> reals = Storage.allocate(G.FLT.construct(), n);
+		Float32Member r = G.FLT.construct();
+		for (int i = 0; i < n; i++) {
+			r.setV((float) Math.cos(i));
+			reals.set(i, r);
+		}
+		
+		IndexedDataSource<ComplexFloat32Member> half = Storage.allocate(G.CFLT.construct(), n/2 + 1);
+		IndexedDataSource<Float32Member> back = Storage.allocate(G.FLT.construct(), n);
+		
+		RealFFT.compute(G.CFLT, G.FLT, reals, half);
+		RealInvFFT.compute(G.CFLT, G.FLT, half, back);
+		
+		Float32Member actual = G.FLT.construct();
+		for (int i = 0; i < n; i++) {
+			reals.get(i, r);
+			back.get(i, actual);
+			assertEquals(r.v(), actual.v(), 1e-5);
+		}
+	}
+	
+	@Test
+	public void testHighPrecision() {
+		
+		int n = 6;
+		
+		IndexedDataSource<HighPrecisionMember> reals = Storage.allocate(G.HP.construct(), n);
+		for (int i = 0; i < n; i++) {
+			reals.set(i, G.HP.construct(Integer.toString(i * i - 3)));
+		}
+		
+		IndexedDataSource<ComplexHighPrecisionMember> half = Storage.allocate(G.CHP.construct(), n/2 + 1);
+		IndexedDataSource<HighPrecisionMember> back = Storage.allocate(G.HP.construct(), n);
+		
+		RealFFT.compute(G.CHP, G.HP, reals, half);
+		
+		// the zero frequency value is the sum of the data
+		
+		ComplexHighPrecisionMember c = G.CHP.construct();
+		half.get(0, c);
+		assertEquals(37, c.r().doubleValue(), 1e-30);
+		assertEquals(0, c.i().doubleValue(), 1e-30);
+		
+		RealInvFFT.compute(G.CHP, G.HP, half, back);
+		
+		HighPrecisionMember expected = G.HP.construct();
+		HighPrecisionMember actual = G.HP.construct();
+		for (int i = 0; i < n; i++) {
+			reals.get(i, expected);
+			back.get(i, actual);
+			assertEquals(expected.v().doubleValue(), actual.v().doubleValue(), 1e-30);
+		}
+	}
+	
+	@Test
+	public void testPowerSpectrumFromReals() {
+		
+		for (int n : new int[] {6, 8, 9}) {
+			
+			IndexedDataSource<Float64Member> reals = realData(n);
+			IndexedDataSource<ComplexFloat64Member> complexes = Storage.allocate(G.CDBL.construct(), n);
+			Float64Member r = G.DBL.construct();
+			ComplexFloat64Member c = G.CDBL.construct();
+			for (int i = 0; i < n; i++) {
+				reals.get(i, r);
+				c.setR(r.v());
+				complexes.set(i, c);
+			}
+			
+			IndexedDataSource<ComplexFloat64Member> expected = Storage.allocate(G.CDBL.construct(), n);
+			IndexedDataSource<ComplexFloat64Member> actual = Storage.allocate(G.CDBL.construct(), n);
+			
+			PowerSpectrum.compute(G.CDBL, G.DBL, complexes, expected);
+			PowerSpectrum.computeFromReals(G.CDBL, G.DBL, reals, actual);
+			assertListsEqual(expected, actual);
+			
+			MagnitudeSpectrum.compute(G.CDBL, G.DBL, complexes, expected);
+			MagnitudeSpectrum.computeFromReals(G.CDBL, G.DBL, reals, actual);
+			assertListsEqual(expected, actual);
+		}
+	}
+	
+	private IndexedDataSource<Float64Member> realData(int n) {
+		IndexedDataSource<Float64Member> data = Storage.allocate(G.DBL.construct(), n);
+		Float64Member value = G.DBL.construct();
+		for (int i = 0; i < n; i++) {
+			value.setV(Math.sin(0.7 * i) + 0.25 * i - ((i * 31) % 7));
+			data.set(i, value);
+		}
+		return data;
+	}
+	
+	private void assertListsEqual(IndexedDataSource<ComplexFloat64Member> a, IndexedDataSource<ComplexFloat64Member> b) {
+		ComplexFloat64Member x = G.CDBL.construct();
+		ComplexFloat64Member y = G.CDBL.construct();
+		assertEquals(a.size(), b.size());
+		for (long i = 0; i < a.size(); i++) {
+			a.get(i, x);
+			b.get(i, y);
+			assertEquals(x.r(), y.r(), 1e-10);
+			assertEquals(x.i(), y.i(), 1e-10);
+		}
+	}
+}
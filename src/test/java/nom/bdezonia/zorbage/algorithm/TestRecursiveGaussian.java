@@ -0,0 +1,155 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.algorithm;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import nom.bdezonia.zorbage.algebra.G;
+import nom.bdezonia.zorbage.data.DimensionedDataSource;
+import nom.bdezonia.zorbage.data.DimensionedStorage;
+import nom.bdezonia.zorbage.type.complex.float64.ComplexFloat64Member;
+import nom.bdezonia.zorbage.type.real.float64.Float64Member;
+
+/**
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class TestRecursiveGaussian {
+
+	@Test
+	public void testConstantIsPreserved() {
+		
+		DimensionedDataSource<Float64Member> data =
+				DimensionedStorage.allocate(G.DBL.construct(), new long[] {20, 13});
+		Float64Member value = new Float64Member(4.25);
+		for (long i = 0; i < data.numElements(); i++) {
+			data.rawData().set(i, value);
+		}
+		
+		RecursiveGaussian.compute(G.DBL, new double[] {3, 7}, data, data);
+		
+		for (long i = 0; i < data.numElements(); i++) {
+			data.rawData().get(i, value);
+			assertEquals(4.25, value.v(), 1e-12);
+		}
+	}
+	
+	@Test
+	public void testBoundaryMatchesReplicatedSignal() {
+		
+		// the result near the ends should equal that of a much longer line
+		//   whose extra values repeat the end values
+		
+		int n = 40;
+		int pad = 400;
+		double[] c = RecursiveGaussian.coefficients(4.0);
+		double[] x = new double[n + 1];
+		double[] longX = new double[n + 2*pad + 1];
+		for (int i = 0; i < n; i++) {
+			x[i] = Math.sin(i * 0.7) + i * 0.1;
+		}
+		for (int i = 0; i < longX.length - 1; i++) {
+			longX[i] = x[Math.min(n-1, Math.max(0, i - pad))];
+		}
+		x[n] = x[n-1];
+		longX[longX.length-1] = longX[longX.length-2];
+		
+		RecursiveGaussian.filter(c, x, n);
+		RecursiveGaussian.filter(c, longX, longX.length - 1);
+		
+		for (int i = 0; i < n; i++) {
+			assertEquals(longX[i + pad], x[i], 1e-9);
+		}
+	}
+	
+	@Test
+	public void testApproximatesGaussian() {
+		
+		double sigma = 5;
+		int n = 201;
+		DimensionedDataSource<Float64Member> data =
+				DimensionedStorage.allocate(G.DBL.construct(), new long[] {n});
+		data.rawData().set(n/2, new Float64Member(1));
+		
+		RecursiveGaussian.compute(G.DBL, sigma, 0, data, data);
+		
+		// the impulse response should look like a normalized gaussian
+		
+		Float64Member value = G.DBL.construct();
+		double total = 0;
+		for (int i = 0; i < n; i++) {
+			data.rawData().get(i, value);
+			total += value.v();
+			double x = i - n/2;
+			double expected = Math.exp(-x*x / (2*sigma*sigma)) / (sigma * Math.sqrt(2*Math.PI));
+			assertEquals(expected, value.v(), 0.004);
+		}
+		assertEquals(1, total, 1e-6);
+	}
+	
+	@Test
+	public void testGenericMatchesReals() {
+		
+		long[] dims = new long[] {11, 9, 14};
+		DimensionedDataSource<Float64Member> reals = DimensionedStorage.allocate(G.DBL.construct(), dims);
+		DimensionedDataSource<ComplexFloat64Member> complexes = DimensionedStorage.allocate(G.CDBL.construct(), dims);
+		Float64Member r = G.DBL.construct();
+		ComplexFloat64Member c = G.CDBL.construct();
+		for (long i = 0; i < reals.numElements(); i++) {
+			r.setV((i * 37) % 23 - 11);
+			reals.rawData().set(i, r);
+			c.setR(r.v());
+			c.setI(-2 * r.v());
+			complexes.rawData().set(i, c);
+		}
+		
+		double[] sigmas = new double[] {1.5, 0, 6};
+		DimensionedDataSource<Float64Member> realOut = DimensionedStorage.allocate(G.DBL.construct(), dims);
+		RecursiveGaussian.compute(G.DBL, sigmas, reals, realOut);
+		RecursiveGaussian.compute(G.CDBL, sigmas, complexes, complexes);
+		
+		boolean changed = false;
+		for (long i = 0; i < reals.numElements(); i++) {
+			realOut.rawData().get(i, r);
+			complexes.rawData().get(i, c);
+			assertEquals(r.v(), c.r(), 1e-10);
+			assertEquals(-2 * r.v(), c.i(), 1e-10);
+			Float64Member orig = G.DBL.construct();
+			reals.rawData().get(i, orig);
+			changed |= Math.abs(orig.v() - r.v()) > 1e-3;
+		}
+		assertTrue(changed);
+	}
+}
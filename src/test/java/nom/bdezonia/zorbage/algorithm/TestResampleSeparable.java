@@ -0,0 +1,175 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.algorithm;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import nom.bdezonia.zorbage.algebra.G;
+import nom.bdezonia.zorbage.algorithm.resample.SeparableResampler;
+import nom.bdezonia.zorbage.data.DimensionedDataSource;
+import nom.bdezonia.zorbage.data.DimensionedStorage;
+import nom.bdezonia.zorbage.sampling.IntegerIndex;
+import nom.bdezonia.zorbage.type.complex.float64.ComplexFloat64Member;
+import nom.bdezonia.zorbage.type.real.float64.Float64Member;
+
+/**
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class TestResampleSeparable {
+
+	@Test
+	public void testLinearIsExactOnPlanes() {
+		
+		DimensionedDataSource<Float64Member> input = plane(new long[] {11, 7, 4});
+		
+		long[] newDims = new long[] {21, 4, 7};
+		DimensionedDataSource<Float64Member> output =
+				ResampleSeparable.compute(G.DBL, SeparableResampler.LINEAR, newDims, input);
+		
+		Float64Member value = G.DBL.construct();
+		IntegerIndex idx = new IntegerIndex(3);
+		for (long z = 0; z < newDims[2]; z++) {
+			for (long y = 0; y < newDims[1]; y++) {
+				for (long x = 0; x < newDims[0]; x++) {
+					idx.set(0, x);
+					idx.set(1, y);
+					idx.set(2, z);
+					output.get(idx, value);
+					double expected = f(x * 10.0 / 20, y * 6.0 / 3, z * 3.0 / 6);
+					assertEquals(expected, value.v(), 1e-10);
+				}
+			}
+		}
+	}
+	
+	@Test
+	public void testCubicIsExactOnPlanesAwayFromEdges() {
+		
+		DimensionedDataSource<Float64Member> input = plane(new long[] {9, 9, 1});
+		
+		long[] newDims = new long[] {17, 33, 1};
+		DimensionedDataSource<Float64Member> output =
+				ResampleSeparable.compute(G.DBL, SeparableResampler.CUBIC, newDims, input);
+		
+		Float64Member value = G.DBL.construct();
+		IntegerIndex idx = new IntegerIndex(3);
+		for (long y = 4; y < newDims[1]-4; y++) {
+			for (long x = 2; x < newDims[0]-2; x++) {
+				idx.set(0, x);
+				idx.set(1, y);
+				output.get(idx, value);
+				assertEquals(f(x * 8.0 / 16, y * 8.0 / 32, 0), value.v(), 1e-10);
+			}
+		}
+	}
+	
+	@Test
+	public void testNearestNeighbor() {
+		
+		DimensionedDataSource<Float64Member> input = plane(new long[] {10, 5, 2});
+		
+		long[] newDims = new long[] {4, 9, 2};
+		DimensionedDataSource<Float64Member> output =
+				ResampleSeparable.compute(G.DBL, SeparableResampler.NEAREST_NEIGHBOR, newDims, input);
+		
+		Float64Member value = G.DBL.construct();
+		IntegerIndex idx = new IntegerIndex(3);
+		for (long z = 0; z < newDims[2]; z++) {
+			for (long y = 0; y < newDims[1]; y++) {
+				for (long x = 0; x < newDims[0]; x++) {
+					idx.set(0, x);
+					idx.set(1, y);
+					idx.set(2, z);
+					output.get(idx, value);
+					double expected = f(Math.floor(x * 9.0 / 3 + 0.5), Math.floor(y * 4.0 / 8 + 0.5), z);
+					assertEquals(expected, value.v(), 0);
+				}
+			}
+		}
+	}
+	
+	@Test
+	public void testGenericMatchesReals() {
+		
+		long[] dims = new long[] {6, 13, 5};
+		DimensionedDataSource<Float64Member> reals = DimensionedStorage.allocate(G.DBL.construct(), dims);
+		DimensionedDataSource<ComplexFloat64Member> complexes = DimensionedStorage.allocate(G.CDBL.construct(), dims);
+		Float64Member r = G.DBL.construct();
+		ComplexFloat64Member c = G.CDBL.construct();
+		for (long i = 0; i < reals.numElements(); i++) {
+			r.setV((i * 41) % 19 - 9);
+			reals.rawData().set(i, r);
+			c.setR(r.v());
+			c.setI(3 * r.v());
+			complexes.rawData().set(i, c);
+		}
+		
+		long[] newDims = new long[] {11, 4, 5};
+		DimensionedDataSource<Float64Member> realOut =
+				ResampleSeparable.compute(G.DBL, SeparableResampler.CUBIC, newDims, reals);
+		DimensionedDataSource<ComplexFloat64Member> complexOut =
+				ResampleSeparable.compute(G.CDBL, SeparableResampler.CUBIC, newDims, complexes);
+		
+		assertEquals(11*4*5, realOut.numElements());
+		for (long i = 0; i < realOut.numElements(); i++) {
+			realOut.rawData().get(i, r);
+			complexOut.rawData().get(i, c);
+			assertEquals(r.v(), c.r(), 1e-10);
+			assertEquals(3 * r.v(), c.i(), 1e-10);
+		}
+	}
+	
+	private double f(double x, double y, double z) {
+		return 2 * x - 3 * y + 0.5 * z + 1;
+	}
+	
+	private DimensionedDataSource<Float64Member> plane(long[] dims) {
+		DimensionedDataSource<Float64Member> ds = DimensionedStorage.allocate(G.DBL.construct(), dims);
+		Float64Member value = G.DBL.construct();
+		IntegerIndex idx = new IntegerIndex(3);
+		for (long z = 0; z < dims[2]; z++) {
+			for (long y = 0; y < dims[1]; y++) {
+				for (long x = 0; x < dims[0]; x++) {
+					idx.set(0, x);
+					idx.set(1, y);
+					idx.set(2, z);
+					value.setV(f(x, y, z));
+					ds.set(idx, value);
+				}
+			}
+		}
+		return ds;
+	}
+}
@@ -0,0 +1,224 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.algorithm.corrconv;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import nom.bdezonia.zorbage.algebra.G;
+import nom.bdezonia.zorbage.algorithm.Autocorrelation;
+import nom.bdezonia.zorbage.algorithm.Convolve1D;
+import nom.bdezonia.zorbage.datasource.IndexedDataSource;
+import nom.bdezonia.zorbage.datasource.ProcedurePaddedDataSource;
+import nom.bdezonia.zorbage.oob.oned.MirrorOOB;
+import nom.bdezonia.zorbage.storage.Storage;
+import nom.bdezonia.zorbage.type.complex.float64.ComplexFloat64Algebra;
+import nom.bdezonia.zorbage.type.complex.float64.ComplexFloat64Member;
+import nom.bdezonia.zorbage.type.integer.int32.SignedInt32Member;
+import nom.bdezonia.zorbage.type.real.float64.Float64Algebra;
+import nom.bdezonia.zorbage.type.real.float64.Float64Member;
+
+/**
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class TestFFTConv1D {
+
+	@Test
+	public void testCostModel() {
+		assertFalse(FFTConv1D.fftIsFaster(1000000, 3));
+		assertFalse(FFTConv1D.fftIsFaster(100, 51));
+		assertTrue(FFTConv1D.fftIsFaster(1000000, 1001));
+	}
+	
+	@Test
+	public void testRealsMatchDirect() {
+		
+		for (int m : new int[] {1, 5, 33}) {
+		
+			IndexedDataSource<Float64Member> filter = reals(m, 0.9);
+			IndexedDataSource<Float64Member> a = padded(reals(300, 0.21));
+			
+			IndexedDataSource<Float64Member> expected = Storage.allocate(G.DBL.construct(), 300);
+			IndexedDataSource<Float64Member> actual = Storage.allocate(G.DBL.construct(), 300);
+			
+			Conv1D.compute(G.DBL, new ConvolutionIndexer1D(), filter, a, expected);
+			assertTrue(FFTConv1D.compute(G.DBL, false, filter, a, actual));
+			assertRealsEqual(expected, actual);
+			
+			Corr1D.compute(G.DBL, new CorrelationIndexer1D(), filter, a, expected);
+			assertTrue(FFTConv1D.compute(G.DBL, true, filter, a, actual));
+			assertRealsEqual(expected, actual);
+		}
+	}
+	
+	@Test
+	public void testComplexesMatchDirect() {
+		
+		IndexedDataSource<ComplexFloat64Member> filter = complexes(17, 0.4);
+		IndexedDataSource<ComplexFloat64Member> data = complexes(250, 0.13);
+		IndexedDataSource<ComplexFloat64Member> a =
+				new ProcedurePaddedDataSource<ComplexFloat64Algebra, ComplexFloat64Member>(
+						G.CDBL, data, new MirrorOOB<>(data));
+		
+		IndexedDataSource<ComplexFloat64Member> expected = Storage.allocate(G.CDBL.construct(), 250);
+		IndexedDataSource<ComplexFloat64Member> actual = Storage.allocate(G.CDBL.construct(), 250);
+		
+		Conv1D.compute(G.CDBL, new ConvolutionIndexer1D(), filter, a, expected);
+		assertTrue(FFTConv1D.compute(G.CDBL, false, filter, a, actual));
+		assertComplexesEqual(expected, actual, 1e-10);
+		
+		Corr1D.compute(G.CDBL, new CorrelationIndexer1D(), filter, a, expected);
+		assertTrue(FFTConv1D.compute(G.CDBL, true, filter, a, actual));
+		assertComplexesEqual(expected, actual, 1e-10);
+	}
+	
+	@Test
+	public void testIntegersAreNotTransformed() {
+		
+		IndexedDataSource<SignedInt32Member> list = Storage.allocate(G.INT32.construct(), 5);
+		IndexedDataSource<SignedInt32Member> other = Storage.allocate(G.INT32.construct(), 5);
+		
+		assertFalse(FFTConv1D.compute(G.INT32, false, list, list.duplicate(), other));
+	}
+	
+	@Test
+	public void testConvolve1DChoosesFFT() {
+		
+		int n = 20000;
+		int m = 301;
+		
+		assertTrue(FFTConv1D.fftIsFaster(n, m));
+		
+		IndexedDataSource<Float64Member> filter = reals(m, 1.7);
+		IndexedDataSource<Float64Member> a = padded(reals(n, 0.01));
+		
+		IndexedDataSource<Float64Member> result = Storage.allocate(G.DBL.construct(), n);
+		
+		Convolve1D.compute(G.DBL, filter, a, result);
+		
+		// spot check a few points against the direct sum
+		
+		Float64Member f = G.DBL.construct();
+		Float64Member v = G.DBL.construct();
+		for (long x : new long[] {0, 7, 150, 9999, n-1}) {
+			double sum = 0;
+			for (long i = -m/2; i <= m/2; i++) {
+				a.get(x - i, v);
+				filter.get(i + m/2, f);
+				sum += v.v() * f.v();
+			}
+			result.get(x, v);
+			assertEquals(sum, v.v(), 1e-8);
+		}
+	}
+	
+	@Test
+	public void testAutocorrelation() {
+		
+		int n = 600;
+		
+		IndexedDataSource<ComplexFloat64Member> a = complexes(n, 0.37);
+		
+		IndexedDataSource<ComplexFloat64Member> result = Autocorrelation.compute(G.CDBL, a);
+		
+		// the direct sum of the NMR definition
+		
+		ComplexFloat64Member a0 = G.CDBL.construct();
+		ComplexFloat64Member a1 = G.CDBL.construct();
+		ComplexFloat64Member value = G.CDBL.construct();
+		for (long k : new long[] {0, 1, 299, n-1}) {
+			double re = 0;
+			double im = 0;
+			for (long i = 0; i < n; i++) {
+				long j = n-1-i-k;
+				if (j < 0) j += n;
+				a.get(i, a0);
+				a.get(j, a1);
+				re += a0.r() * a1.r() + a0.i() * a1.i();
+				im += a0.i() * a1.r() - a0.r() * a1.i();
+			}
+			result.get(k, value);
+			assertEquals(re / Math.sqrt(n), value.r(), 1e-9);
+			assertEquals(im / Math.sqrt(n), value.i(), 1e-9);
+		}
+	}
+	
+	private IndexedDataSource<Float64Member> reals(int n, double freq) {
+		IndexedDataSource<Float64Member> list = Storage.allocate(G.DBL.construct(), n);
+		Float64Member value = G.DBL.construct();
+		for (int i = 0; i < n; i++) {
+			value.setV(Math.sin(freq * i) + (i % 4) - 1.5);
+			list.set(i, value);
+		}
+		return list;
+	}
+	
+	private IndexedDataSource<ComplexFloat64Member> complexes(int n, double freq) {
+		IndexedDataSource<ComplexFloat64Member> list = Storage.allocate(G.CDBL.construct(), n);
+		ComplexFloat64Member value = G.CDBL.construct();
+		for (int i = 0; i < n; i++) {
+			value.setR(Math.sin(freq * i) + (i % 3));
+			value.setI(Math.cos(2 * freq * i) - (i % 5));
+			list.set(i, value);
+		}
+		return list;
+	}
+	
+	private IndexedDataSource<Float64Member> padded(IndexedDataSource<Float64Member> data) {
+		return new ProcedurePaddedDataSource<Float64Algebra, Float64Member>(G.DBL, data, new MirrorOOB<>(data));
+	}
+	
+	private void assertRealsEqual(IndexedDataSource<Float64Member> a, IndexedDataSource<Float64Member> b) {
+		Float64Member x = G.DBL.construct();
+		Float64Member y = G.DBL.construct();
+		for (long i = 0; i < a.size(); i++) {
+			a.get(i, x);
+			b.get(i, y);
+			assertEquals(x.v(), y.v(), 1e-10);
+		}
+	}
+	
+	private void assertComplexesEqual(IndexedDataSource<ComplexFloat64Member> a, IndexedDataSource<ComplexFloat64Member> b, double tol) {
+		ComplexFloat64Member x = G.CDBL.construct();
+		ComplexFloat64Member y = G.CDBL.construct();
+		for (long i = 0; i < a.size(); i++) {
+			a.get(i, x);
+			b.get(i, y);
+			assertEquals(x.r(), y.r(), tol);
+			assertEquals(x.i(), y.i(), tol);
+		}
+	}
+}
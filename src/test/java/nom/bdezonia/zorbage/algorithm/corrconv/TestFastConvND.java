@@ -0,0 +1,252 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.algorithm.corrconv;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import nom.bdezonia.zorbage.algebra.G;
+import nom.bdezonia.zorbage.data.DimensionedDataSource;
+import nom.bdezonia.zorbage.data.DimensionedStorage;
+import nom.bdezonia.zorbage.data.ProcedurePaddedDimensionedDataSource;
+import nom.bdezonia.zorbage.oob.nd.EdgeNdOOB;
+import nom.bdezonia.zorbage.oob.nd.MirrorNdOOB;
+import nom.bdezonia.zorbage.type.complex.float64.ComplexFloat64Algebra;
+import nom.bdezonia.zorbage.type.complex.float64.ComplexFloat64Member;
+import nom.bdezonia.zorbage.type.real.float32.Float32Algebra;
+import nom.bdezonia.zorbage.type.real.float32.Float32Member;
+import nom.bdezonia.zorbage.type.real.float64.Float64Algebra;
+import nom.bdezonia.zorbage.type.real.float64.Float64Member;
+
+/**
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class TestFastConvND {
+
+	@Test
+	public void testChooseMethod() {
+		
+		long[] image = new long[] {512, 512};
+		assertEquals(FastConvND.DIRECT, FastConvND.chooseMethod(image, new long[] {3,3}, false, false));
+		assertEquals(FastConvND.SEPARABLE, FastConvND.chooseMethod(image, new long[] {3,3}, true, false));
+		assertEquals(FastConvND.DIRECT, FastConvND.chooseMethod(image, new long[] {1,1}, true, false));
+		assertEquals(FastConvND.FFT, FastConvND.chooseMethod(image, new long[] {63,63}, false, false));
+		
+		long[] volume = new long[] {128, 128, 128};
+		assertEquals(FastConvND.FFT, FastConvND.chooseMethod(volume, new long[] {31,31,31}, false, false));
+		assertEquals(FastConvND.SEPARABLE, FastConvND.chooseMethod(volume, new long[] {31,31,31}, true, false));
+	}
+	
+	@Test
+	public void testSeparable() {
+		
+		Random rng = new Random(3);
+		
+		DimensionedDataSource<Float64Member> data = DimensionedStorage.allocate(G.DBL.construct(), new long[] {40, 30});
+		fill(data, rng);
+		DimensionedDataSource<Float64Member> padded =
+				new ProcedurePaddedDimensionedDataSource<>(G.DBL, data, new EdgeNdOOB<Float64Member>(data));
+		
+		double[] fx = new double[] {1, -2, 0.5, 3, 0.25};
+		double[] fy = new double[] {-1, 4, 2};
+		DimensionedDataSource<Float64Member> filter = DimensionedStorage.allocate(G.DBL.construct(), new long[] {5, 3});
+		Float64Member value = G.DBL.construct();
+		for (long i = 0; i < filter.numElements(); i++) {
+			value.setV(fx[(int) (i % 5)] * fy[(int) (i / 5)]);
+			filter.rawData().set(i, value);
+		}
+
+		for (boolean correlate : new boolean[] {false, true}) {
+			DimensionedDataSource<Float64Member> fast = DimensionedStorage.allocate(G.DBL.construct(), new long[] {40, 30});
+			DimensionedDataSource<Float64Member> direct = DimensionedStorage.allocate(G.DBL.construct(), new long[] {40, 30});
+			assertTrue(FastConvND.compute(G.DBL, correlate, filter, padded, fast));
+			direct(G.DBL, correlate, filter, padded, direct);
+			assertClose(direct, fast, 1e-12);
+		}
+	}
+	
+	@Test
+	public void testNotSeparable() {
+		
+		Random rng = new Random(5);
+		
+		DimensionedDataSource<Float64Member> data = DimensionedStorage.allocate(G.DBL.construct(), new long[] {40, 30});
+		fill(data, rng);
+		DimensionedDataSource<Float64Member> filter = DimensionedStorage.allocate(G.DBL.construct(), new long[] {3, 3});
+		fill(filter, rng);
+		DimensionedDataSource<Float64Member> out = DimensionedStorage.allocate(G.DBL.construct(), new long[] {40, 30});
+		
+		// a small general filter is best applied directly
+		
+		assertFalse(FastConvND.compute(G.DBL, false, filter, data, out));
+	}
+	
+	@Test
+	public void testFFT() {
+		
+		Random rng = new Random(7);
+		
+		long[] dims = new long[] {16, 16, 16};
+		long[] filterDims = new long[] {9, 9, 9};
+		assertEquals(FastConvND.FFT, FastConvND.chooseMethod(dims, filterDims, false, false));
+		
+		DimensionedDataSource<Float64Member> data = DimensionedStorage.allocate(G.DBL.construct(), dims);
+		fill(data, rng);
+		DimensionedDataSource<Float64Member> padded =
+				new ProcedurePaddedDimensionedDataSource<>(G.DBL, data, new MirrorNdOOB<Float64Member>(data));
+		DimensionedDataSource<Float64Member> filter = DimensionedStorage.allocate(G.DBL.construct(), filterDims);
+		fill(filter, rng);
+		
+		for (boolean correlate : new boolean[] {false, true}) {
+			DimensionedDataSource<Float64Member> fast = DimensionedStorage.allocate(G.DBL.construct(), dims);
+			DimensionedDataSource<Float64Member> direct = DimensionedStorage.allocate(G.DBL.construct(), dims);
+			assertTrue(FastConvND.compute(G.DBL, correlate, filter, padded, fast));
+			direct(G.DBL, correlate, filter, padded, direct);
+			assertClose(direct, fast, 1e-10);
+		}
+	}
+	
+	@Test
+	public void testComplexCorrelation() {
+		
+		Random rng = new Random(11);
+		long[] dims = new long[] {20, 24};
+		
+		DimensionedDataSource<ComplexFloat64Member> data = DimensionedStorage.allocate(G.CDBL.construct(), dims);
+		ComplexFloat64Member value = G.CDBL.construct();
+		for (long i = 0; i < data.numElements(); i++) {
+			value.setR(rng.nextDouble());
+			value.setI(rng.nextDouble());
+			data.rawData().set(i, value);
+		}
+		DimensionedDataSource<ComplexFloat64Member> padded =
+				new ProcedurePaddedDimensionedDataSource<>(G.CDBL, data, new EdgeNdOOB<ComplexFloat64Member>(data));
+		
+		// a complex rank 1 filter
+		
+		ComplexFloat64Member[] fx = new ComplexFloat64Member[] {
+				new ComplexFloat64Member(1, 1), new ComplexFloat64Member(0, 2), new ComplexFloat64Member(-1, 0.5) };
+		ComplexFloat64Member[] fy = new ComplexFloat64Member[] {
+				new ComplexFloat64Member(2, 0), new ComplexFloat64Member(0.5, -1), new ComplexFloat64Member(0, 3),
+				new ComplexFloat64Member(1, 1), new ComplexFloat64Member(-2, 0) };
+		DimensionedDataSource<ComplexFloat64Member> filter = DimensionedStorage.allocate(G.CDBL.construct(), new long[] {3, 5});
+		for (long i = 0; i < filter.numElements(); i++) {
+			G.CDBL.multiply().call(fx[(int) (i % 3)], fy[(int) (i / 3)], value);
+			filter.rawData().set(i, value);
+		}
+		
+		DimensionedDataSource<ComplexFloat64Member> fast = DimensionedStorage.allocate(G.CDBL.construct(), dims);
+		DimensionedDataSource<ComplexFloat64Member> direct = DimensionedStorage.allocate(G.CDBL.construct(), dims);
+		assertTrue(FastConvND.compute(G.CDBL, true, filter, padded, fast));
+		CorrND.compute(G.CDBL, 1, new CorrelationIndexerND<ComplexFloat64Member>(), filter, padded, direct);
+		
+		ComplexFloat64Member expected = G.CDBL.construct();
+		ComplexFloat64Member actual = G.CDBL.construct();
+		for (long i = 0; i < direct.numElements(); i++) {
+			direct.rawData().get(i, expected);
+			fast.rawData().get(i, actual);
+			assertEquals(expected.r(), actual.r(), 1e-12);
+			assertEquals(expected.i(), actual.i(), 1e-12);
+		}
+	}
+	
+	@Test
+	public void testFloat32() {
+		
+		Random rng = new Random(13);
+		long[] dims = new long[] {10, 12, 14};
+		
+		DimensionedDataSource<Float32Member> data = DimensionedStorage.allocate(G.FLT.construct(), dims);
+		Float32Member value = G.FLT.construct();
+		for (long i = 0; i < data.numElements(); i++) {
+			value.setV(rng.nextFloat());
+			data.rawData().set(i, value);
+		}
+		DimensionedDataSource<Float32Member> padded =
+				new ProcedurePaddedDimensionedDataSource<>(G.FLT, data, new EdgeNdOOB<Float32Member>(data));
+		
+		// a float gaussian whose factors were multiplied in float
+		
+		float[] g = new float[] {0.054f, 0.242f, 0.399f, 0.242f, 0.054f};
+		DimensionedDataSource<Float32Member> filter = DimensionedStorage.allocate(G.FLT.construct(), new long[] {5, 5, 5});
+		for (long i = 0; i < filter.numElements(); i++) {
+			value.setV(g[(int) (i % 5)] * g[(int) ((i / 5) % 5)] * g[(int) (i / 25)]);
+			filter.rawData().set(i, value);
+		}
+		
+		DimensionedDataSource<Float32Member> fast = DimensionedStorage.allocate(G.FLT.construct(), dims);
+		DimensionedDataSource<Float32Member> direct = DimensionedStorage.allocate(G.FLT.construct(), dims);
+		assertTrue(FastConvND.compute(G.FLT, false, filter, padded, fast));
+		ConvND.compute(G.FLT, 1, new ConvolutionIndexerND<Float32Member>(), filter, padded, direct);
+		
+		Float32Member expected = G.FLT.construct();
+		Float32Member actual = G.FLT.construct();
+		for (long i = 0; i < direct.numElements(); i++) {
+			direct.rawData().get(i, expected);
+			fast.rawData().get(i, actual);
+			assertEquals(expected.v(), actual.v(), 1e-5);
+		}
+	}
+	
+	private void direct(Float64Algebra alg, boolean correlate, DimensionedDataSource<Float64Member> filter,
+			DimensionedDataSource<Float64Member> a, DimensionedDataSource<Float64Member> b)
+	{
+		if (correlate)
+			CorrND.compute(alg, 1, new CorrelationIndexerND<Float64Member>(), filter, a, b);
+		else
+			ConvND.compute(alg, 1, new ConvolutionIndexerND<Float64Member>(), filter, a, b);
+	}
+	
+	private void fill(DimensionedDataSource<Float64Member> ds, Random rng) {
+		Float64Member value = G.DBL.construct();
+		for (long i = 0; i < ds.numElements(); i++) {
+			value.setV(rng.nextDouble() * 2 - 1);
+			ds.rawData().set(i, value);
+		}
+	}
+	
+	private void assertClose(DimensionedDataSource<Float64Member> expected, DimensionedDataSource<Float64Member> actual, double tol) {
+		Float64Member e = G.DBL.construct();
+		Float64Member a = G.DBL.construct();
+		for (long i = 0; i < expected.numElements(); i++) {
+			expected.rawData().get(i, e);
+			actual.rawData().get(i, a);
+			assertEquals(e.v(), a.v(), tol);
+		}
+	}
+}
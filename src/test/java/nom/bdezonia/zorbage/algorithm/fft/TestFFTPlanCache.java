@@ -0,0 +1,139 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.algorithm.fft;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import nom.bdezonia.zorbage.algebra.G;
+import nom.bdezonia.zorbage.algorithm.FFT;
+import nom.bdezonia.zorbage.datasource.IndexedDataSource;
+import nom.bdezonia.zorbage.storage.Storage;
+import nom.bdezonia.zorbage.type.complex.float64.ComplexFloat64Member;
+
+/**
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class TestFFTPlanCache {
+
+	@Test
+	public void testReuse() {
+		
+		FFTPlanCache.clear();
+		
+		FFTPlan<ComplexFloat64Member> p1 = FFTPlanCache.plan(G.CDBL, G.DBL, 64);
+		FFTPlan<ComplexFloat64Member> p2 = FFTPlanCache.plan(G.CDBL, G.DBL, 64);
+		FFTPlan<ComplexFloat64Member> p3 = FFTPlanCache.plan(G.CDBL, G.DBL, 128);
+		
+		assertSame(p1, p2);
+		assertNotSame(p1, p3);
+		assertEquals(2, FFTPlanCache.size());
+	}
+	
+	@Test
+	public void testCapacity() {
+		
+		int oldCapacity = FFTPlanCache.capacity();
+		
+		try {
+			FFTPlanCache.clear();
+			FFTPlanCache.setCapacity(2);
+			
+			FFTPlan<ComplexFloat64Member> p1 = FFTPlanCache.plan(G.CDBL, G.DBL, 8);
+			FFTPlanCache.plan(G.CDBL, G.DBL, 16);
+			FFTPlanCache.plan(G.CDBL, G.DBL, 32);
+			
+			assertEquals(2, FFTPlanCache.size());
+			
+			// the least recently used plan was evicted
+			
+			assertNotSame(p1, FFTPlanCache.plan(G.CDBL, G.DBL, 8));
+		}
+		finally {
+			FFTPlanCache.setCapacity(oldCapacity);
+		}
+	}
+	
+	@Test
+	public void testTwiddles() {
+		
+		FFTPlan<ComplexFloat64Member> plan = FFTPlan.create(G.CDBL, G.DBL, 16);
+		
+		ComplexFloat64Member w = G.CDBL.construct();
+		
+		for (int k = 0; k < 8; k++) {
+			plan.twiddle(k, w);
+			assertEquals(Math.cos(2 * Math.PI * k / 16), w.r(), 1e-15);
+			assertEquals(-Math.sin(2 * Math.PI * k / 16), w.i(), 1e-15);
+		}
+		
+		for (int k = 0; k < 16; k++) {
+			assertEquals(Integer.reverse(k) >>> 28, plan.bitReversed(k));
+		}
+	}
+	
+	@Test
+	public void testPlanMatchesDft() {
+		
+		int n = 32;
+		
+		IndexedDataSource<ComplexFloat64Member> a = Storage.allocate(G.CDBL.construct(), n);
+		IndexedDataSource<ComplexFloat64Member> b = Storage.allocate(G.CDBL.construct(), n);
+		
+		ComplexFloat64Member value = G.CDBL.construct();
+		for (int i = 0; i < n; i++) {
+			value.setR(Math.sin(i * 0.37) + i);
+			value.setI(Math.cos(i * 1.3));
+			a.set(i, value);
+		}
+		
+		FFT.compute(G.CDBL, FFTPlanCache.plan(G.CDBL, G.DBL, n), a, b);
+		
+		for (int k = 0; k < n; k++) {
+			double re = 0;
+			double im = 0;
+			for (int t = 0; t < n; t++) {
+				a.get(t, value);
+				double ang = -2 * Math.PI * k * t / n;
+				re += value.r() * Math.cos(ang) - value.i() * Math.sin(ang);
+				im += value.r() * Math.sin(ang) + value.i() * Math.cos(ang);
+			}
+			b.get(k, value);
+			assertEquals(re, value.r(), 1e-10);
+			assertEquals(im, value.i(), 1e-10);
+		}
+	}
+}
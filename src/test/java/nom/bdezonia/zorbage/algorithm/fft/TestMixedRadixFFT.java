@@ -0,0 +1,183 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.algorithm.fft;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import nom.bdezonia.zorbage.algebra.G;
+import nom.bdezonia.zorbage.algorithm.FFT;
+import nom.bdezonia.zorbage.algorithm.InvFFT;
+import nom.bdezonia.zorbage.datasource.IndexedDataSource;
+import nom.bdezonia.zorbage.storage.Storage;
+import nom.bdezonia.zorbage.type.complex.float64.ComplexFloat64Member;
+import nom.bdezonia.zorbage.type.complex.highprec.ComplexHighPrecisionMember;
+
+/**
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class TestMixedRadixFFT {
+
+	@Test
+	public void testPlanKinds() {
+		
+		assertEquals(FFTPlan.POWER_OF_2, FFTPlan.create(G.CDBL, G.DBL, 64).kind());
+		assertEquals(FFTPlan.MIXED_RADIX, FFTPlan.create(G.CDBL, G.DBL, 3000).kind());
+		assertEquals(FFTPlan.MIXED_RADIX, FFTPlan.create(G.CDBL, G.DBL, 6144).kind());
+		assertEquals(FFTPlan.BLUESTEIN, FFTPlan.create(G.CDBL, G.DBL, 7).kind());
+		assertEquals(FFTPlan.BLUESTEIN, FFTPlan.create(G.CDBL, G.DBL, 42).kind());
+	}
+	
+	@Test
+	public void testMixedRadixSizes() {
+		
+		int[] sizes = new int[] {3, 5, 6, 9, 10, 12, 15, 20, 25, 30, 45, 48, 60, 100, 120, 375};
+		
+		for (int n : sizes) {
+			checkAgainstDft(n);
+		}
+	}
+	
+	@Test
+	public void testBluesteinSizes() {
+		
+		int[] sizes = new int[] {7, 11, 13, 14, 17, 21, 97, 101, 210};
+		
+		for (int n : sizes) {
+			checkAgainstDft(n);
+		}
+	}
+	
+	@Test
+	public void testSpectrometerFrameSize() {
+		
+		checkAgainstDft(3000);
+	}
+	
+	@Test
+	public void testRoundTrip() {
+		
+		int[] sizes = new int[] {6, 7, 30, 61, 6144};
+		
+		for (int n : sizes) {
+			
+			IndexedDataSource<ComplexFloat64Member> a = signal(n);
+			IndexedDataSource<ComplexFloat64Member> b = Storage.allocate(G.CDBL.construct(), n);
+			
+			FFT.compute(G.CDBL, G.DBL, a, b);
+			InvFFT.compute(G.CDBL, G.DBL, b, b);
+			
+			ComplexFloat64Member expected = G.CDBL.construct();
+			ComplexFloat64Member actual = G.CDBL.construct();
+			for (int i = 0; i < n; i++) {
+				a.get(i, expected);
+				b.get(i, actual);
+				assertEquals(expected.r(), actual.r(), 1e-9);
+				assertEquals(expected.i(), actual.i(), 1e-9);
+			}
+		}
+	}
+	
+	@Test
+	public void testHighPrecisionBluestein() {
+		
+		int n = 5;
+		
+		IndexedDataSource<ComplexHighPrecisionMember> a = Storage.allocate(G.CHP.construct(), n);
+		ComplexHighPrecisionMember value = G.CHP.construct();
+		for (int i = 0; i < n; i++) {
+			value.setR(new java.math.BigDecimal(i + 1));
+			a.set(i, value);
+		}
+		
+		IndexedDataSource<ComplexHighPrecisionMember> b = Storage.allocate(G.CHP.construct(), n);
+		
+		FFT.compute(G.CHP, G.HP, a, b);
+		
+		// the DC term is the sum 1+2+3+4+5
+		
+		b.get(0, value);
+		assertEquals(15, value.r().doubleValue(), 1e-20);
+		assertEquals(0, value.i().doubleValue(), 1e-20);
+		
+		// X[1] of the ramp 1..5 is -2.5 + 3.440954801177933i
+		
+		b.get(1, value);
+		assertEquals(-2.5, value.r().doubleValue(), 1e-14);
+		assertEquals(3.440954801177933, value.i().doubleValue(), 1e-14);
+	}
+	
+	private IndexedDataSource<ComplexFloat64Member> signal(int n) {
+		IndexedDataSource<ComplexFloat64Member> a = Storage.allocate(G.CDBL.construct(), n);
+		ComplexFloat64Member value = G.CDBL.construct();
+		for (int i = 0; i < n; i++) {
+			value.setR(Math.sin(i * 0.37) + (i % 7));
+			value.setI(Math.cos(i * 1.3) - (i % 3));
+			a.set(i, value);
+		}
+		return a;
+	}
+	
+	private void checkAgainstDft(int n) {
+		
+		IndexedDataSource<ComplexFloat64Member> a = signal(n);
+		IndexedDataSource<ComplexFloat64Member> b = Storage.allocate(G.CDBL.construct(), n);
+		
+		FFT.compute(G.CDBL, G.DBL, a, b);
+		
+		double[] re = new double[n];
+		double[] im = new double[n];
+		ComplexFloat64Member value = G.CDBL.construct();
+		for (int t = 0; t < n; t++) {
+			a.get(t, value);
+			re[t] = value.r();
+			im[t] = value.i();
+		}
+		
+		for (int k = 0; k < n; k++) {
+			double sumR = 0;
+			double sumI = 0;
+			for (int t = 0; t < n; t++) {
+				double ang = -2 * Math.PI * ((long) k * t % n) / n;
+				double c = Math.cos(ang);
+				double s = Math.sin(ang);
+				sumR += re[t] * c - im[t] * s;
+				sumI += re[t] * s + im[t] * c;
+			}
+			b.get(k, value);
+			assertEquals("size "+n+" term "+k, sumR, value.r(), 1e-8);
+			assertEquals("size "+n+" term "+k, sumI, value.i(), 1e-8);
+		}
+	}
+}
@@ -0,0 +1,150 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import nom.bdezonia.zorbage.algebra.G;
+import nom.bdezonia.zorbage.algorithm.ConvolveND;
+import nom.bdezonia.zorbage.algorithm.CorrelateND;
+import nom.bdezonia.zorbage.oob.nd.EdgeNdOOB;
+import nom.bdezonia.zorbage.sampling.IntegerIndex;
+import nom.bdezonia.zorbage.type.integer.int32.SignedInt32Algebra;
+import nom.bdezonia.zorbage.type.integer.int32.SignedInt32Member;
+
+/**
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class TestInteriorAccess {
+
+	@Test
+	public void testBounds() {
+		
+		DimensionedDataSource<SignedInt32Member> data =
+				DimensionedStorage.allocate(G.INT32.construct(), new long[] {10, 7});
+		
+		InteriorAccess<SignedInt32Member> access =
+				new InteriorAccess<SignedInt32Member>(data, new long[] {-1, -2}, new long[] {2, 0});
+		
+		assertEquals(1, access.interiorMin(0));
+		assertEquals(7, access.interiorMax(0));
+		assertEquals(2, access.interiorMin(1));
+		assertEquals(6, access.interiorMax(1));
+		assertEquals(1, access.stride(0));
+		assertEquals(10, access.stride(1));
+		
+		IntegerIndex idx = new IntegerIndex(2);
+		idx.set(0, 1);
+		idx.set(1, 2);
+		assertTrue(access.isInterior(idx));
+		assertEquals(21, access.linearIndex(idx));
+		idx.set(0, 0);
+		assertFalse(access.isInterior(idx));
+		idx.set(0, 7);
+		idx.set(1, 6);
+		assertTrue(access.isInterior(idx));
+		idx.set(0, 8);
+		assertFalse(access.isInterior(idx));
+	}
+	
+	@Test
+	public void testConvolutionBorders() {
+		
+		long[] dims = new long[] {9, 6};
+		DimensionedDataSource<SignedInt32Member> data = fill(dims, 7);
+		DimensionedDataSource<SignedInt32Member> filter = fill(new long[] {3, 5}, 3);
+		DimensionedDataSource<SignedInt32Member> padded =
+				new ProcedurePaddedDimensionedDataSource<SignedInt32Algebra, SignedInt32Member>(
+						G.INT32, data, new EdgeNdOOB<SignedInt32Member>(data));
+		
+		DimensionedDataSource<SignedInt32Member> conv = DimensionedStorage.allocate(G.INT32.construct(), dims);
+		DimensionedDataSource<SignedInt32Member> corr = DimensionedStorage.allocate(G.INT32.construct(), dims);
+		ConvolveND.compute(G.INT32, filter, padded, conv);
+		CorrelateND.compute(G.INT32, filter, padded, corr);
+		
+		SignedInt32Member value = G.INT32.construct();
+		SignedInt32Member f = G.INT32.construct();
+		IntegerIndex idx = new IntegerIndex(2);
+		IntegerIndex fidx = new IntegerIndex(2);
+		IntegerIndex p = new IntegerIndex(2);
+		for (long y = 0; y < dims[1]; y++) {
+			for (long x = 0; x < dims[0]; x++) {
+				int convSum = 0;
+				int corrSum = 0;
+				for (long fy = 0; fy < filter.dimension(1); fy++) {
+					for (long fx = 0; fx < filter.dimension(0); fx++) {
+						fidx.set(0, fx);
+						fidx.set(1, fy);
+						filter.get(fidx, f);
+						long dx = fx - filter.dimension(0)/2;
+						long dy = fy - filter.dimension(1)/2;
+						p.set(0, clamp(x - dx, dims[0]));
+						p.set(1, clamp(y - dy, dims[1]));
+						data.get(p, value);
+						convSum += value.v() * f.v();
+						p.set(0, clamp(x + dx, dims[0]));
+						p.set(1, clamp(y + dy, dims[1]));
+						data.get(p, value);
+						corrSum += value.v() * f.v();
+					}
+				}
+				idx.set(0, x);
+				idx.set(1, y);
+				conv.get(idx, value);
+				assertEquals(convSum, value.v());
+				corr.get(idx, value);
+				assertEquals(corrSum, value.v());
+			}
+		}
+	}
+	
+	private DimensionedDataSource<SignedInt32Member> fill(long[] dims, int seed) {
+		DimensionedDataSource<SignedInt32Member> ds = DimensionedStorage.allocate(G.INT32.construct(), dims);
+		SignedInt32Member value = G.INT32.construct();
+		for (long i = 0; i < ds.numElements(); i++) {
+			value.setV((int) ((i * seed * 31 + 5) % 17) - 8);
+			ds.rawData().set(i, value);
+		}
+		return ds;
+	}
+	
+	private long clamp(long v, long size) {
+		if (v < 0) return 0;
+		if (v >= size) return size-1;
+		return v;
+	}
+}
@@ -0,0 +1,186 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.procedure.impl.parse;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import nom.bdezonia.zorbage.algebra.G;
+import nom.bdezonia.zorbage.procedure.Procedure;
+import nom.bdezonia.zorbage.tuple.Tuple2;
+import nom.bdezonia.zorbage.type.integer.int32.SignedInt32Algebra;
+import nom.bdezonia.zorbage.type.integer.int32.SignedInt32Member;
+import nom.bdezonia.zorbage.type.real.float32.Float32Member;
+import nom.bdezonia.zorbage.type.real.float64.Float64Algebra;
+import nom.bdezonia.zorbage.type.real.float64.Float64Member;
+import nom.bdezonia.zorbage.type.tuple.Tuple2Algebra;
+
+/**
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class TestEquationCache {
+
+	@Test
+	public void repeatedEquationsAreHits() {
+		EquationCache.clear();
+		EquationCache.resetStatistics();
+		Tuple2<String, Procedure<Float64Member>> first = EquationCache.parse(G.DBL, "$0 * 2 + 1");
+		Tuple2<String, Procedure<Float64Member>> second = EquationCache.parse(G.DBL, "$0 * 2 + 1");
+		assertEquals(null, first.a());
+		assertSame(first.b(), second.b());
+		assertEquals(1, EquationCache.hits());
+		assertEquals(1, EquationCache.misses());
+		Float64Member result = G.DBL.construct();
+		second.b().call(result, new Float64Member(4));
+		assertEquals(9, result.v(), 0);
+	}
+	
+	@Test
+	public void algebrasAreKeptApart() {
+		EquationCache.clear();
+		EquationCache.resetStatistics();
+		Tuple2<String, Procedure<Float64Member>> dbl = EquationCache.parse(G.DBL, "$0 + 1");
+		Tuple2<String, Procedure<Float32Member>> flt = EquationCache.parse(G.FLT, "$0 + 1");
+		assertNotSame(dbl.b(), flt.b());
+		assertEquals(0, EquationCache.hits());
+		assertEquals(2, EquationCache.misses());
+		Float32Member result = G.FLT.construct();
+		flt.b().call(result, new Float32Member(2));
+		assertEquals(3, result.v(), 0);
+	}
+	
+	@Test
+	public void algebraInstancesOfOneClassAreKeptApart() {
+		EquationCache.clear();
+		EquationCache.resetStatistics();
+		Tuple2Algebra<SignedInt32Algebra,SignedInt32Member,SignedInt32Algebra,SignedInt32Member> intAlg =
+				new Tuple2Algebra<>(G.INT32, G.INT32);
+		Tuple2Algebra<Float64Algebra,Float64Member,Float64Algebra,Float64Member> dblAlg =
+				new Tuple2Algebra<>(G.DBL, G.DBL);
+		Tuple2<String, Procedure<Tuple2<SignedInt32Member,SignedInt32Member>>> ints =
+				EquationCache.parse(intAlg, "$0");
+		Tuple2<String, Procedure<Tuple2<Float64Member,Float64Member>>> dbls =
+				EquationCache.parse(dblAlg, "$0");
+		assertNotSame(ints.b(), dbls.b());
+		assertEquals(0, EquationCache.hits());
+		assertEquals(2, EquationCache.misses());
+		Tuple2<Float64Member,Float64Member> input = dblAlg.construct();
+		input.setA(new Float64Member(1.5));
+		input.setB(new Float64Member(-2.5));
+		Tuple2<Float64Member,Float64Member> result = dblAlg.construct();
+		dbls.b().call(result, input);
+		assertEquals(1.5, result.a().v(), 0);
+		assertEquals(-2.5, result.b().v(), 0);
+	}
+	
+	@Test
+	public void errorsAreCached() {
+		EquationCache.clear();
+		EquationCache.resetStatistics();
+		Tuple2<String, Procedure<Float64Member>> first = EquationCache.parse(G.DBL, "$0 + ");
+		Tuple2<String, Procedure<Float64Member>> second = EquationCache.parse(G.DBL, "$0 + ");
+		assertNotEquals(null, first.a());
+		assertEquals(first.a(), second.a());
+		assertEquals(1, EquationCache.hits());
+	}
+	
+	@Test
+	public void leastRecentlyUsedEquationsAreEvicted() {
+		int oldCapacity = EquationCache.capacity();
+		try {
+			EquationCache.clear();
+			EquationCache.setCapacity(2);
+			EquationCache.resetStatistics();
+			EquationCache.parse(G.DBL, "1");
+			EquationCache.parse(G.DBL, "2");
+			EquationCache.parse(G.DBL, "1");
+			EquationCache.parse(G.DBL, "3");  // evicts "2"
+			assertEquals(2, EquationCache.size());
+			assertEquals(1, EquationCache.evictions());
+			EquationCache.parse(G.DBL, "1");
+			assertEquals(2, EquationCache.hits());
+			EquationCache.parse(G.DBL, "2");
+			assertEquals(4, EquationCache.misses());
+		}
+		finally {
+			EquationCache.setCapacity(oldCapacity);
+		}
+	}
+	
+	@Test
+	public void warmingFillsTheCache() {
+		EquationCache.clear();
+		EquationCache.resetStatistics();
+		int errors = EquationCache.warm(G.DBL, "sin($0)", "cos($0)", "$0 +");
+		assertEquals(1, errors);
+		assertEquals(3, EquationCache.size());
+		EquationCache.parse(G.DBL, "cos($0)");
+		assertEquals(1, EquationCache.hits());
+	}
+	
+	@Test
+	public void cacheCanBeSharedByThreads() throws InterruptedException {
+		EquationCache.clear();
+		final String[] equations = new String[] {"$0+1", "$0*$0", "sqrt($0)", "exp($0)-1"};
+		Thread[] threads = new Thread[4];
+		final boolean[] ok = new boolean[threads.length];
+		for (int t = 0; t < threads.length; t++) {
+			final int id = t;
+			threads[t] = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					Float64Member result = G.DBL.construct();
+					Float64Member input = new Float64Member(4);
+					boolean good = true;
+					for (int i = 0; i < 2000; i++) {
+						String eqn = equations[(i + id) % equations.length];
+						EquationCache.parse(G.DBL, eqn).b().call(result, input);
+						if (eqn.equals("sqrt($0)") && result.v() != 2)
+							good = false;
+					}
+					ok[id] = good;
+				}
+			});
+			threads[t].start();
+		}
+		for (int t = 0; t < threads.length; t++) {
+			threads[t].join();
+			assertEquals(true, ok[t]);
+		}
+		assertEquals(4, EquationCache.size());
+	}
+}
@@ -0,0 +1,252 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.procedure.impl.parse;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import nom.bdezonia.zorbage.algebra.G;
+import nom.bdezonia.zorbage.datasource.IndexedDataSource;
+import nom.bdezonia.zorbage.datasource.TrimmedDataSource;
+import nom.bdezonia.zorbage.procedure.Procedure;
+import nom.bdezonia.zorbage.storage.array.ArrayStorage;
+import nom.bdezonia.zorbage.tuple.Tuple2;
+import nom.bdezonia.zorbage.type.complex.float64.ComplexFloat64Algebra;
+import nom.bdezonia.zorbage.type.complex.float64.ComplexFloat64Member;
+import nom.bdezonia.zorbage.type.integer.int32.SignedInt32Member;
+import nom.bdezonia.zorbage.type.real.float32.Float32Member;
+import nom.bdezonia.zorbage.type.real.float64.Float64Algebra;
+import nom.bdezonia.zorbage.type.real.float64.Float64Member;
+
+/**
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class TestEquationEvaluator {
+
+	// more than two blocks and a partial block
+	private static final int SIZE = 2 * EquationEvaluator.BLOCK_SIZE + 123;
+	
+	private static final String EQUATION = "sin($0)*$1 + 2*$0 - cos($1)/(1 + $0*$0) + exp(0.5) + max($0, $1)";
+	
+	@Test
+	public void arrayStorageMatchesElementEvaluation() {
+		IndexedDataSource<Float64Member> a = doubles(1);
+		IndexedDataSource<Float64Member> b = doubles(2);
+		IndexedDataSource<Float64Member> out = ArrayStorage.allocate(G.DBL.construct(), SIZE);
+		EquationEvaluator.compute(G.DBL, EQUATION, out, a, b);
+		checkDoubles(EQUATION, out, a, b);
+	}
+	
+	@Test
+	public void otherStorageMatchesElementEvaluation() {
+		// trimmed views hide the arrays so values are copied into member columns
+		IndexedDataSource<Float64Member> a = new TrimmedDataSource<>(doubles(3), 0, SIZE);
+		IndexedDataSource<Float64Member> b = new TrimmedDataSource<>(doubles(4), 0, SIZE);
+		IndexedDataSource<Float64Member> out = ArrayStorage.allocate(G.DBL.construct(), SIZE);
+		EquationEvaluator.compute(G.DBL, EQUATION, out, a, b);
+		checkDoubles(EQUATION, out, a, b);
+	}
+	
+	@Test
+	public void floatsAndComplexesMatchElementEvaluation() {
+		Random rng = new Random(5);
+		IndexedDataSource<Float32Member> f = ArrayStorage.allocate(G.FLT.construct(), SIZE);
+		IndexedDataSource<ComplexFloat64Member> z = ArrayStorage.allocate(G.CDBL.construct(), SIZE);
+		Float32Member fv = G.FLT.construct();
+		ComplexFloat64Member zv = G.CDBL.construct();
+		for (int i = 0; i < SIZE; i++) {
+			fv.setV((float) (rng.nextDouble() * 4 - 2));
+			f.set(i, fv);
+			zv.setR(rng.nextDouble() * 4 - 2);
+			zv.setI(rng.nextDouble() * 4 - 2);
+			z.set(i, zv);
+		}
+		
+		IndexedDataSource<Float32Member> fout = ArrayStorage.allocate(G.FLT.construct(), SIZE);
+		EquationEvaluator.compute(G.FLT, "tanh($0)*$0 + 1.5", fout, f);
+		Procedure<Float32Member> fp = EquationCache.parse(G.FLT, "tanh($0)*$0 + 1.5").b();
+		Float32Member expected = G.FLT.construct();
+		Float32Member actual = G.FLT.construct();
+		for (int i = 0; i < SIZE; i++) {
+			f.get(i, fv);
+			fp.call(expected, fv);
+			fout.get(i, actual);
+			assertEquals(0, Float.compare(expected.v(), actual.v()));
+		}
+		
+		// complex sin is not a batch procedure so it is decoded element by element
+		IndexedDataSource<ComplexFloat64Member> zout = ArrayStorage.allocate(G.CDBL.construct(), SIZE);
+		EquationEvaluator.compute(G.CDBL, "exp($0)*sin($0) - $0/{1,2}", zout, z);
+		Procedure<ComplexFloat64Member> zp = EquationCache.parse(G.CDBL, "exp($0)*sin($0) - $0/{1,2}").b();
+		ComplexFloat64Member zexpected = G.CDBL.construct();
+		ComplexFloat64Member zactual = G.CDBL.construct();
+		for (int i = 0; i < SIZE; i++) {
+			z.get(i, zv);
+			zp.call(zexpected, zv);
+			zout.get(i, zactual);
+			assertEquals(0, Double.compare(zexpected.r(), zactual.r()));
+			assertEquals(0, Double.compare(zexpected.i(), zactual.i()));
+		}
+	}
+	
+	@Test
+	public void integersUseMemberColumns() {
+		IndexedDataSource<SignedInt32Member> a = ArrayStorage.allocate(G.INT32.construct(), SIZE);
+		IndexedDataSource<SignedInt32Member> out = ArrayStorage.allocate(G.INT32.construct(), SIZE);
+		SignedInt32Member value = G.INT32.construct();
+		for (int i = 0; i < SIZE; i++) {
+			value.setV(i - 1000);
+			a.set(i, value);
+		}
+		EquationEvaluator.compute(G.INT32, "$0*$0 - 3*$0 + 7 % 4", out, a);
+		for (int i = 0; i < SIZE; i++) {
+			out.get(i, value);
+			int x = i - 1000;
+			assertEquals(x*x - 3*x + 3, value.v());
+		}
+	}
+	
+	@Test
+	public void outputMayBeAnInput() {
+		IndexedDataSource<Float64Member> a = doubles(6);
+		IndexedDataSource<Float64Member> copy = doubles(6);
+		EquationEvaluator.compute(G.DBL, "$0*$0 + sqrt(abs($0))", a, a);
+		Float64Member x = G.DBL.construct();
+		Float64Member y = G.DBL.construct();
+		for (int i = 0; i < SIZE; i++) {
+			copy.get(i, x);
+			a.get(i, y);
+			assertEquals(x.v()*x.v() + Math.sqrt(Math.abs(x.v())), y.v(), 0);
+		}
+	}
+	
+	@Test
+	public void constantsAndVariablesAlone() {
+		IndexedDataSource<Float64Member> a = doubles(7);
+		IndexedDataSource<Float64Member> out = ArrayStorage.allocate(G.DBL.construct(), SIZE);
+		Float64Member x = G.DBL.construct();
+		Float64Member y = G.DBL.construct();
+		
+		EquationEvaluator.compute(G.DBL, "1 + 2*3", out, a);
+		for (int i = 0; i < SIZE; i++) {
+			out.get(i, y);
+			assertEquals(7, y.v(), 0);
+		}
+		
+		EquationEvaluator.compute(G.DBL, "$0", out, a);
+		for (int i = 0; i < SIZE; i++) {
+			a.get(i, x);
+			out.get(i, y);
+			assertEquals(x.v(), y.v(), 0);
+		}
+	}
+	
+	@Test
+	public void otherProceduresAreCalledPerElement() {
+		IndexedDataSource<Float64Member> a = doubles(8);
+		IndexedDataSource<Float64Member> out = ArrayStorage.allocate(G.DBL.construct(), SIZE);
+		Procedure<Float64Member> twice = new Procedure<Float64Member>() {
+			@Override
+			public void call(Float64Member result, Float64Member... inputs) {
+				result.setV(2 * inputs[0].v());
+			}
+		};
+		EquationEvaluator.compute(G.DBL, twice, out, a);
+		Float64Member x = G.DBL.construct();
+		Float64Member y = G.DBL.construct();
+		for (int i = 0; i < SIZE; i++) {
+			a.get(i, x);
+			out.get(i, y);
+			assertEquals(2 * x.v(), y.v(), 0);
+		}
+	}
+	
+	@Test
+	public void badRequestsAreRejected() {
+		IndexedDataSource<Float64Member> a = doubles(9);
+		IndexedDataSource<Float64Member> out = ArrayStorage.allocate(G.DBL.construct(), SIZE);
+		IndexedDataSource<Float64Member> small = ArrayStorage.allocate(G.DBL.construct(), 10);
+		try {
+			EquationEvaluator.compute(G.DBL, "$0 +", out, a);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertTrue(true);
+		}
+		try {
+			EquationEvaluator.compute(G.DBL, "$0 + $1", out, a);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertTrue(true);
+		}
+		try {
+			EquationEvaluator.compute(G.DBL, "$0 + 1", out, small);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertTrue(true);
+		}
+	}
+	
+	private IndexedDataSource<Float64Member> doubles(long seed) {
+		Random rng = new Random(seed);
+		IndexedDataSource<Float64Member> list = ArrayStorage.allocate(G.DBL.construct(), SIZE);
+		Float64Member value = G.DBL.construct();
+		for (int i = 0; i < SIZE; i++) {
+			value.setV(rng.nextDouble() * 6 - 3);
+			list.set(i, value);
+		}
+		return list;
+	}
+	
+	private void checkDoubles(String eqn, IndexedDataSource<Float64Member> out,
+								IndexedDataSource<Float64Member> a, IndexedDataSource<Float64Member> b)
+	{
+		Tuple2<String,Procedure<Float64Member>> parse =
+				new EquationParser<Float64Algebra,Float64Member>().parse(G.DBL, eqn);
+		Float64Member x = G.DBL.construct();
+		Float64Member y = G.DBL.construct();
+		Float64Member expected = G.DBL.construct();
+		Float64Member actual = G.DBL.construct();
+		for (int i = 0; i < SIZE; i++) {
+			a.get(i, x);
+			b.get(i, y);
+			parse.b().call(expected, x, y);
+			out.get(i, actual);
+			assertEquals(0, Double.compare(expected.v(), actual.v()));
+		}
+	}
+}
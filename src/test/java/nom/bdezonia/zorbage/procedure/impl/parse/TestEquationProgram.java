@@ -0,0 +1,150 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.procedure.impl.parse;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import nom.bdezonia.zorbage.algebra.G;
+import nom.bdezonia.zorbage.procedure.Procedure;
+import nom.bdezonia.zorbage.tuple.Tuple2;
+import nom.bdezonia.zorbage.type.integer.int32.SignedInt32Algebra;
+import nom.bdezonia.zorbage.type.integer.int32.SignedInt32Member;
+import nom.bdezonia.zorbage.type.real.float64.Float64Algebra;
+import nom.bdezonia.zorbage.type.real.float64.Float64Member;
+
+/**
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class TestEquationProgram {
+
+	private EquationProgram<Float64Algebra,Float64Member> compile(String eqn) {
+		EquationParser<Float64Algebra,Float64Member> parser = new EquationParser<Float64Algebra,Float64Member>();
+		Tuple2<String, Procedure<Float64Member>> result = parser.parse(G.DBL, eqn);
+		assertEquals(null, result.a());
+		return (EquationProgram<Float64Algebra,Float64Member>) result.b();
+	}
+	
+	@Test
+	public void constantsFold() {
+		EquationProgram<Float64Algebra,Float64Member> prog = compile("1 + 2*3 - sqrt(16)");
+		assertEquals(0, prog.instructionCount());
+		Float64Member result = G.DBL.construct();
+		prog.call(result);
+		assertEquals(3, result.v(), 0);
+	}
+	
+	@Test
+	public void constantSubtreesFoldInsideVariableExpressions() {
+		EquationProgram<Float64Algebra,Float64Member> prog = compile("$0 * (2 + 3) + exp(0)");
+		assertEquals(2, prog.instructionCount());
+		Float64Member result = G.DBL.construct();
+		prog.call(result, new Float64Member(4));
+		assertEquals(21, result.v(), 0);
+	}
+	
+	@Test
+	public void commonSubexpressionsAreShared() {
+		EquationProgram<Float64Algebra,Float64Member> prog = compile("sin($0+$1)*sin($0+$1) + cos($0+$1)*cos($0+$1)");
+		// +, sin, *, cos, *, +
+		assertEquals(6, prog.instructionCount());
+		Float64Member result = G.DBL.construct();
+		prog.call(result, new Float64Member(0.3), new Float64Member(1.1));
+		double s = Math.sin(0.3+1.1);
+		double c = Math.cos(0.3+1.1);
+		assertEquals(s*s + c*c, result.v(), 0);
+	}
+	
+	@Test
+	public void matchesDirectCalculation() {
+		EquationProgram<Float64Algebra,Float64Member> prog =
+				compile("(($0^2 + 3*$1) - sin($0)/(1+$1*$1) + max($0,$1)) - min(abs($0),2) + log(1+$1*$1)*tanh($0) + 7");
+		// registers are reused rather than one per instruction
+		assertTrue(prog.registerCount() < prog.instructionCount());
+		Float64Member result = G.DBL.construct();
+		for (double x = -3; x <= 3; x += 0.25) {
+			for (double y = -2; y <= 2; y += 0.5) {
+				prog.call(result, new Float64Member(x), new Float64Member(y));
+				double expected = ((Math.pow(x, 2) + 3*y) - (Math.sin(x)/(1+y*y) + Math.max(x,y))) -
+						(Math.min(Math.abs(x),2) + (Math.log(1+y*y)*Math.tanh(x) + 7));
+				assertEquals(expected, result.v(), 1e-12);
+			}
+		}
+	}
+	
+	@Test
+	public void randomValuesAreNotShared() {
+		EquationProgram<Float64Algebra,Float64Member> prog = compile("rand - rand");
+		assertEquals(3, prog.instructionCount());
+		Float64Member result = G.DBL.construct();
+		prog.call(result);
+		assertNotEquals(0, result.v(), 0);
+	}
+	
+	@Test
+	public void failingConstantsFailWhenEvaluated() {
+		EquationParser<SignedInt32Algebra,SignedInt32Member> parser = new EquationParser<SignedInt32Algebra,SignedInt32Member>();
+		Tuple2<String, Procedure<SignedInt32Member>> result = parser.parse(G.INT32, "1 + 4/0");
+		assertEquals(null, result.a());
+		try {
+			result.b().call(G.INT32.construct());
+			fail();
+		} catch (ArithmeticException e) {
+			assertTrue(true);
+		}
+	}
+	
+	@Test
+	public void outputMayBeAnInput() {
+		EquationProgram<Float64Algebra,Float64Member> prog = compile("$0*$0 + $0");
+		Float64Member value = new Float64Member(3);
+		prog.call(value, value);
+		assertEquals(12, value.v(), 0);
+	}
+	
+	@Test
+	public void missingVariablesAreReported() {
+		EquationProgram<Float64Algebra,Float64Member> prog = compile("$0 + $2");
+		assertEquals(3, prog.variableCount());
+		try {
+			prog.call(G.DBL.construct(), new Float64Member(1));
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertTrue(true);
+		}
+	}
+}
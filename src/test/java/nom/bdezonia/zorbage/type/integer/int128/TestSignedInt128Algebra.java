@@ -32,13 +32,17 @@ package nom.bdezonia.zorbage.type.integer.int128;
 
 import static org.junit.Assert.assertEquals;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Random;
 
 import org.junit.Test; import nom.bdezonia.zorbage.algebra.G;
 
 import nom.bdezonia.zorbage.datasource.IndexedDataSource;
 import nom.bdezonia.zorbage.storage.array.ArrayStorage;
+import nom.bdezonia.zorbage.type.rational.RationalMember;
+import nom.bdezonia.zorbage.type.real.highprec.HighPrecisionMember;
 
 /**
  * 
@@ -416,4 +420,53 @@ public class TestSignedInt128Algebra {
 			raw = raw.add(TWO128);
 		assertEquals(raw, int128);
 	}
+
+	// the two word kernels versus BigInteger on random values of all sizes
+	@Test
+	public void twoWordKernels() {
+		Random rng = new Random(1234);
+		SignedInt128Member a = G.INT128.construct();
+		SignedInt128Member b = G.INT128.construct();
+		SignedInt128Member d = G.INT128.construct();
+		SignedInt128Member m = G.INT128.construct();
+		HighPrecisionMember hp = new HighPrecisionMember(new BigDecimal("-7.25"));
+		RationalMember r = new RationalMember(BigInteger.valueOf(-355), BigInteger.valueOf(113));
+		for (int i = 0; i < 20000; i++) {
+			BigInteger x = new BigInteger(rng.nextInt(128), rng);
+			BigInteger y = new BigInteger(rng.nextInt(128), rng);
+			if (rng.nextBoolean())
+				x = x.negate();
+			if (rng.nextBoolean())
+				y = y.negate();
+			a.setV(x);
+			b.setV(y);
+			G.INT128.multiply().call(a, b, d);
+			assertEquals(wrap(x.multiply(y)), d.v());
+			if (y.signum() != 0) {
+				G.INT128.divMod().call(a, b, d, m);
+				assertEquals(x.divide(y), d.v());
+				assertEquals(x.remainder(y), m.v());
+			}
+			int count = rng.nextInt(140);
+			G.INT128.bitShiftRight().call(count, a, d);
+			assertEquals(x.shiftRight(count), d.v());
+			G.INT128.scaleByHighPrecAndRound().call(hp, a, d);
+			BigDecimal scaled = hp.v().multiply(new BigDecimal(x));
+			scaled = scaled.add(new BigDecimal(scaled.signum() < 0 ? "-0.5" : "0.5"));
+			assertEquals(wrap(scaled.toBigInteger()), d.v());
+			G.INT128.scaleByRational().call(r, a, d);
+			assertEquals(wrap(x.multiply(r.n()).divide(r.d())), d.v());
+		}
+		a.setV(MIN);
+		G.INT128.multiply().call(a, a, d);
+		assertEquals(BigInteger.ZERO, d.v());
+		b.setV(BigInteger.ONE);
+		G.INT128.div().call(a, b, d);
+		assertEquals(MIN, d.v());
+	}
+	
+	private BigInteger wrap(BigInteger v) {
+		v = v.mod(TWO128);
+		return v.compareTo(MAX) > 0 ? v.subtract(TWO128) : v;
+	}
 }
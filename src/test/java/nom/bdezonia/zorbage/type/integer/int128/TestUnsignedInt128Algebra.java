@@ -33,11 +33,14 @@ package nom.bdezonia.zorbage.type.integer.int128;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
 
 import org.junit.Test; import nom.bdezonia.zorbage.algebra.G;
+import nom.bdezonia.zorbage.type.rational.RationalMember;
+import nom.bdezonia.zorbage.type.real.highprec.HighPrecisionMember;
 
 /**
  * 
@@ -308,4 +311,41 @@ public class TestUnsignedInt128Algebra {
 		
 		assertTrue(true);
 	}
-}
\ No newline at end of file
+
+	// the two word kernels versus BigInteger on random values of all sizes
+	@Test
+	public void twoWordKernels() {
+		BigInteger modulus = BigInteger.ONE.shiftLeft(128);
+		Random rng = new Random(1234);
+		UnsignedInt128Member a = G.UINT128.construct();
+		UnsignedInt128Member b = G.UINT128.construct();
+		UnsignedInt128Member d = G.UINT128.construct();
+		UnsignedInt128Member m = G.UINT128.construct();
+		HighPrecisionMember hp = new HighPrecisionMember(new BigDecimal("123.456"));
+		RationalMember r = new RationalMember(BigInteger.valueOf(355), BigInteger.valueOf(113));
+		for (int i = 0; i < 20000; i++) {
+			BigInteger x = new BigInteger(rng.nextInt(129), rng);
+			BigInteger y = new BigInteger(rng.nextInt(129), rng);
+			a.setV(x);
+			b.setV(y);
+			G.UINT128.multiply().call(a, b, d);
+			assertEquals(x.multiply(y).mod(modulus), d.v());
+			if (y.signum() != 0) {
+				G.UINT128.divMod().call(a, b, d, m);
+				assertEquals(x.divide(y), d.v());
+				assertEquals(x.mod(y), m.v());
+			}
+			int count = rng.nextInt(128);
+			G.UINT128.bitShiftLeft().call(count, a, d);
+			assertEquals(x.shiftLeft(count).mod(modulus), d.v());
+			G.UINT128.bitShiftRight().call(count, a, d);
+			assertEquals(x.shiftRight(count), d.v());
+			G.UINT128.scaleByHighPrecAndRound().call(hp, a, d);
+			assertEquals(hp.v().multiply(new BigDecimal(x)).add(new BigDecimal("0.5")).toBigInteger().mod(modulus), d.v());
+			G.UINT128.scaleByRational().call(r, a, d);
+			assertEquals(x.multiply(r.n()).divide(r.d()).mod(modulus), d.v());
+			G.UINT128.scaleByDouble().call(2.5, a, d);
+			assertEquals(x.multiply(BigInteger.valueOf(5)).shiftRight(1).mod(modulus), d.v());
+		}
+	}
+}
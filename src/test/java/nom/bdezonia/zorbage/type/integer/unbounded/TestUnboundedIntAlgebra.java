@@ -840,4 +840,70 @@ public class TestUnboundedIntAlgebra {
 		G.UNBOUND.zero().call(a);
 		assertEquals(true, a.v().equals(BigInteger.ZERO));
 	}
+
+	@Test
+	public void smallValuesMatchBigIntegers() {
+		long[] edges = new long[] {0, 1, -1, 2, -2, 3, 7, -12, 1L << 31, -(1L << 32),
+				(1L << 62), -(1L << 62), Long.MAX_VALUE, Long.MIN_VALUE,
+				Long.MAX_VALUE - 1, Long.MIN_VALUE + 1};
+		java.util.Random rng = new java.util.Random(1234);
+		long[] vals = new long[edges.length + 40];
+		for (int i = 0; i < vals.length; i++) {
+			if (i < edges.length)
+				vals[i] = edges[i];
+			else if (i % 2 == 0)
+				vals[i] = rng.nextLong();
+			else
+				vals[i] = rng.nextInt(2000) - 1000;
+		}
+		UnboundedIntMember a = G.UNBOUND.construct();
+		UnboundedIntMember b = G.UNBOUND.construct();
+		UnboundedIntMember c = G.UNBOUND.construct();
+		UnboundedIntMember d = G.UNBOUND.construct();
+		for (long x : vals) {
+			BigInteger bx = BigInteger.valueOf(x);
+			a.setV(bx);
+			G.UNBOUND.negate().call(a, c);
+			assertEquals(bx.negate(), c.v());
+			G.UNBOUND.abs().call(a, c);
+			assertEquals(bx.abs(), c.v());
+			for (int n : new int[] {0, 1, 5, 62, 63, 64, 100}) {
+				G.UNBOUND.scaleByTwo().call(n, a, c);
+				assertEquals(bx.shiftLeft(n), c.v());
+				G.UNBOUND.scaleByOneHalf().call(n, a, c);
+				assertEquals(bx.divide(BigInteger.ONE.shiftLeft(n)), c.v());
+				G.UNBOUND.bitShiftRight().call(n, a, c);
+				assertEquals(bx.shiftRight(n), c.v());
+			}
+			for (long y : vals) {
+				BigInteger by = BigInteger.valueOf(y);
+				b.setV(by);
+				G.UNBOUND.add().call(a, b, c);
+				assertEquals(bx.add(by), c.v());
+				G.UNBOUND.subtract().call(a, b, c);
+				assertEquals(bx.subtract(by), c.v());
+				G.UNBOUND.multiply().call(a, b, c);
+				assertEquals(bx.multiply(by), c.v());
+				assertEquals(bx.compareTo(by), (int) G.UNBOUND.compare().call(a, b));
+				assertEquals(bx.equals(by), G.UNBOUND.isEqual().call(a, b));
+				G.UNBOUND.gcd().call(a, b, c);
+				assertEquals(bx.gcd(by), c.v());
+				if (y != 0) {
+					G.UNBOUND.divMod().call(a, b, c, d);
+					assertEquals(bx.divide(by), c.v());
+					assertEquals(bx.remainder(by), d.v());
+					if (x != 0) {
+						G.UNBOUND.lcm().call(a, b, c);
+						assertEquals(bx.multiply(by).abs().divide(bx.gcd(by)), c.v());
+					}
+				}
+			}
+		}
+		// results that leave the long range move back once they fit again
+		a.setV(BigInteger.valueOf(Long.MAX_VALUE));
+		G.UNBOUND.add().call(a, a, c);
+		G.UNBOUND.subtract().call(c, a, c);
+		assertEquals(a.hashCode(), c.hashCode());
+		assertTrue(G.UNBOUND.isEqual().call(a, c));
+	}
 }
@@ -57,27 +57,27 @@ public class TestRationalAlgebra {
 		assertTrue(G.RAT.isZero().call(a));
 		assertTrue(!G.RAT.isZero().call(b));
 		assertTrue(!G.RAT.isZero().call(c));
-		assertEquals(b.n, c.n);
-		assertEquals(b.d, c.d);
+		assertEquals(b.n(), c.n());
+		assertEquals(b.d(), c.d());
 		assertTrue(G.RAT.isEqual().call(b,c));
-		assertEquals(BigInteger.valueOf(4), b.n);
-		assertEquals(BigInteger.valueOf(5), b.d);
+		assertEquals(BigInteger.valueOf(4), b.n());
+		assertEquals(BigInteger.valueOf(5), b.d());
 
 		G.RAT.assign().call(b, a);
 		assertTrue(G.RAT.isEqual().call(b,a));
 		
 		a.setV(BigInteger.valueOf(-2));
-		assertEquals(BigInteger.valueOf(-2), a.n);
-		assertEquals(BigInteger.ONE, a.d);
+		assertEquals(BigInteger.valueOf(-2), a.n());
+		assertEquals(BigInteger.ONE, a.d());
 		G.RAT.abs().call(a, a);
-		assertEquals(BigInteger.valueOf(2), a.n);
-		assertEquals(BigInteger.ONE, a.d);
+		assertEquals(BigInteger.valueOf(2), a.n());
+		assertEquals(BigInteger.ONE, a.d());
 
 		a.setV(BigInteger.valueOf(2), BigInteger.valueOf(3));
 		b.setV(BigInteger.valueOf(1), BigInteger.valueOf(6));
 		G.RAT.add().call(a, b, c);
-		assertEquals(BigInteger.valueOf(5), c.n);
-		assertEquals(BigInteger.valueOf(6), c.d);
+		assertEquals(BigInteger.valueOf(5), c.n());
+		assertEquals(BigInteger.valueOf(6), c.d());
 
 		a.setV(BigInteger.valueOf(1), BigInteger.valueOf(4));
 		b.setV(BigInteger.valueOf(1), BigInteger.valueOf(3));
@@ -91,13 +91,13 @@ public class TestRationalAlgebra {
 		a.setV(BigInteger.valueOf(-4), BigInteger.valueOf(9));
 		b.setV(BigInteger.valueOf(4));
 		G.RAT.divide().call(a, b, c);
-		assertEquals(BigInteger.valueOf(-1), c.n);
-		assertEquals(BigInteger.valueOf(9), c.d);
+		assertEquals(BigInteger.valueOf(-1), c.n());
+		assertEquals(BigInteger.valueOf(9), c.d());
 		
 		a.setV(BigInteger.valueOf(-4), BigInteger.valueOf(9));
 		G.RAT.invert().call(a, b);
-		assertEquals(BigInteger.valueOf(-9), b.n);
-		assertEquals(BigInteger.valueOf(4), b.d);
+		assertEquals(BigInteger.valueOf(-9), b.n());
+		assertEquals(BigInteger.valueOf(4), b.d());
 		
 		a.setV(BigInteger.valueOf(1));
 		b.setV(BigInteger.valueOf(0));
@@ -132,50 +132,50 @@ public class TestRationalAlgebra {
 		a.setV(BigInteger.valueOf(100), BigInteger.valueOf(4));
 		b.setV(BigInteger.valueOf(101), BigInteger.valueOf(4));
 		G.RAT.max().call(a, b, c);
-		assertEquals(BigInteger.valueOf(101), c.n);
-		assertEquals(BigInteger.valueOf(4), c.d);
+		assertEquals(BigInteger.valueOf(101), c.n());
+		assertEquals(BigInteger.valueOf(4), c.d());
 		
 		a.setV(BigInteger.valueOf(100), BigInteger.valueOf(4));
 		b.setV(BigInteger.valueOf(101), BigInteger.valueOf(4));
 		G.RAT.min().call(a, b, c);
-		assertEquals(BigInteger.valueOf(25), c.n);
-		assertEquals(BigInteger.valueOf(1), c.d);
+		assertEquals(BigInteger.valueOf(25), c.n());
+		assertEquals(BigInteger.valueOf(1), c.d());
 		
 		a.setV(BigInteger.valueOf(-2), BigInteger.valueOf(5));
 		b.setV(BigInteger.valueOf(4), BigInteger.valueOf(8));
 		G.RAT.multiply().call(a, b, c);
-		assertEquals(BigInteger.valueOf(-1), c.n);
-		assertEquals(BigInteger.valueOf(5), c.d);
+		assertEquals(BigInteger.valueOf(-1), c.n());
+		assertEquals(BigInteger.valueOf(5), c.d());
 
 		a.setV(BigInteger.valueOf(2), BigInteger.valueOf(3));
 		G.RAT.negate().call(a, b);
-		assertEquals(BigInteger.valueOf(-2), b.n);
-		assertEquals(BigInteger.valueOf(3), b.d);
+		assertEquals(BigInteger.valueOf(-2), b.n());
+		assertEquals(BigInteger.valueOf(3), b.d());
 		a.setV(BigInteger.valueOf(-22), BigInteger.valueOf(3));
 		G.RAT.negate().call(a, b);
-		assertEquals(BigInteger.valueOf(22), b.n);
-		assertEquals(BigInteger.valueOf(3), b.d);
+		assertEquals(BigInteger.valueOf(22), b.n());
+		assertEquals(BigInteger.valueOf(3), b.d());
 		
 		// won't test: norm() is abs() and abs() tested elsewhere
 		//G.RAT.norm();
 		
 		a.setV(BigInteger.valueOf(4),BigInteger.valueOf(5));
 		G.RAT.power().call(3, a, c);
-		assertEquals(BigInteger.valueOf(4*4*4), c.n);
-		assertEquals(BigInteger.valueOf(5*5*5), c.d);
+		assertEquals(BigInteger.valueOf(4*4*4), c.n());
+		assertEquals(BigInteger.valueOf(5*5*5), c.d());
 
 		a.setV(BigInteger.valueOf(2), BigInteger.valueOf(3));
 		s.setV(BigInteger.ZERO);
 		G.RAT.scale().call(s, a, b);
-		assertEquals(BigInteger.ZERO, b.n);
-		assertEquals(BigInteger.ONE, b.d);
+		assertEquals(BigInteger.ZERO, b.n());
+		assertEquals(BigInteger.ONE, b.d());
 		s.setV(BigInteger.valueOf(-2));
 		G.RAT.scale().call(s, a, b);
-		assertEquals(BigInteger.valueOf(-4), b.n);
-		assertEquals(BigInteger.valueOf(3), b.d);
+		assertEquals(BigInteger.valueOf(-4), b.n());
+		assertEquals(BigInteger.valueOf(3), b.d());
 		G.RAT.scale().call(s, b, b);
-		assertEquals(BigInteger.valueOf(8), b.n);
-		assertEquals(BigInteger.valueOf(3), b.d);
+		assertEquals(BigInteger.valueOf(8), b.n());
+		assertEquals(BigInteger.valueOf(3), b.d());
 
 		a.setV(BigInteger.valueOf(2), BigInteger.valueOf(3));
 		assertEquals(1,(int) G.RAT.signum().call(a));
@@ -187,24 +187,24 @@ public class TestRationalAlgebra {
 		a.setV(BigInteger.valueOf(1), BigInteger.valueOf(4));
 		b.setV(BigInteger.valueOf(1), BigInteger.valueOf(3));
 		G.RAT.subtract().call(a, b, c);
-		assertEquals(BigInteger.valueOf(-1), c.n);
-		assertEquals(BigInteger.valueOf(12), c.d);
+		assertEquals(BigInteger.valueOf(-1), c.n());
+		assertEquals(BigInteger.valueOf(12), c.d());
 		G.RAT.subtract().call(b, a, c);
-		assertEquals(BigInteger.valueOf(1), c.n);
-		assertEquals(BigInteger.valueOf(12), c.d);
+		assertEquals(BigInteger.valueOf(1), c.n());
+		assertEquals(BigInteger.valueOf(12), c.d());
 
 		a.setV(BigInteger.valueOf(2), BigInteger.valueOf(3));
 		assertEquals("2/3", a.toString());
 		
 		c.setV(BigInteger.ONE, BigInteger.TEN);
 		G.RAT.zero().call(c);
-		assertEquals(BigInteger.ZERO, c.n);
-		assertEquals(BigInteger.ONE, c.d);
+		assertEquals(BigInteger.ZERO, c.n());
+		assertEquals(BigInteger.ONE, c.d());
 
 		c.setV(BigInteger.valueOf(2), BigInteger.valueOf(3));
 		G.RAT.unity().call(c);
-		assertEquals(BigInteger.ONE, c.n);
-		assertEquals(BigInteger.ONE, c.d);
+		assertEquals(BigInteger.ONE, c.n());
+		assertEquals(BigInteger.ONE, c.d());
 		
 		a.setV(BigInteger.ONE, BigInteger.valueOf(6));
 		b.setV(BigInteger.valueOf(2), BigInteger.valueOf(6));
@@ -323,4 +323,48 @@ public class TestRationalAlgebra {
 		val.setV(BigDecimal.valueOf(Math.PI));
 		System.out.println(val);
 	}
+
+	@Test
+	public void smallValuesMatchBigIntegers() {
+		long[] vals = new long[] {0, 1, -1, 2, -3, 6, 10, -15, 1L << 31, 3L << 40,
+				-(1L << 62), Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE - 1,
+				Long.MIN_VALUE + 1, 4611686018427387903L};
+		RationalMember a = G.RAT.construct();
+		RationalMember b = G.RAT.construct();
+		RationalMember c = G.RAT.construct();
+		for (long an : vals) {
+			for (long ad : new long[] {1, 3, -4, Long.MAX_VALUE, Long.MIN_VALUE}) {
+				a.setV(an, ad);
+				RationalMember ba = new RationalMember(BigInteger.valueOf(an), BigInteger.valueOf(ad));
+				assertEquals(ba.n(), a.n());
+				assertEquals(ba.d(), a.d());
+				for (long bn : vals) {
+					for (long bd : new long[] {1, 6, -9, Long.MAX_VALUE - 1}) {
+						b.setV(bn, bd);
+						BigInteger xn = a.n(), xd = a.d(), yn = b.n(), yd = b.d();
+						G.RAT.add().call(a, b, c);
+						check(xn.multiply(yd).add(yn.multiply(xd)), xd.multiply(yd), c);
+						G.RAT.subtract().call(a, b, c);
+						check(xn.multiply(yd).subtract(yn.multiply(xd)), xd.multiply(yd), c);
+						G.RAT.multiply().call(a, b, c);
+						check(xn.multiply(yn), xd.multiply(yd), c);
+						if (bn != 0) {
+							G.RAT.divide().call(a, b, c);
+							check(xn.multiply(yd), xd.multiply(yn), c);
+						}
+						assertEquals(xn.multiply(yd).compareTo(yn.multiply(xd)),
+								(int) G.RAT.compare().call(a, b));
+					}
+				}
+			}
+		}
+	}
+
+	private void check(BigInteger n, BigInteger d, RationalMember value) {
+		RationalMember expected = new RationalMember(n, d);
+		assertEquals(expected.n(), value.n());
+		assertEquals(expected.d(), value.d());
+		assertTrue(G.RAT.isEqual().call(expected, value));
+		assertEquals(expected.hashCode(), value.hashCode());
+	}
 }
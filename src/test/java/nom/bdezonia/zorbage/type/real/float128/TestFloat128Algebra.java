@@ -397,8 +397,8 @@ public class TestFloat128Algebra {
 		
 		// G.QUAD.random();
 		G.QUAD.random().call(a);
-		assertTrue(a.num.compareTo(BigDecimal.ZERO) >= 0);
-		assertTrue(a.num.compareTo(BigDecimal.ONE) < 0);
+		assertTrue(a.num().compareTo(BigDecimal.ZERO) >= 0);
+		assertTrue(a.num().compareTo(BigDecimal.ONE) < 0);
 		
 		// G.QUAD.real();
 		a = new Float128Member(BigDecimal.valueOf(0.1));
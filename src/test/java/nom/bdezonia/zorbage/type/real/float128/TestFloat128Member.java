@@ -33,6 +33,8 @@ package nom.bdezonia.zorbage.type.real.float128;
 import static org.junit.Assert.*;
 
 import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Random;
 
 import org.junit.Test;
 
@@ -558,4 +560,172 @@ public class TestFloat128Member {
 			assertEquals(arr1[k], arr2[k]);
 		}
 	}
+	
+	@Test
+	public void testRoundedArithmetic() {
+		
+		Float128Member one = new Float128Member(1L);
+		Float128Member three = new Float128Member(3L);
+		Float128Member c = G.QUAD.construct();
+		
+		G.QUAD.divide().call(one, three, c);
+		assertEquals(0x3ffd555555555555L, c.hi);
+		assertEquals(0x5555555555555555L, c.lo);
+		
+		Float128Member a = new Float128Member(0.1);
+		assertEquals(0x3ffb999999999999L, a.hi);
+		assertEquals(0x999999999999999aL, a.lo);
+		assertEquals(0, new BigDecimal("0.1").compareTo(a.v()));
+		
+		Float128Member b = new Float128Member(0.2);
+		G.QUAD.add().call(a, b, c);
+		assertEquals(0x3ffd333333333333L, c.hi);
+		assertEquals(0x3333333333333334L, c.lo);
+		
+		G.QUAD.subtract().call(c, c, a);
+		assertTrue(a.isPosZero());
+		
+		a.setV(new BigDecimal("0.3"));
+		assertEquals(0x3ffd333333333333L, a.hi);
+		assertEquals(0x3333333333333333L, a.lo);
+		assertFalse(G.QUAD.isEqual().call(a, c));
+	}
+	
+	@Test
+	public void testSubnormalRounding() {
+		
+		Float128Member min = new Float128Member();
+		min.setV(Float128Member.MIN_SUBNORMAL);
+		assertEquals(0L, min.hi);
+		assertEquals(1L, min.lo);
+		
+		Float128Member c = G.QUAD.construct();
+		
+		// ties go to even
+		
+		G.QUAD.divide().call(min, new Float128Member(2L), c);
+		assertTrue(c.isPosZero());
+		G.QUAD.multiply().call(min, new Float128Member(1.5), c);
+		assertEquals(2L, c.lo);
+		
+		G.QUAD.pred().call(min, c);
+		assertTrue(c.isPosZero());
+		
+		G.QUAD.maxBound().call(c);
+		G.QUAD.succ().call(c, c);
+		assertTrue(c.isPosInf());
+	}
+	
+	@Test
+	public void testLongStorage() {
+		
+		IndexedDataSource<Float128Member> list = Storage.allocate(G.QUAD.construct(), 3);
+		
+		Float128Member value = G.QUAD.construct();
+		G.QUAD.PI().call(value);
+		list.set(0, value);
+		value.setNegZero();
+		list.set(1, value);
+		value.setNan();
+		list.set(2, value);
+		
+		Float128Member pi = G.QUAD.construct();
+		G.QUAD.PI().call(pi);
+		list.get(0, value);
+		assertEquals(pi.hi, value.hi);
+		assertEquals(pi.lo, value.lo);
+		list.get(1, value);
+		assertTrue(value.isNegZero());
+		list.get(2, value);
+		assertTrue(value.isNan());
+	}
+	
+	@Test
+	public void testBitLevelOperations() {
+		
+		Float128Member a = G.QUAD.construct();
+		Float128Member b = G.QUAD.construct();
+		Float128Member c = G.QUAD.construct();
+		Float128Member d = G.QUAD.construct();
+		
+		G.QUAD.unity().call(a);
+		assertTrue(G.QUAD.isUnity().call(a));
+		G.QUAD.succ().call(a, b);
+		assertFalse(G.QUAD.isUnity().call(b));
+		G.QUAD.negate().call(a, b);
+		assertFalse(G.QUAD.isUnity().call(b));
+		
+		// copySign keeps nans and signed zeros
+		
+		a.setV(BigDecimal.valueOf(14));
+		b.setNegZero();
+		G.QUAD.copySign().call(a, b, c);
+		assertEquals(BigDecimal.valueOf(-14), c.v().stripTrailingZeros());
+		b.setNan();
+		G.QUAD.copySign().call(c, b, d);
+		assertEquals(BigDecimal.valueOf(14), d.v().stripTrailingZeros());
+		a.setPosZero();
+		b.setNegInf();
+		G.QUAD.copySign().call(a, b, c);
+		assertTrue(c.isNegZero());
+		
+		// scalb into the subnormals, back out again, and past the top
+		
+		a.setV(BigDecimal.valueOf(3));
+		G.QUAD.scalb().call(-16495, a, b);
+		assertEquals(0, b.hi);
+		assertEquals(2, b.lo);  // 1.5 smallest subnormals rounds to even
+		G.QUAD.scalb().call(-16400, a, b);
+		G.QUAD.scalb().call(16400, b, c);
+		assertEquals(a.hi, c.hi);
+		assertEquals(a.lo, c.lo);
+		G.QUAD.scalb().call(16383, a, b);
+		assertTrue(b.isPosInf());
+		G.QUAD.scalb().call(Integer.MIN_VALUE, a, b);
+		assertTrue(b.isPosZero());
+		
+		// random values are in [0, 1)
+		
+		for (int i = 0; i < 100; i++) {
+			G.QUAD.random().call(a);
+			assertTrue(a.hi >= 0);
+			assertTrue(a.hi < Binary128.ONE_HI);
+		}
+		
+		// pow looks at the parity of its exponent
+		
+		a.setNegZero();
+		b.setV(BigDecimal.valueOf(3));
+		G.QUAD.pow().call(a, b, c);
+		assertTrue(c.isNegZero());
+		a.setV(BigDecimal.valueOf(-8));
+		b.setV(BigDecimal.valueOf(0.5));
+		G.QUAD.pow().call(a, b, c);
+		assertTrue(c.isNan());
+	}
+	
+	@Test
+	public void testExactDivMod() {
+		
+		Float128Member a = G.QUAD.construct();
+		Float128Member b = G.QUAD.construct();
+		Float128Member d = G.QUAD.construct();
+		Float128Member m = G.QUAD.construct();
+		Float128Member expected = G.QUAD.construct();
+		
+		Random rng = new Random(1234);
+		for (int i = 0; i < 500; i++) {
+			a.setV(BigDecimal.valueOf(rng.nextGaussian()).scaleByPowerOfTen(rng.nextInt(60) - 30));
+			b.setV(BigDecimal.valueOf(rng.nextGaussian()).scaleByPowerOfTen(rng.nextInt(30) - 15));
+			G.QUAD.divMod().call(a, b, d, m);
+			BigDecimal x = Binary128.toBigDecimal(a.hi, a.lo, MathContext.UNLIMITED);
+			BigDecimal y = Binary128.toBigDecimal(b.hi, b.lo, MathContext.UNLIMITED);
+			BigDecimal q = x.divideToIntegralValue(y);
+			BigDecimal r = x.subtract(q.multiply(y));
+			expected.setV(q);
+			assertEquals(expected.hi & ~Binary128.SIGN, d.hi & ~Binary128.SIGN);
+			assertEquals(expected.lo, d.lo);
+			assertEquals(0, r.compareTo(Binary128.toBigDecimal(m.hi, m.lo, MathContext.UNLIMITED)));
+		}
+	}
 }
@@ -30,12 +30,14 @@
  */
 package nom.bdezonia.zorbage.type.real.highprec;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.math.BigDecimal;
 
 import org.junit.Test; import nom.bdezonia.zorbage.algebra.G;
+import nom.bdezonia.zorbage.type.complex.highprec.ComplexHighPrecisionMember;
 
 /**
  * 
@@ -77,4 +79,52 @@ public class TestHighPrecision {
 		assertTrue(true);
 		HighPrecisionAlgebra.setPrecision(origPrec);
 	}
+
+	@Test
+	public void threadPrecision() throws InterruptedException {
+		int origPrec = HighPrecisionAlgebra.getPrecision();
+		HighPrecisionMember third = G.HP.construct();
+		HighPrecisionMember three = G.HP.construct("3");
+		HighPrecisionAlgebra.withPrecision(8, new Runnable() {
+			@Override
+			public void run() {
+				assertEquals(8, HighPrecisionAlgebra.getPrecision());
+				G.HP.invert().call(three, third);
+				ComplexHighPrecisionMember c = G.CHP.construct("{1,1}");
+				G.CHP.divide().call(c, new ComplexHighPrecisionMember(BigDecimal.valueOf(3), BigDecimal.ZERO), c);
+				assertEquals(new BigDecimal("0.33333333"), c.r());
+			}
+		});
+		assertEquals(new BigDecimal("0.33333333"), third.v());
+		assertEquals(origPrec, HighPrecisionAlgebra.getPrecision());
+		
+		// two threads computing side by side with their own precisions
+		
+		final int[] precisions = new int[] {5, 30};
+		final BigDecimal[] results = new BigDecimal[precisions.length];
+		Thread[] threads = new Thread[precisions.length];
+		for (int i = 0; i < threads.length; i++) {
+			final int t = i;
+			threads[i] = new Thread() {
+				@Override
+				public void run() {
+					HighPrecisionAlgebra.setThreadPrecision(precisions[t]);
+					HighPrecisionMember a = G.HP.construct();
+					for (int j = 0; j < 100; j++) {
+						G.HP.invert().call(three, a);
+					}
+					results[t] = a.v();
+					HighPrecisionAlgebra.clearThreadPrecision();
+				}
+			};
+			threads[i].start();
+		}
+		for (int i = 0; i < threads.length; i++) {
+			threads[i].join();
+		}
+		for (int i = 0; i < precisions.length; i++) {
+			assertEquals(precisions[i], results[i].precision());
+		}
+		assertEquals(origPrec, HighPrecisionAlgebra.getPrecision());
+	}
 }
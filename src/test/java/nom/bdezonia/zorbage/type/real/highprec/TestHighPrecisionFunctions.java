@@ -0,0 +1,140 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.type.real.highprec;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import org.junit.Test;
+
+import ch.obermuhlner.math.big.BigDecimalMath;
+import nom.bdezonia.zorbage.algebra.G;
+
+/**
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class TestHighPrecisionFunctions {
+
+	private static final MathContext CONTEXT = new MathContext(40);
+	
+	private static final MathContext REFERENCE = new MathContext(60);
+	
+	private static final String[] ARGS = new String[] {
+			"0.5", "-0.75", "1", "1.5707963267948966", "3.14159", "-4.5", "7",
+			"12.25", "-100.5", "1234.5678", "0.000001", "1e-20"
+	};
+	
+	@Test
+	public void constantsAreCached() {
+		
+		HighPrecisionConstants a = HighPrecisionConstants.get(50);
+		HighPrecisionConstants b = HighPrecisionConstants.get(60);
+		assertSame(a, HighPrecisionConstants.get(50));
+		assertSame(b, HighPrecisionConstants.get(60));
+		assertEquals(0, new BigDecimal(HighPrecisionAlgebra.PI_STR.substring(0, 52)).compareTo(a.pi()));
+		assertTrue(isNear(a.ln2(), BigDecimalMath.log(BigDecimal.valueOf(2), REFERENCE), 49));
+		assertTrue(isNear(a.halfPi().multiply(BigDecimal.valueOf(4)), a.twoPi(), 48));
+	}
+	
+	@Test
+	public void argumentsOfAnySizeShareOneConstantsSet() {
+		
+		HighPrecisionConstants constants = HighPrecisionConstants.get(CONTEXT.getPrecision());
+		BigDecimal[] sinCos = new BigDecimal[2];
+		for (String arg : new String[] {"0.5", "1e9", "-123456.789", "3.1415926535897932384626433832795"}) {
+			BigDecimal x = new BigDecimal(arg);
+			HighPrecisionFunctions.sinAndCos(x, CONTEXT, sinCos);
+			// near pi the reference needs extra digits of its own
+			assertTrue(arg, isNear(BigDecimalMath.sin(x, new MathContext(120)), sinCos[0], 38));
+			assertTrue(arg, isNear(BigDecimalMath.exp(x.remainder(BigDecimal.valueOf(1000)), REFERENCE),
+					HighPrecisionFunctions.exp(x.remainder(BigDecimal.valueOf(1000)), CONTEXT), 38));
+			assertSame(constants, HighPrecisionConstants.get(CONTEXT.getPrecision()));
+		}
+	}
+	
+	@Test
+	public void trigMatchesReference() {
+		
+		BigDecimal[] sinCos = new BigDecimal[2];
+		for (String arg : ARGS) {
+			BigDecimal x = new BigDecimal(arg);
+			HighPrecisionFunctions.sinAndCos(x, CONTEXT, sinCos);
+			assertTrue(arg, isNear(BigDecimalMath.sin(x, REFERENCE), sinCos[0], 38));
+			assertTrue(arg, isNear(BigDecimalMath.cos(x, REFERENCE), sinCos[1], 38));
+			assertTrue(arg, isNear(BigDecimalMath.tan(x, REFERENCE), HighPrecisionFunctions.tan(x, CONTEXT), 37));
+		}
+	}
+	
+	@Test
+	public void expAndLogMatchReference() {
+		
+		for (String arg : ARGS) {
+			BigDecimal x = new BigDecimal(arg);
+			assertTrue(arg, isNear(BigDecimalMath.exp(x, REFERENCE), HighPrecisionFunctions.exp(x, CONTEXT), 38));
+			BigDecimal y = x.abs();
+			assertTrue(arg, isNear(BigDecimalMath.log(y, REFERENCE), HighPrecisionFunctions.log(y, CONTEXT), 38));
+		}
+	}
+	
+	@Test
+	public void algebraUsesCurrentPrecision() {
+		
+		int old = HighPrecisionAlgebra.getPrecision();
+		try {
+			HighPrecisionAlgebra.setPrecision(30);
+			HighPrecisionMember a = G.HP.construct("2");
+			HighPrecisionMember b = G.HP.construct();
+			G.HP.log().call(a, b);
+			assertTrue(isNear(BigDecimalMath.log(BigDecimal.valueOf(2), REFERENCE), b.v(), 29));
+			G.HP.exp().call(b, a);
+			assertTrue(isNear(BigDecimal.valueOf(2), a.v(), 29));
+			G.HP.PI().call(a);
+			assertEquals(0, new BigDecimal(HighPrecisionAlgebra.PI_STR.substring(0, 32)).compareTo(a.v()));
+		}
+		finally {
+			HighPrecisionAlgebra.setPrecision(old);
+		}
+	}
+	
+	// are a and b the same to the given number of significant digits
+	
+	private static boolean isNear(BigDecimal a, BigDecimal b, int digits) {
+		BigDecimal diff = a.subtract(b).abs();
+		BigDecimal scale = a.abs().max(BigDecimal.ONE.movePointLeft(digits));
+		return diff.compareTo(scale.movePointLeft(digits)) <= 0;
+	}
+}
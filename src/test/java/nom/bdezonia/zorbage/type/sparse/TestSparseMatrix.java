@@ -0,0 +1,246 @@
+/*
+ * Zorbage: an algebraic data hierarchy for use in numeric processing.
+ *
+ * Copyright (c) 2016-2026 Barry DeZonia All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without modification,
+ * are permitted provided that the following conditions are met:
+ * 
+ * Redistributions of source code must retain the above copyright notice, this list
+ * of conditions and the following disclaimer.
+ * 
+ * Redistributions in binary form must reproduce the above copyright notice, this
+ * list of conditions and the following disclaimer in the documentation and/or other
+ * materials provided with the distribution.
+ * 
+ * Neither the name of the <copyright holder> nor the names of its contributors may
+ * be used to endorse or promote products derived from this software without specific
+ * prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED.
+ * IN NO EVENT SHALL <COPYRIGHT HOLDER> BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO,
+ * PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR
+ * BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN
+ * ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH
+ * DAMAGE.
+ */
+package nom.bdezonia.zorbage.type.sparse;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+import nom.bdezonia.zorbage.algebra.G;
+import nom.bdezonia.zorbage.storage.Storage;
+import nom.bdezonia.zorbage.type.complex.float64.ComplexFloat64Algebra;
+import nom.bdezonia.zorbage.type.complex.float64.ComplexFloat64Member;
+import nom.bdezonia.zorbage.type.complex.float64.ComplexFloat64VectorMember;
+import nom.bdezonia.zorbage.type.real.float32.Float32Algebra;
+import nom.bdezonia.zorbage.type.real.float32.Float32Member;
+import nom.bdezonia.zorbage.type.real.float32.Float32VectorMember;
+import nom.bdezonia.zorbage.type.real.float64.Float64Algebra;
+import nom.bdezonia.zorbage.type.real.float64.Float64MatrixMember;
+import nom.bdezonia.zorbage.type.real.float64.Float64Member;
+import nom.bdezonia.zorbage.type.real.float64.Float64VectorMember;
+
+/**
+ * 
+ * @author Barry DeZonia
+ *
+ */
+public class TestSparseMatrix {
+
+	@Test
+	public void testBuild() {
+		
+		SparseMatrixBuilder<Float64Algebra,Float64Member> builder =
+				new SparseMatrixBuilder<>(G.DBL, 3, 4);
+		builder.add(2, 1, new Float64Member(5));
+		builder.add(0, 3, new Float64Member(1));
+		builder.add(0, 0, new Float64Member(2));
+		builder.add(2, 1, new Float64Member(-1));
+		builder.add(1, 2, new Float64Member(7));
+		
+		CsrMatrix<Float64Algebra,Float64Member> csr = builder.buildCsr();
+		CscMatrix<Float64Algebra,Float64Member> csc = builder.buildCsc();
+		
+		assertEquals(3, csr.rows());
+		assertEquals(4, csr.cols());
+		assertEquals(4, csr.numNonZeros());
+		assertEquals(3, csc.rows());
+		assertEquals(4, csc.cols());
+		assertEquals(4, csc.numNonZeros());
+		
+		double[] expected = new double[] {2,0,0,1, 0,0,7,0, 0,4,0,0};
+		
+		Float64MatrixMember dense = G.DBL_MAT.construct();
+		Float64Member value = G.DBL.construct();
+		for (int r = 0; r < 3; r++) {
+			for (int c = 0; c < 4; c++) {
+				csr.getV(r, c, value);
+				assertEquals(expected[r*4+c], value.v(), 0);
+				csc.getV(r, c, value);
+				assertEquals(expected[r*4+c], value.v(), 0);
+			}
+		}
+		
+		csr.toDense(dense);
+		assertEquals(3, dense.rows());
+		assertEquals(4, dense.cols());
+		for (int r = 0; r < 3; r++) {
+			for (int c = 0; c < 4; c++) {
+				dense.getV(r, c, value);
+				assertEquals(expected[r*4+c], value.v(), 0);
+			}
+		}
+		
+		CscMatrix<Float64Algebra,Float64Member> t = csr.transpose();
+		assertEquals(4, t.rows());
+		assertEquals(3, t.cols());
+		t.getV(3, 0, value);
+		assertEquals(1, value.v(), 0);
+		
+		CscMatrix<Float64Algebra,Float64Member> converted = csr.toCscMatrix();
+		for (int r = 0; r < 3; r++) {
+			for (int c = 0; c < 4; c++) {
+				converted.getV(r, c, value);
+				assertEquals(expected[r*4+c], value.v(), 0);
+			}
+		}
+	}
+	
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnsortedArrays() {
+		new CsrMatrix<Float64Algebra,Float64Member>(G.DBL, 1, 3, new int[] {0, 2}, new int[] {2, 1},
+				Storage.allocate(G.DBL.construct(), 2));
+	}
+	
+	@Test
+	public void testFloat64Multiply() {
+		
+		// enough nonzeros to use more than one thread when available
+		
+		int rows = 3000;
+		int cols = 2000;
+		Random rng = new Random(17);
+		double[] dense = new double[rows * cols];
+		SparseMatrixBuilder<Float64Algebra,Float64Member> builder =
+				new SparseMatrixBuilder<>(G.DBL, rows, cols);
+		Float64Member value = G.DBL.construct();
+		for (int i = 0; i < 40000; i++) {
+			int r = rng.nextInt(rows);
+			int c = rng.nextInt(cols);
+			double v = rng.nextInt(11) - 5;
+			dense[r*cols+c] += v;
+			value.setV(v);
+			builder.add(r, c, value);
+		}
+		CsrMatrix<Float64Algebra,Float64Member> csr = builder.buildCsr();
+		CscMatrix<Float64Algebra,Float64Member> csc = builder.buildCsc();
+
+		double[] xs = new double[cols];
+		for (int c = 0; c < cols; c++) {
+			xs[c] = rng.nextInt(7) - 3;
+		}
+		double[] ws = new double[rows];
+		for (int r = 0; r < rows; r++) {
+			ws[r] = rng.nextInt(7) - 3;
+		}
+		
+		Float64VectorMember x = new Float64VectorMember(xs);
+		Float64VectorMember w = new Float64VectorMember(ws);
+		Float64VectorMember y1 = G.DBL_VEC.construct();
+		Float64VectorMember y2 = G.DBL_VEC.construct();
+		csr.multiply(x, y1);
+		csc.multiply(x, y2);
+		assertEquals(rows, y1.length());
+		assertEquals(rows, y2.length());
+		for (int r = 0; r < rows; r++) {
+			double sum = 0;
+			for (int c = 0; c < cols; c++) {
+				sum += dense[r*cols+c] * xs[c];
+			}
+			y1.getV(r, value);
+			assertEquals(sum, value.v(), 0);
+			y2.getV(r, value);
+			assertEquals(sum, value.v(), 0);
+		}
+		
+		csr.multiplyTranspose(w, y1);
+		csc.multiplyTranspose(w, y2);
+		assertEquals(cols, y1.length());
+		assertEquals(cols, y2.length());
+		for (int c = 0; c < cols; c++) {
+			double sum = 0;
+			for (int r = 0; r < rows; r++) {
+				sum += dense[r*cols+c] * ws[r];
+			}
+			y1.getV(c, value);
+			assertEquals(sum, value.v(), 0);
+			y2.getV(c, value);
+			assertEquals(sum, value.v(), 0);
+		}
+	}
+	
+	@Test
+	public void testComplexFloat64Multiply() {
+		
+		SparseMatrixBuilder<ComplexFloat64Algebra,ComplexFloat64Member> builder =
+				new SparseMatrixBuilder<>(G.CDBL, 2, 3);
+		builder.add(0, 0, new ComplexFloat64Member(1, 2));
+		builder.add(0, 2, new ComplexFloat64Member(0, -1));
+		builder.add(1, 1, new ComplexFloat64Member(3, 0));
+		
+		ComplexFloat64VectorMember x = new ComplexFloat64VectorMember(1,1, 2,0, 0,4);
+		ComplexFloat64VectorMember y = G.CDBL_VEC.construct();
+		builder.buildCsr().multiply(x, y);
+		
+		// (1+2i)(1+i) + (-i)(4i) = (-1+3i) + 4
+		
+		ComplexFloat64Member value = G.CDBL.construct();
+		assertEquals(2, y.length());
+		y.getV(0, value);
+		assertEquals(3, value.r(), 0);
+		assertEquals(3, value.i(), 0);
+		y.getV(1, value);
+		assertEquals(6, value.r(), 0);
+		assertEquals(0, value.i(), 0);
+
+		builder.buildCsc().multiply(x, y);
+		y.getV(0, value);
+		assertEquals(3, value.r(), 0);
+		assertEquals(3, value.i(), 0);
+	}
+	
+	@Test
+	public void testOtherTypes() {
+		
+		SparseMatrixBuilder<Float32Algebra,Float32Member> builder =
+				new SparseMatrixBuilder<>(G.FLT, 2, 2);
+		builder.add(0, 1, new Float32Member(2));
+		builder.add(1, 0, new Float32Member(3));
+		builder.add(1, 1, new Float32Member(-1));
+		
+		Float32VectorMember x = new Float32VectorMember(5, 7);
+		Float32VectorMember y = G.FLT_VEC.construct();
+		Float32Member value = G.FLT.construct();
+		
+		builder.buildCsr().multiply(x, y);
+		y.getV(0, value);
+		assertEquals(14, value.v(), 0);
+		y.getV(1, value);
+		assertEquals(8, value.v(), 0);
+		
+		builder.buildCsc().multiplyTranspose(x, y);
+		y.getV(0, value);
+		assertEquals(21, value.v(), 0);
+		y.getV(1, value);
+		assertEquals(3, value.v(), 0);
+	}
+}